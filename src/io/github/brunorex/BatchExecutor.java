@@ -0,0 +1,851 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package io.github.brunorex;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Runs a batch of mkvpropedit jobs on a bounded pool of worker threads.
+ * Job output is buffered and handed to the listener in the original
+ * file order, no matter in which order the jobs finish.
+ *
+ * mkvpropedit spends most of its time seeking, so jobs are grouped by the
+ * file store (mount point or drive) their file is on, and only a few jobs
+ * run at once on each of them. Jobs on different drives run in parallel,
+ * up to the total number of workers. By default the limit of each file
+ * store is found while the batch runs (see ConcurrencyController). Jobs
+ * that EditCost expects to be heavy run one at a time on each of them.
+ *
+ * A job that runs longer than the timeout, e.g. because mkvpropedit or a
+ * direct edit hangs on a stale network share, is stopped and fails, so it
+ * doesn't hold up the batch. Cancelling the batch stops every running
+ * mkvpropedit and direct edit.
+ *
+ * Jobs that fail with an error that looks transient, like a file locked by
+ * another process or a dropped network share, are retried a few times,
+ * waiting twice as long before each new attempt.
+ *
+ * Optionally, the header of each edited file is read again by the same
+ * worker, and the job fails if the changes are missing.
+ *
+ */
+
+public class BatchExecutor {
+
+    /* mkvpropedit exit codes */
+    public static final int EXIT_OK = 0;
+    public static final int EXIT_WARNINGS = 1;
+    public static final int EXIT_ERROR = 2;
+
+    public static final int DEFAULT_RETRIES = 2;
+    public static final int DEFAULT_RETRY_DELAY = 5; // s
+    public static final int DEFAULT_JOBS_PER_DEVICE = 2;
+    public static final boolean DEFAULT_ADAPTIVE = true;
+    public static final int DEFAULT_TIMEOUT = 600; // s
+
+    private static final long KILL_WAIT = 5000; // ms
+
+    /* Heavy jobs run one at a time on each file store */
+    private static final int HEAVY_JOBS_PER_DEVICE = 1;
+
+    private static final int MAX_MESSAGE_LENGTH = 200;
+    private static final int THROUGHPUT_WINDOW = 20; // jobs
+
+    /* Lowercase fragments of error messages worth retrying: files locked by
+     * another process and dropped network shares */
+    private static final String[] TRANSIENT_ERRORS = {
+        "could not be opened for reading and writing",
+        "being used by another process",
+        "resource temporarily unavailable",
+        "input/output error",
+        "network name is no longer available",
+    };
+
+    /* Result of checking the file after the job */
+    public enum Verification {
+        NOT_CHECKED, PASSED, FAILED, UNCHECKABLE
+    }
+
+    public interface Listener {
+        void jobFinished(Job job);
+    }
+
+    public static class Job {
+        private final int index;
+        private final MkvCommand command;
+        private final StringBuffer output = new StringBuffer();
+        private volatile int exitCode = -1;
+        private volatile long duration = 0;
+        private volatile int attempts = 0;
+        private volatile int attemptStart = 0;
+        private volatile boolean timedOut = false;
+        private volatile boolean done = false;
+        private volatile Verification verification = Verification.NOT_CHECKED;
+        private EditCost cost = null;
+        private Object device = null;
+
+        public Job(int index, MkvCommand command) {
+            this.index = index;
+            this.command = command;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public String getFile() {
+            return command.getFile();
+        }
+
+        public MkvCommand getCommand() {
+            return command;
+        }
+
+        public String getOutput() {
+            return output.toString();
+        }
+
+        public int getExitCode() {
+            return exitCode;
+        }
+
+        /**
+         * Returns how long mkvpropedit ran, in ms.
+         */
+        public long getDuration() {
+            return duration;
+        }
+
+        public int getAttempts() {
+            return attempts;
+        }
+
+        public Verification getVerification() {
+            return verification;
+        }
+
+        /**
+         * Returns the estimated cost of the job, or null if it wasn't
+         * estimated.
+         */
+        public EditCost getCost() {
+            return cost;
+        }
+
+        public void setCost(EditCost cost) {
+            this.cost = cost;
+        }
+
+        public boolean isHeavy() {
+            return cost != null && cost.isHeavy();
+        }
+
+        /**
+         * Returns true if mkvpropedit was stopped because it ran longer than
+         * the timeout.
+         */
+        public boolean isTimedOut() {
+            return timedOut;
+        }
+
+        /**
+         * Returns the last error line of the output, or the last warning line
+         * if there are no errors. If the job failed without an error line,
+         * the last line of its output is returned instead.
+         */
+        public String getMessage() {
+            if (timedOut) {
+                return "Timed out";
+            }
+
+            String[] lines = getOutput().split("\\r?\\n");
+            String warning = null;
+            String last = null;
+
+            for (int i = lines.length - 1; i >= 0; i--) {
+                String line = lines[i].trim();
+
+                if (line.startsWith("Error:")) {
+                    return shorten(line);
+                } else if (warning == null && line.startsWith("Warning:")) {
+                    warning = line;
+                } else if (last == null && !line.isEmpty()) {
+                    last = line;
+                }
+            }
+
+            if (warning != null) {
+                return shorten(warning);
+            } else if (exitCode == EXIT_ERROR && last != null) {
+                return shorten(last);
+            }
+
+            return "";
+        }
+
+        private static String shorten(String line) {
+            if (line.length() > MAX_MESSAGE_LENGTH) {
+                return line.substring(0, MAX_MESSAGE_LENGTH - 3) + "...";
+            }
+
+            return line;
+        }
+    }
+
+    private final String exe;
+    private final List<Job> jobs;
+    private final int workers;
+    private final OptionFilePool optionFiles;
+    private final Listener listener;
+    private BatchJournal journal = null;
+    private int retries = 0;
+    private long retryDelay = DEFAULT_RETRY_DELAY * 1000L;
+    private int jobsPerDevice = DEFAULT_JOBS_PER_DEVICE;
+    private boolean adaptive = DEFAULT_ADAPTIVE;
+    private long timeout = DEFAULT_TIMEOUT * 1000L;
+    private boolean nativeEdits = false;
+    private boolean verify = false;
+
+    private final Set<Process> running = ConcurrentHashMap.<Process> newKeySet();
+    private final Map<Object, ArrayDeque<Job>> queues = new LinkedHashMap<Object, ArrayDeque<Job>>();
+    private final Map<Object, Integer> busy = new HashMap<Object, Integer>();
+    private final Map<Object, Integer> heavyBusy = new HashMap<Object, Integer>();
+    private final Map<Object, ConcurrencyController> controllers = new HashMap<Object, ConcurrencyController>();
+    private final ArrayDeque<Long> finishTimes = new ArrayDeque<Long>();
+    private long totalDuration = 0;
+    private int finished = 0;
+    private ExecutorService pool = null;
+    private volatile boolean cancelled = false;
+    private int nextReported = 0;
+    private int active = 0;
+    private int pending = 0;
+
+    public BatchExecutor(String exe, List<Job> jobs, int workers, OptionFilePool optionFiles, Listener listener) {
+        this.exe = exe;
+        this.jobs = new ArrayList<Job>(jobs);
+        this.workers = Math.max(1, workers);
+        this.optionFiles = optionFiles;
+        this.listener = listener;
+    }
+
+    public String getExecutable() {
+        return exe;
+    }
+
+    /**
+     * Records every finished job in the journal as soon as it finishes.
+     */
+    public void setJournal(BatchJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Sets how many times a job that failed with a transient error is run
+     * again, and how long to wait before the first retry, in ms. The wait
+     * doubles with each retry.
+     */
+    public void setRetries(int retries, long retryDelay) {
+        this.retries = Math.max(0, retries);
+        this.retryDelay = Math.max(0, retryDelay);
+    }
+
+    /**
+     * Sets how many jobs may run at once on files of the same file store,
+     * unless the limit is adaptive.
+     */
+    public void setJobsPerDevice(int jobsPerDevice) {
+        this.jobsPerDevice = Math.max(1, jobsPerDevice);
+    }
+
+    /**
+     * If true, the number of jobs run at once on each file store is adjusted
+     * while the batch runs, up to the total number of workers.
+     */
+    public void setAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+    }
+
+    /**
+     * Sets how long a job may run before mkvpropedit is stopped, in ms, or 0
+     * to wait as long as it takes.
+     */
+    public void setTimeout(long timeout) {
+        this.timeout = Math.max(0, timeout);
+    }
+
+    /**
+     * If true, jobs that only change the title or the flags, names and
+     * languages of tracks are done by MatroskaEditor when the changes fit in
+     * the file, without starting mkvpropedit.
+     */
+    public void setNativeEdits(boolean nativeEdits) {
+        this.nativeEdits = nativeEdits;
+    }
+
+    /**
+     * If true, the header of each file is read again after a successful
+     * job, and the job fails if the changes are not there.
+     */
+    public void setVerify(boolean verify) {
+        this.verify = verify;
+    }
+
+    public static int getDefaultWorkers() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Runs all jobs and blocks until they are finished or the batch is
+     * cancelled.
+     *
+     * @return the highest exit code returned by any job, or EXIT_ERROR if the
+     *         batch was cancelled before every job could run.
+     */
+    public int run() throws InterruptedException {
+        synchronized (this) {
+            if (cancelled) {
+                return EXIT_ERROR;
+            }
+
+            pool = Executors.newFixedThreadPool(Math.min(workers, Math.max(1, jobs.size())));
+        }
+
+        Map<Path, Object> devices = new HashMap<Path, Object>();
+
+        for (Job job : jobs) {
+            job.device = getDevice(job.getFile(), devices);
+        }
+
+        try {
+            synchronized (this) {
+                for (Job job : jobs) {
+                    ArrayDeque<Job> queue = queues.get(job.device);
+
+                    if (queue == null) {
+                        queue = new ArrayDeque<Job>();
+                        queues.put(job.device, queue);
+                        busy.put(job.device, 0);
+                        heavyBusy.put(job.device, 0);
+                        controllers.put(job.device, new ConcurrencyController(workers));
+                    }
+
+                    queue.add(job);
+                }
+
+                pending = jobs.size();
+                dispatch();
+
+                while (pending > 0 && !cancelled) {
+                    wait();
+                }
+            }
+
+            pool.shutdown();
+
+            while (!pool.awaitTermination(1, TimeUnit.SECONDS)) {
+            }
+        } catch (InterruptedException e) {
+            cancel();
+            throw e;
+        }
+
+        return getExitStatus();
+    }
+
+    public synchronized void cancel() {
+        cancelled = true;
+        notifyAll();
+
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+
+        // The worker threads are interrupted too, they make sure the
+        // processes are gone
+        for (Process p : running) {
+            p.destroyForcibly();
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public int getExitStatus() {
+        int status = EXIT_OK;
+
+        for (Job job : jobs) {
+            if (!job.done) {
+                return EXIT_ERROR;
+            }
+
+            status = Math.max(status, job.exitCode);
+        }
+
+        return status;
+    }
+
+    public int countJobs(int exitCode) {
+        int count = 0;
+
+        for (Job job : jobs) {
+            if (job.done && job.exitCode == exitCode) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    public int countJobs(Verification verification) {
+        int count = 0;
+
+        for (Job job : jobs) {
+            if (job.done && job.verification == verification) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the commands of the jobs that finished with errors, in their
+     * original order.
+     */
+    public List<MkvCommand> getFailedCommands() {
+        List<MkvCommand> failed = new ArrayList<MkvCommand>();
+
+        for (Job job : jobs) {
+            if (job.done && job.exitCode == EXIT_ERROR) {
+                failed.add(job.command);
+            }
+        }
+
+        return failed;
+    }
+
+    public synchronized int getRunningJobs() {
+        return active;
+    }
+
+    /**
+     * Returns how many jobs may run at once right now, given the limits of
+     * the file stores that still have jobs to run.
+     */
+    public synchronized int getConcurrencyLimit() {
+        int limit = 0;
+
+        for (Object device : queues.keySet()) {
+            if (!queues.get(device).isEmpty() || busy.get(device) > 0) {
+                limit += getLimit(device);
+            }
+        }
+
+        return Math.min(workers, limit);
+    }
+
+    /**
+     * Returns the number of files finished per second, over the last few
+     * jobs.
+     */
+    public synchronized double getThroughput() {
+        if (finishTimes.size() < 2) {
+            return 0;
+        }
+
+        long span = finishTimes.peekLast() - finishTimes.peekFirst();
+
+        return span > 0 ? (finishTimes.size() - 1) * 1e9 / span : 0;
+    }
+
+    /**
+     * Returns the average time a job took, in ms.
+     */
+    public synchronized long getAverageDuration() {
+        return finished == 0 ? 0 : totalDuration / finished;
+    }
+
+    /**
+     * Checks if the last attempt of the job failed with an error that may go
+     * away by itself. Timeouts are not retried.
+     */
+    public static boolean isTransientError(Job job) {
+        if (job.exitCode != EXIT_ERROR || job.timedOut) {
+            return false;
+        }
+
+        String output = job.output.substring(job.attemptStart).toLowerCase(Locale.ROOT);
+
+        for (String error : TRANSIENT_ERRORS) {
+            if (output.contains(error)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Starts queued jobs while there are free workers, taking the first job
+     * in file order among the file stores that are below their limit.
+     */
+    private synchronized void dispatch() {
+        while (active < workers && !cancelled) {
+            Job next = null;
+
+            for (Map.Entry<Object, ArrayDeque<Job>> entry : queues.entrySet()) {
+                Job head = entry.getValue().peek();
+
+                if (head != null && busy.get(entry.getKey()) < getLimit(entry.getKey())
+                        && (!head.isHeavy() || heavyBusy.get(entry.getKey()) < HEAVY_JOBS_PER_DEVICE)
+                        && (next == null || head.index < next.index)) {
+                    next = head;
+                }
+            }
+
+            if (next == null) {
+                return;
+            }
+
+            final Job job = queues.get(next.device).poll();
+
+            busy.put(job.device, busy.get(job.device) + 1);
+
+            if (job.isHeavy()) {
+                heavyBusy.put(job.device, heavyBusy.get(job.device) + 1);
+            }
+
+            active++;
+            controllers.get(job.device).jobStarted(System.nanoTime());
+
+            pool.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        runJob(job);
+                    } finally {
+                        jobEnded(job);
+                    }
+                }
+            });
+        }
+    }
+
+    private synchronized void jobEnded(Job job) {
+        int running = busy.get(job.device);
+
+        if (job.done) {
+            long now = System.nanoTime();
+
+            controllers.get(job.device).jobFinished(job.duration, running >= getLimit(job.device), now);
+
+            finishTimes.add(now);
+
+            if (finishTimes.size() > THROUGHPUT_WINDOW) {
+                finishTimes.poll();
+            }
+
+            totalDuration += job.duration;
+            finished++;
+        }
+
+        busy.put(job.device, running - 1);
+
+        if (job.isHeavy()) {
+            heavyBusy.put(job.device, heavyBusy.get(job.device) - 1);
+        }
+
+        active--;
+        pending--;
+
+        dispatch();
+        notifyAll();
+    }
+
+    private int getLimit(Object device) {
+        return adaptive ? controllers.get(device).getLimit() : jobsPerDevice;
+    }
+
+    /**
+     * Returns the file store of the file, or its root folder if the file
+     * store can't be read. File stores are cached by folder.
+     */
+    private static Object getDevice(String file, Map<Path, Object> devices) {
+        Path path = Paths.get(file).toAbsolutePath();
+        Path dir = path.getParent();
+        Object device = devices.get(dir);
+
+        if (device == null) {
+            try {
+                device = Files.getFileStore(path);
+            } catch (IOException e) {
+                device = path.getRoot();
+            }
+
+            devices.put(dir, device);
+        }
+
+        return device;
+    }
+
+    private void runJob(Job job) {
+        long start = System.nanoTime();
+
+        for (int attempt = 1; ; attempt++) {
+            if (cancelled) {
+                return;
+            }
+
+            if (attempt > 1) {
+                long delay = retryDelay << Math.min(attempt - 2, 10);
+
+                job.output.append("\nTransient error, retrying in " + (delay / 1000.0) + " s (attempt " + attempt
+                        + " of " + (retries + 1) + ")...\n\n");
+
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException e) {
+                    return;
+                }
+
+                if (cancelled) {
+                    return;
+                }
+            }
+
+            job.attempts = attempt;
+            job.attemptStart = job.output.length();
+
+            if (!execute(job) || cancelled) {
+                return;
+            }
+
+            // A timed out mkvpropedit would most likely hang again
+            if (attempt > retries || job.timedOut || !isTransientError(job)) {
+                break;
+            }
+        }
+
+        if (verify && job.exitCode != EXIT_ERROR) {
+            verify(job);
+        }
+
+        job.duration = (System.nanoTime() - start) / 1000000;
+
+        if (journal != null) {
+            try {
+                journal.record(job);
+            } catch (IOException e) {
+                job.output.append("Could not write the batch journal: ").append(e.toString()).append("\n");
+            }
+        }
+
+        job.done = true;
+        reportFinished();
+    }
+
+    /**
+     * Runs the job once, with MatroskaEditor or mkvpropedit.
+     *
+     * @return false if the thread was interrupted.
+     */
+    private boolean execute(Job job) {
+        File optFile = null;
+        Process proc = null;
+
+        if (nativeEdits && MatroskaEditor.canEdit(job.command)) {
+            try {
+                if (MatroskaEditor.edit(new File(job.command.getFile()), job.command, timeout)) {
+                    job.output.append("The changes were written directly to the file.\n");
+                    job.exitCode = EXIT_OK;
+                    job.timedOut = false;
+
+                    return true;
+                }
+
+                job.output.append("The changes don't fit in the file, using mkvpropedit.\n");
+            } catch (InterruptedIOException e) {
+                // mkvpropedit would most likely stall on the same file
+                job.output.append("Timed out after " + (timeout / 1000.0) + " s, the direct edit was stopped.\n");
+                job.timedOut = true;
+                job.exitCode = EXIT_ERROR;
+
+                return true;
+            } catch (ClosedByInterruptException e) {
+                return false;
+            } catch (IOException e) {
+                job.output.append("Could not edit the file directly, using mkvpropedit: ").append(e.toString())
+                        .append("\n");
+            }
+        }
+
+        try {
+            optFile = optionFiles.acquire();
+            writeOptionFile(optFile, job.command);
+
+            ProcessBuilder pb = new ProcessBuilder(exe, "@" + optFile.getAbsolutePath());
+            pb.redirectErrorStream(true);
+
+            proc = pb.start();
+            running.add(proc);
+
+            if (cancelled) {
+                proc.destroyForcibly();
+            }
+
+            StreamGobbler outputGobbler = new StreamGobbler(proc.getInputStream(), job.output);
+            outputGobbler.start();
+
+            if (timeout > 0 && !proc.waitFor(timeout, TimeUnit.MILLISECONDS)) {
+                stop(proc);
+                job.timedOut = true;
+                job.exitCode = EXIT_ERROR;
+            } else {
+                job.exitCode = proc.waitFor();
+                job.timedOut = false;
+            }
+
+            // A process that could not be stopped may keep its output open
+            outputGobbler.join(KILL_WAIT);
+
+            if (job.timedOut) {
+                job.output.append("Timed out after " + (timeout / 1000.0) + " s, mkvpropedit was stopped.\n");
+            }
+        } catch (IOException e) {
+            job.output.append(e.toString()).append("\n");
+            job.exitCode = EXIT_ERROR;
+        } catch (InterruptedException e) {
+            if (proc != null) {
+                stop(proc);
+            }
+
+            return false;
+        } finally {
+            if (proc != null) {
+                running.remove(proc);
+            }
+
+            optionFiles.release(optFile);
+        }
+
+        return true;
+    }
+
+    /**
+     * Reads the header of the file again and checks that the changes of the
+     * job are there. The job fails if they are not. Only the header is read,
+     * so this is quick even on big files.
+     */
+    private static void verify(Job job) {
+        MatroskaInfo info;
+
+        // Not from the metadata cache, the modification time may not have
+        // changed if the file system only stores it in seconds
+        try {
+            info = MatroskaReader.read(new File(job.getFile()));
+        } catch (IOException e) {
+            job.output.append("Warning: Could not read the file to check the changes: ").append(e.getMessage())
+                    .append("\n");
+            job.verification = Verification.UNCHECKABLE;
+            return;
+        }
+
+        List<EditDiff.Change> missing = EditDiff.verify(info, job.command);
+
+        if (missing == null) {
+            job.verification = Verification.UNCHECKABLE;
+        } else if (missing.isEmpty()) {
+            job.output.append("The changes were checked in the file.\n");
+            job.verification = Verification.PASSED;
+        } else {
+            job.output.append("Error: " + missing.size() + " change(s) missing from the file after editing.\n");
+
+            for (EditDiff.Change change : missing) {
+                job.output.append("  ").append(change.toString()).append("\n");
+            }
+
+            job.verification = Verification.FAILED;
+            job.exitCode = EXIT_ERROR;
+        }
+    }
+
+    /**
+     * Asks the process to quit, and kills it if it is still running after
+     * KILL_WAIT. Gives up if even that doesn't work, e.g. if it is stuck in
+     * the kernel waiting for a network share.
+     */
+    private static void stop(Process proc) {
+        proc.destroy();
+
+        try {
+            if (!proc.waitFor(KILL_WAIT, TimeUnit.MILLISECONDS)) {
+                proc.destroyForcibly().waitFor(KILL_WAIT, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            proc.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized void reportFinished() {
+        while (nextReported < jobs.size() && jobs.get(nextReported).done) {
+            listener.jobFinished(jobs.get(nextReported));
+            nextReported++;
+        }
+    }
+
+    private static void writeOptionFile(File optFile, MkvCommand command) throws IOException {
+        Writer out = new OutputStreamWriter(new FileOutputStream(optFile), "UTF-8");
+
+        try {
+            command.writeOptionFile(out);
+        } finally {
+            out.close();
+        }
+    }
+}
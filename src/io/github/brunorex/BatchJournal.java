@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+
+package io.github.brunorex;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * Append-only journal of the jobs finished by a batch.
+ *
+ * Every finished job is written as one line and synced to disk right
+ * away, so an interrupted batch can be resumed without editing the files
+ * that were already done. A line holds the exit code, the duration in ms,
+ * the size and modification time of the file after the edit, a hash of
+ * the command and the file name. A torn last line is ignored. The journal
+ * is locked while it is open, so another instance can't clear it in the
+ * middle of a batch.
+ *
+ */
+
+public class BatchJournal {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /**
+     * Thrown by open() when another instance holds the journal.
+     */
+    public static class LockedException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        public LockedException(File file) {
+            super("The batch journal " + file + " is in use by another instance of JMkvpropedit");
+        }
+    }
+
+    private static class Entry {
+        int exitCode;
+        long size;
+        long lastModified;
+        String hash;
+    }
+
+    private final File file;
+    private final Map<String, Entry> entries = new HashMap<String, Entry>();
+    private FileChannel channel = null;
+
+    public BatchJournal(File file) {
+        this.file = file;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Opens the journal for a batch.
+     *
+     * @param resume if true, the jobs of the previous batch are kept and can
+     *        be skipped with isDone(). Otherwise the journal is cleared.
+     * @throws LockedException if another instance has the journal open.
+     */
+    public synchronized void open(boolean resume) throws IOException {
+        close();
+        entries.clear();
+
+        FileChannel opened = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+
+        try {
+            boolean locked = false;
+
+            // The lock is released when the channel is closed
+            try {
+                locked = opened.tryLock() != null;
+            } catch (OverlappingFileLockException e) {
+            }
+
+            if (!locked) {
+                throw new LockedException(file);
+            }
+
+            if (resume) {
+                load(opened);
+
+                // Finish a line torn by a crash, so the next entry starts on its own line
+                if (opened.size() > 0 && !endsWithNewline(opened)) {
+                    opened.write(ByteBuffer.wrap(new byte[] { '\n' }), opened.size());
+                }
+
+                opened.position(opened.size());
+            } else {
+                opened.truncate(0);
+            }
+
+            channel = opened;
+        } finally {
+            if (channel != opened) {
+                opened.close();
+            }
+        }
+    }
+
+    /**
+     * Checks if the previous batch already ran this command successfully and
+     * the file was not changed since.
+     */
+    public synchronized boolean isDone(MkvCommand command) {
+        Entry entry = entries.get(command.getFile());
+
+        if (entry == null || entry.exitCode < 0 || entry.exitCode > BatchExecutor.EXIT_WARNINGS) {
+            return false;
+        }
+
+        File mkvFile = new File(command.getFile());
+
+        return entry.hash.equals(hash(command)) && entry.size == mkvFile.length()
+                && entry.lastModified == mkvFile.lastModified();
+    }
+
+    /**
+     * Appends a finished job and syncs the journal to disk.
+     */
+    public synchronized void record(BatchExecutor.Job job) throws IOException {
+        if (channel == null) {
+            return;
+        }
+
+        File mkvFile = new File(job.getFile());
+        String line = job.getExitCode() + "\t" + job.getDuration() + "\t" + mkvFile.length() + "\t"
+                + mkvFile.lastModified() + "\t" + hash(job.getCommand()) + "\t" + escape(job.getFile()) + "\n";
+
+        ByteBuffer buf = ByteBuffer.wrap(line.getBytes(UTF_8));
+
+        while (buf.hasRemaining()) {
+            channel.write(buf);
+        }
+
+        channel.force(false);
+    }
+
+    /**
+     * Checks if the journal is open, i.e. the last call to open() succeeded
+     * and close() was not called since.
+     */
+    public synchronized boolean isOpen() {
+        return channel != null;
+    }
+
+    public synchronized void close() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+            }
+        }
+
+        channel = null;
+    }
+
+    /**
+     * Returns the SHA-256 hash of the arguments of a command.
+     */
+    public static String hash(MkvCommand command) {
+        MessageDigest digest;
+
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        for (String arg : command.toArgv()) {
+            digest.update(arg.getBytes(UTF_8));
+            digest.update((byte) 0);
+        }
+
+        StringBuilder sb = new StringBuilder();
+
+        for (byte b : digest.digest()) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+
+        return sb.toString();
+    }
+
+    /*
+     * Locks are mandatory on Windows, so the journal is read through the
+     * channel that holds the lock
+     */
+
+    private void load(FileChannel in) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate((int) in.size());
+
+        while (buf.hasRemaining() && in.read(buf, buf.position()) >= 0) {
+        }
+
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ByteArrayInputStream(buf.array(), 0, buf.position()), UTF_8));
+
+        try {
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t", 6);
+
+                if (fields.length != 6) {
+                    continue;
+                }
+
+                try {
+                    Entry entry = new Entry();
+                    entry.exitCode = Integer.parseInt(fields[0]);
+                    entry.size = Long.parseLong(fields[2]);
+                    entry.lastModified = Long.parseLong(fields[3]);
+                    entry.hash = fields[4];
+
+                    // Later entries for the same file replace earlier ones
+                    entries.put(unescape(fields[5]), entry);
+                } catch (NumberFormatException e) {
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    private boolean endsWithNewline(FileChannel in) throws IOException {
+        ByteBuffer last = ByteBuffer.allocate(1);
+        in.read(last, in.size() - 1);
+
+        return last.get(0) == '\n';
+    }
+
+    /* File names are the last field, only line breaks need escaping */
+
+    private static String escape(String text) {
+        return text.replace("%", "%25").replace("\n", "%0A").replace("\r", "%0D");
+    }
+
+    private static String unescape(String text) {
+        return text.replace("%0D", "\r").replace("%0A", "\n").replace("%25", "%");
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+
+package io.github.brunorex;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.table.AbstractTableModel;
+
+/*
+ * Table model with one row per finished job of a batch: the file, the
+ * outcome, the mkvpropedit exit code, how long it took, how many times it
+ * was run, its estimated cost, whether the changes were found in the file
+ * afterwards and the error or warning it printed.
+ *
+ * Must only be used on the event dispatch thread.
+ *
+ */
+
+public class BatchResultsModel extends AbstractTableModel {
+    private static final long serialVersionUID = 1L;
+
+    private static final String[] COLUMNS = { "File", "Result", "Exit code", "Time", "Attempts", "Estimate",
+            "Checked", "Message" };
+
+    private final List<BatchExecutor.Job> jobs = new ArrayList<BatchExecutor.Job>();
+
+    @Override
+    public int getRowCount() {
+        return jobs.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int col) {
+        return COLUMNS[col];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int col) {
+        switch (col) {
+        case 2:
+        case 4:
+            return Integer.class;
+        default:
+            return String.class;
+        }
+    }
+
+    @Override
+    public Object getValueAt(int row, int col) {
+        BatchExecutor.Job job = jobs.get(row);
+
+        switch (col) {
+        case 0:
+            return job.getFile();
+        case 1:
+            return job.isTimedOut() ? "Timed out" : getResult(job.getExitCode());
+        case 2:
+            return job.getExitCode();
+        case 3:
+            return String.format("%.1f s", job.getDuration() / 1000.0);
+        case 4:
+            return job.getAttempts();
+        case 5:
+            return job.getCost() == null ? "" : job.getCost().toString();
+        case 6:
+            return getVerification(job.getVerification());
+        default:
+            return job.getMessage();
+        }
+    }
+
+    public BatchExecutor.Job getJob(int row) {
+        return jobs.get(row);
+    }
+
+    public void add(BatchExecutor.Job job) {
+        jobs.add(job);
+        fireTableRowsInserted(jobs.size() - 1, jobs.size() - 1);
+    }
+
+    public void clear() {
+        jobs.clear();
+        fireTableDataChanged();
+    }
+
+    private static String getVerification(BatchExecutor.Verification verification) {
+        switch (verification) {
+        case PASSED:
+            return "Yes";
+        case FAILED:
+            return "Changes missing";
+        case UNCHECKABLE:
+            return "Can't check";
+        default:
+            return "";
+        }
+    }
+
+    private static String getResult(int exitCode) {
+        switch (exitCode) {
+        case BatchExecutor.EXIT_OK:
+            return "OK";
+        case BatchExecutor.EXIT_WARNINGS:
+            return "Warnings";
+        default:
+            return "Errors";
+        }
+    }
+}
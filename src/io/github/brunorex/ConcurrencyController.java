@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+
+package io.github.brunorex;
+
+/*
+ * Finds how many jobs should run at once on one disk by watching how many
+ * files per second get done.
+ *
+ * Time is split in rounds of at least as many jobs as the current limit.
+ * The limit doubles after each round until raising it stops paying off,
+ * then grows by one per round (additive increase). If throughput drops,
+ * the limit is cut to three quarters (multiplicative decrease). If the
+ * last increase made no difference, the limit goes back and stays there
+ * for a few rounds before trying again, since the disk may be shared with
+ * other programs.
+ *
+ * Rounds in which the disk was not kept busy, like at the end of a batch,
+ * say nothing about it and don't change the limit.
+ *
+ */
+
+public class ConcurrencyController {
+    private static final double TOLERANCE = 0.1;
+    private static final double DECREASE = 0.75;
+    private static final int HOLD_ROUNDS = 3;
+
+    private final int max;
+    private int limit = 1;
+    private int lastLimit = 1;
+    private boolean slowStart = true;
+    private int hold = 0;
+
+    private long roundStart = 0;
+    private int roundJobs = 0;
+    private boolean roundBusy = true;
+    private double lastThroughput = 0;
+
+    private int jobs = 0;
+    private long totalLatency = 0;
+
+    public ConcurrencyController(int max) {
+        this.max = Math.max(1, max);
+    }
+
+    public synchronized int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns the average time a job took, in ms.
+     */
+    public synchronized long getAverageLatency() {
+        return jobs == 0 ? 0 : totalLatency / jobs;
+    }
+
+    /**
+     * Must be called when a job starts.
+     */
+    public synchronized void jobStarted(long now) {
+        if (roundStart == 0) {
+            roundStart = now;
+        }
+    }
+
+    /**
+     * Must be called when a job ends.
+     *
+     * @param latency how long the job took, in ms.
+     * @param busy if true, the disk still had as many jobs running as the
+     *        limit allows, or more jobs waiting.
+     * @param now the current time, from System.nanoTime().
+     */
+    public synchronized void jobFinished(long latency, boolean busy, long now) {
+        jobs++;
+        totalLatency += latency;
+        roundJobs++;
+        roundBusy &= busy;
+
+        if (roundJobs < limit || now <= roundStart) {
+            return;
+        }
+
+        double throughput = roundJobs * 1e9 / (now - roundStart);
+
+        if (roundBusy) {
+            adjust(throughput);
+        }
+
+        roundStart = now;
+        roundJobs = 0;
+        roundBusy = true;
+    }
+
+    private void adjust(double throughput) {
+        int newLimit = limit;
+
+        if (lastThroughput > 0 && throughput < lastThroughput * (1 - TOLERANCE)) {
+            newLimit = Math.max(1, (int) (limit * DECREASE));
+            slowStart = false;
+        } else if (lastThroughput > 0 && limit > lastLimit && throughput < lastThroughput * (1 + TOLERANCE)) {
+            newLimit = lastLimit;
+            slowStart = false;
+            hold = HOLD_ROUNDS;
+        } else if (hold > 0) {
+            hold--;
+        } else if (slowStart) {
+            newLimit = Math.min(max, limit * 2);
+        } else {
+            newLimit = Math.min(max, limit + 1);
+        }
+
+        lastLimit = limit;
+        limit = newLimit;
+        lastThroughput = throughput;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+
+package io.github.brunorex;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.table.AbstractTableModel;
+
+/*
+ * Table model for the dry run, with one row per property a batch would
+ * change: the file, the edited track or segment info, the property and
+ * its current and new values. Files whose edits can't be checked against
+ * the header metadata get a single row saying so, and files that are
+ * already correct are only counted.
+ *
+ * Must only be used on the event dispatch thread.
+ *
+ */
+
+public class DryRunModel extends AbstractTableModel {
+    private static final long serialVersionUID = 1L;
+
+    private static final String[] COLUMNS = { "File", "Edit", "Property", "Current value", "New value" };
+
+    private final List<String[]> rows = new ArrayList<String[]>();
+    private int changed = 0;
+    private int unchanged = 0;
+    private int unknown = 0;
+
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int col) {
+        return COLUMNS[col];
+    }
+
+    @Override
+    public Object getValueAt(int row, int col) {
+        return rows.get(row)[col];
+    }
+
+    /**
+     * Adds the changes of a file.
+     *
+     * @param info the header metadata of the file, or null if it can't be
+     *        read.
+     * @param changes the changes, or null if they can't be checked.
+     */
+    public void add(String file, MatroskaInfo info, List<EditDiff.Change> changes) {
+        int first = rows.size();
+
+        if (info == null) {
+            rows.add(new String[] { file, "", "(the header can't be read)", "", "" });
+            unknown++;
+        } else if (changes == null) {
+            rows.add(new String[] { file, "", "(the changes can't be checked)", "", "" });
+            unknown++;
+        } else if (changes.isEmpty()) {
+            unchanged++;
+        } else {
+            for (EditDiff.Change change : changes) {
+                rows.add(new String[] { file, change.getTarget(), change.getProperty(),
+                        EditDiff.Change.format(change.getOldValue(), "(not set)"),
+                        EditDiff.Change.format(change.getNewValue(), "(deleted)") });
+            }
+
+            changed++;
+        }
+
+        if (rows.size() > first) {
+            fireTableRowsInserted(first, rows.size() - 1);
+        }
+    }
+
+    public void clear() {
+        rows.clear();
+        changed = 0;
+        unchanged = 0;
+        unknown = 0;
+        fireTableDataChanged();
+    }
+
+    /**
+     * Returns the number of files that are already correct.
+     */
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    public String getSummary() {
+        return changed + " file(s) would change, " + unchanged + " file(s) are already correct and will be"
+                + " skipped, " + unknown + " file(s) can't be checked.";
+    }
+}
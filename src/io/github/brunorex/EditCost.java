@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+
+package io.github.brunorex;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Estimates how much work mkvpropedit has to do for a command, from the
+ * layout of the file's header.
+ *
+ * mkvpropedit rewrites a level 1 element in place if the new version fits
+ * in its old space plus the EbmlVoid after it. Otherwise the element is
+ * written again at the end of the file and the SeekHead is updated, which
+ * is much slower on big files and network shares. Sizes are estimated
+ * from the old values and the new ones, so the result is only a guess.
+ *
+ */
+
+public class EditCost {
+    public enum Kind {
+        IN_PLACE, UNKNOWN, RELOCATE
+    }
+
+    /* Jobs that write more than this are heavy even in place */
+    public static final long HEAVY_BYTES = 4 * 1024 * 1024;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /* Bytes of an element header, for the elements that may be added */
+    private static final int HEADER_SIZE = 4;
+
+    /* Bytes of an AttachedFile without its data and name */
+    private static final int ATTACHMENT_OVERHEAD = 64;
+
+    /* EBML chapters and tags are usually less than half the size of the XML */
+    private static final int XML_RATIO = 2;
+
+    private final Kind kind;
+    private final long bytes;
+    private final List<String> relocated;
+
+    private EditCost(Kind kind, long bytes, List<String> relocated) {
+        this.kind = kind;
+        this.bytes = bytes;
+        this.relocated = relocated;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns about how many bytes mkvpropedit writes.
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns the names of the elements that don't fit in place.
+     */
+    public List<String> getRelocated() {
+        return relocated;
+    }
+
+    /**
+     * Returns true if the job writes elements at the end of the file, or a
+     * lot of data.
+     */
+    public boolean isHeavy() {
+        return kind == Kind.RELOCATE || bytes >= HEAVY_BYTES;
+    }
+
+    @Override
+    public String toString() {
+        switch (kind) {
+        case IN_PLACE:
+            return "In place";
+        case RELOCATE:
+            return "Moves " + String.join(", ", relocated);
+        default:
+            return "Unknown";
+        }
+    }
+
+    /**
+     * Estimates the cost of the command for a file.
+     *
+     * @param info the header of the file, or null if it couldn't be read.
+     */
+    public static EditCost estimate(MatroskaInfo info, MkvCommand command) {
+        EditCost unknown = new EditCost(Kind.UNKNOWN, 0, Collections.<String> emptyList());
+
+        if (info == null) {
+            return unknown;
+        }
+
+        // New size of each changed element
+        Map<Integer, Long> sizes = new LinkedHashMap<Integer, Long>();
+        List<MkvCommand.Arg> args = command.getArgs();
+        String selector = null;
+        MatroskaInfo.Track track = null;
+
+        for (int i = 0; i < args.size(); i++) {
+            MkvCommand.Arg arg = args.get(i);
+
+            if (arg.getKind() != MkvCommand.Arg.Kind.OPTION || i + 1 == args.size()) {
+                return unknown;
+            }
+
+            MkvCommand.Arg param = args.get(++i);
+            String option = arg.getKey();
+            String value = param.getValue();
+
+            if (option.equals("--edit")) {
+                selector = value;
+                track = null;
+
+                if (!selector.equals("info")) {
+                    track = EditDiff.findTrack(info, selector);
+
+                    if (track == null) {
+                        return unknown;
+                    }
+                }
+            } else if (option.equals("--set") && selector != null) {
+                int id = track == null ? MatroskaReader.ID_INFO : MatroskaReader.ID_TRACKS;
+
+                if (!grow(info, sizes, id, getGrowth(info, track, param.getKey(), value))) {
+                    return unknown;
+                }
+            } else if (option.equals("--delete") && selector != null) {
+                // Deleting only makes the element smaller
+                int id = track == null ? MatroskaReader.ID_INFO : MatroskaReader.ID_TRACKS;
+
+                if (!grow(info, sizes, id, 0)) {
+                    return unknown;
+                }
+            } else if (option.equals("--tags")) {
+                String file = param.getKind() == MkvCommand.Arg.Kind.PATH ? value : "";
+
+                sizes.put(MatroskaReader.ID_TAGS, new File(file).length() / XML_RATIO);
+            } else if (option.equals("--chapters")) {
+                sizes.put(MatroskaReader.ID_CHAPTERS, new File(value).length() / XML_RATIO);
+            } else if (option.equals("--add-attachment")) {
+                File file = new File(value);
+
+                grow(info, sizes, MatroskaReader.ID_ATTACHMENTS, file.length()
+                        + file.getName().getBytes(UTF_8).length + ATTACHMENT_OVERHEAD);
+            } else if (option.equals("--replace-attachment")) {
+                grow(info, sizes, MatroskaReader.ID_ATTACHMENTS, getReplacement(value).length());
+            } else if (option.equals("--delete-attachment")) {
+                grow(info, sizes, MatroskaReader.ID_ATTACHMENTS, 0);
+            } else if (!option.startsWith("--attachment-")) {
+                return unknown;
+            }
+        }
+
+        boolean inPlace = true;
+        long bytes = 0;
+        List<String> relocated = new ArrayList<String>();
+
+        for (Map.Entry<Integer, Long> entry : sizes.entrySet()) {
+            long size = entry.getValue();
+            MatroskaInfo.Element element = info.getElement(entry.getKey());
+
+            bytes += size;
+
+            // Removed elements are turned into an EbmlVoid
+            if (size == 0) {
+                continue;
+            }
+
+            // The last element of the file can grow as much as it needs
+            if (element != null && (size <= element.getLength() + info.getFreeSpaceAfter(element)
+                    || element.getPosition() + element.getLength() == info.getFileSize())) {
+                continue;
+            }
+
+            inPlace = false;
+            relocated.add(getName(entry.getKey()));
+        }
+
+        return new EditCost(inPlace ? Kind.IN_PLACE : Kind.RELOCATE, bytes, relocated);
+    }
+
+    /**
+     * Returns the commands with the cheap ones first: those done in place,
+     * then those that can't be estimated, then the heavy ones. Otherwise
+     * the commands keep their order.
+     *
+     * @param infos the headers of the files, by path.
+     * @param costs filled with the cost of each command, by file.
+     */
+    public static List<MkvCommand> sort(List<MkvCommand> commands, Map<String, MatroskaInfo> infos,
+            final Map<String, EditCost> costs) {
+        List<MkvCommand> sorted = new ArrayList<MkvCommand>(commands);
+
+        for (MkvCommand command : commands) {
+            MatroskaInfo info = infos.get(command.getFile());
+            File file = new File(command.getFile());
+
+            // The header is out of date if the file changed since it was read
+            if (info != null && !info.isCurrent(file.length(), file.lastModified())) {
+                info = null;
+            }
+
+            costs.put(command.getFile(), estimate(info, command));
+        }
+
+        Collections.sort(sorted, new Comparator<MkvCommand>() {
+            @Override
+            public int compare(MkvCommand a, MkvCommand b) {
+                EditCost costA = costs.get(a.getFile());
+                EditCost costB = costs.get(b.getFile());
+
+                if (costA.isHeavy() != costB.isHeavy()) {
+                    return costA.isHeavy() ? 1 : -1;
+                }
+
+                return costA.kind.compareTo(costB.kind);
+            }
+        });
+
+        return sorted;
+    }
+
+    /**
+     * Adds to the new size of an element, starting from its current size.
+     *
+     * @return false if the element is not in the file.
+     */
+    private static boolean grow(MatroskaInfo info, Map<Integer, Long> sizes, int id, long growth) {
+        Long size = sizes.get(id);
+
+        if (size == null) {
+            MatroskaInfo.Element element = info.getElement(id);
+
+            if (element == null && id != MatroskaReader.ID_ATTACHMENTS) {
+                return false;
+            }
+
+            size = element == null ? 0 : element.getLength();
+        }
+
+        sizes.put(id, size + growth);
+
+        return true;
+    }
+
+    /**
+     * Returns about how many bytes the element grows when a property is set.
+     */
+    private static long getGrowth(MatroskaInfo info, MatroskaInfo.Track track, String key, String value) {
+        long length = value.getBytes(UTF_8).length;
+
+        if (track == null) {
+            return key.equals("title") ? length - getLength(info.getTitle()) : length + HEADER_SIZE;
+        } else if (key.equals("name")) {
+            return length - getLength(track.getName());
+        } else if (key.equals("language")) {
+            // The BCP 47 language is written as well
+            return length - getLength(track.getLanguage()) + length - getLength(track.getLanguageBcp47());
+        } else if (key.equals("flag-enabled") || key.equals("flag-default")) {
+            // Flags are often left out when they have the default value, so
+            // setting another value may add them
+            return value.equals("0") ? HEADER_SIZE : 0;
+        } else if (key.equals("flag-forced")) {
+            return value.equals("1") ? HEADER_SIZE : 0;
+        }
+
+        return length + HEADER_SIZE;
+    }
+
+    private static long getLength(String value) {
+        return value == null ? -HEADER_SIZE : value.getBytes(UTF_8).length;
+    }
+
+    /**
+     * Returns the new file of a --replace-attachment value. Selectors may
+     * contain colons, and so may file names on Windows.
+     */
+    private static File getReplacement(String value) {
+        for (int i = value.indexOf(':'); i >= 0; i = value.indexOf(':', i + 1)) {
+            File file = new File(value.substring(i + 1));
+
+            if (file.isFile()) {
+                return file;
+            }
+        }
+
+        return new File("");
+    }
+
+    private static String getName(int id) {
+        switch (id) {
+        case MatroskaReader.ID_INFO:
+            return "Info";
+        case MatroskaReader.ID_TRACKS:
+            return "Tracks";
+        case MatroskaReader.ID_CHAPTERS:
+            return "Chapters";
+        case MatroskaReader.ID_ATTACHMENTS:
+            return "Attachments";
+        case MatroskaReader.ID_TAGS:
+            return "Tags";
+        default:
+            return Integer.toHexString(id);
+        }
+    }
+}
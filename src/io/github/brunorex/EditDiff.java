@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+
+package io.github.brunorex;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Compares an mkvpropedit command with the current header metadata of the
+ * file it edits.
+ *
+ * Only the edits jmkvpropedit generates for segment info and tracks can be
+ * checked. Commands with any other options, e.g. chapters, tags,
+ * attachments or extra parameters, are treated as unknown.
+ *
+ */
+
+public class EditDiff {
+
+    public static class Change {
+        private final String target;
+        private final String property;
+        private final String oldValue;
+        private final String newValue;
+
+        public Change(String target, String property, String oldValue, String newValue) {
+            this.target = target;
+            this.property = property;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+        }
+
+        public String getTarget() {
+            return target;
+        }
+
+        public String getProperty() {
+            return property;
+        }
+
+        /**
+         * Returns the current value, or null if the property is not set.
+         */
+        public String getOldValue() {
+            return oldValue;
+        }
+
+        /**
+         * Returns the new value, or null if the property is deleted.
+         */
+        public String getNewValue() {
+            return newValue;
+        }
+
+        @Override
+        public String toString() {
+            return target + " " + property + ": " + format(oldValue, "(not set)") + " -> "
+                    + format(newValue, "(deleted)");
+        }
+
+        /**
+         * Returns the value in quotes, or the given text if it is null.
+         */
+        public static String format(String value, String ifNull) {
+            return value == null ? ifNull : "\"" + value + "\"";
+        }
+    }
+
+    private EditDiff() {
+    }
+
+    /**
+     * Returns the changes the command would make to the file.
+     *
+     * @return the list of changes, or null if the command contains edits
+     *         that can't be checked against the header metadata.
+     */
+    public static List<Change> compute(MatroskaInfo info, MkvCommand command) {
+        return compute(info, command, true);
+    }
+
+    /**
+     * Returns the edits of the command that are missing from the file, after
+     * it was edited.
+     *
+     * Unlike compute(), a BCP 47 language that differs from the requested
+     * language is accepted, as mkvpropedit may set it to the equivalent tag,
+     * e.g. <code>ja</code> for <code>jpn</code>.
+     *
+     * @return the list of missing edits, or null if the command contains
+     *         edits that can't be checked against the header metadata.
+     */
+    public static List<Change> verify(MatroskaInfo info, MkvCommand command) {
+        return compute(info, command, false);
+    }
+
+    private static List<Change> compute(MatroskaInfo info, MkvCommand command, boolean checkBcp47) {
+        List<Change> changes = new ArrayList<Change>();
+        List<MkvCommand.Arg> args = command.getArgs();
+        String selector = null;
+        MatroskaInfo.Track track = null;
+
+        for (int i = 0; i < args.size(); i++) {
+            MkvCommand.Arg arg = args.get(i);
+
+            if (arg.getKind() != MkvCommand.Arg.Kind.OPTION || i + 1 == args.size()) {
+                return null;
+            }
+
+            MkvCommand.Arg param = args.get(++i);
+            String option = arg.getKey();
+
+            if (option.equals("--edit")) {
+                selector = param.getValue();
+                track = null;
+
+                if (!selector.equals("info")) {
+                    track = findTrack(info, selector);
+
+                    if (track == null) {
+                        return null;
+                    }
+                }
+            } else if (option.equals("--set") && selector != null) {
+                if (param.getKind() != MkvCommand.Arg.Kind.PROPERTY && param.getKind() != MkvCommand.Arg.Kind.FLAG) {
+                    return null;
+                }
+
+                String oldValue;
+
+                try {
+                    oldValue = getValue(info, track, param.getKey());
+                } catch (IllegalArgumentException e) {
+                    return null;
+                }
+
+                String newValue = param.getValue();
+
+                if (checkBcp47 && param.getKey().equals("language") && track != null
+                        && track.getLanguageBcp47() != null
+                        && !track.getLanguageBcp47().equals(newValue)) {
+                    // The BCP 47 tag is rewritten as well
+                    oldValue = track.getLanguageBcp47();
+                }
+
+                if (!newValue.equals(oldValue)) {
+                    changes.add(new Change(selector, param.getKey(), oldValue, newValue));
+                }
+            } else if (option.equals("--delete") && selector != null && param.getKind() == MkvCommand.Arg.Kind.VALUE) {
+                String oldValue;
+
+                try {
+                    oldValue = getValue(info, track, param.getValue());
+                } catch (IllegalArgumentException e) {
+                    return null;
+                }
+
+                if (oldValue != null) {
+                    changes.add(new Change(selector, param.getValue(), oldValue, null));
+                }
+            } else {
+                return null;
+            }
+        }
+
+        return changes;
+    }
+
+    /**
+     * Checks if running the command would leave the file unchanged.
+     */
+    public static boolean isNoOp(MatroskaInfo info, MkvCommand command) {
+        List<Change> changes = compute(info, command);
+
+        return changes != null && changes.isEmpty();
+    }
+
+    /**
+     * Resolves an mkvpropedit track selector, e.g. <code>track:a2</code>,
+     * <code>track:3</code>, <code>track:@3</code> or <code>track:=UID</code>.
+     *
+     * @return the track, or null if there is no such track.
+     */
+    public static MatroskaInfo.Track findTrack(MatroskaInfo info, String selector) {
+        if (!selector.startsWith("track:") || selector.length() < 7) {
+            return null;
+        }
+
+        String spec = selector.substring(6);
+        char prefix = spec.charAt(0);
+        List<MatroskaInfo.Track> tracks;
+
+        try {
+            switch (prefix) {
+            case 'v':
+                tracks = info.getTracks(MatroskaInfo.TYPE_VIDEO);
+                break;
+            case 'a':
+                tracks = info.getTracks(MatroskaInfo.TYPE_AUDIO);
+                break;
+            case 's':
+                tracks = info.getTracks(MatroskaInfo.TYPE_SUBTITLE);
+                break;
+            case '@':
+                int number = Integer.parseInt(spec.substring(1));
+
+                for (MatroskaInfo.Track track : info.getTracks()) {
+                    if (track.getNumber() == number) {
+                        return track;
+                    }
+                }
+
+                return null;
+            case '=':
+                long uid = Long.parseLong(spec.substring(1));
+
+                for (MatroskaInfo.Track track : info.getTracks()) {
+                    if (track.getUid() == uid) {
+                        return track;
+                    }
+                }
+
+                return null;
+            default:
+                tracks = info.getTracks();
+                spec = " " + spec;
+            }
+
+            int n = Integer.parseInt(spec.substring(1));
+
+            return n >= 1 && n <= tracks.size() ? tracks.get(n - 1) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String getValue(MatroskaInfo info, MatroskaInfo.Track track, String property) {
+        if (track == null) {
+            if (property.equals("title")) {
+                return info.getTitle();
+            }
+        } else if (property.equals("name")) {
+            return track.getName();
+        } else if (property.equals("language")) {
+            return track.getLanguage();
+        } else if (property.equals("flag-enabled")) {
+            return track.isEnabled() ? "1" : "0";
+        } else if (property.equals("flag-default")) {
+            return track.isDefault() ? "1" : "0";
+        } else if (property.equals("flag-forced")) {
+            return track.isForced() ? "1" : "0";
+        }
+
+        throw new IllegalArgumentException("Unsupported property: " + property);
+    }
+}
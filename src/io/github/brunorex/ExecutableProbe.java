@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+
+package io.github.brunorex;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * Finds the mkvpropedit executable and asks it for its version and the
+ * options it supports, in the background.
+ *
+ * The result is kept until the path, or the size or modification time of
+ * the executable change, so mkvpropedit is only started again after it
+ * was replaced or another one was picked.
+ *
+ */
+
+public class ExecutableProbe {
+    private static final long PROBE_TIMEOUT = 10000; // ms
+
+    private static final Pattern OPTION_PATTERN = Pattern.compile("--[a-z0-9][a-z0-9-]*");
+
+    /*
+     * What the probe found out about an executable.
+     */
+    public static class Toolchain {
+        private final File executable;
+        private final String version;
+        private final Set<String> options;
+
+        private Toolchain(File executable, String version, Set<String> options) {
+            this.executable = executable;
+            this.version = version;
+            this.options = Collections.unmodifiableSet(options);
+        }
+
+        public File getExecutable() {
+            return executable;
+        }
+
+        /**
+         * Returns the first line printed by <code>--version</code>.
+         */
+        public String getVersion() {
+            return version;
+        }
+
+        /**
+         * Returns the long options listed by <code>--help</code>, or an empty
+         * set if they could not be read.
+         */
+        public Set<String> getOptions() {
+            return options;
+        }
+
+        /**
+         * Checks if the option is listed by <code>--help</code>. Always true
+         * if the options could not be read.
+         */
+        public boolean supports(String option) {
+            return options.isEmpty() || options.contains(option);
+        }
+
+        /**
+         * Returns the options used by the commands that this executable
+         * doesn't know, in the order they are first used.
+         */
+        public List<String> getUnsupportedOptions(List<MkvCommand> commands) {
+            Set<String> unsupported = new LinkedHashSet<String>();
+
+            for (MkvCommand cmd : commands) {
+                for (String option : cmd.getOptionNames()) {
+                    if (!supports(option)) {
+                        unsupported.add(option);
+                    }
+                }
+            }
+
+            return new ArrayList<String>(unsupported);
+        }
+    }
+
+    private final ExecutorService thread = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "ExecutableProbe");
+            t.setDaemon(true);
+            return t;
+        }
+    });
+
+    private String key = null;
+    private Future<Toolchain> result = null;
+
+    /**
+     * Starts probing the executable, unless it was already probed and has
+     * not changed since.
+     *
+     * @param exe a path, or a name to look up in the working folder and the
+     *        system path.
+     * @return the result of the probe. If the executable can't be found or
+     *         run, getting it throws an ExecutionException caused by an
+     *         IOException.
+     */
+    public synchronized Future<Toolchain> probe(final String exe) {
+        final File file = resolve(exe);
+        String newKey = exe + "\n" + (file == null ? "" : file + "\n" + file.length() + "\n" + file.lastModified());
+
+        if (result == null || !newKey.equals(key)) {
+            key = newKey;
+            result = thread.submit(new Callable<Toolchain>() {
+                @Override
+                public Toolchain call() throws IOException {
+                    if (file == null) {
+                        throw new IOException("Executable not found: " + exe);
+                    }
+
+                    return run(file);
+                }
+            });
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the file the name refers to, or null if there is none.
+     */
+    public static File resolve(String exe) {
+        List<String> names = new ArrayList<String>();
+        names.add(exe);
+
+        if (Utils.isWindows() && !exe.toLowerCase().endsWith(".exe")) {
+            names.add(exe + ".exe");
+        }
+
+        List<File> dirs = new ArrayList<File>();
+
+        if (exe.indexOf('/') >= 0 || exe.indexOf(File.separatorChar) >= 0) {
+            dirs.add(null);
+        } else {
+            dirs.add(new File("."));
+
+            String path = System.getenv("PATH");
+
+            if (path != null) {
+                for (String dir : path.split(Pattern.quote(File.pathSeparator))) {
+                    if (!dir.isEmpty()) {
+                        dirs.add(new File(dir));
+                    }
+                }
+            }
+        }
+
+        for (File dir : dirs) {
+            for (String name : names) {
+                File file = dir == null ? new File(name) : new File(dir, name);
+
+                if (file.isFile() && file.canExecute()) {
+                    return file.getAbsoluteFile().toPath().normalize().toFile();
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private static Toolchain run(File file) throws IOException {
+        String versionOutput = getOutput(file, "--version");
+        String version = versionOutput.trim().split("\\r?\\n")[0].trim();
+        Set<String> options = new HashSet<String>();
+
+        try {
+            Matcher m = OPTION_PATTERN.matcher(getOutput(file, "--help"));
+
+            while (m.find()) {
+                options.add(m.group());
+            }
+        } catch (IOException e) {
+            options.clear();
+        }
+
+        return new Toolchain(file, version, options);
+    }
+
+    private static String getOutput(File file, String option) throws IOException {
+        ProcessBuilder pb = new ProcessBuilder(file.getPath(), option);
+        pb.redirectErrorStream(true);
+
+        Process proc = pb.start();
+        StringBuffer output = new StringBuffer();
+        StreamGobbler outputGobbler = new StreamGobbler(proc.getInputStream(), output);
+        outputGobbler.start();
+
+        try {
+            if (!proc.waitFor(PROBE_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                proc.destroyForcibly();
+                throw new IOException(file + " did not answer to " + option);
+            }
+
+            outputGobbler.join(PROBE_TIMEOUT);
+        } catch (InterruptedException e) {
+            proc.destroyForcibly();
+            throw new IOException(e);
+        }
+
+        return output.toString();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package io.github.brunorex;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.swing.AbstractListModel;
+
+/*
+ * List model for the input files.
+ *
+ * A hash set with the same paths as the list makes duplicate checks O(1).
+ * Files can be added in bulk, which fires a single interval added event.
+ *
+ */
+
+public class FileListModel extends AbstractListModel<String> {
+    private static final long serialVersionUID = 1L;
+
+    private final List<String> files = new ArrayList<String>();
+    private final Set<String> index = new HashSet<String>();
+
+    @Override
+    public int getSize() {
+        return files.size();
+    }
+
+    @Override
+    public String getElementAt(int i) {
+        return files.get(i);
+    }
+
+    public int size() {
+        return files.size();
+    }
+
+    public String get(int i) {
+        return files.get(i);
+    }
+
+    public boolean contains(String file) {
+        return index.contains(file);
+    }
+
+    /**
+     * Adds the file at the end of the list unless it is already there.
+     *
+     * @return true if the file was added.
+     */
+    public boolean addElement(String file) {
+        if (!index.add(file)) {
+            return false;
+        }
+
+        files.add(file);
+        fireIntervalAdded(this, files.size() - 1, files.size() - 1);
+
+        return true;
+    }
+
+    /**
+     * Adds every file that is not yet in the list at the end of it.
+     *
+     * @return the number of files added.
+     */
+    public int addAll(Collection<String> newFiles) {
+        int first = files.size();
+
+        for (String file : newFiles) {
+            if (index.add(file)) {
+                files.add(file);
+            }
+        }
+
+        int last = files.size() - 1;
+
+        if (last >= first) {
+            fireIntervalAdded(this, first, last);
+        }
+
+        return last - first + 1;
+    }
+
+    /**
+     * Inserts a file at the given position. Used to reorder the list, so the
+     * file may not be in the list already.
+     */
+    public void add(int i, String file) {
+        if (!index.add(file)) {
+            throw new IllegalArgumentException("Duplicate file: " + file);
+        }
+
+        files.add(i, file);
+        fireIntervalAdded(this, i, i);
+    }
+
+    public String remove(int i) {
+        String file = files.remove(i);
+        index.remove(file);
+        fireIntervalRemoved(this, i, i);
+
+        return file;
+    }
+
+    public void removeAllElements() {
+        int last = files.size() - 1;
+
+        files.clear();
+        index.clear();
+
+        if (last >= 0) {
+            fireIntervalRemoved(this, 0, last);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package io.github.brunorex;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.filefilter.IOFileFilter;
+
+/*
+ * Recursively scans folders for files accepted by a filter.
+ *
+ * Every directory is listed by its own fork/join task, so subdirectories
+ * are scanned in parallel. The matches of each directory are sorted and
+ * queued as one batch as soon as the directory has been read, so callers
+ * can show results while the scan is still running.
+ *
+ */
+
+public class FolderScanner {
+    private static final int PARALLELISM = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    private final IOFileFilter filter;
+    private final ForkJoinPool pool = new ForkJoinPool(PARALLELISM);
+    private final BlockingQueue<List<String>> results = new LinkedBlockingQueue<List<String>>();
+    private final Set<Path> visited = ConcurrentHashMap.<Path> newKeySet();
+    private final AtomicInteger count = new AtomicInteger();
+    private volatile boolean cancelled = false;
+    private boolean finished = false;
+
+    public FolderScanner(IOFileFilter filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * Starts scanning another folder.
+     *
+     * @return false if the scanner already finished and can't take more
+     *         folders.
+     */
+    public synchronized boolean add(File folder) {
+        if (finished) {
+            return false;
+        }
+
+        try {
+            Path dir = folder.toPath().toRealPath();
+
+            if (visited.add(dir)) {
+                pool.execute(new DirTask(dir));
+            }
+        } catch (IOException e) {
+        }
+
+        return true;
+    }
+
+    /**
+     * Blocks until the next batch of files is found.
+     *
+     * @return the canonical paths of the matching files of one directory, or
+     *         null once every folder added so far has been scanned.
+     */
+    public List<String> nextBatch() throws InterruptedException {
+        while (true) {
+            List<String> batch = results.poll(100, TimeUnit.MILLISECONDS);
+
+            if (batch != null || isFinished()) {
+                return batch;
+            }
+        }
+    }
+
+    public synchronized void cancel() {
+        cancelled = true;
+        finished = true;
+        pool.shutdownNow();
+        results.clear();
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public int getCount() {
+        return count.get();
+    }
+
+    private synchronized boolean isFinished() {
+        // Tasks queue their results before they complete, so nothing can be
+        // added once the pool is quiescent
+        if (!finished && pool.isQuiescent()) {
+            finished = true;
+            pool.shutdown();
+        }
+
+        return finished;
+    }
+
+    private class DirTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Path dir;
+
+        public DirTask(Path dir) {
+            this.dir = dir;
+        }
+
+        @Override
+        protected void compute() {
+            if (cancelled) {
+                return;
+            }
+
+            final File dirFile = dir.toFile();
+            final List<String> found = new ArrayList<String>();
+
+            // Only this level is walked, the visitor gets the attributes read
+            // while listing the directory where the platform provides them
+            try {
+                Files.walkFileTree(dir, EnumSet.noneOf(FileVisitOption.class), 1, new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult visitFile(Path entry, BasicFileAttributes attrs) {
+                        if (cancelled) {
+                            return FileVisitResult.TERMINATE;
+                        }
+
+                        if (attrs.isSymbolicLink()) {
+                            try {
+                                entry = entry.toRealPath();
+                                attrs = Files.readAttributes(entry, BasicFileAttributes.class);
+                            } catch (IOException e) {
+                                return FileVisitResult.CONTINUE;
+                            }
+                        }
+
+                        // Each folder is scanned once, however it was reached
+                        if (attrs.isDirectory()) {
+                            if (visited.add(entry)) {
+                                new DirTask(entry).fork();
+                            }
+                        } else if (attrs.isRegularFile() && filter.accept(dirFile, entry.getFileName().toString())) {
+                            found.add(entry.toString());
+                        }
+
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path entry, IOException e) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (IOException e) {
+            }
+
+            if (!found.isEmpty() && !cancelled) {
+                Collections.sort(found);
+                count.addAndGet(found.size());
+                results.add(found);
+            }
+        }
+    }
+}
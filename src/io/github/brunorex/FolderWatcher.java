@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+
+package io.github.brunorex;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.filefilter.IOFileFilter;
+
+/*
+ * Watches folders and their subfolders for new or changed files accepted
+ * by a filter, and queues each one once it has stopped changing.
+ *
+ * Events are coalesced by path: every event for a file pushes its check
+ * back, and it is only queued when its size and modification time stayed
+ * the same for the stable time. If the queue is full, the watcher waits
+ * until there is room. Files that were already there when their folder
+ * was added, and files the caller marked as done, are ignored until they
+ * change again, so editing a queued file doesn't queue it once more.
+ *
+ */
+
+public class FolderWatcher {
+    public static final int DEFAULT_STABLE_TIME = 10; // s
+
+    private static final long MAX_POLL = 1000; // ms
+
+    private final IOFileFilter filter;
+    private final long stableTime;
+    private final BlockingQueue<String> ready;
+    private final WatchService service;
+    private final Map<WatchKey, Path> keys = new HashMap<WatchKey, Path>();
+    private final Set<Path> folders = new HashSet<Path>();
+    private final Map<String, Pending> pending = new LinkedHashMap<String, Pending>();
+    private final Map<String, String> done = new ConcurrentHashMap<String, String>();
+    private final Set<String> queued = ConcurrentHashMap.<String> newKeySet();
+
+    /*
+     * A file waiting to be stable, with its state at the last check.
+     */
+    private static class Pending {
+        String state;
+        long due;
+
+        Pending(String state, long due) {
+            this.state = state;
+            this.due = due;
+        }
+    }
+
+    /**
+     * @param stableTime how long a file must stay unchanged before it is
+     *        queued, in ms.
+     * @param ready the queue the paths of stable files are put in.
+     */
+    public FolderWatcher(IOFileFilter filter, long stableTime, BlockingQueue<String> ready) throws IOException {
+        this.filter = filter;
+        this.stableTime = Math.max(0, stableTime);
+        this.ready = ready;
+        this.service = FileSystems.getDefault().newWatchService();
+    }
+
+    /**
+     * Starts watching a folder and its subfolders. The files already in them
+     * are ignored until they change.
+     */
+    public synchronized void add(File folder) throws IOException {
+        register(folder.toPath().toRealPath(), false);
+    }
+
+    /**
+     * Records that a queued file was processed. It is ignored from now on,
+     * unless it changes again.
+     */
+    public void markDone(String path) {
+        String state = getState(new File(path));
+
+        if (state != null) {
+            done.put(path, state);
+        }
+
+        queued.remove(path);
+    }
+
+    /**
+     * Stops watching. run() returns soon after.
+     */
+    public void close() {
+        try {
+            service.close();
+        } catch (IOException e) {
+        }
+    }
+
+    /**
+     * Handles events and queues stable files until close() is called.
+     */
+    public void run() throws InterruptedException {
+        try {
+            while (true) {
+                WatchKey key = service.poll(getWait(), TimeUnit.MILLISECONDS);
+
+                while (key != null) {
+                    handleEvents(key);
+                    key = service.poll();
+                }
+
+                queueStable();
+            }
+        } catch (ClosedWatchServiceException e) {
+        }
+    }
+
+    private synchronized long getWait() {
+        long wait = MAX_POLL;
+        long now = System.currentTimeMillis();
+
+        for (Pending file : pending.values()) {
+            wait = Math.min(wait, file.due - now);
+        }
+
+        return Math.max(1, wait);
+    }
+
+    private synchronized void handleEvents(WatchKey key) {
+        Path dir = keys.get(key);
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Events were lost, look for changes in every folder
+                for (Path watched : new ArrayList<Path>(folders)) {
+                    try {
+                        register(watched, true);
+                    } catch (IOException e) {
+                    }
+                }
+
+                continue;
+            }
+
+            if (dir == null) {
+                continue;
+            }
+
+            Path path = dir.resolve((Path) event.context());
+
+            if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+                pending.remove(path.toString());
+            } else if (Files.isDirectory(path)) {
+                if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+                    try {
+                        register(path, true);
+                    } catch (IOException e) {
+                    }
+                }
+            } else {
+                touch(path);
+            }
+        }
+
+        if (!key.reset()) {
+            folders.remove(keys.remove(key));
+        }
+    }
+
+    /**
+     * Watches the folder and its subfolders.
+     *
+     * @param changed if true, the files in them are checked for changes,
+     *        otherwise they are recorded as done.
+     */
+    private void register(Path folder, final boolean changed) throws IOException {
+        Files.walkFileTree(folder, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (!folders.contains(dir)) {
+                    keys.put(dir.register(service, StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE), dir);
+                    folders.add(dir);
+                }
+
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (changed) {
+                    touch(file);
+                } else if (attrs.isRegularFile() && accept(file)) {
+                    String state = getState(file.toFile());
+
+                    // Deleted since it was listed
+                    if (state != null) {
+                        done.put(file.toString(), state);
+                    }
+                }
+
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * Starts waiting for the file to be stable again, unless it didn't
+     * change since it was done.
+     */
+    private void touch(Path path) {
+        if (!accept(path)) {
+            return;
+        }
+
+        String file = path.toString();
+        String state = getState(path.toFile());
+
+        if (state == null || state.equals(done.get(file))) {
+            pending.remove(file);
+        } else {
+            pending.put(file, new Pending(state, System.currentTimeMillis() + stableTime));
+        }
+    }
+
+    /**
+     * Queues the files that didn't change for the stable time. Blocks while
+     * the queue is full.
+     */
+    private void queueStable() throws InterruptedException {
+        while (true) {
+            String file = null;
+
+            synchronized (this) {
+                long now = System.currentTimeMillis();
+
+                for (Iterator<Map.Entry<String, Pending>> it = pending.entrySet().iterator(); it.hasNext();) {
+                    Map.Entry<String, Pending> entry = it.next();
+                    Pending check = entry.getValue();
+
+                    if (check.due > now) {
+                        continue;
+                    }
+
+                    String state = getState(new File(entry.getKey()));
+
+                    if (state == null || state.equals(done.get(entry.getKey()))) {
+                        it.remove();
+                    } else if (!state.equals(check.state) || queued.contains(entry.getKey())) {
+                        // Still being written, or still being processed
+                        check.state = state;
+                        check.due = now + stableTime;
+                    } else {
+                        it.remove();
+                        file = entry.getKey();
+                        break;
+                    }
+                }
+            }
+
+            if (file == null) {
+                return;
+            }
+
+            queued.add(file);
+            ready.put(file);
+        }
+    }
+
+    private boolean accept(Path path) {
+        Path dir = path.getParent();
+
+        return dir != null && filter.accept(dir.toFile(), path.getFileName().toString());
+    }
+
+    /**
+     * Returns the size and modification time of the file, or null if it
+     * doesn't exist.
+     */
+    private static String getState(File file) {
+        if (!file.isFile()) {
+            return null;
+        }
+
+        return file.length() + ":" + file.lastModified();
+    }
+}
@@ -0,0 +1,755 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+
+package io.github.brunorex;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import org.ini4j.Ini;
+
+/*
+ * Command-line mode. Builds the commands for a settings file and a list of
+ * files or folders, runs them and exits with the batch status. Only used
+ * with --headless and must not load any AWT or Swing classes.
+ *
+ */
+
+public class HeadlessBatch {
+
+    /* Exit code for invalid arguments or settings, the others are the
+     * mkvpropedit exit codes */
+    public static final int EXIT_USAGE = 3;
+
+    private static final String USAGE = "Usage: JMkvpropedit --headless [--mkvpropedit <path>] [--jobs <n>]"
+            + " [--jobs-per-disk <n>] [--retries <n>] [--retry-delay <seconds>]"
+            + " [--timeout <seconds>] [--native] [--verify] [--resume] [--dry-run]"
+            + " <settings file> <file or folder>...\n"
+            + "       JMkvpropedit --headless --watch [--stable-time <seconds>] [options] <settings file>"
+            + " <folder>...";
+
+    /* Stable files waiting for a worker in watch mode */
+    private static final int WATCH_QUEUE_SIZE = 100;
+
+    private final File iniFile = new File("JMkvpropedit.ini");
+    private final BatchJournal journal = new BatchJournal(new File("JMkvpropedit.journal"));
+    private final MetadataCache metadataCache = new MetadataCache(new File("JMkvpropedit.cache"));
+    private boolean resume = false;
+    private boolean dryRun = false;
+    private boolean watch = false;
+    private int stableTime = FolderWatcher.DEFAULT_STABLE_TIME;
+    private String exe = null;
+    private int workers = 0;
+    private int jobsPerDisk = 0;
+    private boolean adaptive = BatchExecutor.DEFAULT_ADAPTIVE;
+    private int retries = -1;
+    private int retryDelay = -1;
+    private int timeout = -1;
+    private boolean nativeEdits = false;
+    private boolean verify = false;
+    private File tempDir = null;
+    private volatile BatchExecutor executor = null;
+
+    private HeadlessBatch() {
+    }
+
+    public static int run(String[] args) {
+        return new HeadlessBatch().runBatch(args);
+    }
+
+    private int runBatch(String[] args) {
+        List<String> inputs = new ArrayList<String>();
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--mkvpropedit") && i + 1 < args.length) {
+                exe = args[++i];
+            } else if (args[i].equals("--jobs") && i + 1 < args.length) {
+                try {
+                    workers = Integer.parseInt(args[++i]);
+                } catch (NumberFormatException e) {
+                    return usage("Invalid number of jobs: " + args[i]);
+                }
+            } else if (args[i].equals("--jobs-per-disk") && i + 1 < args.length) {
+                try {
+                    jobsPerDisk = Integer.parseInt(args[++i]);
+                    adaptive = false;
+                } catch (NumberFormatException e) {
+                    return usage("Invalid number of jobs per disk: " + args[i]);
+                }
+            } else if (args[i].equals("--retries") && i + 1 < args.length) {
+                try {
+                    retries = Integer.parseInt(args[++i]);
+                } catch (NumberFormatException e) {
+                    return usage("Invalid number of retries: " + args[i]);
+                }
+            } else if (args[i].equals("--retry-delay") && i + 1 < args.length) {
+                try {
+                    retryDelay = Integer.parseInt(args[++i]);
+                } catch (NumberFormatException e) {
+                    return usage("Invalid retry delay: " + args[i]);
+                }
+            } else if (args[i].equals("--timeout") && i + 1 < args.length) {
+                try {
+                    timeout = Integer.parseInt(args[++i]);
+                } catch (NumberFormatException e) {
+                    return usage("Invalid timeout: " + args[i]);
+                }
+            } else if (args[i].equals("--native")) {
+                nativeEdits = true;
+            } else if (args[i].equals("--verify")) {
+                verify = true;
+            } else if (args[i].equals("--resume")) {
+                resume = true;
+            } else if (args[i].equals("--dry-run")) {
+                dryRun = true;
+            } else if (args[i].equals("--watch")) {
+                watch = true;
+            } else if (args[i].equals("--stable-time") && i + 1 < args.length) {
+                try {
+                    stableTime = Integer.parseInt(args[++i]);
+                } catch (NumberFormatException e) {
+                    return usage("Invalid stable time: " + args[i]);
+                }
+            } else if (args[i].startsWith("--")) {
+                return usage("Unknown option: " + args[i]);
+            } else {
+                inputs.add(args[i]);
+            }
+        }
+
+        if (inputs.size() < 2) {
+            return usage(null);
+        }
+
+        // Files are processed as they appear, there is no batch to resume
+        if (watch && resume) {
+            return usage("--resume can't be used with --watch");
+        }
+
+        JobSettings settings;
+
+        try {
+            settings = SettingsFile.read(new File(inputs.get(0)));
+        } catch (IOException e) {
+            System.err.println("Error reading settings file " + inputs.get(0) + ": " + e.getMessage());
+            return EXIT_USAGE;
+        }
+
+        List<String> files;
+
+        if (watch) {
+            for (String folder : inputs.subList(1, inputs.size())) {
+                if (!new File(folder).isDirectory()) {
+                    return usage("Not a folder: " + folder);
+                }
+            }
+
+            // Only to check the options used, the files are not known yet
+            files = Collections.singletonList(new File(inputs.get(1), "new.mkv").getPath());
+        } else {
+            try {
+                files = getFiles(inputs.subList(1, inputs.size()));
+            } catch (InterruptedException e) {
+                return BatchExecutor.EXIT_ERROR;
+            }
+
+            if (files.isEmpty()) {
+                System.err.println("No Matroska files found.");
+                return EXIT_USAGE;
+            }
+        }
+
+        List<MkvCommand> commands = settings.buildCommands(files);
+
+        if (commands.isEmpty()) {
+            System.err.println("Nothing to do!");
+            return EXIT_USAGE;
+        }
+
+        if (dryRun && !watch) {
+            return printChanges(commands);
+        }
+
+        readIniFile();
+
+        // A dry run only lists the changes, mkvpropedit is not needed
+        if (!dryRun) {
+            ExecutableProbe.Toolchain toolchain;
+
+            try {
+                toolchain = new ExecutableProbe().probe(exe).get();
+            } catch (ExecutionException e) {
+                System.err.println("Mkvpropedit executable not found: " + exe);
+                return EXIT_USAGE;
+            } catch (InterruptedException e) {
+                return BatchExecutor.EXIT_ERROR;
+            }
+
+            List<String> unsupported = toolchain.getUnsupportedOptions(commands);
+
+            if (!unsupported.isEmpty()) {
+                System.err.println("This version of mkvpropedit doesn't support " + String.join(", ", unsupported)
+                        + ": " + toolchain.getVersion());
+                return EXIT_USAGE;
+            }
+
+            System.out.println(toolchain.getExecutable() + ": " + toolchain.getVersion() + "\n");
+
+            // Run the file that was probed, not whatever the name finds
+            exe = toolchain.getExecutable().getPath();
+        }
+
+        if (watch) {
+            return watch(settings, inputs.subList(1, inputs.size()));
+        }
+
+        return runCommands(commands);
+    }
+
+    private int usage(String message) {
+        if (message != null) {
+            System.err.println(message);
+        }
+
+        System.err.println(USAGE);
+
+        return EXIT_USAGE;
+    }
+
+    /**
+     * Reads the mkvpropedit path, jobs, retries and temporary folder saved by
+     * the GUI, unless they were given on the command line.
+     */
+    private void readIniFile() {
+        if (iniFile.exists()) {
+            try {
+                Ini ini = new Ini(iniFile);
+
+                if (exe == null) {
+                    exe = ini.get("General", "mkvpropedit");
+                }
+
+                if (workers <= 0 && ini.get("General", "jobs") != null) {
+                    workers = Integer.parseInt(ini.get("General", "jobs"));
+                }
+
+                if (jobsPerDisk <= 0) {
+                    if (ini.get("General", "adaptive-jobs") != null) {
+                        adaptive = Boolean.parseBoolean(ini.get("General", "adaptive-jobs"));
+                    }
+
+                    if (ini.get("General", "jobs-per-disk") != null) {
+                        jobsPerDisk = Integer.parseInt(ini.get("General", "jobs-per-disk"));
+                    }
+                }
+
+                if (retries < 0 && ini.get("General", "retries") != null) {
+                    retries = Integer.parseInt(ini.get("General", "retries"));
+                }
+
+                if (retryDelay < 0 && ini.get("General", "retry-delay") != null) {
+                    retryDelay = Integer.parseInt(ini.get("General", "retry-delay"));
+                }
+
+                if (timeout < 0 && ini.get("General", "timeout") != null) {
+                    timeout = Integer.parseInt(ini.get("General", "timeout"));
+                }
+
+                if (!nativeEdits) {
+                    nativeEdits = Boolean.parseBoolean(ini.get("General", "native-edits"));
+                }
+
+                if (!verify) {
+                    verify = Boolean.parseBoolean(ini.get("General", "verify"));
+                }
+
+                String dir = ini.get("General", "tempdir");
+
+                if (dir != null && new File(dir).isDirectory()) {
+                    tempDir = new File(dir);
+                }
+            } catch (IOException e) {
+            } catch (NumberFormatException e) {
+            }
+        }
+
+        if (exe == null) {
+            exe = "mkvpropedit";
+        }
+
+        if (workers <= 0) {
+            workers = BatchExecutor.getDefaultWorkers();
+        }
+
+        if (jobsPerDisk <= 0) {
+            jobsPerDisk = BatchExecutor.DEFAULT_JOBS_PER_DEVICE;
+        }
+
+        if (retries < 0) {
+            retries = BatchExecutor.DEFAULT_RETRIES;
+        }
+
+        if (retryDelay < 0) {
+            retryDelay = BatchExecutor.DEFAULT_RETRY_DELAY;
+        }
+
+        if (timeout < 0) {
+            timeout = BatchExecutor.DEFAULT_TIMEOUT;
+        }
+
+        if (tempDir == null) {
+            tempDir = OptionFilePool.getDefaultDir();
+        }
+    }
+
+    /**
+     * Returns the canonical paths of the given files and of the Matroska
+     * files in the given folders. Each folder is sorted on its own, so the
+     * files are numbered in the order they were given.
+     */
+    private List<String> getFiles(List<String> inputs) throws InterruptedException {
+        Set<String> files = new LinkedHashSet<String>();
+
+        for (String input : inputs) {
+            File file = new File(input);
+
+            if (file.isDirectory()) {
+                FolderScanner scanner = new FolderScanner(MatroskaReader.FILE_FILTER);
+                List<String> found = new ArrayList<String>();
+                List<String> batch;
+
+                scanner.add(file);
+
+                while ((batch = scanner.nextBatch()) != null) {
+                    found.addAll(batch);
+                }
+
+                Collections.sort(found);
+                files.addAll(found);
+            } else if (file.isFile() && MatroskaReader.FILE_FILTER.accept(file)) {
+                try {
+                    files.add(file.getCanonicalPath());
+                } catch (IOException e) {
+                    System.err.println("Skipping " + input + ": " + e.getMessage());
+                }
+            } else {
+                System.err.println("Skipping " + input + ": not a Matroska file or folder");
+            }
+        }
+
+        return new ArrayList<String>(files);
+    }
+
+    /**
+     * Prints the changes the commands would make to each file, without
+     * running them.
+     */
+    private int printChanges(List<MkvCommand> commands) {
+        Map<String, MatroskaInfo> infos;
+        int changed = 0;
+        int unchanged = 0;
+        int unknown = 0;
+
+        try {
+            infos = readHeaders(commands);
+        } catch (InterruptedException e) {
+            return BatchExecutor.EXIT_ERROR;
+        }
+
+        for (MkvCommand cmd : commands) {
+            MatroskaInfo info = infos.get(cmd.getFile());
+            List<EditDiff.Change> changes = info == null ? null : EditDiff.compute(info, cmd);
+
+            if (changes != null && changes.isEmpty()) {
+                unchanged++;
+                continue;
+            }
+
+            printChanges(cmd.getFile(), info, changes);
+
+            if (changes == null) {
+                unknown++;
+            } else {
+                changed++;
+            }
+        }
+
+        System.out.println(changed + " file(s) would change, " + unchanged + " file(s) are already correct and"
+                + " will be skipped, " + unknown + " file(s) can't be checked.");
+
+        return BatchExecutor.EXIT_OK;
+    }
+
+    /**
+     * Prints the changes to one file at once, so the output of watch
+     * workers doesn't mix.
+     *
+     * @param info the header of the file, or null if it can't be read.
+     * @param changes the changes, or null if they can't be checked.
+     */
+    private static void printChanges(String file, MatroskaInfo info, List<EditDiff.Change> changes) {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("File: ").append(file).append("\n");
+
+        if (info == null) {
+            sb.append("  The header can't be read.\n");
+        } else if (changes == null) {
+            sb.append("  The changes can't be checked.\n");
+        } else {
+            for (EditDiff.Change change : changes) {
+                sb.append("  ").append(change).append("\n");
+            }
+        }
+
+        System.out.println(sb);
+        System.out.flush();
+    }
+
+    /**
+     * Reads the headers of the files on a pool of threads, skipping those
+     * that can't be read.
+     */
+    private Map<String, MatroskaInfo> readHeaders(List<MkvCommand> commands) throws InterruptedException {
+        List<String> files = new ArrayList<String>(commands.size());
+
+        for (MkvCommand cmd : commands) {
+            files.add(cmd.getFile());
+        }
+
+        Map<String, MatroskaInfo> infos = metadataCache.readAll(files);
+        metadataCache.save();
+
+        return infos;
+    }
+
+    /**
+     * Applies the settings to every new Matroska file in the folders once it
+     * stopped changing, until the program is stopped.
+     */
+    private int watch(final JobSettings settings, List<String> folders) {
+        final BlockingQueue<String> ready = new ArrayBlockingQueue<String>(WATCH_QUEUE_SIZE);
+        final FolderWatcher watcher;
+
+        try {
+            watcher = new FolderWatcher(MatroskaReader.FILE_FILTER, stableTime * 1000L, ready);
+
+            for (String folder : folders) {
+                watcher.add(new File(folder));
+            }
+        } catch (IOException e) {
+            System.err.println("Could not watch the folders: " + e.getMessage());
+            return EXIT_USAGE;
+        }
+
+        final OptionFilePool optionFiles = new OptionFilePool(tempDir);
+        final Set<BatchExecutor> running = ConcurrentHashMap.<BatchExecutor> newKeySet();
+
+        for (int i = 0; i < workers; i++) {
+            Thread worker = new Thread("Watch worker " + (i + 1)) {
+                @Override
+                public void run() {
+                    try {
+                        while (true) {
+                            String file = ready.take();
+
+                            try {
+                                processNewFile(settings, file, optionFiles, running);
+                            } catch (RuntimeException e) {
+                                // Keep watching, the next files may be fine
+                                System.err.println("Could not process " + file + ": " + e);
+                            } finally {
+                                watcher.markDone(file);
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                    }
+                }
+            };
+
+            worker.setDaemon(true);
+            worker.start();
+        }
+
+        // Ctrl+C stops the running mkvpropedit processes too
+        Runtime.getRuntime().addShutdownHook(new Thread() {
+            @Override
+            public void run() {
+                watcher.close();
+
+                for (BatchExecutor executor : running) {
+                    executor.cancel();
+                }
+
+                optionFiles.close();
+            }
+        });
+
+        System.out.println("Watching " + folders.size() + " folder(s) for new files" + (dryRun ? " (dry run)" : "")
+                + ", press Ctrl+C to stop.\n");
+
+        try {
+            watcher.run();
+        } catch (InterruptedException e) {
+        }
+
+        return BatchExecutor.EXIT_OK;
+    }
+
+    /**
+     * Runs the settings on a file found in watch mode, unless the file is
+     * already correct. In a dry run, only the changes are printed.
+     */
+    private void processNewFile(JobSettings settings, String file, OptionFilePool optionFiles,
+            Set<BatchExecutor> running) throws InterruptedException {
+        List<MkvCommand> commands = settings.buildCommands(Collections.singletonList(file));
+
+        if (commands.isEmpty()) {
+            return;
+        }
+
+        MkvCommand cmd = commands.get(0);
+        MatroskaInfo info = null;
+
+        try {
+            info = metadataCache.read(new File(file));
+        } catch (IOException e) {
+        }
+
+        if (info != null && EditDiff.isNoOp(info, cmd)) {
+            System.out.println("Nothing to change: " + file + "\n");
+            return;
+        }
+
+        if (dryRun) {
+            printChanges(file, info, info == null ? null : EditDiff.compute(info, cmd));
+            return;
+        }
+
+        BatchExecutor.Job job = new BatchExecutor.Job(0, cmd);
+        BatchExecutor fileExecutor = new BatchExecutor(exe, Collections.singletonList(job), 1, optionFiles,
+                new BatchExecutor.Listener() {
+                    @Override
+                    public void jobFinished(BatchExecutor.Job job) {
+                        invalidateHeader(job);
+                        printJob(job, true);
+                    }
+                });
+
+        fileExecutor.setRetries(retries, retryDelay * 1000L);
+        fileExecutor.setTimeout(timeout * 1000L);
+        fileExecutor.setNativeEdits(nativeEdits);
+        fileExecutor.setVerify(verify);
+
+        running.add(fileExecutor);
+
+        try {
+            fileExecutor.run();
+        } finally {
+            running.remove(fileExecutor);
+            metadataCache.save();
+        }
+
+        if (job.getExitCode() == BatchExecutor.EXIT_ERROR) {
+            System.err.println("Failed: " + job.getFile() + " (" + job.getAttempts() + " attempt(s)): "
+                    + job.getMessage());
+        }
+    }
+
+    /**
+     * Drops the cached header of a file the job changed. The modification
+     * time alone may not show it, e.g. FAT and SMB only store it to 2 s.
+     */
+    private void invalidateHeader(BatchExecutor.Job job) {
+        if (job.getExitCode() == BatchExecutor.EXIT_OK || job.getExitCode() == BatchExecutor.EXIT_WARNINGS) {
+            metadataCache.invalidate(job.getFile());
+        }
+    }
+
+    /**
+     * Prints the output of a finished job at once, so the output of jobs
+     * finishing at the same time doesn't mix.
+     */
+    private void printJob(BatchExecutor.Job job, boolean separator) {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("File: ").append(job.getFile()).append("\n");
+        sb.append("Command line: ").append(job.getCommand().toDisplayString(exe)).append("\n\n");
+        sb.append(job.getOutput());
+
+        if (separator) {
+            sb.append("--------------\n\n");
+        }
+
+        System.out.print(sb);
+        System.out.flush();
+    }
+
+    private int runCommands(List<MkvCommand> commands) {
+        List<MkvCommand> pending = new ArrayList<MkvCommand>(commands.size());
+        List<BatchExecutor.Job> jobs = new ArrayList<BatchExecutor.Job>(commands.size());
+        Map<String, MatroskaInfo> infos;
+        boolean journalOpen = false;
+        int resumed = 0;
+        int skipped = 0;
+        int heavy = 0;
+
+        try {
+            infos = readHeaders(commands);
+        } catch (InterruptedException e) {
+            return BatchExecutor.EXIT_ERROR;
+        }
+
+        try {
+            journal.open(resume);
+            journalOpen = true;
+        } catch (BatchJournal.LockedException e) {
+            System.err.println(e.getMessage());
+            return BatchExecutor.EXIT_ERROR;
+        } catch (IOException e) {
+            System.err.println("Could not open the batch journal, the batch can't be resumed: " + e.getMessage());
+        }
+
+        for (MkvCommand cmd : commands) {
+            MatroskaInfo info = infos.get(cmd.getFile());
+
+            if (resume && journal.isDone(cmd)) {
+                resumed++;
+            } else if (info != null && EditDiff.isNoOp(info, cmd)) {
+                skipped++;
+            } else {
+                pending.add(cmd);
+            }
+        }
+
+        if (resumed > 0) {
+            System.out.println("Skipped " + resumed + " file(s) already done by the previous batch.\n");
+        }
+
+        if (skipped > 0) {
+            System.out.println("Skipped " + skipped + " file(s) with nothing to change.\n");
+        }
+
+        Map<String, EditCost> costs = new HashMap<String, EditCost>();
+
+        for (MkvCommand cmd : EditCost.sort(pending, infos, costs)) {
+            BatchExecutor.Job job = new BatchExecutor.Job(jobs.size(), cmd);
+            job.setCost(costs.get(cmd.getFile()));
+            jobs.add(job);
+
+            if (job.isHeavy()) {
+                heavy++;
+            }
+        }
+
+        if (heavy > 0) {
+            System.out.println(heavy + " file(s) need header elements moved to the end of the file or write a lot"
+                    + " of data. They run last, one at a time on each disk.\n");
+        }
+
+        final int nJobs = jobs.size();
+        OptionFilePool optionFiles = new OptionFilePool(tempDir);
+
+        executor = new BatchExecutor(exe, jobs, workers, optionFiles, new BatchExecutor.Listener() {
+            @Override
+            public void jobFinished(BatchExecutor.Job job) {
+                invalidateHeader(job);
+                printJob(job, job.getIndex() < nJobs - 1);
+            }
+        });
+
+        executor.setJobsPerDevice(jobsPerDisk);
+        executor.setAdaptive(adaptive);
+        executor.setRetries(retries, retryDelay * 1000L);
+        executor.setTimeout(timeout * 1000L);
+        executor.setNativeEdits(nativeEdits);
+        executor.setVerify(verify);
+
+        if (journalOpen) {
+            executor.setJournal(journal);
+        }
+
+        // Ctrl+C stops the running mkvpropedit processes too
+        Thread shutdownHook = new Thread() {
+            @Override
+            public void run() {
+                executor.cancel();
+            }
+        };
+
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+
+        int exitStatus;
+
+        try {
+            exitStatus = executor.run();
+        } catch (InterruptedException e) {
+            exitStatus = BatchExecutor.EXIT_ERROR;
+        } finally {
+            optionFiles.close();
+            journal.close();
+            metadataCache.save();
+        }
+
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+        }
+
+        int nOk = executor.countJobs(BatchExecutor.EXIT_OK);
+        int nWarnings = executor.countJobs(BatchExecutor.EXIT_WARNINGS);
+
+        System.out.println("\n--------------\n\nFinished " + nJobs + " file(s): " + nOk + " ok, " + nWarnings
+                + " with warnings, " + (nJobs - nOk - nWarnings) + " with errors (exit code " + exitStatus
+                + ").");
+
+        if (verify) {
+            System.out.println("Checked " + executor.countJobs(BatchExecutor.Verification.PASSED) + " file(s), "
+                    + executor.countJobs(BatchExecutor.Verification.FAILED) + " without the changes, "
+                    + executor.countJobs(BatchExecutor.Verification.UNCHECKABLE) + " that can't be checked.");
+        }
+
+        for (BatchExecutor.Job job : jobs) {
+            if (job.getExitCode() == BatchExecutor.EXIT_ERROR) {
+                System.err.println("Failed: " + job.getFile() + " (" + job.getAttempts() + " attempt(s)): "
+                        + job.getMessage());
+            }
+        }
+
+        return exitStatus;
+    }
+}
@@ -44,21 +44,22 @@ import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.PrintWriter;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import javax.swing.AbstractButton;
 import javax.swing.Box;
 import javax.swing.BoxLayout;
 import javax.swing.ButtonGroup;
+import javax.swing.DefaultListCellRenderer;
 import javax.swing.DefaultComboBoxModel;
-import javax.swing.DefaultListModel;
 import javax.swing.ImageIcon;
 import javax.swing.JButton;
 import javax.swing.JCheckBox;
@@ -71,6 +72,7 @@ import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JRadioButton;
 import javax.swing.JScrollPane;
+import javax.swing.JSplitPane;
 import javax.swing.JTabbedPane;
 import javax.swing.JTable;
 import javax.swing.JTextArea;
@@ -79,18 +81,16 @@ import javax.swing.ListSelectionModel;
 import javax.swing.SwingConstants;
 import javax.swing.SwingUtilities;
 import javax.swing.SwingWorker;
+import javax.swing.Timer;
 import javax.swing.UIManager;
 import javax.swing.border.EmptyBorder;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
 import javax.swing.filechooser.FileFilter;
 import javax.swing.filechooser.FileNameExtensionFilter;
 import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableColumnModel;
 
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.IOCase;
-import org.apache.commons.io.filefilter.IOFileFilter;
-import org.apache.commons.io.filefilter.TrueFileFilter;
-import org.apache.commons.io.filefilter.WildcardFileFilter;
 import org.ini4j.Ini;
 import org.ini4j.InvalidFileFormatException;
 
@@ -100,13 +100,15 @@ public class JMkvpropedit {
     private static final int MAX_STREAMS = 200;
     private static String[] argsArray;
 
-    private Process proc = null;
-    private ProcessBuilder pb = new ProcessBuilder();
+    private final ExecutableProbe exeProbe = new ExecutableProbe();
     private SwingWorker<Void, Void> worker = null;
-    private boolean exeFound = true;
+    private BatchExecutor executor = null;
+    private OptionFilePool optionFiles = new OptionFilePool(OptionFilePool.getDefaultDir());
 
     private File iniFile = new File("JMkvpropedit.ini");
-    private static final MkvStrings mkvStrings = new MkvStrings();
+    private MetadataCache metadataCache = new MetadataCache(new File("JMkvpropedit.cache"));
+    private BatchJournal journal = new BatchJournal(new File("JMkvpropedit.journal"));
+    private static final MkvStrings mkvStrings = MkvStrings.getInstance();
 
     private JFileChooser chooser = new JFileChooser(System.getProperty("user.home")) {
         private static final long serialVersionUID = 1L;
@@ -120,7 +122,8 @@ public class JMkvpropedit {
 
         @Override
         public void approveSelection() {
-            if (!super.isMultiSelectionEnabled() || super.getSelectedFiles().length == 1) {
+            if (getDialogType() != SAVE_DIALOG
+                    && (!super.isMultiSelectionEnabled() || super.getSelectedFiles().length == 1)) {
                 if (!this.getSelectedFile().exists()) {
                     return;
                 }
@@ -135,13 +138,16 @@ public class JMkvpropedit {
     private FileFilter MATROSKA_EXT_FILTER = new FileNameExtensionFilter(
             "Matroska files (*.mkv; *.mka; *.mk3d; *.webm; *.mks)", "mkv", "mka", "mk3d", "webm", "mks");
 
-    private IOFileFilter MATROSKA_FILE_FILTER = new WildcardFileFilter(
-            new String[] { "*.mkv", "*.mka", "*.mk3d", ".webm", ".mks" }, IOCase.INSENSITIVE);
-
     private FileFilter TXT_EXT_FILTER = new FileNameExtensionFilter("Plain text files (*.txt)", "txt");
 
     private FileFilter XML_EXT_FILTER = new FileNameExtensionFilter("XML files (*.xml)", "xml");
 
+    private FileFilter PROFILE_EXT_FILTER = new FileNameExtensionFilter("JMkvpropedit profiles (*.jmkp)",
+            JobProfile.EXTENSION);
+
+    private FileFilter SETTINGS_EXT_FILTER = new FileNameExtensionFilter(
+            "JMkvpropedit profiles and settings files (*.jmkp; *.ini)", JobProfile.EXTENSION, "ini");
+
     private static final String[] COLUMNS_ATTACHMENTS_ADD = { "File", "Name", "Description", "MIME Type" };
     private static final double[] COLUMN_SIZES_ATTACHMENTS_ADD = { 0.35, 0.20, 0.25, 0.20 };
     private DefaultTableModel modelAttachmentsAdd = new DefaultTableModel(null, COLUMNS_ATTACHMENTS_ADD) {
@@ -179,42 +185,24 @@ public class JMkvpropedit {
 
     };
 
-    private String[] cmdLineGeneral = null;
-    private String[] cmdLineGeneralOpt = null;
-
-    private String[] cmdLineVideo = null;
-    private String[] cmdLineVideoOpt = null;
-    private int nVideo = 0;
-
-    private String[] cmdLineAudio = null;
-    private String[] cmdLineAudioOpt = null;
-    private int nAudio = 0;
-
-    private String[] cmdLineSubtitle = null;
-    private String[] cmdLineSubtitleOpt = null;
-    private int nSubtitle = 0;
-
-    private String cmdLineAttachmentsAdd = null;
-    private String cmdLineAttachmentsAddOpt = null;
-
-    private String cmdLineAttachmentsReplace = null;
-    private String cmdLineAttachmentsReplaceOpt = null;
-
-    private String cmdLineAttachmentsDelete = null;
-    private String cmdLineAttachmentsDeleteOpt = null;
-
-    private List<String> cmdLineBatch = null;
-    private List<String> cmdLineBatchOpt = null;
+    private List<MkvCommand> cmdLineBatch = null;
+    private final Map<String, MatroskaInfo> fileInfo = new ConcurrentHashMap<String, MatroskaInfo>();
 
     // Window controls
     private Dimension frmJMkvpropeditDim = new Dimension(0, 0);
     private JFrame frmJMkvpropedit;
     private JTabbedPane pnlTabs;
     private JButton btnProcessFiles;
+    private JButton btnResumeFiles;
+    private JButton btnRetryFailed;
     private JButton btnGenerateCmdLine;
+    private JButton btnDryRun;
+    private JButton btnCancel;
+    private JButton btnLoadProfile;
+    private JButton btnSaveProfile;
 
     // Input tab controls
-    private DefaultListModel<String> modelFiles;
+    private FileListModel modelFiles;
     private JList<String> listFiles;
     private JButton btnAddFiles;
     private JButton btnAddFolder;
@@ -224,6 +212,10 @@ public class JMkvpropedit {
     private JButton btnDownFiles;
     private JButton btnBottomFiles;
     private JButton btnClearFiles;
+    private JPanel pnlScan;
+    private JLabel lblScan;
+    private JButton btnCancelScan;
+    private FolderScanner folderScanner = null;
 
     // General tab controls
     private JCheckBox chbTitleGeneral;
@@ -251,106 +243,19 @@ public class JMkvpropedit {
     private JComboBox<String> cbVideo;
     private JButton btnAddVideo;
     private JButton btnRemoveVideo;
-    private CardLayout lytLyrdPnlVideo;
-    private JPanel lyrdPnlVideo;
-
-    private JPanel[] subPnlVideo = new JPanel[MAX_STREAMS];
-    private JCheckBox[] chbEditVideo = new JCheckBox[MAX_STREAMS];
-    private JCheckBox[] chbEnableVideo = new JCheckBox[MAX_STREAMS];
-    private JRadioButton[] rbYesEnableVideo = new JRadioButton[MAX_STREAMS];
-    private JRadioButton[] rbNoEnableVideo = new JRadioButton[MAX_STREAMS];
-    private ButtonGroup[] bgRbEnableVideo = new ButtonGroup[MAX_STREAMS];
-    private JCheckBox[] chbDefaultVideo = new JCheckBox[MAX_STREAMS];
-    private JRadioButton[] rbYesDefVideo = new JRadioButton[MAX_STREAMS];
-    private JRadioButton[] rbNoDefVideo = new JRadioButton[MAX_STREAMS];
-    private ButtonGroup[] bgRbDefVideo = new ButtonGroup[MAX_STREAMS];
-    private JCheckBox[] chbForcedVideo = new JCheckBox[MAX_STREAMS];
-    private JRadioButton[] rbYesForcedVideo = new JRadioButton[MAX_STREAMS];
-    private JRadioButton[] rbNoForcedVideo = new JRadioButton[MAX_STREAMS];
-    private ButtonGroup[] bgRbForcedVideo = new ButtonGroup[MAX_STREAMS];
-    private JCheckBox[] chbNameVideo = new JCheckBox[MAX_STREAMS];
-    private JTextField[] txtNameVideo = new JTextField[MAX_STREAMS];
-    private JCheckBox[] chbNumbVideo = new JCheckBox[MAX_STREAMS];
-    private JLabel[] lblNumbStartVideo = new JLabel[MAX_STREAMS];
-    private JTextField[] txtNumbStartVideo = new JTextField[MAX_STREAMS];
-    private JLabel[] lblNumbPadVideo = new JLabel[MAX_STREAMS];
-    private JTextField[] txtNumbPadVideo = new JTextField[MAX_STREAMS];
-    private JLabel[] lblNumbExplainVideo = new JLabel[MAX_STREAMS];
-    private JCheckBox[] chbLangVideo = new JCheckBox[MAX_STREAMS];
-    private JCheckBox[] chbExtraCmdVideo = new JCheckBox[MAX_STREAMS];
-    private JTextField[] txtExtraCmdVideo = new JTextField[MAX_STREAMS];
-    @SuppressWarnings("unchecked")
-    private JComboBox<String>[] cbLangVideo = new JComboBox[MAX_STREAMS];
+    private TrackEditor editorVideo;
 
     // Audio tab controls
     private JComboBox<String> cbAudio;
     private JButton btnAddAudio;
     private JButton btnRemoveAudio;
-    private CardLayout lytLyrdPnlAudio;
-    private JPanel lyrdPnlAudio;
-
-    private JPanel[] subPnlAudio = new JPanel[MAX_STREAMS];
-    private JCheckBox[] chbEditAudio = new JCheckBox[MAX_STREAMS];
-    private JCheckBox[] chbEnableAudio = new JCheckBox[MAX_STREAMS];
-    private JRadioButton[] rbYesEnableAudio = new JRadioButton[MAX_STREAMS];
-    private JRadioButton[] rbNoEnableAudio = new JRadioButton[MAX_STREAMS];
-    private ButtonGroup[] bgRbEnableAudio = new ButtonGroup[MAX_STREAMS];
-    private JCheckBox[] chbDefaultAudio = new JCheckBox[MAX_STREAMS];
-    private JRadioButton[] rbYesDefAudio = new JRadioButton[MAX_STREAMS];
-    private JRadioButton[] rbNoDefAudio = new JRadioButton[MAX_STREAMS];
-    private ButtonGroup[] bgRbDefAudio = new ButtonGroup[MAX_STREAMS];
-    private JCheckBox[] chbForcedAudio = new JCheckBox[MAX_STREAMS];
-    private JRadioButton[] rbYesForcedAudio = new JRadioButton[MAX_STREAMS];
-    private JRadioButton[] rbNoForcedAudio = new JRadioButton[MAX_STREAMS];
-    private ButtonGroup[] bgRbForcedAudio = new ButtonGroup[MAX_STREAMS];
-    private JCheckBox[] chbNameAudio = new JCheckBox[MAX_STREAMS];
-    private JTextField[] txtNameAudio = new JTextField[MAX_STREAMS];
-    private JCheckBox[] chbNumbAudio = new JCheckBox[MAX_STREAMS];
-    private JLabel[] lblNumbStartAudio = new JLabel[MAX_STREAMS];
-    private JTextField[] txtNumbStartAudio = new JTextField[MAX_STREAMS];
-    private JLabel[] lblNumbPadAudio = new JLabel[MAX_STREAMS];
-    private JTextField[] txtNumbPadAudio = new JTextField[MAX_STREAMS];
-    private JLabel[] lblNumbExplainAudio = new JLabel[MAX_STREAMS];
-    private JCheckBox[] chbLangAudio = new JCheckBox[MAX_STREAMS];
-    private JCheckBox[] chbExtraCmdAudio = new JCheckBox[MAX_STREAMS];
-    private JTextField[] txtExtraCmdAudio = new JTextField[MAX_STREAMS];
-    @SuppressWarnings("unchecked")
-    private JComboBox<String>[] cbLangAudio = new JComboBox[MAX_STREAMS];
+    private TrackEditor editorAudio;
 
     // Subtitle tab controls
     private JComboBox<String> cbSubtitle;
     private AbstractButton btnAddSubtitle;
     private AbstractButton btnRemoveSubtitle;
-    private CardLayout lytLyrdPnlSubtitle;
-    private JPanel lyrdPnlSubtitle;
-
-    private JPanel[] subPnlSubtitle = new JPanel[MAX_STREAMS];
-    private JCheckBox[] chbEditSubtitle = new JCheckBox[MAX_STREAMS];
-    private JCheckBox[] chbEnableSubtitle = new JCheckBox[MAX_STREAMS];
-    private JRadioButton[] rbYesEnableSubtitle = new JRadioButton[MAX_STREAMS];
-    private JRadioButton[] rbNoEnableSubtitle = new JRadioButton[MAX_STREAMS];
-    private ButtonGroup[] bgRbEnableSubtitle = new ButtonGroup[MAX_STREAMS];
-    private JCheckBox[] chbDefaultSubtitle = new JCheckBox[MAX_STREAMS];
-    private JRadioButton[] rbYesDefSubtitle = new JRadioButton[MAX_STREAMS];
-    private JRadioButton[] rbNoDefSubtitle = new JRadioButton[MAX_STREAMS];
-    private ButtonGroup[] bgRbDefSubtitle = new ButtonGroup[MAX_STREAMS];
-    private JCheckBox[] chbForcedSubtitle = new JCheckBox[MAX_STREAMS];
-    private JRadioButton[] rbYesForcedSubtitle = new JRadioButton[MAX_STREAMS];
-    private JRadioButton[] rbNoForcedSubtitle = new JRadioButton[MAX_STREAMS];
-    private ButtonGroup[] bgRbForcedSubtitle = new ButtonGroup[MAX_STREAMS];
-    private JCheckBox[] chbNameSubtitle = new JCheckBox[MAX_STREAMS];
-    private JTextField[] txtNameSubtitle = new JTextField[MAX_STREAMS];
-    private JCheckBox[] chbNumbSubtitle = new JCheckBox[MAX_STREAMS];
-    private JLabel[] lblNumbStartSubtitle = new JLabel[MAX_STREAMS];
-    private JTextField[] txtNumbStartSubtitle = new JTextField[MAX_STREAMS];
-    private JLabel[] lblNumbPadSubtitle = new JLabel[MAX_STREAMS];
-    private JTextField[] txtNumbPadSubtitle = new JTextField[MAX_STREAMS];
-    private JLabel[] lblNumbExplainSubtitle = new JLabel[MAX_STREAMS];
-    private JCheckBox[] chbLangSubtitle = new JCheckBox[MAX_STREAMS];
-    private JCheckBox[] chbExtraCmdSubtitle = new JCheckBox[MAX_STREAMS];
-    private JTextField[] txtExtraCmdSubtitle = new JTextField[MAX_STREAMS];
-    @SuppressWarnings("unchecked")
-    private JComboBox<String>[] cbLangSubtitle = new JComboBox[MAX_STREAMS];
+    private TrackEditor editorSubtitle;
 
     // Attachments tab controls
     private JTabbedPane pnlAttachments;
@@ -426,9 +331,23 @@ public class JMkvpropedit {
     private JPanel pnlOptions;
     private JTextField txtMkvPropExe;
     private JCheckBox chbMkvPropExeDef;
+    private JTextField txtJobs;
+    private JTextField txtJobsPerDisk;
+    private JCheckBox chbAdaptiveJobs;
+    private JTextField txtTempDir;
+    private JTextField txtRetries;
+    private JTextField txtRetryDelay;
+    private JTextField txtTimeout;
+    private JCheckBox chbNativeEdits;
+    private JCheckBox chbVerify;
 
     // Output tab controls
+    private JLabel lblBatchStatus;
+    private Timer statusTimer;
+    private JTable tblResults;
+    private BatchResultsModel modelResults;
     private JTextArea txtOutput;
+    private OutputConsole outputConsole;
 
     /**
      * Launch the application.
@@ -481,8 +400,25 @@ public class JMkvpropedit {
         spFiles.setViewportBorder(null);
         pnlInput.add(spFiles);
 
-        modelFiles = new DefaultListModel<String>();
+        modelFiles = new FileListModel();
         listFiles = new JList<String>(modelFiles);
+        listFiles.setCellRenderer(new DefaultListCellRenderer() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                    boolean isSelected, boolean cellHasFocus) {
+                super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+
+                MatroskaInfo info = fileInfo.get(value);
+
+                if (info != null) {
+                    setText(value + "  [" + getTrackSummary(info) + "]");
+                }
+
+                return this;
+            }
+        });
         spFiles.setViewportView(listFiles);
 
         JPanel pnlListToolbar = new JPanel();
@@ -591,6 +527,18 @@ public class JMkvpropedit {
         btnClearFiles.setToolTipText("Clear file list");
         pnlListToolbar.add(btnClearFiles);
 
+        pnlScan = new JPanel();
+        pnlScan.setBorder(new EmptyBorder(5, 0, 0, 5));
+        pnlScan.setVisible(false);
+        pnlInput.add(pnlScan, BorderLayout.SOUTH);
+        pnlScan.setLayout(new BorderLayout(5, 0));
+
+        lblScan = new JLabel("Scanning folders...");
+        pnlScan.add(lblScan, BorderLayout.CENTER);
+
+        btnCancelScan = new JButton("Cancel");
+        pnlScan.add(btnCancelScan, BorderLayout.EAST);
+
         JPanel pnlGeneral = new JPanel();
         pnlGeneral.setBorder(new EmptyBorder(10, 10, 10, 10));
         pnlTabs.addTab("General", null, pnlGeneral, null);
@@ -868,14 +816,12 @@ public class JMkvpropedit {
         btnRemoveVideo.setOpaque(false);
         pnlControlsVideo.add(btnRemoveVideo);
 
-        lyrdPnlVideo = new JPanel();
-        GridBagConstraints gbc_lyrdPnlVideo = new GridBagConstraints();
-        gbc_lyrdPnlVideo.fill = GridBagConstraints.BOTH;
-        gbc_lyrdPnlVideo.gridx = 0;
-        gbc_lyrdPnlVideo.gridy = 1;
-        pnlVideo.add(lyrdPnlVideo, gbc_lyrdPnlVideo);
-        lytLyrdPnlVideo = new CardLayout(0, 0);
-        lyrdPnlVideo.setLayout(lytLyrdPnlVideo);
+        editorVideo = new TrackEditor("Video", mkvStrings);
+        GridBagConstraints gbc_editorVideo = new GridBagConstraints();
+        gbc_editorVideo.fill = GridBagConstraints.BOTH;
+        gbc_editorVideo.gridx = 0;
+        gbc_editorVideo.gridy = 1;
+        pnlVideo.add(editorVideo, gbc_editorVideo);
 
         JPanel pnlAudio = new JPanel();
         pnlAudio.setBorder(new EmptyBorder(10, 10, 10, 10));
@@ -918,14 +864,12 @@ public class JMkvpropedit {
         btnRemoveAudio.setOpaque(false);
         pnlControlsAudio.add(btnRemoveAudio);
 
-        lyrdPnlAudio = new JPanel();
-        GridBagConstraints gbc_lyrdPnlAudio = new GridBagConstraints();
-        gbc_lyrdPnlAudio.fill = GridBagConstraints.BOTH;
-        gbc_lyrdPnlAudio.gridx = 0;
-        gbc_lyrdPnlAudio.gridy = 1;
-        pnlAudio.add(lyrdPnlAudio, gbc_lyrdPnlAudio);
-        lytLyrdPnlAudio = new CardLayout(0, 0);
-        lyrdPnlAudio.setLayout(lytLyrdPnlAudio);
+        editorAudio = new TrackEditor("Audio", mkvStrings);
+        GridBagConstraints gbc_editorAudio = new GridBagConstraints();
+        gbc_editorAudio.fill = GridBagConstraints.BOTH;
+        gbc_editorAudio.gridx = 0;
+        gbc_editorAudio.gridy = 1;
+        pnlAudio.add(editorAudio, gbc_editorAudio);
 
         JPanel pnlSubtitle = new JPanel();
         pnlSubtitle.setBorder(new EmptyBorder(10, 10, 10, 10));
@@ -968,14 +912,12 @@ public class JMkvpropedit {
         btnRemoveSubtitle.setOpaque(false);
         pnlControlsSubtitle.add(btnRemoveSubtitle);
 
-        lyrdPnlSubtitle = new JPanel();
-        GridBagConstraints gbc_lyrdPnlSubtitle = new GridBagConstraints();
-        gbc_lyrdPnlSubtitle.fill = GridBagConstraints.BOTH;
-        gbc_lyrdPnlSubtitle.gridx = 0;
-        gbc_lyrdPnlSubtitle.gridy = 1;
-        pnlSubtitle.add(lyrdPnlSubtitle, gbc_lyrdPnlSubtitle);
-        lytLyrdPnlSubtitle = new CardLayout(0, 0);
-        lyrdPnlSubtitle.setLayout(lytLyrdPnlSubtitle);
+        editorSubtitle = new TrackEditor("Subtitle", mkvStrings);
+        GridBagConstraints gbc_editorSubtitle = new GridBagConstraints();
+        gbc_editorSubtitle.fill = GridBagConstraints.BOTH;
+        gbc_editorSubtitle.gridx = 0;
+        gbc_editorSubtitle.gridy = 1;
+        pnlSubtitle.add(editorSubtitle, gbc_editorSubtitle);
 
         pnlAttachments = new JTabbedPane(JTabbedPane.TOP);
         pnlTabs.addTab("Attachments", null, pnlAttachments, null);
@@ -1222,7 +1164,7 @@ public class JMkvpropedit {
         txtAttachReplaceOrig.setColumns(10);
 
         cbAttachReplaceOrig = new JComboBox<String>();
-        List<String> mimeList = mkvStrings.getMimeTypeList();
+        List<String> mimeList = new ArrayList<String>(mkvStrings.getMimeTypeList());
         mimeList.remove(0);
         cbAttachReplaceOrig.setModel(new DefaultComboBoxModel<String>(mimeList.toArray(new String[mimeList.size()])));
         cbAttachReplaceOrig.setVisible(false);
@@ -1498,9 +1440,10 @@ public class JMkvpropedit {
         pnlTabs.addTab("Options", null, pnlOptions, null);
         GridBagLayout gbl_pnlOptions = new GridBagLayout();
         gbl_pnlOptions.columnWidths = new int[] { 0, 0, 0 };
-        gbl_pnlOptions.rowHeights = new int[] { 0, 0, 0, 0 };
+        gbl_pnlOptions.rowHeights = new int[] { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0 };
         gbl_pnlOptions.columnWeights = new double[] { 0.0, 1.0, Double.MIN_VALUE };
-        gbl_pnlOptions.rowWeights = new double[] { 0.0, 0.0, 1.0, Double.MIN_VALUE };
+        gbl_pnlOptions.rowWeights = new double[] { 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 1.0,
+                Double.MIN_VALUE };
         pnlOptions.setLayout(gbl_pnlOptions);
 
         JLabel lblMkvPropExe = new JLabel("Mkvpropedit executable:");
@@ -1552,46 +1495,267 @@ public class JMkvpropedit {
         gbc_button.gridy = 0;
         pnlMkvPropExeControls.add(btnBrowseMkvPropExe, gbc_button);
 
+        JLabel lblJobs = new JLabel("Parallel jobs:");
+        GridBagConstraints gbc_lblJobs = new GridBagConstraints();
+        gbc_lblJobs.anchor = GridBagConstraints.WEST;
+        gbc_lblJobs.insets = new Insets(0, 0, 5, 5);
+        gbc_lblJobs.gridx = 0;
+        gbc_lblJobs.gridy = 2;
+        pnlOptions.add(lblJobs, gbc_lblJobs);
+
+        txtJobs = new JTextField(Integer.toString(BatchExecutor.getDefaultWorkers()));
+        txtJobs.setColumns(5);
+        GridBagConstraints gbc_txtJobs = new GridBagConstraints();
+        gbc_txtJobs.anchor = GridBagConstraints.WEST;
+        gbc_txtJobs.insets = new Insets(0, 0, 5, 0);
+        gbc_txtJobs.gridx = 1;
+        gbc_txtJobs.gridy = 2;
+        pnlOptions.add(txtJobs, gbc_txtJobs);
+
+        JLabel lblJobsPerDisk = new JLabel("Parallel jobs per disk:");
+        GridBagConstraints gbc_lblJobsPerDisk = new GridBagConstraints();
+        gbc_lblJobsPerDisk.anchor = GridBagConstraints.WEST;
+        gbc_lblJobsPerDisk.insets = new Insets(0, 0, 5, 5);
+        gbc_lblJobsPerDisk.gridx = 0;
+        gbc_lblJobsPerDisk.gridy = 3;
+        pnlOptions.add(lblJobsPerDisk, gbc_lblJobsPerDisk);
+
+        JPanel pnlJobsPerDiskControls = new JPanel();
+        GridBagConstraints gbc_pnlJobsPerDiskControls = new GridBagConstraints();
+        gbc_pnlJobsPerDiskControls.insets = new Insets(0, 0, 5, 0);
+        gbc_pnlJobsPerDiskControls.fill = GridBagConstraints.BOTH;
+        gbc_pnlJobsPerDiskControls.gridx = 1;
+        gbc_pnlJobsPerDiskControls.gridy = 3;
+        pnlOptions.add(pnlJobsPerDiskControls, gbc_pnlJobsPerDiskControls);
+        GridBagLayout gbl_pnlJobsPerDiskControls = new GridBagLayout();
+        gbl_pnlJobsPerDiskControls.columnWidths = new int[] { 0, 0, 0 };
+        gbl_pnlJobsPerDiskControls.rowHeights = new int[] { 0, 0 };
+        gbl_pnlJobsPerDiskControls.columnWeights = new double[] { 0.0, 1.0, Double.MIN_VALUE };
+        gbl_pnlJobsPerDiskControls.rowWeights = new double[] { 0.0, Double.MIN_VALUE };
+        pnlJobsPerDiskControls.setLayout(gbl_pnlJobsPerDiskControls);
+
+        txtJobsPerDisk = new JTextField(Integer.toString(BatchExecutor.DEFAULT_JOBS_PER_DEVICE));
+        txtJobsPerDisk.setColumns(5);
+        txtJobsPerDisk.setToolTipText("Use 1 for hard disks, higher values for SSDs");
+        txtJobsPerDisk.setEnabled(!BatchExecutor.DEFAULT_ADAPTIVE);
+        GridBagConstraints gbc_txtJobsPerDisk = new GridBagConstraints();
+        gbc_txtJobsPerDisk.anchor = GridBagConstraints.WEST;
+        gbc_txtJobsPerDisk.insets = new Insets(0, 0, 0, 5);
+        gbc_txtJobsPerDisk.gridx = 0;
+        gbc_txtJobsPerDisk.gridy = 0;
+        pnlJobsPerDiskControls.add(txtJobsPerDisk, gbc_txtJobsPerDisk);
+
+        chbAdaptiveJobs = new JCheckBox("Find automatically");
+        chbAdaptiveJobs.setToolTipText("Adjust the jobs per disk while the batch runs, up to the parallel jobs");
+        chbAdaptiveJobs.setSelected(BatchExecutor.DEFAULT_ADAPTIVE);
+        GridBagConstraints gbc_chbAdaptiveJobs = new GridBagConstraints();
+        gbc_chbAdaptiveJobs.anchor = GridBagConstraints.WEST;
+        gbc_chbAdaptiveJobs.gridx = 1;
+        gbc_chbAdaptiveJobs.gridy = 0;
+        pnlJobsPerDiskControls.add(chbAdaptiveJobs, gbc_chbAdaptiveJobs);
+
+        JLabel lblTempDir = new JLabel("Temporary folder:");
+        GridBagConstraints gbc_lblTempDir = new GridBagConstraints();
+        gbc_lblTempDir.anchor = GridBagConstraints.WEST;
+        gbc_lblTempDir.insets = new Insets(0, 0, 5, 5);
+        gbc_lblTempDir.gridx = 0;
+        gbc_lblTempDir.gridy = 4;
+        pnlOptions.add(lblTempDir, gbc_lblTempDir);
+
+        JPanel pnlTempDirControls = new JPanel();
+        GridBagConstraints gbc_pnlTempDirControls = new GridBagConstraints();
+        gbc_pnlTempDirControls.insets = new Insets(0, 0, 5, 0);
+        gbc_pnlTempDirControls.fill = GridBagConstraints.BOTH;
+        gbc_pnlTempDirControls.gridx = 1;
+        gbc_pnlTempDirControls.gridy = 4;
+        pnlOptions.add(pnlTempDirControls, gbc_pnlTempDirControls);
+        GridBagLayout gbl_pnlTempDirControls = new GridBagLayout();
+        gbl_pnlTempDirControls.columnWidths = new int[] { 0, 0, 0 };
+        gbl_pnlTempDirControls.rowHeights = new int[] { 0, 0 };
+        gbl_pnlTempDirControls.columnWeights = new double[] { 1.0, 0.0, Double.MIN_VALUE };
+        gbl_pnlTempDirControls.rowWeights = new double[] { 0.0, Double.MIN_VALUE };
+        pnlTempDirControls.setLayout(gbl_pnlTempDirControls);
+
+        txtTempDir = new JTextField(optionFiles.getDir().toString());
+        txtTempDir.setEditable(false);
+        txtTempDir.setColumns(10);
+        GridBagConstraints gbc_txtTempDir = new GridBagConstraints();
+        gbc_txtTempDir.insets = new Insets(0, 0, 0, 5);
+        gbc_txtTempDir.fill = GridBagConstraints.HORIZONTAL;
+        gbc_txtTempDir.gridx = 0;
+        gbc_txtTempDir.gridy = 0;
+        pnlTempDirControls.add(txtTempDir, gbc_txtTempDir);
+
+        JButton btnBrowseTempDir = new JButton("Browse...");
+        GridBagConstraints gbc_btnBrowseTempDir = new GridBagConstraints();
+        gbc_btnBrowseTempDir.gridx = 1;
+        gbc_btnBrowseTempDir.gridy = 0;
+        pnlTempDirControls.add(btnBrowseTempDir, gbc_btnBrowseTempDir);
+
+        JLabel lblRetries = new JLabel("Retries on transient errors:");
+        GridBagConstraints gbc_lblRetries = new GridBagConstraints();
+        gbc_lblRetries.anchor = GridBagConstraints.WEST;
+        gbc_lblRetries.insets = new Insets(0, 0, 5, 5);
+        gbc_lblRetries.gridx = 0;
+        gbc_lblRetries.gridy = 5;
+        pnlOptions.add(lblRetries, gbc_lblRetries);
+
+        txtRetries = new JTextField(Integer.toString(BatchExecutor.DEFAULT_RETRIES));
+        txtRetries.setColumns(5);
+        GridBagConstraints gbc_txtRetries = new GridBagConstraints();
+        gbc_txtRetries.anchor = GridBagConstraints.WEST;
+        gbc_txtRetries.insets = new Insets(0, 0, 5, 0);
+        gbc_txtRetries.gridx = 1;
+        gbc_txtRetries.gridy = 5;
+        pnlOptions.add(txtRetries, gbc_txtRetries);
+
+        JLabel lblRetryDelay = new JLabel("First retry after (seconds):");
+        GridBagConstraints gbc_lblRetryDelay = new GridBagConstraints();
+        gbc_lblRetryDelay.anchor = GridBagConstraints.WEST;
+        gbc_lblRetryDelay.insets = new Insets(0, 0, 5, 5);
+        gbc_lblRetryDelay.gridx = 0;
+        gbc_lblRetryDelay.gridy = 6;
+        pnlOptions.add(lblRetryDelay, gbc_lblRetryDelay);
+
+        txtRetryDelay = new JTextField(Integer.toString(BatchExecutor.DEFAULT_RETRY_DELAY));
+        txtRetryDelay.setColumns(5);
+        GridBagConstraints gbc_txtRetryDelay = new GridBagConstraints();
+        gbc_txtRetryDelay.anchor = GridBagConstraints.WEST;
+        gbc_txtRetryDelay.insets = new Insets(0, 0, 5, 0);
+        gbc_txtRetryDelay.gridx = 1;
+        gbc_txtRetryDelay.gridy = 6;
+        pnlOptions.add(txtRetryDelay, gbc_txtRetryDelay);
+
+        JLabel lblTimeout = new JLabel("Timeout per file (seconds):");
+        GridBagConstraints gbc_lblTimeout = new GridBagConstraints();
+        gbc_lblTimeout.anchor = GridBagConstraints.WEST;
+        gbc_lblTimeout.insets = new Insets(0, 0, 5, 5);
+        gbc_lblTimeout.gridx = 0;
+        gbc_lblTimeout.gridy = 7;
+        pnlOptions.add(lblTimeout, gbc_lblTimeout);
+
+        txtTimeout = new JTextField(Integer.toString(BatchExecutor.DEFAULT_TIMEOUT));
+        txtTimeout.setColumns(5);
+        txtTimeout.setToolTipText("0 waits as long as it takes");
+        GridBagConstraints gbc_txtTimeout = new GridBagConstraints();
+        gbc_txtTimeout.anchor = GridBagConstraints.WEST;
+        gbc_txtTimeout.insets = new Insets(0, 0, 5, 0);
+        gbc_txtTimeout.gridx = 1;
+        gbc_txtTimeout.gridy = 7;
+        pnlOptions.add(txtTimeout, gbc_txtTimeout);
+
+        chbNativeEdits = new JCheckBox("Edit flags, names and languages without mkvpropedit when possible");
+        chbNativeEdits.setToolTipText("Faster for big batches, mkvpropedit is still used when the changes don't fit");
+        GridBagConstraints gbc_chbNativeEdits = new GridBagConstraints();
+        gbc_chbNativeEdits.anchor = GridBagConstraints.WEST;
+        gbc_chbNativeEdits.gridwidth = 2;
+        gbc_chbNativeEdits.insets = new Insets(0, 0, 5, 0);
+        gbc_chbNativeEdits.gridx = 0;
+        gbc_chbNativeEdits.gridy = 8;
+        pnlOptions.add(chbNativeEdits, gbc_chbNativeEdits);
+
+        chbVerify = new JCheckBox("Check the changes after editing each file");
+        chbVerify.setToolTipText("Reads the header of each file again, files without the changes fail");
+        GridBagConstraints gbc_chbVerify = new GridBagConstraints();
+        gbc_chbVerify.anchor = GridBagConstraints.WEST;
+        gbc_chbVerify.gridwidth = 2;
+        gbc_chbVerify.insets = new Insets(0, 0, 5, 0);
+        gbc_chbVerify.gridx = 0;
+        gbc_chbVerify.gridy = 9;
+        pnlOptions.add(chbVerify, gbc_chbVerify);
+
         JPanel pnlOutput = new JPanel();
         pnlOutput.setBorder(new EmptyBorder(10, 10, 10, 10));
         pnlTabs.addTab("Output", null, pnlOutput, null);
-        pnlOutput.setLayout(new BorderLayout(0, 0));
+        pnlOutput.setLayout(new BorderLayout(0, 5));
+
+        lblBatchStatus = new JLabel(" ");
+        pnlOutput.add(lblBatchStatus, BorderLayout.NORTH);
+
+        statusTimer = new Timer(500, new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                updateBatchStatus();
+            }
+        });
+
+        JSplitPane splOutput = new JSplitPane(JSplitPane.VERTICAL_SPLIT);
+        splOutput.setResizeWeight(0.3);
+        pnlOutput.add(splOutput, BorderLayout.CENTER);
+
+        modelResults = new BatchResultsModel();
+        tblResults = new JTable(modelResults);
+        tblResults.setAutoCreateRowSorter(true);
+        tblResults.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        tblResults.setAutoResizeMode(JTable.AUTO_RESIZE_LAST_COLUMN);
+
+        JScrollPane spResults = new JScrollPane(tblResults);
+        spResults.setPreferredSize(new Dimension(0, 120));
+        splOutput.setTopComponent(spResults);
 
         JScrollPane spOutput = new JScrollPane();
-        pnlOutput.add(spOutput, BorderLayout.CENTER);
+        splOutput.setBottomComponent(spOutput);
 
         txtOutput = new JTextArea();
         txtOutput.setLineWrap(true);
         txtOutput.setEditable(false);
         spOutput.setViewportView(txtOutput);
 
+        outputConsole = new OutputConsole(txtOutput);
+        outputConsole.setLogDir(optionFiles.getDir());
+
         JPanel pnlButtons = new JPanel();
         frmJMkvpropedit.getContentPane().add(pnlButtons, BorderLayout.SOUTH);
 
         btnProcessFiles = new JButton("Process files");
         pnlButtons.add(btnProcessFiles);
 
+        btnResumeFiles = new JButton("Resume");
+        btnResumeFiles.setToolTipText("Process the files the last batch did not finish");
+        pnlButtons.add(btnResumeFiles);
+
+        btnRetryFailed = new JButton("Retry failed");
+        btnRetryFailed.setToolTipText("Process the files that failed in the last batch again");
+        btnRetryFailed.setEnabled(false);
+        pnlButtons.add(btnRetryFailed);
+
         btnGenerateCmdLine = new JButton("Generate command line");
         pnlButtons.add(btnGenerateCmdLine);
 
+        btnDryRun = new JButton("Dry run");
+        btnDryRun.setToolTipText("Show what would change in each file, without changing anything");
+        pnlButtons.add(btnDryRun);
+
+        btnCancel = new JButton("Cancel");
+        btnCancel.setEnabled(false);
+        pnlButtons.add(btnCancel);
+
+        btnLoadProfile = new JButton("Load profile...");
+        pnlButtons.add(btnLoadProfile);
+
+        btnSaveProfile = new JButton("Save profile...");
+        pnlButtons.add(btnSaveProfile);
+
         /* Start of mouse events for right-click menu */
 
-        Utils.addRCMenuMouseListener(txtTitleGeneral);
-        Utils.addRCMenuMouseListener(txtNumbStartGeneral);
-        Utils.addRCMenuMouseListener(txtNumbPadGeneral);
-        Utils.addRCMenuMouseListener(txtChapters);
-        Utils.addRCMenuMouseListener(txtTags);
-        Utils.addRCMenuMouseListener(txtExtraCmdGeneral);
-        Utils.addRCMenuMouseListener(txtMkvPropExe);
-        Utils.addRCMenuMouseListener(txtAttachAddFile);
-        Utils.addRCMenuMouseListener(txtAttachAddName);
-        Utils.addRCMenuMouseListener(txtAttachAddDesc);
-        Utils.addRCMenuMouseListener(txtAttachReplaceOrig);
-        Utils.addRCMenuMouseListener(txtAttachReplaceNew);
-        Utils.addRCMenuMouseListener(txtAttachReplaceName);
-        Utils.addRCMenuMouseListener(txtAttachReplaceDesc);
-        Utils.addRCMenuMouseListener(txtAttachDeleteValue);
-        Utils.addRCMenuMouseListener(txtOutput);
+        SwingUtils.addRCMenuMouseListener(txtTitleGeneral);
+        SwingUtils.addRCMenuMouseListener(txtNumbStartGeneral);
+        SwingUtils.addRCMenuMouseListener(txtNumbPadGeneral);
+        SwingUtils.addRCMenuMouseListener(txtChapters);
+        SwingUtils.addRCMenuMouseListener(txtTags);
+        SwingUtils.addRCMenuMouseListener(txtExtraCmdGeneral);
+        SwingUtils.addRCMenuMouseListener(txtMkvPropExe);
+        SwingUtils.addRCMenuMouseListener(txtJobs);
+        SwingUtils.addRCMenuMouseListener(txtTempDir);
+        SwingUtils.addRCMenuMouseListener(txtAttachAddFile);
+        SwingUtils.addRCMenuMouseListener(txtAttachAddName);
+        SwingUtils.addRCMenuMouseListener(txtAttachAddDesc);
+        SwingUtils.addRCMenuMouseListener(txtAttachReplaceOrig);
+        SwingUtils.addRCMenuMouseListener(txtAttachReplaceNew);
+        SwingUtils.addRCMenuMouseListener(txtAttachReplaceName);
+        SwingUtils.addRCMenuMouseListener(txtAttachReplaceDesc);
+        SwingUtils.addRCMenuMouseListener(txtAttachDeleteValue);
+        SwingUtils.addRCMenuMouseListener(txtOutput);
 
         /* End of mouse events for right-click menu */
 
@@ -1604,13 +1768,26 @@ public class JMkvpropedit {
                 // Don't allow the window to be resized to a dimension smaller than the original
                 frmJMkvpropedit.setMinimumSize(new Dimension(frmJMkvpropedit.getWidth(), frmJMkvpropedit.getHeight()));
 
+                // Find out the mkvpropedit version before it is needed
+                exeProbe.probe(txtMkvPropExe.getText());
+
                 // Center the window on the screen
                 frmJMkvpropedit.setLocationRelativeTo(null);
 
                 readIniFile();
-                addVideoTrack();
-                addAudioTrack();
-                addSubtitleTrack();
+
+                // Track panels may already have been added for the input files
+                if (editorVideo.getTrackCount() == 0) {
+                    addVideoTrack();
+                }
+
+                if (editorAudio.getTrackCount() == 0) {
+                    addAudioTrack();
+                }
+
+                if (editorSubtitle.getTrackCount() == 0) {
+                    addSubtitleTrack();
+                }
             }
 
             @Override
@@ -1627,11 +1804,21 @@ public class JMkvpropedit {
                     int choice = JOptionPane.showConfirmDialog(frmJMkvpropedit, "Do you really want to exit?", "",
                             JOptionPane.YES_NO_OPTION);
                     if (choice == JOptionPane.YES_OPTION) {
+                        if (executor != null) {
+                            executor.cancel();
+                        }
+
                         worker.cancel(true);
+                        optionFiles.close();
+                        metadataCache.save();
+                        outputConsole.close();
                         frmJMkvpropedit.dispose();
                         System.exit(0);
                     }
                 } else {
+                    optionFiles.close();
+                    metadataCache.save();
+                    outputConsole.close();
                     frmJMkvpropedit.dispose();
                     System.exit(0);
                 }
@@ -1655,13 +1842,17 @@ public class JMkvpropedit {
 
         new FileDrop(listFiles, new FileDrop.Listener() {
             public void filesDropped(File[] files) {
+                List<File> droppedFiles = new ArrayList<File>();
+
                 for (int i = 0; i < files.length; i++) {
                     if (files[i].isDirectory()) {
                         addMkvFilesFromFolder(files[i]);
                     } else {
-                        addFile(files[i], true);
+                        droppedFiles.add(files[i]);
                     }
                 }
+
+                addFiles(droppedFiles, true);
             }
         });
 
@@ -1679,15 +1870,16 @@ public class JMkvpropedit {
                 int open = chooser.showOpenDialog(frmJMkvpropedit);
 
                 if (open == JFileChooser.APPROVE_OPTION) {
+                    List<File> selectedFiles = new ArrayList<File>();
+
                     files = chooser.getSelectedFiles();
                     for (int i = 0; i < files.length; i++) {
-                        try {
-                            if (!modelFiles.contains(files[i].getCanonicalPath()) && files[i].exists()) {
-                                modelFiles.add(modelFiles.getSize(), files[i].getCanonicalPath());
-                            }
-                        } catch (IOException e1) {
+                        if (files[i].exists()) {
+                            selectedFiles.add(files[i]);
                         }
                     }
+
+                    addFiles(selectedFiles, false);
                 }
 
             }
@@ -1711,6 +1903,40 @@ public class JMkvpropedit {
             }
         });
 
+        modelFiles.addListDataListener(new ListDataListener() {
+            @Override
+            public void intervalAdded(ListDataEvent e) {
+                List<String> files = new ArrayList<String>();
+
+                for (int i = e.getIndex0(); i <= e.getIndex1(); i++) {
+                    if (!fileInfo.containsKey(modelFiles.get(i))) {
+                        files.add(modelFiles.get(i));
+                    }
+                }
+
+                if (!files.isEmpty()) {
+                    readFileInfo(files);
+                }
+            }
+
+            @Override
+            public void intervalRemoved(ListDataEvent e) {
+            }
+
+            @Override
+            public void contentsChanged(ListDataEvent e) {
+            }
+        });
+
+        btnCancelScan.addActionListener(new ActionListener() {
+            public void actionPerformed(ActionEvent e) {
+                if (folderScanner != null) {
+                    folderScanner.cancel();
+                    lblScan.setText("Cancelling folder scan...");
+                }
+            }
+        });
+
         btnRemoveFiles.addActionListener(new ActionListener() {
             public void actionPerformed(ActionEvent e) {
                 if (modelFiles.getSize() > 0) {
@@ -2018,6 +2244,91 @@ public class JMkvpropedit {
             }
         });
 
+        txtJobs.addFocusListener(new FocusAdapter() {
+            @Override
+            public void focusLost(FocusEvent e) {
+                try {
+                    if (Integer.parseInt(txtJobs.getText()) < 1) {
+                        txtJobs.setText(Integer.toString(BatchExecutor.getDefaultWorkers()));
+                    }
+                } catch (NumberFormatException e1) {
+                    txtJobs.setText(Integer.toString(BatchExecutor.getDefaultWorkers()));
+                }
+
+                saveIniValue("jobs", txtJobs.getText());
+            }
+        });
+
+        txtJobsPerDisk.addFocusListener(new FocusAdapter() {
+            @Override
+            public void focusLost(FocusEvent e) {
+                txtJobsPerDisk.setText(Integer.toString(getJobsPerDisk()));
+                saveIniValue("jobs-per-disk", txtJobsPerDisk.getText());
+            }
+        });
+
+        chbAdaptiveJobs.addActionListener(new ActionListener() {
+            public void actionPerformed(ActionEvent e) {
+                txtJobsPerDisk.setEnabled(!chbAdaptiveJobs.isSelected());
+                saveIniValue("adaptive-jobs", Boolean.toString(chbAdaptiveJobs.isSelected()));
+            }
+        });
+
+        txtRetries.addFocusListener(new FocusAdapter() {
+            @Override
+            public void focusLost(FocusEvent e) {
+                txtRetries.setText(Integer.toString(getRetries()));
+                saveIniValue("retries", txtRetries.getText());
+            }
+        });
+
+        txtRetryDelay.addFocusListener(new FocusAdapter() {
+            @Override
+            public void focusLost(FocusEvent e) {
+                txtRetryDelay.setText(Integer.toString(getRetryDelay()));
+                saveIniValue("retry-delay", txtRetryDelay.getText());
+            }
+        });
+
+        txtTimeout.addFocusListener(new FocusAdapter() {
+            @Override
+            public void focusLost(FocusEvent e) {
+                txtTimeout.setText(Integer.toString(getTimeout()));
+                saveIniValue("timeout", txtTimeout.getText());
+            }
+        });
+
+        chbNativeEdits.addActionListener(new ActionListener() {
+            public void actionPerformed(ActionEvent e) {
+                saveIniValue("native-edits", Boolean.toString(chbNativeEdits.isSelected()));
+            }
+        });
+
+        chbVerify.addActionListener(new ActionListener() {
+            public void actionPerformed(ActionEvent e) {
+                saveIniValue("verify", Boolean.toString(chbVerify.isSelected()));
+            }
+        });
+
+        btnBrowseTempDir.addActionListener(new ActionListener() {
+            public void actionPerformed(ActionEvent e) {
+                chooser.setFileSelectionMode(JFileChooser.DIRECTORIES_ONLY);
+                chooser.setDialogTitle("Select folder for temporary files");
+                chooser.setMultiSelectionEnabled(false);
+                chooser.setAcceptAllFileFilterUsed(false);
+                chooser.resetChoosableFileFilters();
+
+                int open = chooser.showOpenDialog(frmJMkvpropedit);
+
+                if (open == JFileChooser.APPROVE_OPTION) {
+                    if (chooser.getSelectedFile().isDirectory()) {
+                        setTempDir(chooser.getSelectedFile());
+                        saveIniValue("tempdir", chooser.getSelectedFile().toString());
+                    }
+                }
+            }
+        });
+
         btnBrowseMkvPropExe.addActionListener(new ActionListener() {
             public void actionPerformed(ActionEvent e) {
                 chooser.setFileSelectionMode(JFileChooser.FILES_ONLY);
@@ -2042,7 +2353,7 @@ public class JMkvpropedit {
 
         cbVideo.addActionListener(new ActionListener() {
             public void actionPerformed(ActionEvent e) {
-                lytLyrdPnlVideo.show(lyrdPnlVideo, "subPnlVideo[" + cbVideo.getSelectedIndex() + "]");
+                editorVideo.showTrack(cbVideo.getSelectedIndex());
             }
         });
 
@@ -2068,8 +2379,7 @@ public class JMkvpropedit {
                     int idx = cbVideo.getItemCount() - 1;
 
                     cbVideo.removeItemAt(idx);
-                    lyrdPnlVideo.remove(idx);
-                    nVideo--;
+                    editorVideo.removeLastTrack();
                 }
 
                 if (cbVideo.getItemCount() < MAX_STREAMS && !btnAddVideo.isEnabled()) {
@@ -2086,7 +2396,7 @@ public class JMkvpropedit {
 
         cbAudio.addActionListener(new ActionListener() {
             public void actionPerformed(ActionEvent e) {
-                lytLyrdPnlAudio.show(lyrdPnlAudio, "subPnlAudio[" + cbAudio.getSelectedIndex() + "]");
+                editorAudio.showTrack(cbAudio.getSelectedIndex());
             }
         });
 
@@ -2112,8 +2422,7 @@ public class JMkvpropedit {
                     int idx = cbAudio.getItemCount() - 1;
 
                     cbAudio.removeItemAt(idx);
-                    lyrdPnlAudio.remove(idx);
-                    nAudio--;
+                    editorAudio.removeLastTrack();
                 }
 
                 if (cbAudio.getItemCount() < MAX_STREAMS && !btnAddAudio.isEnabled()) {
@@ -2130,7 +2439,7 @@ public class JMkvpropedit {
 
         cbSubtitle.addActionListener(new ActionListener() {
             public void actionPerformed(ActionEvent e) {
-                lytLyrdPnlSubtitle.show(lyrdPnlSubtitle, "subPnlSubtitle[" + cbSubtitle.getSelectedIndex() + "]");
+                editorSubtitle.showTrack(cbSubtitle.getSelectedIndex());
             }
         });
 
@@ -2156,8 +2465,7 @@ public class JMkvpropedit {
                     int idx = cbSubtitle.getItemCount() - 1;
 
                     cbSubtitle.removeItemAt(idx);
-                    lyrdPnlSubtitle.remove(idx);
-                    nSubtitle--;
+                    editorSubtitle.removeLastTrack();
                 }
 
                 if (cbSubtitle.getItemCount() < MAX_STREAMS && !btnAddSubtitle.isEnabled()) {
@@ -2250,7 +2558,7 @@ public class JMkvpropedit {
 
                 modelAttachmentsAdd.addRow(rowData);
 
-                Utils.adjustColumnPreferredWidths(tblAttachAdd);
+                SwingUtils.adjustColumnPreferredWidths(tblAttachAdd);
                 tblAttachAdd.revalidate();
 
                 txtAttachAddFile.setText("");
@@ -2281,7 +2589,7 @@ public class JMkvpropedit {
                 modelAttachmentsAdd.setValueAt(desc, selection, 2);
                 modelAttachmentsAdd.setValueAt(mime, selection, 3);
 
-                Utils.adjustColumnPreferredWidths(tblAttachAdd);
+                SwingUtils.adjustColumnPreferredWidths(tblAttachAdd);
                 tblAttachAdd.revalidate();
 
                 txtAttachAddFile.setText("");
@@ -2489,7 +2797,7 @@ public class JMkvpropedit {
 
                 modelAttachmentsReplace.addRow(rowData);
 
-                Utils.adjustColumnPreferredWidths(tblAttachReplace);
+                SwingUtils.adjustColumnPreferredWidths(tblAttachReplace);
                 tblAttachReplace.revalidate();
 
                 txtAttachReplaceOrig.setText("");
@@ -2536,7 +2844,7 @@ public class JMkvpropedit {
                 modelAttachmentsReplace.setValueAt(txtAttachReplaceDesc.getText(), selection, 4);
                 modelAttachmentsReplace.setValueAt(cbAttachReplaceMime.getSelectedItem().toString(), selection, 5);
 
-                Utils.adjustColumnPreferredWidths(tblAttachReplace);
+                SwingUtils.adjustColumnPreferredWidths(tblAttachReplace);
                 tblAttachReplace.revalidate();
 
                 tblAttachReplace.setEnabled(true);
@@ -2710,7 +3018,7 @@ public class JMkvpropedit {
 
                 modelAttachmentsDelete.addRow(rowData);
 
-                Utils.adjustColumnPreferredWidths(tblAttachDelete);
+                SwingUtils.adjustColumnPreferredWidths(tblAttachDelete);
                 tblAttachDelete.revalidate();
 
                 rbAttachDeleteName.setSelected(true);
@@ -2749,7 +3057,7 @@ public class JMkvpropedit {
                 modelAttachmentsDelete.setValueAt(type, selection, 0);
                 modelAttachmentsDelete.setValueAt(value, selection, 1);
 
-                Utils.adjustColumnPreferredWidths(tblAttachDelete);
+                SwingUtils.adjustColumnPreferredWidths(tblAttachDelete);
                 tblAttachDelete.revalidate();
 
                 tblAttachDelete.setEnabled(true);
@@ -2805,27 +3113,29 @@ public class JMkvpropedit {
 
         btnProcessFiles.addActionListener(new ActionListener() {
             public void actionPerformed(ActionEvent e) {
-                if (modelFiles.getSize() == 0) {
-                    JOptionPane.showMessageDialog(frmJMkvpropedit, "The file list is empty!", "Empty list",
-                            JOptionPane.ERROR_MESSAGE);
-                } else {
-                    setCmdLine();
+                processFiles(false);
+            }
+        });
 
-                    if (cmdLineBatchOpt.size() == 0) {
-                        JOptionPane.showMessageDialog(frmJMkvpropedit, "Nothing to do!", "",
-                                JOptionPane.INFORMATION_MESSAGE);
-                    } else {
-                        if (isExecutableInPath(txtMkvPropExe.getText())) {
-                            executeBatch();
-                        } else {
-                            JOptionPane.showMessageDialog(frmJMkvpropedit, "Mkvpropedit executable not found!"
-                                    + "\nPlease make sure it is installed and included in the system path.\n"
-                                    + "Alternatively, you can manually set the path or copy its executable to the working folder.",
-                                    "", JOptionPane.ERROR_MESSAGE);
-                        }
-                    }
+        btnResumeFiles.addActionListener(new ActionListener() {
+            public void actionPerformed(ActionEvent e) {
+                processFiles(true);
+            }
+        });
+
+        btnRetryFailed.addActionListener(new ActionListener() {
+            public void actionPerformed(ActionEvent e) {
+                retryFailed();
+            }
+        });
+
+        btnCancel.addActionListener(new ActionListener() {
+            public void actionPerformed(ActionEvent e) {
+                if (executor != null) {
+                    executor.cancel();
                 }
 
+                btnCancel.setEnabled(false);
             }
         });
 
@@ -2841,11 +3151,11 @@ public class JMkvpropedit {
                         JOptionPane.showMessageDialog(frmJMkvpropedit, "Nothing to do!", "",
                                 JOptionPane.INFORMATION_MESSAGE);
                     } else {
-                        txtOutput.setText("");
+                        outputConsole.clear();
 
                         if (cmdLineBatch.size() > 0) {
-                            for (int i = 0; i < modelFiles.size(); i++) {
-                                txtOutput.append(cmdLineBatch.get(i) + "\n");
+                            for (int i = 0; i < cmdLineBatch.size(); i++) {
+                                outputConsole.append(cmdLineBatch.get(i).toDisplayString(txtMkvPropExe.getText()) + "\n");
                             }
 
                             pnlTabs.setSelectedIndex(pnlTabs.getTabCount() - 1);
@@ -2854,1900 +3164,705 @@ public class JMkvpropedit {
                 }
             }
         });
-    }
-
-    /* Start of track addition methods */
-
-    private void addVideoTrack() {
-        if (nVideo < MAX_STREAMS) {
-            subPnlVideo[nVideo] = new JPanel();
-            lyrdPnlVideo.add(subPnlVideo[nVideo], "subPnlVideo[" + nVideo + "]");
-            GridBagLayout gbl_subPnlVideo = new GridBagLayout();
-            gbl_subPnlVideo.columnWidths = new int[] { 0, 0, 0 };
-            gbl_subPnlVideo.rowHeights = new int[] { 0, 0, 0, 0, 0, 0, 0, 0, 0 };
-            gbl_subPnlVideo.columnWeights = new double[] { 0.0, 1.0, Double.MIN_VALUE };
-            gbl_subPnlVideo.rowWeights = new double[] { 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, Double.MIN_VALUE };
-            subPnlVideo[nVideo].setLayout(gbl_subPnlVideo);
-
-            chbEditVideo[nVideo] = new JCheckBox("Edit this track:");
-            GridBagConstraints gbc_chbEditVideo = new GridBagConstraints();
-            gbc_chbEditVideo.insets = new Insets(0, 0, 10, 5);
-            gbc_chbEditVideo.anchor = GridBagConstraints.WEST;
-            gbc_chbEditVideo.gridx = 0;
-            gbc_chbEditVideo.gridy = 0;
-            subPnlVideo[nVideo].add(chbEditVideo[nVideo], gbc_chbEditVideo);
-            
-            chbEnableVideo[nVideo] = new JCheckBox("Enable track:");
-            chbEnableVideo[nVideo].setEnabled(false);
-            GridBagConstraints gbc_chbEnableVideo = new GridBagConstraints();
-            gbc_chbEnableVideo.insets = new Insets(0, 0, 5, 5);
-            gbc_chbEnableVideo.anchor = GridBagConstraints.WEST;
-            gbc_chbEnableVideo.gridx = 0;
-            gbc_chbEnableVideo.gridy = 1;
-            subPnlVideo[nVideo].add(chbEnableVideo[nVideo], gbc_chbEnableVideo);
-            
-            JPanel pnlEnableControlsVideo = new JPanel();
-            FlowLayout fl_pnlEnableControlsVideo = (FlowLayout) pnlEnableControlsVideo.getLayout();
-            fl_pnlEnableControlsVideo.setAlignment(FlowLayout.LEFT);
-            fl_pnlEnableControlsVideo.setVgap(0);
-            GridBagConstraints gbc_pnlEnableControlsVideo = new GridBagConstraints();
-            gbc_pnlEnableControlsVideo.insets = new Insets(0, 0, 5, 0);
-            gbc_pnlEnableControlsVideo.fill = GridBagConstraints.HORIZONTAL;
-            gbc_pnlEnableControlsVideo.gridx = 1;
-            gbc_pnlEnableControlsVideo.gridy = 1;
-            subPnlVideo[nVideo].add(pnlEnableControlsVideo, gbc_pnlEnableControlsVideo);
-
-            rbYesEnableVideo[nVideo] = new JRadioButton("Yes");
-            rbYesEnableVideo[nVideo].setEnabled(false);
-            rbYesEnableVideo[nVideo].setSelected(true);
-            pnlEnableControlsVideo.add(rbYesEnableVideo[nVideo]);
-
-            rbNoEnableVideo[nVideo] = new JRadioButton("No");
-            rbNoEnableVideo[nVideo].setEnabled(false);
-            pnlEnableControlsVideo.add(rbNoEnableVideo[nVideo]);
-
-            bgRbEnableVideo[nVideo] = new ButtonGroup();
-            bgRbEnableVideo[nVideo].add(rbYesEnableVideo[nVideo]);
-            bgRbEnableVideo[nVideo].add(rbNoEnableVideo[nVideo]);
-
-            chbDefaultVideo[nVideo] = new JCheckBox("Default track:");
-            chbDefaultVideo[nVideo].setEnabled(false);
-            GridBagConstraints gbc_chbDefaultVideo = new GridBagConstraints();
-            gbc_chbDefaultVideo.insets = new Insets(0, 0, 5, 5);
-            gbc_chbDefaultVideo.anchor = GridBagConstraints.WEST;
-            gbc_chbDefaultVideo.gridx = 0;
-            gbc_chbDefaultVideo.gridy = 2;
-            subPnlVideo[nVideo].add(chbDefaultVideo[nVideo], gbc_chbDefaultVideo);
-
-            JPanel pnlDefControlsVideo = new JPanel();
-            FlowLayout fl_pnlDefControlsVideo = (FlowLayout) pnlDefControlsVideo.getLayout();
-            fl_pnlDefControlsVideo.setAlignment(FlowLayout.LEFT);
-            fl_pnlDefControlsVideo.setVgap(0);
-            GridBagConstraints gbc_pnlDefControlsVideo = new GridBagConstraints();
-            gbc_pnlDefControlsVideo.insets = new Insets(0, 0, 5, 0);
-            gbc_pnlDefControlsVideo.fill = GridBagConstraints.HORIZONTAL;
-            gbc_pnlDefControlsVideo.gridx = 1;
-            gbc_pnlDefControlsVideo.gridy = 2;
-            subPnlVideo[nVideo].add(pnlDefControlsVideo, gbc_pnlDefControlsVideo);
-
-            rbYesDefVideo[nVideo] = new JRadioButton("Yes");
-            rbYesDefVideo[nVideo].setEnabled(false);
-            rbYesDefVideo[nVideo].setSelected(true);
-            pnlDefControlsVideo.add(rbYesDefVideo[nVideo]);
-
-            rbNoDefVideo[nVideo] = new JRadioButton("No");
-            rbNoDefVideo[nVideo].setEnabled(false);
-            pnlDefControlsVideo.add(rbNoDefVideo[nVideo]);
-
-            bgRbDefVideo[nVideo] = new ButtonGroup();
-            bgRbDefVideo[nVideo].add(rbYesDefVideo[nVideo]);
-            bgRbDefVideo[nVideo].add(rbNoDefVideo[nVideo]);
-
-            chbForcedVideo[nVideo] = new JCheckBox("Forced track:");
-            chbForcedVideo[nVideo].setEnabled(false);
-            GridBagConstraints gbc_chbForcedVideo = new GridBagConstraints();
-            gbc_chbForcedVideo.insets = new Insets(0, 0, 5, 5);
-            gbc_chbForcedVideo.anchor = GridBagConstraints.WEST;
-            gbc_chbForcedVideo.gridx = 0;
-            gbc_chbForcedVideo.gridy = 3;
-            subPnlVideo[nVideo].add(chbForcedVideo[nVideo], gbc_chbForcedVideo);
-
-            JPanel pnlForControlsVideo = new JPanel();
-            FlowLayout fl_pnlForControlsVideo = (FlowLayout) pnlForControlsVideo.getLayout();
-            fl_pnlForControlsVideo.setAlignment(FlowLayout.LEFT);
-            fl_pnlForControlsVideo.setVgap(0);
-            GridBagConstraints gbc_pnlForControlsVideo = new GridBagConstraints();
-            gbc_pnlForControlsVideo.insets = new Insets(0, 0, 5, 0);
-            gbc_pnlForControlsVideo.fill = GridBagConstraints.HORIZONTAL;
-            gbc_pnlForControlsVideo.gridx = 1;
-            gbc_pnlForControlsVideo.gridy = 3;
-            subPnlVideo[nVideo].add(pnlForControlsVideo, gbc_pnlForControlsVideo);
-
-            rbYesForcedVideo[nVideo] = new JRadioButton("Yes");
-            rbYesForcedVideo[nVideo].setEnabled(false);
-            rbYesForcedVideo[nVideo].setSelected(true);
-            pnlForControlsVideo.add(rbYesForcedVideo[nVideo]);
-
-            rbNoForcedVideo[nVideo] = new JRadioButton("No");
-            rbNoForcedVideo[nVideo].setEnabled(false);
-            pnlForControlsVideo.add(rbNoForcedVideo[nVideo]);
-
-            bgRbForcedVideo[nVideo] = new ButtonGroup();
-            bgRbForcedVideo[nVideo].add(rbYesForcedVideo[nVideo]);
-            bgRbForcedVideo[nVideo].add(rbNoForcedVideo[nVideo]);
-
-            chbNameVideo[nVideo] = new JCheckBox("Track name:");
-            chbNameVideo[nVideo].setEnabled(false);
-            GridBagConstraints gbc_chbNameVideo = new GridBagConstraints();
-            gbc_chbNameVideo.insets = new Insets(0, 0, 5, 5);
-            gbc_chbNameVideo.anchor = GridBagConstraints.WEST;
-            gbc_chbNameVideo.gridx = 0;
-            gbc_chbNameVideo.gridy = 4;
-            subPnlVideo[nVideo].add(chbNameVideo[nVideo], gbc_chbNameVideo);
-
-            txtNameVideo[nVideo] = new JTextField();
-            txtNameVideo[nVideo].setEnabled(false);
-            GridBagConstraints gbc_txtNameVideo = new GridBagConstraints();
-            gbc_txtNameVideo.insets = new Insets(0, 0, 5, 0);
-            gbc_txtNameVideo.fill = GridBagConstraints.HORIZONTAL;
-            gbc_txtNameVideo.gridx = 1;
-            gbc_txtNameVideo.gridy = 4;
-            subPnlVideo[nVideo].add(txtNameVideo[nVideo], gbc_txtNameVideo);
-            txtNameVideo[nVideo].setColumns(10);
-
-            JPanel pnlNumbControlsVideo = new JPanel();
-            FlowLayout fl_pnlNumbControlsVideo = (FlowLayout) pnlNumbControlsVideo.getLayout();
-            fl_pnlNumbControlsVideo.setAlignment(FlowLayout.LEFT);
-            fl_pnlNumbControlsVideo.setVgap(0);
-            GridBagConstraints gbc_pnlNumbControlsVideo = new GridBagConstraints();
-            gbc_pnlNumbControlsVideo.insets = new Insets(0, 0, 5, 0);
-            gbc_pnlNumbControlsVideo.fill = GridBagConstraints.BOTH;
-            gbc_pnlNumbControlsVideo.gridx = 1;
-            gbc_pnlNumbControlsVideo.gridy = 5;
-            subPnlVideo[nVideo].add(pnlNumbControlsVideo, gbc_pnlNumbControlsVideo);
-
-            chbNumbVideo[nVideo] = new JCheckBox("Numbering:");
-            chbNumbVideo[nVideo].setEnabled(false);
-            pnlNumbControlsVideo.add(chbNumbVideo[nVideo]);
-
-            Component horizontalStrut1 = Box.createHorizontalStrut(10);
-            pnlNumbControlsVideo.add(horizontalStrut1);
-
-            lblNumbStartVideo[nVideo] = new JLabel("Start");
-            lblNumbStartVideo[nVideo].setEnabled(false);
-            pnlNumbControlsVideo.add(lblNumbStartVideo[nVideo]);
-
-            txtNumbStartVideo[nVideo] = new JTextField();
-            txtNumbStartVideo[nVideo].setText("1");
-            txtNumbStartVideo[nVideo].setEnabled(false);
-            txtNumbStartVideo[nVideo].setColumns(10);
-            pnlNumbControlsVideo.add(txtNumbStartVideo[nVideo]);
-
-            Component horizontalStrut2 = Box.createHorizontalStrut(5);
-            pnlNumbControlsVideo.add(horizontalStrut2);
-
-            lblNumbPadVideo[nVideo] = new JLabel("Padding");
-            lblNumbPadVideo[nVideo].setEnabled(false);
-            pnlNumbControlsVideo.add(lblNumbPadVideo[nVideo]);
-
-            txtNumbPadVideo[nVideo] = new JTextField();
-            txtNumbPadVideo[nVideo].setText("1");
-            txtNumbPadVideo[nVideo].setEnabled(false);
-            txtNumbPadVideo[nVideo].setColumns(10);
-            pnlNumbControlsVideo.add(txtNumbPadVideo[nVideo]);
-
-            lblNumbExplainVideo[nVideo] = new JLabel(
-                    "      To use it, add {num} to the name (e.g. \"My Video {num}\"). Use {file_name} to use the file name as the name.");
-            lblNumbExplainVideo[nVideo].setEnabled(false);
-            GridBagConstraints gbc_lblNumbExplainVideo = new GridBagConstraints();
-            gbc_lblNumbExplainVideo.insets = new Insets(0, 0, 10, 0);
-            gbc_lblNumbExplainVideo.anchor = GridBagConstraints.WEST;
-            gbc_lblNumbExplainVideo.gridx = 1;
-            gbc_lblNumbExplainVideo.gridy = 6;
-            subPnlVideo[nVideo].add(lblNumbExplainVideo[nVideo], gbc_lblNumbExplainVideo);
-
-            chbLangVideo[nVideo] = new JCheckBox("Language:");
-            chbLangVideo[nVideo].setEnabled(false);
-            GridBagConstraints gbc_chbLangVideo = new GridBagConstraints();
-            gbc_chbLangVideo.anchor = GridBagConstraints.WEST;
-            gbc_chbLangVideo.insets = new Insets(0, 0, 10, 5);
-            gbc_chbLangVideo.gridx = 0;
-            gbc_chbLangVideo.gridy = 7;
-            subPnlVideo[nVideo].add(chbLangVideo[nVideo], gbc_chbLangVideo);
-
-            cbLangVideo[nVideo] = new JComboBox<String>();
-            cbLangVideo[nVideo].setEnabled(false);
-            cbLangVideo[nVideo].setModel(new DefaultComboBoxModel<String>(mkvStrings.getLangNames()));
-            cbLangVideo[nVideo].setSelectedIndex(mkvStrings.getLangCodeList().indexOf("und"));
-            GridBagConstraints gbc_cbLangVideo = new GridBagConstraints();
-            gbc_cbLangVideo.insets = new Insets(0, 0, 10, 0);
-            gbc_cbLangVideo.anchor = GridBagConstraints.WEST;
-            gbc_cbLangVideo.gridx = 1;
-            gbc_cbLangVideo.gridy = 7;
-            subPnlVideo[nVideo].add(cbLangVideo[nVideo], gbc_cbLangVideo);
-
-            chbExtraCmdVideo[nVideo] = new JCheckBox("Extra parameters:");
-            chbExtraCmdVideo[nVideo].setEnabled(false);
-            GridBagConstraints gbc_chbExtraCmdVideo = new GridBagConstraints();
-            gbc_chbExtraCmdVideo.anchor = GridBagConstraints.WEST;
-            gbc_chbExtraCmdVideo.gridx = 0;
-            gbc_chbExtraCmdVideo.gridy = 8;
-            subPnlVideo[nVideo].add(chbExtraCmdVideo[nVideo], gbc_chbExtraCmdVideo);
-
-            txtExtraCmdVideo[nVideo] = new JTextField();
-            txtExtraCmdVideo[nVideo].setEnabled(false);
-            GridBagConstraints gbc_txtExtraCmdVideo = new GridBagConstraints();
-            gbc_txtExtraCmdVideo.fill = GridBagConstraints.HORIZONTAL;
-            gbc_txtExtraCmdVideo.gridx = 1;
-            gbc_txtExtraCmdVideo.gridy = 8;
-            subPnlVideo[nVideo].add(txtExtraCmdVideo[nVideo], gbc_txtExtraCmdVideo);
-            txtExtraCmdVideo[nVideo].setColumns(10);
-
-            /* Start of mouse events for right-click menu */
-
-            Utils.addRCMenuMouseListener(txtNameVideo[nVideo]);
-            Utils.addRCMenuMouseListener(txtNumbStartVideo[nVideo]);
-            Utils.addRCMenuMouseListener(txtNumbPadVideo[nVideo]);
-            Utils.addRCMenuMouseListener(txtExtraCmdVideo[nVideo]);
-
-            /* End of mouse events for right-click menu */
-
-            chbEditVideo[nVideo].addActionListener(new ActionListener() {
-                public void actionPerformed(ActionEvent e) {
-                    int curCbVideo = cbVideo.getSelectedIndex();
-                    boolean state = chbDefaultVideo[curCbVideo].isEnabled();
-                    
-                    chbEnableVideo[curCbVideo].setEnabled(!state);
-                    chbDefaultVideo[curCbVideo].setEnabled(!state);
-                    chbForcedVideo[curCbVideo].setEnabled(!state);
-                    chbNameVideo[curCbVideo].setEnabled(!state);
-                    chbLangVideo[curCbVideo].setEnabled(!state);
-                    chbExtraCmdVideo[curCbVideo].setEnabled(!state);
-
-                    if (txtNameVideo[curCbVideo].isEnabled() || chbNameVideo[curCbVideo].isSelected()) {
-                        txtNameVideo[curCbVideo].setEnabled(!state);
-                        chbNumbVideo[curCbVideo].setEnabled(!state);
-
-                        if (chbNumbVideo[curCbVideo].isSelected()) {
-                            lblNumbStartVideo[curCbVideo].setEnabled(!state);
-                            txtNumbStartVideo[curCbVideo].setEnabled(!state);
-                            lblNumbPadVideo[curCbVideo].setEnabled(!state);
-                            txtNumbPadVideo[curCbVideo].setEnabled(!state);
-                            lblNumbExplainVideo[curCbVideo].setEnabled(!state);
-                        }
-                    }
 
-                    if (rbNoEnableVideo[curCbVideo].isEnabled() || chbEnableVideo[curCbVideo].isSelected()) {
-                        rbNoEnableVideo[curCbVideo].setEnabled(!state);
-                        rbYesEnableVideo[curCbVideo].setEnabled(!state);
-                    }
-                    
-                    if (rbNoDefVideo[curCbVideo].isEnabled() || chbDefaultVideo[curCbVideo].isSelected()) {
-                        rbNoDefVideo[curCbVideo].setEnabled(!state);
-                        rbYesDefVideo[curCbVideo].setEnabled(!state);
-                    }
+        btnDryRun.addActionListener(new ActionListener() {
+            public void actionPerformed(ActionEvent e) {
+                dryRun();
+            }
+        });
 
-                    if (rbNoForcedVideo[curCbVideo].isEnabled() || chbForcedVideo[curCbVideo].isSelected()) {
-                        rbNoForcedVideo[curCbVideo].setEnabled(!state);
-                        rbYesForcedVideo[curCbVideo].setEnabled(!state);
-                    }
+        btnLoadProfile.addActionListener(new ActionListener() {
+            public void actionPerformed(ActionEvent e) {
+                chooser.setFileSelectionMode(JFileChooser.FILES_ONLY);
+                chooser.setDialogTitle("Load profile");
+                chooser.setMultiSelectionEnabled(false);
+                chooser.setAcceptAllFileFilterUsed(false);
+                chooser.resetChoosableFileFilters();
+                chooser.setFileFilter(SETTINGS_EXT_FILTER);
 
-                    if (cbLangVideo[curCbVideo].isEnabled() || chbLangVideo[curCbVideo].isSelected()) {
-                        cbLangVideo[curCbVideo].setEnabled(!state);
-                    }
+                int open = chooser.showOpenDialog(frmJMkvpropedit);
 
-                    if (txtExtraCmdVideo[curCbVideo].isEnabled() || chbExtraCmdVideo[curCbVideo].isSelected()) {
-                        chbExtraCmdVideo[curCbVideo].setEnabled(!state);
-                        txtExtraCmdVideo[curCbVideo].setEnabled(!state);
+                if (open == JFileChooser.APPROVE_OPTION) {
+                    try {
+                        setJobSettings(SettingsFile.read(chooser.getSelectedFile()));
+                    } catch (IOException e1) {
+                        JOptionPane.showMessageDialog(frmJMkvpropedit,
+                                "Could not load the profile!\n" + e1.getMessage(), "", JOptionPane.ERROR_MESSAGE);
                     }
                 }
-            });
-
-            chbEnableVideo[nVideo].addActionListener(new ActionListener() {
-                public void actionPerformed(ActionEvent e) {
-                    int curCbVideo = cbVideo.getSelectedIndex();
-                    boolean state = rbNoEnableVideo[curCbVideo].isEnabled();
-
-                    rbNoEnableVideo[curCbVideo].setEnabled(!state);
-                    rbYesEnableVideo[curCbVideo].setEnabled(!state);
-                }
-            });
-            
-            chbDefaultVideo[nVideo].addActionListener(new ActionListener() {
-                public void actionPerformed(ActionEvent e) {
-                    int curCbVideo = cbVideo.getSelectedIndex();
-                    boolean state = rbNoDefVideo[curCbVideo].isEnabled();
-
-                    rbNoDefVideo[curCbVideo].setEnabled(!state);
-                    rbYesDefVideo[curCbVideo].setEnabled(!state);
-                }
-            });
+            }
+        });
 
-            chbForcedVideo[nVideo].addActionListener(new ActionListener() {
-                public void actionPerformed(ActionEvent e) {
-                    int curCbVideo = cbVideo.getSelectedIndex();
-                    boolean state = rbNoForcedVideo[curCbVideo].isEnabled();
+        btnSaveProfile.addActionListener(new ActionListener() {
+            public void actionPerformed(ActionEvent e) {
+                chooser.setFileSelectionMode(JFileChooser.FILES_ONLY);
+                chooser.setDialogTitle("Save profile");
+                chooser.setMultiSelectionEnabled(false);
+                chooser.setAcceptAllFileFilterUsed(false);
+                chooser.resetChoosableFileFilters();
+                chooser.setFileFilter(PROFILE_EXT_FILTER);
 
-                    rbNoForcedVideo[curCbVideo].setEnabled(!state);
-                    rbYesForcedVideo[curCbVideo].setEnabled(!state);
-                }
-            });
-
-            chbNameVideo[nVideo].addActionListener(new ActionListener() {
-                public void actionPerformed(ActionEvent e) {
-                    int curCbVideo = cbVideo.getSelectedIndex();
-                    boolean state = chbNumbVideo[curCbVideo].isEnabled();
-
-                    chbNumbVideo[curCbVideo].setEnabled(!state);
-                    txtNameVideo[curCbVideo].setEnabled(!state);
-
-                    if (chbNumbVideo[curCbVideo].isSelected()) {
-                        lblNumbStartVideo[curCbVideo].setEnabled(!state);
-                        txtNumbStartVideo[curCbVideo].setEnabled(!state);
-                        lblNumbPadVideo[curCbVideo].setEnabled(!state);
-                        txtNumbPadVideo[curCbVideo].setEnabled(!state);
-                        lblNumbExplainVideo[curCbVideo].setEnabled(!state);
-                    }
-                }
-            });
-
-            chbNumbVideo[nVideo].addActionListener(new ActionListener() {
-                public void actionPerformed(ActionEvent e) {
-                    int curCbVideo = cbVideo.getSelectedIndex();
-                    boolean state = txtNumbStartVideo[curCbVideo].isEnabled();
-
-                    lblNumbStartVideo[curCbVideo].setEnabled(!state);
-                    txtNumbStartVideo[curCbVideo].setEnabled(!state);
-                    lblNumbPadVideo[curCbVideo].setEnabled(!state);
-                    txtNumbPadVideo[curCbVideo].setEnabled(!state);
-                    lblNumbExplainVideo[curCbVideo].setEnabled(!state);
-                }
-            });
+                int save = chooser.showSaveDialog(frmJMkvpropedit);
 
-            txtNumbStartVideo[nVideo].addFocusListener(new FocusAdapter() {
-                @Override
-                public void focusLost(FocusEvent e) {
-                    int curCbVideo = cbVideo.getSelectedIndex();
+                if (save == JFileChooser.APPROVE_OPTION) {
+                    File file = chooser.getSelectedFile();
 
-                    try {
-                        if (Integer.parseInt(txtNumbStartVideo[curCbVideo].getText()) < 0) {
-                            txtNumbStartVideo[curCbVideo].setText("1");
-                        }
-                    } catch (NumberFormatException e1) {
-                        txtNumbStartVideo[curCbVideo].setText("1");
+                    if (!file.getName().toLowerCase().endsWith("." + JobProfile.EXTENSION)) {
+                        file = new File(file.getPath() + "." + JobProfile.EXTENSION);
                     }
-                }
-            });
-
-            txtNumbPadVideo[nVideo].addFocusListener(new FocusAdapter() {
-                @Override
-                public void focusLost(FocusEvent e) {
-                    int curCbVideo = cbVideo.getSelectedIndex();
 
                     try {
-                        if (Integer.parseInt(txtNumbPadVideo[curCbVideo].getText()) < 0) {
-                            txtNumbPadVideo[curCbVideo].setText("1");
-                        }
-                    } catch (NumberFormatException e1) {
-                        txtNumbPadVideo[curCbVideo].setText("1");
+                        JobProfile.write(getJobSettings(), file);
+                    } catch (IOException e1) {
+                        JOptionPane.showMessageDialog(frmJMkvpropedit,
+                                "Could not save the profile!\n" + e1.getMessage(), "", JOptionPane.ERROR_MESSAGE);
                     }
                 }
-            });
-
-            chbLangVideo[nVideo].addActionListener(new ActionListener() {
-                public void actionPerformed(ActionEvent e) {
-                    int curCbVideo = cbVideo.getSelectedIndex();
-                    boolean state = cbLangVideo[curCbVideo].isEnabled();
-
-                    cbLangVideo[curCbVideo].setEnabled(!state);
-                }
-            });
-
-            chbExtraCmdVideo[nVideo].addActionListener(new ActionListener() {
-                public void actionPerformed(ActionEvent e) {
-                    int curCbVideo = cbVideo.getSelectedIndex();
-                    boolean state = txtExtraCmdVideo[curCbVideo].isEnabled();
+            }
+        });
+    }
 
-                    txtExtraCmdVideo[curCbVideo].setEnabled(!state);
-                }
-            });
+    /* Start of track addition methods */
 
-            cbVideo.addItem("Video Track " + (nVideo + 1));
+    private void addVideoTrack() {
+        if (editorVideo.getTrackCount() < MAX_STREAMS) {
+            editorVideo.addTrack();
+            cbVideo.addItem("Video Track " + editorVideo.getTrackCount());
         }
-
-        nVideo++;
     }
 
     private void addAudioTrack() {
-        if (nAudio < MAX_STREAMS) {
-            subPnlAudio[nAudio] = new JPanel();
-            lyrdPnlAudio.add(subPnlAudio[nAudio], "subPnlAudio[" + nAudio + "]");
-            GridBagLayout gbl_subPnlAudio = new GridBagLayout();
-            gbl_subPnlAudio.columnWidths = new int[] { 0, 0, 0 };
-            gbl_subPnlAudio.rowHeights = new int[] { 0, 0, 0, 0, 0, 0, 0, 0, 0 };
-            gbl_subPnlAudio.columnWeights = new double[] { 0.0, 1.0, Double.MIN_VALUE };
-            gbl_subPnlAudio.rowWeights = new double[] { 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, Double.MIN_VALUE };
-            subPnlAudio[nAudio].setLayout(gbl_subPnlAudio);
-
-            chbEditAudio[nAudio] = new JCheckBox("Edit this track:");
-            GridBagConstraints gbc_chbEditAudio = new GridBagConstraints();
-            gbc_chbEditAudio.insets = new Insets(0, 0, 10, 5);
-            gbc_chbEditAudio.anchor = GridBagConstraints.WEST;
-            gbc_chbEditAudio.gridx = 0;
-            gbc_chbEditAudio.gridy = 0;
-            subPnlAudio[nAudio].add(chbEditAudio[nAudio], gbc_chbEditAudio);
-
-            chbEnableAudio[nAudio] = new JCheckBox("Enable track:");
-            chbEnableAudio[nAudio].setEnabled(false);
-            GridBagConstraints gbc_chbEnableaultAudio = new GridBagConstraints();
-            gbc_chbEnableaultAudio.insets = new Insets(0, 0, 5, 5);
-            gbc_chbEnableaultAudio.anchor = GridBagConstraints.WEST;
-            gbc_chbEnableaultAudio.gridx = 0;
-            gbc_chbEnableaultAudio.gridy = 1;
-            subPnlAudio[nAudio].add(chbEnableAudio[nAudio], gbc_chbEnableaultAudio);
-
-            JPanel pnlEnableControlsAudio = new JPanel();
-            FlowLayout fl_pnlEnableControlsAudio = (FlowLayout) pnlEnableControlsAudio.getLayout();
-            fl_pnlEnableControlsAudio.setAlignment(FlowLayout.LEFT);
-            fl_pnlEnableControlsAudio.setVgap(0);
-            GridBagConstraints gbc_pnlEnableControlsAudio = new GridBagConstraints();
-            gbc_pnlEnableControlsAudio.insets = new Insets(0, 0, 5, 0);
-            gbc_pnlEnableControlsAudio.fill = GridBagConstraints.HORIZONTAL;
-            gbc_pnlEnableControlsAudio.gridx = 1;
-            gbc_pnlEnableControlsAudio.gridy = 1;
-            subPnlAudio[nAudio].add(pnlEnableControlsAudio, gbc_pnlEnableControlsAudio);
-
-            rbYesEnableAudio[nAudio] = new JRadioButton("Yes");
-            rbYesEnableAudio[nAudio].setEnabled(false);
-            rbYesEnableAudio[nAudio].setSelected(true);
-            pnlEnableControlsAudio.add(rbYesEnableAudio[nAudio]);
-
-            rbNoEnableAudio[nAudio] = new JRadioButton("No");
-            rbNoEnableAudio[nAudio].setEnabled(false);
-            pnlEnableControlsAudio.add(rbNoEnableAudio[nAudio]);
-
-            bgRbEnableAudio[nAudio] = new ButtonGroup();
-            bgRbEnableAudio[nAudio].add(rbYesEnableAudio[nAudio]);
-            bgRbEnableAudio[nAudio].add(rbNoEnableAudio[nAudio]);
-            
-            chbDefaultAudio[nAudio] = new JCheckBox("Default track:");
-            chbDefaultAudio[nAudio].setEnabled(false);
-            GridBagConstraints gbc_chbDefaultAudio = new GridBagConstraints();
-            gbc_chbDefaultAudio.insets = new Insets(0, 0, 5, 5);
-            gbc_chbDefaultAudio.anchor = GridBagConstraints.WEST;
-            gbc_chbDefaultAudio.gridx = 0;
-            gbc_chbDefaultAudio.gridy = 2;
-            subPnlAudio[nAudio].add(chbDefaultAudio[nAudio], gbc_chbDefaultAudio);
-
-            JPanel pnlDefControlsAudio = new JPanel();
-            FlowLayout fl_pnlDefControlsAudio = (FlowLayout) pnlDefControlsAudio.getLayout();
-            fl_pnlDefControlsAudio.setAlignment(FlowLayout.LEFT);
-            fl_pnlDefControlsAudio.setVgap(0);
-            GridBagConstraints gbc_pnlDefControlsAudio = new GridBagConstraints();
-            gbc_pnlDefControlsAudio.insets = new Insets(0, 0, 5, 0);
-            gbc_pnlDefControlsAudio.fill = GridBagConstraints.HORIZONTAL;
-            gbc_pnlDefControlsAudio.gridx = 1;
-            gbc_pnlDefControlsAudio.gridy = 2;
-            subPnlAudio[nAudio].add(pnlDefControlsAudio, gbc_pnlDefControlsAudio);
-
-            rbYesDefAudio[nAudio] = new JRadioButton("Yes");
-            rbYesDefAudio[nAudio].setEnabled(false);
-            rbYesDefAudio[nAudio].setSelected(true);
-            pnlDefControlsAudio.add(rbYesDefAudio[nAudio]);
-
-            rbNoDefAudio[nAudio] = new JRadioButton("No");
-            rbNoDefAudio[nAudio].setEnabled(false);
-            pnlDefControlsAudio.add(rbNoDefAudio[nAudio]);
-
-            bgRbDefAudio[nAudio] = new ButtonGroup();
-            bgRbDefAudio[nAudio].add(rbYesDefAudio[nAudio]);
-            bgRbDefAudio[nAudio].add(rbNoDefAudio[nAudio]);
-
-            chbForcedAudio[nAudio] = new JCheckBox("Forced track:");
-            chbForcedAudio[nAudio].setEnabled(false);
-            GridBagConstraints gbc_chbForcedAudio = new GridBagConstraints();
-            gbc_chbForcedAudio.insets = new Insets(0, 0, 5, 5);
-            gbc_chbForcedAudio.anchor = GridBagConstraints.WEST;
-            gbc_chbForcedAudio.gridx = 0;
-            gbc_chbForcedAudio.gridy = 3;
-            subPnlAudio[nAudio].add(chbForcedAudio[nAudio], gbc_chbForcedAudio);
-
-            JPanel pnlForControlsAudio = new JPanel();
-            FlowLayout fl_pnlForControlsAudio = (FlowLayout) pnlForControlsAudio.getLayout();
-            fl_pnlForControlsAudio.setAlignment(FlowLayout.LEFT);
-            fl_pnlForControlsAudio.setVgap(0);
-            GridBagConstraints gbc_pnlForControlsAudio = new GridBagConstraints();
-            gbc_pnlForControlsAudio.insets = new Insets(0, 0, 5, 0);
-            gbc_pnlForControlsAudio.fill = GridBagConstraints.HORIZONTAL;
-            gbc_pnlForControlsAudio.gridx = 1;
-            gbc_pnlForControlsAudio.gridy = 3;
-            subPnlAudio[nAudio].add(pnlForControlsAudio, gbc_pnlForControlsAudio);
-
-            rbYesForcedAudio[nAudio] = new JRadioButton("Yes");
-            rbYesForcedAudio[nAudio].setEnabled(false);
-            rbYesForcedAudio[nAudio].setSelected(true);
-            pnlForControlsAudio.add(rbYesForcedAudio[nAudio]);
-
-            rbNoForcedAudio[nAudio] = new JRadioButton("No");
-            rbNoForcedAudio[nAudio].setEnabled(false);
-            pnlForControlsAudio.add(rbNoForcedAudio[nAudio]);
-
-            bgRbForcedAudio[nAudio] = new ButtonGroup();
-            bgRbForcedAudio[nAudio].add(rbYesForcedAudio[nAudio]);
-            bgRbForcedAudio[nAudio].add(rbNoForcedAudio[nAudio]);
-
-            chbNameAudio[nAudio] = new JCheckBox("Track name:");
-            chbNameAudio[nAudio].setEnabled(false);
-            GridBagConstraints gbc_chbNameAudio = new GridBagConstraints();
-            gbc_chbNameAudio.insets = new Insets(0, 0, 5, 5);
-            gbc_chbNameAudio.anchor = GridBagConstraints.WEST;
-            gbc_chbNameAudio.gridx = 0;
-            gbc_chbNameAudio.gridy = 4;
-            subPnlAudio[nAudio].add(chbNameAudio[nAudio], gbc_chbNameAudio);
-
-            txtNameAudio[nAudio] = new JTextField();
-            txtNameAudio[nAudio].setEnabled(false);
-            GridBagConstraints gbc_txtNameAudio = new GridBagConstraints();
-            gbc_txtNameAudio.insets = new Insets(0, 0, 5, 0);
-            gbc_txtNameAudio.fill = GridBagConstraints.HORIZONTAL;
-            gbc_txtNameAudio.gridx = 1;
-            gbc_txtNameAudio.gridy = 4;
-            subPnlAudio[nAudio].add(txtNameAudio[nAudio], gbc_txtNameAudio);
-            txtNameAudio[nAudio].setColumns(10);
-
-            JPanel pnlNumbControlsAudio = new JPanel();
-            FlowLayout fl_pnlNumbControlsAudio = (FlowLayout) pnlNumbControlsAudio.getLayout();
-            fl_pnlNumbControlsAudio.setAlignment(FlowLayout.LEFT);
-            fl_pnlNumbControlsAudio.setVgap(0);
-            GridBagConstraints gbc_pnlNumbControlsAudio = new GridBagConstraints();
-            gbc_pnlNumbControlsAudio.insets = new Insets(0, 0, 5, 0);
-            gbc_pnlNumbControlsAudio.fill = GridBagConstraints.BOTH;
-            gbc_pnlNumbControlsAudio.gridx = 1;
-            gbc_pnlNumbControlsAudio.gridy = 5;
-            subPnlAudio[nAudio].add(pnlNumbControlsAudio, gbc_pnlNumbControlsAudio);
-
-            chbNumbAudio[nAudio] = new JCheckBox("Numbering:");
-            chbNumbAudio[nAudio].setEnabled(false);
-            pnlNumbControlsAudio.add(chbNumbAudio[nAudio]);
-
-            Component horizontalStrut1 = Box.createHorizontalStrut(10);
-            pnlNumbControlsAudio.add(horizontalStrut1);
-
-            lblNumbStartAudio[nAudio] = new JLabel("Start");
-            lblNumbStartAudio[nAudio].setEnabled(false);
-            pnlNumbControlsAudio.add(lblNumbStartAudio[nAudio]);
-
-            txtNumbStartAudio[nAudio] = new JTextField();
-            txtNumbStartAudio[nAudio].setText("1");
-            txtNumbStartAudio[nAudio].setEnabled(false);
-            txtNumbStartAudio[nAudio].setColumns(10);
-            pnlNumbControlsAudio.add(txtNumbStartAudio[nAudio]);
-
-            Component horizontalStrut2 = Box.createHorizontalStrut(5);
-            pnlNumbControlsAudio.add(horizontalStrut2);
-
-            lblNumbPadAudio[nAudio] = new JLabel("Padding");
-            lblNumbPadAudio[nAudio].setEnabled(false);
-            pnlNumbControlsAudio.add(lblNumbPadAudio[nAudio]);
-
-            txtNumbPadAudio[nAudio] = new JTextField();
-            txtNumbPadAudio[nAudio].setText("1");
-            txtNumbPadAudio[nAudio].setEnabled(false);
-            txtNumbPadAudio[nAudio].setColumns(10);
-            pnlNumbControlsAudio.add(txtNumbPadAudio[nAudio]);
-
-            lblNumbExplainAudio[nAudio] = new JLabel(
-                    "      To use it, add {num} to the name (e.g. \"My Audio {num}\"). Use {file_name} to use the file name as the name.");
-            lblNumbExplainAudio[nAudio].setEnabled(false);
-            GridBagConstraints gbc_lblNumbExplainAudio = new GridBagConstraints();
-            gbc_lblNumbExplainAudio.insets = new Insets(0, 0, 10, 0);
-            gbc_lblNumbExplainAudio.anchor = GridBagConstraints.WEST;
-            gbc_lblNumbExplainAudio.gridx = 1;
-            gbc_lblNumbExplainAudio.gridy = 6;
-            subPnlAudio[nAudio].add(lblNumbExplainAudio[nAudio], gbc_lblNumbExplainAudio);
-
-            chbLangAudio[nAudio] = new JCheckBox("Language:");
-            chbLangAudio[nAudio].setEnabled(false);
-            GridBagConstraints gbc_chbLangAudio = new GridBagConstraints();
-            gbc_chbLangAudio.anchor = GridBagConstraints.WEST;
-            gbc_chbLangAudio.insets = new Insets(0, 0, 10, 5);
-            gbc_chbLangAudio.gridx = 0;
-            gbc_chbLangAudio.gridy = 7;
-            subPnlAudio[nAudio].add(chbLangAudio[nAudio], gbc_chbLangAudio);
-
-            cbLangAudio[nAudio] = new JComboBox<String>();
-            cbLangAudio[nAudio].setEnabled(false);
-            cbLangAudio[nAudio].setModel(new DefaultComboBoxModel<String>(mkvStrings.getLangNames()));
-            cbLangAudio[nAudio].setSelectedIndex(mkvStrings.getLangCodeList().indexOf("und"));
-            GridBagConstraints gbc_cbLangAudio = new GridBagConstraints();
-            gbc_cbLangAudio.insets = new Insets(0, 0, 10, 0);
-            gbc_cbLangAudio.anchor = GridBagConstraints.WEST;
-            gbc_cbLangAudio.gridx = 1;
-            gbc_cbLangAudio.gridy = 7;
-            subPnlAudio[nAudio].add(cbLangAudio[nAudio], gbc_cbLangAudio);
-
-            chbExtraCmdAudio[nAudio] = new JCheckBox("Extra parameters:");
-            chbExtraCmdAudio[nAudio].setEnabled(false);
-            GridBagConstraints gbc_chbExtraCmdAudio = new GridBagConstraints();
-            gbc_chbExtraCmdAudio.anchor = GridBagConstraints.WEST;
-            gbc_chbExtraCmdAudio.gridx = 0;
-            gbc_chbExtraCmdAudio.gridy = 8;
-            subPnlAudio[nAudio].add(chbExtraCmdAudio[nAudio], gbc_chbExtraCmdAudio);
-
-            txtExtraCmdAudio[nAudio] = new JTextField();
-            txtExtraCmdAudio[nAudio].setEnabled(false);
-            GridBagConstraints gbc_txtExtraCmdAudio = new GridBagConstraints();
-            gbc_txtExtraCmdAudio.fill = GridBagConstraints.HORIZONTAL;
-            gbc_txtExtraCmdAudio.gridx = 1;
-            gbc_txtExtraCmdAudio.gridy = 8;
-            subPnlAudio[nAudio].add(txtExtraCmdAudio[nAudio], gbc_txtExtraCmdAudio);
-            txtExtraCmdAudio[nAudio].setColumns(10);
-
-            /* Start of mouse events for right-click menu */
-
-            Utils.addRCMenuMouseListener(txtNameAudio[nAudio]);
-            Utils.addRCMenuMouseListener(txtNumbStartAudio[nAudio]);
-            Utils.addRCMenuMouseListener(txtNumbPadAudio[nAudio]);
-            Utils.addRCMenuMouseListener(txtExtraCmdAudio[nAudio]);
-
-            /* End of mouse events for right-click menu */
-
-            chbEditAudio[nAudio].addActionListener(new ActionListener() {
-                public void actionPerformed(ActionEvent e) {
-                    int curCbAudio = cbAudio.getSelectedIndex();
-                    boolean state = chbDefaultAudio[curCbAudio].isEnabled();
-                    
-                    chbEnableAudio[curCbAudio].setEnabled(!state);
-                    chbDefaultAudio[curCbAudio].setEnabled(!state);
-                    chbForcedAudio[curCbAudio].setEnabled(!state);
-                    chbNameAudio[curCbAudio].setEnabled(!state);
-                    chbLangAudio[curCbAudio].setEnabled(!state);
-                    chbExtraCmdAudio[curCbAudio].setEnabled(!state);
-
-                    if (txtNameAudio[curCbAudio].isEnabled() || chbNameAudio[curCbAudio].isSelected()) {
-                        txtNameAudio[curCbAudio].setEnabled(!state);
-                        chbNumbAudio[curCbAudio].setEnabled(!state);
-
-                        if (chbNumbAudio[curCbAudio].isSelected()) {
-                            lblNumbStartAudio[curCbAudio].setEnabled(!state);
-                            txtNumbStartAudio[curCbAudio].setEnabled(!state);
-                            lblNumbPadAudio[curCbAudio].setEnabled(!state);
-                            txtNumbPadAudio[curCbAudio].setEnabled(!state);
-                            lblNumbExplainAudio[curCbAudio].setEnabled(!state);
-                        }
-                    }
+        if (editorAudio.getTrackCount() < MAX_STREAMS) {
+            editorAudio.addTrack();
+            cbAudio.addItem("Audio Track " + editorAudio.getTrackCount());
+        }
+    }
 
-                    if (rbNoEnableAudio[curCbAudio].isEnabled() || chbEnableAudio[curCbAudio].isSelected()) {
-                        rbNoEnableAudio[curCbAudio].setEnabled(!state);
-                        rbYesEnableAudio[curCbAudio].setEnabled(!state);
-                    }
-                    
-                    if (rbNoDefAudio[curCbAudio].isEnabled() || chbDefaultAudio[curCbAudio].isSelected()) {
-                        rbNoDefAudio[curCbAudio].setEnabled(!state);
-                        rbYesDefAudio[curCbAudio].setEnabled(!state);
-                    }
+    private void addSubtitleTrack() {
+        if (editorSubtitle.getTrackCount() < MAX_STREAMS) {
+            editorSubtitle.addTrack();
+            cbSubtitle.addItem("Subtitle Track " + editorSubtitle.getTrackCount());
+        }
+    }
 
-                    if (rbNoForcedAudio[curCbAudio].isEnabled() || chbForcedAudio[curCbAudio].isSelected()) {
-                        rbNoForcedAudio[curCbAudio].setEnabled(!state);
-                        rbYesForcedAudio[curCbAudio].setEnabled(!state);
-                    }
+    /* End of track addition methods */
 
-                    if (cbLangAudio[curCbAudio].isEnabled() || chbLangAudio[curCbAudio].isSelected()) {
-                        cbLangAudio[curCbAudio].setEnabled(!state);
-                    }
+    /* Start of command line methods */
 
-                    if (txtExtraCmdAudio[curCbAudio].isEnabled() || chbExtraCmdAudio[curCbAudio].isSelected()) {
-                        chbExtraCmdAudio[curCbAudio].setEnabled(!state);
-                        txtExtraCmdAudio[curCbAudio].setEnabled(!state);
-                    }
-                }
-            });
+    private JobSettings getJobSettings() {
+        JobSettings settings = new JobSettings();
 
-            chbEnableAudio[nAudio].addActionListener(new ActionListener() {
-                public void actionPerformed(ActionEvent e) {
-                    int curCbAudio = cbAudio.getSelectedIndex();
-                    boolean state = rbNoEnableAudio[curCbAudio].isEnabled();
+        settings.setSetTitle(chbTitleGeneral.isSelected());
+        settings.setTitle(txtTitleGeneral.getText());
+        settings.setNumbering(chbNumbGeneral.isSelected());
 
-                    rbNoEnableAudio[curCbAudio].setEnabled(!state);
-                    rbYesEnableAudio[curCbAudio].setEnabled(!state);
-                }
-            });
-            
-            chbDefaultAudio[nAudio].addActionListener(new ActionListener() {
-                public void actionPerformed(ActionEvent e) {
-                    int curCbAudio = cbAudio.getSelectedIndex();
-                    boolean state = rbNoDefAudio[curCbAudio].isEnabled();
-
-                    rbNoDefAudio[curCbAudio].setEnabled(!state);
-                    rbYesDefAudio[curCbAudio].setEnabled(!state);
-                }
-            });
+        if (chbNumbGeneral.isSelected()) {
+            settings.setNumbStart(Integer.parseInt(txtNumbStartGeneral.getText()));
+            settings.setNumbPad(Integer.parseInt(txtNumbPadGeneral.getText()));
+        }
 
-            chbForcedAudio[nAudio].addActionListener(new ActionListener() {
-                public void actionPerformed(ActionEvent e) {
-                    int curCbAudio = cbAudio.getSelectedIndex();
-                    boolean state = rbNoForcedAudio[curCbAudio].isEnabled();
+        settings.setSetChapters(chbChapters.isSelected());
+        settings.setChaptersSource(cbChapters.getSelectedIndex());
+        settings.setChapters(txtChapters.getText());
+        settings.setChaptersExt((String) cbExtChapters.getSelectedItem());
+        settings.setSetTags(chbTags.isSelected());
+        settings.setTagsSource(cbTags.getSelectedIndex());
+        settings.setTags(txtTags.getText());
+        settings.setTagsExt((String) cbExtTags.getSelectedItem());
+        settings.setSetExtra(chbExtraCmdGeneral.isSelected());
+        settings.setExtra(txtExtraCmdGeneral.getText());
+
+        settings.getVideoTracks().addAll(editorVideo.getTracks());
+        settings.getAudioTracks().addAll(editorAudio.getTracks());
+        settings.getSubtitleTracks().addAll(editorSubtitle.getTracks());
 
-                    rbNoForcedAudio[curCbAudio].setEnabled(!state);
-                    rbYesForcedAudio[curCbAudio].setEnabled(!state);
-                }
-            });
-
-            chbNameAudio[nAudio].addActionListener(new ActionListener() {
-                public void actionPerformed(ActionEvent e) {
-                    int curCbAudio = cbAudio.getSelectedIndex();
-                    boolean state = chbNumbAudio[curCbAudio].isEnabled();
-
-                    chbNumbAudio[curCbAudio].setEnabled(!state);
-                    txtNameAudio[curCbAudio].setEnabled(!state);
-
-                    if (chbNumbAudio[curCbAudio].isSelected()) {
-                        lblNumbStartAudio[curCbAudio].setEnabled(!state);
-                        txtNumbStartAudio[curCbAudio].setEnabled(!state);
-                        lblNumbPadAudio[curCbAudio].setEnabled(!state);
-                        txtNumbPadAudio[curCbAudio].setEnabled(!state);
-                        lblNumbExplainAudio[curCbAudio].setEnabled(!state);
-                    }
-                }
-            });
-
-            chbNumbAudio[nAudio].addActionListener(new ActionListener() {
-                public void actionPerformed(ActionEvent e) {
-                    int curCbAudio = cbAudio.getSelectedIndex();
-                    boolean state = txtNumbStartAudio[curCbAudio].isEnabled();
-
-                    lblNumbStartAudio[curCbAudio].setEnabled(!state);
-                    txtNumbStartAudio[curCbAudio].setEnabled(!state);
-                    lblNumbPadAudio[curCbAudio].setEnabled(!state);
-                    txtNumbPadAudio[curCbAudio].setEnabled(!state);
-                    lblNumbExplainAudio[curCbAudio].setEnabled(!state);
-                }
-            });
+        for (int i = 0; i < modelAttachmentsAdd.getRowCount(); i++) {
+            settings.getAttachmentsAdd().add(new JobSettings.AttachmentAdd(
+                    modelAttachmentsAdd.getValueAt(i, 0).toString(),
+                    modelAttachmentsAdd.getValueAt(i, 1).toString(),
+                    modelAttachmentsAdd.getValueAt(i, 2).toString(),
+                    modelAttachmentsAdd.getValueAt(i, 3).toString()));
+        }
 
-            txtNumbStartAudio[nAudio].addFocusListener(new FocusAdapter() {
-                @Override
-                public void focusLost(FocusEvent e) {
-                    int curCbAudio = cbAudio.getSelectedIndex();
+        for (int i = 0; i < modelAttachmentsReplace.getRowCount(); i++) {
+            String type = modelAttachmentsReplace.getValueAt(i, 0).toString();
+            int select;
 
-                    try {
-                        if (Integer.parseInt(txtNumbStartAudio[curCbAudio].getText()) < 0) {
-                            txtNumbStartAudio[curCbAudio].setText("1");
-                        }
-                    } catch (NumberFormatException e1) {
-                        txtNumbStartAudio[curCbAudio].setText("1");
-                    }
-                }
-            });
+            if (type.equals(rbAttachReplaceName.getText())) {
+                select = JobSettings.SELECT_NAME;
+            } else if (type.equals(rbAttachReplaceID.getText())) {
+                select = JobSettings.SELECT_ID;
+            } else {
+                select = JobSettings.SELECT_MIME_TYPE;
+            }
 
-            txtNumbPadAudio[nAudio].addFocusListener(new FocusAdapter() {
-                @Override
-                public void focusLost(FocusEvent e) {
-                    int curCbAudio = cbAudio.getSelectedIndex();
+            settings.getAttachmentsReplace().add(new JobSettings.AttachmentReplace(select,
+                    modelAttachmentsReplace.getValueAt(i, 1).toString(),
+                    modelAttachmentsReplace.getValueAt(i, 2).toString(),
+                    modelAttachmentsReplace.getValueAt(i, 3).toString(),
+                    modelAttachmentsReplace.getValueAt(i, 4).toString(),
+                    modelAttachmentsReplace.getValueAt(i, 5).toString()));
+        }
 
-                    try {
-                        if (Integer.parseInt(txtNumbPadAudio[curCbAudio].getText()) < 0) {
-                            txtNumbPadAudio[curCbAudio].setText("1");
-                        }
-                    } catch (NumberFormatException e1) {
-                        txtNumbPadAudio[curCbAudio].setText("1");
-                    }
-                }
-            });
+        for (int i = 0; i < modelAttachmentsDelete.getRowCount(); i++) {
+            String type = modelAttachmentsDelete.getValueAt(i, 0).toString();
+            int select;
 
-            chbLangAudio[nAudio].addActionListener(new ActionListener() {
-                public void actionPerformed(ActionEvent e) {
-                    int curCbAudio = cbAudio.getSelectedIndex();
-                    boolean state = cbLangAudio[curCbAudio].isEnabled();
+            if (type.equals(rbAttachDeleteName.getText())) {
+                select = JobSettings.SELECT_NAME;
+            } else if (type.equals(rbAttachDeleteID.getText())) {
+                select = JobSettings.SELECT_ID;
+            } else {
+                select = JobSettings.SELECT_MIME_TYPE;
+            }
 
-                    cbLangAudio[curCbAudio].setEnabled(!state);
-                }
-            });
+            settings.getAttachmentsDelete().add(new JobSettings.AttachmentDelete(select,
+                    modelAttachmentsDelete.getValueAt(i, 1).toString()));
+        }
 
-            chbExtraCmdAudio[nAudio].addActionListener(new ActionListener() {
-                public void actionPerformed(ActionEvent e) {
-                    int curCbAudio = cbAudio.getSelectedIndex();
-                    boolean state = txtExtraCmdAudio[curCbAudio].isEnabled();
+        return settings;
+    }
 
-                    txtExtraCmdAudio[curCbAudio].setEnabled(!state);
-                }
-            });
+    private void setCmdLine() {
+        List<String> files = new ArrayList<String>(modelFiles.getSize());
 
-            cbAudio.addItem("Audio Track " + (nAudio + 1));
+        for (int i = 0; i < modelFiles.getSize(); i++) {
+            files.add(modelFiles.get(i));
         }
 
-        nAudio++;
+        cmdLineBatch = getJobSettings().buildCommands(files);
     }
 
-    private void addSubtitleTrack() {
-        if (nSubtitle < MAX_STREAMS) {
-            subPnlSubtitle[nSubtitle] = new JPanel();
-            lyrdPnlSubtitle.add(subPnlSubtitle[nSubtitle], "subPnlSubtitle[" + nSubtitle + "]");
-            GridBagLayout gbl_subPnlSubtitle = new GridBagLayout();
-            gbl_subPnlSubtitle.columnWidths = new int[] { 0, 0, 0 };
-            gbl_subPnlSubtitle.rowHeights = new int[] { 0, 0, 0, 0, 0, 0, 0, 0, 0 };
-            gbl_subPnlSubtitle.columnWeights = new double[] { 0.0, 1.0, Double.MIN_VALUE };
-            gbl_subPnlSubtitle.rowWeights = new double[] { 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, Double.MIN_VALUE };
-            subPnlSubtitle[nSubtitle].setLayout(gbl_subPnlSubtitle);
-
-            chbEditSubtitle[nSubtitle] = new JCheckBox("Edit this track:");
-            GridBagConstraints gbc_chbEditSubtitle = new GridBagConstraints();
-            gbc_chbEditSubtitle.insets = new Insets(0, 0, 10, 5);
-            gbc_chbEditSubtitle.anchor = GridBagConstraints.WEST;
-            gbc_chbEditSubtitle.gridx = 0;
-            gbc_chbEditSubtitle.gridy = 0;
-            subPnlSubtitle[nSubtitle].add(chbEditSubtitle[nSubtitle], gbc_chbEditSubtitle);
-
-            chbEnableSubtitle[nSubtitle] = new JCheckBox("Enable track:");
-            chbEnableSubtitle[nSubtitle].setEnabled(false);
-            GridBagConstraints gbc_chbEnableSubtitle = new GridBagConstraints();
-            gbc_chbEnableSubtitle.insets = new Insets(0, 0, 5, 5);
-            gbc_chbEnableSubtitle.anchor = GridBagConstraints.WEST;
-            gbc_chbEnableSubtitle.gridx = 0;
-            gbc_chbEnableSubtitle.gridy = 1;
-            subPnlSubtitle[nSubtitle].add(chbEnableSubtitle[nSubtitle], gbc_chbEnableSubtitle);
-
-            JPanel pnlEnableControlsSubtitle = new JPanel();
-            FlowLayout fl_pnlEnableControlsSubtitle = (FlowLayout) pnlEnableControlsSubtitle.getLayout();
-            fl_pnlEnableControlsSubtitle.setAlignment(FlowLayout.LEFT);
-            fl_pnlEnableControlsSubtitle.setVgap(0);
-            GridBagConstraints gbc_pnlEnableControlsSubtitle = new GridBagConstraints();
-            gbc_pnlEnableControlsSubtitle.insets = new Insets(0, 0, 5, 0);
-            gbc_pnlEnableControlsSubtitle.fill = GridBagConstraints.HORIZONTAL;
-            gbc_pnlEnableControlsSubtitle.gridx = 1;
-            gbc_pnlEnableControlsSubtitle.gridy = 1;
-            subPnlSubtitle[nSubtitle].add(pnlEnableControlsSubtitle, gbc_pnlEnableControlsSubtitle);
-
-            rbYesEnableSubtitle[nSubtitle] = new JRadioButton("Yes");
-            rbYesEnableSubtitle[nSubtitle].setEnabled(false);
-            rbYesEnableSubtitle[nSubtitle].setSelected(true);
-            pnlEnableControlsSubtitle.add(rbYesEnableSubtitle[nSubtitle]);
-
-            rbNoEnableSubtitle[nSubtitle] = new JRadioButton("No");
-            rbNoEnableSubtitle[nSubtitle].setEnabled(false);
-            pnlEnableControlsSubtitle.add(rbNoEnableSubtitle[nSubtitle]);
-
-            bgRbEnableSubtitle[nSubtitle] = new ButtonGroup();
-            bgRbEnableSubtitle[nSubtitle].add(rbYesEnableSubtitle[nSubtitle]);
-            bgRbEnableSubtitle[nSubtitle].add(rbNoEnableSubtitle[nSubtitle]);
-            
-            chbDefaultSubtitle[nSubtitle] = new JCheckBox("Default track:");
-            chbDefaultSubtitle[nSubtitle].setEnabled(false);
-            GridBagConstraints gbc_chbDefaultSubtitle = new GridBagConstraints();
-            gbc_chbDefaultSubtitle.insets = new Insets(0, 0, 5, 5);
-            gbc_chbDefaultSubtitle.anchor = GridBagConstraints.WEST;
-            gbc_chbDefaultSubtitle.gridx = 0;
-            gbc_chbDefaultSubtitle.gridy = 2;
-            subPnlSubtitle[nSubtitle].add(chbDefaultSubtitle[nSubtitle], gbc_chbDefaultSubtitle);
-
-            JPanel pnlDefControlsSubtitle = new JPanel();
-            FlowLayout fl_pnlDefControlsSubtitle = (FlowLayout) pnlDefControlsSubtitle.getLayout();
-            fl_pnlDefControlsSubtitle.setAlignment(FlowLayout.LEFT);
-            fl_pnlDefControlsSubtitle.setVgap(0);
-            GridBagConstraints gbc_pnlDefControlsSubtitle = new GridBagConstraints();
-            gbc_pnlDefControlsSubtitle.insets = new Insets(0, 0, 5, 0);
-            gbc_pnlDefControlsSubtitle.fill = GridBagConstraints.HORIZONTAL;
-            gbc_pnlDefControlsSubtitle.gridx = 1;
-            gbc_pnlDefControlsSubtitle.gridy = 2;
-            subPnlSubtitle[nSubtitle].add(pnlDefControlsSubtitle, gbc_pnlDefControlsSubtitle);
-
-            rbYesDefSubtitle[nSubtitle] = new JRadioButton("Yes");
-            rbYesDefSubtitle[nSubtitle].setEnabled(false);
-            rbYesDefSubtitle[nSubtitle].setSelected(true);
-            pnlDefControlsSubtitle.add(rbYesDefSubtitle[nSubtitle]);
-
-            rbNoDefSubtitle[nSubtitle] = new JRadioButton("No");
-            rbNoDefSubtitle[nSubtitle].setEnabled(false);
-            pnlDefControlsSubtitle.add(rbNoDefSubtitle[nSubtitle]);
-
-            bgRbDefSubtitle[nSubtitle] = new ButtonGroup();
-            bgRbDefSubtitle[nSubtitle].add(rbYesDefSubtitle[nSubtitle]);
-            bgRbDefSubtitle[nSubtitle].add(rbNoDefSubtitle[nSubtitle]);
-
-            chbForcedSubtitle[nSubtitle] = new JCheckBox("Forced track:");
-            chbForcedSubtitle[nSubtitle].setEnabled(false);
-            GridBagConstraints gbc_chbForcedSubtitle = new GridBagConstraints();
-            gbc_chbForcedSubtitle.insets = new Insets(0, 0, 5, 5);
-            gbc_chbForcedSubtitle.anchor = GridBagConstraints.WEST;
-            gbc_chbForcedSubtitle.gridx = 0;
-            gbc_chbForcedSubtitle.gridy = 3;
-            subPnlSubtitle[nSubtitle].add(chbForcedSubtitle[nSubtitle], gbc_chbForcedSubtitle);
-
-            JPanel pnlForControlsSubtitle = new JPanel();
-            FlowLayout fl_pnlForControlsSubtitle = (FlowLayout) pnlForControlsSubtitle.getLayout();
-            fl_pnlForControlsSubtitle.setAlignment(FlowLayout.LEFT);
-            fl_pnlForControlsSubtitle.setVgap(0);
-            GridBagConstraints gbc_pnlForControlsSubtitle = new GridBagConstraints();
-            gbc_pnlForControlsSubtitle.insets = new Insets(0, 0, 5, 0);
-            gbc_pnlForControlsSubtitle.fill = GridBagConstraints.HORIZONTAL;
-            gbc_pnlForControlsSubtitle.gridx = 1;
-            gbc_pnlForControlsSubtitle.gridy = 3;
-            subPnlSubtitle[nSubtitle].add(pnlForControlsSubtitle, gbc_pnlForControlsSubtitle);
-
-            rbYesForcedSubtitle[nSubtitle] = new JRadioButton("Yes");
-            rbYesForcedSubtitle[nSubtitle].setEnabled(false);
-            rbYesForcedSubtitle[nSubtitle].setSelected(true);
-            pnlForControlsSubtitle.add(rbYesForcedSubtitle[nSubtitle]);
-
-            rbNoForcedSubtitle[nSubtitle] = new JRadioButton("No");
-            rbNoForcedSubtitle[nSubtitle].setEnabled(false);
-            pnlForControlsSubtitle.add(rbNoForcedSubtitle[nSubtitle]);
-
-            bgRbForcedSubtitle[nSubtitle] = new ButtonGroup();
-            bgRbForcedSubtitle[nSubtitle].add(rbYesForcedSubtitle[nSubtitle]);
-            bgRbForcedSubtitle[nSubtitle].add(rbNoForcedSubtitle[nSubtitle]);
-
-            chbNameSubtitle[nSubtitle] = new JCheckBox("Track name:");
-            chbNameSubtitle[nSubtitle].setEnabled(false);
-            GridBagConstraints gbc_chbNameSubtitle = new GridBagConstraints();
-            gbc_chbNameSubtitle.insets = new Insets(0, 0, 5, 5);
-            gbc_chbNameSubtitle.anchor = GridBagConstraints.WEST;
-            gbc_chbNameSubtitle.gridx = 0;
-            gbc_chbNameSubtitle.gridy = 4;
-            subPnlSubtitle[nSubtitle].add(chbNameSubtitle[nSubtitle], gbc_chbNameSubtitle);
-
-            txtNameSubtitle[nSubtitle] = new JTextField();
-            txtNameSubtitle[nSubtitle].setEnabled(false);
-            GridBagConstraints gbc_txtNameSubtitle = new GridBagConstraints();
-            gbc_txtNameSubtitle.insets = new Insets(0, 0, 5, 0);
-            gbc_txtNameSubtitle.fill = GridBagConstraints.HORIZONTAL;
-            gbc_txtNameSubtitle.gridx = 1;
-            gbc_txtNameSubtitle.gridy = 4;
-            subPnlSubtitle[nSubtitle].add(txtNameSubtitle[nSubtitle], gbc_txtNameSubtitle);
-            txtNameSubtitle[nSubtitle].setColumns(10);
-
-            JPanel pnlNumbControlsSubtitle = new JPanel();
-            FlowLayout fl_pnlNumbControlsSubtitle = (FlowLayout) pnlNumbControlsSubtitle.getLayout();
-            fl_pnlNumbControlsSubtitle.setAlignment(FlowLayout.LEFT);
-            fl_pnlNumbControlsSubtitle.setVgap(0);
-            GridBagConstraints gbc_pnlNumbControlsSubtitle = new GridBagConstraints();
-            gbc_pnlNumbControlsSubtitle.insets = new Insets(0, 0, 5, 0);
-            gbc_pnlNumbControlsSubtitle.fill = GridBagConstraints.BOTH;
-            gbc_pnlNumbControlsSubtitle.gridx = 1;
-            gbc_pnlNumbControlsSubtitle.gridy = 5;
-            subPnlSubtitle[nSubtitle].add(pnlNumbControlsSubtitle, gbc_pnlNumbControlsSubtitle);
-
-            chbNumbSubtitle[nSubtitle] = new JCheckBox("Numbering:");
-            chbNumbSubtitle[nSubtitle].setEnabled(false);
-            pnlNumbControlsSubtitle.add(chbNumbSubtitle[nSubtitle]);
-
-            Component horizontalStrut1 = Box.createHorizontalStrut(10);
-            pnlNumbControlsSubtitle.add(horizontalStrut1);
-
-            lblNumbStartSubtitle[nSubtitle] = new JLabel("Start");
-            lblNumbStartSubtitle[nSubtitle].setEnabled(false);
-            pnlNumbControlsSubtitle.add(lblNumbStartSubtitle[nSubtitle]);
-
-            txtNumbStartSubtitle[nSubtitle] = new JTextField();
-            txtNumbStartSubtitle[nSubtitle].setText("1");
-            txtNumbStartSubtitle[nSubtitle].setEnabled(false);
-            txtNumbStartSubtitle[nSubtitle].setColumns(10);
-            pnlNumbControlsSubtitle.add(txtNumbStartSubtitle[nSubtitle]);
-
-            Component horizontalStrut2 = Box.createHorizontalStrut(5);
-            pnlNumbControlsSubtitle.add(horizontalStrut2);
-
-            lblNumbPadSubtitle[nSubtitle] = new JLabel("Padding");
-            lblNumbPadSubtitle[nSubtitle].setEnabled(false);
-            pnlNumbControlsSubtitle.add(lblNumbPadSubtitle[nSubtitle]);
-
-            txtNumbPadSubtitle[nSubtitle] = new JTextField();
-            txtNumbPadSubtitle[nSubtitle].setText("1");
-            txtNumbPadSubtitle[nSubtitle].setEnabled(false);
-            txtNumbPadSubtitle[nSubtitle].setColumns(10);
-            pnlNumbControlsSubtitle.add(txtNumbPadSubtitle[nSubtitle]);
-
-            lblNumbExplainSubtitle[nSubtitle] = new JLabel(
-                    "      To use it, add {num} to the name (e.g. \"My Subtitle {num}\"). Use {file_name} to use the file name as the name.");
-            lblNumbExplainSubtitle[nSubtitle].setEnabled(false);
-            GridBagConstraints gbc_lblNumbExplainSubtitle = new GridBagConstraints();
-            gbc_lblNumbExplainSubtitle.insets = new Insets(0, 0, 10, 0);
-            gbc_lblNumbExplainSubtitle.anchor = GridBagConstraints.WEST;
-            gbc_lblNumbExplainSubtitle.gridx = 1;
-            gbc_lblNumbExplainSubtitle.gridy = 6;
-            subPnlSubtitle[nSubtitle].add(lblNumbExplainSubtitle[nSubtitle], gbc_lblNumbExplainSubtitle);
-
-            chbLangSubtitle[nSubtitle] = new JCheckBox("Language:");
-            chbLangSubtitle[nSubtitle].setEnabled(false);
-            GridBagConstraints gbc_chbLangSubtitle = new GridBagConstraints();
-            gbc_chbLangSubtitle.anchor = GridBagConstraints.WEST;
-            gbc_chbLangSubtitle.insets = new Insets(0, 0, 10, 5);
-            gbc_chbLangSubtitle.gridx = 0;
-            gbc_chbLangSubtitle.gridy = 7;
-            subPnlSubtitle[nSubtitle].add(chbLangSubtitle[nSubtitle], gbc_chbLangSubtitle);
-
-            cbLangSubtitle[nSubtitle] = new JComboBox<String>();
-            cbLangSubtitle[nSubtitle].setEnabled(false);
-            cbLangSubtitle[nSubtitle].setModel(new DefaultComboBoxModel<String>(mkvStrings.getLangNames()));
-            cbLangSubtitle[nSubtitle].setSelectedIndex(mkvStrings.getLangCodeList().indexOf("und"));
-            GridBagConstraints gbc_cbLangSubtitle = new GridBagConstraints();
-            gbc_cbLangSubtitle.insets = new Insets(0, 0, 10, 0);
-            gbc_cbLangSubtitle.anchor = GridBagConstraints.WEST;
-            gbc_cbLangSubtitle.gridx = 1;
-            gbc_cbLangSubtitle.gridy = 7;
-            subPnlSubtitle[nSubtitle].add(cbLangSubtitle[nSubtitle], gbc_cbLangSubtitle);
-
-            chbExtraCmdSubtitle[nSubtitle] = new JCheckBox("Extra parameters:");
-            chbExtraCmdSubtitle[nSubtitle].setEnabled(false);
-            GridBagConstraints gbc_chbExtraCmdSubtitle = new GridBagConstraints();
-            gbc_chbExtraCmdSubtitle.anchor = GridBagConstraints.WEST;
-            gbc_chbExtraCmdSubtitle.gridx = 0;
-            gbc_chbExtraCmdSubtitle.gridy = 8;
-            subPnlSubtitle[nSubtitle].add(chbExtraCmdSubtitle[nSubtitle], gbc_chbExtraCmdSubtitle);
-
-            txtExtraCmdSubtitle[nSubtitle] = new JTextField();
-            txtExtraCmdSubtitle[nSubtitle].setEnabled(false);
-            GridBagConstraints gbc_txtExtraCmdSubtitle = new GridBagConstraints();
-            gbc_txtExtraCmdSubtitle.fill = GridBagConstraints.HORIZONTAL;
-            gbc_txtExtraCmdSubtitle.gridx = 1;
-            gbc_txtExtraCmdSubtitle.gridy = 8;
-            subPnlSubtitle[nSubtitle].add(txtExtraCmdSubtitle[nSubtitle], gbc_txtExtraCmdSubtitle);
-            txtExtraCmdSubtitle[nSubtitle].setColumns(10);
-
-            /* Start of mouse events for right-click menu */
-
-            Utils.addRCMenuMouseListener(txtNameSubtitle[nSubtitle]);
-            Utils.addRCMenuMouseListener(txtNumbStartSubtitle[nSubtitle]);
-            Utils.addRCMenuMouseListener(txtNumbPadSubtitle[nSubtitle]);
-            Utils.addRCMenuMouseListener(txtExtraCmdSubtitle[nSubtitle]);
-
-            /* End of mouse events for right-click menu */
-
-            chbEditSubtitle[nSubtitle].addActionListener(new ActionListener() {
-                public void actionPerformed(ActionEvent e) {
-                    int curCbSubtitle = cbSubtitle.getSelectedIndex();
-                    boolean state = chbDefaultSubtitle[curCbSubtitle].isEnabled();
-
-                    chbEnableSubtitle[curCbSubtitle].setEnabled(!state);
-                    chbDefaultSubtitle[curCbSubtitle].setEnabled(!state);
-                    chbForcedSubtitle[curCbSubtitle].setEnabled(!state);
-                    chbNameSubtitle[curCbSubtitle].setEnabled(!state);
-                    chbLangSubtitle[curCbSubtitle].setEnabled(!state);
-                    chbExtraCmdSubtitle[curCbSubtitle].setEnabled(!state);
-
-                    if (txtNameSubtitle[curCbSubtitle].isEnabled() || chbNameSubtitle[curCbSubtitle].isSelected()) {
-                        txtNameSubtitle[curCbSubtitle].setEnabled(!state);
-                        chbNumbSubtitle[curCbSubtitle].setEnabled(!state);
-
-                        if (chbNumbSubtitle[curCbSubtitle].isSelected()) {
-                            lblNumbStartSubtitle[curCbSubtitle].setEnabled(!state);
-                            txtNumbStartSubtitle[curCbSubtitle].setEnabled(!state);
-                            lblNumbPadSubtitle[curCbSubtitle].setEnabled(!state);
-                            txtNumbPadSubtitle[curCbSubtitle].setEnabled(!state);
-                            lblNumbExplainSubtitle[curCbSubtitle].setEnabled(!state);
-                        }
-                    }
+    private void processFiles(boolean resume) {
+        if (modelFiles.getSize() == 0) {
+            JOptionPane.showMessageDialog(frmJMkvpropedit, "The file list is empty!", "Empty list",
+                    JOptionPane.ERROR_MESSAGE);
+        } else {
+            setCmdLine();
 
-                    if (rbNoEnableSubtitle[curCbSubtitle].isEnabled() || chbEnableSubtitle[curCbSubtitle].isSelected()) {
-                        rbNoEnableSubtitle[curCbSubtitle].setEnabled(!state);
-                        rbYesEnableSubtitle[curCbSubtitle].setEnabled(!state);
-                    }
-                    
-                    if (rbNoDefSubtitle[curCbSubtitle].isEnabled() || chbDefaultSubtitle[curCbSubtitle].isSelected()) {
-                        rbNoDefSubtitle[curCbSubtitle].setEnabled(!state);
-                        rbYesDefSubtitle[curCbSubtitle].setEnabled(!state);
-                    }
+            if (cmdLineBatch.size() == 0) {
+                JOptionPane.showMessageDialog(frmJMkvpropedit, "Nothing to do!", "",
+                        JOptionPane.INFORMATION_MESSAGE);
+            } else {
+                checkExecutable(resume);
+            }
+        }
+    }
 
-                    if (rbNoForcedSubtitle[curCbSubtitle].isEnabled()
-                            || chbForcedSubtitle[curCbSubtitle].isSelected()) {
-                        rbNoForcedSubtitle[curCbSubtitle].setEnabled(!state);
-                        rbYesForcedSubtitle[curCbSubtitle].setEnabled(!state);
-                    }
+    /**
+     * Reads the headers of the files in the batch in the background, then
+     * shows the changes each file would get.
+     */
+    private void dryRun() {
+        if (modelFiles.getSize() == 0) {
+            JOptionPane.showMessageDialog(frmJMkvpropedit, "The file list is empty!", "Empty list",
+                    JOptionPane.ERROR_MESSAGE);
+            return;
+        }
 
-                    if (cbLangSubtitle[curCbSubtitle].isEnabled() || chbLangSubtitle[curCbSubtitle].isSelected()) {
-                        cbLangSubtitle[curCbSubtitle].setEnabled(!state);
-                    }
+        setCmdLine();
 
-                    if (txtExtraCmdSubtitle[curCbSubtitle].isEnabled()
-                            || chbExtraCmdSubtitle[curCbSubtitle].isSelected()) {
-                        chbExtraCmdSubtitle[curCbSubtitle].setEnabled(!state);
-                        txtExtraCmdSubtitle[curCbSubtitle].setEnabled(!state);
-                    }
-                }
-            });
+        if (cmdLineBatch.size() == 0) {
+            JOptionPane.showMessageDialog(frmJMkvpropedit, "Nothing to do!", "", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
 
-            chbEnableSubtitle[nSubtitle].addActionListener(new ActionListener() {
-                public void actionPerformed(ActionEvent e) {
-                    int curCbSubtitle = cbSubtitle.getSelectedIndex();
-                    boolean state = rbNoEnableSubtitle[curCbSubtitle].isEnabled();
+        final List<MkvCommand> commands = new ArrayList<MkvCommand>(cmdLineBatch);
 
-                    rbNoEnableSubtitle[curCbSubtitle].setEnabled(!state);
-                    rbYesEnableSubtitle[curCbSubtitle].setEnabled(!state);
-                }
-            });
-            
-            chbDefaultSubtitle[nSubtitle].addActionListener(new ActionListener() {
-                public void actionPerformed(ActionEvent e) {
-                    int curCbSubtitle = cbSubtitle.getSelectedIndex();
-                    boolean state = rbNoDefSubtitle[curCbSubtitle].isEnabled();
-
-                    rbNoDefSubtitle[curCbSubtitle].setEnabled(!state);
-                    rbYesDefSubtitle[curCbSubtitle].setEnabled(!state);
-                }
-            });
+        btnDryRun.setEnabled(false);
 
-            chbForcedSubtitle[nSubtitle].addActionListener(new ActionListener() {
-                public void actionPerformed(ActionEvent e) {
-                    int curCbSubtitle = cbSubtitle.getSelectedIndex();
-                    boolean state = rbNoForcedSubtitle[curCbSubtitle].isEnabled();
+        new SwingWorker<Void, Void>() {
+            @Override
+            public Void doInBackground() throws Exception {
+                readMissingHeaders(commands);
 
-                    rbNoForcedSubtitle[curCbSubtitle].setEnabled(!state);
-                    rbYesForcedSubtitle[curCbSubtitle].setEnabled(!state);
-                }
-            });
-
-            chbNameSubtitle[nSubtitle].addActionListener(new ActionListener() {
-                public void actionPerformed(ActionEvent e) {
-                    int curCbSubtitle = cbSubtitle.getSelectedIndex();
-                    boolean state = chbNumbSubtitle[curCbSubtitle].isEnabled();
-
-                    chbNumbSubtitle[curCbSubtitle].setEnabled(!state);
-                    txtNameSubtitle[curCbSubtitle].setEnabled(!state);
-
-                    if (chbNumbSubtitle[curCbSubtitle].isSelected()) {
-                        lblNumbStartSubtitle[curCbSubtitle].setEnabled(!state);
-                        txtNumbStartSubtitle[curCbSubtitle].setEnabled(!state);
-                        lblNumbPadSubtitle[curCbSubtitle].setEnabled(!state);
-                        txtNumbPadSubtitle[curCbSubtitle].setEnabled(!state);
-                        lblNumbExplainSubtitle[curCbSubtitle].setEnabled(!state);
-                    }
-                }
-            });
-
-            chbNumbSubtitle[nSubtitle].addActionListener(new ActionListener() {
-                public void actionPerformed(ActionEvent e) {
-                    int curCbSubtitle = cbSubtitle.getSelectedIndex();
-                    boolean state = txtNumbStartSubtitle[curCbSubtitle].isEnabled();
-
-                    lblNumbStartSubtitle[curCbSubtitle].setEnabled(!state);
-                    txtNumbStartSubtitle[curCbSubtitle].setEnabled(!state);
-                    lblNumbPadSubtitle[curCbSubtitle].setEnabled(!state);
-                    txtNumbPadSubtitle[curCbSubtitle].setEnabled(!state);
-                    lblNumbExplainSubtitle[curCbSubtitle].setEnabled(!state);
-                }
-            });
+                return null;
+            }
 
-            txtNumbStartSubtitle[nSubtitle].addFocusListener(new FocusAdapter() {
-                @Override
-                public void focusLost(FocusEvent e) {
-                    int curCbSubtitle = cbSubtitle.getSelectedIndex();
+            @Override
+            protected void done() {
+                btnDryRun.setEnabled(true);
+                listFiles.repaint();
 
-                    try {
-                        if (Integer.parseInt(txtNumbStartSubtitle[curCbSubtitle].getText()) < 0) {
-                            txtNumbStartSubtitle[curCbSubtitle].setText("1");
-                        }
-                    } catch (NumberFormatException e1) {
-                        txtNumbStartSubtitle[curCbSubtitle].setText("1");
-                    }
-                }
-            });
+                DryRunModel model = new DryRunModel();
 
-            txtNumbPadSubtitle[nSubtitle].addFocusListener(new FocusAdapter() {
-                @Override
-                public void focusLost(FocusEvent e) {
-                    int curCbSubtitle = cbSubtitle.getSelectedIndex();
+                for (MkvCommand cmd : commands) {
+                    MatroskaInfo info = getCurrentInfo(cmd.getFile());
 
-                    try {
-                        if (Integer.parseInt(txtNumbPadSubtitle[curCbSubtitle].getText()) < 0) {
-                            txtNumbPadSubtitle[curCbSubtitle].setText("1");
-                        }
-                    } catch (NumberFormatException e1) {
-                        txtNumbPadSubtitle[curCbSubtitle].setText("1");
-                    }
+                    model.add(cmd.getFile(), info, info == null ? null : EditDiff.compute(info, cmd));
                 }
-            });
 
-            chbLangSubtitle[nSubtitle].addActionListener(new ActionListener() {
-                public void actionPerformed(ActionEvent e) {
-                    int curCbSubtitle = cbSubtitle.getSelectedIndex();
-                    boolean state = cbLangSubtitle[curCbSubtitle].isEnabled();
+                JTable table = new JTable(model);
+                table.setAutoCreateRowSorter(true);
+                table.setAutoResizeMode(JTable.AUTO_RESIZE_LAST_COLUMN);
+                SwingUtils.adjustColumnPreferredWidths(table);
 
-                    cbLangSubtitle[curCbSubtitle].setEnabled(!state);
-                }
-            });
+                JScrollPane spTable = new JScrollPane(table);
+                spTable.setPreferredSize(new Dimension(800, 400));
 
-            chbExtraCmdSubtitle[nSubtitle].addActionListener(new ActionListener() {
-                public void actionPerformed(ActionEvent e) {
-                    int curCbSubtitle = cbSubtitle.getSelectedIndex();
-                    boolean state = txtExtraCmdSubtitle[curCbSubtitle].isEnabled();
+                JPanel pnlDryRun = new JPanel(new BorderLayout(0, 5));
+                pnlDryRun.add(new JLabel(model.getSummary()), BorderLayout.NORTH);
+                pnlDryRun.add(spTable, BorderLayout.CENTER);
 
-                    txtExtraCmdSubtitle[curCbSubtitle].setEnabled(!state);
-                }
-            });
+                JOptionPane.showMessageDialog(frmJMkvpropedit, pnlDryRun, "Dry run", JOptionPane.PLAIN_MESSAGE);
+            }
+        }.execute();
+    }
 
-            cbSubtitle.addItem("Subtitle Track " + (nSubtitle + 1));
+    /**
+     * Reads the headers the batch needs that were not read yet, or changed
+     * since, on a pool of threads. Must not run on the event dispatch
+     * thread.
+     */
+    private void readMissingHeaders(List<MkvCommand> commands) throws InterruptedException {
+        List<String> missing = new ArrayList<String>();
+
+        for (MkvCommand cmd : commands) {
+            if (getCurrentInfo(cmd.getFile()) == null) {
+                missing.add(cmd.getFile());
+            }
         }
 
-        nSubtitle++;
+        fileInfo.putAll(metadataCache.readAll(missing));
     }
 
-    /* End of track addition methods */
-
-    /* Start of command line methods */
+    /**
+     * Returns the header metadata read for the file, or null if it was not
+     * read or the file changed since.
+     */
+    private MatroskaInfo getCurrentInfo(String path) {
+        MatroskaInfo info = fileInfo.get(path);
+        File file = new File(path);
 
-    private void setCmdLineGeneral() {
-        cmdLineGeneral = new String[modelFiles.size()];
-        cmdLineGeneralOpt = new String[modelFiles.size()];
-        int start = Integer.parseInt(txtNumbStartGeneral.getText());
-
-        for (int i = 0; i < modelFiles.size(); i++) {
-            cmdLineGeneral[i] = "";
-            cmdLineGeneralOpt[i] = "";
-
-            if (chbTags.isSelected()) {
-                switch (cbTags.getSelectedIndex()) {
-                case 0:
-                    cmdLineGeneral[i] += " --tags all:";
-                    cmdLineGeneralOpt[i] += " --tags all:";
-                    break;
-                case 1:
-                    if (txtTags.getText().trim().isEmpty()) {
-                        cmdLineGeneral[i] += " --tags all:";
-                        cmdLineGeneralOpt[i] += " --tags all:";
-                    } else {
-                        if (Utils.isWindows()) {
-                            cmdLineGeneral[i] += " --tags all:\"" + txtTags.getText() + "\"";
-                            cmdLineGeneralOpt[i] += " --tags all:\"" + Utils.escapeName(txtTags.getText()) + "\"";
-                        } else {
-                            cmdLineGeneral[i] += " --tags all:\"" + Utils.escapeQuotes(txtTags.getText()) + "\"";
-                            cmdLineGeneralOpt[i] += " --tags all:\"" + Utils.escapeName(txtTags.getText()) + "\"";
-                        }
-                    }
-                    break;
-                case 2:
-                    String tmpTags = Utils.getPathWithoutExt((String) modelFiles.get(i)) + txtTags.getText()
-                            + cbExtTags.getSelectedItem();
-
-                    if (Utils.isWindows()) {
-                        cmdLineGeneral[i] += " --tags all:\"" + tmpTags + "\"";
-                        cmdLineGeneralOpt[i] += " --tags all:\"" + Utils.escapeName(tmpTags) + "\"";
-                    } else {
-                        cmdLineGeneral[i] += " --tags all:\"" + Utils.escapeQuotes(tmpTags) + "\"";
-                        cmdLineGeneralOpt[i] += " --tags all:\"" + Utils.escapeName(tmpTags) + "\"";
-                    }
-                    break;
-                }
-            }
+        return info != null && info.isCurrent(file.length(), file.lastModified()) ? info : null;
+    }
 
-            if (chbChapters.isSelected()) {
-                switch (cbChapters.getSelectedIndex()) {
-                case 0:
-                    cmdLineGeneral[i] += " --chapters \"\"";
-                    cmdLineGeneralOpt[i] += " --chapters ''";
-                    break;
-                case 1:
-                    if (txtChapters.getText().trim().isEmpty()) {
-                        cmdLineGeneral[i] += " --chapters \"\"";
-                        cmdLineGeneralOpt[i] += " --chapters ''";
-                    } else {
-                        if (Utils.isWindows()) {
-                            cmdLineGeneral[i] += " --chapters \"" + txtChapters.getText() + "\"";
-                            cmdLineGeneralOpt[i] += " --chapters \"" + Utils.escapeName(txtChapters.getText()) + "\"";
-                        } else {
-                            cmdLineGeneral[i] += " --chapters \"" + Utils.escapeQuotes(txtChapters.getText()) + "\"";
-                            cmdLineGeneralOpt[i] += " --chapters \"" + Utils.escapeName(txtChapters.getText()) + "\"";
-                        }
-                    }
-                    break;
-                case 2:
-                    String tmpChaps = Utils.getPathWithoutExt((String) modelFiles.get(i)) + txtChapters.getText()
-                            + cbExtChapters.getSelectedItem();
-
-                    if (Utils.isWindows()) {
-                        cmdLineGeneral[i] += " --chapters \"" + tmpChaps + "\"";
-                        cmdLineGeneralOpt[i] += " --chapters \"" + Utils.escapeName(tmpChaps) + "\"";
-                    } else {
-                        cmdLineGeneral[i] += " --chapters \"" + Utils.escapeQuotes(tmpChaps) + "\"";
-                        cmdLineGeneralOpt[i] += " --chapters \"" + Utils.escapeName(tmpChaps) + "\"";
-                    }
-                    break;
-                }
-            }
+    /**
+     * Waits in the background for the mkvpropedit probe, then starts the
+     * batch if mkvpropedit was found and supports every option used. The
+     * headers of the files are read meanwhile, so that files that are
+     * already correct can be skipped, and the jobs are prepared before
+     * returning to the event dispatch thread.
+     */
+    private void checkExecutable(final boolean resume) {
+        final Future<ExecutableProbe.Toolchain> probe = exeProbe.probe(txtMkvPropExe.getText());
+        final List<MkvCommand> commands = new ArrayList<MkvCommand>(cmdLineBatch);
 
-            if (chbTitleGeneral.isSelected()) {
-                cmdLineGeneral[i] += " --edit info";
-                cmdLineGeneralOpt[i] += " --edit info";
+        btnProcessFiles.setEnabled(false);
+        btnResumeFiles.setEnabled(false);
 
-                String newTitle = txtTitleGeneral.getText();
+        new SwingWorker<ExecutableProbe.Toolchain, Void>() {
+            private List<BatchExecutor.Job> jobs = null;
+            private final StringBuilder notes = new StringBuilder();
 
-                if (chbNumbGeneral.isSelected()) {
-                    int pad = 0;
+            @Override
+            public ExecutableProbe.Toolchain doInBackground() throws Exception {
+                readMissingHeaders(commands);
 
-                    pad = Integer.parseInt(txtNumbPadGeneral.getText());
-                    newTitle = newTitle.replace("{num}", Utils.padNumber(pad, start));
+                ExecutableProbe.Toolchain toolchain;
 
-                    start++;
+                try {
+                    toolchain = probe.get();
+                } catch (ExecutionException e) {
+                    // Not found or can't be run, anything else fails the task
+                    return null;
                 }
 
-                newTitle = newTitle.replace("{file_name}", Utils.getFileNameWithoutExt((String) modelFiles.get(i)));
-
-                cmdLineGeneral[i] += " --set title=\"" + Utils.escapeQuotes(newTitle) + "\"";
-                cmdLineGeneralOpt[i] += " --set title=\"" + Utils.escapeName(newTitle) + "\"";
-            }
+                // Leave the journal alone if the batch can't run
+                if (toolchain.getUnsupportedOptions(commands).isEmpty()) {
+                    jobs = prepareBatch(commands, resume, toolchain, notes);
+                }
 
-            if (chbExtraCmdGeneral.isSelected() && !txtExtraCmdGeneral.getText().trim().isEmpty()) {
-                cmdLineGeneral[i] += " " + txtExtraCmdGeneral.getText();
-                cmdLineGeneralOpt[i] += " " + Utils.escapeName(txtExtraCmdGeneral.getText());
+                return toolchain;
             }
-        }
-
-    }
-
-    private void setCmdLineVideo() {
-        cmdLineVideo = new String[modelFiles.size()];
-        cmdLineVideoOpt = new String[modelFiles.size()];
-        String[] tmpCmdLineVideo = new String[nVideo];
-        String[] tmpCmdLineVideoOpt = new String[nVideo];
-        int[] numStartVideo = new int[nVideo];
-        int[] numPadVideo = new int[nVideo];
-
-        for (int i = 0; i < modelFiles.size(); i++) {
-            int editCount = 0;
-            cmdLineVideo[i] = "";
-            cmdLineVideoOpt[i] = "";
-
-            for (int j = 0; j < nVideo; j++) {
-                if (chbEditVideo[j].isSelected()) {
-                    numStartVideo[j] = Integer.parseInt(txtNumbStartVideo[j].getText());
-                    numPadVideo[j] = Integer.parseInt(txtNumbPadVideo[j].getText());
-
-                    tmpCmdLineVideo[j] = "";
-                    tmpCmdLineVideoOpt[j] = "";
-
-                    if (chbEditVideo[j].isSelected()) {
-                        tmpCmdLineVideo[j] += " --edit track:v" + (j + 1);
-                        tmpCmdLineVideoOpt[j] += " --edit track:v" + (j + 1);
-                    }
-                    
-                    if (chbEnableVideo[j].isSelected()) {
-                        tmpCmdLineVideo[j] += " --set flag-enabled=";
-                        tmpCmdLineVideoOpt[j] += " --set flag-enabled=";
-
-                        if (rbYesEnableVideo[j].isSelected()) {
-                            tmpCmdLineVideo[j] += "1";
-                            tmpCmdLineVideoOpt[j] += "1";
-                        } else {
-                            tmpCmdLineVideo[j] += "0";
-                            tmpCmdLineVideoOpt[j] += "0";
-                        }
-
-                        editCount++;
-                    }
-
-                    if (chbDefaultVideo[j].isSelected()) {
-                        tmpCmdLineVideo[j] += " --set flag-default=";
-                        tmpCmdLineVideoOpt[j] += " --set flag-default=";
 
-                        if (rbYesDefVideo[j].isSelected()) {
-                            tmpCmdLineVideo[j] += "1";
-                            tmpCmdLineVideoOpt[j] += "1";
-                        } else {
-                            tmpCmdLineVideo[j] += "0";
-                            tmpCmdLineVideoOpt[j] += "0";
-                        }
-
-                        editCount++;
-                    }
-
-                    if (chbForcedVideo[j].isSelected()) {
-                        tmpCmdLineVideo[j] += " --set flag-forced=";
-                        tmpCmdLineVideoOpt[j] += " --set flag-forced=";
-
-                        if (rbYesForcedVideo[j].isSelected()) {
-                            tmpCmdLineVideo[j] += "1";
-                            tmpCmdLineVideoOpt[j] += "1";
-                        } else {
-                            tmpCmdLineVideo[j] += "0";
-                            tmpCmdLineVideoOpt[j] += "0";
-                        }
-
-                        editCount++;
-                    }
+            @Override
+            protected void done() {
+                ExecutableProbe.Toolchain toolchain;
 
-                    if (chbNameVideo[j].isSelected()) {
-                        tmpCmdLineVideo[j] += " --set name=\"" + Utils.escapeQuotes(txtNameVideo[j].getText()) + "\"";
-                        tmpCmdLineVideoOpt[j] += " --set name=\"" + Utils.escapeName(txtNameVideo[j].getText()) + "\"";
-                        editCount++;
-                    }
+                btnProcessFiles.setEnabled(true);
+                btnResumeFiles.setEnabled(true);
 
-                    if (chbLangVideo[j].isSelected()) {
-                        String curLangCode = mkvStrings.getLangCodeList().get(cbLangVideo[j].getSelectedIndex());
-                        tmpCmdLineVideo[j] += " --set language=\"" + curLangCode + "\"";
-                        tmpCmdLineVideoOpt[j] += " --set language=\"" + curLangCode + "\"";
-                        editCount++;
-                    }
+                try {
+                    toolchain = get();
+                } catch (InterruptedException e) {
+                    return;
+                } catch (ExecutionException e) {
+                    String message = e.getCause().getMessage();
 
-                    if (chbExtraCmdVideo[j].isSelected() && !txtExtraCmdVideo[j].getText().trim().isEmpty()) {
-                        tmpCmdLineVideo[j] += " " + txtExtraCmdVideo[j].getText();
-                        tmpCmdLineVideoOpt[j] += " " + Utils.escapeBackslashes(txtExtraCmdVideo[j].getText());
-                        editCount++;
-                    }
+                    JOptionPane.showMessageDialog(frmJMkvpropedit,
+                            message != null ? message : "Could not start the batch: " + e.getCause(), "",
+                            JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
 
-                    if (editCount == 0) {
-                        tmpCmdLineVideo[j] = "";
-                        tmpCmdLineVideoOpt[j] = "";
-                    }
-                } else {
-                    tmpCmdLineVideo[j] = "";
-                    tmpCmdLineVideoOpt[j] = "";
+                if (toolchain == null) {
+                    JOptionPane.showMessageDialog(frmJMkvpropedit, "Mkvpropedit executable not found!"
+                            + "\nPlease make sure it is installed and included in the system path.\n"
+                            + "Alternatively, you can manually set the path or copy its executable to the working folder.",
+                            "", JOptionPane.ERROR_MESSAGE);
+                    return;
                 }
-            }
-        }
 
-        for (int i = 0; i < nVideo; i++) {
-            for (int j = 0; j < modelFiles.size(); j++) {
-                String tmpText = tmpCmdLineVideo[i];
-                String tmpText2 = tmpCmdLineVideoOpt[i];
+                List<String> unsupported = toolchain.getUnsupportedOptions(commands);
 
-                if (chbNumbVideo[i].isSelected() && chbEditVideo[i].isSelected()) {
-                    tmpText = tmpText.replace("{num}", Utils.padNumber(numPadVideo[i], numStartVideo[i]));
-                    tmpText2 = tmpText.replace("{num}", Utils.padNumber(numPadVideo[i], numStartVideo[i]));
-                    numStartVideo[i]++;
+                if (!unsupported.isEmpty()) {
+                    JOptionPane.showMessageDialog(frmJMkvpropedit, "This version of mkvpropedit doesn't support "
+                            + String.join(", ", unsupported) + "!\n" + toolchain.getVersion()
+                            + "\nPlease update MKVToolNix.", "", JOptionPane.ERROR_MESSAGE);
+                    return;
                 }
 
-                tmpText = tmpText.replace("{file_name}", Utils.getFileNameWithoutExt((String) modelFiles.get(j)));
-                tmpText2 = tmpText2.replace("{file_name}", Utils.getFileNameWithoutExt((String) modelFiles.get(j)));
-
-                cmdLineVideo[j] += tmpText;
-                cmdLineVideoOpt[j] += tmpText2;
+                runBatch(toolchain.getExecutable().getPath(), jobs, journal.isOpen(), notes.toString());
             }
-        }
+        }.execute();
     }
 
-    private void setCmdLineAudio() {
-        cmdLineAudio = new String[modelFiles.size()];
-        cmdLineAudioOpt = new String[modelFiles.size()];
-        String[] tmpCmdLineAudio = new String[nAudio];
-        String[] tmpCmdLineAudioOpt = new String[nAudio];
-        int[] numStartAudio = new int[nAudio];
-        int[] numPadAudio = new int[nAudio];
-
-        for (int i = 0; i < modelFiles.size(); i++) {
-            int editCount = 0;
-            cmdLineAudio[i] = "";
-            cmdLineAudioOpt[i] = "";
-
-            for (int j = 0; j < nAudio; j++) {
-                if (chbEditAudio[j].isSelected()) {
-                    numStartAudio[j] = Integer.parseInt(txtNumbStartAudio[j].getText());
-                    numPadAudio[j] = Integer.parseInt(txtNumbPadAudio[j].getText());
-
-                    tmpCmdLineAudio[j] = "";
-                    tmpCmdLineAudioOpt[j] = "";
-
-                    if (chbEditAudio[j].isSelected()) {
-                        tmpCmdLineAudio[j] += " --edit track:a" + (j + 1);
-                        tmpCmdLineAudioOpt[j] += " --edit track:a" + (j + 1);
-                    }
-
-                    if (chbEnableAudio[j].isSelected()) {
-                        tmpCmdLineAudio[j] += " --set flag-enabled=";
-                        tmpCmdLineAudioOpt[j] += " --set flag-enabled=";
+    /**
+     * Opens the journal and builds the jobs of a batch, skipping the files
+     * that have nothing to change. Must not run on the event dispatch
+     * thread.
+     *
+     * @param resume if true, files the journal shows as done by the previous
+     *        batch are skipped.
+     * @param toolchain the mkvpropedit that was found.
+     * @param notes filled with the text shown before the output of the jobs.
+     * @throws BatchJournal.LockedException if another instance is running a
+     *         batch.
+     */
+    private List<BatchExecutor.Job> prepareBatch(List<MkvCommand> batch, boolean resume,
+            ExecutableProbe.Toolchain toolchain, StringBuilder notes) throws BatchJournal.LockedException {
+        List<MkvCommand> commands = new ArrayList<MkvCommand>();
+        int skipped = 0;
+        int resumed = 0;
+        String journalError = null;
 
-                        if (rbYesEnableAudio[j].isSelected()) {
-                            tmpCmdLineAudio[j] += "1";
-                            tmpCmdLineAudioOpt[j] += "1";
-                        } else {
-                            tmpCmdLineAudio[j] += "0";
-                            tmpCmdLineAudioOpt[j] += "0";
-                        }
+        try {
+            journal.open(resume);
+        } catch (BatchJournal.LockedException e) {
+            throw e;
+        } catch (IOException e) {
+            journalError = e.toString();
+        }
 
-                        editCount++;
-                    }
-                    
-                    if (chbDefaultAudio[j].isSelected()) {
-                        tmpCmdLineAudio[j] += " --set flag-default=";
-                        tmpCmdLineAudioOpt[j] += " --set flag-default=";
-
-                        if (rbYesDefAudio[j].isSelected()) {
-                            tmpCmdLineAudio[j] += "1";
-                            tmpCmdLineAudioOpt[j] += "1";
-                        } else {
-                            tmpCmdLineAudio[j] += "0";
-                            tmpCmdLineAudioOpt[j] += "0";
-                        }
+        for (MkvCommand cmd : batch) {
+            if (resume && journal.isDone(cmd)) {
+                resumed++;
+            } else if (isNoOp(cmd)) {
+                skipped++;
+            } else {
+                commands.add(cmd);
+            }
+        }
 
-                        editCount++;
-                    }
+        notes.append(toolchain.getExecutable() + ": " + toolchain.getVersion() + "\n\n");
 
-                    if (chbForcedAudio[j].isSelected()) {
-                        tmpCmdLineAudio[j] += " --set flag-forced=";
-                        tmpCmdLineAudioOpt[j] += " --set flag-forced=";
+        if (journalError != null) {
+            notes.append("Could not open the batch journal, the batch can't be resumed: " + journalError + "\n\n");
+        }
 
-                        if (rbYesForcedAudio[j].isSelected()) {
-                            tmpCmdLineAudio[j] += "1";
-                            tmpCmdLineAudioOpt[j] += "1";
-                        } else {
-                            tmpCmdLineAudio[j] += "0";
-                            tmpCmdLineAudioOpt[j] += "0";
-                        }
+        if (resumed > 0) {
+            notes.append("Skipped " + resumed + " file(s) already done by the previous batch.\n\n");
+        }
 
-                        editCount++;
-                    }
+        if (skipped > 0) {
+            notes.append("Skipped " + skipped + " file(s) with nothing to change.\n\n");
+        }
 
-                    if (chbNameAudio[j].isSelected()) {
-                        tmpCmdLineAudio[j] += " --set name=\"" + Utils.escapeQuotes(txtNameAudio[j].getText()) + "\"";
-                        tmpCmdLineAudioOpt[j] += " --set name=\"" + Utils.escapeName(txtNameAudio[j].getText()) + "\"";
-                        editCount++;
-                    }
+        return buildJobs(commands);
+    }
 
-                    if (chbLangAudio[j].isSelected()) {
-                        String curLangCode = mkvStrings.getLangCodeList().get(cbLangAudio[j].getSelectedIndex());
-                        tmpCmdLineAudio[j] += " --set language=\"" + curLangCode + "\"";
-                        tmpCmdLineAudioOpt[j] += " --set language=\"" + curLangCode + "\"";
-                        editCount++;
-                    }
+    /**
+     * Runs the commands that failed in the last batch again.
+     */
+    private void retryFailed() {
+        final List<MkvCommand> failed = executor.getFailedCommands();
+        final String exe = executor.getExecutable();
 
-                    if (chbExtraCmdAudio[j].isSelected() && !txtExtraCmdAudio[j].getText().trim().isEmpty()) {
-                        tmpCmdLineAudio[j] += " " + txtExtraCmdAudio[j].getText();
-                        tmpCmdLineAudioOpt[j] += " " + Utils.escapeBackslashes(txtExtraCmdAudio[j].getText());
-                        editCount++;
-                    }
+        btnProcessFiles.setEnabled(false);
+        btnResumeFiles.setEnabled(false);
+        btnRetryFailed.setEnabled(false);
 
-                    if (editCount == 0) {
-                        tmpCmdLineAudio[j] = "";
-                        tmpCmdLineAudioOpt[j] = "";
-                    }
-                } else {
-                    tmpCmdLineAudio[j] = "";
-                    tmpCmdLineAudioOpt[j] = "";
+        new SwingWorker<List<BatchExecutor.Job>, Void>() {
+            @Override
+            public List<BatchExecutor.Job> doInBackground() throws BatchJournal.LockedException {
+                // Keep the entries of the last batch, so it can still be resumed
+                try {
+                    journal.open(true);
+                } catch (BatchJournal.LockedException e) {
+                    throw e;
+                } catch (IOException e) {
                 }
+
+                return buildJobs(failed);
             }
-        }
 
-        for (int i = 0; i < nAudio; i++) {
-            for (int j = 0; j < modelFiles.size(); j++) {
-                String tmpText = tmpCmdLineAudio[i];
-                String tmpText2 = tmpCmdLineAudioOpt[i];
+            @Override
+            protected void done() {
+                List<BatchExecutor.Job> jobs;
 
-                if (chbNumbAudio[i].isSelected() && chbEditAudio[i].isSelected()) {
-                    tmpText = tmpText.replace("{num}", Utils.padNumber(numPadAudio[i], numStartAudio[i]));
-                    tmpText2 = tmpText.replace("{num}", Utils.padNumber(numPadAudio[i], numStartAudio[i]));
-                    numStartAudio[i]++;
-                }
+                btnProcessFiles.setEnabled(true);
+                btnResumeFiles.setEnabled(true);
+                btnRetryFailed.setEnabled(true);
 
-                tmpText = tmpText.replace("{file_name}", Utils.getFileNameWithoutExt((String) modelFiles.get(j)));
-                tmpText2 = tmpText2.replace("{file_name}", Utils.getFileNameWithoutExt((String) modelFiles.get(j)));
+                try {
+                    jobs = get();
+                } catch (InterruptedException e) {
+                    return;
+                } catch (ExecutionException e) {
+                    JOptionPane.showMessageDialog(frmJMkvpropedit, e.getCause().getMessage(), "",
+                            JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
 
-                cmdLineAudio[j] += tmpText;
-                cmdLineAudioOpt[j] += tmpText2;
+                runBatch(exe, jobs, journal.isOpen(), "Retrying " + failed.size() + " failed file(s).\n\n");
             }
-        }
+        }.execute();
     }
 
-    private void setCmdLineSubtitle() {
-        cmdLineSubtitle = new String[modelFiles.size()];
-        cmdLineSubtitleOpt = new String[modelFiles.size()];
-        String[] tmpCmdLineSubtitle = new String[nSubtitle];
-        String[] tmpCmdLineSubtitleOpt = new String[nSubtitle];
-        int[] numStartSubtitle = new int[nSubtitle];
-        int[] numPadSubtitle = new int[nSubtitle];
-
-        for (int i = 0; i < modelFiles.size(); i++) {
-            int editCount = 0;
-            cmdLineSubtitle[i] = "";
-            cmdLineSubtitleOpt[i] = "";
-
-            for (int j = 0; j < nSubtitle; j++) {
-                if (chbEditSubtitle[j].isSelected()) {
-                    numStartSubtitle[j] = Integer.parseInt(txtNumbStartSubtitle[j].getText());
-                    numPadSubtitle[j] = Integer.parseInt(txtNumbPadSubtitle[j].getText());
-
-                    tmpCmdLineSubtitle[j] = "";
-                    tmpCmdLineSubtitleOpt[j] = "";
-
-                    if (chbEditSubtitle[j].isSelected()) {
-                        tmpCmdLineSubtitle[j] += " --edit track:s" + (j + 1);
-                        tmpCmdLineSubtitleOpt[j] += " --edit track:s" + (j + 1);
-                    }
-                    
-                    if (chbEnableSubtitle[j].isSelected()) {
-                        tmpCmdLineSubtitle[j] += " --set flag-enabled=";
-                        tmpCmdLineSubtitleOpt[j] += " --set flag-enabled=";
-
-                        if (rbYesEnableSubtitle[j].isSelected()) {
-                            tmpCmdLineSubtitle[j] += "1";
-                            tmpCmdLineSubtitleOpt[j] += "1";
-                        } else {
-                            tmpCmdLineSubtitle[j] += "0";
-                            tmpCmdLineSubtitleOpt[j] += "0";
-                        }
-
-                        editCount++;
-                    }
+    /**
+     * Builds the jobs of a batch with the cheap ones first, using the
+     * headers read when the files were added. Must not run on the event
+     * dispatch thread, since every file is checked for changes.
+     */
+    private List<BatchExecutor.Job> buildJobs(List<MkvCommand> commands) {
+        List<BatchExecutor.Job> jobs = new ArrayList<BatchExecutor.Job>(commands.size());
+        Map<String, EditCost> costs = new HashMap<String, EditCost>();
+
+        for (MkvCommand cmd : EditCost.sort(commands, fileInfo, costs)) {
+            BatchExecutor.Job job = new BatchExecutor.Job(jobs.size(), cmd);
+            job.setCost(costs.get(cmd.getFile()));
+            jobs.add(job);
+        }
 
-                    if (chbDefaultSubtitle[j].isSelected()) {
-                        tmpCmdLineSubtitle[j] += " --set flag-default=";
-                        tmpCmdLineSubtitleOpt[j] += " --set flag-default=";
+        return jobs;
+    }
 
-                        if (rbYesDefSubtitle[j].isSelected()) {
-                            tmpCmdLineSubtitle[j] += "1";
-                            tmpCmdLineSubtitleOpt[j] += "1";
-                        } else {
-                            tmpCmdLineSubtitle[j] += "0";
-                            tmpCmdLineSubtitleOpt[j] += "0";
-                        }
+    /**
+     * Runs the jobs in the background, showing their output and results in
+     * the Output tab.
+     *
+     * @param exe the path of the mkvpropedit that was probed.
+     * @param useJournal if true, finished jobs are recorded in the open
+     *        journal, which is closed when the batch ends.
+     * @param notes text shown before the output of the jobs.
+     */
+    private void runBatch(final String exe, List<BatchExecutor.Job> jobs, boolean useJournal, String notes) {
+        int heavy = 0;
 
-                        editCount++;
-                    }
+        for (BatchExecutor.Job job : jobs) {
+            if (job.isHeavy()) {
+                heavy++;
+            }
+        }
 
-                    if (chbForcedSubtitle[j].isSelected()) {
-                        tmpCmdLineSubtitle[j] += " --set flag-forced=";
-                        tmpCmdLineSubtitleOpt[j] += " --set flag-forced=";
+        if (heavy > 0) {
+            notes += heavy + " file(s) need header elements moved to the end of the file or write a lot of data."
+                    + " They run last, one at a time on each disk.\n\n";
+        }
 
-                        if (rbYesForcedSubtitle[j].isSelected()) {
-                            tmpCmdLineSubtitle[j] += "1";
-                            tmpCmdLineSubtitleOpt[j] += "1";
-                        } else {
-                            tmpCmdLineSubtitle[j] += "0";
-                            tmpCmdLineSubtitleOpt[j] += "0";
-                        }
+        final int nJobs = jobs.size();
+        final List<String> batchFiles = new ArrayList<String>(nJobs);
 
-                        editCount++;
-                    }
+        for (BatchExecutor.Job job : jobs) {
+            batchFiles.add(job.getFile());
+        }
 
-                    if (chbNameSubtitle[j].isSelected()) {
-                        tmpCmdLineSubtitle[j] += " --set name=\"" + Utils.escapeQuotes(txtNameSubtitle[j].getText())
-                                + "\"";
-                        tmpCmdLineSubtitleOpt[j] += " --set name=\"" + Utils.escapeName(txtNameSubtitle[j].getText())
-                                + "\"";
-                        editCount++;
+        executor = new BatchExecutor(exe, jobs, getJobs(), optionFiles, new BatchExecutor.Listener() {
+            @Override
+            public void jobFinished(final BatchExecutor.Job job) {
+                SwingUtilities.invokeLater(new Runnable() {
+                    @Override
+                    public void run() {
+                        modelResults.add(job);
                     }
+                });
 
-                    if (chbLangSubtitle[j].isSelected()) {
-                        String curLangCode = mkvStrings.getLangCodeList().get(cbLangSubtitle[j].getSelectedIndex());
-                        tmpCmdLineSubtitle[j] += " --set language=\"" + curLangCode + "\"";
-                        tmpCmdLineSubtitleOpt[j] += " --set language=\"" + curLangCode + "\"";
-                        editCount++;
-                    }
+                // The file changed, its header has to be read again
+                metadataCache.invalidate(job.getFile());
+                fileInfo.remove(job.getFile());
 
-                    if (chbExtraCmdSubtitle[j].isSelected() && !txtExtraCmdSubtitle[j].getText().trim().isEmpty()) {
-                        tmpCmdLineSubtitle[j] += " " + txtExtraCmdSubtitle[j].getText();
-                        tmpCmdLineSubtitleOpt[j] += " " + Utils.escapeBackslashes(txtExtraCmdSubtitle[j].getText());
-                        editCount++;
-                    }
+                outputConsole.append("File: " + job.getFile() + "\n");
+                outputConsole.append("Command line: " + job.getCommand().toDisplayString(exe) + "\n\n");
+                outputConsole.append(job.getOutput());
 
-                    if (editCount == 0) {
-                        tmpCmdLineSubtitle[j] = "";
-                        tmpCmdLineSubtitleOpt[j] = "";
-                    }
-                } else {
-                    tmpCmdLineSubtitle[j] = "";
-                    tmpCmdLineSubtitleOpt[j] = "";
+                if (job.getIndex() < nJobs - 1) {
+                    outputConsole.append("--------------\n\n");
                 }
             }
-        }
-
-        for (int i = 0; i < nSubtitle; i++) {
-            for (int j = 0; j < modelFiles.size(); j++) {
-                String tmpText = tmpCmdLineSubtitle[i];
-                String tmpText2 = tmpCmdLineSubtitleOpt[i];
-
-                if (chbNumbSubtitle[i].isSelected() && chbEditSubtitle[i].isSelected()) {
-                    tmpText = tmpText.replace("{num}", Utils.padNumber(numPadSubtitle[i], numStartSubtitle[i]));
-                    tmpText2 = tmpText.replace("{num}", Utils.padNumber(numPadSubtitle[i], numStartSubtitle[i]));
-                    numStartSubtitle[i]++;
-                }
+        });
 
-                tmpText = tmpText.replace("{file_name}", Utils.getFileNameWithoutExt((String) modelFiles.get(j)));
-                tmpText2 = tmpText2.replace("{file_name}", Utils.getFileNameWithoutExt((String) modelFiles.get(j)));
+        executor.setJobsPerDevice(getJobsPerDisk());
+        executor.setAdaptive(chbAdaptiveJobs.isSelected());
+        executor.setRetries(getRetries(), getRetryDelay() * 1000L);
+        executor.setTimeout(getTimeout() * 1000L);
+        executor.setNativeEdits(chbNativeEdits.isSelected());
+        executor.setVerify(chbVerify.isSelected());
 
-                cmdLineSubtitle[j] += tmpText;
-                cmdLineSubtitleOpt[j] += tmpText2;
-            }
+        if (useJournal) {
+            executor.setJournal(journal);
         }
-    }
 
-    private void setCmdLineAttachmentsAdd() {
-        cmdLineAttachmentsAdd = "";
-        cmdLineAttachmentsAddOpt = "";
+        outputConsole.clear();
+        outputConsole.append(notes);
+        modelResults.clear();
+        lblBatchStatus.setText(" ");
+        statusTimer.start();
+
+        pnlTabs.setSelectedIndex(pnlTabs.getTabCount() - 1);
+        pnlTabs.setEnabled(false);
+        btnProcessFiles.setEnabled(false);
+        btnResumeFiles.setEnabled(false);
+        btnRetryFailed.setEnabled(false);
+        btnGenerateCmdLine.setEnabled(false);
+        btnDryRun.setEnabled(false);
+        btnLoadProfile.setEnabled(false);
+        btnCancel.setEnabled(true);
 
-        for (int i = 0; i < modelAttachmentsAdd.getRowCount(); i++) {
-            String file = modelAttachmentsAdd.getValueAt(i, 0).toString();
-            String name = modelAttachmentsAdd.getValueAt(i, 1).toString();
-            String desc = modelAttachmentsAdd.getValueAt(i, 2).toString();
-            String mime = modelAttachmentsAdd.getValueAt(i, 3).toString();
-
-            if (!name.isEmpty() || !desc.isEmpty() || !mime.isEmpty()) {
-                if (!name.isEmpty()) {
-                    cmdLineAttachmentsAdd += " --attachment-name \"" + name + "\"";
-                    cmdLineAttachmentsAddOpt += " --attachment-name \"" + Utils.escapeName(name) + "\"";
-                }
+        worker = new SwingWorker<Void, Void>() {
+            private int exitStatus = BatchExecutor.EXIT_ERROR;
 
-                if (!desc.isEmpty()) {
-                    cmdLineAttachmentsAdd += " --attachment-description \"" + desc + "\"";
-                    cmdLineAttachmentsAddOpt += " --attachment-description \"" + Utils.escapeName(desc) + "\"";
+            @Override
+            public Void doInBackground() {
+                try {
+                    exitStatus = executor.run();
+                } catch (InterruptedException e) {
                 }
 
-                if (!mime.isEmpty()) {
-                    cmdLineAttachmentsAdd += " --attachment-mime-type \"" + mime + "\"";
-                    cmdLineAttachmentsAddOpt += " --attachment-mime-type \"" + Utils.escapeName(mime) + "\"";
-                }
+                return null;
             }
 
-            cmdLineAttachmentsAdd += " --add-attachment \"" + file + "\"";
-            cmdLineAttachmentsAddOpt += " --add-attachment \"" + Utils.escapeName(file) + "\"";
-        }
-    }
-
-    private void setCmdLineAttachmentsReplace() {
-        cmdLineAttachmentsReplace = "";
-        cmdLineAttachmentsReplaceOpt = "";
-
-        for (int i = 0; i < modelAttachmentsReplace.getRowCount(); i++) {
-            String type = modelAttachmentsReplace.getValueAt(i, 0).toString();
-            String orig = modelAttachmentsReplace.getValueAt(i, 1).toString();
-            String replace = modelAttachmentsReplace.getValueAt(i, 2).toString();
-            String name = modelAttachmentsReplace.getValueAt(i, 3).toString();
-            String desc = modelAttachmentsReplace.getValueAt(i, 4).toString();
-            String mime = modelAttachmentsReplace.getValueAt(i, 5).toString();
-
-            if (!name.isEmpty() || !desc.isEmpty() || !mime.isEmpty()) {
-                if (!name.isEmpty()) {
-                    cmdLineAttachmentsReplace += " --attachment-name \"" + name + "\"";
-                    cmdLineAttachmentsReplaceOpt += " --attachment-name \"" + Utils.escapeName(name) + "\"";
+            @Override
+            protected void done() {
+                if (executor.isCancelled()) {
+                    outputConsole.append("\n--------------\n\nBatch cancelled.\n");
+                } else {
+                    outputConsole.append("\n--------------\n\nFinished " + nJobs + " file(s): "
+                            + executor.countJobs(BatchExecutor.EXIT_OK) + " ok, "
+                            + executor.countJobs(BatchExecutor.EXIT_WARNINGS) + " with warnings, "
+                            + (nJobs - executor.countJobs(BatchExecutor.EXIT_OK)
+                                    - executor.countJobs(BatchExecutor.EXIT_WARNINGS))
+                            + " with errors (exit code " + exitStatus + ").\n");
+
+                    if (chbVerify.isSelected()) {
+                        outputConsole.append("Checked " + executor.countJobs(BatchExecutor.Verification.PASSED)
+                                + " file(s), " + executor.countJobs(BatchExecutor.Verification.FAILED)
+                                + " without the changes, " + executor.countJobs(BatchExecutor.Verification.UNCHECKABLE)
+                                + " that can't be checked.\n");
+                    }
                 }
 
-                if (!desc.isEmpty()) {
-                    cmdLineAttachmentsReplace += " --attachment-description \"" + desc + "\"";
-                    cmdLineAttachmentsReplaceOpt += " --attachment-description \"" + Utils.escapeName(desc) + "\"";
-                }
+                journal.close();
+                statusTimer.stop();
+                updateBatchStatus();
 
-                if (!mime.isEmpty()) {
-                    cmdLineAttachmentsReplace += " --attachment-mime-type \"" + mime + "\"";
-                    cmdLineAttachmentsReplaceOpt += " --attachment-mime-type \"" + Utils.escapeName(mime) + "\"";
-                }
+                pnlTabs.setEnabled(true);
+                btnProcessFiles.setEnabled(true);
+                btnResumeFiles.setEnabled(true);
+                btnRetryFailed.setEnabled(!executor.getFailedCommands().isEmpty());
+                btnGenerateCmdLine.setEnabled(true);
+                btnDryRun.setEnabled(true);
+                btnLoadProfile.setEnabled(true);
+                btnCancel.setEnabled(false);
 
+                SwingUtils.adjustColumnPreferredWidths(tblResults);
+                readFileInfo(batchFiles);
             }
+        };
 
-            if (type.equals(rbAttachReplaceName.getText())) {
-                cmdLineAttachmentsReplace += " --replace-attachment \"name:" + orig + ":" + replace + "\"";
-                cmdLineAttachmentsReplaceOpt += " --replace-attachment \"name:" + Utils.escapeName(orig) + ":"
-                        + Utils.escapeName(replace) + "\"";
-            } else if (type.equals(rbAttachReplaceID.getText())) {
-                cmdLineAttachmentsReplace += " --replace-attachment \"" + orig + ":" + replace + "\"";
-                cmdLineAttachmentsReplaceOpt += " --replace-attachment \"" + orig + ":" + Utils.escapeName(replace)
-                        + "\"";
-            } else {
-                cmdLineAttachmentsReplace += " --replace-attachment \"mime-type:" + orig + ":" + replace + "\"";
-                cmdLineAttachmentsReplaceOpt += " --replace-attachment \"mime-type:" + Utils.escapeName(orig) + ":"
-                        + Utils.escapeName(replace) + "\"";
-            }
-        }
+        worker.execute();
     }
 
-    private void setCmdLineAttachmentsDelete() {
-        cmdLineAttachmentsDelete = "";
-        cmdLineAttachmentsDeleteOpt = "";
-
-        for (int i = 0; i < modelAttachmentsDelete.getRowCount(); i++) {
-            String type = modelAttachmentsDelete.getValueAt(i, 0).toString();
-            String value = modelAttachmentsDelete.getValueAt(i, 1).toString();
-
-            if (type.equals(rbAttachDeleteName.getText())) {
-                cmdLineAttachmentsDelete += " --delete-attachment \"name:" + value + "\"";
-                cmdLineAttachmentsDeleteOpt += " --delete-attachment \"name:" + Utils.escapeName(value) + "\"";
-            } else if (type.equals(rbAttachDeleteID.getText())) {
-                cmdLineAttachmentsDelete += " --delete-attachment \"" + value + "\"";
-                cmdLineAttachmentsDeleteOpt += " --delete-attachment \"" + value + "\"";
-            } else {
-                cmdLineAttachmentsDelete += " --delete-attachment \"mime-type:" + value + "\"";
-                cmdLineAttachmentsDeleteOpt += " --delete-attachment \"mime-type:" + Utils.escapeName(value) + "\"";
-            }
+    /**
+     * Shows the number of running jobs and the throughput of the batch above
+     * the output.
+     */
+    private void updateBatchStatus() {
+        if (executor == null) {
+            return;
         }
-    }
-
-    private void setCmdLine() {
-        setCmdLineGeneral();
-        setCmdLineVideo();
-        setCmdLineAudio();
-        setCmdLineSubtitle();
-        setCmdLineAttachmentsAdd();
-        setCmdLineAttachmentsReplace();
-        setCmdLineAttachmentsDelete();
-
-        cmdLineBatch = new ArrayList<String>();
-        cmdLineBatchOpt = new ArrayList<String>();
 
-        String cmdTemp = cmdLineGeneral[0] + cmdLineAttachmentsDelete + cmdLineAttachmentsAdd
-                + cmdLineAttachmentsReplace + cmdLineVideo[0] + cmdLineAudio[0] + cmdLineSubtitle[0];
+        String status = String.format("%.2f files/s, %.1f s per file", executor.getThroughput(),
+                executor.getAverageDuration() / 1000.0);
 
-        if (!cmdTemp.isEmpty()) {
-            for (int i = 0; i < modelFiles.getSize(); i++) {
-                String cmdLineAll = cmdLineGeneral[i] + cmdLineAttachmentsDelete + cmdLineAttachmentsAdd
-                        + cmdLineAttachmentsReplace + cmdLineVideo[i] + cmdLineAudio[i] + cmdLineSubtitle[i];
-
-                String cmdLineAllOpt = cmdLineGeneralOpt[i] + cmdLineAttachmentsDeleteOpt + cmdLineAttachmentsAddOpt
-                        + cmdLineAttachmentsReplaceOpt + cmdLineVideoOpt[i] + cmdLineAudioOpt[i]
-                        + cmdLineSubtitleOpt[i];
-
-                if (Utils.isWindows()) {
-                    cmdLineBatch.add("\"" + txtMkvPropExe.getText() + "\" \"" + modelFiles.get(i) + "\"" + cmdLineAll);
-                    cmdLineBatchOpt.add("\"" + Utils.escapeName((String) modelFiles.get(i)) + "\"" + cmdLineAllOpt);
-                } else {
-                    cmdLineBatch.add("\"" + Utils.escapeQuotes(txtMkvPropExe.getText()) + "\" " + "\""
-                            + Utils.escapeQuotes((String) modelFiles.get(i)) + "\"" + cmdLineAll);
-
-                    cmdLineBatchOpt.add("\"" + Utils.escapeName((String) modelFiles.get(i)) + "\"" + cmdLineAllOpt);
-                }
-            }
+        if (statusTimer.isRunning()) {
+            status = "Running " + executor.getRunningJobs() + " job(s), limit " + executor.getConcurrencyLimit()
+                    + ". " + status;
         }
-    }
-
-    private void executeBatch() {
-        worker = new SwingWorker<Void, Void>() {
-            @Override
-            public Void doInBackground() {
-                txtOutput.setText("");
-                pnlTabs.setSelectedIndex(pnlTabs.getTabCount() - 1);
-                pnlTabs.setEnabled(false);
-                btnProcessFiles.setEnabled(false);
-                btnGenerateCmdLine.setEnabled(false);
 
-                for (int i = 0; i < cmdLineBatch.size(); i++) {
-                    try {
-                        File optFile = new File("options.json");
-                        PrintWriter optFilePW = new PrintWriter(optFile, "UTF-8");
-                        String[] optFileContents = Commandline.translateCommandline(cmdLineBatchOpt.get(i));
-                        int optFileMaxLines = optFileContents.length - 1;
-
-                        if (!optFile.exists()) {
-                            optFile.createNewFile();
-                        }
-
-                        optFilePW.println("[");
-                        int curLine = 0;
-                        for (String content : optFileContents) {
-                            content = Utils.fixEscapedQuotes(content);
-
-                            optFilePW.print("  \"" + content + "\"");
-                            if (curLine != optFileMaxLines)
-                                optFilePW.print(",");
-                            optFilePW.println();
-                            curLine++;
-                        }
-                        optFilePW.println("]");
+        lblBatchStatus.setText(status);
+    }
 
-                        optFilePW.flush();
-                        optFilePW.close();
+    /**
+     * Checks if the command would leave its file unchanged, based on the
+     * header metadata of the file.
+     */
+    private boolean isNoOp(MkvCommand cmd) {
+        MatroskaInfo info = getCurrentInfo(cmd.getFile());
 
-                        pb.command(txtMkvPropExe.getText(), "@options.json");
-                        pb.redirectErrorStream(true);
+        return info != null && EditDiff.isNoOp(info, cmd);
+    }
 
-                        txtOutput.append("File: " + modelFiles.get(i) + "\n");
-                        txtOutput.append("Command line: " + cmdLineBatch.get(i) + "\n\n");
+    private void setTempDir(File dir) {
+        if (!dir.equals(optionFiles.getDir())) {
+            boolean wRunning;
 
-                        proc = pb.start();
+            try {
+                wRunning = !worker.isDone();
+            } catch (Exception e) {
+                wRunning = false;
+            }
 
-                        StreamGobbler outputGobbler = new StreamGobbler(proc.getInputStream(), txtOutput);
-                        outputGobbler.start();
+            // Files still in use by a running batch are removed on exit
+            if (!wRunning) {
+                optionFiles.close();
+            }
 
-                        proc.waitFor();
+            optionFiles = new OptionFilePool(dir);
+            outputConsole.setLogDir(dir);
+        }
 
-                        optFile.delete();
+        txtTempDir.setText(dir.toString());
+    }
 
-                        if (i < cmdLineBatch.size() - 1) {
-                            txtOutput.append("--------------\n\n");
-                        }
+    private int getJobs() {
+        try {
+            return Math.max(1, Integer.parseInt(txtJobs.getText()));
+        } catch (NumberFormatException e) {
+            return BatchExecutor.getDefaultWorkers();
+        }
+    }
 
-                        Thread.sleep(10);
-                    } catch (IOException e) {
-                    } catch (InterruptedException e) {
-                        break;
-                    }
-                }
+    private int getJobsPerDisk() {
+        try {
+            return Math.max(1, Integer.parseInt(txtJobsPerDisk.getText()));
+        } catch (NumberFormatException e) {
+            return BatchExecutor.DEFAULT_JOBS_PER_DEVICE;
+        }
+    }
 
-                return null;
-            }
+    private int getRetries() {
+        try {
+            return Math.max(0, Integer.parseInt(txtRetries.getText()));
+        } catch (NumberFormatException e) {
+            return BatchExecutor.DEFAULT_RETRIES;
+        }
+    }
 
-            @Override
-            protected void done() {
-                pnlTabs.setEnabled(true);
-                btnProcessFiles.setEnabled(true);
-                btnGenerateCmdLine.setEnabled(true);
-            }
-        };
+    private int getRetryDelay() {
+        try {
+            return Math.max(0, Integer.parseInt(txtRetryDelay.getText()));
+        } catch (NumberFormatException e) {
+            return BatchExecutor.DEFAULT_RETRY_DELAY;
+        }
+    }
 
-        worker.execute();
+    private int getTimeout() {
+        try {
+            return Math.max(0, Integer.parseInt(txtTimeout.getText()));
+        } catch (NumberFormatException e) {
+            return BatchExecutor.DEFAULT_TIMEOUT;
+        }
     }
 
     private void parseFiles(String[] argsArray) {
@@ -4773,38 +3888,143 @@ public class JMkvpropedit {
         }
     }
 
-    private boolean isExecutableInPath(final String exe) {
-        worker = new SwingWorker<Void, Void>() {
-            @Override
-            public Void doInBackground() {
-                try {
-                    pb.command(exe);
-                    pb.redirectErrorStream(true);
-                    proc = pb.start();
+    /* End of command line methods */
 
-                    BufferedReader in = new BufferedReader(new InputStreamReader(proc.getInputStream()));
-                    proc.waitFor();
-                    in.close();
+    /* Start of profile methods */
 
-                    exeFound = true;
-                } catch (IOException e) {
-                    exeFound = false;
-                } catch (InterruptedException e) {
-                    exeFound = false;
-                }
+    /**
+     * Replaces every edit setting with the ones of a loaded profile.
+     */
+    private void setJobSettings(JobSettings settings) {
+        chbTitleGeneral.setSelected(settings.isSetTitle());
+        txtTitleGeneral.setText(settings.getTitle());
+        chbNumbGeneral.setSelected(settings.isNumbering());
+        txtNumbStartGeneral.setText(Integer.toString(settings.getNumbStart()));
+        txtNumbPadGeneral.setText(Integer.toString(settings.getNumbPad()));
+
+        chbChapters.setSelected(settings.isSetChapters());
+        cbChapters.setSelectedIndex(settings.getChaptersSource());
+        txtChapters.setText(settings.getChapters());
+        cbExtChapters.setSelectedItem(settings.getChaptersExt());
+
+        chbTags.setSelected(settings.isSetTags());
+        cbTags.setSelectedIndex(settings.getTagsSource());
+        txtTags.setText(settings.getTags());
+        cbExtTags.setSelectedItem(settings.getTagsExt());
+
+        chbExtraCmdGeneral.setSelected(settings.isSetExtra());
+        txtExtraCmdGeneral.setText(settings.getExtra());
+
+        updateGeneralControls();
+
+        setTracks(editorVideo, cbVideo, btnAddVideo, btnRemoveVideo, "Video", settings.getVideoTracks());
+        setTracks(editorAudio, cbAudio, btnAddAudio, btnRemoveAudio, "Audio", settings.getAudioTracks());
+        setTracks(editorSubtitle, cbSubtitle, btnAddSubtitle, btnRemoveSubtitle, "Subtitle",
+                settings.getSubtitleTracks());
+
+        modelAttachmentsAdd.setRowCount(0);
+        for (JobSettings.AttachmentAdd attachment : settings.getAttachmentsAdd()) {
+            String[] rowData = { attachment.getFile(), attachment.getName(), attachment.getDescription(),
+                    attachment.getMimeType() };
+
+            modelAttachmentsAdd.addRow(rowData);
+        }
 
-                return null;
-            }
-        };
+        modelAttachmentsReplace.setRowCount(0);
+        for (JobSettings.AttachmentReplace attachment : settings.getAttachmentsReplace()) {
+            String type = getAttachmentSelectText(attachment.getSelect(), rbAttachReplaceName, rbAttachReplaceID,
+                    rbAttachReplaceMime);
+            String[] rowData = { type, attachment.getOriginal(), attachment.getReplacement(), attachment.getName(),
+                    attachment.getDescription(), attachment.getMimeType() };
 
-        worker.execute();
-        while (!worker.isDone()) {
+            modelAttachmentsReplace.addRow(rowData);
+        }
+
+        modelAttachmentsDelete.setRowCount(0);
+        for (JobSettings.AttachmentDelete attachment : settings.getAttachmentsDelete()) {
+            String type = getAttachmentSelectText(attachment.getSelect(), rbAttachDeleteName, rbAttachDeleteID,
+                    rbAttachDeleteMime);
+            String[] rowData = { type, attachment.getValue() };
+
+            modelAttachmentsDelete.addRow(rowData);
         }
 
-        return exeFound;
+        SwingUtils.adjustColumnPreferredWidths(tblAttachAdd);
+        SwingUtils.adjustColumnPreferredWidths(tblAttachReplace);
+        SwingUtils.adjustColumnPreferredWidths(tblAttachDelete);
     }
 
-    /* End of command line methods */
+    /**
+     * Enables and shows the General tab controls to match the check boxes.
+     * The check box listeners toggle the controls, so they must always be in
+     * this state when the settings are changed without clicking.
+     */
+    private void updateGeneralControls() {
+        boolean title = chbTitleGeneral.isSelected();
+        boolean numb = title && chbNumbGeneral.isSelected();
+
+        txtTitleGeneral.setEnabled(title);
+        chbNumbGeneral.setEnabled(title);
+        lblNumbStartGeneral.setEnabled(numb);
+        txtNumbStartGeneral.setEnabled(numb);
+        lblNumbPadGeneral.setEnabled(numb);
+        txtNumbPadGeneral.setEnabled(numb);
+        lblNumbExplainGeneral.setEnabled(numb);
+
+        updateSourceControls(chbChapters, cbChapters, txtChapters, btnBrowseChapters, cbExtChapters);
+        updateSourceControls(chbTags, cbTags, txtTags, btnBrowseTags, cbExtTags);
+
+        txtExtraCmdGeneral.setEnabled(chbExtraCmdGeneral.isSelected());
+    }
+
+    private void updateSourceControls(JCheckBox chb, JComboBox<String> cb, JTextField txt, JButton btnBrowse,
+            JComboBox<String> cbExt) {
+        boolean enabled = chb.isSelected();
+        int source = cb.getSelectedIndex();
+
+        cb.setEnabled(enabled);
+        txt.setVisible(source != JobSettings.SOURCE_REMOVE);
+        txt.setEditable(source == JobSettings.SOURCE_MATCH);
+        txt.setEnabled(enabled);
+        btnBrowse.setVisible(source == JobSettings.SOURCE_FILE);
+        btnBrowse.setEnabled(enabled);
+        cbExt.setVisible(source == JobSettings.SOURCE_MATCH);
+        cbExt.setEnabled(enabled);
+    }
+
+    private void setTracks(TrackEditor editor, JComboBox<String> cb, AbstractButton btnAdd,
+            AbstractButton btnRemove, String type, List<TrackSettings> tracks) {
+        List<TrackSettings> newTracks = new ArrayList<TrackSettings>(tracks.subList(0,
+                Math.min(tracks.size(), MAX_STREAMS)));
+
+        if (newTracks.isEmpty()) {
+            newTracks.add(new TrackSettings());
+        }
+
+        editor.setTracks(newTracks);
+        cb.removeAllItems();
+
+        for (int i = 0; i < newTracks.size(); i++) {
+            cb.addItem(type + " Track " + (i + 1));
+        }
+
+        btnAdd.setEnabled(newTracks.size() < MAX_STREAMS);
+        btnRemove.setEnabled(newTracks.size() > 1);
+    }
+
+    private String getAttachmentSelectText(int select, JRadioButton rbName, JRadioButton rbID,
+            JRadioButton rbMime) {
+        switch (select) {
+        case JobSettings.SELECT_NAME:
+            return rbName.getText();
+        case JobSettings.SELECT_ID:
+            return rbID.getText();
+        default:
+            return rbMime.getText();
+        }
+    }
+
+    /* End of profile methods */
 
     /* Start of INI configuration file methods */
 
@@ -4816,6 +4036,53 @@ public class JMkvpropedit {
                 ini = new Ini(iniFile);
                 String exePath = ini.get("General", "mkvpropedit");
 
+                String jobs = ini.get("General", "jobs");
+                String tempDir = ini.get("General", "tempdir");
+                String jobsPerDisk = ini.get("General", "jobs-per-disk");
+                String adaptiveJobs = ini.get("General", "adaptive-jobs");
+                String retries = ini.get("General", "retries");
+                String retryDelay = ini.get("General", "retry-delay");
+                String timeout = ini.get("General", "timeout");
+                String nativeEdits = ini.get("General", "native-edits");
+                String verify = ini.get("General", "verify");
+
+                if (jobs != null) {
+                    txtJobs.setText(jobs);
+                }
+
+                if (jobsPerDisk != null) {
+                    txtJobsPerDisk.setText(jobsPerDisk);
+                }
+
+                if (adaptiveJobs != null) {
+                    chbAdaptiveJobs.setSelected(Boolean.parseBoolean(adaptiveJobs));
+                    txtJobsPerDisk.setEnabled(!chbAdaptiveJobs.isSelected());
+                }
+
+                if (retries != null) {
+                    txtRetries.setText(retries);
+                }
+
+                if (retryDelay != null) {
+                    txtRetryDelay.setText(retryDelay);
+                }
+
+                if (timeout != null) {
+                    txtTimeout.setText(timeout);
+                }
+
+                if (nativeEdits != null) {
+                    chbNativeEdits.setSelected(Boolean.parseBoolean(nativeEdits));
+                }
+
+                if (verify != null) {
+                    chbVerify.setSelected(Boolean.parseBoolean(verify));
+                }
+
+                if (tempDir != null && new File(tempDir).isDirectory()) {
+                    setTempDir(new File(tempDir));
+                }
+
                 if (exePath != null) {
                     if (exePath.equals("mkvpropedit")) {
                         chbMkvPropExeDef.setSelected(true);
@@ -4849,6 +4116,7 @@ public class JMkvpropedit {
         txtMkvPropExe.setText(exeFile.toString());
         chbMkvPropExeDef.setSelected(false);
         chbMkvPropExeDef.setEnabled(true);
+        exeProbe.probe(exeFile.toString());
 
         try {
             if (!iniFile.exists()) {
@@ -4881,6 +4149,22 @@ public class JMkvpropedit {
         }
     }
 
+    private void saveIniValue(String key, String value) {
+        Ini ini = null;
+
+        try {
+            if (!iniFile.exists()) {
+                iniFile.createNewFile();
+            }
+
+            ini = new Ini(iniFile);
+            ini.put("General", key, value);
+            ini.store();
+        } catch (InvalidFileFormatException e1) {
+        } catch (IOException e1) {
+        }
+    }
+
     private String getMkvPropExeDefaullt() {
         String sysDrive = System.getenv("SystemDrive");
         String exePaths[] = new String[] { sysDrive + "\\Program Files (x86)\\MKVToolNix",
@@ -4931,29 +4215,165 @@ public class JMkvpropedit {
     /* Start of file methods */
 
     private void addFile(File file, boolean checkExtension) {
-        try {
-            if (!modelFiles.contains(file.getCanonicalPath()) && !checkExtension) {
-                modelFiles.add(modelFiles.getSize(), file.getCanonicalPath());
-            } else if (!modelFiles.contains(file.getCanonicalPath()) && MATROSKA_EXT_FILTER.accept(file)) {
-                modelFiles.add(modelFiles.getSize(), file.getCanonicalPath());
+        List<File> files = new ArrayList<File>(1);
+        files.add(file);
+
+        addFiles(files, checkExtension);
+    }
+
+    private void addFiles(List<File> files, boolean checkExtension) {
+        List<String> paths = new ArrayList<String>(files.size());
+
+        for (File file : files) {
+            if (checkExtension && !MATROSKA_EXT_FILTER.accept(file)) {
+                continue;
+            }
+
+            try {
+                paths.add(file.getCanonicalPath());
+            } catch (IOException e) {
             }
-        } catch (IOException e) {
         }
+
+        modelFiles.addAll(paths);
     }
 
-    private void addMkvFilesFromFolder(final File folder) {
-        Runnable tmpWorker = new Runnable() {
+    private void addMkvFilesFromFolder(File folder) {
+        // Join the running scan if there is one
+        if (folderScanner != null && folderScanner.add(folder)) {
+            return;
+        }
+
+        final FolderScanner scanner = new FolderScanner(MatroskaReader.FILE_FILTER);
+        scanner.add(folder);
+        folderScanner = scanner;
+
+        lblScan.setText("Scanning folders...");
+        pnlScan.setVisible(true);
+
+        SwingWorker<Void, String> scanWorker = new SwingWorker<Void, String>() {
             @Override
-            public void run() {
-                Iterator<File> mkvFiles = FileUtils.iterateFiles(folder, MATROSKA_FILE_FILTER, TrueFileFilter.INSTANCE);
+            protected Void doInBackground() throws Exception {
+                List<String> batch;
+
+                while ((batch = scanner.nextBatch()) != null) {
+                    publish(batch.toArray(new String[batch.size()]));
+                }
+
+                return null;
+            }
+
+            @Override
+            protected void process(List<String> files) {
+                if (scanner.isCancelled()) {
+                    return;
+                }
+
+                modelFiles.addAll(files);
+
+                if (folderScanner == scanner) {
+                    lblScan.setText("Scanning folders... " + scanner.getCount() + " file(s) found");
+                }
+            }
 
-                while (mkvFiles.hasNext()) {
-                    addFile(mkvFiles.next(), false);
+            @Override
+            protected void done() {
+                if (folderScanner == scanner) {
+                    folderScanner = null;
+                    pnlScan.setVisible(false);
                 }
             }
         };
 
-        SwingUtilities.invokeLater(tmpWorker);
+        scanWorker.execute();
+    }
+
+    private void readFileInfo(final List<String> files) {
+        SwingWorker<int[], Void> infoWorker = new SwingWorker<int[], Void>() {
+            @Override
+            protected int[] doInBackground() {
+                int[] tracks = new int[3];
+
+                for (String file : files) {
+                    try {
+                        MatroskaInfo info = metadataCache.read(new File(file));
+                        fileInfo.put(file, info);
+
+                        tracks[0] = Math.max(tracks[0], info.getTracks(MatroskaInfo.TYPE_VIDEO).size());
+                        tracks[1] = Math.max(tracks[1], info.getTracks(MatroskaInfo.TYPE_AUDIO).size());
+                        tracks[2] = Math.max(tracks[2], info.getTracks(MatroskaInfo.TYPE_SUBTITLE).size());
+                    } catch (IOException e) {
+                    }
+                }
+
+                return tracks;
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    int[] tracks = get();
+
+                    listFiles.repaint();
+                    addTracks(tracks[0], tracks[1], tracks[2]);
+                } catch (Exception e) {
+                }
+            }
+        };
+
+        infoWorker.execute();
+    }
+
+    private String getTrackSummary(MatroskaInfo info) {
+        String summary = info.getTracks(MatroskaInfo.TYPE_VIDEO).size() + " video, "
+                + info.getTracks(MatroskaInfo.TYPE_AUDIO).size() + " audio, "
+                + info.getTracks(MatroskaInfo.TYPE_SUBTITLE).size() + " subtitle";
+
+        if (!info.getAttachments().isEmpty()) {
+            summary += ", " + info.getAttachments().size() + " attachment(s)";
+        }
+
+        return summary;
+    }
+
+    /**
+     * Adds track panels until there is at least one for every track found in
+     * the input files.
+     */
+    private void addTracks(int video, int audio, int subtitle) {
+        boolean running;
+
+        try {
+            running = !worker.isDone();
+        } catch (Exception e) {
+            running = false;
+        }
+
+        // Don't change the settings of a running batch
+        if (running) {
+            return;
+        }
+
+        while (editorVideo.getTrackCount() < Math.min(video, MAX_STREAMS)) {
+            addVideoTrack();
+        }
+
+        btnAddVideo.setEnabled(editorVideo.getTrackCount() < MAX_STREAMS);
+        btnRemoveVideo.setEnabled(editorVideo.getTrackCount() > 1);
+
+        while (editorAudio.getTrackCount() < Math.min(audio, MAX_STREAMS)) {
+            addAudioTrack();
+        }
+
+        btnAddAudio.setEnabled(editorAudio.getTrackCount() < MAX_STREAMS);
+        btnRemoveAudio.setEnabled(editorAudio.getTrackCount() > 1);
+
+        while (editorSubtitle.getTrackCount() < Math.min(subtitle, MAX_STREAMS)) {
+            addSubtitleTrack();
+        }
+
+        btnAddSubtitle.setEnabled(editorSubtitle.getTrackCount() < MAX_STREAMS);
+        btnRemoveSubtitle.setEnabled(editorSubtitle.getTrackCount() > 1);
     }
 
     /* End of file methods */
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+
+package io.github.brunorex;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/*
+ * Job profiles: every edit setting of a batch saved to a compact binary
+ * file, so the same edit can be loaded again by the GUI or run by the
+ * command-line mode.
+ *
+ */
+
+public class JobProfile {
+    public static final String EXTENSION = "jmkp";
+
+    private static final int MAGIC = 0x4A4D4B50; // "JMKP"
+    private static final int VERSION = 1;
+    private static final int MAX_STRING_SIZE = 1024 * 1024;
+    private static final int MAX_ITEMS = 100000;
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private JobProfile() {
+    }
+
+    /**
+     * Checks if the file starts with the profile magic number.
+     */
+    public static boolean isProfile(File file) {
+        try {
+            InputStream in = new FileInputStream(file);
+
+            try {
+                return new DataInputStream(in).readInt() == MAGIC;
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public static void write(JobSettings settings, File file) throws IOException {
+        File tmpFile = new File(file.getPath() + ".tmp");
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)));
+
+        try {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+
+            out.writeBoolean(settings.isSetTitle());
+            writeString(out, settings.getTitle());
+            out.writeBoolean(settings.isNumbering());
+            out.writeInt(settings.getNumbStart());
+            out.writeInt(settings.getNumbPad());
+            out.writeBoolean(settings.isSetChapters());
+            out.writeInt(settings.getChaptersSource());
+            writeString(out, settings.getChapters());
+            writeString(out, settings.getChaptersExt());
+            out.writeBoolean(settings.isSetTags());
+            out.writeInt(settings.getTagsSource());
+            writeString(out, settings.getTags());
+            writeString(out, settings.getTagsExt());
+            out.writeBoolean(settings.isSetExtra());
+            writeString(out, settings.getExtra());
+
+            writeTracks(out, settings.getVideoTracks());
+            writeTracks(out, settings.getAudioTracks());
+            writeTracks(out, settings.getSubtitleTracks());
+
+            out.writeInt(settings.getAttachmentsAdd().size());
+            for (JobSettings.AttachmentAdd attachment : settings.getAttachmentsAdd()) {
+                writeString(out, attachment.getFile());
+                writeString(out, attachment.getName());
+                writeString(out, attachment.getDescription());
+                writeString(out, attachment.getMimeType());
+            }
+
+            out.writeInt(settings.getAttachmentsReplace().size());
+            for (JobSettings.AttachmentReplace attachment : settings.getAttachmentsReplace()) {
+                out.writeInt(attachment.getSelect());
+                writeString(out, attachment.getOriginal());
+                writeString(out, attachment.getReplacement());
+                writeString(out, attachment.getName());
+                writeString(out, attachment.getDescription());
+                writeString(out, attachment.getMimeType());
+            }
+
+            out.writeInt(settings.getAttachmentsDelete().size());
+            for (JobSettings.AttachmentDelete attachment : settings.getAttachmentsDelete()) {
+                out.writeInt(attachment.getSelect());
+                writeString(out, attachment.getValue());
+            }
+        } finally {
+            out.close();
+        }
+
+        Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    public static JobSettings read(File file) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+
+        try {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a job profile");
+            }
+
+            int version = in.readInt();
+
+            if (version != VERSION) {
+                throw new IOException("Unsupported profile version: " + version);
+            }
+
+            JobSettings settings = new JobSettings();
+
+            settings.setSetTitle(in.readBoolean());
+            settings.setTitle(readString(in));
+            settings.setNumbering(in.readBoolean());
+            settings.setNumbStart(in.readInt());
+            settings.setNumbPad(in.readInt());
+            settings.setSetChapters(in.readBoolean());
+            settings.setChaptersSource(in.readInt());
+            settings.setChapters(readString(in));
+            settings.setChaptersExt(readString(in));
+            settings.setSetTags(in.readBoolean());
+            settings.setTagsSource(in.readInt());
+            settings.setTags(readString(in));
+            settings.setTagsExt(readString(in));
+            settings.setSetExtra(in.readBoolean());
+            settings.setExtra(readString(in));
+
+            readTracks(in, settings.getVideoTracks());
+            readTracks(in, settings.getAudioTracks());
+            readTracks(in, settings.getSubtitleTracks());
+
+            int nAdd = readCount(in);
+            for (int i = 0; i < nAdd; i++) {
+                settings.getAttachmentsAdd().add(new JobSettings.AttachmentAdd(readString(in), readString(in),
+                        readString(in), readString(in)));
+            }
+
+            int nReplace = readCount(in);
+            for (int i = 0; i < nReplace; i++) {
+                settings.getAttachmentsReplace().add(new JobSettings.AttachmentReplace(in.readInt(),
+                        readString(in), readString(in), readString(in), readString(in), readString(in)));
+            }
+
+            int nDelete = readCount(in);
+            for (int i = 0; i < nDelete; i++) {
+                settings.getAttachmentsDelete().add(new JobSettings.AttachmentDelete(in.readInt(), readString(in)));
+            }
+
+            return settings;
+        } finally {
+            in.close();
+        }
+    }
+
+    private static void writeTracks(DataOutputStream out, List<TrackSettings> tracks) throws IOException {
+        out.writeInt(tracks.size());
+
+        for (TrackSettings track : tracks) {
+            out.writeBoolean(track.isEdit());
+            out.writeBoolean(track.isSetEnabled());
+            out.writeBoolean(track.isEnabled());
+            out.writeBoolean(track.isSetDefault());
+            out.writeBoolean(track.isDefaultTrack());
+            out.writeBoolean(track.isSetForced());
+            out.writeBoolean(track.isForced());
+            out.writeBoolean(track.isSetName());
+            writeString(out, track.getName());
+            out.writeBoolean(track.isNumbering());
+            out.writeInt(track.getNumbStart());
+            out.writeInt(track.getNumbPad());
+            out.writeBoolean(track.isSetLanguage());
+            writeString(out, track.getLanguage());
+            out.writeBoolean(track.isSetExtra());
+            writeString(out, track.getExtra());
+        }
+    }
+
+    private static void readTracks(DataInputStream in, List<TrackSettings> tracks) throws IOException {
+        int count = readCount(in);
+
+        for (int i = 0; i < count; i++) {
+            TrackSettings track = new TrackSettings();
+            track.setEdit(in.readBoolean());
+            track.setSetEnabled(in.readBoolean());
+            track.setEnabled(in.readBoolean());
+            track.setSetDefault(in.readBoolean());
+            track.setDefaultTrack(in.readBoolean());
+            track.setSetForced(in.readBoolean());
+            track.setForced(in.readBoolean());
+            track.setSetName(in.readBoolean());
+            track.setName(readString(in));
+            track.setNumbering(in.readBoolean());
+            track.setNumbStart(in.readInt());
+            track.setNumbPad(in.readInt());
+            track.setSetLanguage(in.readBoolean());
+            track.setLanguage(readString(in));
+            track.setSetExtra(in.readBoolean());
+            track.setExtra(readString(in));
+            tracks.add(track);
+        }
+    }
+
+    private static int readCount(DataInputStream in) throws IOException {
+        int count = in.readInt();
+
+        if (count < 0 || count > MAX_ITEMS) {
+            throw new IOException("Invalid item count: " + count);
+        }
+
+        return count;
+    }
+
+    private static void writeString(DataOutputStream out, String str) throws IOException {
+        byte[] bytes = str.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int len = in.readInt();
+
+        if (len < 0 || len > MAX_STRING_SIZE) {
+            throw new IOException("Invalid string length: " + len);
+        }
+
+        byte[] bytes = new byte[len];
+        in.readFully(bytes);
+
+        return new String(bytes, UTF_8);
+    }
+}
@@ -0,0 +1,484 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+
+package io.github.brunorex;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Every edit setting of a batch: the General tab, the track tabs and the
+ * attachment tables.
+ *
+ * Plain data without any Swing components, so the same commands can be
+ * built by the GUI and by the command-line mode.
+ *
+ */
+
+public class JobSettings {
+
+    /* Sources for chapters and tags */
+    public static final int SOURCE_REMOVE = 0;
+    public static final int SOURCE_FILE = 1;
+    public static final int SOURCE_MATCH = 2;
+
+    /* Ways to select an attachment */
+    public static final int SELECT_NAME = 0;
+    public static final int SELECT_ID = 1;
+    public static final int SELECT_MIME_TYPE = 2;
+
+    public static class AttachmentAdd {
+        private final String file;
+        private final String name;
+        private final String description;
+        private final String mimeType;
+
+        public AttachmentAdd(String file, String name, String description, String mimeType) {
+            this.file = file;
+            this.name = name;
+            this.description = description;
+            this.mimeType = mimeType;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public String getMimeType() {
+            return mimeType;
+        }
+    }
+
+    public static class AttachmentReplace {
+        private final int select;
+        private final String original;
+        private final String replacement;
+        private final String name;
+        private final String description;
+        private final String mimeType;
+
+        public AttachmentReplace(int select, String original, String replacement, String name,
+                String description, String mimeType) {
+            this.select = select;
+            this.original = original;
+            this.replacement = replacement;
+            this.name = name;
+            this.description = description;
+            this.mimeType = mimeType;
+        }
+
+        public int getSelect() {
+            return select;
+        }
+
+        public String getOriginal() {
+            return original;
+        }
+
+        public String getReplacement() {
+            return replacement;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public String getMimeType() {
+            return mimeType;
+        }
+    }
+
+    public static class AttachmentDelete {
+        private final int select;
+        private final String value;
+
+        public AttachmentDelete(int select, String value) {
+            this.select = select;
+            this.value = value;
+        }
+
+        public int getSelect() {
+            return select;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    private boolean setTitle = false;
+    private String title = "";
+    private boolean numbering = false;
+    private int numbStart = 1;
+    private int numbPad = 1;
+    private boolean setChapters = false;
+    private int chaptersSource = SOURCE_REMOVE;
+    private String chapters = "";
+    private String chaptersExt = ".xml";
+    private boolean setTags = false;
+    private int tagsSource = SOURCE_REMOVE;
+    private String tags = "";
+    private String tagsExt = ".xml";
+    private boolean setExtra = false;
+    private String extra = "";
+
+    private final List<TrackSettings> videoTracks = new ArrayList<TrackSettings>();
+    private final List<TrackSettings> audioTracks = new ArrayList<TrackSettings>();
+    private final List<TrackSettings> subtitleTracks = new ArrayList<TrackSettings>();
+    private final List<AttachmentAdd> attachmentsAdd = new ArrayList<AttachmentAdd>();
+    private final List<AttachmentReplace> attachmentsReplace = new ArrayList<AttachmentReplace>();
+    private final List<AttachmentDelete> attachmentsDelete = new ArrayList<AttachmentDelete>();
+
+    public boolean isSetTitle() {
+        return setTitle;
+    }
+
+    public void setSetTitle(boolean setTitle) {
+        this.setTitle = setTitle;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public boolean isNumbering() {
+        return numbering;
+    }
+
+    public void setNumbering(boolean numbering) {
+        this.numbering = numbering;
+    }
+
+    public int getNumbStart() {
+        return numbStart;
+    }
+
+    public void setNumbStart(int numbStart) {
+        this.numbStart = numbStart;
+    }
+
+    public int getNumbPad() {
+        return numbPad;
+    }
+
+    public void setNumbPad(int numbPad) {
+        this.numbPad = numbPad;
+    }
+
+    public boolean isSetChapters() {
+        return setChapters;
+    }
+
+    public void setSetChapters(boolean setChapters) {
+        this.setChapters = setChapters;
+    }
+
+    public int getChaptersSource() {
+        return chaptersSource;
+    }
+
+    public void setChaptersSource(int chaptersSource) {
+        this.chaptersSource = chaptersSource;
+    }
+
+    /**
+     * Returns the chapter file for SOURCE_FILE, or the suffix added to the
+     * input file name for SOURCE_MATCH.
+     */
+    public String getChapters() {
+        return chapters;
+    }
+
+    public void setChapters(String chapters) {
+        this.chapters = chapters;
+    }
+
+    public String getChaptersExt() {
+        return chaptersExt;
+    }
+
+    public void setChaptersExt(String chaptersExt) {
+        this.chaptersExt = chaptersExt;
+    }
+
+    public boolean isSetTags() {
+        return setTags;
+    }
+
+    public void setSetTags(boolean setTags) {
+        this.setTags = setTags;
+    }
+
+    public int getTagsSource() {
+        return tagsSource;
+    }
+
+    public void setTagsSource(int tagsSource) {
+        this.tagsSource = tagsSource;
+    }
+
+    /**
+     * Returns the tag file for SOURCE_FILE, or the suffix added to the input
+     * file name for SOURCE_MATCH.
+     */
+    public String getTags() {
+        return tags;
+    }
+
+    public void setTags(String tags) {
+        this.tags = tags;
+    }
+
+    public String getTagsExt() {
+        return tagsExt;
+    }
+
+    public void setTagsExt(String tagsExt) {
+        this.tagsExt = tagsExt;
+    }
+
+    public boolean isSetExtra() {
+        return setExtra;
+    }
+
+    public void setSetExtra(boolean setExtra) {
+        this.setExtra = setExtra;
+    }
+
+    public String getExtra() {
+        return extra;
+    }
+
+    public void setExtra(String extra) {
+        this.extra = extra;
+    }
+
+    public List<TrackSettings> getVideoTracks() {
+        return videoTracks;
+    }
+
+    public List<TrackSettings> getAudioTracks() {
+        return audioTracks;
+    }
+
+    public List<TrackSettings> getSubtitleTracks() {
+        return subtitleTracks;
+    }
+
+    public List<AttachmentAdd> getAttachmentsAdd() {
+        return attachmentsAdd;
+    }
+
+    public List<AttachmentReplace> getAttachmentsReplace() {
+        return attachmentsReplace;
+    }
+
+    public List<AttachmentDelete> getAttachmentsDelete() {
+        return attachmentsDelete;
+    }
+
+    /**
+     * Builds the commands for a batch.
+     *
+     * @return one command per file, or an empty list if there is nothing to
+     *         change.
+     */
+    public List<MkvCommand> buildCommands(List<String> files) {
+        List<MkvCommand.Arg> argsAttachments = getArgsAttachments();
+        List<MkvCommand> commands = new ArrayList<MkvCommand>(files.size());
+
+        for (int i = 0; i < files.size(); i++) {
+            String file = files.get(i);
+            String fileName = Utils.getFileNameWithoutExt(file);
+
+            MkvCommand cmd = new MkvCommand.Builder(file)
+                    .addAll(getArgsGeneral(file, i))
+                    .addAll(argsAttachments)
+                    .addAll(getArgsTracks(videoTracks, "track:v", i, fileName))
+                    .addAll(getArgsTracks(audioTracks, "track:a", i, fileName))
+                    .addAll(getArgsTracks(subtitleTracks, "track:s", i, fileName))
+                    .build();
+
+            if (cmd.isEmpty()) {
+                break;
+            }
+
+            commands.add(cmd);
+        }
+
+        return commands;
+    }
+
+    private List<MkvCommand.Arg> getArgsGeneral(String filePath, int file) {
+        List<MkvCommand.Arg> args = new ArrayList<MkvCommand.Arg>();
+
+        if (setTags) {
+            args.add(MkvCommand.Arg.option("--tags"));
+
+            switch (tagsSource) {
+            case SOURCE_REMOVE:
+                args.add(MkvCommand.Arg.value("all:"));
+                break;
+            case SOURCE_FILE:
+                if (tags.trim().isEmpty()) {
+                    args.add(MkvCommand.Arg.value("all:"));
+                } else {
+                    args.add(MkvCommand.Arg.path("all:", tags));
+                }
+                break;
+            case SOURCE_MATCH:
+                String tmpTags = Utils.getPathWithoutExt(filePath) + tags + tagsExt;
+
+                args.add(MkvCommand.Arg.path("all:", tmpTags));
+                break;
+            }
+        }
+
+        if (setChapters) {
+            args.add(MkvCommand.Arg.option("--chapters"));
+
+            switch (chaptersSource) {
+            case SOURCE_REMOVE:
+                args.add(MkvCommand.Arg.path("", ""));
+                break;
+            case SOURCE_FILE:
+                if (chapters.trim().isEmpty()) {
+                    args.add(MkvCommand.Arg.path("", ""));
+                } else {
+                    args.add(MkvCommand.Arg.path("", chapters));
+                }
+                break;
+            case SOURCE_MATCH:
+                String tmpChaps = Utils.getPathWithoutExt(filePath) + chapters + chaptersExt;
+
+                args.add(MkvCommand.Arg.path("", tmpChaps));
+                break;
+            }
+        }
+
+        if (setTitle) {
+            String newTitle = title;
+
+            if (numbering) {
+                newTitle = newTitle.replace("{num}", Utils.padNumber(numbPad, numbStart + file));
+            }
+
+            newTitle = newTitle.replace("{file_name}", Utils.getFileNameWithoutExt(filePath));
+
+            args.add(MkvCommand.Arg.option("--edit"));
+            args.add(MkvCommand.Arg.value("info"));
+            args.add(MkvCommand.Arg.option("--set"));
+            args.add(MkvCommand.Arg.property("title", newTitle));
+        }
+
+        if (setExtra && !extra.trim().isEmpty()) {
+            args.add(MkvCommand.Arg.extra(extra));
+        }
+
+        return args;
+    }
+
+    private static List<MkvCommand.Arg> getArgsTracks(List<TrackSettings> tracks, String selector, int file,
+            String fileName) {
+        List<MkvCommand.Arg> args = new ArrayList<MkvCommand.Arg>();
+
+        for (int j = 0; j < tracks.size(); j++) {
+            args.addAll(tracks.get(j).getArgs(selector + (j + 1), file, fileName));
+        }
+
+        return args;
+    }
+
+    private static void addArgsAttachmentProps(List<MkvCommand.Arg> args, String name, String desc, String mime) {
+        if (!name.isEmpty()) {
+            args.add(MkvCommand.Arg.option("--attachment-name"));
+            args.add(MkvCommand.Arg.path("", name));
+        }
+
+        if (!desc.isEmpty()) {
+            args.add(MkvCommand.Arg.option("--attachment-description"));
+            args.add(MkvCommand.Arg.path("", desc));
+        }
+
+        if (!mime.isEmpty()) {
+            args.add(MkvCommand.Arg.option("--attachment-mime-type"));
+            args.add(MkvCommand.Arg.path("", mime));
+        }
+    }
+
+    private static String getSelector(int select, String value) {
+        switch (select) {
+        case SELECT_NAME:
+            return "name:" + value;
+        case SELECT_ID:
+            return value;
+        default:
+            return "mime-type:" + value;
+        }
+    }
+
+    private List<MkvCommand.Arg> getArgsAttachments() {
+        List<MkvCommand.Arg> args = new ArrayList<MkvCommand.Arg>();
+
+        for (AttachmentDelete attachment : attachmentsDelete) {
+            args.add(MkvCommand.Arg.option("--delete-attachment"));
+            args.add(MkvCommand.Arg.path("", getSelector(attachment.select, attachment.value)));
+        }
+
+        for (AttachmentAdd attachment : attachmentsAdd) {
+            addArgsAttachmentProps(args, attachment.name, attachment.description, attachment.mimeType);
+
+            args.add(MkvCommand.Arg.option("--add-attachment"));
+            args.add(MkvCommand.Arg.path("", attachment.file));
+        }
+
+        for (AttachmentReplace attachment : attachmentsReplace) {
+            addArgsAttachmentProps(args, attachment.name, attachment.description, attachment.mimeType);
+
+            args.add(MkvCommand.Arg.option("--replace-attachment"));
+            args.add(MkvCommand.Arg.path("",
+                    getSelector(attachment.select, attachment.original) + ":" + attachment.replacement));
+        }
+
+        return args;
+    }
+}
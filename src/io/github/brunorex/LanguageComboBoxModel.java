@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+
+package io.github.brunorex;
+
+import java.util.List;
+
+import javax.swing.AbstractListModel;
+import javax.swing.ComboBoxModel;
+import javax.swing.JComboBox;
+
+/*
+ * Combo box model for the language lists of the track panels.
+ *
+ * All instances share the same list of language names, which is never
+ * modified. Each instance only keeps the selection of its own combo box,
+ * so adding track panels doesn't copy the list.
+ *
+ * TypeAhead selects languages as their names are typed, using the prefix
+ * index of MkvStrings instead of scanning the list.
+ *
+ */
+
+public class LanguageComboBoxModel extends AbstractListModel<String> implements ComboBoxModel<String> {
+    private static final long serialVersionUID = 1L;
+
+    public static class TypeAhead implements JComboBox.KeySelectionManager {
+        private static final long TIMEOUT = 1000; // ms
+
+        private final MkvStrings strings;
+        private String prefix = "";
+        private long lastTime = 0;
+
+        public TypeAhead(MkvStrings strings) {
+            this.strings = strings;
+        }
+
+        @Override
+        public int selectionForKey(char key, ComboBoxModel<?> model) {
+            long now = System.currentTimeMillis();
+
+            // Keys typed in quick succession extend the prefix
+            if (now - lastTime > TIMEOUT) {
+                prefix = "";
+            }
+
+            lastTime = now;
+            prefix += key;
+
+            int index = strings.findLangByPrefix(prefix);
+
+            if (index < 0 && prefix.length() > 1) {
+                prefix = String.valueOf(key);
+                index = strings.findLangByPrefix(prefix);
+            }
+
+            return index;
+        }
+    }
+
+    private final List<String> names;
+    private Object selectedItem = null;
+
+    public LanguageComboBoxModel(List<String> names) {
+        this.names = names;
+    }
+
+    @Override
+    public int getSize() {
+        return names.size();
+    }
+
+    @Override
+    public String getElementAt(int index) {
+        return names.get(index);
+    }
+
+    @Override
+    public Object getSelectedItem() {
+        return selectedItem;
+    }
+
+    @Override
+    public void setSelectedItem(Object item) {
+        if (item == null ? selectedItem != null : !item.equals(selectedItem)) {
+            selectedItem = item;
+            fireContentsChanged(this, -1, -1);
+        }
+    }
+}
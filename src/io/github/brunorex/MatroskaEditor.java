@@ -0,0 +1,581 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+
+package io.github.brunorex;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+ * Makes simple edits to a Matroska file without calling mkvpropedit: the
+ * segment title and the flags, name and language of tracks.
+ *
+ * The Info or Tracks element is rebuilt in memory and written back in its
+ * place. It may grow into the EbmlVoid elements right after it, and if it
+ * shrinks the rest becomes a new EbmlVoid, so nothing else in the file
+ * moves. If the element doesn't fit, has a CRC-32, or a track has a BCP 47
+ * language that would have to change too, the file is left alone and the
+ * caller should use mkvpropedit instead.
+ *
+ * Like mkvpropedit, an edit can be stopped: interrupting the thread or
+ * reaching the timeout closes the file, so a stalled network share doesn't
+ * block the caller forever.
+ *
+ */
+
+public class MatroskaEditor {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final int MAX_ELEMENT_SIZE = 16 * 1024 * 1024;
+    private static final MkvStrings mkvStrings = MkvStrings.getInstance();
+
+    /* Closes the files of edits that take longer than their timeout */
+    private static final ScheduledExecutorService watchdog = Executors
+            .newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, "MatroskaEditor watchdog");
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+
+    /*
+     * A change to one child element. The data is null if the element is
+     * deleted.
+     */
+    private static class Edit {
+        final String selector;
+        final int id;
+        final byte[] data;
+
+        Edit(String selector, int id, byte[] data) {
+            this.selector = selector;
+            this.id = id;
+            this.data = data;
+        }
+    }
+
+    /*
+     * A child element, kept as the raw bytes of the whole element.
+     */
+    private static class Child {
+        final int id;
+        final byte[] bytes;
+
+        Child(int id, byte[] bytes) {
+            this.id = id;
+            this.bytes = bytes;
+        }
+    }
+
+    private MatroskaEditor() {
+    }
+
+    /**
+     * Checks if the command only makes edits this class supports.
+     */
+    public static boolean canEdit(MkvCommand command) {
+        return parseEdits(command) != null;
+    }
+
+    /**
+     * Writes the edits of the command directly to the file.
+     *
+     * @param timeout the time after which the edit is stopped, in ms, or 0
+     *        for no limit.
+     * @return true if the file was edited, false if it was left unchanged
+     *         because the edits can't be made in place.
+     * @throws InterruptedIOException if the edit timed out.
+     * @throws java.nio.channels.ClosedByInterruptException if the thread was
+     *         interrupted.
+     * @throws IOException if the file can't be read or written.
+     */
+    public static boolean edit(File file, MkvCommand command, long timeout) throws IOException {
+        List<Edit> edits = parseEdits(command);
+
+        if (edits == null) {
+            return false;
+        }
+
+        final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        final AtomicBoolean timedOut = new AtomicBoolean(false);
+        ScheduledFuture<?> stopper = null;
+
+        if (timeout > 0) {
+            stopper = watchdog.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    timedOut.set(true);
+
+                    // Blocked reads and writes fail with an AsynchronousCloseException
+                    try {
+                        channel.close();
+                    } catch (IOException e) {
+                    }
+                }
+            }, timeout, TimeUnit.MILLISECONDS);
+        }
+
+        try {
+            return edit(channel, file, edits);
+        } catch (ClosedChannelException e) {
+            if (timedOut.get()) {
+                throw new InterruptedIOException("Timed out after " + (timeout / 1000.0) + " s");
+            }
+
+            throw e;
+        } finally {
+            if (stopper != null) {
+                stopper.cancel(false);
+            }
+
+            channel.close();
+        }
+    }
+
+    private static boolean edit(FileChannel channel, File file, List<Edit> edits) throws IOException {
+        MatroskaReader reader = new MatroskaReader(channel);
+        MatroskaInfo info = new MatroskaInfo(file.getPath(), channel.size(), file.lastModified());
+        reader.readSegment(info);
+
+        List<Edit> infoEdits = new ArrayList<Edit>();
+        Map<Integer, List<Edit>> trackEdits = new LinkedHashMap<Integer, List<Edit>>();
+
+        for (Edit edit : edits) {
+            if (edit.selector.equals("info")) {
+                infoEdits.add(edit);
+                continue;
+            }
+
+            MatroskaInfo.Track track = EditDiff.findTrack(info, edit.selector);
+
+            // mkvpropedit would have to update the BCP 47 tag as well
+            if (track == null || (edit.id == MatroskaReader.ID_LANGUAGE && track.getLanguageBcp47() != null)) {
+                return false;
+            }
+
+            int index = info.tracks.indexOf(track);
+
+            if (!trackEdits.containsKey(index)) {
+                trackEdits.put(index, new ArrayList<Edit>());
+            }
+
+            trackEdits.get(index).add(edit);
+        }
+
+        List<Long> positions = new ArrayList<Long>();
+        List<ByteBuffer> buffers = new ArrayList<ByteBuffer>();
+
+        if (!infoEdits.isEmpty()) {
+            if (!rewrite(reader, info, MatroskaReader.ID_INFO, infoEdits, null, positions, buffers)) {
+                return false;
+            }
+        }
+
+        if (!trackEdits.isEmpty()) {
+            if (!rewrite(reader, info, MatroskaReader.ID_TRACKS, null, trackEdits, positions, buffers)) {
+                return false;
+            }
+        }
+
+        for (int i = 0; i < buffers.size(); i++) {
+            ByteBuffer buffer = buffers.get(i);
+            long pos = positions.get(i);
+
+            while (buffer.hasRemaining()) {
+                pos += channel.write(buffer, pos);
+            }
+        }
+
+        channel.force(false);
+
+        return true;
+    }
+
+    /**
+     * Returns the edits of the command, or null if it has options or
+     * properties this class doesn't support.
+     */
+    private static List<Edit> parseEdits(MkvCommand command) {
+        List<Edit> edits = new ArrayList<Edit>();
+        List<MkvCommand.Arg> args = command.getArgs();
+        String selector = null;
+
+        for (int i = 0; i < args.size(); i++) {
+            MkvCommand.Arg arg = args.get(i);
+
+            if (arg.getKind() != MkvCommand.Arg.Kind.OPTION || i + 1 == args.size()) {
+                return null;
+            }
+
+            MkvCommand.Arg param = args.get(++i);
+            String option = arg.getKey();
+
+            if (option.equals("--edit") && param.getKind() == MkvCommand.Arg.Kind.VALUE) {
+                selector = param.getValue();
+
+                if (!selector.equals("info") && !selector.startsWith("track:")) {
+                    return null;
+                }
+            } else if (option.equals("--set") && selector != null) {
+                Edit edit = parseSet(selector, param);
+
+                if (edit == null) {
+                    return null;
+                }
+
+                edits.add(edit);
+            } else if (option.equals("--delete") && selector != null
+                    && param.getKind() == MkvCommand.Arg.Kind.VALUE) {
+                int id = getId(selector, param.getValue());
+
+                if (id != MatroskaReader.ID_TITLE && id != MatroskaReader.ID_NAME) {
+                    return null;
+                }
+
+                edits.add(new Edit(selector, id, null));
+            } else {
+                return null;
+            }
+        }
+
+        return edits.isEmpty() ? null : edits;
+    }
+
+    private static Edit parseSet(String selector, MkvCommand.Arg param) {
+        int id = getId(selector, param.getKey());
+        String value = param.getValue();
+
+        switch (param.getKind()) {
+        case FLAG:
+            if (id == MatroskaReader.ID_FLAGENABLED || id == MatroskaReader.ID_FLAGDEFAULT
+                    || id == MatroskaReader.ID_FLAGFORCED) {
+                return new Edit(selector, id, new byte[] { (byte) (value.equals("1") ? 1 : 0) });
+            }
+
+            return null;
+        case PROPERTY:
+            if (id == MatroskaReader.ID_TITLE || id == MatroskaReader.ID_NAME) {
+                return new Edit(selector, id, value.getBytes(UTF_8));
+            } else if (id == MatroskaReader.ID_LANGUAGE && isKnownLanguage(value)) {
+                return new Edit(selector, id, value.getBytes(UTF_8));
+            }
+
+            return null;
+        default:
+            return null;
+        }
+    }
+
+    /*
+     * Only ISO 639-2 codes from the language list are written as they are;
+     * anything else (aliases, BCP 47 tags, typos) is left to mkvpropedit,
+     * which knows how to convert or reject it.
+     */
+    private static boolean isKnownLanguage(String value) {
+        return value.equals(mkvStrings.resolveLangCode(value));
+    }
+
+    private static int getId(String selector, String property) {
+        if (selector.equals("info")) {
+            return property.equals("title") ? MatroskaReader.ID_TITLE : 0;
+        } else if (property.equals("name")) {
+            return MatroskaReader.ID_NAME;
+        } else if (property.equals("language")) {
+            return MatroskaReader.ID_LANGUAGE;
+        } else if (property.equals("flag-enabled")) {
+            return MatroskaReader.ID_FLAGENABLED;
+        } else if (property.equals("flag-default")) {
+            return MatroskaReader.ID_FLAGDEFAULT;
+        } else if (property.equals("flag-forced")) {
+            return MatroskaReader.ID_FLAGFORCED;
+        }
+
+        return 0;
+    }
+
+    /**
+     * Rebuilds a level 1 element with the edits applied, and adds the bytes
+     * to write to the lists.
+     *
+     * @param edits the edits of the element itself.
+     * @param entryEdits the edits of its children, by index, for Tracks.
+     * @return false if the element can't be rewritten in place.
+     */
+    private static boolean rewrite(MatroskaReader reader, MatroskaInfo info, int id, List<Edit> edits,
+            Map<Integer, List<Edit>> entryEdits, List<Long> positions, List<ByteBuffer> buffers)
+            throws IOException {
+        MatroskaInfo.Element element = info.getElement(id);
+
+        if (element == null || element.hasCrc() || element.getLength() < 0
+                || element.getLength() > MAX_ELEMENT_SIZE) {
+            return false;
+        }
+
+        byte[] original = reader.readBytes(element.getPosition(), (int) element.getLength());
+        long[] header = readHeader(original, 0);
+        List<Child> children = split(original, (int) header[1], original.length);
+
+        if (edits != null) {
+            apply(children, edits);
+        }
+
+        if (entryEdits != null) {
+            int index = 0;
+
+            for (int i = 0; i < children.size(); i++) {
+                Child child = children.get(i);
+
+                if (child.id != MatroskaReader.ID_TRACKENTRY) {
+                    continue;
+                }
+
+                List<Edit> trackEdits = entryEdits.get(index++);
+
+                if (trackEdits != null) {
+                    long[] entryHeader = readHeader(child.bytes, 0);
+                    List<Child> entry = split(child.bytes, (int) entryHeader[1], child.bytes.length);
+
+                    for (Child c : entry) {
+                        if (c.id == MatroskaReader.ID_CRC32) {
+                            return false;
+                        }
+                    }
+
+                    apply(entry, trackEdits);
+                    children.set(i, new Child(child.id,
+                            encode(child.id, join(entry), (int) entryHeader[3])));
+                }
+            }
+        }
+
+        int sizeLength = (int) header[3];
+        byte[] payload = join(children);
+        byte[] bytes = encode(id, payload, sizeLength);
+
+        if (Arrays.equals(bytes, original)) {
+            return true;
+        }
+
+        long room = element.getLength() + info.getFreeSpaceAfter(element);
+        long gap = room - bytes.length;
+
+        // A void needs at least 2 bytes, a single one goes to the size instead
+        if (gap == 1) {
+            if (getSizeLength(bytes) == 8) {
+                return false;
+            }
+
+            bytes = encode(id, payload, getSizeLength(bytes) + 1);
+            gap = 0;
+        }
+
+        if (gap < 0) {
+            return false;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length + 9);
+        out.write(bytes, 0, bytes.length);
+
+        // Only the header of the void is written, its content doesn't matter
+        if (gap > 0) {
+            byte[] voidHeader = getVoidHeader(gap);
+            out.write(voidHeader, 0, voidHeader.length);
+        }
+
+        positions.add(element.getPosition());
+        buffers.add(ByteBuffer.wrap(out.toByteArray()));
+
+        return true;
+    }
+
+    private static void apply(List<Child> children, List<Edit> edits) {
+        for (Edit edit : edits) {
+            boolean found = false;
+
+            for (int i = 0; i < children.size(); i++) {
+                if (children.get(i).id != edit.id) {
+                    continue;
+                }
+
+                if (edit.data == null || found) {
+                    children.remove(i--);
+                } else {
+                    children.set(i, new Child(edit.id, encode(edit.id, edit.data, 1)));
+                }
+
+                found = true;
+            }
+
+            if (!found && edit.data != null) {
+                children.add(new Child(edit.id, encode(edit.id, edit.data, 1)));
+            }
+        }
+    }
+
+    /* Start of EBML methods */
+
+    /**
+     * Reads the header of the element at the position.
+     *
+     * @return the ID, the header length, the data size and the length of the
+     *         size field.
+     */
+    private static long[] readHeader(byte[] data, int pos) throws IOException {
+        if (pos >= data.length) {
+            throw new IOException("Invalid element");
+        }
+
+        int idLength = MatroskaReader.vintLength(data[pos] & 0xFF);
+
+        if (idLength > 4 || pos + idLength >= data.length) {
+            throw new IOException("Invalid element ID");
+        }
+
+        long id = 0;
+        for (int i = 0; i < idLength; i++) {
+            id = (id << 8) | (data[pos + i] & 0xFF);
+        }
+
+        int sizePos = pos + idLength;
+        int sizeLength = MatroskaReader.vintLength(data[sizePos] & 0xFF);
+
+        if (sizeLength > 8 || sizePos + sizeLength > data.length) {
+            throw new IOException("Invalid element size");
+        }
+
+        long size = data[sizePos] & (0xFF >> sizeLength);
+        for (int i = 1; i < sizeLength; i++) {
+            size = (size << 8) | (data[sizePos + i] & 0xFF);
+        }
+
+        return new long[] { id, idLength + sizeLength, size, sizeLength };
+    }
+
+    private static List<Child> split(byte[] data, int from, int to) throws IOException {
+        List<Child> children = new ArrayList<Child>();
+
+        for (int pos = from; pos < to;) {
+            long[] header = readHeader(data, pos);
+            long end = pos + header[1] + header[2];
+
+            if (end > to) {
+                throw new IOException("Invalid element size");
+            }
+
+            children.add(new Child((int) header[0], Arrays.copyOfRange(data, pos, (int) end)));
+            pos = (int) end;
+        }
+
+        return children;
+    }
+
+    private static byte[] join(List<Child> children) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        for (Child child : children) {
+            out.write(child.bytes, 0, child.bytes.length);
+        }
+
+        return out.toByteArray();
+    }
+
+    /**
+     * Encodes an element, using at least the given length for the size.
+     */
+    private static byte[] encode(int id, byte[] payload, int minSizeLength) {
+        int idLength = (39 - Integer.numberOfLeadingZeros(id)) / 8;
+        int sizeLength = minSizeLength;
+
+        while (sizeLength < 8 && payload.length > (1L << (7 * sizeLength)) - 2) {
+            sizeLength++;
+        }
+
+        byte[] bytes = new byte[idLength + sizeLength + payload.length];
+
+        for (int i = 0; i < idLength; i++) {
+            bytes[i] = (byte) (id >>> (8 * (idLength - 1 - i)));
+        }
+
+        writeSize(bytes, idLength, sizeLength, payload.length);
+        System.arraycopy(payload, 0, bytes, idLength + sizeLength, payload.length);
+
+        return bytes;
+    }
+
+    private static int getSizeLength(byte[] element) {
+        int idLength = MatroskaReader.vintLength(element[0] & 0xFF);
+
+        return MatroskaReader.vintLength(element[idLength] & 0xFF);
+    }
+
+    /**
+     * Returns the header of an EbmlVoid element with the given total length.
+     */
+    private static byte[] getVoidHeader(long length) {
+        int sizeLength = 1;
+
+        while (length - 1 - sizeLength > (1L << (7 * sizeLength)) - 2) {
+            sizeLength++;
+        }
+
+        byte[] bytes = new byte[1 + sizeLength];
+        bytes[0] = (byte) MatroskaReader.ID_VOID;
+        writeSize(bytes, 1, sizeLength, length - 1 - sizeLength);
+
+        return bytes;
+    }
+
+    private static void writeSize(byte[] bytes, int pos, int sizeLength, long size) {
+        for (int i = sizeLength - 1; i >= 0; i--) {
+            bytes[pos + i] = (byte) size;
+            size >>>= 8;
+        }
+
+        bytes[pos] |= (byte) (0x80 >> (sizeLength - 1));
+    }
+
+    /* End of EBML methods */
+}
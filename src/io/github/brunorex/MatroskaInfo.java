@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+
+package io.github.brunorex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/*
+ * Header metadata of a Matroska file, as read by MatroskaReader.
+ *
+ * The file size and modification time at the time of reading are kept so
+ * callers can tell if the information is still current. The positions of
+ * the level 1 elements are kept too, to tell how much an edit would move.
+ *
+ */
+
+public class MatroskaInfo {
+
+    /* Matroska track types */
+    public static final int TYPE_VIDEO = 0x01;
+    public static final int TYPE_AUDIO = 0x02;
+    public static final int TYPE_SUBTITLE = 0x11;
+
+    public static class Track {
+        int number = 0;
+        long uid = 0;
+        int type = 0;
+        String name = null;
+        String language = "eng";
+        String languageBcp47 = null;
+        String codecId = "";
+        boolean enabled = true;
+        boolean defaultTrack = true;
+        boolean forced = false;
+
+        public int getNumber() {
+            return number;
+        }
+
+        public long getUid() {
+            return uid;
+        }
+
+        public int getType() {
+            return type;
+        }
+
+        /**
+         * Returns the track name, or null if the track has none.
+         */
+        public String getName() {
+            return name;
+        }
+
+        public String getLanguage() {
+            return language;
+        }
+
+        /**
+         * Returns the IETF BCP 47 language tag, or null if the track has none.
+         */
+        public String getLanguageBcp47() {
+            return languageBcp47;
+        }
+
+        public String getCodecId() {
+            return codecId;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public boolean isDefault() {
+            return defaultTrack;
+        }
+
+        public boolean isForced() {
+            return forced;
+        }
+    }
+
+    public static class Attachment {
+        long uid = 0;
+        String name = "";
+        String mimeType = "";
+        String description = "";
+        long size = 0;
+
+        public long getUid() {
+            return uid;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getMimeType() {
+            return mimeType;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public long getSize() {
+            return size;
+        }
+    }
+
+    /*
+     * A level 1 element of the segment, e.g. Info, Tracks or an EbmlVoid.
+     */
+    public static class Element {
+        final int id;
+        final long pos;
+        final long length;
+        boolean crc = false;
+
+        Element(int id, long pos, long length) {
+            this.id = id;
+            this.pos = pos;
+            this.length = length;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public long getPosition() {
+            return pos;
+        }
+
+        /**
+         * Returns the length of the whole element, header included, or -1 if
+         * its size is unknown.
+         */
+        public long getLength() {
+            return length;
+        }
+
+        /**
+         * Returns true if the element has a CRC-32 that must be updated when
+         * it changes.
+         */
+        public boolean hasCrc() {
+            return crc;
+        }
+    }
+
+    private final String file;
+    private final long fileSize;
+    private final long lastModified;
+
+    String title = null;
+    String muxingApp = "";
+    String writingApp = "";
+    long timestampScale = 1000000;
+    double duration = 0;
+    int tagCount = 0;
+    final List<Track> tracks = new ArrayList<Track>();
+    final List<Attachment> attachments = new ArrayList<Attachment>();
+    final List<Element> layout = new ArrayList<Element>();
+
+    MatroskaInfo(String file, long fileSize, long lastModified) {
+        this.file = file;
+        this.fileSize = fileSize;
+        this.lastModified = lastModified;
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Returns the segment title, or null if the file has none.
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    public String getMuxingApp() {
+        return muxingApp;
+    }
+
+    public String getWritingApp() {
+        return writingApp;
+    }
+
+    /**
+     * Returns the segment duration in nanoseconds.
+     */
+    public double getDuration() {
+        return duration * timestampScale;
+    }
+
+    public int getTagCount() {
+        return tagCount;
+    }
+
+    /**
+     * Returns all tracks in the order they appear in the file.
+     */
+    public List<Track> getTracks() {
+        return Collections.unmodifiableList(tracks);
+    }
+
+    /**
+     * Returns the tracks of the given type in the order they appear in the
+     * file, which is the order mkvpropedit uses for selectors like
+     * <code>track:a2</code>.
+     */
+    public List<Track> getTracks(int type) {
+        List<Track> result = new ArrayList<Track>();
+
+        for (Track track : tracks) {
+            if (track.type == type) {
+                result.add(track);
+            }
+        }
+
+        return result;
+    }
+
+    public List<Attachment> getAttachments() {
+        return Collections.unmodifiableList(attachments);
+    }
+
+    /**
+     * Returns the level 1 elements that were read, sorted by position. These
+     * are the elements up to the first cluster and the ones found through
+     * the SeekHead.
+     */
+    public List<Element> getLayout() {
+        return Collections.unmodifiableList(layout);
+    }
+
+    /**
+     * Returns the first level 1 element with the given ID, or null.
+     */
+    public Element getElement(int id) {
+        for (Element element : layout) {
+            if (element.id == id) {
+                return element;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the total length of the EbmlVoid elements right after the
+     * element, the room it can grow into without moving anything else.
+     */
+    public long getFreeSpaceAfter(Element element) {
+        long free = 0;
+        long end = element.pos + element.length;
+
+        for (Element next : layout) {
+            if (next.pos == end && next.id == MatroskaReader.ID_VOID && next.length >= 0) {
+                free += next.length;
+                end += next.length;
+            }
+        }
+
+        return free;
+    }
+
+    /**
+     * Checks if the file still has the size and modification time it had when
+     * this information was read.
+     */
+    public boolean isCurrent(long fileSize, long lastModified) {
+        return this.fileSize == fileSize && this.lastModified == lastModified;
+    }
+}
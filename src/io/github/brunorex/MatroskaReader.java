@@ -0,0 +1,571 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+
+package io.github.brunorex;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.commons.io.IOCase;
+import org.apache.commons.io.filefilter.IOFileFilter;
+import org.apache.commons.io.filefilter.WildcardFileFilter;
+
+/*
+ * Reads the header metadata of a Matroska file without calling mkvmerge.
+ *
+ * Only the EBML header and the SeekHead, Info, Tracks, Attachments and Tags
+ * elements of the first segment are read. Level 1 elements are scanned from
+ * the start of the segment until the first cluster, then the positions from
+ * the SeekHead are used to find the elements stored after the clusters.
+ * Cluster and attachment data are never read.
+ *
+ */
+
+public class MatroskaReader {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_STRING_SIZE = 1024 * 1024;
+
+    public static final IOFileFilter FILE_FILTER = new WildcardFileFilter(
+            new String[] { "*.mkv", "*.mka", "*.mk3d", "*.webm", "*.mks" }, IOCase.INSENSITIVE);
+
+    /* EBML element IDs */
+    static final int ID_EBML = 0x1A45DFA3;
+    static final int ID_DOCTYPE = 0x4282;
+    static final int ID_SEGMENT = 0x18538067;
+    static final int ID_SEEKHEAD = 0x114D9B74;
+    static final int ID_SEEK = 0x4DBB;
+    static final int ID_SEEKID = 0x53AB;
+    static final int ID_SEEKPOSITION = 0x53AC;
+    static final int ID_INFO = 0x1549A966;
+    static final int ID_TITLE = 0x7BA9;
+    static final int ID_MUXINGAPP = 0x4D80;
+    static final int ID_WRITINGAPP = 0x5741;
+    static final int ID_TIMESTAMPSCALE = 0x2AD7B1;
+    static final int ID_DURATION = 0x4489;
+    static final int ID_TRACKS = 0x1654AE6B;
+    static final int ID_TRACKENTRY = 0xAE;
+    static final int ID_TRACKNUMBER = 0xD7;
+    static final int ID_TRACKUID = 0x73C5;
+    static final int ID_TRACKTYPE = 0x83;
+    static final int ID_FLAGENABLED = 0xB9;
+    static final int ID_FLAGDEFAULT = 0x88;
+    static final int ID_FLAGFORCED = 0x55AA;
+    static final int ID_NAME = 0x536E;
+    static final int ID_LANGUAGE = 0x22B59C;
+    static final int ID_LANGUAGEBCP47 = 0x22B59D;
+    static final int ID_CODECID = 0x86;
+    static final int ID_ATTACHMENTS = 0x1941A469;
+    static final int ID_ATTACHEDFILE = 0x61A7;
+    static final int ID_FILEDESCRIPTION = 0x467E;
+    static final int ID_FILENAME = 0x466E;
+    static final int ID_FILEMEDIATYPE = 0x4660;
+    static final int ID_FILEDATA = 0x465C;
+    static final int ID_FILEUID = 0x46AE;
+    static final int ID_CHAPTERS = 0x1043A770;
+    static final int ID_TAGS = 0x1254C367;
+    static final int ID_TAG = 0x7373;
+    static final int ID_CLUSTER = 0x1F43B675;
+    static final int ID_VOID = 0xEC;
+    static final int ID_CRC32 = 0xBF;
+
+    /*
+     * Header of an EBML element. The size is -1 if it is unknown.
+     */
+    static class Element {
+        final int id;
+        final long pos;
+        final long dataPos;
+        final long size;
+
+        Element(int id, long pos, long dataPos, long size) {
+            this.id = id;
+            this.pos = pos;
+            this.dataPos = dataPos;
+            this.size = size;
+        }
+
+        long getEnd() {
+            return dataPos + size;
+        }
+    }
+
+    private final FileChannel channel;
+    private final long length;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private long bufferPos = 0;
+    private int bufferLen = 0;
+
+    MatroskaReader(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.length = channel.size();
+    }
+
+    /**
+     * Reads the header metadata of a Matroska file.
+     *
+     * @throws IOException if the file can't be read or is not a Matroska
+     *         file.
+     */
+    public static MatroskaInfo read(File file) throws IOException {
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+
+        try {
+            MatroskaInfo info = new MatroskaInfo(file.getPath(), file.length(), file.lastModified());
+            new MatroskaReader(channel).readSegment(info);
+
+            return info;
+        } finally {
+            channel.close();
+        }
+    }
+
+    void readSegment(MatroskaInfo info) throws IOException {
+        Element ebml = readElement(0);
+
+        if (ebml.id != ID_EBML || ebml.size < 0) {
+            throw new IOException("Not a Matroska file");
+        }
+
+        String docType = "matroska";
+
+        for (long pos = ebml.dataPos; pos < ebml.getEnd();) {
+            Element child = readChild(pos, ebml);
+
+            if (child.id == ID_DOCTYPE) {
+                docType = readString(child);
+            }
+
+            pos = child.getEnd();
+        }
+
+        if (!docType.equals("matroska") && !docType.equals("webm")) {
+            throw new IOException("Unsupported document type: " + docType);
+        }
+
+        Element segment = readElement(ebml.getEnd());
+
+        while (segment.id != ID_SEGMENT) {
+            if (segment.size < 0) {
+                throw new IOException("Segment not found");
+            }
+
+            segment = readElement(segment.getEnd());
+        }
+
+        long segmentEnd = segment.size < 0 ? length : Math.min(segment.getEnd(), length);
+        Set<Long> parsed = new HashSet<Long>();
+        Deque<Long> seekPositions = new ArrayDeque<Long>();
+
+        // Level 1 elements before the first cluster
+        for (long pos = segment.dataPos; pos < segmentEnd;) {
+            Element child = readElement(pos);
+
+            if (child.id == ID_CLUSTER || child.size < 0) {
+                info.layout.add(new MatroskaInfo.Element(child.id, child.pos,
+                        child.size < 0 ? -1 : child.getEnd() - child.pos));
+                break;
+            }
+
+            readLevel1(info, child, segment, parsed, seekPositions);
+            pos = child.getEnd();
+        }
+
+        // Elements after the clusters, found through the SeekHead
+        while (!seekPositions.isEmpty()) {
+            long pos = seekPositions.poll();
+
+            if (pos < segmentEnd && !parsed.contains(pos)) {
+                Element child = readElement(pos);
+
+                if (child.size >= 0 && child.getEnd() <= segmentEnd) {
+                    readLevel1(info, child, segment, parsed, seekPositions);
+                }
+            }
+        }
+
+        Collections.sort(info.layout, new Comparator<MatroskaInfo.Element>() {
+            @Override
+            public int compare(MatroskaInfo.Element a, MatroskaInfo.Element b) {
+                return Long.compare(a.pos, b.pos);
+            }
+        });
+    }
+
+    private void readLevel1(MatroskaInfo info, Element element, Element segment, Set<Long> parsed,
+            Deque<Long> seekPositions) throws IOException {
+        if (!parsed.add(element.pos)) {
+            return;
+        }
+
+        MatroskaInfo.Element layout = new MatroskaInfo.Element(element.id, element.pos,
+                element.getEnd() - element.pos);
+
+        // The CRC-32 has to be the first child
+        if (element.id != ID_VOID && element.size > 0) {
+            try {
+                layout.crc = readChild(element.dataPos, element).id == ID_CRC32;
+            } catch (IOException e) {
+            }
+        }
+
+        info.layout.add(layout);
+
+        switch (element.id) {
+        case ID_SEEKHEAD:
+            readSeekHead(element, segment, seekPositions);
+            break;
+        case ID_INFO:
+            readInfo(info, element);
+            break;
+        case ID_TRACKS:
+            readTracks(info, element);
+            break;
+        case ID_ATTACHMENTS:
+            readAttachments(info, element);
+            break;
+        case ID_TAGS:
+            readTags(info, element);
+            break;
+        }
+    }
+
+    private void readSeekHead(Element seekHead, Element segment, Deque<Long> seekPositions) throws IOException {
+        for (long pos = seekHead.dataPos; pos < seekHead.getEnd();) {
+            Element seek = readChild(pos, seekHead);
+
+            if (seek.id == ID_SEEK) {
+                long id = 0;
+                long position = -1;
+
+                for (long p = seek.dataPos; p < seek.getEnd();) {
+                    Element child = readChild(p, seek);
+
+                    if (child.id == ID_SEEKID) {
+                        id = readUnsigned(child);
+                    } else if (child.id == ID_SEEKPOSITION) {
+                        position = readUnsigned(child);
+                    }
+
+                    p = child.getEnd();
+                }
+
+                if (position >= 0 && (id == ID_SEEKHEAD || id == ID_INFO || id == ID_TRACKS
+                        || id == ID_ATTACHMENTS || id == ID_CHAPTERS || id == ID_TAGS)) {
+                    seekPositions.add(segment.dataPos + position);
+                }
+            }
+
+            pos = seek.getEnd();
+        }
+    }
+
+    private void readInfo(MatroskaInfo info, Element element) throws IOException {
+        for (long pos = element.dataPos; pos < element.getEnd();) {
+            Element child = readChild(pos, element);
+
+            switch (child.id) {
+            case ID_TITLE:
+                info.title = readString(child);
+                break;
+            case ID_MUXINGAPP:
+                info.muxingApp = readString(child);
+                break;
+            case ID_WRITINGAPP:
+                info.writingApp = readString(child);
+                break;
+            case ID_TIMESTAMPSCALE:
+                info.timestampScale = readUnsigned(child);
+                break;
+            case ID_DURATION:
+                info.duration = readFloat(child);
+                break;
+            }
+
+            pos = child.getEnd();
+        }
+    }
+
+    private void readTracks(MatroskaInfo info, Element element) throws IOException {
+        info.tracks.clear();
+
+        for (long pos = element.dataPos; pos < element.getEnd();) {
+            Element entry = readChild(pos, element);
+
+            if (entry.id == ID_TRACKENTRY) {
+                info.tracks.add(readTrackEntry(entry));
+            }
+
+            pos = entry.getEnd();
+        }
+    }
+
+    private MatroskaInfo.Track readTrackEntry(Element entry) throws IOException {
+        MatroskaInfo.Track track = new MatroskaInfo.Track();
+
+        for (long pos = entry.dataPos; pos < entry.getEnd();) {
+            Element child = readChild(pos, entry);
+
+            switch (child.id) {
+            case ID_TRACKNUMBER:
+                track.number = (int) readUnsigned(child);
+                break;
+            case ID_TRACKUID:
+                track.uid = readUnsigned(child);
+                break;
+            case ID_TRACKTYPE:
+                track.type = (int) readUnsigned(child);
+                break;
+            case ID_FLAGENABLED:
+                track.enabled = readUnsigned(child) != 0;
+                break;
+            case ID_FLAGDEFAULT:
+                track.defaultTrack = readUnsigned(child) != 0;
+                break;
+            case ID_FLAGFORCED:
+                track.forced = readUnsigned(child) != 0;
+                break;
+            case ID_NAME:
+                track.name = readString(child);
+                break;
+            case ID_LANGUAGE:
+                track.language = readString(child);
+                break;
+            case ID_LANGUAGEBCP47:
+                track.languageBcp47 = readString(child);
+                break;
+            case ID_CODECID:
+                track.codecId = readString(child);
+                break;
+            }
+
+            pos = child.getEnd();
+        }
+
+        return track;
+    }
+
+    private void readAttachments(MatroskaInfo info, Element element) throws IOException {
+        info.attachments.clear();
+
+        for (long pos = element.dataPos; pos < element.getEnd();) {
+            Element file = readChild(pos, element);
+
+            if (file.id == ID_ATTACHEDFILE) {
+                MatroskaInfo.Attachment attachment = new MatroskaInfo.Attachment();
+
+                for (long p = file.dataPos; p < file.getEnd();) {
+                    Element child = readChild(p, file);
+
+                    switch (child.id) {
+                    case ID_FILEUID:
+                        attachment.uid = readUnsigned(child);
+                        break;
+                    case ID_FILENAME:
+                        attachment.name = readString(child);
+                        break;
+                    case ID_FILEMEDIATYPE:
+                        attachment.mimeType = readString(child);
+                        break;
+                    case ID_FILEDESCRIPTION:
+                        attachment.description = readString(child);
+                        break;
+                    case ID_FILEDATA:
+                        attachment.size = child.size; // Skipped, only the size is needed
+                        break;
+                    }
+
+                    p = child.getEnd();
+                }
+
+                info.attachments.add(attachment);
+            }
+
+            pos = file.getEnd();
+        }
+    }
+
+    private void readTags(MatroskaInfo info, Element element) throws IOException {
+        for (long pos = element.dataPos; pos < element.getEnd();) {
+            Element tag = readChild(pos, element);
+
+            if (tag.id == ID_TAG) {
+                info.tagCount++;
+            }
+
+            pos = tag.getEnd();
+        }
+    }
+
+    /* Start of EBML methods */
+
+    Element readElement(long pos) throws IOException {
+        int first = readByte(pos);
+        int idLength = vintLength(first);
+
+        if (idLength > 4) {
+            throw new IOException("Invalid element ID at " + pos);
+        }
+
+        int id = first;
+        for (int i = 1; i < idLength; i++) {
+            id = (id << 8) | readByte(pos + i);
+        }
+
+        long sizePos = pos + idLength;
+        first = readByte(sizePos);
+        int sizeLength = vintLength(first);
+
+        if (sizeLength > 8) {
+            throw new IOException("Invalid element size at " + sizePos);
+        }
+
+        long size = first & (0xFF >> sizeLength);
+        boolean unknown = size == (0xFF >> sizeLength);
+
+        for (int i = 1; i < sizeLength; i++) {
+            int b = readByte(sizePos + i);
+            size = (size << 8) | b;
+            unknown &= b == 0xFF;
+        }
+
+        return new Element(id, pos, sizePos + sizeLength, unknown ? -1 : size);
+    }
+
+    private Element readChild(long pos, Element parent) throws IOException {
+        Element child = readElement(pos);
+
+        if (child.size < 0 || child.getEnd() > parent.getEnd()) {
+            throw new IOException("Invalid element size at " + pos);
+        }
+
+        return child;
+    }
+
+    long readUnsigned(Element element) throws IOException {
+        if (element.size > 8) {
+            throw new IOException("Invalid integer at " + element.pos);
+        }
+
+        long value = 0;
+        for (int i = 0; i < element.size; i++) {
+            value = (value << 8) | readByte(element.dataPos + i);
+        }
+
+        return value;
+    }
+
+    private double readFloat(Element element) throws IOException {
+        if (element.size == 4) {
+            return Float.intBitsToFloat((int) readUnsigned(element));
+        } else if (element.size == 8) {
+            return Double.longBitsToDouble(readUnsigned(element));
+        } else if (element.size == 0) {
+            return 0;
+        }
+
+        throw new IOException("Invalid float at " + element.pos);
+    }
+
+    String readString(Element element) throws IOException {
+        if (element.size > MAX_STRING_SIZE) {
+            throw new IOException("String too long at " + element.pos);
+        }
+
+        byte[] bytes = readBytes(element.dataPos, (int) element.size);
+        int len = bytes.length;
+
+        // Strings may be padded with zeros
+        while (len > 0 && bytes[len - 1] == 0) {
+            len--;
+        }
+
+        return new String(bytes, 0, len, UTF_8);
+    }
+
+    static int vintLength(int first) {
+        return first == 0 ? 9 : Integer.numberOfLeadingZeros(first) - 23;
+    }
+
+    private int readByte(long pos) throws IOException {
+        if (pos < bufferPos || pos >= bufferPos + bufferLen) {
+            fill(pos);
+        }
+
+        return buffer.get((int) (pos - bufferPos)) & 0xFF;
+    }
+
+    byte[] readBytes(long pos, int len) throws IOException {
+        byte[] bytes = new byte[len];
+
+        for (int i = 0; i < len;) {
+            if (pos + i < bufferPos || pos + i >= bufferPos + bufferLen) {
+                fill(pos + i);
+            }
+
+            int n = Math.min(len - i, (int) (bufferPos + bufferLen - pos - i));
+            for (int j = 0; j < n; j++) {
+                bytes[i + j] = buffer.get((int) (pos + i + j - bufferPos));
+            }
+
+            i += n;
+        }
+
+        return bytes;
+    }
+
+    private void fill(long pos) throws IOException {
+        if (pos >= length) {
+            throw new IOException("Unexpected end of file");
+        }
+
+        buffer.clear();
+        bufferPos = pos;
+        bufferLen = 0;
+
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, pos + bufferLen);
+
+            if (n < 0) {
+                break;
+            }
+
+            bufferLen += n;
+        }
+    }
+
+    /* End of EBML methods */
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+
+package io.github.brunorex;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/*
+ * Persistent cache of Matroska header metadata.
+ *
+ * Entries are keyed by path and are only returned while the file has the
+ * size and modification time it had when it was read. The cache is stored
+ * in a compact binary file, loaded on first use and written back on save()
+ * if anything changed.
+ *
+ */
+
+public class MetadataCache {
+    private static final int MAGIC = 0x4A4D4B43; // "JMKC"
+    private static final int VERSION = 3;
+    private static final int MAX_STRING_SIZE = 1024 * 1024;
+
+    /* Header reads mostly wait for the disk, so more threads than cores help */
+    public static final int READ_THREADS = 8;
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final File file;
+    private Map<String, MatroskaInfo> entries = null;
+    private boolean dirty = false;
+
+    public MetadataCache(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Returns the header metadata of a file, from the cache if it is still
+     * current or else read from the file.
+     */
+    public MatroskaInfo read(File mkvFile) throws IOException {
+        String path = mkvFile.getPath();
+        MatroskaInfo info = get(path, mkvFile.length(), mkvFile.lastModified());
+
+        if (info == null) {
+            info = MatroskaReader.read(mkvFile);
+            put(info);
+        }
+
+        return info;
+    }
+
+    /**
+     * Reads the header metadata of several files on a pool of threads, so
+     * the waits of slow disks and network shares overlap.
+     *
+     * @return the metadata by path. Files that can't be read are left out.
+     */
+    public Map<String, MatroskaInfo> readAll(List<String> paths) throws InterruptedException {
+        final Map<String, MatroskaInfo> infos = new ConcurrentHashMap<String, MatroskaInfo>();
+        List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(paths.size());
+
+        for (final String path : paths) {
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    try {
+                        infos.put(path, read(new File(path)));
+                    } catch (IOException e) {
+                    }
+
+                    return null;
+                }
+            });
+        }
+
+        if (tasks.isEmpty()) {
+            return infos;
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(READ_THREADS, tasks.size()));
+
+        try {
+            pool.invokeAll(tasks);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        return infos;
+    }
+
+    /**
+     * Returns the cached metadata of a file, or null if there is none for the
+     * given size and modification time.
+     */
+    public synchronized MatroskaInfo get(String path, long size, long lastModified) {
+        load();
+
+        MatroskaInfo info = entries.get(path);
+
+        return info != null && info.isCurrent(size, lastModified) ? info : null;
+    }
+
+    public synchronized void put(MatroskaInfo info) {
+        load();
+
+        entries.put(info.getFile(), info);
+        dirty = true;
+    }
+
+    public synchronized void invalidate(String path) {
+        load();
+
+        if (entries.remove(path) != null) {
+            dirty = true;
+        }
+    }
+
+    public synchronized void save() {
+        if (!dirty) {
+            return;
+        }
+
+        File tmpFile = new File(file.getPath() + ".tmp");
+
+        try {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)));
+
+            try {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(entries.size());
+
+                for (MatroskaInfo info : entries.values()) {
+                    writeInfo(out, info);
+                }
+            } finally {
+                out.close();
+            }
+
+            Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            dirty = false;
+        } catch (IOException e) {
+            tmpFile.delete();
+        }
+    }
+
+    private void load() {
+        if (entries != null) {
+            return;
+        }
+
+        entries = new HashMap<String, MatroskaInfo>();
+
+        if (!file.exists()) {
+            return;
+        }
+
+        try {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+
+            try {
+                // Caches written by other versions are discarded
+                if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                    return;
+                }
+
+                int count = in.readInt();
+
+                for (int i = 0; i < count; i++) {
+                    MatroskaInfo info = readInfo(in);
+                    entries.put(info.getFile(), info);
+                }
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            // Keep whatever could be read
+        }
+    }
+
+    private static void writeInfo(DataOutputStream out, MatroskaInfo info) throws IOException {
+        writeString(out, info.getFile());
+        out.writeLong(info.getFileSize());
+        out.writeLong(info.getLastModified());
+        writeString(out, info.title);
+        writeString(out, info.muxingApp);
+        writeString(out, info.writingApp);
+        out.writeLong(info.timestampScale);
+        out.writeDouble(info.duration);
+        out.writeInt(info.tagCount);
+
+        out.writeInt(info.tracks.size());
+        for (MatroskaInfo.Track track : info.tracks) {
+            out.writeInt(track.number);
+            out.writeLong(track.uid);
+            out.writeInt(track.type);
+            writeString(out, track.name);
+            writeString(out, track.language);
+            writeString(out, track.languageBcp47);
+            writeString(out, track.codecId);
+            out.writeBoolean(track.enabled);
+            out.writeBoolean(track.defaultTrack);
+            out.writeBoolean(track.forced);
+        }
+
+        out.writeInt(info.attachments.size());
+        for (MatroskaInfo.Attachment attachment : info.attachments) {
+            out.writeLong(attachment.uid);
+            writeString(out, attachment.name);
+            writeString(out, attachment.mimeType);
+            writeString(out, attachment.description);
+            out.writeLong(attachment.size);
+        }
+
+        out.writeInt(info.layout.size());
+        for (MatroskaInfo.Element element : info.layout) {
+            out.writeInt(element.id);
+            out.writeLong(element.pos);
+            out.writeLong(element.length);
+            out.writeBoolean(element.crc);
+        }
+    }
+
+    private static MatroskaInfo readInfo(DataInputStream in) throws IOException {
+        MatroskaInfo info = new MatroskaInfo(readString(in), in.readLong(), in.readLong());
+        info.title = readString(in);
+        info.muxingApp = readString(in);
+        info.writingApp = readString(in);
+        info.timestampScale = in.readLong();
+        info.duration = in.readDouble();
+        info.tagCount = in.readInt();
+
+        int nTracks = in.readInt();
+        for (int i = 0; i < nTracks; i++) {
+            MatroskaInfo.Track track = new MatroskaInfo.Track();
+            track.number = in.readInt();
+            track.uid = in.readLong();
+            track.type = in.readInt();
+            track.name = readString(in);
+            track.language = readString(in);
+            track.languageBcp47 = readString(in);
+            track.codecId = readString(in);
+            track.enabled = in.readBoolean();
+            track.defaultTrack = in.readBoolean();
+            track.forced = in.readBoolean();
+            info.tracks.add(track);
+        }
+
+        int nAttachments = in.readInt();
+        for (int i = 0; i < nAttachments; i++) {
+            MatroskaInfo.Attachment attachment = new MatroskaInfo.Attachment();
+            attachment.uid = in.readLong();
+            attachment.name = readString(in);
+            attachment.mimeType = readString(in);
+            attachment.description = readString(in);
+            attachment.size = in.readLong();
+            info.attachments.add(attachment);
+        }
+
+        int nElements = in.readInt();
+        for (int i = 0; i < nElements; i++) {
+            MatroskaInfo.Element element = new MatroskaInfo.Element(in.readInt(), in.readLong(), in.readLong());
+            element.crc = in.readBoolean();
+            info.layout.add(element);
+        }
+
+        return info;
+    }
+
+    private static void writeString(DataOutputStream out, String str) throws IOException {
+        if (str == null) {
+            out.writeInt(-1);
+            return;
+        }
+
+        byte[] bytes = str.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int len = in.readInt();
+
+        if (len < 0) {
+            return null;
+        } else if (len > MAX_STRING_SIZE) {
+            throw new IOException("Invalid string length: " + len);
+        }
+
+        byte[] bytes = new byte[len];
+        in.readFully(bytes);
+
+        return new String(bytes, UTF_8);
+    }
+}
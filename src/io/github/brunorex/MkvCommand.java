@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package io.github.brunorex;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/*
+ * Immutable mkvpropedit command for a single file.
+ *
+ * The arguments are kept as typed objects. They are written as-is to the
+ * JSON option file and only rendered to a shell command line for display.
+ *
+ */
+
+public class MkvCommand {
+
+    public static class Arg {
+        public enum Kind {
+            OPTION, VALUE, PROPERTY, FLAG, PATH, EXTRA
+        }
+
+        private final Kind kind;
+        private final String key;
+        private final String value;
+
+        private Arg(Kind kind, String key, String value) {
+            this.kind = kind;
+            this.key = key;
+            this.value = value;
+        }
+
+        /**
+         * An option name, e.g. <code>--edit</code>.
+         */
+        public static Arg option(String name) {
+            return new Arg(Kind.OPTION, name, "");
+        }
+
+        /**
+         * A plain option value, e.g. <code>info</code> or <code>track:v1</code>.
+         */
+        public static Arg value(String value) {
+            return new Arg(Kind.VALUE, "", value);
+        }
+
+        /**
+         * A text property, e.g. <code>name="My Track"</code>.
+         */
+        public static Arg property(String key, String value) {
+            return new Arg(Kind.PROPERTY, key, value);
+        }
+
+        /**
+         * A boolean property, e.g. <code>flag-default=1</code>.
+         */
+        public static Arg flag(String key, boolean value) {
+            return new Arg(Kind.FLAG, key, value ? "1" : "0");
+        }
+
+        /**
+         * A file name or other free text that is quoted on display, with an
+         * optional unquoted prefix, e.g. <code>all:"tags.xml"</code>.
+         */
+        public static Arg path(String prefix, String path) {
+            return new Arg(Kind.PATH, prefix, path);
+        }
+
+        /**
+         * Extra parameters typed by the user. They are split like a shell
+         * would split them and displayed verbatim.
+         */
+        public static Arg extra(String text) {
+            return new Arg(Kind.EXTRA, "", text);
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        private void addTo(List<String> argv) {
+            switch (kind) {
+            case OPTION:
+                argv.add(key);
+                break;
+            case VALUE:
+                argv.add(value);
+                break;
+            case PROPERTY:
+            case FLAG:
+                argv.add(key + "=" + value);
+                break;
+            case PATH:
+                argv.add(key + value);
+                break;
+            case EXTRA:
+                Collections.addAll(argv, Commandline.translateCommandline(value));
+                break;
+            }
+        }
+
+        private void render(StringBuilder sb) {
+            switch (kind) {
+            case OPTION:
+                sb.append(key);
+                break;
+            case VALUE:
+                sb.append(value);
+                break;
+            case PROPERTY:
+                sb.append(key).append('=');
+                quote(sb, value);
+                break;
+            case FLAG:
+                sb.append(key).append('=').append(value);
+                break;
+            case PATH:
+                sb.append(key);
+                quote(sb, value);
+                break;
+            case EXTRA:
+                sb.append(value);
+                break;
+            }
+        }
+    }
+
+    public static class Builder {
+        private final String file;
+        private final List<Arg> args = new ArrayList<Arg>();
+
+        public Builder(String file) {
+            this.file = file;
+        }
+
+        public Builder add(Arg arg) {
+            args.add(arg);
+            return this;
+        }
+
+        public Builder addAll(List<Arg> args) {
+            this.args.addAll(args);
+            return this;
+        }
+
+        public MkvCommand build() {
+            return new MkvCommand(file, new ArrayList<Arg>(args));
+        }
+    }
+
+    private final String file;
+    private final List<Arg> args;
+
+    private MkvCommand(String file, List<Arg> args) {
+        this.file = file;
+        this.args = Collections.unmodifiableList(args);
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public List<Arg> getArgs() {
+        return args;
+    }
+
+    public boolean isEmpty() {
+        return args.isEmpty();
+    }
+
+    /**
+     * Returns the names of the options used, including the ones in extra
+     * parameters.
+     */
+    public List<String> getOptionNames() {
+        List<String> options = new ArrayList<String>();
+
+        for (Arg arg : args) {
+            if (arg.kind == Arg.Kind.OPTION) {
+                options.add(arg.key);
+            } else if (arg.kind == Arg.Kind.EXTRA) {
+                for (String token : Commandline.translateCommandline(arg.value)) {
+                    if (token.startsWith("--")) {
+                        options.add(token);
+                    }
+                }
+            }
+        }
+
+        return options;
+    }
+
+    /**
+     * Returns the arguments passed to mkvpropedit, starting with the file
+     * name.
+     */
+    public List<String> toArgv() {
+        List<String> argv = new ArrayList<String>(args.size() + 1);
+        argv.add(file);
+
+        for (Arg arg : args) {
+            arg.addTo(argv);
+        }
+
+        return argv;
+    }
+
+    /**
+     * Renders the command as it would be typed in a shell.
+     */
+    public String toDisplayString(String exe) {
+        StringBuilder sb = new StringBuilder();
+
+        quote(sb, exe);
+        sb.append(' ');
+        quote(sb, file);
+
+        for (Arg arg : args) {
+            sb.append(' ');
+            arg.render(sb);
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Writes the arguments as a JSON array, the format mkvpropedit expects in
+     * option files.
+     */
+    public void writeOptionFile(Writer out) throws IOException {
+        List<String> argv = toArgv();
+
+        out.write("[\n");
+        for (int i = 0; i < argv.size(); i++) {
+            out.write("  ");
+            writeJsonString(out, argv.get(i));
+            if (i != argv.size() - 1)
+                out.write(",");
+            out.write("\n");
+        }
+        out.write("]\n");
+    }
+
+    private static void quote(StringBuilder sb, String text) {
+        sb.append('"').append(Utils.escapeQuotes(text)).append('"');
+    }
+
+    private static void writeJsonString(Writer out, String text) throws IOException {
+        out.write('"');
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            switch (c) {
+            case '"':
+                out.write("\\\"");
+                break;
+            case '\\':
+                out.write("\\\\");
+                break;
+            case '\n':
+                out.write("\\n");
+                break;
+            case '\r':
+                out.write("\\r");
+                break;
+            case '\t':
+                out.write("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    out.write(String.format("\\u%04x", (int) c));
+                } else {
+                    out.write(c);
+                }
+            }
+        }
+
+        out.write('"');
+    }
+}
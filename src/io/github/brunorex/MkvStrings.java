@@ -25,16896 +25,430 @@
 
 package io.github.brunorex;
 
-import java.util.ArrayList;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.zip.GZIPInputStream;
 
 public class MkvStrings {
     /*
+     * The tables are stored in a compressed resource, which is read on a
+     * background thread as soon as the first instance is created.
+     *
      * ISO639 language names and codes
      * Taken from src/common/iso639_language_list.cpp, part of mkvtoolnix by Moritz Bunkus
      *
+     * MIME Types
+     * Taken from freedesktop.org.xml.in, part of shared-mime-info
+     * from freedesktop.org
+     *
+     * Resource format (GZIP compressed, DataOutput encoding):
+     * int magic, int version, int number of languages,
+     * then code and name of each language as UTF strings,
+     * int number of MIME types, then each MIME type as UTF string.
+     *
      */
-    public String[] getLangNames() {
-        String[] langNames = {
-                "'Are'are",
-                "'Auhelawa",
-                "A'ou",
-                "A-Pucikwar",
-                "Aari",
-                "Aasáx",
-                "Abadi",
-                "Abaga",
-                "Abai Sungai",
-                "Abanyom",
-                "Abar",
-                "Abau",
-                "Abaza",
-                "Abellen Ayta",
-                "Abidji",
-                "Abinomn",
-                "Abipon",
-                "Abishira",
-                "Abkhazian",
-                "Abom",
-                "Abon",
-                "Abron",
-                "Abu",
-                "Abu' Arapesh",
-                "Abua",
-                "Abui",
-                "Abun",
-                "Abure",
-                "Abureni",
-                "Abé",
-                "Acatepec Me'phaa",
-                "Achagua",
-                "Achang",
-                "Ache",
-                "Acheron",
-                "Achi",
-                "Achinese",
-                "Achterhoeks",
-                "Achuar-Shiwiar",
-                "Achumawi",
-                "Aché",
-                "Acoli",
-                "Acroá",
-                "Adai",
-                "Adamawa Fulfulde",
-                "Adamorobe Sign Language",
-                "Adang",
-                "Adangbe",
-                "Adangme",
-                "Adara",
-                "Adasen",
-                "Adele",
-                "Adhola",
-                "Adi",
-                "Adilabad Gondi",
-                "Adioukrou",
-                "Adithinngithigh",
-                "Adivasi Oriya",
-                "Adiwasi Garasia",
-                "Adnyamathanha",
-                "Adonara",
-                "Aduge",
-                "Adyghe",
-                "Adzera",
-                "Aeka",
-                "Aekyom",
-                "Aequian",
-                "Aer",
-                "Afade",
-                "Afar",
-                "Afghan Sign Language",
-                "Afitti",
-                "Afrihili",
-                "Afrikaans",
-                "Afro-Asiatic languages",
-                "Afro-Seminole Creole",
-                "Agarabi",
-                "Agariya",
-                "Agatu",
-                "Agavotaguerra",
-                "Aghem",
-                "Aghu",
-                "Aghu-Tharnggala",
-                "Aghul",
-                "Aghwan",
-                "Agi",
-                "Agob",
-                "Agoi",
-                "Aguacateco",
-                "Aguano",
-                "Aguaruna",
-                "Aguna",
-                "Agusan Manobo",
-                "Agutaynen",
-                "Agwagwune",
-                "Ahanta",
-                "Aheri Gondi",
-                "Aheu",
-                "Ahirani",
-                "Ahom",
-                "Ahtena",
-                "Ahwai",
-                "Ai-Cham",
-                "Aighon",
-                "Aikanã",
-                "Aiklep",
-                "Aimaq",
-                "Aimele",
-                "Aimol",
-                "Ainbai",
-                "Ainu (China)",
-                "Ainu (Japan)",
-                "Aiome",
-                "Airoran",
-                "Aiton",
-                "Aja (Benin)",
-                "Aja (South Sudan)",
-                "Ajawa",
-                "Ajië",
-                "Ajumbu",
-                "Ajyíninka Apurucayali",
-                "Ak",
-                "Aka",
-                "Aka-Bea",
-                "Aka-Bo",
-                "Aka-Cari",
-                "Aka-Jeru",
-                "Aka-Kede",
-                "Aka-Kol",
-                "Aka-Kora",
-                "Akan",
-                "Akar-Bale",
-                "Akaselem",
-                "Akawaio",
-                "Ake",
-                "Akebu",
-                "Akei",
-                "Akeu",
-                "Akha",
-                "Akhvakh",
-                "Akkadian",
-                "Akkala Sami",
-                "Aklanon",
-                "Akolet",
-                "Akoose",
-                "Akoye",
-                "Akpa",
-                "Akpes",
-                "Akrukay",
-                "Akukem",
-                "Akuku",
-                "Akum",
-                "Akuntsu",
-                "Akurio",
-                "Akwa",
-                "Akyaung Ari Naga",
-                "Al-Sayyid Bedouin Sign Language",
-                "Alaba-K’abeena",
-                "Alabama",
-                "Alabat Island Agta",
-                "Alacalufan languages",
-                "Alacatlatzala Mixtec",
-                "Alago",
-                "Alagwa",
-                "Alak",
-                "Alamblak",
-                "Alangan",
-                "Alanic",
-                "Alapmunte",
-                "Alawa",
-                "Albanian Sign Language",
-                "Albanian languages",
-                "Albanian",
-                "Alcozauca Mixtec",
-                "Alege",
-                "Alekano",
-                "Aleut",
-                "Algerian Arabic",
-                "Algerian Saharan Arabic",
-                "Algerian Sign Language",
-                "Algic languages",
-                "Algonquian languages",
-                "Algonquin",
-                "Ali",
-                "Alladian",
-                "Allar",
-                "Alngith",
-                "Alo Phola",
-                "Alor",
-                "Aloápam Zapotec",
-                "Alsea",
-                "Altaic languages",
-                "Alu Kurumba",
-                "Alugu",
-                "Alumu-Tesu",
-                "Alune",
-                "Aluo",
-                "Alur",
-                "Alutor",
-                "Alviri-Vidari",
-                "Alyawarr",
-                "Ama (Papua New Guinea)",
-                "Ama (Sudan)",
-                "Amahai",
-                "Amahuaca",
-                "Amaimon",
-                "Amal",
-                "Amami Koniya Sign Language",
-                "Amanab",
-                "Amanayé",
-                "Amara",
-                "Amarakaeri",
-                "Amarasi",
-                "Amatlán Zapotec",
-                "Amba (Solomon Islands)",
-                "Amba (Uganda)",
-                "Ambai",
-                "Ambakich",
-                "Ambala Ayta",
-                "Ambelau",
-                "Ambele",
-                "Amblong",
-                "Ambo",
-                "Ambo-Pasco Quechua",
-                "Ambonese Malay",
-                "Ambrak",
-                "Ambul",
-                "Ambulas",
-                "Amdang",
-                "Amdo Tibetan",
-                "Amele",
-                "American Sign Language",
-                "Amganad Ifugao",
-                "Amharic",
-                "Ami",
-                "Amis",
-                "Amo",
-                "Amol",
-                "Amoltepec Mixtec",
-                "Ampanang",
-                "Ampari Dogon",
-                "Amri Karbi",
-                "Amto",
-                "Amundava",
-                "Amurdak",
-                "Ana Tinga Dogon",
-                "Anaang",
-                "Anakalangu",
-                "Anal",
-                "Anam",
-                "Anambé",
-                "Anamgura",
-                "Anasi",
-                "Ancient Greek (to 1453)",
-                "Ancient Hebrew",
-                "Ancient Macedonian",
-                "Ancient North Arabian",
-                "Ancient Zapotec",
-                "Andaandi",
-                "Andai",
-                "Andajin",
-                "Andalusian Arabic",
-                "Andaman Creole Hindi",
-                "Andaqui",
-                "Andarum",
-                "Andegerebinha",
-                "Andh",
-                "Andi",
-                "Andio",
-                "Andoa",
-                "Andoque",
-                "Andra-Hus",
-                "Aneityum",
-                "Anem",
-                "Aneme Wake",
-                "Anfillo",
-                "Angaataha",
-                "Angaité",
-                "Angal Enen",
-                "Angal Heneng",
-                "Angal",
-                "Angami Naga",
-                "Angguruk Yali",
-                "Angika",
-                "Angkamuthi",
-                "Anglo-Norman",
-                "Angloromani",
-                "Angolar",
-                "Angor",
-                "Angoram",
-                "Angosturas Tunebo",
-                "Anguthimri",
-                "Ani Phowa",
-                "Anii",
-                "Animere",
-                "Anindilyakwa",
-                "Aninka",
-                "Anjam",
-                "Ankave",
-                "Anmatyerre",
-                "Anong",
-                "Anor",
-                "Anserma",
-                "Ansus",
-                "Antakarinya",
-                "Antankarana Malagasy",
-                "Antigua and Barbuda Creole English",
-                "Anu-Hkongso Chin",
-                "Anuak",
-                "Anufo",
-                "Anuki",
-                "Anus",
-                "Anuta",
-                "Anyin Morofo",
-                "Anyin",
-                "Ao Naga",
-                "Aoheng",
-                "Aore",
-                "Ap Ma",
-                "Apache languages",
-                "Apalachee",
-                "Apalaí",
-                "Apali",
-                "Apasco-Apoala Mixtec",
-                "Apatani",
-                "Apiaká",
-                "Apinayé",
-                "Apma",
-                "Aproumu Aizi",
-                "Apurinã",
-                "Aputai",
-                "Aquitanian",
-                "Arabana",
-                "Arabela",
-                "Arabic",
-                "Aragonese",
-                "Araki",
-                "Arakwal",
-                "Aralle-Tabulahan",
-                "Arammba",
-                "Aranadan",
-                "Aranama-Tamique",
-                "Arandai",
-                "Araona",
-                "Arapaho",
-                "Arapaso",
-                "Ararandewára",
-                "Arauan languages",
-                "Arawak",
-                "Arawakan languages",
-                "Araweté",
-                "Arawum",
-                "Arbore",
-                "Arbëreshë Albanian",
-                "Archi",
-                "Ardhamāgadhī Prākrit",
-                "Are",
-                "Areba",
-                "Arem",
-                "Arequipa-La Unión Quechua",
-                "Argentine Sign Language",
-                "Argobba",
-                "Arguni",
-                "Arhuaco",
-                "Arhâ",
-                "Arhö",
-                "Ari",
-                "Aribwatsa",
-                "Aribwaung",
-                "Arifama-Miniafia",
-                "Arigidi",
-                "Arikapú",
-                "Arikara",
-                "Arikem",
-                "Arin",
-                "Aringa",
-                "Armazic",
-                "Armenian (family)",
-                "Armenian Sign Language",
-                "Armenian",
-                "Arop-Lokep",
-                "Arop-Sissano",
-                "Arosi",
-                "Arpitan",
-                "Arritinngithigh",
-                "Arta",
-                "Artificial languages",
-                "Aruamu",
-                "Aruek",
-                "Aruop",
-                "Arutani",
-                "Aruá (Amazonas State)",
-                "Aruá (Rodonia State)",
-                "Arvanitika Albanian",
-                "As",
-                "Asaro'o",
-                "Ashe",
-                "Ashkun",
-                "Asho Chin",
-                "Ashtiani",
-                "Asháninka",
-                "Ashéninka Pajonal",
-                "Ashéninka Perené",
-                "Asilulu",
-                "Askopan",
-                "Asoa",
-                "Assamese",
-                "Assan",
-                "Assangori",
-                "Assiniboine",
-                "Assyrian Neo-Aramaic",
-                "Asturian",
-                "Asu (Nigeria)",
-                "Asu (Tanzania)",
-                "Asue Awyu",
-                "Asumboa",
-                "Asunción Mixtepec Zapotec",
-                "Asuri",
-                "Ata Manobo",
-                "Ata",
-                "Atakapa",
-                "Atampaya",
-                "Atatláhuca Mixtec",
-                "Atauran",
-                "Atayal",
-                "Atemble",
-                "Athapascan languages",
-                "Athpariya",
-                "Ati",
-                "Atikamekw",
-                "Atlantic-Congo languages",
-                "Atohwaim",
-                "Atong (Cameroon)",
-                "Atong (India)",
-                "Atorada",
-                "Atsahuaca",
-                "Atsam",
-                "Atsugewi",
-                "Attapady Kurumba",
-                "Attié",
-                "Atzingo Matlatzinca",
-                "Au",
-                "Aulua",
-                "Aurá",
-                "Aushi",
-                "Aushiri",
-                "Auslan",
-                "Austral",
-                "Australian Aborigines Sign Language",
-                "Australian languages",
-                "Austrian Sign Language",
-                "Austro-Asiatic languages",
-                "Austronesian languages",
-                "Auwe",
-                "Auye",
-                "Auyokawa",
-                "Avaric",
-                "Avatime",
-                "Avau",
-                "Avestan",
-                "Avikam",
-                "Avokaya",
-                "Avá-Canoeiro",
-                "Awa (China)",
-                "Awa (Papua New Guinea)",
-                "Awa-Cuaiquer",
-                "Awabakal",
-                "Awad Bing",
-                "Awadhi",
-                "Awak",
-                "Awar",
-                "Awara",
-                "Awbono",
-                "Aweer",
-                "Awera",
-                "Awetí",
-                "Awing",
-                "Awiyaana",
-                "Awjilah",
-                "Awngi",
-                "Awngthim",
-                "Awtuw",
-                "Awu",
-                "Awun",
-                "Awutu",
-                "Awyi",
-                "Axamb",
-                "Axi Yi",
-                "Ayabadhu",
-                "Ayacucho Quechua",
-                "Ayautla Mazatec",
-                "Ayere",
-                "Ayerrerenge",
-                "Ayi (Papua New Guinea)",
-                "Ayiwo",
-                "Ayizi",
-                "Ayizo Gbe",
-                "Aymara",
-                "Ayoquesco Zapotec",
-                "Ayoreo",
-                "Ayu",
-                "Ayutla Mixtec",
-                "Azerbaijani",
-                "Azha",
-                "Azhe",
-                "Azoyú Me'phaa",
-                "Baan",
-                "Baangi",
-                "Baatonum",
-                "Baba Malay",
-                "Baba",
-                "Babango",
-                "Babanki",
-                "Babatana",
-                "Babine",
-                "Babuza",
-                "Bacama",
-                "Bacanese Malay",
-                "Bactrian",
-                "Bada (Indonesia)",
-                "Bada (Nigeria)",
-                "Badaga",
-                "Bade",
-                "Badeshi",
-                "Badimaya",
-                "Badjiri",
-                "Badui",
-                "Badyara",
-                "Baeggu",
-                "Baelelea",
-                "Baetora",
-                "Bafanji",
-                "Bafaw-Balong",
-                "Bafia",
-                "Bafut",
-                "Baga Kaloum",
-                "Baga Koga",
-                "Baga Manduri",
-                "Baga Pokur",
-                "Baga Sitemu",
-                "Baga Sobané",
-                "Bagheli",
-                "Bagirmi Fulfulde",
-                "Bagirmi",
-                "Bago-Kusuntu",
-                "Bagri",
-                "Bagupi",
-                "Bagusa",
-                "Bagvalal",
-                "Baha Buyang",
-                "Baham",
-                "Bahamas Creole English",
-                "Baharna Arabic",
-                "Bahau",
-                "Bahinemo",
-                "Bahing",
-                "Bahnar",
-                "Bahonsuai",
-                "Bai (South Sudan)",
-                "Baibai",
-                "Baikeno",
-                "Baima",
-                "Baimak",
-                "Bainouk-Gunyaamolo",
-                "Bainouk-Gunyuño",
-                "Bainouk-Samik",
-                "Baiso",
-                "Baissa Fali",
-                "Bajan",
-                "Bajelani",
-                "Baka (Cameroon)",
-                "Baka (South Sudan)",
-                "Bakairí",
-                "Bakaka",
-                "Bakhtiari",
-                "Baki",
-                "Bakoko",
-                "Bakole",
-                "Bakpinka",
-                "Bakumpai",
-                "Bakwé",
-                "Balaesang",
-                "Balaibalan",
-                "Balangao",
-                "Balangingi",
-                "Balanta-Ganja",
-                "Balanta-Kentohe",
-                "Balantak",
-                "Baldemu",
-                "Bali (Democratic Republic of Congo)",
-                "Bali (Nigeria)",
-                "Balinese Malay",
-                "Balinese",
-                "Balkan Gagauz Turkish",
-                "Balkan Romani",
-                "Balo",
-                "Baloi",
-                "Balti",
-                "Baltic Romani",
-                "Baltic languages",
-                "Baluan-Pam",
-                "Baluchi",
-                "Bamako Sign Language",
-                "Bamali",
-                "Bambalang",
-                "Bambam",
-                "Bambara",
-                "Bambassi",
-                "Bambili-Bambui",
-                "Bamenyam",
-                "Bamileke languages",
-                "Bamu",
-                "Bamukumbit",
-                "Bamun",
-                "Bamunka",
-                "Bamwe",
-                "Ban Khor Sign Language",
-                "Bana",
-                "Banao Itneg",
-                "Banaro",
-                "Banda (Indonesia)",
-                "Banda Malay",
-                "Banda languages",
-                "Banda-Bambari",
-                "Banda-Banda",
-                "Banda-Mbrès",
-                "Banda-Ndélé",
-                "Banda-Yangere",
-                "Bandi",
-                "Bandial",
-                "Bandjalang",
-                "Bangala",
-                "Bangandu",
-                "Bangba",
-                "Banggai",
-                "Banggarla",
-                "Bangi",
-                "Bangime",
-                "Bangka",
-                "Bangolan",
-                "Bangubangu",
-                "Bangwinji",
-                "Baniva",
-                "Baniwa",
-                "Banjar",
-                "Bankagooma",
-                "Bankal",
-                "Bankan Tey Dogon",
-                "Bankon",
-                "Bannoni",
-                "Bantawa",
-                "Bantayanon",
-                "Bantik",
-                "Bantoanon",
-                "Bantu languages",
-                "Banyjima",
-                "Baoulé",
-                "Bara Malagasy",
-                "Baraamu",
-                "Barababaraba",
-                "Barai",
-                "Barakai",
-                "Baram Kayan",
-                "Barama",
-                "Barambu",
-                "Baramu",
-                "Barapasi",
-                "Baras",
-                "Barasana-Eduria",
-                "Barbaram",
-                "Barbareño",
-                "Barclayville Grebo",
-                "Bardi",
-                "Barein",
-                "Bargam",
-                "Bari",
-                "Bariai",
-                "Bariji",
-                "Barikanchi",
-                "Barikewa",
-                "Barok",
-                "Barombi",
-                "Barro Negro Tunebo",
-                "Barrow Point",
-                "Baruga",
-                "Baruya",
-                "Barwe",
-                "Barzani Jewish Neo-Aramaic",
-                "Baré",
-                "Barí",
-                "Basa (Cameroon)",
-                "Basa (Nigeria)",
-                "Basa-Gumna",
-                "Basa-Gurmana",
-                "Basap",
-                "Basay",
-                "Bashkardi",
-                "Bashkir",
-                "Basketo",
-                "Basque (family)",
-                "Basque",
-                "Bassa",
-                "Bassa-Kontagora",
-                "Bassari",
-                "Bassossi",
-                "Bata",
-                "Batad Ifugao",
-                "Batak Alas-Kluet",
-                "Batak Angkola",
-                "Batak Dairi",
-                "Batak Karo",
-                "Batak Mandailing",
-                "Batak Simalungun",
-                "Batak Toba",
-                "Batak languages",
-                "Batak",
-                "Batanga",
-                "Batek",
-                "Bateri",
-                "Bathari",
-                "Bati (Cameroon)",
-                "Bati (Indonesia)",
-                "Batjala",
-                "Bats",
-                "Batu",
-                "Batui",
-                "Batuley",
-                "Bau Bidayuh",
-                "Bau",
-                "Bauchi",
-                "Bauni",
-                "Baure",
-                "Bauria",
-                "Bauwaki",
-                "Bauzi",
-                "Bavarian",
-                "Bawm Chin",
-                "Bay Miwok",
-                "Bayali",
-                "Baybayanon",
-                "Baygo",
-                "Bayono",
-                "Bayot",
-                "Bayungu",
-                "Bazigar",
-                "Beami",
-                "Beaver",
-                "Beba",
-                "Bebele",
-                "Bebeli",
-                "Bebil",
-                "Bedjond",
-                "Bedoanas",
-                "Beeke",
-                "Beele",
-                "Beembe",
-                "Beezen",
-                "Befang",
-                "Beginci",
-                "Beja",
-                "Bekati'",
-                "Bekwarra",
-                "Bekwel",
-                "Belait",
-                "Belanda Bor",
-                "Belanda Viri",
-                "Belarusian",
-                "Belhariya",
-                "Beli (Papua New Guinea)",
-                "Beli (South Sudan)",
-                "Belize Kriol English",
-                "Bella Coola",
-                "Bellari",
-                "Belning",
-                "Bemba (Zambia)",
-                "Bembe",
-                "Ben Tey Dogon",
-                "Bena (Nigeria)",
-                "Bena (Tanzania)",
-                "Benabena",
-                "Bench",
-                "Bende",
-                "Bendi",
-                "Beng",
-                "Benga",
-                "Bengali",
-                "Benggoi",
-                "Bengkala Sign Language",
-                "Bentong",
-                "Benyadu'",
-                "Beothuk",
-                "Bepour",
-                "Berakou",
-                "Berau Malay",
-                "Berber languages",
-                "Berbice Creole Dutch",
-                "Berik",
-                "Berinomo",
-                "Berom",
-                "Berta",
-                "Berti",
-                "Besisi",
-                "Besme",
-                "Besoa",
-                "Betaf",
-                "Betawi",
-                "Bete",
-                "Bete-Bendi",
-                "Beti (Côte d'Ivoire)",
-                "Betta Kurumba",
-                "Bezhta",
-                "Bhadrawahi",
-                "Bhalay",
-                "Bharia",
-                "Bhatri",
-                "Bhattiyali",
-                "Bhaya",
-                "Bhele",
-                "Bhilali",
-                "Bhili",
-                "Bhojpuri",
-                "Bhoti Kinnauri",
-                "Bhujel",
-                "Bhunjia",
-                "Biafada",
-                "Biage",
-                "Biak",
-                "Biali",
-                "Bian Marind",
-                "Biangai",
-                "Biao Mon",
-                "Biao",
-                "Biao-Jiao Mien",
-                "Biatah Bidayuh",
-                "Bibbulman",
-                "Bidhawal",
-                "Bidiyo",
-                "Bidjara",
-                "Bidyogo",
-                "Biem",
-                "Bierebo",
-                "Bieria",
-                "Biete",
-                "Big Nambas",
-                "Biga",
-                "Bigambal",
-                "Bih",
-                "Bihari languages",
-                "Bijim",
-                "Bijori",
-                "Bikol",
-                "Bikya",
-                "Bila",
-                "Bilakura",
-                "Bilaspuri",
-                "Bilba",
-                "Bilbil",
-                "Bile",
-                "Bilin",
-                "Bilma Kanuri",
-                "Biloxi",
-                "Bilua",
-                "Bilur",
-                "Bima",
-                "Bimin",
-                "Bimoba",
-                "Bina (Nigeria)",
-                "Bina (Papua New Guinea)",
-                "Binahari",
-                "Binandere",
-                "Bindal",
-                "Bine",
-                "Bini",
-                "Binji",
-                "Binongan Itneg",
-                "Bintauna",
-                "Bintulu",
-                "Binukid",
-                "Binumarien",
-                "Bipi",
-                "Bira",
-                "Birale",
-                "Birao",
-                "Birgit",
-                "Birhor",
-                "Biri",
-                "Biritai",
-                "Birked",
-                "Birri",
-                "Birrpayi",
-                "Birwa",
-                "Biseni",
-                "Bishnupriya",
-                "Bishuo",
-                "Bisis",
-                "Bislama",
-                "Bisorio",
-                "Bissa",
-                "Bisu",
-                "Bit",
-                "Bitare",
-                "Bitur",
-                "Biwat",
-                "Biyo",
-                "Biyom",
-                "Blablanga",
-                "Blafe",
-                "Blagar",
-                "Blang",
-                "Blissymbols",
-                "Bo (Laos)",
-                "Bo (Papua New Guinea)",
-                "Bo-Rukul",
-                "Bo-Ung",
-                "Boano (Maluku)",
-                "Boano (Sulawesi)",
-                "Bobongko",
-                "Bobot",
-                "Bodo (Central African Republic)",
-                "Bodo (India)",
-                "Bodo Gadaba",
-                "Bodo Parja",
-                "Bofi",
-                "Boga",
-                "Bogaya",
-                "Boghom",
-                "Boguru",
-                "Bohtan Neo-Aramaic",
-                "Boikin",
-                "Bokha",
-                "Boko (Benin)",
-                "Boko (Democratic Republic of Congo)",
-                "Bokobaru",
-                "Bokoto",
-                "Bokyi",
-                "Bola",
-                "Bolango",
-                "Bole",
-                "Bolgarian",
-                "Bolgo",
-                "Bolia",
-                "Bolinao",
-                "Bolivian Sign Language",
-                "Boloki",
-                "Bolon",
-                "Bolondo",
-                "Bolongan",
-                "Bolyu",
-                "Bom-Kim",
-                "Boma",
-                "Bomboli",
-                "Bomboma",
-                "Bomitaba",
-                "Bomu",
-                "Bomwali",
-                "Bon Gula",
-                "Bonan",
-                "Bondei",
-                "Bondo",
-                "Bondoukou Kulango",
-                "Bondum Dom Dogon",
-                "Bonerate",
-                "Bonerif",
-                "Bonggi",
-                "Bonggo",
-                "Bongili",
-                "Bongo",
-                "Bongu",
-                "Bonjo",
-                "Bonkeng",
-                "Bonkiman",
-                "Bontok",
-                "Bookan",
-                "Boon",
-                "Boor",
-                "Bora",
-                "Borana-Arsi-Guji Oromo",
-                "Border Kuna",
-                "Borei",
-                "Borgu Fulfulde",
-                "Boro (Ethiopia)",
-                "Boro (Ghana)",
-                "Borong",
-                "Boruca",
-                "Borôro",
-                "Boselewa",
-                "Bosngun",
-                "Bosnian",
-                "Bote-Majhi",
-                "Botlikh",
-                "Botolan Sambal",
-                "Bouna Kulango",
-                "Bouni",
-                "Bouyei",
-                "Bozaba",
-                "Bragat",
-                "Brahui",
-                "Braj",
-                "Brazilian Sign Language",
-                "Brem",
-                "Breri",
-                "Breton",
-                "Bribri",
-                "Brithenig",
-                "British Sign Language",
-                "Brokkat",
-                "Brokpake",
-                "Brokskat",
-                "Brooke's Point Palawano",
-                "Broome Pearling Lugger Pidgin",
-                "Brunei Bisaya",
-                "Brunei",
-                "Bruny Island Tasmanian",
-                "Bu (Bauchi State)",
-                "Bu (Kaduna State)",
-                "Bu-Nao Bunu",
-                "Bua",
-                "Bualkhaw Chin",
-                "Buamu",
-                "Bube",
-                "Bubi",
-                "Bubia",
-                "Budeh Stieng",
-                "Budibud",
-                "Budong-Budong",
-                "Budu",
-                "Budukh",
-                "Buduma",
-                "Budza",
-                "Bugan",
-                "Bugawac",
-                "Bughotu",
-                "Buginese",
-                "Buglere",
-                "Bugun",
-                "Buhi'non Bikol",
-                "Buhid",
-                "Buhutu",
-                "Bukar-Sadung Bidayuh",
-                "Bukat",
-                "Bukharic",
-                "Bukit Malay",
-                "Bukitan",
-                "Bukiyip",
-                "Buksa",
-                "Bukusu",
-                "Bukwen",
-                "Bulgarian Sign Language",
-                "Bulgarian",
-                "Bulgebi",
-                "Buli (Ghana)",
-                "Buli (Indonesia)",
-                "Bullom So",
-                "Bulo Stieng",
-                "Bulu (Cameroon)",
-                "Bulu (Papua New Guinea)",
-                "Bum",
-                "Bumaji",
-                "Bumang",
-                "Bumbita Arapesh",
-                "Bumthangkha",
-                "Bun",
-                "Buna",
-                "Bunak",
-                "Bunama",
-                "Bundeli",
-                "Bung",
-                "Bungain",
-                "Bunganditj",
-                "Bungku",
-                "Bungu",
-                "Bunoge Dogon",
-                "Bunuba",
-                "Bunun",
-                "Buol",
-                "Bura-Pabir",
-                "Burak",
-                "Buraka",
-                "Burarra",
-                "Burate",
-                "Burduna",
-                "Bure",
-                "Buriat",
-                "Burji",
-                "Burmbar",
-                "Burmese",
-                "Burmeso",
-                "Buru (Indonesia)",
-                "Buru (Nigeria)",
-                "Burui",
-                "Burumakok",
-                "Burun",
-                "Burundian Sign Language",
-                "Burunge",
-                "Burushaski",
-                "Burusu",
-                "Buruwai",
-                "Busa",
-                "Busam",
-                "Busami",
-                "Busang Kayan",
-                "Bushi",
-                "Bushoong",
-                "Buso",
-                "Busoa",
-                "Bussa",
-                "Busuu",
-                "Butbut Kalinga",
-                "Butmas-Tur",
-                "Butuanon",
-                "Buwal",
-                "Buyu",
-                "Buyuan Jinuo",
-                "Bwa",
-                "Bwaidoka",
-                "Bwanabwana",
-                "Bwatoo",
-                "Bwe Karen",
-                "Bwela",
-                "Bwile",
-                "Bwisi",
-                "Byangsi",
-                "Byep",
-                "Bädi Kanum",
-                "C'Lela",
-                "Caac",
-                "Cabiyarí",
-                "Cabécar",
-                "Cacaloxtepec Mixtec",
-                "Cacaopera",
-                "Cacgia Roglai",
-                "Cacua",
-                "Caddo",
-                "Caddoan languages",
-                "Cafundo Creole",
-                "Cahuarano",
-                "Cahuilla",
-                "Cajamarca Quechua",
-                "Cajatambo North Lima Quechua",
-                "Cajonos Zapotec",
-                "Cajun French",
-                "Caka",
-                "Cakchiquel-Quiché Mixed Language",
-                "Cakfem-Mushere",
-                "Calamian Tagbanwa",
-                "Calderón Highland Quichua",
-                "Callawalla",
-                "Caluyanun",
-                "Caló",
-                "Cambodian Sign Language",
-                "Cameroon Mambila",
-                "Cameroon Pidgin",
-                "Camling",
-                "Campalagian",
-                "Campidanese Sardinian",
-                "Camsá",
-                "Camtho",
-                "Camunic",
-                "Candoshi-Shapra",
-                "Canela",
-                "Canichana",
-                "Cao Lan",
-                "Cao Miao",
-                "Capanahua",
-                "Capiznon",
-                "Cappadocian Greek",
-                "Caquinte",
-                "Car Nicobarese",
-                "Cara",
-                "Carabayo",
-                "Caramanta",
-                "Carapana",
-                "Carian",
-                "Caribbean Hindustani",
-                "Caribbean Javanese",
-                "Carijona",
-                "Carolina Algonquian",
-                "Carolinian",
-                "Carpathian Romani",
-                "Carrier",
-                "Cashibo-Cacataibo",
-                "Cashinahua",
-                "Casiguran Dumagat Agta",
-                "Casuarina Coast Asmat",
-                "Catalan Sign Language",
-                "Catalan",
-                "Catawba",
-                "Caucasian languages",
-                "Cavineña",
-                "Cayubaba",
-                "Cayuga",
-                "Cayuse",
-                "Cañar Highland Quichua",
-                "Ca̱hungwa̱rya̱",
-                "Cebaara Senoufo",
-                "Cebuano",
-                "Celtiberian",
-                "Celtic languages",
-                "Cemuhî",
-                "Cen",
-                "Central American Indian languages",
-                "Central Asmat",
-                "Central Atlas Tamazight",
-                "Central Awyu",
-                "Central Aymara",
-                "Central Bai",
-                "Central Berawan",
-                "Central Bikol",
-                "Central Bontok",
-                "Central Cagayan Agta",
-                "Central Grebo",
-                "Central Hongshuihe Zhuang",
-                "Central Huasteca Nahuatl",
-                "Central Huishui Hmong",
-                "Central Kanuri",
-                "Central Kurdish",
-                "Central Maewo",
-                "Central Malay",
-                "Central Malayo-Polynesian languages",
-                "Central Masela",
-                "Central Mashan Hmong",
-                "Central Mazahua",
-                "Central Melanau",
-                "Central Mnong",
-                "Central Nahuatl",
-                "Central Nicobarese",
-                "Central Ojibwa",
-                "Central Okinawan",
-                "Central Palawano",
-                "Central Pame",
-                "Central Pashto",
-                "Central Pomo",
-                "Central Puebla Nahuatl",
-                "Central Sama",
-                "Central Siberian Yupik",
-                "Central Sierra Miwok",
-                "Central Subanen",
-                "Central Sudanic languages",
-                "Central Tagbanwa",
-                "Central Tarahumara",
-                "Central Tunebo",
-                "Central Yupik",
-                "Central-Eastern Niger Fulfulde",
-                "Centúúm",
-                "Cerma",
-                "Chabu",
-                "Chachapoyas Quechua",
-                "Chachi",
-                "Chadian Arabic",
-                "Chadian Sign Language",
-                "Chadic languages",
-                "Chadong",
-                "Chagatai",
-                "Chaima",
-                "Chak",
-                "Chakali",
-                "Chakavian",
-                "Chakma",
-                "Chala",
-                "Chaldean Neo-Aramaic",
-                "Chalikha",
-                "Chamacoco",
-                "Chamalal",
-                "Chambeali",
-                "Chambri",
-                "Chamic languages",
-                "Chamicuro",
-                "Chamorro",
-                "Chang Naga",
-                "Changriwa",
-                "Changthang",
-                "Chantyal",
-                "Chané",
-                "Chara",
-                "Chaudangsi",
-                "Chaura",
-                "Chavacano",
-                "Chayahuita",
-                "Chayuco Mixtec",
-                "Chazumba Mixtec",
-                "Che",
-                "Chechen",
-                "Cheke Holo",
-                "Chemakum",
-                "Chenapian",
-                "Chenchu",
-                "Chenoua",
-                "Chepang",
-                "Chepya",
-                "Cherepon",
-                "Cherokee",
-                "Chesu",
-                "Chetco",
-                "Chewong",
-                "Cheyenne",
-                "Chhattisgarhi",
-                "Chhintange",
-                "Chhulung",
-                "Chiangmai Sign Language",
-                "Chiapanec",
-                "Chibcha",
-                "Chibchan languages",
-                "Chicahuaxtla Triqui",
-                "Chichicapan Zapotec",
-                "Chichimeca-Jonaz",
-                "Chickasaw",
-                "Chicomuceltec",
-                "Chiga",
-                "Chigmecatitlán Mixtec",
-                "Chilcotin",
-                "Chilean Sign Language",
-                "Chilisso",
-                "Chiltepec Chinantec",
-                "Chimalapa Zoque",
-                "Chimariko",
-                "Chimborazo Highland Quichua",
-                "Chimila",
-                "China Buriat",
-                "Chinali",
-                "Chinbon Chin",
-                "Chincha Quechua",
-                "Chinese (family)",
-                "Chinese Pidgin English",
-                "Chinese Sign Language",
-                "Chinese",
-                "Chinook jargon",
-                "Chinook",
-                "Chipaya",
-                "Chipewyan",
-                "Chippewa",
-                "Chiquihuitlán Mazatec",
-                "Chiquitano",
-                "Chiquián Ancash Quechua",
-                "Chiripá",
-                "Chiru",
-                "Chitimacha",
-                "Chitkuli Kinnauri",
-                "Chittagonian",
-                "Chitwania Tharu",
-                "Choapan Zapotec",
-                "Chocangacakha",
-                "Chochotec",
-                "Choctaw",
-                "Chodri",
-                "Chokri Naga",
-                "Chokwe",
-                "Chol",
-                "Cholón",
-                "Chong",
-                "Choni",
-                "Chonyi-Dzihana-Kauma",
-                "Chopi",
-                "Chorasmian",
-                "Chortí",
-                "Chothe Naga",
-                "Chrau",
-                "Chru",
-                "Chuanqiandian Cluster Miao",
-                "Chuave",
-                "Chug",
-                "Chuj",
-                "Chuka",
-                "Chukot",
-                "Chukwa",
-                "Chulym",
-                "Chumburung",
-                "Chungmboko",
-                "Churahi",
-                "Church Slavic",
-                "Chut",
-                "Chuukese",
-                "Chuvantsy",
-                "Chuvash",
-                "Chuwabu",
-                "Chácobo",
-                "Ci Gbe",
-                "Cia-Cia",
-                "Cibak",
-                "Cicipu",
-                "Cimbrian",
-                "Cinda-Regi-Tiyal",
-                "Cineni",
-                "Cinta Larga",
-                "Cisalpine Gaulish",
-                "Cishingini",
-                "Citak",
-                "Ciwogai",
-                "Clallam",
-                "Classical Armenian",
-                "Classical Mandaic",
-                "Classical Mongolian",
-                "Classical Nahuatl",
-                "Classical Newari",
-                "Classical Quechua",
-                "Classical Syriac",
-                "Classical Tibetan",
-                "Coahuilteco",
-                "Coast Miwok",
-                "Coastal Konjo",
-                "Coatecas Altas Zapotec",
-                "Coatepec Nahuatl",
-                "Coatlán Mixe",
-                "Coatlán Zapotec",
-                "Coatzospan Mixtec",
-                "Cocama-Cocamilla",
-                "Cochimi",
-                "Cocopa",
-                "Cocos Islands Malay",
-                "Coeur d'Alene",
-                "Cofán",
-                "Cogui",
-                "Col",
-                "Colombian Sign Language",
-                "Colonia Tovar German",
-                "Colorado",
-                "Columbia-Wenatchi",
-                "Comaltepec Chinantec",
-                "Comanche",
-                "Comecrudo",
-                "Como Karim",
-                "Comox",
-                "Con",
-                "Congo Swahili",
-                "Coos",
-                "Copainalá Zoque",
-                "Copala Triqui",
-                "Coptic",
-                "Coquille",
-                "Cori",
-                "Cornish",
-                "Corongo Ancash Quechua",
-                "Corsican",
-                "Costa Rican Sign Language",
-                "Cotabato Manobo",
-                "Cotoname",
-                "Cowlitz",
-                "Coyotepec Popoloca",
-                "Coyutla Totonac",
-                "Cree",
-                "Creek",
-                "Creoles and pidgins",
-                "Creoles and pidgins, English based",
-                "Creoles and pidgins, French-based",
-                "Creoles and pidgins, Portuguese-based",
-                "Crimean Tatar",
-                "Croatia Sign Language",
-                "Croatian",
-                "Cross River Mbembe",
-                "Crow",
-                "Cruzeño",
-                "Cua",
-                "Cuba Sign Language",
-                "Cubeo",
-                "Cuiba",
-                "Cuitlatec",
-                "Culina",
-                "Cumanagoto",
-                "Cumbric",
-                "Cun",
-                "Cuneiform Luwian",
-                "Cupeño",
-                "Curonian",
-                "Curripaco",
-                "Cusco Quechua",
-                "Cushitic languages",
-                "Cutchi-Swahili",
-                "Cuvok",
-                "Cuyamecalco Mixtec",
-                "Cuyonon",
-                "Cwi Bwamu",
-                "Cypriot Arabic",
-                "Czech Sign Language",
-                "Czech",
-                "Côông",
-                "Da'a Kaili",
-                "Daai Chin",
-                "Daakaka",
-                "Daantanai'",
-                "Daasanach",
-                "Daatsʼíin",
-                "Daba",
-                "Dabarre",
-                "Dabe",
-                "Dacian",
-                "Dadi Dadi",
-                "Dadibi",
-                "Dadiya",
-                "Daga",
-                "Dagaari Dioula",
-                "Dagba",
-                "Dagbani",
-                "Dagik",
-                "Dagoman",
-                "Dahalik",
-                "Dahalo",
-                "Daho-Doo",
-                "Dai Zhuang",
-                "Dai",
-                "Dair",
-                "Dakka",
-                "Dakota",
-                "Dakpakha",
-                "Dalabon",
-                "Dalmatian",
-                "Daloa Bété",
-                "Dama",
-                "Damakawa",
-                "Damal",
-                "Dambi",
-                "Dameli",
-                "Dampelas",
-                "Dan",
-                "Danaru",
-                "Danau",
-                "Dandami Maria",
-                "Dangaléat",
-                "Dangaura Tharu",
-                "Danish Sign Language",
-                "Danish",
-                "Dano",
-                "Danu",
-                "Dao",
-                "Daonda",
-                "Dar Daju Daju",
-                "Dar Fur Daju",
-                "Dar Sila Daju",
-                "Darai",
-                "Dargwa",
-                "Dari",
-                "Darkinyung",
-                "Darlong",
-                "Darmiya",
-                "Daro-Matu Melanau",
-                "Dass",
-                "Datooga",
-                "Daungwurrung",
-                "Daur",
-                "Davawenyo",
-                "Dawawa",
-                "Dawera-Daweloor",
-                "Dawik Kui",
-                "Dawro",
-                "Day",
-                "Dayi",
-                "Dazaga",
-                "Deccan",
-                "Dedua",
-                "Defaka",
-                "Defi Gbe",
-                "Deg",
-                "Degema",
-                "Degenan",
-                "Degexit'an",
-                "Dehu",
-                "Dehwari",
-                "Dek",
-                "Dela-Oenale",
-                "Delaware",
-                "Delo",
-                "Dem",
-                "Dema",
-                "Demisa",
-                "Demta",
-                "Dendi (Benin)",
-                "Dendi (Central African Republic)",
-                "Dengese",
-                "Dengka",
-                "Deno",
-                "Denya",
-                "Dení",
-                "Deori",
-                "Dera (Indonesia)",
-                "Dera (Nigeria)",
-                "Desano",
-                "Desiya",
-                "Dewas Rai",
-                "Dewoin",
-                "Dezfuli",
-                "Dghwede",
-                "Dhaiso",
-                "Dhalandji",
-                "Dhangu-Djangu",
-                "Dhanki",
-                "Dhanwar (Nepal)",
-                "Dhao",
-                "Dharawal",
-                "Dhargari",
-                "Dharuk",
-                "Dharumbal",
-                "Dhatki",
-                "Dhimal",
-                "Dhivehi",
-                "Dhodia",
-                "Dhofari Arabic",
-                "Dhudhuroa",
-                "Dhundari",
-                "Dhungaloo",
-                "Dhurga",
-                "Dhuwal",
-                "Dhuwaya",
-                "Dia",
-                "Dibabawon Manobo",
-                "Dibiyaso",
-                "Dibo",
-                "Dibole",
-                "Dicamay Agta",
-                "Didinga",
-                "Dido",
-                "Dieri",
-                "Digaro-Mishmi",
-                "Digo",
-                "Dii",
-                "Dijim-Bwilim",
-                "Dilling",
-                "Dima",
-                "Dimasa",
-                "Dimbong",
-                "Dime",
-                "Dimli (individual language)",
-                "Ding",
-                "Dinka",
-                "Dirasha",
-                "Diri",
-                "Diriku",
-                "Dirim",
-                "Disa",
-                "Ditammari",
-                "Ditidaht",
-                "Diuwe",
-                "Diuxi-Tilantongo Mixtec",
-                "Dixon Reef",
-                "Dizin",
-                "Djabugay",
-                "Djabwurrung",
-                "Djadjawurrung",
-                "Djambarrpuyngu",
-                "Djamindjung",
-                "Djangun",
-                "Djawi",
-                "Djeebbana",
-                "Djimini Senoufo",
-                "Djinang",
-                "Djinba",
-                "Djiwarli",
-                "Dobel",
-                "Dobu",
-                "Doe",
-                "Doga",
-                "Doghoro",
-                "Dogoso",
-                "Dogosé",
-                "Dogri (individual language)",
-                "Dogri (macrolanguage)",
-                "Dogrib",
-                "Dogul Dom Dogon",
-                "Doka",
-                "Doko-Uyanga",
-                "Dolgan",
-                "Dolpo",
-                "Dom",
-                "Domaaki",
-                "Domari",
-                "Dombe",
-                "Dominican Sign Language",
-                "Dompo",
-                "Domu",
-                "Domung",
-                "Dondo",
-                "Dong",
-                "Dongo",
-                "Dongotono",
-                "Dongshanba Lalo",
-                "Dongxiang",
-                "Donno So Dogon",
-                "Doondo",
-                "Dori'o",
-                "Doromu-Koki",
-                "Dorze",
-                "Doso",
-                "Dotyali",
-                "Doutai",
-                "Doyayo",
-                "Dravidian languages",
-                "Drents",
-                "Drung",
-                "Duala",
-                "Duano",
-                "Duau",
-                "Dubli",
-                "Dubu",
-                "Dugun",
-                "Duguri",
-                "Dugwor",
-                "Duhwa",
-                "Duke",
-                "Dulbu",
-                "Duli-Gey",
-                "Duma",
-                "Dumbea",
-                "Dumi",
-                "Dumpas",
-                "Dumun",
-                "Duna",
-                "Dungan",
-                "Dungmali",
-                "Dungra Bhil",
-                "Dungu",
-                "Dupaninan Agta",
-                "Dura",
-                "Duri",
-                "Duriankere",
-                "Duruma",
-                "Duruwa",
-                "Dusner",
-                "Dusun Deyah",
-                "Dusun Malang",
-                "Dusun Witu",
-                "Dutch Sign Language",
-                "Dutch",
-                "Dutton World Speedwords",
-                "Duungooma",
-                "Duupa",
-                "Duvle",
-                "Duwai",
-                "Duwet",
-                "Dũya",
-                "Dwang",
-                "Dyaberdyaber",
-                "Dyan",
-                "Dyangadi",
-                "Dyirbal",
-                "Dyugun",
-                "Dyula",
-                "Dza",
-                "Dzalakha",
-                "Dzando",
-                "Dzao Min",
-                "Dzongkha",
-                "Dzùùngoo",
-                "Dâw",
-                "E",
-                "E'ma Buyang",
-                "E'ñapa Woromaipu",
-                "Early Tripuri",
-                "East Ambae",
-                "East Berawan",
-                "East Damar",
-                "East Futuna",
-                "East Germanic languages",
-                "East Kewa",
-                "East Limba",
-                "East Makian",
-                "East Masela",
-                "East Nyala",
-                "East Slavic languages",
-                "East Tarangan",
-                "East Yugur",
-                "Eastern Abnaki",
-                "Eastern Acipa",
-                "Eastern Apurímac Quechua",
-                "Eastern Arrernte",
-                "Eastern Balochi",
-                "Eastern Bolivian Guaraní",
-                "Eastern Bontok",
-                "Eastern Bru",
-                "Eastern Canadian Inuktitut",
-                "Eastern Cham",
-                "Eastern Durango Nahuatl",
-                "Eastern Egyptian Bedawi Arabic",
-                "Eastern Frisian",
-                "Eastern Gorkha Tamang",
-                "Eastern Highland Chatino",
-                "Eastern Highland Otomi",
-                "Eastern Hongshuihe Zhuang",
-                "Eastern Huasteca Nahuatl",
-                "Eastern Huishui Hmong",
-                "Eastern Karaboro",
-                "Eastern Katu",
-                "Eastern Kayah",
-                "Eastern Keres",
-                "Eastern Khumi Chin",
-                "Eastern Krahn",
-                "Eastern Lalu",
-                "Eastern Lawa",
-                "Eastern Magar",
-                "Eastern Malayo-Polynesian languages",
-                "Eastern Maninkakan",
-                "Eastern Mari",
-                "Eastern Maroon Creole",
-                "Eastern Meohang",
-                "Eastern Minyag",
-                "Eastern Mnong",
-                "Eastern Muria",
-                "Eastern Ngad'a",
-                "Eastern Nisu",
-                "Eastern Ojibwa",
-                "Eastern Oromo",
-                "Eastern Parbate Kham",
-                "Eastern Penan",
-                "Eastern Pomo",
-                "Eastern Qiandong Miao",
-                "Eastern Subanen",
-                "Eastern Sudanic languages",
-                "Eastern Tamang",
-                "Eastern Tawbuid",
-                "Eastern Xiangxi Miao",
-                "Eastern Xwla Gbe",
-                "Eastern Yiddish",
-                "Ebira",
-                "Eblan",
-                "Ebrié",
-                "Ebughu",
-                "Ecuadorian Sign Language",
-                "Ede Cabe",
-                "Ede Ica",
-                "Ede Idaca",
-                "Ede Ije",
-                "Edera Awyu",
-                "Edolo",
-                "Edomite",
-                "Edopi",
-                "Efai",
-                "Efe",
-                "Efik",
-                "Efutop",
-                "Ega",
-                "Eggon",
-                "Egypt Sign Language",
-                "Egyptian (Ancient)",
-                "Egyptian Arabic",
-                "Egyptian languages",
-                "Ehueun",
-                "Eipomek",
-                "Eitiep",
-                "Ejagham",
-                "Ejamat",
-                "Ekai Chin",
-                "Ekajuk",
-                "Ekari",
-                "Eki",
-                "Ekit",
-                "Ekpeye",
-                "El Alto Zapotec",
-                "El Hugeirat",
-                "El Molo",
-                "El Nayar Cora",
-                "Elamite",
-                "Eleme",
-                "Elepi",
-                "Elfdalian",
-                "Elip",
-                "Elkei",
-                "Elotepec Zapotec",
-                "Eloyi",
-                "Elseng",
-                "Elu",
-                "Elymian",
-                "Emae",
-                "Emai-Iuleha-Ora",
-                "Eman",
-                "Embaloh",
-                "Emberá-Baudó",
-                "Emberá-Catío",
-                "Emberá-Chamí",
-                "Emberá-Tadó",
-                "Embu",
-                "Emerillon",
-                "Emilian",
-                "Emplawas",
-                "Emumu",
-                "En",
-                "Enawené-Nawé",
-                "Ende",
-                "Enga",
-                "Engdewu",
-                "Engenni",
-                "Enggano",
-                "English",
-                "Enlhet",
-                "Enrekang",
-                "Enu",
-                "Enwan (Akwa Ibom State)",
-                "Enwan (Edu State)",
-                "Enxet",
-                "Enya",
-                "Epena",
-                "Epi-Olmec",
-                "Epie",
-                "Epigraphic Mayan",
-                "Eravallan",
-                "Erave",
-                "Ere",
-                "Eritai",
-                "Erokwanas",
-                "Erre",
-                "Erromintxela",
-                "Ersu",
-                "Eruwa",
-                "Erzya",
-                "Esan",
-                "Ese Ejja",
-                "Ese",
-                "Eshtehardi",
-                "Esimbi",
-                "Eskayan",
-                "Eskimo-Aleut languages",
-                "Esperanto",
-                "Esselen",
-                "Estado de México Otomi",
-                "Estonian Sign Language",
-                "Estonian",
-                "Esuma",
-                "Etchemin",
-                "Etebi",
-                "Eten",
-                "Eteocretan",
-                "Eteocypriot",
-                "Ethiopian Sign Language",
-                "Etkywan",
-                "Eton (Cameroon)",
-                "Eton (Vanuatu)",
-                "Etruscan",
-                "Etulo",
-                "Evant",
-                "Even",
-                "Evenki",
-                "Eviya",
-                "Ewage-Notu",
-                "Ewe",
-                "Ewondo",
-                "Extremaduran",
-                "Eyak",
-                "Ezaa",
-                "Fa d'Ambu",
-                "Fagani",
-                "Faifi",
-                "Faire Atta",
-                "Faita",
-                "Faiwol",
-                "Fala",
-                "Falam Chin",
-                "Fali",
-                "Faliscan",
-                "Fam",
-                "Fanagalo",
-                "Fanamaket",
-                "Fanbak",
-                "Fang (Cameroon)",
-                "Fang (Equatorial Guinea)",
-                "Fania",
-                "Fanti",
-                "Far Western Muria",
-                "Farefare",
-                "Faroese",
-                "Fas",
-                "Fasu",
-                "Fataleka",
-                "Fataluku",
-                "Fayu",
-                "Fe'fe'",
-                "Fembe",
-                "Fernando Po Creole English",
-                "Feroge",
-                "Fiji Hindi",
-                "Fijian",
-                "Filipino",
-                "Filomena Mata-Coahuitlán Totonac",
-                "Finland-Swedish Sign Language",
-                "Finnish Sign Language",
-                "Finnish",
-                "Finno-Ugrian languages",
-                "Finongan",
-                "Fipa",
-                "Firan",
-                "Fiwaga",
-                "Flaaitaal",
-                "Flinders Island",
-                "Foau",
-                "Foi",
-                "Foia Foia",
-                "Folopa",
-                "Foma",
-                "Fon",
-                "Fongoro",
-                "Foodo",
-                "Forak",
-                "Fordata",
-                "Fore",
-                "Forest Enets",
-                "Formosan languages",
-                "Fortsenal",
-                "Francisco León Zoque",
-                "Frankish",
-                "French Sign Language",
-                "French",
-                "Friulian",
-                "Fulah",
-                "Fuliiru",
-                "Fulniô",
-                "Fum",
-                "Fungwa",
-                "Fur",
-                "Furu",
-                "Futuna-Aniwa",
-                "Fuyug",
-                "Fwe",
-                "Fwâi",
-                "Fyam",
-                "Fyer",
-                "Ga",
-                "Ga'anda",
-                "Ga'dang",
-                "Gaa",
-                "Gaam",
-                "Gabi-Gabi",
-                "Gabri",
-                "Gabrielino-Fernandeño",
-                "Gadang",
-                "Gaddang",
-                "Gaddi",
-                "Gade Lohar",
-                "Gade",
-                "Gadjerawang",
-                "Gadsup",
-                "Gafat",
-                "Gagadu",
-                "Gagauz",
-                "Gagnoa Bété",
-                "Gagu",
-                "Gahri",
-                "Gaikundi",
-                "Gail",
-                "Gaina",
-                "Gal",
-                "Galambu",
-                "Galatian",
-                "Galela",
-                "Galeya",
-                "Galibi Carib",
-                "Galice",
-                "Galician",
-                "Galindan",
-                "Gallurese Sardinian",
-                "Galo",
-                "Galolen",
-                "Gamale Kham",
-                "Gambera",
-                "Gambian Wolof",
-                "Gamilaraay",
-                "Gamit",
-                "Gamkonora",
-                "Gamo",
-                "Gamo-Ningi",
-                "Gan Chinese",
-                "Gana",
-                "Ganang",
-                "Ganda",
-                "Gane",
-                "Ganggalida",
-                "Ganglau",
-                "Gangte",
-                "Gangulu",
-                "Gants",
-                "Ganza",
-                "Ganzi",
-                "Gao",
-                "Gapapaiwa",
-                "Garhwali",
-                "Garifuna",
-                "Garig-Ilgar",
-                "Garingbal",
-                "Garlali",
-                "Garo",
-                "Garre",
-                "Garrwa",
-                "Garus",
-                "Garza",
-                "Gata'",
-                "Gavak",
-                "Gavar",
-                "Gavião Do Jiparaná",
-                "Gawar-Bati",
-                "Gawri",
-                "Gawwada",
-                "Gayil",
-                "Gayo",
-                "Gazi",
-                "Gaɓogbo",
-                "Gbagyi",
-                "Gbanu",
-                "Gbanziri",
-                "Gbari",
-                "Gbaya (Central African Republic)",
-                "Gbaya (Sudan)",
-                "Gbaya-Bossangoa",
-                "Gbaya-Bozoum",
-                "Gbaya-Mbodomo",
-                "Gbayi",
-                "Gbesi Gbe",
-                "Gbii",
-                "Gbin",
-                "Gbiri-Niragu",
-                "Gboloo Grebo",
-                "Ge",
-                "Geba Karen",
-                "Gebe",
-                "Gedaged",
-                "Gedeo",
-                "Geez",
-                "Geji",
-                "Geko Karen",
-                "Gela",
-                "Geme",
-                "Gen",
-                "Gende",
-                "Gengle",
-                "Georgian",
-                "Gepo",
-                "Gera",
-                "Gerai",
-                "German Sign Language",
-                "German",
-                "Germanic languages",
-                "Geruma",
-                "Geser-Gorom",
-                "Ghadamès",
-                "Ghanaian Pidgin English",
-                "Ghanaian Sign Language",
-                "Ghandruk Sign Language",
-                "Ghanongga",
-                "Ghari",
-                "Ghayavi",
-                "Gheg Albanian",
-                "Ghera",
-                "Ghodoberi",
-                "Ghomara",
-                "Ghomálá'",
-                "Ghotuo",
-                "Ghulfan",
-                "Giangan",
-                "Gibanawa",
-                "Gidar",
-                "Giiwo",
-                "Gikyode",
-                "Gilaki",
-                "Gilbertese",
-                "Gilima",
-                "Gilyak",
-                "Gimi (Eastern Highlands)",
-                "Gimi (West New Britain)",
-                "Gimme",
-                "Gimnime",
-                "Ginuman",
-                "Ginyanga",
-                "Girawa",
-                "Girirra",
-                "Giryama",
-                "Githabul",
-                "Gitonga",
-                "Gitua",
-                "Gitxsan",
-                "Giyug",
-                "Gizrra",
-                "Glaro-Twabo",
-                "Glavda",
-                "Glio-Oubi",
-                "Gnau",
-                "Goan Konkani",
-                "Goaria",
-                "Gobasi",
-                "Gobu",
-                "Godié",
-                "Godwari",
-                "Goemai",
-                "Gofa",
-                "Gogo",
-                "Gogodala",
-                "Gokana",
-                "Gola",
-                "Golin",
-                "Golpa",
-                "Gondi",
-                "Gone Dau",
-                "Gongduk",
-                "Gonja",
-                "Gooniyandi",
-                "Gor",
-                "Gorakor",
-                "Gorap",
-                "Goreng",
-                "Gorontalo",
-                "Gorovu",
-                "Gorowa",
-                "Gothic",
-                "Goundo",
-                "Gourmanchéma",
-                "Gowlan",
-                "Gowli",
-                "Gowro",
-                "Gozarkhani",
-                "Grangali",
-                "Grass Koiari",
-                "Grebo",
-                "Greek Sign Language",
-                "Greek languages",
-                "Green Gelao",
-                "Grenadian Creole English",
-                "Gresi",
-                "Groma",
-                "Gronings",
-                "Gros Ventre",
-                "Gua",
-                "Guadeloupean Creole French",
-                "Guahibo",
-                "Guajajára",
-                "Guajá",
-                "Guambiano",
-                "Guana (Brazil)",
-                "Guana (Paraguay)",
-                "Guanano",
-                "Guanche",
-                "Guanyinqiao",
-                "Guarani",
-                "Guarayu",
-                "Guarequena",
-                "Guatemalan Sign Language",
-                "Guató",
-                "Guayabero",
-                "Gudang",
-                "Gudanji",
-                "Gude",
-                "Gudu",
-                "Guduf-Gava",
-                "Guerrero Amuzgo",
-                "Guerrero Nahuatl",
-                "Guevea De Humboldt Zapotec",
-                "Gugadj",
-                "Gugu Badhun",
-                "Gugu Warra",
-                "Gugubera",
-                "Guhu-Samane",
-                "Guianese Creole French",
-                "Guibei Zhuang",
-                "Guiberoua Béte",
-                "Guibian Zhuang",
-                "Guinea Kpelle",
-                "Guinean Sign Language",
-                "Guiqiong",
-                "Gujarati",
-                "Gujari",
-                "Gula (Central African Republic)",
-                "Gula (Chad)",
-                "Gula Iro",
-                "Gula'alaa",
-                "Gulay",
-                "Gule",
-                "Gulf Arabic",
-                "Gumalu",
-                "Gumatj",
-                "Gumawana",
-                "Gumuz",
-                "Gun",
-                "Gundi",
-                "Gunditjmara",
-                "Gundungurra",
-                "Gungabula",
-                "Gungu",
-                "Guntai",
-                "Gunwinggu",
-                "Gunya",
-                "Gupa-Abawa",
-                "Gupapuyngu",
-                "Guramalum",
-                "Gurani",
-                "Gurdjar",
-                "Gureng Gureng",
-                "Gurgula",
-                "Guriaso",
-                "Gurindji Kriol",
-                "Gurindji",
-                "Gurmana",
-                "Guro",
-                "Gurr-goni",
-                "Gurung",
-                "Guruntum-Mbaaru",
-                "Gusii",
-                "Gusilay",
-                "Guugu Yimidhirr",
-                "Guwa",
-                "Guwamu",
-                "Guya",
-                "Guyanese Creole English",
-                "Guyani",
-                "Gvoko",
-                "Gwa",
-                "Gwahatike",
-                "Gwak",
-                "Gwamhi-Wuri",
-                "Gwandara",
-                "Gweda",
-                "Gweno",
-                "Gwere",
-                "Gwichʼin",
-                "Gyalsumdo",
-                "Gyele",
-                "Gyem",
-                "Güilá Zapotec",
-                "Gāndhārī",
-                "Ha",
-                "Habu",
-                "Hadiyya",
-                "Hadothi",
-                "Hadrami Arabic",
-                "Hadrami",
-                "Hadza",
-                "Haeke",
-                "Hahon",
-                "Haida",
-                "Haigwai",
-                "Haiphong Sign Language",
-                "Haisla",
-                "Haitian Vodoun Culture Language",
-                "Haitian",
-                "Haiǁom",
-                "Haji",
-                "Hajong",
-                "Hakha Chin",
-                "Hakka Chinese",
-                "Hakö",
-                "Halang Doan",
-                "Halang",
-                "Halbi",
-                "Halh Mongolian",
-                "Halia",
-                "Halkomelem",
-                "Hamap",
-                "Hamba",
-                "Hamer-Banna",
-                "Hamtai",
-                "Han",
-                "Hanga Hundi",
-                "Hanga",
-                "Hangaza",
-                "Hani",
-                "Hano",
-                "Hanoi Sign Language",
-                "Hanunoo",
-                "Harami",
-                "Harari",
-                "Harijan Kinnauri",
-                "Haroi",
-                "Harsusi",
-                "Haruai",
-                "Haruku",
-                "Haryanvi",
-                "Harzani",
-                "Hasha",
-                "Hassaniyya",
-                "Hatam",
-                "Hattic",
-                "Hausa Sign Language",
-                "Hausa",
-                "Havasupai-Walapai-Yavapai",
-                "Haveke",
-                "Havu",
-                "Hawai'i Creole English",
-                "Hawai'i Sign Language (HSL)",
-                "Hawaiian",
-                "Haya",
-                "Hazaragi",
-                "Hdi",
-                "Hebrew",
-                "Hehe",
-                "Heiban",
-                "Heiltsuk",
-                "Helong",
-                "Hema",
-                "Hemba",
-                "Herdé",
-                "Herero",
-                "Hermit",
-                "Hernican",
-                "Hewa",
-                "Heyo",
-                "Hiberno-Scottish Gaelic",
-                "Hibito",
-                "Hidatsa",
-                "Hieroglyphic Luwian",
-                "Higaonon",
-                "Highland Konjo",
-                "Highland Oaxaca Chontal",
-                "Highland Popoluca",
-                "Highland Puebla Nahuatl",
-                "Highland Totonac",
-                "Hijazi Arabic",
-                "Hijuk",
-                "Hiligaynon",
-                "Himachali languages; Western Pahari languages",
-                "Himarimã",
-                "Hindi",
-                "Hinduri",
-                "Hinukh",
-                "Hiri Motu",
-                "Hittite",
-                "Hitu",
-                "Hiw",
-                "Hixkaryána",
-                "Hlai",
-                "Hlepho Phowa",
-                "Hlersu",
-                "Hmar",
-                "Hmong Daw",
-                "Hmong Don",
-                "Hmong Dô",
-                "Hmong Njua",
-                "Hmong Shua",
-                "Hmong",
-                "Hmong-Mien languages",
-                "Hmwaveke",
-                "Ho Chi Minh City Sign Language",
-                "Ho",
-                "Ho-Chunk",
-                "Hoava",
-                "Hobyót",
-                "Hoia Hoia",
-                "Hokan languages",
-                "Holikachuk",
-                "Holiya",
-                "Holma",
-                "Holoholo",
-                "Holu",
-                "Homa",
-                "Honduras Sign Language",
-                "Hong Kong Sign Language",
-                "Honi",
-                "Hopi",
-                "Horned Miao",
-                "Horo",
-                "Horom",
-                "Horpa",
-                "Hote",
-                "Hoti",
-                "Hovongan",
-                "Hoyahoya",
-                "Hozo",
-                "Hpon",
-                "Hrangkhol",
-                "Hre",
-                "Hruso",
-                "Hu",
-                "Huachipaeri",
-                "Huallaga Huánuco Quechua",
-                "Huamalíes-Dos de Mayo Huánuco Quechua",
-                "Huambisa",
-                "Huarijio",
-                "Huastec",
-                "Huaulu",
-                "Huautla Mazatec",
-                "Huaxcaleca Nahuatl",
-                "Huaylas Ancash Quechua",
-                "Huaylla Wanca Quechua",
-                "Huba",
-                "Huehuetla Tepehua",
-                "Huichol",
-                "Huilliche",
-                "Huitepec Mixtec",
-                "Huizhou Chinese",
-                "Hukumina",
-                "Hula",
-                "Hulaulá",
-                "Huli",
-                "Hulung",
-                "Humburi Senni Songhay",
-                "Humene",
-                "Humla",
-                "Hunde",
-                "Hung",
-                "Hungana",
-                "Hungarian Sign Language",
-                "Hungarian",
-                "Hungu",
-                "Hunjara-Kaina Ke",
-                "Hunnic",
-                "Hunsrik",
-                "Hunzib",
-                "Hupa",
-                "Hupdë",
-                "Hupla",
-                "Hurrian",
-                "Hutterite German",
-                "Hwana",
-                "Hya",
-                "Hyam",
-                "Hyolmo",
-                "Hértevin",
-                "Hõne",
-                "I-Wak",
-                "Iaai",
-                "Iamalele",
-                "Iatmul",
-                "Iau",
-                "Ibali Teke",
-                "Ibaloi",
-                "Iban",
-                "Ibanag",
-                "Ibani",
-                "Ibatan",
-                "Iberian",
-                "Ibibio",
-                "Ibino",
-                "Ibu",
-                "Ibuoro",
-                "Icelandic Sign Language",
-                "Icelandic",
-                "Iceve-Maci",
-                "Ida'an",
-                "Idakho-Isukha-Tiriki",
-                "Idaté",
-                "Idere",
-                "Idesa",
-                "Idi",
-                "Ido",
-                "Idoma",
-                "Idon",
-                "Idu-Mishmi",
-                "Iduna",
-                "Ifo",
-                "Ifè",
-                "Igala",
-                "Igana",
-                "Igbo",
-                "Igede",
-                "Ignaciano",
-                "Igo",
-                "Iguta",
-                "Igwe",
-                "Iha Based Pidgin",
-                "Iha",
-                "Ihievbe",
-                "Ijo languages",
-                "Ik",
-                "Ika",
-                "Ikaranggal",
-                "Ikizu",
-                "Iko",
-                "Ikobi",
-                "Ikoma-Nata-Isenye",
-                "Ikpeng",
-                "Ikpeshi",
-                "Ikposo",
-                "Iku-Gora-Ankwa",
-                "Ikulu",
-                "Ikwere",
-                "Ikwo",
-                "Ila",
-                "Ile Ape",
-                "Ili Turki",
-                "Ili'uun",
-                "Ilianen Manobo",
-                "Illyrian",
-                "Iloko",
-                "Ilongot",
-                "Ilue",
-                "Ilwana",
-                "Imbabura Highland Quichua",
-                "Imbongu",
-                "Imonda",
-                "Imroing",
-                "Inabaknon",
-                "Inapang",
-                "Inari Sami",
-                "Indian Sign Language",
-                "Indic languages",
-                "Indo-European languages",
-                "Indo-Iranian languages",
-                "Indo-Portuguese",
-                "Indonesian Bajau",
-                "Indonesian Sign Language",
-                "Indonesian",
-                "Indri",
-                "Indus Kohistani",
-                "Indus Valley Language",
-                "Inebu One",
-                "Ineseño",
-                "Inga",
-                "Ingrian",
-                "Ingush",
-                "Inlaod Itneg",
-                "Innu",
-                "Inoke-Yate",
-                "Inonhan",
-                "Inor",
-                "Inpui Naga",
-                "Interglossa",
-                "Interlingua (International Auxiliary Language Association)",
-                "Interlingue",
-                "International Sign",
-                "Intha",
-                "Inuinnaqtun",
-                "Inuit Sign Language",
-                "Inuktitut",
-                "Inupiaq",
-                "Iowa-Oto",
-                "Ipalapa Amuzgo",
-                "Ipiko",
-                "Ipili",
-                "Ipulo",
-                "Iquito",
-                "Ir",
-                "Iranian Persian",
-                "Iranian languages",
-                "Iranun (Malaysia)",
-                "Iranun (Philippines)",
-                "Iraqw",
-                "Irarutu",
-                "Iraya",
-                "Iresim",
-                "Irish Sign Language",
-                "Irish",
-                "Iroquoian languages",
-                "Irula",
-                "Irántxe",
-                "Isabi",
-                "Isanzu",
-                "Isarog Agta",
-                "Isconahua",
-                "Isebe",
-                "Isekiri",
-                "Ishkashimi",
-                "Isinai",
-                "Isirawa",
-                "Island Carib",
-                "Islander Creole English",
-                "Isnag",
-                "Isoko",
-                "Israeli Sign Language",
-                "Isthmus Mixe",
-                "Isthmus Zapotec",
-                "Isthmus-Cosoleacaque Nahuatl",
-                "Isthmus-Mecayapan Nahuatl",
-                "Isthmus-Pajapan Nahuatl",
-                "Istriot",
-                "Istro Romanian",
-                "Isu (Fako Division)",
-                "Isu (Menchum Division)",
-                "Italian Sign Language",
-                "Italian",
-                "Italic languages",
-                "Itawit",
-                "Itelmen",
-                "Itene",
-                "Iteri",
-                "Itik",
-                "Ito",
-                "Itonama",
-                "Itu Mbon Uzo",
-                "Itundujia Mixtec",
-                "Itzá",
-                "Iu Mien",
-                "Ivatan",
-                "Ivbie North-Okpela-Arhe",
-                "Iwaidja",
-                "Iwal",
-                "Iwam",
-                "Iwur",
-                "Ixcatec",
-                "Ixcatlán Mazatec",
-                "Ixil",
-                "Ixtayutla Mixtec",
-                "Ixtenco Otomi",
-                "Iyayu",
-                "Iyive",
-                "Iyo",
-                "Iyo'wujwa Chorote",
-                "Iyojwa'ja Chorote",
-                "Izere",
-                "Izii",
-                "Izon",
-                "Izora",
-                "Iñapari",
-                "Jabutí",
-                "Jad",
-                "Jadgali",
-                "Jah Hut",
-                "Jahanka",
-                "Jair Awyu",
-                "Jaitmatang",
-                "Jakati",
-                "Jakattoe",
-                "Jakun",
-                "Jalapa De Díaz Mazatec",
-                "Jalkunan",
-                "Jamaican Country Sign Language",
-                "Jamaican Creole English",
-                "Jamaican Sign Language",
-                "Jamamadí",
-                "Jambi Malay",
-                "Jamiltepec Mixtec",
-                "Jamsay Dogon",
-                "Jandai",
-                "Jandavra",
-                "Jangkang",
-                "Jangshung",
-                "Janji",
-                "Japanese (family)",
-                "Japanese Sign Language",
-                "Japanese",
-                "Japrería",
-                "Jaqaru",
-                "Jara",
-                "Jarai",
-                "Jarawa (India)",
-                "Jaru",
-                "Jauja Wanca Quechua",
-                "Jaunsari",
-                "Javanese",
-                "Javindo",
-                "Jawe",
-                "Jawoyn",
-                "Jaya",
-                "Jebero",
-                "Jeh",
-                "Jehai",
-                "Jejueo",
-                "Jemez",
-                "Jenaama Bozo",
-                "Jennu Kurumba",
-                "Jere",
-                "Jeri Kuo",
-                "Jerung",
-                "Jewish Babylonian Aramaic (ca. 200-1200 CE)",
-                "Jewish Palestinian Aramaic",
-                "Jhankot Sign Language",
-                "Jiamao",
-                "Jiarong",
-                "Jiba",
-                "Jibu",
-                "Jicarilla Apache",
-                "Jiiddu",
-                "Jilbe",
-                "Jilim",
-                "Jimi (Cameroon)",
-                "Jimi (Nigeria)",
-                "Jina",
-                "Jingulu",
-                "Jinyu Chinese",
-                "Jiongnai Bunu",
-                "Jirel",
-                "Jiru",
-                "Jita",
-                "Jju",
-                "Joba",
-                "Jofotek-Bromnya",
-                "Jogi",
-                "Jola-Fonyi",
-                "Jola-Kasa",
-                "Jonkor Bourmataguil",
-                "Jordanian Sign Language",
-                "Jorá",
-                "Jowulu",
-                "Ju",
-                "Juang",
-                "Judeo-Arabic",
-                "Judeo-Berber",
-                "Judeo-Georgian",
-                "Judeo-Iraqi Arabic",
-                "Judeo-Italian",
-                "Judeo-Moroccan Arabic",
-                "Judeo-Persian",
-                "Judeo-Tat",
-                "Judeo-Tripolitanian Arabic",
-                "Judeo-Tunisian Arabic",
-                "Judeo-Yemeni Arabic",
-                "Jukun Takum",
-                "Jumjum",
-                "Jumla Sign Language",
-                "Jumli",
-                "Jungle Inga",
-                "Juquila Mixe",
-                "Jur Modo",
-                "Juray",
-                "Jurchen",
-                "Jurúna",
-                "Jutish",
-                "Juwal",
-                "Juxtlahuaca Mixtec",
-                "Juǀʼhoan",
-                "Jwira-Pepesa",
-                "Jèrriais",
-                "Júma",
-                "K'iche'",
-                "Kaamba",
-                "Kaan",
-                "Kaang Chin",
-                "Kaansa",
-                "Kaba",
-                "Kabalai",
-                "Kabardian",
-                "Kabatei",
-                "Kabiyè",
-                "Kabola",
-                "Kabore One",
-                "Kabras",
-                "Kaburi",
-                "Kabutra",
-                "Kabuverdianu",
-                "Kabwa",
-                "Kabwari",
-                "Kabyle",
-                "Kachama-Ganjule",
-                "Kachari",
-                "Kachhi",
-                "Kachi Koli",
-                "Kachin",
-                "Kacipo-Bale Suri",
-                "Kaco'",
-                "Kadai",
-                "Kadar",
-                "Kadaru",
-                "Kadazan Dusun",
-                "Kadiwéu",
-                "Kadu",
-                "Kadung",
-                "Kaduo",
-                "Kaeku",
-                "Kaera",
-                "Kafa",
-                "Kafoa",
-                "Kagan Kalagan",
-                "Kagate",
-                "Kagayanen",
-                "Kagoma",
-                "Kagoro",
-                "Kagulu",
-                "Kahe",
-                "Kahua",
-                "Kaian",
-                "Kaibobo",
-                "Kaidipang",
-                "Kaiep",
-                "Kaikadi",
-                "Kaikavian Literary Language",
-                "Kaike",
-                "Kaimbulawa",
-                "Kaimbé",
-                "Kaingang",
-                "Kairak",
-                "Kairiru",
-                "Kairui-Midiki",
-                "Kais",
-                "Kaivi",
-                "Kaiwá",
-                "Kaiy",
-                "Kajakse",
-                "Kajali",
-                "Kajaman",
-                "Kakabai",
-                "Kakabe",
-                "Kakanda",
-                "Kaki Ae",
-                "Kako",
-                "Kakwa",
-                "Kala Lagaw Ya",
-                "Kalaallisut",
-                "Kalaamaya",
-                "Kalabakan",
-                "Kalabari",
-                "Kalabra",
-                "Kalagan",
-                "Kalaktang Monpa",
-                "Kalam",
-                "Kalamsé",
-                "Kalanadi",
-                "Kalanga",
-                "Kalanguya",
-                "Kalao",
-                "Kalapuya",
-                "Kalarko",
-                "Kalasha",
-                "Kalenjin",
-                "Kalispel-Pend d'Oreille",
-                "Kalkoti",
-                "Kalkutung",
-                "Kalmyk",
-                "Kalo Finnish Romani",
-                "Kalou",
-                "Kaluli",
-                "Kalumpang",
-                "Kam",
-                "Kamakan",
-                "Kamang",
-                "Kamano",
-                "Kamantan",
-                "Kamar",
-                "Kamara",
-                "Kamarian",
-                "Kamaru",
-                "Kamas",
-                "Kamasa",
-                "Kamasau",
-                "Kamayo",
-                "Kamayurá",
-                "Kamba (Kenya)",
-                "Kambaata",
-                "Kambaira",
-                "Kambera",
-                "Kamberau",
-                "Kambiwá",
-                "Kami (Nigeria)",
-                "Kami (Tanzania)",
-                "Kamo",
-                "Kamoro",
-                "Kamu",
-                "Kamula",
-                "Kamviri",
-                "Kamwe",
-                "Kanakanabu",
-                "Kanamarí",
-                "Kanan",
-                "Kanashi",
-                "Kanasi",
-                "Kanauji",
-                "Kandas",
-                "Kandawo",
-                "Kande",
-                "Kanembu",
-                "Kang",
-                "Kanga",
-                "Kangean",
-                "Kanggape",
-                "Kangjia",
-                "Kango (Bas-Uélé District)",
-                "Kango (Tshopo District)",
-                "Kangri",
-                "Kaniet",
-                "Kanikkaran",
-                "Kaningdon-Nindem",
-                "Kaningi",
-                "Kaningra",
-                "Kaninuwa",
-                "Kanite",
-                "Kanjari",
-                "Kanju",
-                "Kankanaey",
-                "Kannada Kurumba",
-                "Kannada",
-                "Kanowit-Tanjong Melanau",
-                "Kanoé",
-                "Kansa",
-                "Kantosi",
-                "Kanu",
-                "Kanufi",
-                "Kanuri",
-                "Kanyok",
-                "Kao",
-                "Kaonde",
-                "Kap",
-                "Kapin",
-                "Kapinawá",
-                "Kapingamarangi",
-                "Kapori",
-                "Kapriman",
-                "Kaptiau",
-                "Kapya",
-                "Kaqchikel",
-                "Kara (Central African Republic)",
-                "Kara (Korea)",
-                "Kara (Papua New Guinea)",
-                "Kara (Tanzania)",
-                "Kara-Kalpak",
-                "Karachay-Balkar",
-                "Karagas",
-                "Karaim",
-                "Karajarri",
-                "Karajá",
-                "Karakhanid",
-                "Karami",
-                "Karamojong",
-                "Karang",
-                "Karanga",
-                "Karankawa",
-                "Karao",
-                "Karas",
-                "Karata",
-                "Karawa",
-                "Karbi",
-                "Kare (Central African Republic)",
-                "Kare (Papua New Guinea)",
-                "Karekare",
-                "Karelian",
-                "Karen languages",
-                "Karenggapa",
-                "Karey",
-                "Kari",
-                "Karingani",
-                "Karipuna",
-                "Karipúna Creole French",
-                "Karipúna",
-                "Karirí-Xocó",
-                "Karitiâna",
-                "Kariya",
-                "Kariyarra",
-                "Karkar-Yuri",
-                "Karkin",
-                "Karko",
-                "Karnai",
-                "Karo (Brazil)",
-                "Karo (Ethiopia)",
-                "Karok",
-                "Karon Dori",
-                "Karon",
-                "Karore",
-                "Karuwali",
-                "Kasanga",
-                "Kasem",
-                "Kashaya",
-                "Kashmiri",
-                "Kashubian",
-                "Kasiguranin",
-                "Kaska",
-                "Kaskean",
-                "Kasua",
-                "Katabaga",
-                "Katawixi",
-                "Katbol",
-                "Katcha-Kadugli-Miri",
-                "Kathoriya Tharu",
-                "Kathu",
-                "Kati",
-                "Katkari",
-                "Katla",
-                "Kato",
-                "Katso",
-                "Katua",
-                "Katukína",
-                "Kaulong",
-                "Kaur",
-                "Kaure",
-                "Kaurna",
-                "Kauwera",
-                "Kavalan",
-                "Kavet",
-                "Kawacha",
-                "Kawaiisu",
-                "Kawe",
-                "Kawi",
-                "Kaxararí",
-                "Kaxuiâna",
-                "Kayabí",
-                "Kayagar",
-                "Kayan Mahakam",
-                "Kayan River Kayan",
-                "Kayan",
-                "Kayapó",
-                "Kayardild",
-                "Kayaw",
-                "Kayeli",
-                "Kayong",
-                "Kayort",
-                "Kaytetye",
-                "Kayupulau",
-                "Kazakh",
-                "Kazukuru",
-                "Ke'o",
-                "Keak",
-                "Keapara",
-                "Kedah Malay",
-                "Kedang",
-                "Keder",
-                "Keerray-Woorroong",
-                "Kehu",
-                "Kei",
-                "Keiga",
-                "Kein",
-                "Keiyo",
-                "Kekchí",
-                "Kela (Democratic Republic of Congo)",
-                "Kela (Papua New Guinea)",
-                "Kelabit",
-                "Kele (Democratic Republic of Congo)",
-                "Kele (Papua New Guinea)",
-                "Keley-I Kallahan",
-                "Keliko",
-                "Kelo",
-                "Kelon",
-                "Kemak",
-                "Kembayan",
-                "Kemberano",
-                "Kembra",
-                "Kemedzung",
-                "Kemi Sami",
-                "Kemiehua",
-                "Kemtuik",
-                "Kenaboi",
-                "Kenati",
-                "Kendayan",
-                "Kendeje",
-                "Kendem",
-                "Kenga",
-                "Keningau Murut",
-                "Keninjal",
-                "Kensiu",
-                "Kenswei Nsei",
-                "Kenyan Sign Language",
-                "Kenyang",
-                "Kenyi",
-                "Kenzi",
-                "Keoru-Ahia",
-                "Kepkiriwát",
-                "Kepo'",
-                "Kera",
-                "Kerak",
-                "Kereho",
-                "Kerek",
-                "Kerewe",
-                "Kerewo",
-                "Kerinci",
-                "Kesawai",
-                "Ket",
-                "Ketangalan",
-                "Kete",
-                "Ketengban",
-                "Ketum",
-                "Keyagana",
-                "Kgalagadi",
-                "Khah",
-                "Khakas",
-                "Khalaj",
-                "Khaling",
-                "Khamba",
-                "Khams Tibetan",
-                "Khamti",
-                "Khamyang",
-                "Khana",
-                "Khandesi",
-                "Khanty",
-                "Khao",
-                "Kharam Naga",
-                "Kharia Thar",
-                "Kharia",
-                "Khasi",
-                "Khayo",
-                "Khazar",
-                "Khe",
-                "Khehek",
-                "Khengkha",
-                "Khetrani",
-                "Khezha Naga",
-                "Khiamniungan Naga",
-                "Khinalugh",
-                "Khirwar",
-                "Khisa",
-                "Khlula",
-                "Khmer",
-                "Khmu",
-                "Kho'ini",
-                "Khoekhoe",
-                "Khoibu Naga",
-                "Khoisan languages",
-                "Kholok",
-                "Khorasani Turkish",
-                "Khorezmian",
-                "Khotanese",
-                "Khowar",
-                "Khua",
-                "Khuen",
-                "Khumi Chin",
-                "Khunsari",
-                "Khvarshi",
-                "Kháng",
-                "Khün",
-                "Kibala",
-                "Kibet",
-                "Kibiri",
-                "Kickapoo",
-                "Kija",
-                "Kikai",
-                "Kikuyu",
-                "Kildin Sami",
-                "Kilivila",
-                "Kiliwa",
-                "Kilmeri",
-                "Kim Mun",
-                "Kim",
-                "Kimaama",
-                "Kimaragang",
-                "Kimbu",
-                "Kimbundu",
-                "Kimki",
-                "Kimré",
-                "Kinabalian",
-                "Kinalakna",
-                "Kinamiging Manobo",
-                "Kinaray-A",
-                "Kinga",
-                "Kinnauri",
-                "Kintaq",
-                "Kinuku",
-                "Kinyarwanda",
-                "Kioko",
-                "Kiong",
-                "Kiorr",
-                "Kiowa Apache",
-                "Kiowa",
-                "Kipsigis",
-                "Kiput",
-                "Kir-Balar",
-                "Kire",
-                "Kirghiz",
-                "Kirike",
-                "Kirikiri",
-                "Kirmanjki (individual language)",
-                "Kirya-Konzəl",
-                "Kis",
-                "Kisa",
-                "Kisan",
-                "Kisankasa",
-                "Kisar",
-                "Kisi",
-                "Kistane",
-                "Kita Maninkakan",
-                "Kitan",
-                "Kitsai",
-                "Kituba (Congo)",
-                "Kituba (Democratic Republic of Congo)",
-                "Kiunum",
-                "Kla-Dan",
-                "Klamath-Modoc",
-                "Klao",
-                "Klias River Kadazan",
-                "Klingon",
-                "Knaanic",
-                "Ko",
-                "Koalib",
-                "Koasati",
-                "Koba",
-                "Kobiana",
-                "Kobo",
-                "Kobol",
-                "Kobon",
-                "Koch",
-                "Kochila Tharu",
-                "Koda",
-                "Kodaku",
-                "Kodava",
-                "Kodeoha",
-                "Kodi",
-                "Kodia",
-                "Koenoem",
-                "Kofa",
-                "Kofei",
-                "Kofyar",
-                "Koguryo",
-                "Kohin",
-                "Kohistani Shina",
-                "Koho",
-                "Kohumono",
-                "Koi",
-                "Koibal",
-                "Koireng",
-                "Koitabu",
-                "Koiwat",
-                "Kok Borok",
-                "Kok-Nar",
-                "Kokata",
-                "Koke",
-                "Koki Naga",
-                "Koko Babangk",
-                "Kokoda",
-                "Kokola",
-                "Kokota",
-                "Kol (Bangladesh)",
-                "Kol (Cameroon)",
-                "Kol (Papua New Guinea)",
-                "Kola",
-                "Kolbila",
-                "Kolibugan Subanon",
-                "Koluwawa",
-                "Kom (Cameroon)",
-                "Kom (India)",
-                "Koma",
-                "Komba",
-                "Kombai",
-                "Kombio",
-                "Komering",
-                "Komi",
-                "Komi-Permyak",
-                "Komi-Zyrian",
-                "Kominimung",
-                "Komo (Democratic Republic of Congo)",
-                "Komo (Sudan)",
-                "Komodo",
-                "Kompane",
-                "Komyandaret",
-                "Kon Keu",
-                "Konai",
-                "Konda",
-                "Konda-Dora",
-                "Koneraw",
-                "Kongo",
-                "Konkani (individual language)",
-                "Konkani (macrolanguage)",
-                "Konkomba",
-                "Konni",
-                "Kono (Guinea)",
-                "Kono (Nigeria)",
-                "Kono (Sierra Leone)",
-                "Konomala",
-                "Konongo",
-                "Konso",
-                "Konyak Naga",
-                "Konyanka Maninka",
-                "Konzo",
-                "Koongo",
-                "Koonzime",
-                "Koorete",
-                "Kopar",
-                "Kopkaka",
-                "Korafe-Yegha",
-                "Korak",
-                "Korana",
-                "Korandje",
-                "Kordofanian languages",
-                "Korean Sign Language",
-                "Korean",
-                "Koreguaje",
-                "Koresh-e Rostam",
-                "Korku",
-                "Korlai Creole Portuguese",
-                "Koro (Côte d'Ivoire)",
-                "Koro (India)",
-                "Koro (Papua New Guinea)",
-                "Koro (Vanuatu)",
-                "Koro Nulu",
-                "Koro Wachi",
-                "Koro Zuba",
-                "Koromfé",
-                "Koromira",
-                "Koronadal Blaan",
-                "Koroni",
-                "Korop",
-                "Koropó",
-                "Koroshi",
-                "Korowai",
-                "Korra Koraga",
-                "Korubo",
-                "Korupun-Sela",
-                "Korwa",
-                "Koryak",
-                "Kosadle",
-                "Kosarek Yale",
-                "Kosena",
-                "Koshin",
-                "Kosraean",
-                "Kota (Gabon)",
-                "Kota (India)",
-                "Kota Bangun Kutai Malay",
-                "Kota Marudu Talantang",
-                "Kotafon Gbe",
-                "Kotava",
-                "Koti",
-                "Kott",
-                "Kou",
-                "Kouya",
-                "Kovai",
-                "Kove",
-                "Kowaki",
-                "Kowiai",
-                "Koy Sanjaq Surat",
-                "Koya",
-                "Koyaga",
-                "Koyo",
-                "Koyra Chiini Songhay",
-                "Koyraboro Senni Songhai",
-                "Koyukon",
-                "Kpagua",
-                "Kpala",
-                "Kpan",
-                "Kpasam",
-                "Kpati",
-                "Kpatili",
-                "Kpeego",
-                "Kpelle",
-                "Kpessi",
-                "Kplang",
-                "Krache",
-                "Krahô",
-                "Kraol",
-                "Krenak",
-                "Krevinian",
-                "Kreye",
-                "Kriang",
-                "Krikati-Timbira",
-                "Krio",
-                "Kriol",
-                "Krisa",
-                "Krobu",
-                "Krongo",
-                "Kru languages",
-                "Krung",
-                "Krymchak",
-                "Kryts",
-                "Kua",
-                "Kua-nsi",
-                "Kuamasi",
-                "Kuan",
-                "Kuanhua",
-                "Kuanua",
-                "Kuanyama",
-                "Kube",
-                "Kubi",
-                "Kubo",
-                "Kubu",
-                "Kucong",
-                "Kudiya",
-                "Kudmali",
-                "Kudu-Camo",
-                "Kufr Qassem Sign Language (KQSL)",
-                "Kugama",
-                "Kugbo",
-                "Kugu-Muminh",
-                "Kui (India)",
-                "Kui (Indonesia)",
-                "Kuijau",
-                "Kuikúro-Kalapálo",
-                "Kujarge",
-                "Kuk",
-                "Kukatja",
-                "Kuke",
-                "Kukele",
-                "Kukna",
-                "Kuku",
-                "Kuku-Mangk",
-                "Kuku-Mu'inh",
-                "Kuku-Ugbanh",
-                "Kuku-Uwanh",
-                "Kuku-Yalanji",
-                "Kula",
-                "Kulere",
-                "Kulfa",
-                "Kulina Pano",
-                "Kulisusu",
-                "Kullu Pahari",
-                "Kulon-Pazeh",
-                "Kulung (Nepal)",
-                "Kulung (Nigeria)",
-                "Kumalu",
-                "Kumam",
-                "Kuman (Papua New Guinea)",
-                "Kuman (Russia)",
-                "Kumaoni",
-                "Kumarbhag Paharia",
-                "Kumba",
-                "Kumbainggar",
-                "Kumbaran",
-                "Kumbewaha",
-                "Kumhali",
-                "Kumiai",
-                "Kumukio",
-                "Kumyk",
-                "Kumzari",
-                "Kunama",
-                "Kunbarlang",
-                "Kunda",
-                "Kundal Shahi",
-                "Kunduvadi",
-                "Kung",
-                "Kung-Ekoka",
-                "Kungarakany",
-                "Kungardutyi",
-                "Kunggari",
-                "Kungkari",
-                "Kuni",
-                "Kuni-Boazi",
-                "Kunigami",
-                "Kunimaipa",
-                "Kunja",
-                "Kunjen",
-                "Kunyi",
-                "Kunza",
-                "Kuo",
-                "Kuot",
-                "Kupa",
-                "Kupang Malay",
-                "Kupia",
-                "Kupsabiny",
-                "Kur",
-                "Kura Ede Nago",
-                "Kurama",
-                "Kuranko",
-                "Kurdish",
-                "Kuri",
-                "Kuria",
-                "Kurichiya",
-                "Kurmukar",
-                "Kurnai",
-                "Kurrama",
-                "Kurti",
-                "Kurtokha",
-                "Kurudu",
-                "Kurukh",
-                "Kuruáya",
-                "Kusaal",
-                "Kusaghe",
-                "Kushi",
-                "Kusu",
-                "Kusunda",
-                "Kutenai",
-                "Kutep",
-                "Kuthant",
-                "Kutong",
-                "Kutto",
-                "Kutu",
-                "Kuturmi",
-                "Kuuk Thaayorre",
-                "Kuuk-Yak",
-                "Kuuku-Ya'u",
-                "Kuvale",
-                "Kuvi",
-                "Kuwaa",
-                "Kuwaataay",
-                "Kuwema",
-                "Kuy",
-                "Kven Finnish",
-                "Kw'adza",
-                "Kwa",
-                "Kwa'",
-                "Kwaami",
-                "Kwadi",
-                "Kwaio",
-                "Kwaja",
-                "Kwakiutl",
-                "Kwakum",
-                "Kwalhioqua-Tlatskanai",
-                "Kwama",
-                "Kwambi",
-                "Kwamera",
-                "Kwami",
-                "Kwamtim One",
-                "Kwandu",
-                "Kwang",
-                "Kwanga",
-                "Kwangali",
-                "Kwanja",
-                "Kwara'ae",
-                "Kwasio",
-                "Kwaya",
-                "Kwaza",
-                "Kwegu",
-                "Kwer",
-                "Kwerba Mamberamo",
-                "Kwerba",
-                "Kwere",
-                "Kwerisa",
-                "Kwese",
-                "Kwesten",
-                "Kwini",
-                "Kwinsu",
-                "Kwinti",
-                "Kwoma",
-                "Kwomtari",
-                "Kxoe",
-                "Kyak",
-                "Kyaka",
-                "Kyan-Karyaw Naga",
-                "Kyanga",
-                "Kyenele",
-                "Kyerung",
-                "Kâte",
-                "Kélé",
-                "Kölsch",
-                "Kɛlɛngaxo Bozo",
-                "La'bi",
-                "Laal",
-                "Laari",
-                "Laba",
-                "Label",
-                "Labir",
-                "Labo Phowa",
-                "Labo",
-                "Labu",
-                "Labuk-Kinabatangan Kadazan",
-                "Lacandon",
-                "Lachi",
-                "Lachiguiri Zapotec",
-                "Lachixío Zapotec",
-                "Ladakhi",
-                "Ladin",
-                "Ladino",
-                "Ladji Ladji",
-                "Laeko-Libuat",
-                "Lafofa",
-                "Laghu",
-                "Laghuu",
-                "Lagwan",
-                "Laha (Indonesia)",
-                "Laha (Viet Nam)",
-                "Lahanan",
-                "Lahnda",
-                "Lahta Karen",
-                "Lahu Shi",
-                "Lahu",
-                "Lahul Lohar",
-                "Laimbue",
-                "Laitu Chin",
-                "Laiyolo",
-                "Lak",
-                "Laka (Chad)",
-                "Laka (Nigeria)",
-                "Lakalei",
-                "Lake Miwok",
-                "Lakha",
-                "Laki",
-                "Lakkia",
-                "Lakon",
-                "Lakondê",
-                "Lakota Dida",
-                "Lakota",
-                "Lakurumau",
-                "Lala",
-                "Lala-Bisa",
-                "Lala-Roba",
-                "Lalana Chinantec",
-                "Lalia",
-                "Lama (Togo)",
-                "Lama Bai",
-                "Lamaholot",
-                "Lamalama",
-                "Lamalera",
-                "Lamang",
-                "Lamatuka",
-                "Lamba",
-                "Lambadi",
-                "Lambayeque Quechua",
-                "Lambichhong",
-                "Lamboya",
-                "Lambya",
-                "Lame",
-                "Lamenu",
-                "Lamja-Dengsa-Tola",
-                "Lamkang",
-                "Lamma",
-                "Lamnso'",
-                "Lamogai",
-                "Lampung Api",
-                "Lampung Nyo",
-                "Lamu",
-                "Lanas Lobu",
-                "Land Dayak languages",
-                "Landoma",
-                "Lang'e",
-                "Langam",
-                "Langbashe",
-                "Langi",
-                "Langnian Buyang",
-                "Lango (South Sudan)",
-                "Lango (Uganda)",
-                "Langobardic",
-                "Langue des signes de Belgique Francophone",
-                "Lanima",
-                "Lanoh",
-                "Lao Naga",
-                "Lao",
-                "Laomian",
-                "Laopang",
-                "Laos Sign Language",
-                "Lapaguía-Guivini Zapotec",
-                "Laragia",
-                "Larantuka Malay",
-                "Lardil",
-                "Larevat",
-                "Large Flowery Miao",
-                "Lari",
-                "Larike-Wakasihu",
-                "Laro",
-                "Larteh",
-                "Laru",
-                "Lasalimu",
-                "Lasgerdi",
-                "Lashi",
-                "Lasi",
-                "Late Middle Chinese",
-                "Latgalian",
-                "Latin",
-                "Latu",
-                "Latundê",
-                "Latvian Sign Language",
-                "Latvian",
-                "Lau",
-                "Laua",
-                "Lauan",
-                "Lauje",
-                "Laura",
-                "Laurentian",
-                "Lautu Chin",
-                "Lavatbura-Lamusong",
-                "Lave",
-                "Laven",
-                "Lavi",
-                "Lavukaleve",
-                "Lawangan",
-                "Lawu",
-                "Lawunuia",
-                "Layakha",
-                "Laz",
-                "Lealao Chinantec",
-                "Leco",
-                "Ledo Kaili",
-                "Leelau",
-                "Lefa",
-                "Lega-Mwenga",
-                "Lega-Shabunda",
-                "Legbo",
-                "Legenyem",
-                "Lehali",
-                "Lehalurup",
-                "Lehar",
-                "Leinong Naga",
-                "Leipon",
-                "Lelak",
-                "Lele (Chad)",
-                "Lele (Democratic Republic of Congo)",
-                "Lele (Guinea)",
-                "Lele (Papua New Guinea)",
-                "Lelemi",
-                "Lelepa",
-                "Lembena",
-                "Lemerig",
-                "Lemio",
-                "Lemnian",
-                "Lemolang",
-                "Lemoro",
-                "Lenakel",
-                "Lenca",
-                "Lendu",
-                "Lengilu",
-                "Lengo",
-                "Lengola",
-                "Leningitij",
-                "Lenje",
-                "Lenkau",
-                "Lenyima",
-                "Lepcha",
-                "Lepki",
-                "Lepontic",
-                "Lere",
-                "Lese",
-                "Lesing-Gelimi",
-                "Letemboi",
-                "Leti (Cameroon)",
-                "Leti (Indonesia)",
-                "Levuka",
-                "Lewo Eleng",
-                "Lewo",
-                "Lewotobi",
-                "Leyigha",
-                "Lezghian",
-                "Lhokpu",
-                "Lhomi",
-                "Li'o",
-                "Liabuku",
-                "Liana-Seti",
-                "Liangmai Naga",
-                "Lianshan Zhuang",
-                "Liberia Kpelle",
-                "Liberian English",
-                "Libido",
-                "Libinza",
-                "Libon Bikol",
-                "Liburnian",
-                "Libyan Arabic",
-                "Libyan Sign Language",
-                "Lidzonka",
-                "Ligbi",
-                "Ligenza",
-                "Ligurian (Ancient)",
-                "Ligurian",
-                "Lihir",
-                "Lijili",
-                "Lika",
-                "Liki",
-                "Likila",
-                "Likuba",
-                "Likum",
-                "Likwala",
-                "Lilau",
-                "Lillooet",
-                "Limassa",
-                "Limbu",
-                "Limbum",
-                "Limburgan",
-                "Limi",
-                "Limilngan",
-                "Limos Kalinga",
-                "Linear A",
-                "Lingala",
-                "Lingao",
-                "Lingarak",
-                "Lingua Franca Nova",
-                "Lingua Franca",
-                "Lipan Apache",
-                "Lipo",
-                "Lisabata-Nuniali",
-                "Lisela",
-                "Lish",
-                "Lishana Deni",
-                "Lishanid Noshan",
-                "Lishán Didán",
-                "Lisu",
-                "Literary Chinese",
-                "Lithuanian Sign Language",
-                "Lithuanian",
-                "Litzlitz",
-                "Liujiang Zhuang",
-                "Liuqian Zhuang",
-                "Liv",
-                "Livvi",
-                "Lo-Toga",
-                "Loarki",
-                "Lobala",
-                "Lobi",
-                "Lodhi",
-                "Logba",
-                "Logo",
-                "Logol",
-                "Logooli",
-                "Logorik",
-                "Logudorese Sardinian",
-                "Lohorung",
-                "Loja Highland Quichua",
-                "Lojban",
-                "Lokaa",
-                "Loke",
-                "Loko",
-                "Lokoya",
-                "Lola",
-                "Lolak",
-                "Lole",
-                "Lolo",
-                "Loloda",
-                "Lolopo",
-                "Loma (Côte d'Ivoire)",
-                "Loma (Liberia)",
-                "Lomaiviti",
-                "Lomavren",
-                "Lombard",
-                "Lombi",
-                "Lombo",
-                "Lomwe",
-                "Loncong",
-                "Long Phuri Naga",
-                "Long Wat",
-                "Longgu",
-                "Longto",
-                "Longuda",
-                "Loniu",
-                "Lonwolwol",
-                "Lonzo",
-                "Loo",
-                "Lopa",
-                "Lopi",
-                "Lopit",
-                "Lorang",
-                "Lorediakarkar",
-                "Loreto-Ucayali Spanish",
-                "Lote",
-                "Lotha Naga",
-                "Lotud",
-                "Lou",
-                "Louisiana Creole",
-                "Loun",
-                "Loup A",
-                "Loup B",
-                "Low German",
-                "Lower Burdekin",
-                "Lower Chehalis",
-                "Lower Grand Valley Dani",
-                "Lower Nossob",
-                "Lower Silesian",
-                "Lower Sorbian",
-                "Lower Southern Aranda",
-                "Lower Ta'oih",
-                "Lower Tanana",
-                "Lowland Oaxaca Chontal",
-                "Lowland Tarahumara",
-                "Loxicha Zapotec",
-                "Lozi",
-                "Luang",
-                "Luba-Katanga",
-                "Luba-Lulua",
-                "Lubila",
-                "Lubu",
-                "Lubuagan Kalinga",
-                "Luchazi",
-                "Lucumi",
-                "Ludian",
-                "Lufu",
-                "Lugbara",
-                "Luguru",
-                "Luhu",
-                "Luimbi",
-                "Luiseno",
-                "Lukpa",
-                "Lule Sami",
-                "Lule",
-                "Lumba-Yakkha",
-                "Lumbu",
-                "Lumun",
-                "Luna",
-                "Lunanakha",
-                "Lunda",
-                "Lundayeh",
-                "Lungalunga",
-                "Lungga",
-                "Luo (Cameroon)",
-                "Luo (Kenya and Tanzania)",
-                "Luopohe Hmong",
-                "Luri",
-                "Lusengo",
-                "Lushai",
-                "Lushootseed",
-                "Lusi",
-                "Lusitanian",
-                "Lutos",
-                "Luvale",
-                "Luwati",
-                "Luwo",
-                "Luxembourgish",
-                "Luyana",
-                "Luyia",
-                "Lwalu",
-                "Lycian",
-                "Lydian",
-                "Lyngngam",
-                "Lyélé",
-                "Láadan",
-                "Láá Láá Bwamu",
-                "Lü",
-                "Ma (Democratic Republic of Congo)",
-                "Ma (Papua New Guinea)",
-                "Ma Manda",
-                "Ma'anyan",
-                "Ma'di",
-                "Ma'ya",
-                "Maa",
-                "Maaka",
-                "Maasina Fulfulde",
-                "Maay",
-                "Maba (Chad)",
-                "Maba (Indonesia)",
-                "Mabaale",
-                "Mabaan",
-                "Mabaka Valley Kalinga",
-                "Mabire",
-                "Maca",
-                "Macaguaje",
-                "Macaguán",
-                "Macanese",
-                "Macedo-Romanian",
-                "Macedonian",
-                "Machame",
-                "Machiguenga",
-                "Machinere",
-                "Machinga",
-                "Maco",
-                "Macuna",
-                "Macushi",
-                "Mada (Cameroon)",
-                "Mada (Nigeria)",
-                "Madagascar Sign Language",
-                "Madak",
-                "Maden",
-                "Madhi Madhi",
-                "Madi",
-                "Madurese",
-                "Mae",
-                "Maek",
-                "Maeng Itneg",
-                "Mafa",
-                "Mafea",
-                "Mag-Indi Ayta",
-                "Mag-antsi Ayta",
-                "Magahi",
-                "Magbukun Ayta",
-                "Magdalena Peñasco Mixtec",
-                "Magoma",
-                "Magori",
-                "Maguindanaon",
-                "Magɨ (Madang Province)",
-                "Magɨyi",
-                "Mahali",
-                "Mahasu Pahari",
-                "Mahican",
-                "Mahongwe",
-                "Mahou",
-                "Mai Brat",
-                "Maia",
-                "Maiadomu",
-                "Maiani",
-                "Maii",
-                "Mailu",
-                "Maindo",
-                "Mainfränkisch",
-                "Mainstream Kenyah",
-                "Mairasi",
-                "Maisin",
-                "Maithili",
-                "Maiwa (Indonesia)",
-                "Maiwa (Papua New Guinea)",
-                "Maiwala",
-                "Majang",
-                "Majera",
-                "Majhi",
-                "Majhwar",
-                "Majukayang Kalinga",
-                "Mak (China)",
-                "Mak (Nigeria)",
-                "Makaa",
-                "Makah",
-                "Makalero",
-                "Makasae",
-                "Makasar",
-                "Makassar Malay",
-                "Makayam",
-                "Makhuwa",
-                "Makhuwa-Marrevone",
-                "Makhuwa-Meetto",
-                "Makhuwa-Moniga",
-                "Makhuwa-Saka",
-                "Makhuwa-Shirima",
-                "Maklew",
-                "Makolkol",
-                "Makonde",
-                "Maku'a",
-                "Makuri Naga",
-                "Makuráp",
-                "Makwe",
-                "Makyan Naga",
-                "Mal Paharia",
-                "Mal",
-                "Mala (Nigeria)",
-                "Mala (Papua New Guinea)",
-                "Mala Malasar",
-                "Malaccan Creole Malay",
-                "Malaccan Creole Portuguese",
-                "Malagasy",
-                "Malak Malak",
-                "Malalamai",
-                "Malango",
-                "Malankuravan",
-                "Malapandaram",
-                "Malaryan",
-                "Malas",
-                "Malasar",
-                "Malavedan",
-                "Malawi Lomwe",
-                "Malawi Sena",
-                "Malawian Sign Language",
-                "Malay (individual language)",
-                "Malay (macrolanguage)",
-                "Malayalam",
-                "Malayic Dayak",
-                "Malaynon",
-                "Malayo",
-                "Malayo-Polynesian languages",
-                "Malaysian Sign Language",
-                "Malba Birifor",
-                "Male (Ethiopia)",
-                "Male (Papua New Guinea)",
-                "Malecite-Passamaquoddy",
-                "Maleng",
-                "Maleu-Kilenge",
-                "Malfaxal",
-                "Malgana",
-                "Malgbe",
-                "Mali",
-                "Malila",
-                "Malimba",
-                "Malimpung",
-                "Malinaltepec Me'phaa",
-                "Malo",
-                "Malol",
-                "Maltese Sign Language",
-                "Maltese",
-                "Malua Bay",
-                "Malvi",
-                "Malyangapa",
-                "Maléku Jaíka",
-                "Mam",
-                "Mama",
-                "Mamaa",
-                "Mamaindé",
-                "Mamanwa",
-                "Mamara Senoufo",
-                "Mamasa",
-                "Mambae",
-                "Mambai",
-                "Mamboru",
-                "Mambwe-Lungu",
-                "Mampruli",
-                "Mamuju",
-                "Mamulique",
-                "Mamusi",
-                "Mamvu",
-                "Man Met",
-                "Manado Malay",
-                "Manam",
-                "Manambu",
-                "Manangba",
-                "Manangkari",
-                "Manchu",
-                "Manda (Australia)",
-                "Manda (India)",
-                "Manda (Tanzania)",
-                "Mandahuaca",
-                "Mandaic",
-                "Mandan",
-                "Mandandanyi",
-                "Mandar",
-                "Mandara",
-                "Mandari",
-                "Mandarin Chinese",
-                "Mandaya",
-                "Mande languages",
-                "Mandeali",
-                "Mander",
-                "Mandingo",
-                "Mandinka",
-                "Mandjak",
-                "Mandobo Atas",
-                "Mandobo Bawah",
-                "Manem",
-                "Mang",
-                "Manga Kanuri",
-                "Mangala",
-                "Mangareva",
-                "Mangarrayi",
-                "Mangas",
-                "Mangayat",
-                "Mangbetu",
-                "Mangbutu",
-                "Mangerr",
-                "Mangga Buang",
-                "Manggarai",
-                "Mango",
-                "Mangole",
-                "Mangseng",
-                "Mangue",
-                "Manichaean Middle Persian",
-                "Manide",
-                "Manikion",
-                "Manipa",
-                "Manipuri",
-                "Mankanya",
-                "Mankiyali",
-                "Manna-Dora",
-                "Mannan",
-                "Mano",
-                "Manobo languages",
-                "Manombai",
-                "Mansaka",
-                "Mansi",
-                "Mansoanka",
-                "Manta",
-                "Mantsi",
-                "Manumanaw Karen",
-                "Manx",
-                "Manya",
-                "Manyawa",
-                "Manyika",
-                "Manza",
-                "Mao Naga",
-                "Maonan",
-                "Maore Comorian",
-                "Maori",
-                "Mape",
-                "Mapena",
-                "Mapia",
-                "Mapidian",
-                "Mapos Buang",
-                "Mapoyo",
-                "Mapudungun",
-                "Mapun",
-                "Maquiritari",
-                "Mara Chin",
-                "Marachi",
-                "Maraghei",
-                "Maragus",
-                "Maram Naga",
-                "Marama",
-                "Maranao",
-                "Maranunggu",
-                "Mararit",
-                "Marathi",
-                "Marau",
-                "Marba",
-                "Maremgi",
-                "Marenje",
-                "Marfa",
-                "Margany",
-                "Marghi Central",
-                "Marghi South",
-                "Margos-Yarowilca-Lauricocha Quechua",
-                "Margu",
-                "Mari (East Sepik Province)",
-                "Mari (Madang Province)",
-                "Mari (Russia)",
-                "Maria (India)",
-                "Maria (Papua New Guinea)",
-                "Maricopa",
-                "Maridan",
-                "Maridjabin",
-                "Marik",
-                "Marimanindji",
-                "Marind",
-                "Maring Naga",
-                "Maring",
-                "Maringarr",
-                "Marino",
-                "Mariri",
-                "Maritime Sign Language",
-                "Maritsauá",
-                "Mariyedi",
-                "Marka",
-                "Markweeta",
-                "Marma",
-                "Marovo",
-                "Marra",
-                "Marriammu",
-                "Marrithiyel",
-                "Marrucinian",
-                "Marshallese",
-                "Marsian",
-                "Martha's Vineyard Sign Language",
-                "Marti Ke",
-                "Martu Wangka",
-                "Martuyhunira",
-                "Maru",
-                "Marwari (India)",
-                "Marwari (Pakistan)",
-                "Marwari",
-                "Marúbo",
-                "Masaaba",
-                "Masadiit Itneg",
-                "Masai",
-                "Masalit",
-                "Masana",
-                "Masbatenyo",
-                "Mashco Piro",
-                "Mashi (Nigeria)",
-                "Mashi (Zambia)",
-                "Masikoro Malagasy",
-                "Masimasi",
-                "Masiwang",
-                "Maskelynes",
-                "Maslam",
-                "Masmaje",
-                "Massalat",
-                "Massep",
-                "Matagalpa",
-                "Matal",
-                "Matbat",
-                "Matengo",
-                "Matepi",
-                "Matigsalug Manobo",
-                "Matipuhy",
-                "Matngala",
-                "Mato Grosso Arára",
-                "Mato",
-                "Mator",
-                "Matsés",
-                "Mattole",
-                "Matu Chin",
-                "Matukar",
-                "Matumbi",
-                "Matya Samo",
-                "Matís",
-                "Maung",
-                "Mauritian Sign Language",
-                "Mauwake",
-                "Mawa (Chad)",
-                "Mawa (Nigeria)",
-                "Mawak",
-                "Mawan",
-                "Mawayana",
-                "Mawchi",
-                "Mawes",
-                "Maxakalí",
-                "Maxi Gbe",
-                "Maya Samo",
-                "Mayaguduna",
-                "Mayan languages",
-                "Mayangna",
-                "Mayawali",
-                "Mayeka",
-                "Mayi-Kulan",
-                "Mayi-Thakurti",
-                "Mayi-Yapi",
-                "Mayo",
-                "Mayogo",
-                "Mayoyao Ifugao",
-                "Mazagway",
-                "Mazaltepec Zapotec",
-                "Mazanderani",
-                "Mazatlán Mazatec",
-                "Mazatlán Mixe",
-                "Mba",
-                "Mbala",
-                "Mbalanhu",
-                "Mbandja",
-                "Mbangala",
-                "Mbangi",
-                "Mbangwe",
-                "Mbara (Australia)",
-                "Mbara (Chad)",
-                "Mbariman-Gudhinma",
-                "Mbati",
-                "Mbato",
-                "Mbay",
-                "Mbe",
-                "Mbe'",
-                "Mbelime",
-                "Mbere",
-                "Mbesa",
-                "Mbessa",
-                "Mbo (Cameroon)",
-                "Mbo (Democratic Republic of Congo)",
-                "Mboi",
-                "Mboko",
-                "Mbole",
-                "Mbonga",
-                "Mbongno",
-                "Mbosi",
-                "Mbowe",
-                "Mbre",
-                "Mbudum",
-                "Mbugu",
-                "Mbugwe",
-                "Mbuko",
-                "Mbukushu",
-                "Mbula",
-                "Mbula-Bwazza",
-                "Mbule",
-                "Mbulungish",
-                "Mbum",
-                "Mbunda",
-                "Mbunga",
-                "Mburku",
-                "Mbwela",
-                "Mbyá Guaraní",
-                "Me'en",
-                "Medebur",
-                "Medefaidrin",
-                "Media Lengua",
-                "Median",
-                "Mednyj Aleut",
-                "Medumba",
-                "Mefele",
-                "Megam",
-                "Megleno Romanian",
-                "Mehek",
-                "Mehináku",
-                "Mehri",
-                "Mekeo",
-                "Mekmek",
-                "Mekwei",
-                "Mel-Khaonh",
-                "Mele-Fila",
-                "Melo",
-                "Melpa",
-                "Memoni",
-                "Mendalam Kayan",
-                "Mendankwe-Nkwen",
-                "Mende (Papua New Guinea)",
-                "Mende (Sierra Leone)",
-                "Mengaka",
-                "Mengen",
-                "Mengisa",
-                "Menka",
-                "Menominee",
-                "Mentawai",
-                "Menya",
-                "Meoswar",
-                "Mer",
-                "Meramera",
-                "Merei",
-                "Merey",
-                "Meriam Mir",
-                "Merlav",
-                "Meroitic",
-                "Meru",
-                "Merwari",
-                "Mesaka",
-                "Mescalero-Chiricahua Apache",
-                "Mese",
-                "Meskwaki",
-                "Mesme",
-                "Mesmes",
-                "Mesopotamian Arabic",
-                "Mesqan",
-                "Messapic",
-                "Meta'",
-                "Metlatónoc Mixtec",
-                "Mewari",
-                "Mewati",
-                "Mexican Sign Language",
-                "Meyah",
-                "Mezontla Popoloca",
-                "Mezquital Otomi",
-                "Mfinu",
-                "Mfumte",
-                "Mgbolizhia",
-                "Mi'kmaq",
-                "Miahuatlán Zapotec",
-                "Miami",
-                "Mian",
-                "Miani",
-                "Michif",
-                "Michigamea",
-                "Michoacán Mazahua",
-                "Michoacán Nahuatl",
-                "Mid Grand Valley Dani",
-                "Mid-Southern Banda",
-                "Middle Armenian",
-                "Middle Breton",
-                "Middle Cornish",
-                "Middle Dutch (ca. 1050-1350)",
-                "Middle English (1100-1500)",
-                "Middle French (ca. 1400-1600)",
-                "Middle High German (ca. 1050-1500)",
-                "Middle Hittite",
-                "Middle Irish (900-1200)",
-                "Middle Korean (10th-16th cent.)",
-                "Middle Low German",
-                "Middle Mongolian",
-                "Middle Newar",
-                "Middle Watut",
-                "Middle Welsh",
-                "Midob",
-                "Migaama",
-                "Migabac",
-                "Migum",
-                "Miju-Mishmi",
-                "Mikasuki",
-                "Mili",
-                "Miltu",
-                "Miluk",
-                "Milyan",
-                "Min Bei Chinese",
-                "Min Dong Chinese",
-                "Min Nan Chinese",
-                "Min Zhong Chinese",
-                "Mina (Cameroon)",
-                "Minaean",
-                "Minang",
-                "Minangkabau",
-                "Minanibai",
-                "Minaveha",
-                "Minderico",
-                "Mindiri",
-                "Mingang Doso",
-                "Mingrelian",
-                "Minica Huitoto",
-                "Minidien",
-                "Minjungbal",
-                "Minkin",
-                "Minoan",
-                "Minokok",
-                "Minriq",
-                "Mintil",
-                "Minz Zhuang",
-                "Miqie",
-                "Mirandese",
-                "Miraya Bikol",
-                "Mirgan",
-                "Miriti",
-                "Miriwoong Sign Language",
-                "Miriwoong",
-                "Mirning",
-                "Miship",
-                "Misima-Panaeati",
-                "Mising",
-                "Mitla Zapotec",
-                "Mitlatongo Mixtec",
-                "Mittu",
-                "Mituku",
-                "Miu",
-                "Miwa",
-                "Mixed Great Andamanese",
-                "Mixtepec Mixtec",
-                "Mixtepec Zapotec",
-                "Miya",
-                "Miyako",
-                "Miyakubo Sign Language",
-                "Miyobe",
-                "Mlabri",
-                "Mlahsö",
-                "Mlap",
-                "Mlomp",
-                "Mmaala",
-                "Mmen",
-                "Mo'da",
-                "Moabite",
-                "Moba",
-                "Mobilian",
-                "Mobumrin Aizi",
-                "Mobwa Karen",
-                "Mochi",
-                "Mochica",
-                "Mocho",
-                "Mocoví",
-                "Modang",
-                "Modern Greek (1453-)",
-                "Modole",
-                "Moere",
-                "Mofu-Gudur",
-                "Mogholi",
-                "Mogofin",
-                "Mogum",
-                "Mohave",
-                "Mohawk",
-                "Mohegan-Pequot",
-                "Moi (Congo)",
-                "Moi (Indonesia)",
-                "Moikodi",
-                "Moingi",
-                "Moji",
-                "Mok",
-                "Moken",
-                "Mokerang",
-                "Mokilese",
-                "Moklen",
-                "Mokole",
-                "Mokpwe",
-                "Moksela",
-                "Moksha",
-                "Molale",
-                "Molbog",
-                "Moldova Sign Language",
-                "Molengue",
-                "Molima",
-                "Molmo One",
-                "Molo",
-                "Molof",
-                "Moloko",
-                "Mom Jango",
-                "Moma",
-                "Momare",
-                "Mombo Dogon",
-                "Mombum",
-                "Momina",
-                "Momuna",
-                "Mon",
-                "Mon-Khmer languages",
-                "Monastic Sign Language",
-                "Mondropolon",
-                "Mondé",
-                "Mongo",
-                "Mongol",
-                "Mongolia Buriat",
-                "Mongolian Sign Language",
-                "Mongolian languages",
-                "Mongolian",
-                "Mongondow",
-                "Moni",
-                "Mono (Cameroon)",
-                "Mono (Democratic Republic of Congo)",
-                "Mono (Solomon Islands)",
-                "Mono (USA)",
-                "Monom",
-                "Monsang Naga",
-                "Montenegrin",
-                "Montol",
-                "Monumbo",
-                "Monzombo",
-                "Moo",
-                "Moose Cree",
-                "Mopán Maya",
-                "Mor (Bomberai Peninsula)",
-                "Mor (Mor Islands)",
-                "Moraid",
-                "Morawa",
-                "Morelos Nahuatl",
-                "Morerebi",
-                "Moresada",
-                "Mori Atas",
-                "Mori Bawah",
-                "Morigi",
-                "Morisyen",
-                "Moro",
-                "Moroccan Arabic",
-                "Moroccan Sign Language",
-                "Morokodo",
-                "Morom",
-                "Moronene",
-                "Morori",
-                "Morouas",
-                "Morrobalama",
-                "Mortlockese",
-                "Moru",
-                "Mosimo",
-                "Moskona",
-                "Mossi",
-                "Mota",
-                "Motlav",
-                "Motu",
-                "Mouk-Aria",
-                "Moundadan Chetty",
-                "Mountain Koiali",
-                "Mouwase",
-                "Movima",
-                "Moyadan Itneg",
-                "Moyon Naga",
-                "Mozambican Sign Language",
-                "Mozarabic",
-                "Mpade",
-                "Mpalitjanh",
-                "Mpi",
-                "Mpiemo",
-                "Mpinda",
-                "Mpoto",
-                "Mpotovoro",
-                "Mpumpong",
-                "Mpuono",
-                "Mpur",
-                "Mro-Khimi Chin",
-                "Mru",
-                "Mser",
-                "Mt. Iraya Agta",
-                "Mt. Iriga Agta",
-                "Muak Sa-aak",
-                "Mualang",
-                "Mubami",
-                "Mubi",
-                "Muda",
-                "Mudburra",
-                "Mudhili Gadaba",
-                "Mudu Koraga",
-                "Muduga",
-                "Mufian",
-                "Mugom",
-                "Muinane",
-                "Mukha-Dora",
-                "Mukulu",
-                "Mulaha",
-                "Mulam",
-                "Mulao",
-                "Mulgi",
-                "Mullu Kurumba",
-                "Multiple languages",
-                "Muluridyi",
-                "Mum",
-                "Mumuye",
-                "Muna",
-                "Munda languages",
-                "Munda",
-                "Mundabli",
-                "Mundang",
-                "Mundani",
-                "Mundari",
-                "Mundat",
-                "Mundurukú",
-                "Mungaka",
-                "Munggui",
-                "Mungkip",
-                "Muniche",
-                "Munit",
-                "Munji",
-                "Munsee",
-                "Muong",
-                "Mur Pano",
-                "Muratayak",
-                "Murik (Malaysia)",
-                "Murik (Papua New Guinea)",
-                "Murkim",
-                "Murle",
-                "Murrinh-Patha",
-                "Mursi",
-                "Murui Huitoto",
-                "Murupi",
-                "Muruwari",
-                "Musak",
-                "Musar",
-                "Musasa",
-                "Musey",
-                "Musgu",
-                "Mushungulu",
-                "Musi",
-                "Muskum",
-                "Muslim Tat",
-                "Musom",
-                "Mussau-Emira",
-                "Muthuvan",
-                "Mutu",
-                "Muyang",
-                "Muyuw",
-                "Muzi",
-                "Mvanip",
-                "Mvuba",
-                "Mwaghavul",
-                "Mwali Comorian",
-                "Mwan",
-                "Mwani",
-                "Mwatebu",
-                "Mwera (Chimwera)",
-                "Mwera (Nyasa)",
-                "Mwimbi-Muthambi",
-                "Myanmar Sign Language",
-                "Mycenaean Greek",
-                "Myene",
-                "Mysian",
-                "Mzieme Naga",
-                "Mághdì",
-                "Máku",
-                "Ménik",
-                "Mískito",
-                "Mócheno",
-                "Mün Chin",
-                "Mündü",
-                "Māhārāṣṭri Prākrit",
-                "N'Ko",
-                "Na",
-                "Na-Dene languages",
-                "Na-kara",
-                "Naaba",
-                "Naami",
-                "Naasioi",
-                "Naba",
-                "Nabak",
-                "Nabi",
-                "Nachering",
-                "Nadruvian",
-                "Nadëb",
-                "Nafaanra",
-                "Nafi",
-                "Nafri",
-                "Nafusi",
-                "Naga Pidgin",
-                "Nagarchal",
-                "Nage",
-                "Nagumi",
-                "Nahali",
-                "Nahari",
-                "Nahuatl languages",
-                "Nai",
-                "Najdi Arabic",
-                "Naka'ela",
-                "Nakai",
-                "Nakame",
-                "Nakanai",
-                "Nake",
-                "Naki",
-                "Nakwi",
-                "Nalca",
-                "Nali",
-                "Nalik",
-                "Nalu",
-                "Naluo Yi",
-                "Nalögo",
-                "Nama (Papua New Guinea)",
-                "Namakura",
-                "Namat",
-                "Nambo",
-                "Nambya",
-                "Namia",
-                "Namiae",
-                "Namibian Sign Language",
-                "Namla",
-                "Namo",
-                "Namonuito",
-                "Namosi-Naitasiri-Serua",
-                "Namuyi",
-                "Nanai",
-                "Nancere",
-                "Nande",
-                "Nandi",
-                "Nanerigé Sénoufo",
-                "Nanga Dama Dogon",
-                "Nankina",
-                "Nanti",
-                "Nanticoke",
-                "Nanubae",
-                "Napo Lowland Quechua",
-                "Napu",
-                "Nar Phu",
-                "Nara",
-                "Narak",
-                "Narango",
-                "Nari Nari",
-                "Narim",
-                "Naro",
-                "Narom",
-                "Narragansett",
-                "Narua",
-                "Narungga",
-                "Nasal",
-                "Nasarian",
-                "Naskapi",
-                "Natanzi",
-                "Natchez",
-                "Nateni",
-                "Nathembo",
-                "Natioro",
-                "Natügu",
-                "Nauete",
-                "Naukan Yupik",
-                "Nauna",
-                "Nauo",
-                "Nauru",
-                "Navajo",
-                "Navut",
-                "Nawaru",
-                "Nawathinehena",
-                "Nawdm",
-                "Nawuri",
-                "Naxi",
-                "Nayi",
-                "Nayini",
-                "Ncane",
-                "Nchumbulu",
-                "Nda'nda'",
-                "Ndai",
-                "Ndaka",
-                "Ndali",
-                "Ndam",
-                "Ndamba",
-                "Ndambomo",
-                "Ndasa",
-                "Ndau",
-                "Nde-Gbite",
-                "Nde-Nsele-Nta",
-                "Ndemli",
-                "Ndendeule",
-                "Ndengereko",
-                "Nding",
-                "Ndo",
-                "Ndobo",
-                "Ndoe",
-                "Ndogo",
-                "Ndolo",
-                "Ndom",
-                "Ndombe",
-                "Ndonde Hamba",
-                "Ndonga",
-                "Ndoola",
-                "Ndra'ngith",
-                "Ndrulo",
-                "Nduga",
-                "Ndumu",
-                "Ndunda",
-                "Ndunga",
-                "Ndut",
-                "Ndyuka-Trio Pidgin",
-                "Ndzwani Comorian",
-                "Neapolitan",
-                "Nedebang",
-                "Nefamese",
-                "Negerhollands",
-                "Negeri Sembilan Malay",
-                "Negidal",
-                "Nehan",
-                "Nek",
-                "Nekgini",
-                "Neko",
-                "Neku",
-                "Nema",
-                "Neme",
-                "Nemi",
-                "Nen",
-                "Nend",
-                "Nenets",
-                "Nengone",
-                "Neo",
-                "Neo-Hittite",
-                "Nepalese Sign Language",
-                "Nepali (individual language)",
-                "Nepali (macrolanguage)",
-                "Nete",
-                "New Caledonian Javanese",
-                "New Zealand Sign Language",
-                "Newari",
-                "Neyo",
-                "Nez Perce",
-                "Ngaanyatjarra",
-                "Ngad'a",
-                "Ngadjunmaya",
-                "Ngadjuri",
-                "Ngaing",
-                "Ngaju",
-                "Ngala",
-                "Ngalakgan",
-                "Ngalum",
-                "Ngam",
-                "Ngamambo",
-                "Ngambay",
-                "Ngamini",
-                "Ngamo",
-                "Ngan'gityemerri",
-                "Nganakarti",
-                "Nganasan",
-                "Ngandi",
-                "Ngando (Central African Republic)",
-                "Ngando (Democratic Republic of Congo)",
-                "Ngandyera",
-                "Ngangam",
-                "Ngantangarra",
-                "Nganyaywana",
-                "Ngardi",
-                "Ngarigu",
-                "Ngarinyin",
-                "Ngarinyman",
-                "Ngarla",
-                "Ngarluma",
-                "Ngarrindjeri",
-                "Ngas",
-                "Ngasa",
-                "Ngatik Men's Creole",
-                "Ngawn Chin",
-                "Ngawun",
-                "Ngayawung",
-                "Ngazidja Comorian",
-                "Ngbaka Ma'bo",
-                "Ngbaka Manza",
-                "Ngbaka",
-                "Ngbee",
-                "Ngbinda",
-                "Ngbundu",
-                "Ngelima",
-                "Ngemba",
-                "Ngen",
-                "Ngendelengo",
-                "Ngete",
-                "Nggem",
-                "Nggwahyi",
-                "Ngie",
-                "Ngiemboon",
-                "Ngile",
-                "Ngindo",
-                "Ngiti",
-                "Ngizim",
-                "Ngkâlmpw Kanum",
-                "Ngom",
-                "Ngomba",
-                "Ngombale",
-                "Ngombe (Central African Republic)",
-                "Ngombe (Democratic Republic of Congo)",
-                "Ngongo",
-                "Ngoni (Mozambique)",
-                "Ngoni (Tanzania)",
-                "Ngoshie",
-                "Ngul",
-                "Ngulu",
-                "Nguluwan",
-                "Ngumbarl",
-                "Ngumbi",
-                "Ngunawal",
-                "Ngundi",
-                "Ngundu",
-                "Ngungwel",
-                "Ngurimi",
-                "Ngurmbur",
-                "Nguôn",
-                "Ngwaba",
-                "Ngwe",
-                "Ngwo",
-                "Ngäbere",
-                "Nhanda",
-                "Nhengatu",
-                "Nhirrpi",
-                "Nhuwala",
-                "Nias",
-                "Nicaragua Creole English",
-                "Nicaraguan Sign Language",
-                "Niellim",
-                "Niger-Kordofanian languages",
-                "Nigeria Mambila",
-                "Nigerian Fulfulde",
-                "Nigerian Pidgin",
-                "Nigerian Sign Language",
-                "Nihali",
-                "Nii",
-                "Niksek",
-                "Nila",
-                "Nilamba",
-                "Nilo-Saharan languages",
-                "Nimadi",
-                "Nimanbur",
-                "Nimbari",
-                "Nimboran",
-                "Nimi",
-                "Nimo",
-                "Nimoa",
-                "Ninam",
-                "Nindi",
-                "Ningera",
-                "Ninggerum",
-                "Ningil",
-                "Ninia Yali",
-                "Ninzo",
-                "Nipsan",
-                "Nisa",
-                "Nisenan",
-                "Nisga'a",
-                "Nisi (China)",
-                "Niuafo'ou",
-                "Niuatoputapu",
-                "Niuean",
-                "Nivaclé",
-                "Niwer Mil",
-                "Njalgulgule",
-                "Njebi",
-                "Njen",
-                "Njerep",
-                "Njyem",
-                "Nkami",
-                "Nkangala",
-                "Nkari",
-                "Nkem-Nkum",
-                "Nkhumbi",
-                "Nkongho",
-                "Nkonya",
-                "Nkoroo",
-                "Nkoya",
-                "Nkukoli",
-                "Nkutu",
-                "Nnam",
-                "No linguistic content",
-                "Nobiin",
-                "Nobonob",
-                "Nocamán",
-                "Nocte Naga",
-                "Nogai",
-                "Noipx",
-                "Noiri",
-                "Nokuku",
-                "Nomaande",
-                "Nomane",
-                "Nomatsiguenga",
-                "Nomlaki",
-                "Nomu",
-                "Nong Zhuang",
-                "Nonuya",
-                "Nooksack",
-                "Noon",
-                "Noone",
-                "Nopala Chatino",
-                "Noric",
-                "Norn",
-                "Norra",
-                "North Alaskan Inupiatun",
-                "North Ambrym",
-                "North American Indian languages",
-                "North Asmat",
-                "North Awyu",
-                "North Azerbaijani",
-                "North Babar",
-                "North Bolivian Quechua",
-                "North Caucasian languages",
-                "North Central Mixe",
-                "North Efate",
-                "North Fali",
-                "North Germanic languages",
-                "North Giziga",
-                "North Junín Quechua",
-                "North Levantine Arabic",
-                "North Marquesan",
-                "North Mesopotamian Arabic",
-                "North Midlands Tasmanian",
-                "North Mofu",
-                "North Moluccan Malay",
-                "North Muyu",
-                "North Ndebele",
-                "North Nuaulu",
-                "North Picene",
-                "North Slavey",
-                "North Tairora",
-                "North Tanna",
-                "North Wahgi",
-                "North Watut",
-                "Northeast Kiwai",
-                "Northeast Maidu",
-                "Northeast Pashai",
-                "Northeastern Dinka",
-                "Northeastern Pomo",
-                "Northeastern Tasmanian",
-                "Northeastern Thai",
-                "Northern Alta",
-                "Northern Altai",
-                "Northern Amami-Oshima",
-                "Northern Betsimisaraka Malagasy",
-                "Northern Binukidnon",
-                "Northern Bobo Madaré",
-                "Northern Bontok",
-                "Northern Catanduanes Bikol",
-                "Northern Conchucos Ancash Quechua",
-                "Northern Dagara",
-                "Northern Dong",
-                "Northern East Cree",
-                "Northern Emberá",
-                "Northern Frisian",
-                "Northern Ghale",
-                "Northern Gondi",
-                "Northern Grebo",
-                "Northern Guiyang Hmong",
-                "Northern Haida",
-                "Northern Hindko",
-                "Northern Huishui Hmong",
-                "Northern Kalapuya",
-                "Northern Kankanay",
-                "Northern Katang",
-                "Northern Khmer",
-                "Northern Kissi",
-                "Northern Kurdish",
-                "Northern Luri",
-                "Northern Mashan Hmong",
-                "Northern Muji",
-                "Northern Nago",
-                "Northern Ngbandi",
-                "Northern Nisu",
-                "Northern Nuni",
-                "Northern Oaxaca Nahuatl",
-                "Northern Ohlone",
-                "Northern One",
-                "Northern Paiute",
-                "Northern Pame",
-                "Northern Pashto",
-                "Northern Pastaza Quichua",
-                "Northern Ping Chinese",
-                "Northern Pomo",
-                "Northern Puebla Nahuatl",
-                "Northern Pumi",
-                "Northern Qiandong Miao",
-                "Northern Qiang",
-                "Northern Rengma Naga",
-                "Northern Roglai",
-                "Northern Sami",
-                "Northern Sierra Miwok",
-                "Northern Sorsoganon",
-                "Northern Subanen",
-                "Northern Tarahumara",
-                "Northern Tasmanian",
-                "Northern Tepehuan",
-                "Northern Thai",
-                "Northern Tidung",
-                "Northern Tiwa",
-                "Northern Tlaxiaco Mixtec",
-                "Northern Toussian",
-                "Northern Tujia",
-                "Northern Tutchone",
-                "Northern Uzbek",
-                "Northern Yukaghir",
-                "Northwest Alaska Inupiatun",
-                "Northwest Gbaya",
-                "Northwest Maidu",
-                "Northwest Oaxaca Mixtec",
-                "Northwest Pashai",
-                "Northwestern Dinka",
-                "Northwestern Fars",
-                "Northwestern Kolami",
-                "Northwestern Nisu",
-                "Northwestern Ojibwa",
-                "Northwestern Tamang",
-                "Northwestern Tasmanian",
-                "Norwegian Bokmål",
-                "Norwegian Nynorsk",
-                "Norwegian Sign Language",
-                "Norwegian",
-                "Notre",
-                "Notsi",
-                "Nottoway",
-                "Nottoway-Meherrin",
-                "Novial",
-                "Noy",
-                "Nsenga",
-                "Nshi",
-                "Nsongo",
-                "Ntcham",
-                "Nteng",
-                "Ntomba",
-                "Nubaca",
-                "Nubi",
-                "Nubian languages",
-                "Nubri",
-                "Nuer",
-                "Nugunu (Australia)",
-                "Nugunu (Cameroon)",
-                "Nuk",
-                "Nukak Makú",
-                "Nukna",
-                "Nukuini",
-                "Nukumanu",
-                "Nukunul",
-                "Nukuoro",
-                "Nukuria",
-                "Numana",
-                "Numanggang",
-                "Numbami",
-                "Nume",
-                "Numidian",
-                "Numèè",
-                "Nung (Viet Nam)",
-                "Nungali",
-                "Nunggubuyu",
-                "Nungu",
-                "Nupbikha",
-                "Nupe-Nupe-Tako",
-                "Nusa Laut",
-                "Nusu",
-                "Nuu-chah-nulth",
-                "Nyabwa",
-                "Nyaheun",
-                "Nyahkur",
-                "Nyakyusa-Ngonde",
-                "Nyali",
-                "Nyam",
-                "Nyamal",
-                "Nyambo",
-                "Nyamusa-Molo",
-                "Nyamwanga",
-                "Nyamwezi",
-                "Nyaneka",
-                "Nyang'i",
-                "Nyanga",
-                "Nyanga-li",
-                "Nyangatom",
-                "Nyangbo",
-                "Nyangga",
-                "Nyangumarta",
-                "Nyanja",
-                "Nyankole",
-                "Nyankpa",
-                "Nyarafolo Senoufo",
-                "Nyaturu",
-                "Nyaw",
-                "Nyawaygi",
-                "Nyemba",
-                "Nyengo",
-                "Nyenkha",
-                "Nyeu",
-                "Nyiha (Malawi)",
-                "Nyiha (Tanzania)",
-                "Nyika (Malawi and Zambia)",
-                "Nyika (Tanzania)",
-                "Nyikina",
-                "Nyindrou",
-                "Nyindu",
-                "Nyishi",
-                "Nyiyaparli",
-                "Nyokon",
-                "Nyole",
-                "Nyong",
-                "Nyore",
-                "Nyoro",
-                "Nyulnyul",
-                "Nyungar",
-                "Nyungwe",
-                "Nyâlayu",
-                "Nzadi",
-                "Nzakambay",
-                "Nzakara",
-                "Nzanyi",
-                "Nzima",
-                "Ná-Meo",
-                "Nêlêmwa-Nixumwak",
-                "Nüpode Huitoto",
-                "Nǁng",
-                "O'chi'chi'",
-                "O'du",
-                "Obanliku",
-                "Obispeño",
-                "Oblo",
-                "Obo Manobo",
-                "Obokuitai",
-                "Obolo",
-                "Obulom",
-                "Ocaina",
-                "Occitan (post 1500)",
-                "Ocotepec Mixtec",
-                "Ocotlán Zapotec",
-                "Od",
-                "Odia",
-                "Odiai",
-                "Odoodee",
-                "Odual",
-                "Odut",
-                "Ofayé",
-                "Official Aramaic (700-300 BCE)",
-                "Ofo",
-                "Ogbah",
-                "Ogbia",
-                "Ogbogolo",
-                "Ogbronuagum",
-                "Ogea",
-                "Oirata",
-                "Ojibwa",
-                "Ojitlán Chinantec",
-                "Okanagan",
-                "Oki-No-Erabu",
-                "Okiek",
-                "Oko-Eni-Osayen",
-                "Oko-Juwoi",
-                "Okobo",
-                "Okodia",
-                "Okolod",
-                "Okpamheri",
-                "Okpe (Northwestern Edo)",
-                "Okpe (Southwestern Edo)",
-                "Oksapmin",
-                "Oku",
-                "Old Aramaic (up to 700 BCE)",
-                "Old Avar",
-                "Old Breton",
-                "Old Burmese",
-                "Old Cham",
-                "Old Chinese",
-                "Old Cornish",
-                "Old Dutch",
-                "Old English (ca. 450-1100)",
-                "Old French (842-ca. 1400)",
-                "Old Frisian",
-                "Old Georgian",
-                "Old High German (ca. 750-1050)",
-                "Old Hittite",
-                "Old Hungarian",
-                "Old Irish (to 900)",
-                "Old Japanese",
-                "Old Kentish Sign Language",
-                "Old Khmer",
-                "Old Korean (3rd-9th cent.)",
-                "Old Lithuanian",
-                "Old Malay",
-                "Old Manipuri",
-                "Old Marathi",
-                "Old Mon",
-                "Old Norse",
-                "Old Nubian",
-                "Old Ossetic",
-                "Old Persian (ca. 600-400 B.C.)",
-                "Old Provençal (to 1500)",
-                "Old Russian",
-                "Old Saxon",
-                "Old Spanish",
-                "Old Sundanese",
-                "Old Tamil",
-                "Old Tibetan",
-                "Old Turkish",
-                "Old Uighur",
-                "Old Welsh",
-                "Olekha",
-                "Olkol",
-                "Olo",
-                "Oloma",
-                "Olrat",
-                "Olu'bo",
-                "Olulumo-Ikom",
-                "Oluta Popoluca",
-                "Omagua",
-                "Omaha-Ponca",
-                "Omani Arabic",
-                "Ombamba",
-                "Ombo",
-                "Ometepec Nahuatl",
-                "Omi",
-                "Omok",
-                "Omotic languages",
-                "Omotik",
-                "Omurano",
-                "Ona",
-                "Oneida",
-                "Ong",
-                "Onin Based Pidgin",
-                "Onin",
-                "Onjob",
-                "Ono",
-                "Onobasulu",
-                "Onondaga",
-                "Ontenu",
-                "Ontong Java",
-                "Oorlams",
-                "Opao",
-                "Opata",
-                "Orang Kanaq",
-                "Orang Seletar",
-                "Oraon Sadri",
-                "Orejón",
-                "Oring",
-                "Oriya (macrolanguage)",
-                "Orizaba Nahuatl",
-                "Orma",
-                "Ormu",
-                "Ormuri",
-                "Oro Win",
-                "Oro",
-                "Oroch",
-                "Oroha",
-                "Orok",
-                "Orokaiva",
-                "Oroko",
-                "Orokolo",
-                "Oromo",
-                "Oroqen",
-                "Orowe",
-                "Oruma",
-                "Orya",
-                "Osage",
-                "Osatu",
-                "Oscan",
-                "Osing",
-                "Ososo",
-                "Ossetian",
-                "Ot Danum",
-                "Otank",
-                "Oti",
-                "Oto-Manguean languages",
-                "Otomian languages",
-                "Otoro",
-                "Ottawa",
-                "Ottoman Turkish (1500-1928)",
-                "Otuho",
-                "Otuke",
-                "Ouma",
-                "Oune",
-                "Owa",
-                "Owenia",
-                "Owiniga",
-                "Oy",
-                "Oya'oya",
-                "Oyda",
-                "Oyster Bay Tasmanian",
-                "Ozolotepec Zapotec",
-                "Ozumacín Chinantec",
-                "Pa Di",
-                "Pa'a",
-                "Pa'o Karen",
-                "Pa-Hng",
-                "Paakantyi",
-                "Paama",
-                "Paasaal",
-                "Pacahuara",
-                "Pacaraos Quechua",
-                "Pacific Gulf Yupik",
-                "Pacoh",
-                "Padoe",
-                "Paekche",
-                "Paelignian",
-                "Pagi",
-                "Pagibete",
-                "Pagu",
-                "Pahanan Agta",
-                "Pahari-Potwari",
-                "Pahi",
-                "Pahlavani",
-                "Pahlavi",
-                "Pai Tavytera",
-                "Paicî",
-                "Paipai",
-                "Paite Chin",
-                "Paiwan",
-                "Pak-Tong",
-                "Pakanha",
-                "Pakaásnovos",
-                "Pakistan Sign Language",
-                "Paku Karen",
-                "Paku",
-                "Pal",
-                "Palaic",
-                "Palaka Senoufo",
-                "Palantla Chinantec",
-                "Palauan",
-                "Paleni",
-                "Palenquero",
-                "Pali",
-                "Palikúr",
-                "Paliyan",
-                "Pallanganmiddang",
-                "Paloor",
-                "Palu'e",
-                "Paluan",
-                "Palya Bareli",
-                "Pam",
-                "Pambia",
-                "Pamlico",
-                "Pamona",
-                "Pamosu",
-                "Pampanga",
-                "Pamplona Atta",
-                "Pana (Burkina Faso)",
-                "Pana (Central African Republic)",
-                "Panamanian Sign Language",
-                "Panamint",
-                "Panao Huánuco Quechua",
-                "Panará",
-                "Panasuan",
-                "Panawa",
-                "Pancana",
-                "Panchpargania",
-                "Pande",
-                "Pangasinan",
-                "Pangseng",
-                "Pangu",
-                "Pangutaran Sama",
-                "Pangwa",
-                "Pangwali",
-                "Panim",
-                "Paniya",
-                "Panjabi",
-                "Pankararé",
-                "Pankararú",
-                "Pankhu",
-                "Pannei",
-                "Pano",
-                "Panoan Katukína",
-                "Panobo",
-                "Panyi Bai",
-                "Papantla Totonac",
-                "Papapana",
-                "Papar",
-                "Papasena",
-                "Papel",
-                "Papi",
-                "Papiamento",
-                "Papora",
-                "Papua New Guinean Sign Language",
-                "Papuan Malay",
-                "Papuan languages",
-                "Papuma",
-                "Para Naga",
-                "Parachi",
-                "Paraguayan Guaraní",
-                "Paraguayan Sign Language",
-                "Parakanã",
-                "Paranan",
-                "Paranawát",
-                "Paraujano",
-                "Parauk",
-                "Parawen",
-                "Pardhan",
-                "Pardhi",
-                "Pare",
-                "Parecís",
-                "Parenga",
-                "Parkari Koli",
-                "Parkwa",
-                "Parsi",
-                "Parsi-Dari",
-                "Parthian",
-                "Parya",
-                "Pará Arára",
-                "Pará Gavião",
-                "Pasi",
-                "Pass Valley Yali",
-                "Patamona",
-                "Patani",
-                "Pataxó Hã-Ha-Hãe",
-                "Patep",
-                "Pathiya",
-                "Patpatar",
-                "Pattani Malay",
-                "Pattani",
-                "Pattapu",
-                "Patwin",
-                "Paulohi",
-                "Paumarí",
-                "Paunaka",
-                "Pauri Bareli",
-                "Pauserna",
-                "Pawaia",
-                "Pawnee",
-                "Paynamar",
-                "Pe",
-                "Pear",
-                "Pech",
-                "Pecheneg",
-                "Pedi",
-                "Pei",
-                "Pekal",
-                "Pela",
-                "Pele-Ata",
-                "Pelende",
-                "Pemon",
-                "Penang Sign Language",
-                "Penchal",
-                "Pendau",
-                "Pengo",
-                "Pennsylvania German",
-                "Penrhyn",
-                "Pentlatch",
-                "Perai",
-                "Peranakan Indonesian",
-                "Pere",
-                "Peripheral Mongolian",
-                "Pero",
-                "Persian Sign Language",
-                "Persian",
-                "Peruvian Sign Language",
-                "Petapa Zapotec",
-                "Petats",
-                "Petjo",
-                "Peñoles Mixtec",
-                "Pfaelzisch",
-                "Phai",
-                "Phake",
-                "Phala",
-                "Phalura",
-                "Phana'",
-                "Phangduwali",
-                "Phende",
-                "Philippine Sign Language",
-                "Philippine languages",
-                "Phimbi",
-                "Phoenician",
-                "Phola",
-                "Pholo",
-                "Phom Naga",
-                "Phong-Kniang",
-                "Phrae Pwo Karen",
-                "Phrygian",
-                "Phu Thai",
-                "Phuan",
-                "Phudagi",
-                "Phuie",
-                "Phukha",
-                "Phuma",
-                "Phunoi",
-                "Phuong",
-                "Phupa",
-                "Phupha",
-                "Phuza",
-                "Piamatsina",
-                "Piame",
-                "Piapoco",
-                "Piaroa",
-                "Picard",
-                "Pichis Ashéninka",
-                "Pictish",
-                "Pidgin Delaware",
-                "Piemontese",
-                "Pijao",
-                "Pije",
-                "Pijin",
-                "Pilagá",
-                "Pileni",
-                "Pima Bajo",
-                "Pimbwe",
-                "Pinai-Hagahai",
-                "Pindiini",
-                "Pingelapese",
-                "Pini",
-                "Pinigura",
-                "Pinjarup",
-                "Pinji",
-                "Pinotepa Nacional Mixtec",
-                "Pintupi-Luritja",
-                "Pinyin",
-                "Pipil",
-                "Pirahã",
-                "Piratapuyo",
-                "Pirlatapa",
-                "Piro",
-                "Pirriya",
-                "Pisabo",
-                "Pisaflores Tepehua",
-                "Piscataway",
-                "Pisidian",
-                "Pitcairn-Norfolk",
-                "Pite Sami",
-                "Piti",
-                "Pitjantjatjara",
-                "Pitta Pitta",
-                "Piu",
-                "Piya-Kwonci",
-                "Plains Cree",
-                "Plains Indian Sign Language",
-                "Plains Miwok",
-                "Plapo Krumen",
-                "Plateau Malagasy",
-                "Plautdietsch",
-                "Playero",
-                "Pnar",
-                "Pochuri Naga",
-                "Pochutec",
-                "Podena",
-                "Pogolo",
-                "Pohnpeian",
-                "Pokangá",
-                "Poke",
-                "Pokomo",
-                "Polabian",
-                "Polari",
-                "Polci",
-                "Polish Sign Language",
-                "Polish",
-                "Polonombauk",
-                "Pom",
-                "Pomo",
-                "Ponam",
-                "Ponosakan",
-                "Pontic",
-                "Ponyo-Gongwang Naga",
-                "Popti'",
-                "Poqomam",
-                "Poqomchi'",
-                "Porohanon",
-                "Port Sandwich",
-                "Port Sorell Tasmanian",
-                "Port Vato",
-                "Portuguese Sign Language",
-                "Portuguese",
-                "Potawatomi",
-                "Potiguára",
-                "Pottangi Ollar Gadaba",
-                "Poumei Naga",
-                "Pouye",
-                "Powari",
-                "Powhatan",
-                "Poyanáwa",
-                "Prakrit languages",
-                "Prasuni",
-                "Primitive Irish",
-                "Principense",
-                "Providencia Sign Language",
-                "Prussian",
-                "Psikye",
-                "Pu-Xian Chinese",
-                "Puare",
-                "Pudtol Atta",
-                "Puebla Mazatec",
-                "Puelche",
-                "Puerto Rican Sign Language",
-                "Puimei Naga",
-                "Puinave",
-                "Pukapuka",
-                "Pulaar",
-                "Pulabu",
-                "Pular",
-                "Puluwatese",
-                "Puma",
-                "Pumpokol",
-                "Pumé",
-                "Punan Aput",
-                "Punan Bah-Biau",
-                "Punan Batu 1",
-                "Punan Merah",
-                "Punan Merap",
-                "Punan Tubu",
-                "Punic",
-                "Puno Quechua",
-                "Punthamara",
-                "Punu",
-                "Puoc",
-                "Puquina",
-                "Puragi",
-                "Purari",
-                "Purepecha",
-                "Puri",
-                "Purik",
-                "Purisimeño",
-                "Puroik",
-                "Puruborá",
-                "Purum",
-                "Pushto",
-                "Putai",
-                "Putoh",
-                "Putukwam",
-                "Puyo",
-                "Puyo-Paekche",
-                "Puyuma",
-                "Pwaamei",
-                "Pwapwâ",
-                "Pwo Eastern Karen",
-                "Pwo Northern Karen",
-                "Pwo Western Karen",
-                "Pyapun",
-                "Pye Krumen",
-                "Pyen",
-                "Pyu (Myanmar)",
-                "Pyu (Papua New Guinea)",
-                "Páez",
-                "Pááfang",
-                "Päri",
-                "Pémono",
-                "Pévé",
-                "Pökoot",
-                "Q'anjob'al",
-                "Qabiao",
-                "Qaqet",
-                "Qashqa'i",
-                "Qatabanian",
-                "Qau",
-                "Qawasqar",
-                "Qila Muji",
-                "Qimant",
-                "Qiubei Zhuang",
-                "Quapaw",
-                "Quebec Sign Language",
-                "Quechan",
-                "Quechua",
-                "Quechuan (family)",
-                "Quenya",
-                "Querétaro Otomi",
-                "Quetzaltepec Mixe",
-                "Queyu",
-                "Quiavicuzas Zapotec",
-                "Quileute",
-                "Quinault",
-                "Quinqui",
-                "Quioquitani-Quierí Zapotec",
-                "Quiotepec Chinantec",
-                "Quiripi",
-                "Rabha",
-                "Rade",
-                "Raetic",
-                "Rahambuu",
-                "Rajah Kabunsuwan Manobo",
-                "Rajasthani",
-                "Rajbanshi",
-                "Raji",
-                "Rajong",
-                "Rajput Garasia",
-                "Rakahanga-Manihiki",
-                "Rakhine",
-                "Ralte",
-                "Rama",
-                "Ramoaaina",
-                "Ramopa",
-                "Rampi",
-                "Rana Tharu",
-                "Rang",
-                "Rangkas",
-                "Ranglong",
-                "Rangpuri",
-                "Rao",
-                "Rapa",
-                "Rapanui",
-                "Rapoisi",
-                "Rapting",
-                "Rara Bakati'",
-                "Rarotongan",
-                "Rasawa",
-                "Ratagnon",
-                "Ratahan",
-                "Rathawi",
-                "Rathwi Bareli",
-                "Raute",
-                "Ravula",
-                "Rawa",
-                "Rawang",
-                "Rawat",
-                "Rawngtu Chin",
-                "Rawo",
-                "Rayón Zoque",
-                "Razajerdi",
-                "Red Gelao",
-                "Reel",
-                "Rejang Kayan",
-                "Rejang",
-                "Reli",
-                "Rema",
-                "Rembarrnga",
-                "Rembong",
-                "Remo",
-                "Remontado Dumagat",
-                "Rempi",
-                "Remun",
-                "Rendille",
-                "Rengao",
-                "Rennell-Bellona",
-                "Repanbitip",
-                "Rer Bare",
-                "Rerau",
-                "Rerep",
-                "Reserved for local use",
-                "Reserved for local use: qaa",
-                "Reserved for local use: qab",
-                "Reserved for local use: qac",
-                "Reserved for local use: qad",
-                "Reshe",
-                "Resígaro",
-                "Retta",
-                "Reyesano",
-                "Riang (India)",
-                "Riang Lai",
-                "Riang Lang",
-                "Riantana",
-                "Ribun",
-                "Rigwe",
-                "Rikbaktsa",
-                "Rinconada Bikol",
-                "Rincón Zapotec",
-                "Ringgou",
-                "Ririo",
-                "Ritharrngu",
-                "Riung",
-                "Riverain Sango",
-                "Rmeet",
-                "Rogo",
-                "Rohingya",
-                "Roma",
-                "Romagnol",
-                "Romam",
-                "Romance languages",
-                "Romanian Sign Language",
-                "Romanian",
-                "Romano-Greek",
-                "Romano-Serbian",
-                "Romanova",
-                "Romansh",
-                "Romany",
-                "Romblomanon",
-                "Rombo",
-                "Romkun",
-                "Ron",
-                "Ronga",
-                "Rongga",
-                "Rongmei Naga",
-                "Rongpo",
-                "Ronji",
-                "Roon",
-                "Roria",
-                "Rotokas",
-                "Rotuman",
-                "Roviana",
-                "Ruching Palaung",
-                "Rudbari",
-                "Rufiji",
-                "Ruga",
-                "Rukai",
-                "Ruma",
-                "Rumai Palaung",
-                "Rumu",
-                "Rundi",
-                "Runga",
-                "Rungtu Chin",
-                "Rungus",
-                "Rungwa",
-                "Russia Buriat",
-                "Russian Sign Language",
-                "Russian",
-                "Rusyn",
-                "Rutul",
-                "Ruuli",
-                "Ruund",
-                "Ruwila",
-                "Rwa",
-                "Réunion Creole French",
-                "Rāziḥī",
-                "S'gaw Karen",
-                "Sa",
-                "Sa'a",
-                "Sa'ban",
-                "Sa'och",
-                "Saafi-Saafi",
-                "Saam",
-                "Saamia",
-                "Saaroa",
-                "Saba",
-                "Sabaean",
-                "Sabah Bisaya",
-                "Sabah Malay",
-                "Sabanê",
-                "Sabaot",
-                "Sabine",
-                "Sabu",
-                "Sabüm",
-                "Sacapulteco",
-                "Sadri",
-                "Saek",
-                "Saep",
-                "Safaliba",
-                "Safeyoka",
-                "Safwa",
-                "Sagala",
-                "Sagalla",
-                "Saho",
-                "Sahu",
-                "Saidi Arabic",
-                "Saint Lucian Creole French",
-                "Saisiyat",
-                "Sajalong",
-                "Sajau Basap",
-                "Sakachep",
-                "Sakalava Malagasy",
-                "Sakao",
-                "Sakata",
-                "Sake",
-                "Sakirabiá",
-                "Sakizaya",
-                "Sala",
-                "Salampasu",
-                "Salar",
-                "Salas",
-                "Salasaca Highland Quichua",
-                "Salchuq",
-                "Saleman",
-                "Saliba",
-                "Salinan",
-                "Salishan languages",
-                "Sallands",
-                "Salt-Yui",
-                "Saluan",
-                "Salumá",
-                "Salvadoran Sign Language",
-                "Sam",
-                "Sama",
-                "Samaritan Aramaic",
-                "Samaritan",
-                "Samarokena",
-                "Samatao",
-                "Samay",
-                "Samba Daka",
-                "Samba Leko",
-                "Samba",
-                "Sambal",
-                "Sambalpuri",
-                "Sambe",
-                "Samberigi",
-                "Samburu",
-                "Samei",
-                "Sami languages",
-                "Samo",
-                "Samoan",
-                "Samogitian",
-                "Samosa",
-                "Samoyedic languages",
-                "Sampang",
-                "Samre",
-                "Samtao",
-                "Samvedi",
-                "San Agustín Mixtepec Zapotec",
-                "San Baltazar Loxicha Zapotec",
-                "San Blas Kuna",
-                "San Dionisio Del Mar Huave",
-                "San Felipe Otlaltepec Popoloca",
-                "San Francisco Del Mar Huave",
-                "San Francisco Matlatzinca",
-                "San Jerónimo Tecóatl Mazatec",
-                "San Juan Atzingo Popoloca",
-                "San Juan Colorado Mixtec",
-                "San Juan Teita Mixtec",
-                "San Luís Temalacayuca Popoloca",
-                "San Marcos Tlacoyalco Popoloca",
-                "San Martín Itunyoso Triqui",
-                "San Martín Quechua",
-                "San Mateo Del Mar Huave",
-                "San Miguel Creole French",
-                "San Miguel El Grande Mixtec",
-                "San Miguel Piedras Mixtec",
-                "San Pedro Amuzgos Amuzgo",
-                "San Pedro Quiatoni Zapotec",
-                "San Salvador Kongo",
-                "San Vicente Coatlán Zapotec",
-                "Sanaani Arabic",
-                "Sanapaná",
-                "Sandawe",
-                "Sanga (Democratic Republic of Congo)",
-                "Sanga (Nigeria)",
-                "Sanggau",
-                "Sangil",
-                "Sangir",
-                "Sangisari",
-                "Sangkong",
-                "Sanglechi",
-                "Sango",
-                "Sangtam Naga",
-                "Sangu (Gabon)",
-                "Sangu (Tanzania)",
-                "Sani",
-                "Sanie",
-                "Saniyo-Hiyewe",
-                "Sankaran Maninka",
-                "Sansi",
-                "Sanskrit",
-                "Santa Ana de Tusi Pasco Quechua",
-                "Santa Catarina Albarradas Zapotec",
-                "Santa Inés Ahuatempan Popoloca",
-                "Santa Inés Yatzechi Zapotec",
-                "Santa Lucía Monteverde Mixtec",
-                "Santa María Del Mar Huave",
-                "Santa María La Alta Nahuatl",
-                "Santa María Quiegolani Zapotec",
-                "Santa María Zacatepec Mixtec",
-                "Santa Teresa Cora",
-                "Santali",
-                "Santiago Xanica Zapotec",
-                "Santiago del Estero Quichua",
-                "Santo Domingo Albarradas Zapotec",
-                "Sanumá",
-                "Saparua",
-                "Sapo",
-                "Saponi",
-                "Saposa",
-                "Sapuan",
-                "Sapé",
-                "Sar",
-                "Sara Kaba Deme",
-                "Sara Kaba Náà",
-                "Sara Kaba",
-                "Sara",
-                "Saraiki",
-                "Saramaccan",
-                "Sarangani Blaan",
-                "Sarangani Manobo",
-                "Sarasira",
-                "Saraveca",
-                "Sardinian",
-                "Sari",
-                "Sarikoli",
-                "Sarli",
-                "Sarsi",
-                "Sartang",
-                "Sarua",
-                "Sarudu",
-                "Saruga",
-                "Sasak",
-                "Sasaru",
-                "Sassarese Sardinian",
-                "Satawalese",
-                "Saterfriesisch",
-                "Sateré-Mawé",
-                "Saudi Arabian Sign Language",
-                "Sauraseni Prākrit",
-                "Saurashtra",
-                "Sauri",
-                "Sauria Paharia",
-                "Sause",
-                "Sausi",
-                "Savi",
-                "Savosavo",
-                "Sawai",
-                "Saweru",
-                "Sawi",
-                "Sawila",
-                "Sawknah",
-                "Saxwe Gbe",
-                "Saya",
-                "Sayula Popoluca",
-                "Scots",
-                "Scottish Gaelic",
-                "Scythian",
-                "Sea Island Creole English",
-                "Seba",
-                "Sebat Bet Gurage",
-                "Seberuang",
-                "Sebop",
-                "Sebuyau",
-                "Sechelt",
-                "Secoya",
-                "Sedang",
-                "Sedoa",
-                "Seeku",
-                "Segai",
-                "Segeju",
-                "Seget",
-                "Sehwi",
-                "Seimat",
-                "Seit-Kaitetu",
-                "Sekani",
-                "Sekapan",
-                "Sekar",
-                "Seke (Nepal)",
-                "Seke (Vanuatu)",
-                "Sekele",
-                "Seki",
-                "Seko Padang",
-                "Seko Tengah",
-                "Sekpele",
-                "Selangor Sign Language",
-                "Selaru",
-                "Selayar",
-                "Selee",
-                "Selepet",
-                "Selian",
-                "Selkup",
-                "Selungai Murut",
-                "Seluwasan",
-                "Semai",
-                "Semandang",
-                "Semaq Beri",
-                "Sembakung Murut",
-                "Semelai",
-                "Semimi",
-                "Semitic languages",
-                "Semnam",
-                "Semnani",
-                "Sempan",
-                "Sena",
-                "Senara Sénoufo",
-                "Senaya",
-                "Sene",
-                "Seneca",
-                "Sened",
-                "Sengele",
-                "Senggi",
-                "Sengo",
-                "Sengseng",
-                "Senhaja De Srair",
-                "Sensi",
-                "Sentani",
-                "Senthang Chin",
-                "Sentinel",
-                "Sepa (Indonesia)",
-                "Sepa (Papua New Guinea)",
-                "Sepik Iwam",
-                "Sera",
-                "Serbian",
-                "Serbo-Croatian",
-                "Sere",
-                "Serer",
-                "Seri",
-                "Serili",
-                "Seroa",
-                "Serrano",
-                "Seru",
-                "Serua",
-                "Serudung Murut",
-                "Serui-Laut",
-                "Seselwa Creole French",
-                "Seta",
-                "Setaman",
-                "Seti",
-                "Settla",
-                "Severn Ojibwa",
-                "Sewa Bay",
-                "Seze",
-                "Sha",
-                "Shabak",
-                "Shahmirzadi",
-                "Shahrudi",
-                "Shall-Zwall",
-                "Shama-Sambuga",
-                "Shamang",
-                "Shambala",
-                "Shan",
-                "Shanenawa",
-                "Shanga",
-                "Sharanahua",
-                "Shark Bay",
-                "Sharwa",
-                "Shasta",
-                "Shatt",
-                "Shau",
-                "Shawnee",
-                "She",
-                "Shehri",
-                "Shekhawati",
-                "Shekkacho",
-                "Sheko",
-                "Shelta",
-                "Shempire Senoufo",
-                "Shendu",
-                "Sheni",
-                "Sherbro",
-                "Sherdukpen",
-                "Sherpa",
-                "Sheshi Kham",
-                "Shi",
-                "Shihhi Arabic",
-                "Shiki",
-                "Shilluk",
-                "Shina",
-                "Shipibo-Conibo",
-                "Sholaga",
-                "Shom Peng",
-                "Shona",
-                "Shoo-Minda-Nye",
-                "Shor",
-                "Shoshoni",
-                "Shua",
-                "Shuadit",
-                "Shuar",
-                "Shubi",
-                "Shughni",
-                "Shuhi",
-                "Shumashti",
-                "Shumcho",
-                "Shuswap",
-                "Shuwa-Zamani",
-                "Shwai",
-                "Shwe Palaung",
-                "Sialum",
-                "Siamou",
-                "Sian",
-                "Siane",
-                "Siang",
-                "Siar-Lak",
-                "Siawi",
-                "Sibe",
-                "Siberian Tatar",
-                "Sibu Melanau",
-                "Sicanian",
-                "Sicel",
-                "Sichuan Yi",
-                "Sicilian",
-                "Siculo Arabic",
-                "Sidamo",
-                "Sidetic",
-                "Sie",
-                "Sierra Leone Sign Language",
-                "Sierra Negra Nahuatl",
-                "Sierra de Juárez Zapotec",
-                "Sighu",
-                "Sign Languages",
-                "Sihan",
-                "Sihuas Ancash Quechua",
-                "Sika",
-                "Sikaiana",
-                "Sikaritai",
-                "Sikiana",
-                "Sikkimese",
-                "Siksika",
-                "Sikule",
-                "Sila",
-                "Silacayoapan Mixtec",
-                "Sileibi",
-                "Silesian",
-                "Silimo",
-                "Siliput",
-                "Silopi",
-                "Silt'e",
-                "Simaa",
-                "Simba",
-                "Simbali",
-                "Simbari",
-                "Simbo",
-                "Simeku",
-                "Simeulue",
-                "Simte",
-                "Sinagen",
-                "Sinasina",
-                "Sinaugoro",
-                "Sindarin",
-                "Sindhi Bhil",
-                "Sindhi",
-                "Sindihui Mixtec",
-                "Singa",
-                "Singapore Sign Language",
-                "Singpho",
-                "Sinhala",
-                "Sinicahua Mixtec",
-                "Sininkere",
-                "Sino-Tibetan languages",
-                "Sinte Romani",
-                "Sinyar",
-                "Sio",
-                "Siona",
-                "Siouan languages",
-                "Sipacapense",
-                "Sira",
-                "Siraya",
-                "Sirenik Yupik",
-                "Siri",
-                "Siriano",
-                "Sirionó",
-                "Sirmauri",
-                "Siroi",
-                "Sissala",
-                "Sissano",
-                "Siuslaw",
-                "Sivandi",
-                "Sivia Sign Language",
-                "Siwai",
-                "Siwi",
-                "Siwu",
-                "Siyin Chin",
-                "Skagit",
-                "Skalvian",
-                "Skepi Creole Dutch",
-                "Skolt Sami",
-                "Skou",
-                "Slave (Athapascan)",
-                "Slavic languages",
-                "Slavomolisano",
-                "Slovak",
-                "Slovakian Sign Language",
-                "Slovenian",
-                "Small Flowery Miao",
-                "Smärky Kanum",
-                "Snohomish",
-                "So (Democratic Republic of Congo)",
-                "So'a",
-                "Sobei",
-                "Sochiapam Chinantec",
-                "Soga",
-                "Sogdian",
-                "Soi",
-                "Sokoro",
-                "Solano",
-                "Soli",
-                "Solomon Islands Sign Language",
-                "Solong",
-                "Solos",
-                "Som",
-                "Somali",
-                "Somba-Siawari",
-                "Somrai",
-                "Somray",
-                "Somyev",
-                "Sonaga",
-                "Sonde",
-                "Songe",
-                "Songhai languages",
-                "Songlai Chin",
-                "Songo",
-                "Songomeno",
-                "Songoora",
-                "Sonha",
-                "Sonia",
-                "Soninke",
-                "Sonsorol",
-                "Soo",
-                "Sop",
-                "Soqotri",
-                "Sora",
-                "Sorbian languages",
-                "Sori-Harengan",
-                "Sorkhei",
-                "Sorothaptic",
-                "Sorsogon Ayta",
-                "Sos Kundi",
-                "Sota Kanum",
-                "Sou Nama",
-                "Sou Upaa",
-                "Sou",
-                "South African Sign Language",
-                "South American Indian languages",
-                "South Awyu",
-                "South Azerbaijani",
-                "South Bolivian Quechua",
-                "South Caucasian languages",
-                "South Central Banda",
-                "South Central Dinka",
-                "South Efate",
-                "South Fali",
-                "South Giziga",
-                "South Lembata",
-                "South Levantine Arabic",
-                "South Marquesan",
-                "South Muyu",
-                "South Ndebele",
-                "South Nuaulu",
-                "South Picene",
-                "South Slavey",
-                "South Slavic languages",
-                "South Tairora",
-                "South Ucayali Ashéninka",
-                "South Watut",
-                "South West Bay",
-                "Southeast Ambrym",
-                "Southeast Babar",
-                "Southeast Ijo",
-                "Southeast Pashai",
-                "Southeast Tasmanian",
-                "Southeastern Dinka",
-                "Southeastern Ixtlán Zapotec",
-                "Southeastern Kolami",
-                "Southeastern Nochixtlán Mixtec",
-                "Southeastern Pomo",
-                "Southeastern Puebla Nahuatl",
-                "Southeastern Tarahumara",
-                "Southeastern Tepehuan",
-                "Southern Alta",
-                "Southern Altai",
-                "Southern Amami-Oshima",
-                "Southern Aymara",
-                "Southern Bai",
-                "Southern Balochi",
-                "Southern Betsimisaraka Malagasy",
-                "Southern Binukidnon",
-                "Southern Birifor",
-                "Southern Bobo Madaré",
-                "Southern Bontok",
-                "Southern Carrier",
-                "Southern Catanduanes Bikol",
-                "Southern Conchucos Ancash Quechua",
-                "Southern Dagaare",
-                "Southern Dong",
-                "Southern East Cree",
-                "Southern Ghale",
-                "Southern Grebo",
-                "Southern Guiyang Hmong",
-                "Southern Haida",
-                "Southern Hindko",
-                "Southern Kalapuya",
-                "Southern Kalinga",
-                "Southern Katang",
-                "Southern Kisi",
-                "Southern Kiwai",
-                "Southern Kurdish",
-                "Southern Lolopo",
-                "Southern Luri",
-                "Southern Ma'di",
-                "Southern Mashan Hmong",
-                "Southern Mnong",
-                "Southern Muji",
-                "Southern Nago",
-                "Southern Nambikuára",
-                "Southern Ngbandi",
-                "Southern Nicobarese",
-                "Southern Nisu",
-                "Southern Nuni",
-                "Southern Ohlone",
-                "Southern One",
-                "Southern Pame",
-                "Southern Pashto",
-                "Southern Pastaza Quechua",
-                "Southern Ping Chinese",
-                "Southern Pomo",
-                "Southern Puebla Mixtec",
-                "Southern Puget Sound Salish",
-                "Southern Pumi",
-                "Southern Qiandong Miao",
-                "Southern Qiang",
-                "Southern Rengma Naga",
-                "Southern Rincon Zapotec",
-                "Southern Roglai",
-                "Southern Sama",
-                "Southern Sami",
-                "Southern Samo",
-                "Southern Sierra Miwok",
-                "Southern Sorsoganon",
-                "Southern Sotho",
-                "Southern Subanen",
-                "Southern Thai",
-                "Southern Tidung",
-                "Southern Tiwa",
-                "Southern Toussian",
-                "Southern Tujia",
-                "Southern Tutchone",
-                "Southern Uzbek",
-                "Southern Yamphu",
-                "Southern Yukaghir",
-                "Southwest Gbaya",
-                "Southwest Palawano",
-                "Southwest Pashai",
-                "Southwest Tanna",
-                "Southwestern Bontok",
-                "Southwestern Dinka",
-                "Southwestern Fars",
-                "Southwestern Guiyang Hmong",
-                "Southwestern Huishui Hmong",
-                "Southwestern Nisu",
-                "Southwestern Tarahumara",
-                "Southwestern Tasmanian",
-                "Southwestern Tepehuan",
-                "Southwestern Tlaxiaco Mixtec",
-                "Sowa",
-                "Sowanda",
-                "Soyaltepec Mazatec",
-                "Soyaltepec Mixtec",
-                "Spanish Sign Language",
-                "Spanish",
-                "Spiti Bhoti",
-                "Spokane",
-                "Squamish",
-                "Sranan Tongo",
-                "Sri Lankan Creole Malay",
-                "Sri Lankan Sign Language",
-                "Standard Arabic",
-                "Standard Estonian",
-                "Standard Latvian",
-                "Standard Malay",
-                "Standard Moroccan Tamazight",
-                "Stellingwerfs",
-                "Stod Bhoti",
-                "Stoney",
-                "Straits Salish",
-                "Suabo",
-                "Suarmin",
-                "Suau",
-                "Suba",
-                "Suba-Simbiti",
-                "Subi",
-                "Subiya",
-                "Subtiaba",
-                "Sudanese Arabic",
-                "Sudanese Creole Arabic",
-                "Sudest",
-                "Sudovian",
-                "Suena",
-                "Suga",
-                "Suganga",
-                "Sugut Dusun",
-                "Sui",
-                "Suki",
-                "Suku",
-                "Sukuma",
-                "Sukur",
-                "Sukurum",
-                "Sula",
-                "Sulka",
-                "Sulod",
-                "Suma",
-                "Sumariup",
-                "Sumau",
-                "Sumbawa",
-                "Sumbwa",
-                "Sumerian",
-                "Sumi Naga",
-                "Sumtu Chin",
-                "Sunam",
-                "Sundanese",
-                "Sunwar",
-                "Suoy",
-                "Supyire Senoufo",
-                "Sur",
-                "Surbakhal",
-                "Surgujia",
-                "Surigaonon",
-                "Surjapuri",
-                "Sursurunga",
-                "Suruahá",
-                "Surubu",
-                "Suruí Do Pará",
-                "Suruí",
-                "Susquehannock",
-                "Susu",
-                "Susuami",
-                "Suundi",
-                "Suwawa",
-                "Suyá",
-                "Svan",
-                "Swabian",
-                "Swahili (individual language)",
-                "Swahili (macrolanguage)",
-                "Swampy Cree",
-                "Swati",
-                "Swedish Sign Language",
-                "Swedish",
-                "Swiss German",
-                "Swiss-French Sign Language",
-                "Swiss-German Sign Language",
-                "Swiss-Italian Sign Language",
-                "Swo",
-                "Syenara Senoufo",
-                "Sylheti",
-                "Syriac",
-                "Sáliba",
-                "São Paulo Kaingáng",
-                "Sãotomense",
-                "Sìcìté Sénoufo",
-                "Sô",
-                "T'apo",
-                "T'en",
-                "Ta'izzi-Adeni Arabic",
-                "Taabwa",
-                "Tabaa Zapotec",
-                "Tabaru",
-                "Tabasco Chontal",
-                "Tabasco Nahuatl",
-                "Tabasco Zoque",
-                "Tabassaran",
-                "Tabla",
-                "Tabo",
-                "Tabriak",
-                "Tacahua Mixtec",
-                "Tacana",
-                "Tachawit",
-                "Tachelhit",
-                "Tachoni",
-                "Tadaksahak",
-                "Tado",
-                "Tadyawan",
-                "Tae'",
-                "Tafi",
-                "Tagabawa",
-                "Tagakaulo",
-                "Tagal Murut",
-                "Tagalaka",
-                "Tagalog",
-                "Tagargrent",
-                "Tagbanwa",
-                "Tagbu",
-                "Tagdal",
-                "Tagin",
-                "Tagish",
-                "Tagoi",
-                "Tagwana Senoufo",
-                "Tahaggart Tamahaq",
-                "Tahitian",
-                "Tahltan",
-                "Tai Daeng",
-                "Tai Dam",
-                "Tai Do",
-                "Tai Dón",
-                "Tai Hongjin",
-                "Tai Laing",
-                "Tai Loi",
-                "Tai Long",
-                "Tai Nüa",
-                "Tai Pao",
-                "Tai Thanh",
-                "Tai Ya",
-                "Tai languages",
-                "Tai",
-                "Taiap",
-                "Taikat",
-                "Tainae",
-                "Taino",
-                "Tairaha",
-                "Tairuma",
-                "Taita",
-                "Taivoan",
-                "Taiwan Sign Language",
-                "Taje",
-                "Tajik",
-                "Tajiki Arabic",
-                "Tajio",
-                "Tajuasohn",
-                "Takelma",
-                "Takestani",
-                "Takia",
-                "Takua",
-                "Takuu",
-                "Takwane",
-                "Tal",
-                "Tala",
-                "Talaud",
-                "Taliabu",
-                "Talieng",
-                "Talinga-Bwisi",
-                "Talise",
-                "Talodi",
-                "Taloki",
-                "Talondo'",
-                "Talossan",
-                "Talu",
-                "Talysh",
-                "Tama (Chad)",
-                "Tama (Colombia)",
-                "Tamagario",
-                "Taman (Indonesia)",
-                "Taman (Myanmar)",
-                "Tamanaku",
-                "Tamashek",
-                "Tamasheq",
-                "Tamazola Mixtec",
-                "Tambas",
-                "Tambora",
-                "Tambotalo",
-                "Tami",
-                "Tamil",
-                "Tamki",
-                "Tamnim Citak",
-                "Tampias Lobu",
-                "Tampuan",
-                "Tampulma",
-                "Tanacross",
-                "Tanahmerah",
-                "Tanaina",
-                "Tanapag",
-                "Tandaganon",
-                "Tandia",
-                "Tandroy-Mahafaly Malagasy",
-                "Tanema",
-                "Tangale",
-                "Tangchangya",
-                "Tanggu",
-                "Tangkhul Naga (India)",
-                "Tangkhul Naga (Myanmar)",
-                "Tangko",
-                "Tanglang",
-                "Tangoa",
-                "Tanguat",
-                "Tangut",
-                "Tanimbili",
-                "Tanimuca-Retuarã",
-                "Tanjijili",
-                "Tanosy Malagasy",
-                "Tanudan Kalinga",
-                "Tanzanian Sign Language",
-                "Tapei",
-                "Tapieté",
-                "Tapirapé",
-                "Tarao Naga",
-                "Tareng",
-                "Tariana",
-                "Tarifit",
-                "Tarjumo",
-                "Tarok",
-                "Taroko",
-                "Tarpia",
-                "Tartessian",
-                "Taruma",
-                "Tasawaq",
-                "Tase Naga",
-                "Tasmate",
-                "Tataltepec Chatino",
-                "Tatana",
-                "Tatar",
-                "Tatuyo",
-                "Tauade",
-                "Taulil",
-                "Taungyo",
-                "Taupota",
-                "Tause",
-                "Taushiro",
-                "Tausug",
-                "Tauya",
-                "Taveta",
-                "Tavoyan",
-                "Tavringer Romani",
-                "Tawala",
-                "Tawallammat Tamajaq",
-                "Tawandê",
-                "Tawang Monpa",
-                "Tawara",
-                "Taworta",
-                "Tawoyan",
-                "Tawr Chin",
-                "Tay Boi",
-                "Tay Khang",
-                "Tayart Tamajeq",
-                "Tayo",
-                "Taznatit",
-                "Tboli",
-                "Tchitchege",
-                "Tchumbuli",
-                "Te'un",
-                "Teanu",
-                "Tebul Sign Language",
-                "Tebul Ure Dogon",
-                "Tecpatlán Totonac",
-                "Tedaga",
-                "Tedim Chin",
-                "Tee",
-                "Tefaro",
-                "Tegali",
-                "Tehit",
-                "Tehuelche",
-                "Tejalapan Zapotec",
-                "Teke-Ebo",
-                "Teke-Fuumu",
-                "Teke-Kukuya",
-                "Teke-Laali",
-                "Teke-Nzikou",
-                "Teke-Tege",
-                "Teke-Tsaayi",
-                "Teke-Tyee",
-                "Tektiteko",
-                "Tela-Masbuar",
-                "Telefol",
-                "Telugu",
-                "Tem",
-                "Temacine Tamazight",
-                "Temascaltepec Nahuatl",
-                "Tembo (Kitembo)",
-                "Tembo (Motembo)",
-                "Tembé",
-                "Teme",
-                "Temein",
-                "Temi",
-                "Temiar",
-                "Temoaya Otomi",
-                "Temoq",
-                "Temuan",
-                "Ten'edn",
-                "Tena Lowland Quichua",
-                "Tenango Otomi",
-                "Tene Kan Dogon",
-                "Tenggarong Kutai Malay",
-                "Tengger",
-                "Tenharim",
-                "Tenino",
-                "Tenis",
-                "Tennet",
-                "Teop",
-                "Teor",
-                "Tepecano",
-                "Tepetotutla Chinantec",
-                "Tepeuxila Cuicatec",
-                "Tepinapa Chinantec",
-                "Tepo Krumen",
-                "Ter Sami",
-                "Tera",
-                "Terebu",
-                "Terei",
-                "Tereno",
-                "Teressa",
-                "Tereweng",
-                "Teribe",
-                "Terik",
-                "Termanu",
-                "Ternate",
-                "Ternateño",
-                "Tesaka Malagasy",
-                "Tese",
-                "Teshenawa",
-                "Teso",
-                "Tetela",
-                "Tetelcingo Nahuatl",
-                "Tetete",
-                "Tetserret",
-                "Tetum",
-                "Tetun Dili",
-                "Teutila Cuicatec",
-                "Tewa (Indonesia)",
-                "Tewa (USA)",
-                "Tewe",
-                "Texcatepec Otomi",
-                "Texistepec Popoluca",
-                "Texmelucan Zapotec",
-                "Tezoatlán Mixtec",
-                "Tha",
-                "Thachanadan",
-                "Thado Chin",
-                "Thai Sign Language",
-                "Thai Song",
-                "Thai",
-                "Thaiphum Chin",
-                "Thakali",
-                "Thangal Naga",
-                "Thangmi",
-                "Thao",
-                "Tharaka",
-                "Thawa",
-                "Thaypan",
-                "Thiin",
-                "Tho",
-                "Thompson",
-                "Thopho",
-                "Thracian",
-                "Thu Lao",
-                "Thulung",
-                "Thur",
-                "Thuri",
-                "Tiagbamrin Aizi",
-                "Tiale",
-                "Tiang",
-                "Tibea",
-                "Tibetan Sign Language",
-                "Tibetan",
-                "Tibeto-Burman languages",
-                "Tichurong",
-                "Ticuna",
-                "Tidaá Mixtec",
-                "Tidikelt Tamazight",
-                "Tidore",
-                "Tiemacèwè Bozo",
-                "Tiene",
-                "Tifal",
-                "Tigak",
-                "Tigon Mbembe",
-                "Tigre",
-                "Tigrinya",
-                "Tii",
-                "Tijaltepec Mixtec",
-                "Tikar",
-                "Tikopia",
-                "Tilapa Otomi",
-                "Tillamook",
-                "Tilquiapan Zapotec",
-                "Tilung",
-                "Tima",
-                "Timbe",
-                "Timne",
-                "Timor Pidgin",
-                "Timucua",
-                "Timugon Murut",
-                "Tinani",
-                "Tindi",
-                "Tingui-Boto",
-                "Tinigua",
-                "Tinputz",
-                "Tippera",
-                "Tira",
-                "Tirahi",
-                "Tiranige Diga Dogon",
-                "Tiri",
-                "Tirmaga-Chai Suri",
-                "Tiruray",
-                "Tita",
-                "Titan",
-                "Tiv",
-                "Tiwa",
-                "Tiwi",
-                "Tiyaa",
-                "Tiéfo",
-                "Tiéyaxo Bozo",
-                "Tjungundji",
-                "Tjupany",
-                "Tjurruru",
-                "Tlachichilco Tepehua",
-                "Tlacoapa Me'phaa",
-                "Tlacoatzintepec Chinantec",
-                "Tlacolulita Zapotec",
-                "Tlahuitoltepec Mixe",
-                "Tlamacazapa Nahuatl",
-                "Tlazoyaltepec Mixtec",
-                "Tlingit",
-                "To",
-                "To'abaita",
-                "Toaripi",
-                "Toba",
-                "Toba-Maskoy",
-                "Tobagonian Creole English",
-                "Tobanga",
-                "Tobati",
-                "Tobelo",
-                "Tobian",
-                "Tobilung",
-                "Tobo",
-                "Tocantins Asurini",
-                "Tocho",
-                "Toda",
-                "Todrah",
-                "Tofanma",
-                "Tofin Gbe",
-                "Togbo-Vara Banda",
-                "Togoyo",
-                "Tohono O'odham",
-                "Tojolabal",
-                "Tok Pisin",
-                "Tokano",
-                "Tokelau",
-                "Tokharian A",
-                "Tokharian B",
-                "Toku-No-Shima",
-                "Tol",
-                "Tolaki",
-                "Tolomako",
-                "Tolowa",
-                "Toma",
-                "Tomadino",
-                "Tombelala",
-                "Tombonuo",
-                "Tombulu",
-                "Tomini",
-                "Tommo So Dogon",
-                "Tomo Kan Dogon",
-                "Tomoip",
-                "Tondano",
-                "Tondi Songway Kiini",
-                "Tonga (Nyasa)",
-                "Tonga (Tonga Islands)",
-                "Tonga (Zambia)",
-                "Tongwe",
-                "Tonjon",
-                "Tonkawa",
-                "Tonsawang",
-                "Tonsea",
-                "Tontemboan",
-                "Tooro",
-                "Topoiyo",
-                "Toposa",
-                "Toraja-Sa'dan",
-                "Toram",
-                "Torau",
-                "Tornedalen Finnish",
-                "Toro So Dogon",
-                "Toro Tegu Dogon",
-                "Toro",
-                "Toromono",
-                "Torona",
-                "Torres Strait Creole",
-                "Torricelli",
-                "Torwali",
-                "Torá",
-                "Tosk Albanian",
-                "Totela",
-                "Toto",
-                "Totoli",
-                "Totomachapan Zapotec",
-                "Totontepec Mixe",
-                "Totoro",
-                "Touo",
-                "Toura (Côte d'Ivoire)",
-                "Toura (Papua New Guinea)",
-                "Towei",
-                "Trans-New Guinea languages",
-                "Transalpine Gaulish",
-                "Traveller Danish",
-                "Traveller Norwegian",
-                "Traveller Scottish",
-                "Tregami",
-                "Tremembé",
-                "Trieng",
-                "Trimuris",
-                "Tring",
-                "Tringgus-Sembaan Bidayuh",
-                "Trinidad and Tobago Sign Language",
-                "Trinidadian Creole English",
-                "Trinitario",
-                "Trió",
-                "Truká",
-                "Trumai",
-                "Ts'ün-Lao",
-                "Tsaangi",
-                "Tsakhur",
-                "Tsakonian",
-                "Tsakwambo",
-                "Tsamai",
-                "Tsat",
-                "Tseku",
-                "Tsetsaut",
-                "Tshangla",
-                "Tsikimba",
-                "Tsimané",
-                "Tsimihety Malagasy",
-                "Tsimshian",
-                "Tsishingini",
-                "Tso",
-                "Tsoa",
-                "Tsogo",
-                "Tsonga",
-                "Tsotso",
-                "Tsou",
-                "Tsucuba",
-                "Tsum",
-                "Tsuvadi",
-                "Tsuvan",
-                "Tswa",
-                "Tswana",
-                "Tswapong",
-                "Tu",
-                "Tuamotuan",
-                "Tubar",
-                "Tucano",
-                "Tugen",
-                "Tugun",
-                "Tugutil",
-                "Tukang Besi North",
-                "Tukang Besi South",
-                "Tuki",
-                "Tukpa",
-                "Tukudede",
-                "Tukumanféd",
-                "Tula",
-                "Tulehu",
-                "Tulishi",
-                "Tulu",
-                "Tulu-Bohuai",
-                "Tuma-Irumu",
-                "Tumak",
-                "Tumari Kanuri",
-                "Tumbuka",
-                "Tumi",
-                "Tumleo",
-                "Tumshuqese",
-                "Tumtum",
-                "Tumulung Sisaala",
-                "Tumzabt",
-                "Tundra Enets",
-                "Tunen",
-                "Tungag",
-                "Tunggare",
-                "Tungus languages",
-                "Tunia",
-                "Tunica",
-                "Tunisian Arabic",
-                "Tunisian Sign Language",
-                "Tunjung",
-                "Tunni",
-                "Tunzu",
-                "Tuotomb",
-                "Tuparí",
-                "Tupi languages",
-                "Tupinambá",
-                "Tupinikin",
-                "Tupuri",
-                "Tupí",
-                "Turaka",
-                "Turi",
-                "Turiwára",
-                "Turka",
-                "Turkana",
-                "Turkic languages",
-                "Turkish Sign Language",
-                "Turkish",
-                "Turkmen",
-                "Turks And Caicos Creole English",
-                "Turoyo",
-                "Turumsa",
-                "Turung",
-                "Tuscarora",
-                "Tutelo",
-                "Tutong",
-                "Tutsa Naga",
-                "Tutuba",
-                "Tututepec Mixtec",
-                "Tututni",
-                "Tuvalu",
-                "Tuvinian",
-                "Tuwali Ifugao",
-                "Tuwari",
-                "Tuwuli",
-                "Tuxináwa",
-                "Tuxá",
-                "Tuyuca",
-                "Twana",
-                "Twendi",
-                "Twents",
-                "Twi",
-                "Tyap",
-                "Tz'utujil",
-                "Tzeltal",
-                "Tzotzil",
-                "Tày Sa Pa",
-                "Tày Tac",
-                "Tày",
-                "Téén",
-                "Tübatulabal",
-                "U",
-                "Uab Meto",
-                "Uamué",
-                "Uare",
-                "Ubaghara",
-                "Ubang",
-                "Ubi",
-                "Ubir",
-                "Ubykh",
-                "Ucayali-Yurúa Ashéninka",
-                "Uda",
-                "Udi",
-                "Udihe",
-                "Udmurt",
-                "Uduk",
-                "Ufim",
-                "Ugandan Sign Language",
-                "Ugaritic",
-                "Ughele",
-                "Ugong",
-                "Uhami",
-                "Uighur",
-                "Uisai",
-                "Ujir",
-                "Ukaan",
-                "Ukhwejo",
-                "Ukit",
-                "Ukpe-Bayobiri",
-                "Ukpet-Ehom",
-                "Ukrainian Sign Language",
-                "Ukrainian",
-                "Ukue",
-                "Ukuriguma",
-                "Ukwa",
-                "Ukwuani-Aboh-Ndoni",
-                "Ulau-Suain",
-                "Ulch",
-                "Ulithian",
-                "Ullatan",
-                "Ulukwumi",
-                "Ulumanda'",
-                "Ulwa",
-                "Uma",
-                "Uma' Lasan",
-                "Uma' Lung",
-                "Umanakaina",
-                "Umatilla",
-                "Umbindhamu",
-                "Umbrian",
-                "Umbu-Ungu",
-                "Umbugarla",
-                "Umbundu",
-                "Ume Sami",
-                "Umeda",
-                "Umiida",
-                "Umiray Dumaget Agta",
-                "Umon",
-                "Umotína",
-                "Umpila",
-                "Una",
-                "Unami",
-                "Uncoded languages",
-                "Unde Kaili",
-                "Undetermined",
-                "Uneapa",
-                "Uneme",
-                "Unggaranggu",
-                "Unggumi",
-                "Uni",
-                "Unserdeutsch",
-                "Unua",
-                "Unubahe",
-                "Upper Chehalis",
-                "Upper Grand Valley Dani",
-                "Upper Guinea Crioulo",
-                "Upper Kinabatangan",
-                "Upper Kuskokwim",
-                "Upper Necaxa Totonac",
-                "Upper Saxon",
-                "Upper Sorbian",
-                "Upper Ta'oih",
-                "Upper Tanana",
-                "Upper Taromi",
-                "Upper Umpqua",
-                "Ura (Papua New Guinea)",
-                "Ura (Vanuatu)",
-                "Uradhi",
-                "Urak Lawoi'",
-                "Urali",
-                "Uralic languages",
-                "Urapmin",
-                "Urarina",
-                "Urartian",
-                "Urat",
-                "Urdu",
-                "Urhobo",
-                "Uri",
-                "Urigina",
-                "Urim",
-                "Urimo",
-                "Uripiv-Wala-Rano-Atchin",
-                "Urningangg",
-                "Uru",
-                "Uru-Eu-Wau-Wau",
-                "Uru-Pa-In",
-                "Uruangnirin",
-                "Uruava",
-                "Urubú-Kaapor Sign Language",
-                "Urubú-Kaapor",
-                "Uruguayan Sign Language",
-                "Urum",
-                "Urumi",
-                "Usaghade",
-                "Usan",
-                "Usarufa",
-                "Ushojo",
-                "Usila Chinantec",
-                "Usku",
-                "Uspanteco",
-                "Usui",
-                "Utarmbung",
-                "Ute-Southern Paiute",
-                "Uto-Aztecan languages",
-                "Utu",
-                "Uvbie",
-                "Uya",
-                "Uyajitaya",
-                "Uzbek",
-                "Uzbeki Arabic",
-                "Uzekwe",
-                "Vaagri Booli",
-                "Vafsi",
-                "Vaghri",
-                "Vaghua",
-                "Vagla",
-                "Vai",
-                "Vaiphei",
-                "Vale",
-                "Valencian Sign Language",
-                "Valle Nacional Chinantec",
-                "Valley Maidu",
-                "Valman",
-                "Valpei",
-                "Vamale",
-                "Vame",
-                "Vandalic",
-                "Vangunu",
-                "Vanimo",
-                "Vano",
-                "Vanuma",
-                "Vao",
-                "Varhadi-Nagpuri",
-                "Varisi",
-                "Varli",
-                "Vasavi",
-                "Veddah",
-                "Vehes",
-                "Veluws",
-                "Vemgo-Mabas",
-                "Venda",
-                "Venetian",
-                "Venetic",
-                "Venezuelan Sign Language",
-                "Vengo",
-                "Ventureño",
-                "Veps",
-                "Vera'a",
-                "Vestinian",
-                "Vidunda",
-                "Viemo",
-                "Vietnamese",
-                "Vilela",
-                "Vili",
-                "Villa Viciosa Agta",
-                "Vincentian Creole English",
-                "Vinmavis",
-                "Vinza",
-                "Virgin Islands Creole English",
-                "Vishavan",
-                "Viti",
-                "Vitou",
-                "Vitu",
-                "Vlaams",
-                "Vlaamse Gebarentaal",
-                "Vlax Romani",
-                "Volapük",
-                "Volscian",
-                "Vono",
-                "Voro",
-                "Votic",
-                "Vumbu",
-                "Vunapu",
-                "Vunjo",
-                "Vurës",
-                "Vute",
-                "Vwanji",
-                "Võro",
-                "Wa",
-                "Wa'ema",
-                "Waama",
-                "Waamwang",
-                "Waata",
-                "Wab",
-                "Wabo",
-                "Waboda",
-                "Waci Gbe",
-                "Wadaginam",
-                "Waddar",
-                "Wadi Wadi",
-                "Wadikali",
-                "Wadiyara Koli",
-                "Wadjabangayi",
-                "Wadjiginy",
-                "Wadjigu",
-                "Wae Rana",
-                "Waffa",
-                "Wagawaga",
-                "Wagaya",
-                "Wagdi",
-                "Wagi",
-                "Wagiman",
-                "Wahau Kayan",
-                "Wahau Kenyah",
-                "Wahgi",
-                "Waigali",
-                "Waigeo",
-                "Wailaki",
-                "Wailapa",
-                "Waima",
-                "Waima'a",
-                "Waimaha",
-                "Waimiri-Atroari",
-                "Waioli",
-                "Waiwai",
-                "Waja",
-                "Wajarri",
-                "Wajuk",
-                "Waka",
-                "Wakabunga",
-                "Wakashan languages",
-                "Wakawaka",
-                "Wakde",
-                "Wakhi",
-                "Wakoná",
-                "Wala",
-                "Walak",
-                "Walangama",
-                "Wali (Ghana)",
-                "Wali (Sudan)",
-                "Waling",
-                "Walio",
-                "Walla Walla",
-                "Wallisian",
-                "Walloon",
-                "Walmajarri",
-                "Walser",
-                "Walungge",
-                "Waluwarra",
-                "Wamas",
-                "Wambaya",
-                "Wambon",
-                "Wambule",
-                "Wamesa",
-                "Wamey",
-                "Wamin",
-                "Wampanoag",
-                "Wampar",
-                "Wampur",
-                "Wan",
-                "Wanambre",
-                "Wanap",
-                "Wancho Naga",
-                "Wanda",
-                "Wandala",
-                "Wandarang",
-                "Wandji",
-                "Waneci",
-                "Wanga",
-                "Wangaaybuwan-Ngiyambaa",
-                "Wanggamala",
-                "Wanggom",
-                "Wangkangurru",
-                "Wangkayutyuru",
-                "Wangkumara",
-                "Wannu",
-                "Wano",
-                "Wantoat",
-                "Wanukaka",
-                "Wanyi",
-                "Wané",
-                "Waorani",
-                "Wapan",
-                "Wapishana",
-                "Wappo",
-                "War-Jaintia",
-                "Wara",
-                "Warao",
-                "Waray (Australia)",
-                "Waray (Philippines)",
-                "Wardaman",
-                "Wardandi",
-                "Warduji",
-                "Warembori",
-                "Wares",
-                "Waris",
-                "Waritai",
-                "Wariyangga",
-                "Warji",
-                "Warkay-Bipim",
-                "Warlmanpa",
-                "Warlpiri",
-                "Warnang",
-                "Warnman",
-                "Waropen",
-                "Warrgamay",
-                "Warrwa",
-                "Waru",
-                "Warumungu",
-                "Waruna",
-                "Warungu",
-                "Warwar Feni",
-                "Wasa",
-                "Wasco-Wishram",
-                "Wasembo",
-                "Washo",
-                "Waskia",
-                "Wasu",
-                "Watakataui",
-                "Watam",
-                "Wathawurrung",
-                "Watiwa",
-                "Watubela",
-                "Waube",
-                "Waurá",
-                "Wauyai",
-                "Wawa",
-                "Wawonii",
-                "Waxianghua",
-                "Wayampi",
-                "Wayana",
-                "Wayanad Chetti",
-                "Wayoró",
-                "Wayu",
-                "Wayuu",
-                "Wedau",
-                "Weh",
-                "Wejewa",
-                "Welaun",
-                "Weliki",
-                "Welsh Romani",
-                "Welsh",
-                "Wemale",
-                "Wemba Wemba",
-                "Weme Gbe",
-                "Wergaia",
-                "Weri",
-                "Wersing",
-                "West Albay Bikol",
-                "West Ambae",
-                "West Bengal Sign Language",
-                "West Berawan",
-                "West Central Banda",
-                "West Central Oromo",
-                "West Coast Bajau",
-                "West Damar",
-                "West Germanic languages",
-                "West Goodenough",
-                "West Kewa",
-                "West Lembata",
-                "West Makian",
-                "West Masela",
-                "West Slavic languages",
-                "West Tarangan",
-                "West Uvean",
-                "West Yugur",
-                "West-Central Limba",
-                "Western Abnaki",
-                "Western Apache",
-                "Western Armenian",
-                "Western Arrarnta",
-                "Western Balochi",
-                "Western Bolivian Guaraní",
-                "Western Bru",
-                "Western Bukidnon Manobo",
-                "Western Cham",
-                "Western Dani",
-                "Western Durango Nahuatl",
-                "Western Fijian",
-                "Western Frisian",
-                "Western Highland Chatino",
-                "Western Highland Purepecha",
-                "Western Huasteca Nahuatl",
-                "Western Juxtlahuaca Mixtec",
-                "Western Kanjobal",
-                "Western Karaboro",
-                "Western Katu",
-                "Western Kayah",
-                "Western Keres",
-                "Western Krahn",
-                "Western Lalu",
-                "Western Lawa",
-                "Western Magar",
-                "Western Malayo-Polynesian languages",
-                "Western Maninkakan",
-                "Western Mari",
-                "Western Mashan Hmong",
-                "Western Meohang",
-                "Western Minyag",
-                "Western Muria",
-                "Western Neo-Aramaic",
-                "Western Niger Fulfulde",
-                "Western Ojibwa",
-                "Western Panjabi",
-                "Western Parbate Kham",
-                "Western Penan",
-                "Western Sisaala",
-                "Western Subanon",
-                "Western Tamang",
-                "Western Tawbuid",
-                "Western Tlacolula Valley Zapotec",
-                "Western Totonac",
-                "Western Tunebo",
-                "Western Xiangxi Miao",
-                "Western Xwla Gbe",
-                "Western Yiddish",
-                "Westphalien",
-                "Wetamut",
-                "Wewaw",
-                "Weyto",
-                "White Gelao",
-                "White Lachi",
-                "Whitesands",
-                "Wiarumus",
-                "Wichita",
-                "Wichí Lhamtés Güisnay",
-                "Wichí Lhamtés Nocten",
-                "Wichí Lhamtés Vejoz",
-                "Wik Ngathan",
-                "Wik-Epa",
-                "Wik-Iiyanh",
-                "Wik-Keyangan",
-                "Wik-Me'anha",
-                "Wik-Mungkan",
-                "Wikalkan",
-                "Wikngenchera",
-                "Wilawila",
-                "Wintu",
-                "Winyé",
-                "Wipi",
-                "Wiradjuri",
-                "Wiraféd",
-                "Wirangu",
-                "Wiru",
-                "Wiyot",
-                "Woccon",
-                "Wogamusin",
-                "Wogeo",
-                "Woi",
-                "Woiwurrung",
-                "Wojenaka",
-                "Wolane",
-                "Wolani",
-                "Wolaytta",
-                "Woleaian",
-                "Wolio",
-                "Wolof",
-                "Wom (Nigeria)",
-                "Wom (Papua New Guinea)",
-                "Womo",
-                "Wongo",
-                "Woods Cree",
-                "Woria",
-                "Worimi",
-                "Worodougou",
-                "Worrorra",
-                "Wotapuri-Katarqalai",
-                "Wotjobaluk",
-                "Wotu",
-                "Woun Meu",
-                "Written Oirat",
-                "Wu Chinese",
-                "Wuding-Luquan Yi",
-                "Wudu",
-                "Wuliwuli",
-                "Wulna",
-                "Wumboko",
-                "Wumbvu",
-                "Wumeng Nasu",
-                "Wunai Bunu",
-                "Wunambal",
-                "Wunumara",
-                "Wurrugu",
-                "Wusa Nasu",
-                "Wushi",
-                "Wusi",
-                "Wutung",
-                "Wutunhua",
-                "Wuvulu-Aua",
-                "Wuzlam",
-                "Wyandot",
-                "Wymysorys",
-                "Wára",
-                "Wãpha",
-                "Wè Northern",
-                "Wè Southern",
-                "Wè Western",
-                "Xaasongaxango",
-                "Xadani Zapotec",
-                "Xakriabá",
-                "Xamtanga",
-                "Xanaguía Zapotec",
-                "Xavánte",
-                "Xerénte",
-                "Xetá",
-                "Xhosa",
-                "Xiang Chinese",
-                "Xibe",
-                "Xicotepec De Juárez Totonac",
-                "Xinca",
-                "Xingú Asuriní",
-                "Xipaya",
-                "Xiri",
-                "Xiriâna",
-                "Xishanba Lalo",
-                "Xokleng",
-                "Xukurú",
-                "Xwela Gbe",
-                "Xârâcùù",
-                "Xârâgurè",
-                "Yaaku",
-                "Yabarana",
-                "Yabaâna",
-                "Yabem",
-                "Yaben",
-                "Yabong",
-                "Yabula Yabula",
-                "Yace",
-                "Yaeyama",
-                "Yafi",
-                "Yagara",
-                "Yagaria",
-                "Yagnobi",
-                "Yagomi",
-                "Yagua",
-                "Yagwoia",
-                "Yahadian",
-                "Yahang",
-                "Yahuna",
-                "Yaka (Central African Republic)",
-                "Yaka (Congo)",
-                "Yaka (Democratic Republic of Congo)",
-                "Yakaikeke",
-                "Yakama",
-                "Yakan",
-                "Yakha",
-                "Yakoma",
-                "Yakut",
-                "Yala",
-                "Yalahatan",
-                "Yalakalore",
-                "Yalarnnga",
-                "Yale",
-                "Yaleba",
-                "Yalunka",
-                "Yalálag Zapotec",
-                "Yamap",
-                "Yamba",
-                "Yambes",
-                "Yambeta",
-                "Yamdena",
-                "Yameo",
-                "Yami",
-                "Yaminahua",
-                "Yamna",
-                "Yamongeri",
-                "Yamphu",
-                "Yan-nhangu",
-                "Yan-nhaŋu Sign Language",
-                "Yana",
-                "Yanahuanca Pasco Quechua",
-                "Yanda Dom Dogon",
-                "Yanda",
-                "Yandjibara",
-                "Yandruwandha",
-                "Yanesha'",
-                "Yang Zhuang",
-                "Yangben",
-                "Yangkam",
-                "Yangman",
-                "Yango",
-                "Yangulam",
-                "Yangum Dey",
-                "Yangum Gel",
-                "Yangum Mon",
-                "Yankunytjatjara",
-                "Yanomamö",
-                "Yanomámi",
-                "Yansi",
-                "Yanyuwa",
-                "Yao",
-                "Yaosakor Asmat",
-                "Yaouré",
-                "Yapese",
-                "Yapunda",
-                "Yaqay",
-                "Yaqui",
-                "Yarawata",
-                "Yardliyawarra",
-                "Yareba",
-                "Yareni Zapotec",
-                "Yarluyandi",
-                "Yaroamë",
-                "Yarsun",
-                "Yasa",
-                "Yassic",
-                "Yatay",
-                "Yatee Zapotec",
-                "Yatzachi Zapotec",
-                "Yau (Morobe Province)",
-                "Yau (Sandaun Province)",
-                "Yaul",
-                "Yauma",
-                "Yaur",
-                "Yautepec Zapotec",
-                "Yauyos Quechua",
-                "Yavitero",
-                "Yawa",
-                "Yawalapití",
-                "Yawanawa",
-                "Yawarawarga",
-                "Yaweyuha",
-                "Yawijibaya",
-                "Yawiyo",
-                "Yawuru",
-                "Yaygir",
-                "Yazgulyam",
-                "Yecuatla Totonac",
-                "Yei",
-                "Yekhee",
-                "Yekora",
-                "Yela",
-                "Yele",
-                "Yelmek",
-                "Yelogu",
-                "Yemba",
-                "Yemsa",
-                "Yendang",
-                "Yeni",
-                "Yeniche",
-                "Yerakai",
-                "Yeretuar",
-                "Yerong",
-                "Yerukula",
-                "Yessan-Mayo",
-                "Yetfa",
-                "Yevanic",
-                "Yeyi",
-                "Yiddish",
-                "Yidgha",
-                "Yidiny",
-                "Yil",
-                "Yimas",
-                "Yimchungru Naga",
-                "Yinbaw Karen",
-                "Yindjibarndi",
-                "Yindjilandji",
-                "Yine",
-                "Yinggarda",
-                "Yinhawangka",
-                "Yiningayi",
-                "Yintale Karen",
-                "Yinwum",
-                "Yir Yoront",
-                "Yirandali",
-                "Yirrk-Mel",
-                "Yis",
-                "Yitha Yitha",
-                "Yoba",
-                "Yocoboué Dida",
-                "Yogad",
-                "Yoidik",
-                "Yoke",
-                "Yokuts",
-                "Yola",
-                "Yoloxochitl Mixtec",
-                "Yolŋu Sign Language",
-                "Yom",
-                "Yombe",
-                "Yonaguni",
-                "Yong",
-                "Yongbei Zhuang",
-                "Yongkom",
-                "Yongnan Zhuang",
-                "Yopno",
-                "Yora",
-                "Yoron",
-                "Yorta Yorta",
-                "Yoruba",
-                "Yosondúa Mixtec",
-                "Yotti",
-                "Youjiang Zhuang",
-                "Youle Jinuo",
-                "Younuo Bunu",
-                "Yout Wam",
-                "Yoy",
-                "Yuanga",
-                "Yucatec Maya Sign Language",
-                "Yucateco",
-                "Yuchi",
-                "Yucuañe Mixtec",
-                "Yucuna",
-                "Yue Chinese",
-                "Yug",
-                "Yugambal",
-                "Yugoslavian Sign Language",
-                "Yugul",
-                "Yuhup",
-                "Yuki",
-                "Yukpa",
-                "Yukuben",
-                "Yulu",
-                "Yupik languages",
-                "Yuqui",
-                "Yuracare",
-                "Yurats",
-                "Yurok",
-                "Yuru",
-                "Yurutí",
-                "Yutanduchi Mixtec",
-                "Yuwana",
-                "Yuyu",
-                "Ywom",
-                "Yámana",
-                "Zaachila Zapotec",
-                "Zabana",
-                "Zacatepec Chatino",
-                "Zacatlán-Ahuacatlán-Tepetzintla Nahuatl",
-                "Zaghawa",
-                "Zaiwa",
-                "Zakhring",
-                "Zambian Sign Language",
-                "Zan Gula",
-                "Zanaki",
-                "Zande (individual language)",
-                "Zande languages",
-                "Zangskari",
-                "Zangwal",
-                "Zaniza Zapotec",
-                "Zapotec",
-                "Zaramo",
-                "Zari",
-                "Zarma",
-                "Zarphatic",
-                "Zauzou",
-                "Zay",
-                "Zayein Karen",
-                "Zayse-Zergulla",
-                "Zaza",
-                "Zazao",
-                "Zeem",
-                "Zeeuws",
-                "Zemba",
-                "Zeme Naga",
-                "Zemgalian",
-                "Zenag",
-                "Zenaga",
-                "Zenzontepec Chatino",
-                "Zerenkel",
-                "Zhaba",
-                "Zhang-Zhung",
-                "Zhire",
-                "Zhoa",
-                "Zhuang",
-                "Zia",
-                "Zialo",
-                "Zigula",
-                "Zimakani",
-                "Zimba",
-                "Zimbabwe Sign Language",
-                "Zinza",
-                "Zire",
-                "Zizilivakan",
-                "Zo'é",
-                "Zokhuo",
-                "Zoogocho Zapotec",
-                "Zoroastrian Dari",
-                "Zotung Chin",
-                "Zou",
-                "Zula",
-                "Zulgo-Gemzek",
-                "Zulu",
-                "Zumaya",
-                "Zumbun",
-                "Zuni",
-                "Zuojiang Zhuang",
-                "Zyphe Chin",
-                "Záparo",
-                "sTodsde",
-                "us-Saare",
-                "ut-Hun",
-                "ut-Ma'in",
-                "Àhàn",
-                "Áncá",
-                "Ömie",
-                "Önge",
-                "ǀGwi",
-                "ǀXam",
-                "ǁAni",
-                "ǁGana",
-                "ǁXegwi",
-                "ǂHua",
-                "ǂUngkue",
-                "ǃXóõ"
-        };
+    private static final String DATA_RESOURCE = "/res/mkvstrings.dat.gz";
+    private static final int DATA_MAGIC = 0x4D4B5653; // "MKVS"
+    private static final int DATA_VERSION = 1;
+
+    private static class Data {
+        String[] langNames;
+        String[] langCodes;
+        String[] mimeTypes;
+    }
+
+    private static FutureTask<Data> loader = null;
+    private static MkvStrings instance = null;
+
+    private MkvStrings() {
+        startLoading();
+    }
+
+    /**
+     * Returns the instance shared by all callers, so the tables are only
+     * indexed once.
+     */
+    public static synchronized MkvStrings getInstance() {
+        if (instance == null) {
+            instance = new MkvStrings();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Starts reading the tables on a background thread, unless that already
+     * happened.
+     */
+    public static synchronized void startLoading() {
+        if (loader != null) {
+            return;
+        }
+
+        loader = new FutureTask<Data>(new Callable<Data>() {
+            @Override
+            public Data call() throws IOException {
+                return readData();
+            }
+        });
 
-        return langNames;
+        Thread thread = new Thread(loader, "MkvStrings loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public String[] getLangNames() {
+        return getData().langNames.clone();
     }
 
     public String[] getLangCodes() {
-        String[] langCodes = {
-                "alu",
-                "kud",
-                "aou",
-                "apq",
-                "aiw",
-                "aas",
-                "kbt",
-                "abg",
-                "abf",
-                "abm",
-                "mij",
-                "aau",
-                "abq",
-                "abp",
-                "abi",
-                "bsa",
-                "axb",
-                "ash",
-                "abk",
-                "aob",
-                "abo",
-                "abr",
-                "ado",
-                "aah",
-                "abn",
-                "abz",
-                "kgr",
-                "abu",
-                "mgj",
-                "aba",
-                "tpx",
-                "aca",
-                "acn",
-                "yif",
-                "acz",
-                "acr",
-                "ace",
-                "act",
-                "acu",
-                "acv",
-                "guq",
-                "ach",
-                "acs",
-                "xad",
-                "fub",
-                "ads",
-                "adn",
-                "adq",
-                "ada",
-                "kad",
-                "tiu",
-                "ade",
-                "adh",
-                "adi",
-                "wsg",
-                "adj",
-                "dth",
-                "ort",
-                "gas",
-                "adt",
-                "adr",
-                "adu",
-                "ady",
-                "adz",
-                "aez",
-                "awi",
-                "xae",
-                "aeq",
-                "aal",
-                "aar",
-                "afg",
-                "aft",
-                "afh",
-                "afr",
-                "afa",
-                "afs",
-                "agd",
-                "agi",
-                "agc",
-                "avo",
-                "agq",
-                "ahh",
-                "gtu",
-                "agx",
-                "xag",
-                "aif",
-                "kit",
-                "ibm",
-                "agu",
-                "aga",
-                "agr",
-                "aug",
-                "msm",
-                "agn",
-                "yay",
-                "aha",
-                "esg",
-                "thm",
-                "ahr",
-                "aho",
-                "aht",
-                "nfd",
-                "aih",
-                "aix",
-                "tba",
-                "mwg",
-                "aiq",
-                "ail",
-                "aim",
-                "aic",
-                "aib",
-                "ain",
-                "aki",
-                "air",
-                "aio",
-                "ajg",
-                "aja",
-                "ajw",
-                "aji",
-                "muc",
-                "cpc",
-                "akq",
-                "soh",
-                "abj",
-                "akm",
-                "aci",
-                "akj",
-                "akx",
-                "aky",
-                "ack",
-                "aka",
-                "acl",
-                "aks",
-                "ake",
-                "aik",
-                "keu",
-                "tsr",
-                "aeu",
-                "ahk",
-                "akv",
-                "akk",
-                "sia",
-                "akl",
-                "akt",
-                "bss",
-                "miw",
-                "akf",
-                "ibe",
-                "afi",
-                "spm",
-                "ayk",
-                "aku",
-                "aqz",
-                "ako",
-                "akw",
-                "nqy",
-                "syy",
-                "alw",
-                "akz",
-                "dul",
-                "aqa",
-                "mim",
-                "ala",
-                "wbj",
-                "alk",
-                "amp",
-                "alj",
-                "xln",
-                "apv",
-                "alh",
-                "sqk",
-                "sqj",
-                "alb",
-                "xta",
-                "alf",
-                "gah",
-                "ale",
-                "arq",
-                "aao",
-                "asp",
-                "aql",
-                "alg",
-                "alq",
-                "aiy",
-                "ald",
-                "all",
-                "aid",
-                "ypo",
-                "aol",
-                "zaq",
-                "aes",
-                "tut",
-                "xua",
-                "aub",
-                "aab",
-                "alp",
-                "yna",
-                "alz",
-                "alr",
-                "avd",
-                "aly",
-                "amm",
-                "nyi",
-                "amq",
-                "amc",
-                "ali",
-                "aad",
-                "jks",
-                "amn",
-                "ama",
-                "aie",
-                "amr",
-                "aaz",
-                "zpo",
-                "utp",
-                "rwm",
-                "amk",
-                "aew",
-                "abc",
-                "amv",
-                "ael",
-                "alm",
-                "amb",
-                "qva",
-                "abs",
-                "aag",
-                "apo",
-                "abt",
-                "amj",
-                "adx",
-                "aey",
-                "ase",
-                "ifa",
-                "amh",
-                "amy",
-                "ami",
-                "amo",
-                "alx",
-                "mbz",
-                "apg",
-                "aqd",
-                "ajz",
-                "amt",
-                "adw",
-                "amg",
-                "dti",
-                "anw",
-                "akg",
-                "anm",
-                "pda",
-                "aan",
-                "imi",
-                "bpo",
-                "grc",
-                "hbo",
-                "xmk",
-                "xna",
-                "xzp",
-                "dgl",
-                "afd",
-                "ajn",
-                "xaa",
-                "hca",
-                "ana",
-                "aod",
-                "adg",
-                "anr",
-                "ani",
-                "bzb",
-                "anb",
-                "ano",
-                "anx",
-                "aty",
-                "anz",
-                "aby",
-                "myo",
-                "agm",
-                "aqt",
-                "aoe",
-                "akh",
-                "age",
-                "njm",
-                "yli",
-                "anp",
-                "avm",
-                "xno",
-                "rme",
-                "aoa",
-                "agg",
-                "aog",
-                "tnd",
-                "awg",
-                "ypn",
-                "blo",
-                "anf",
-                "aoi",
-                "aqk",
-                "boj",
-                "aak",
-                "amx",
-                "nun",
-                "anj",
-                "ans",
-                "and",
-                "ant",
-                "xmv",
-                "aig",
-                "anl",
-                "anu",
-                "cko",
-                "aui",
-                "auq",
-                "aud",
-                "mtb",
-                "any",
-                "njo",
-                "pni",
-                "aor",
-                "kbx",
-                "apa",
-                "xap",
-                "apy",
-                "ena",
-                "mip",
-                "apt",
-                "api",
-                "apn",
-                "app",
-                "ahp",
-                "apu",
-                "apx",
-                "xaq",
-                "ard",
-                "arl",
-                "ara",
-                "arg",
-                "akr",
-                "rkw",
-                "atq",
-                "stk",
-                "aaf",
-                "xrt",
-                "jbj",
-                "aro",
-                "arp",
-                "arj",
-                "xaj",
-                "auf",
-                "arw",
-                "awd",
-                "awt",
-                "awm",
-                "arv",
-                "aae",
-                "aqc",
-                "pka",
-                "mwc",
-                "aea",
-                "aem",
-                "qxu",
-                "aed",
-                "agj",
-                "agf",
-                "arh",
-                "aqr",
-                "aok",
-                "aac",
-                "laz",
-                "ylu",
-                "aai",
-                "aqg",
-                "ark",
-                "ari",
-                "ait",
-                "xrn",
-                "luc",
-                "xrm",
-                "hyx",
-                "aen",
-                "arm",
-                "apr",
-                "aps",
-                "aia",
-                "frp",
-                "rrt",
-                "atz",
-                "art",
-                "msy",
-                "aur",
-                "lsr",
-                "atx",
-                "aru",
-                "arx",
-                "aat",
-                "asz",
-                "mtv",
-                "ahs",
-                "ask",
-                "csh",
-                "atn",
-                "cni",
-                "cjo",
-                "prq",
-                "asl",
-                "eiv",
-                "asv",
-                "asm",
-                "xss",
-                "sjg",
-                "asb",
-                "aii",
-                "ast",
-                "aum",
-                "asa",
-                "psa",
-                "aua",
-                "zoo",
-                "asr",
-                "atd",
-                "atm",
-                "aqp",
-                "amz",
-                "mib",
-                "adb",
-                "tay",
-                "ate",
-                "ath",
-                "aph",
-                "atk",
-                "atj",
-                "alv",
-                "aqm",
-                "ato",
-                "aot",
-                "aox",
-                "atc",
-                "cch",
-                "atw",
-                "pkr",
-                "ati",
-                "ocu",
-                "avt",
-                "aul",
-                "aux",
-                "auh",
-                "avs",
-                "asf",
-                "aut",
-                "asw",
-                "aus",
-                "asq",
-                "aav",
-                "map",
-                "smf",
-                "auu",
-                "auo",
-                "ava",
-                "avn",
-                "avb",
-                "ave",
-                "avi",
-                "avu",
-                "avv",
-                "vwa",
-                "awb",
-                "kwi",
-                "awk",
-                "bcu",
-                "awa",
-                "awo",
-                "aya",
-                "awx",
-                "awh",
-                "bob",
-                "awr",
-                "awe",
-                "azo",
-                "auy",
-                "auj",
-                "awn",
-                "gwm",
-                "kmn",
-                "yiu",
-                "aww",
-                "afu",
-                "auw",
-                "ahb",
-                "yix",
-                "ayd",
-                "quy",
-                "vmy",
-                "aye",
-                "axe",
-                "ayq",
-                "nfl",
-                "yyz",
-                "ayb",
-                "aym",
-                "zaf",
-                "ayo",
-                "ayu",
-                "miy",
-                "aze",
-                "aza",
-                "yiz",
-                "tpc",
-                "bvj",
-                "bqx",
-                "bba",
-                "mbf",
-                "bbw",
-                "bbm",
-                "bbk",
-                "baa",
-                "bcr",
-                "bzg",
-                "bcy",
-                "btj",
-                "xbc",
-                "bhz",
-                "bau",
-                "bfq",
-                "bde",
-                "bdz",
-                "bia",
-                "jbi",
-                "bac",
-                "pbp",
-                "bvd",
-                "bvc",
-                "btr",
-                "bfj",
-                "bwt",
-                "ksf",
-                "bfd",
-                "bqf",
-                "bgo",
-                "bmd",
-                "bcg",
-                "bsp",
-                "bsv",
-                "bfy",
-                "fui",
-                "bmi",
-                "bqg",
-                "bgq",
-                "bpi",
-                "bqb",
-                "kva",
-                "yha",
-                "bdw",
-                "bah",
-                "abv",
-                "bhv",
-                "bjh",
-                "bhj",
-                "bdq",
-                "bsu",
-                "bdj",
-                "bbf",
-                "bkx",
-                "bqh",
-                "bmx",
-                "bcz",
-                "bab",
-                "bcb",
-                "bsw",
-                "fah",
-                "bjs",
-                "bjm",
-                "bkc",
-                "bdh",
-                "bkq",
-                "bqz",
-                "bqi",
-                "bki",
-                "bkh",
-                "kme",
-                "bbs",
-                "bkr",
-                "bjw",
-                "bls",
-                "zba",
-                "blw",
-                "sse",
-                "bjt",
-                "ble",
-                "blz",
-                "bdn",
-                "bcp",
-                "bcn",
-                "mhp",
-                "ban",
-                "bgx",
-                "rmn",
-                "bqo",
-                "biz",
-                "bft",
-                "rml",
-                "bat",
-                "blq",
-                "bal",
-                "bog",
-                "bbq",
-                "bmo",
-                "ptu",
-                "bam",
-                "myf",
-                "baw",
-                "bce",
-                "bai",
-                "bcf",
-                "bqt",
-                "bax",
-                "bvm",
-                "bmg",
-                "bfk",
-                "bcw",
-                "bjx",
-                "byz",
-                "bnd",
-                "bpq",
-                "bad",
-                "liy",
-                "bpd",
-                "bqk",
-                "bfl",
-                "yaj",
-                "bza",
-                "bqj",
-                "bdy",
-                "bxg",
-                "bgf",
-                "bbe",
-                "bgz",
-                "bjb",
-                "bni",
-                "dba",
-                "mfb",
-                "bgj",
-                "bnx",
-                "bsj",
-                "bvv",
-                "bwi",
-                "bjn",
-                "bxw",
-                "jjr",
-                "dbw",
-                "abb",
-                "bcm",
-                "bap",
-                "bfx",
-                "bnq",
-                "bno",
-                "bnt",
-                "pnw",
-                "bci",
-                "bhr",
-                "brd",
-                "rbp",
-                "bbb",
-                "baj",
-                "kys",
-                "bbg",
-                "brm",
-                "bmz",
-                "brp",
-                "brs",
-                "bsn",
-                "vmb",
-                "boi",
-                "gry",
-                "bcj",
-                "bva",
-                "mlp",
-                "bfa",
-                "bch",
-                "bjc",
-                "bxo",
-                "jbk",
-                "bjk",
-                "bbi",
-                "tbn",
-                "bpt",
-                "bjz",
-                "byr",
-                "bwg",
-                "bjf",
-                "bae",
-                "mot",
-                "bas",
-                "bzw",
-                "bsl",
-                "buj",
-                "bdb",
-                "byq",
-                "bsg",
-                "bak",
-                "bst",
-                "euq",
-                "baq",
-                "bsq",
-                "bsr",
-                "bsc",
-                "bsi",
-                "bta",
-                "ifb",
-                "btz",
-                "akb",
-                "btd",
-                "btx",
-                "btm",
-                "bts",
-                "bbc",
-                "btk",
-                "bya",
-                "bnm",
-                "btq",
-                "btv",
-                "bhm",
-                "btc",
-                "bvt",
-                "xby",
-                "bbl",
-                "btu",
-                "zbt",
-                "bay",
-                "sne",
-                "bbd",
-                "bsf",
-                "bpe",
-                "brg",
-                "bge",
-                "bwk",
-                "bvz",
-                "bar",
-                "bgr",
-                "mkq",
-                "bjy",
-                "bvy",
-                "byg",
-                "byl",
-                "bda",
-                "bxj",
-                "bfr",
-                "beo",
-                "bea",
-                "bfp",
-                "beb",
-                "bek",
-                "bxp",
-                "bjv",
-                "bed",
-                "bkf",
-                "bxq",
-                "beq",
-                "bnz",
-                "bby",
-                "ebc",
-                "bej",
-                "bei",
-                "bkv",
-                "bkw",
-                "beg",
-                "bxb",
-                "bvi",
-                "bel",
-                "byw",
-                "bey",
-                "blm",
-                "bzj",
-                "blc",
-                "brw",
-                "glb",
-                "bem",
-                "bmb",
-                "dbt",
-                "yun",
-                "bez",
-                "bef",
-                "bcq",
-                "bdp",
-                "bct",
-                "nhb",
-                "bng",
-                "ben",
-                "bgy",
-                "bqy",
-                "bnu",
-                "byd",
-                "bue",
-                "bie",
-                "bxv",
-                "bve",
-                "ber",
-                "brc",
-                "bkl",
-                "bit",
-                "bom",
-                "wti",
-                "byt",
-                "mhe",
-                "bes",
-                "bep",
-                "bfe",
-                "bew",
-                "byf",
-                "btt",
-                "eot",
-                "xub",
-                "kap",
-                "bhd",
-                "bhx",
-                "bha",
-                "bgw",
-                "bht",
-                "bhe",
-                "bhy",
-                "bhi",
-                "bhb",
-                "bho",
-                "nes",
-                "byh",
-                "bhu",
-                "bif",
-                "bdf",
-                "bhw",
-                "beh",
-                "bpv",
-                "big",
-                "bmt",
-                "byk",
-                "bje",
-                "bth",
-                "xbp",
-                "ihw",
-                "bid",
-                "bym",
-                "bjg",
-                "bmc",
-                "bnk",
-                "brj",
-                "biu",
-                "nmb",
-                "bhc",
-                "xbe",
-                "ibh",
-                "bih",
-                "jbm",
-                "bix",
-                "bik",
-                "byb",
-                "bip",
-                "bql",
-                "kfs",
-                "bpz",
-                "brz",
-                "bil",
-                "byn",
-                "bms",
-                "bll",
-                "blb",
-                "bxf",
-                "bhp",
-                "bhl",
-                "bim",
-                "byj",
-                "bmn",
-                "bxz",
-                "bhg",
-                "xbd",
-                "bon",
-                "bin",
-                "bpj",
-                "itb",
-                "bne",
-                "bny",
-                "bkd",
-                "bjr",
-                "biq",
-                "brf",
-                "bxe",
-                "brr",
-                "btf",
-                "biy",
-                "bzr",
-                "bqq",
-                "brk",
-                "bvq",
-                "xbj",
-                "brl",
-                "ije",
-                "bpy",
-                "bwh",
-                "bnw",
-                "bis",
-                "bir",
-                "bib",
-                "bzi",
-                "bgk",
-                "brt",
-                "mcc",
-                "bwm",
-                "byo",
-                "bpm",
-                "blp",
-                "bfh",
-                "beu",
-                "blr",
-                "zbl",
-                "bgl",
-                "bpw",
-                "mae",
-                "mux",
-                "bzn",
-                "bzl",
-                "bgb",
-                "bty",
-                "boy",
-                "brx",
-                "gbj",
-                "bdv",
-                "bff",
-                "bvw",
-                "boq",
-                "bux",
-                "bqu",
-                "bhn",
-                "bzf",
-                "ybk",
-                "bqc",
-                "bkp",
-                "bus",
-                "bdt",
-                "bky",
-                "bnp",
-                "bld",
-                "bol",
-                "xbo",
-                "bvo",
-                "bli",
-                "smk",
-                "bvl",
-                "bkt",
-                "bof",
-                "bzm",
-                "blj",
-                "ply",
-                "bmf",
-                "boh",
-                "bml",
-                "bws",
-                "zmx",
-                "bmq",
-                "bmw",
-                "glc",
-                "peh",
-                "bou",
-                "bfw",
-                "kzc",
-                "dbu",
-                "bna",
-                "bnv",
-                "bdg",
-                "bpg",
-                "bui",
-                "bot",
-                "bpu",
-                "bok",
-                "bvg",
-                "bop",
-                "bnc",
-                "bnb",
-                "bnl",
-                "bvf",
-                "boa",
-                "gax",
-                "kvn",
-                "gai",
-                "fue",
-                "bwo",
-                "xxb",
-                "ksr",
-                "brn",
-                "bor",
-                "bwf",
-                "bqs",
-                "bos",
-                "bmj",
-                "bph",
-                "sbl",
-                "nku",
-                "suo",
-                "pcc",
-                "bzo",
-                "aof",
-                "brh",
-                "bra",
-                "bzs",
-                "buq",
-                "brq",
-                "bre",
-                "bzd",
-                "bzt",
-                "bfi",
-                "bro",
-                "sgt",
-                "bkk",
-                "plw",
-                "bpl",
-                "bsb",
-                "kxd",
-                "xpz",
-                "zbu",
-                "jid",
-                "bwx",
-                "bub",
-                "cbl",
-                "box",
-                "bvb",
-                "buw",
-                "bbx",
-                "stt",
-                "btp",
-                "bdx",
-                "buu",
-                "bdk",
-                "bdm",
-                "bja",
-                "bbh",
-                "buk",
-                "bgt",
-                "bug",
-                "sab",
-                "bgg",
-                "ubl",
-                "bku",
-                "bxh",
-                "sdo",
-                "bvk",
-                "bhh",
-                "bvu",
-                "bkn",
-                "ape",
-                "tkb",
-                "bxk",
-                "buz",
-                "bqn",
-                "bul",
-                "bmp",
-                "bwu",
-                "bzq",
-                "buy",
-                "sti",
-                "bum",
-                "bjl",
-                "bmv",
-                "byp",
-                "bvp",
-                "aon",
-                "kjz",
-                "buv",
-                "bvn",
-                "bfn",
-                "bdd",
-                "bns",
-                "bqd",
-                "but",
-                "xbg",
-                "bkz",
-                "wun",
-                "dgb",
-                "bck",
-                "bnn",
-                "blf",
-                "bwr",
-                "bys",
-                "bkg",
-                "bvr",
-                "bti",
-                "bxn",
-                "bvh",
-                "bua",
-                "bji",
-                "vrt",
-                "bur",
-                "bzu",
-                "mhs",
-                "bqw",
-                "bry",
-                "aip",
-                "bdi",
-                "lsb",
-                "bds",
-                "bsk",
-                "bqr",
-                "asi",
-                "bqp",
-                "bxs",
-                "bsm",
-                "bfg",
-                "buc",
-                "buf",
-                "bso",
-                "bup",
-                "dox",
-                "bju",
-                "kyb",
-                "bnr",
-                "btw",
-                "bhs",
-                "byi",
-                "jiy",
-                "bww",
-                "bwd",
-                "tte",
-                "bwa",
-                "bwe",
-                "bwl",
-                "bwc",
-                "bwz",
-                "bee",
-                "mkk",
-                "khd",
-                "dri",
-                "msq",
-                "cbb",
-                "cjp",
-                "miu",
-                "ccr",
-                "roc",
-                "cbv",
-                "cad",
-                "cdd",
-                "ccd",
-                "cah",
-                "chl",
-                "qvc",
-                "qvl",
-                "zad",
-                "frc",
-                "ckx",
-                "ckz",
-                "cky",
-                "tbk",
-                "qud",
-                "caw",
-                "clu",
-                "rmq",
-                "csx",
-                "mcu",
-                "wes",
-                "rab",
-                "cml",
-                "sro",
-                "kbh",
-                "cmt",
-                "xcc",
-                "cbu",
-                "ram",
-                "caz",
-                "mlc",
-                "cov",
-                "kaq",
-                "cps",
-                "cpg",
-                "cot",
-                "caq",
-                "cfd",
-                "cby",
-                "crf",
-                "cbc",
-                "xcr",
-                "hns",
-                "jvn",
-                "cbd",
-                "crr",
-                "cal",
-                "rmc",
-                "crx",
-                "cbr",
-                "cbs",
-                "dgc",
-                "asc",
-                "csc",
-                "cat",
-                "chc",
-                "cau",
-                "cav",
-                "cyb",
-                "cay",
-                "xcy",
-                "qxr",
-                "nat",
-                "sef",
-                "ceb",
-                "xce",
-                "cel",
-                "cam",
-                "cen",
-                "cai",
-                "cns",
-                "tzm",
-                "awu",
-                "ayr",
-                "bca",
-                "zbc",
-                "bcl",
-                "lbk",
-                "agt",
-                "grv",
-                "zch",
-                "nch",
-                "hmc",
-                "knc",
-                "ckb",
-                "mwo",
-                "pse",
-                "plf",
-                "mxz",
-                "hmm",
-                "maz",
-                "mel",
-                "cmo",
-                "nhn",
-                "ncb",
-                "ojc",
-                "ryu",
-                "plc",
-                "pbs",
-                "pst",
-                "poo",
-                "ncx",
-                "sml",
-                "ess",
-                "csm",
-                "syb",
-                "csu",
-                "tgt",
-                "tar",
-                "tuf",
-                "esu",
-                "fuq",
-                "cet",
-                "cme",
-                "sbf",
-                "quk",
-                "cbi",
-                "shu",
-                "cds",
-                "cdc",
-                "cdy",
-                "chg",
-                "ciy",
-                "ckh",
-                "cli",
-                "ckm",
-                "ccp",
-                "cll",
-                "cld",
-                "tgf",
-                "ceg",
-                "cji",
-                "cdh",
-                "can",
-                "cmc",
-                "ccc",
-                "cha",
-                "nbc",
-                "cga",
-                "cna",
-                "chx",
-                "caj",
-                "cra",
-                "cdn",
-                "crv",
-                "cbk",
-                "cbt",
-                "mih",
-                "xtb",
-                "ruk",
-                "che",
-                "mrn",
-                "xch",
-                "cjn",
-                "cde",
-                "cnu",
-                "cdm",
-                "ycp",
-                "cpn",
-                "chr",
-                "ych",
-                "ctc",
-                "cwg",
-                "chy",
-                "hne",
-                "ctn",
-                "cur",
-                "csd",
-                "cip",
-                "chb",
-                "cba",
-                "trs",
-                "zpv",
-                "pei",
-                "cic",
-                "cob",
-                "cgg",
-                "mii",
-                "clc",
-                "csg",
-                "clh",
-                "csa",
-                "zoh",
-                "cid",
-                "qug",
-                "cbg",
-                "bxu",
-                "cih",
-                "cnb",
-                "qxc",
-                "zhx",
-                "cpi",
-                "csl",
-                "chi",
-                "chn",
-                "chh",
-                "cap",
-                "chp",
-                "ciw",
-                "maq",
-                "cax",
-                "qxa",
-                "nhd",
-                "cdf",
-                "ctm",
-                "cik",
-                "ctg",
-                "the",
-                "zpc",
-                "cgk",
-                "coz",
-                "cho",
-                "cdi",
-                "nri",
-                "cjk",
-                "ctu",
-                "cht",
-                "cog",
-                "cda",
-                "coh",
-                "cce",
-                "xco",
-                "caa",
-                "nct",
-                "crw",
-                "cje",
-                "cqd",
-                "cjv",
-                "cvg",
-                "cac",
-                "cuh",
-                "ckt",
-                "cuw",
-                "clw",
-                "ncu",
-                "cug",
-                "cdj",
-                "chu",
-                "scb",
-                "chk",
-                "xcv",
-                "chv",
-                "chw",
-                "cao",
-                "cib",
-                "cia",
-                "ckl",
-                "awc",
-                "cim",
-                "cdr",
-                "cie",
-                "cin",
-                "xcg",
-                "asg",
-                "txt",
-                "tgd",
-                "clm",
-                "xcl",
-                "myz",
-                "cmg",
-                "nci",
-                "nwc",
-                "qwc",
-                "syc",
-                "xct",
-                "xcw",
-                "csi",
-                "kjc",
-                "zca",
-                "naz",
-                "mco",
-                "zps",
-                "miz",
-                "cod",
-                "coj",
-                "coc",
-                "coa",
-                "crd",
-                "con",
-                "kog",
-                "liw",
-                "csn",
-                "gct",
-                "cof",
-                "col",
-                "cco",
-                "com",
-                "xcm",
-                "cfg",
-                "coo",
-                "cno",
-                "swc",
-                "csz",
-                "zoc",
-                "trc",
-                "cop",
-                "coq",
-                "cry",
-                "cor",
-                "qwa",
-                "cos",
-                "csr",
-                "mta",
-                "xcn",
-                "cow",
-                "pbf",
-                "toc",
-                "cre",
-                "mus",
-                "crp",
-                "cpe",
-                "cpf",
-                "cpp",
-                "crh",
-                "csq",
-                "hrv",
-                "mfn",
-                "cro",
-                "crz",
-                "cua",
-                "csf",
-                "cub",
-                "cui",
-                "cuy",
-                "cul",
-                "cuo",
-                "xcb",
-                "cuq",
-                "xlu",
-                "cup",
-                "xcu",
-                "kpc",
-                "quz",
-                "cus",
-                "ccl",
-                "cuv",
-                "xtu",
-                "cyo",
-                "bwy",
-                "acy",
-                "cse",
-                "cze",
-                "cnc",
-                "kzf",
-                "dao",
-                "bpa",
-                "lni",
-                "dsh",
-                "dtn",
-                "dbq",
-                "dbr",
-                "dbe",
-                "xdc",
-                "dda",
-                "mps",
-                "dbd",
-                "dgz",
-                "dgd",
-                "dgk",
-                "dag",
-                "dec",
-                "dgn",
-                "dlk",
-                "dal",
-                "das",
-                "zhd",
-                "dij",
-                "drb",
-                "dkk",
-                "dak",
-                "dka",
-                "ngk",
-                "dlm",
-                "bev",
-                "dmm",
-                "dam",
-                "uhn",
-                "dac",
-                "dml",
-                "dms",
-                "dnj",
-                "dnr",
-                "dnu",
-                "daq",
-                "daa",
-                "thl",
-                "dsl",
-                "dan",
-                "aso",
-                "dnv",
-                "daz",
-                "dnd",
-                "djc",
-                "daj",
-                "dau",
-                "dry",
-                "dar",
-                "prs",
-                "xda",
-                "dln",
-                "drd",
-                "dro",
-                "dot",
-                "tcc",
-                "dgw",
-                "dta",
-                "daw",
-                "dww",
-                "ddw",
-                "dwk",
-                "dwr",
-                "dai",
-                "dax",
-                "dzg",
-                "dcc",
-                "ded",
-                "afn",
-                "gbh",
-                "mzw",
-                "deg",
-                "dge",
-                "ing",
-                "dhv",
-                "deh",
-                "dek",
-                "row",
-                "del",
-                "ntr",
-                "dem",
-                "dmx",
-                "dei",
-                "dmy",
-                "ddn",
-                "deq",
-                "dez",
-                "dnk",
-                "dbb",
-                "anv",
-                "dny",
-                "der",
-                "kbv",
-                "kna",
-                "des",
-                "dso",
-                "dwz",
-                "dee",
-                "def",
-                "dgh",
-                "dhs",
-                "dhl",
-                "dhg",
-                "dhn",
-                "dhw",
-                "nfa",
-                "tbh",
-                "dhr",
-                "xdk",
-                "xgm",
-                "mki",
-                "dhi",
-                "div",
-                "dho",
-                "adf",
-                "ddr",
-                "dhd",
-                "dhx",
-                "dhu",
-                "dwu",
-                "dwy",
-                "dia",
-                "mbd",
-                "dby",
-                "dio",
-                "bvx",
-                "duy",
-                "did",
-                "ddo",
-                "dif",
-                "mhu",
-                "dig",
-                "dur",
-                "cfa",
-                "dil",
-                "jma",
-                "dis",
-                "dii",
-                "dim",
-                "diq",
-                "diz",
-                "din",
-                "gdl",
-                "dwa",
-                "diu",
-                "dir",
-                "dsi",
-                "tbz",
-                "dtd",
-                "diy",
-                "xtd",
-                "dix",
-                "mdx",
-                "dyy",
-                "tjw",
-                "dja",
-                "djr",
-                "djd",
-                "djf",
-                "djw",
-                "djj",
-                "dyi",
-                "dji",
-                "djb",
-                "dze",
-                "kvo",
-                "dob",
-                "doe",
-                "dgg",
-                "dgx",
-                "dgs",
-                "dos",
-                "dgo",
-                "doi",
-                "dgr",
-                "dbg",
-                "dbi",
-                "uya",
-                "dlg",
-                "dre",
-                "doa",
-                "dmk",
-                "rmt",
-                "dov",
-                "doq",
-                "doy",
-                "dof",
-                "dev",
-                "dok",
-                "doh",
-                "doo",
-                "ddd",
-                "yik",
-                "sce",
-                "dds",
-                "dde",
-                "dor",
-                "kqc",
-                "doz",
-                "dol",
-                "dty",
-                "tds",
-                "dow",
-                "dra",
-                "drt",
-                "duu",
-                "dua",
-                "dup",
-                "dva",
-                "dub",
-                "dmu",
-                "ndu",
-                "dbm",
-                "dme",
-                "kbz",
-                "nke",
-                "dbo",
-                "duz",
-                "dma",
-                "duf",
-                "dus",
-                "dmv",
-                "dui",
-                "duc",
-                "dng",
-                "raa",
-                "duh",
-                "dbv",
-                "duo",
-                "drq",
-                "mvp",
-                "dbn",
-                "dug",
-                "pci",
-                "dsn",
-                "dun",
-                "duq",
-                "duw",
-                "dse",
-                "dut",
-                "dws",
-                "dux",
-                "dae",
-                "duv",
-                "dbp",
-                "gve",
-                "ldb",
-                "nnu",
-                "dyb",
-                "dya",
-                "dyn",
-                "dbl",
-                "dyd",
-                "dyu",
-                "jen",
-                "dzl",
-                "dzn",
-                "bpn",
-                "dzo",
-                "dnn",
-                "kwa",
-                "eee",
-                "yzg",
-                "pbh",
-                "xtr",
-                "omb",
-                "zbe",
-                "dmr",
-                "fud",
-                "gme",
-                "kjs",
-                "lma",
-                "mky",
-                "vme",
-                "nle",
-                "zle",
-                "tre",
-                "yuy",
-                "aaq",
-                "acp",
-                "qve",
-                "aer",
-                "bgp",
-                "gui",
-                "ebk",
-                "bru",
-                "ike",
-                "cjm",
-                "azd",
-                "avl",
-                "frs",
-                "tge",
-                "cly",
-                "otm",
-                "zeh",
-                "nhe",
-                "hme",
-                "xrb",
-                "ktv",
-                "eky",
-                "kee",
-                "cek",
-                "kqo",
-                "yit",
-                "lwl",
-                "mgp",
-                "pqe",
-                "emk",
-                "mhr",
-                "djk",
-                "emg",
-                "emq",
-                "mng",
-                "emu",
-                "nea",
-                "nos",
-                "ojg",
-                "hae",
-                "kif",
-                "pez",
-                "peb",
-                "hmq",
-                "sfe",
-                "sdv",
-                "taj",
-                "bnj",
-                "muq",
-                "gbx",
-                "ydd",
-                "igb",
-                "xeb",
-                "ebr",
-                "ebg",
-                "ecs",
-                "cbj",
-                "ica",
-                "idd",
-                "ijj",
-                "awy",
-                "etr",
-                "xdm",
-                "dbf",
-                "efa",
-                "efe",
-                "efi",
-                "ofu",
-                "ega",
-                "ego",
-                "esl",
-                "egy",
-                "arz",
-                "egx",
-                "ehu",
-                "eip",
-                "eit",
-                "etu",
-                "eja",
-                "cey",
-                "eka",
-                "ekg",
-                "eki",
-                "eke",
-                "ekp",
-                "zpp",
-                "elh",
-                "elo",
-                "crn",
-                "elx",
-                "elm",
-                "ele",
-                "ovd",
-                "ekm",
-                "elk",
-                "zte",
-                "afo",
-                "mrf",
-                "elu",
-                "xly",
-                "mmw",
-                "ema",
-                "emn",
-                "emb",
-                "bdc",
-                "cto",
-                "cmi",
-                "tdc",
-                "ebu",
-                "eme",
-                "egl",
-                "emw",
-                "enr",
-                "enc",
-                "unk",
-                "end",
-                "enq",
-                "ngr",
-                "enn",
-                "eno",
-                "eng",
-                "enl",
-                "ptt",
-                "enu",
-                "enw",
-                "env",
-                "enx",
-                "gey",
-                "sja",
-                "xep",
-                "epi",
-                "emy",
-                "era",
-                "kjy",
-                "twp",
-                "ert",
-                "erw",
-                "err",
-                "emx",
-                "ers",
-                "erh",
-                "myv",
-                "ish",
-                "ese",
-                "mcq",
-                "esh",
-                "ags",
-                "esy",
-                "esx",
-                "epo",
-                "esq",
-                "ots",
-                "eso",
-                "est",
-                "esm",
-                "etc",
-                "etb",
-                "etx",
-                "ecr",
-                "ecy",
-                "eth",
-                "ich",
-                "eto",
-                "etn",
-                "ett",
-                "utr",
-                "bzz",
-                "eve",
-                "evn",
-                "gev",
-                "nou",
-                "ewe",
-                "ewo",
-                "ext",
-                "eya",
-                "eza",
-                "fab",
-                "faf",
-                "fif",
-                "azt",
-                "faj",
-                "fai",
-                "fax",
-                "cfm",
-                "fli",
-                "xfa",
-                "fam",
-                "fng",
-                "bjp",
-                "fnb",
-                "fak",
-                "fan",
-                "fni",
-                "fat",
-                "fmu",
-                "gur",
-                "fao",
-                "fqs",
-                "faa",
-                "far",
-                "ddg",
-                "fau",
-                "fmp",
-                "agl",
-                "fpe",
-                "fer",
-                "hif",
-                "fij",
-                "fil",
-                "tlp",
-                "fss",
-                "fse",
-                "fin",
-                "fiu",
-                "fag",
-                "fip",
-                "fir",
-                "fiw",
-                "fly",
-                "fln",
-                "flh",
-                "foi",
-                "ffi",
-                "ppo",
-                "fom",
-                "fon",
-                "fgr",
-                "fod",
-                "frq",
-                "frd",
-                "for",
-                "enf",
-                "fox",
-                "frt",
-                "zos",
-                "frk",
-                "fsl",
-                "fre",
-                "fur",
-                "ful",
-                "flr",
-                "fun",
-                "fum",
-                "ula",
-                "fvr",
-                "fuu",
-                "fut",
-                "fuy",
-                "fwe",
-                "fwa",
-                "pym",
-                "fie",
-                "gaa",
-                "gqa",
-                "gdg",
-                "ttb",
-                "tbi",
-                "gbw",
-                "gab",
-                "xgf",
-                "gdk",
-                "gad",
-                "gbk",
-                "gda",
-                "ged",
-                "gdh",
-                "gaj",
-                "gft",
-                "gbu",
-                "gag",
-                "btg",
-                "ggu",
-                "bfu",
-                "gbf",
-                "gic",
-                "gcn",
-                "gap",
-                "glo",
-                "xga",
-                "gbi",
-                "gar",
-                "car",
-                "gce",
-                "glg",
-                "xgl",
-                "sdn",
-                "adl",
-                "gal",
-                "kgj",
-                "gma",
-                "wof",
-                "kld",
-                "gbl",
-                "gak",
-                "gmv",
-                "bte",
-                "gan",
-                "gnq",
-                "gne",
-                "lug",
-                "gzn",
-                "gcd",
-                "ggl",
-                "gnb",
-                "gnl",
-                "gao",
-                "gza",
-                "gnz",
-                "gga",
-                "pwg",
-                "gbm",
-                "cab",
-                "ilg",
-                "xgi",
-                "gll",
-                "grt",
-                "gex",
-                "wrk",
-                "gyb",
-                "xgr",
-                "gaq",
-                "dmc",
-                "gou",
-                "gvo",
-                "gwt",
-                "gwc",
-                "gwd",
-                "gyl",
-                "gay",
-                "gzi",
-                "gie",
-                "gbr",
-                "gbv",
-                "gbg",
-                "gby",
-                "gba",
-                "krs",
-                "gbp",
-                "gbq",
-                "gmm",
-                "gyg",
-                "gbs",
-                "ggb",
-                "xgb",
-                "grh",
-                "gec",
-                "hmj",
-                "kvq",
-                "gei",
-                "gdd",
-                "drs",
-                "gez",
-                "gyz",
-                "ghk",
-                "nlg",
-                "geq",
-                "gej",
-                "gaf",
-                "geg",
-                "geo",
-                "ygp",
-                "gew",
-                "gef",
-                "gsg",
-                "ger",
-                "gem",
-                "gea",
-                "ges",
-                "gha",
-                "gpe",
-                "gse",
-                "gds",
-                "ghn",
-                "gri",
-                "bmk",
-                "aln",
-                "ghr",
-                "gdo",
-                "gho",
-                "bbj",
-                "aaa",
-                "ghl",
-                "bgi",
-                "gib",
-                "gid",
-                "kks",
-                "acd",
-                "glk",
-                "gil",
-                "gix",
-                "niv",
-                "gim",
-                "gip",
-                "kmp",
-                "gmn",
-                "gnm",
-                "ayg",
-                "bbr",
-                "gii",
-                "nyf",
-                "gih",
-                "toh",
-                "ggt",
-                "git",
-                "giy",
-                "tof",
-                "glr",
-                "glw",
-                "oub",
-                "gnu",
-                "gom",
-                "gig",
-                "goi",
-                "gox",
-                "god",
-                "gdx",
-                "ank",
-                "gof",
-                "gog",
-                "ggw",
-                "gkn",
-                "gol",
-                "gvf",
-                "lja",
-                "gon",
-                "goo",
-                "goe",
-                "gjn",
-                "gni",
-                "gqr",
-                "goc",
-                "goq",
-                "xgg",
-                "gor",
-                "grq",
-                "gow",
-                "got",
-                "goy",
-                "gux",
-                "goj",
-                "gok",
-                "gwf",
-                "goz",
-                "nli",
-                "kbk",
-                "grb",
-                "gss",
-                "grk",
-                "giq",
-                "gcl",
-                "grs",
-                "gro",
-                "gos",
-                "ats",
-                "gwx",
-                "gcf",
-                "guh",
-                "gub",
-                "gvj",
-                "gum",
-                "gqn",
-                "gva",
-                "gvc",
-                "gnc",
-                "jiq",
-                "grn",
-                "gyr",
-                "gae",
-                "gsm",
-                "gta",
-                "guo",
-                "xgd",
-                "nji",
-                "gde",
-                "gdu",
-                "gdf",
-                "amu",
-                "ngu",
-                "zpg",
-                "ggd",
-                "gdc",
-                "wrw",
-                "kkp",
-                "ghs",
-                "gcr",
-                "zgb",
-                "bet",
-                "zgn",
-                "gkp",
-                "gus",
-                "gqi",
-                "guj",
-                "gju",
-                "kcm",
-                "glu",
-                "glj",
-                "gmb",
-                "gvl",
-                "gly",
-                "afb",
-                "gmu",
-                "gnn",
-                "gvs",
-                "guk",
-                "guw",
-                "gdi",
-                "gjm",
-                "xrd",
-                "gyf",
-                "rub",
-                "gnt",
-                "gup",
-                "gyy",
-                "gpa",
-                "guf",
-                "grz",
-                "hac",
-                "gdj",
-                "gnr",
-                "ggg",
-                "grx",
-                "gjr",
-                "gue",
-                "gvm",
-                "goa",
-                "gge",
-                "gvr",
-                "grd",
-                "guz",
-                "gsl",
-                "kky",
-                "xgw",
-                "gwu",
-                "gka",
-                "gyn",
-                "gvy",
-                "ngs",
-                "gwb",
-                "dah",
-                "jgk",
-                "bga",
-                "gwn",
-                "grw",
-                "gwe",
-                "gwr",
-                "gwi",
-                "gyo",
-                "gyi",
-                "gye",
-                "ztu",
-                "pgd",
-                "haq",
-                "hbu",
-                "hdy",
-                "hoj",
-                "ayh",
-                "xhd",
-                "hts",
-                "aek",
-                "hah",
-                "hai",
-                "hgw",
-                "haf",
-                "has",
-                "hvc",
-                "hat",
-                "hgm",
-                "hji",
-                "haj",
-                "cnh",
-                "hak",
-                "hao",
-                "hld",
-                "hal",
-                "hlb",
-                "khk",
-                "hla",
-                "hur",
-                "hmu",
-                "hba",
-                "amf",
-                "hmt",
-                "haa",
-                "wos",
-                "hag",
-                "han",
-                "hni",
-                "lml",
-                "hab",
-                "hnn",
-                "xha",
-                "har",
-                "kjo",
-                "hro",
-                "hss",
-                "tmd",
-                "hrk",
-                "bgc",
-                "hrz",
-                "ybj",
-                "mey",
-                "had",
-                "xht",
-                "hsl",
-                "hau",
-                "yuf",
-                "hvk",
-                "hav",
-                "hwc",
-                "hps",
-                "haw",
-                "hay",
-                "haz",
-                "xed",
-                "heb",
-                "heh",
-                "hbn",
-                "hei",
-                "heg",
-                "nix",
-                "hem",
-                "hed",
-                "her",
-                "llf",
-                "xhr",
-                "ham",
-                "auk",
-                "ghc",
-                "hib",
-                "hid",
-                "hlu",
-                "mba",
-                "kjk",
-                "chd",
-                "poi",
-                "azz",
-                "tos",
-                "acw",
-                "hij",
-                "hil",
-                "him",
-                "hir",
-                "hin",
-                "hii",
-                "gin",
-                "hmo",
-                "hit",
-                "htu",
-                "hiw",
-                "hix",
-                "lic",
-                "yhl",
-                "hle",
-                "hmr",
-                "mww",
-                "hmf",
-                "hmv",
-                "hnj",
-                "hmz",
-                "hmn",
-                "hmx",
-                "mrk",
-                "hos",
-                "hoc",
-                "win",
-                "hoa",
-                "hoh",
-                "hhi",
-                "hok",
-                "hoi",
-                "hoy",
-                "hod",
-                "hoo",
-                "hol",
-                "hom",
-                "hds",
-                "hks",
-                "how",
-                "hop",
-                "hrm",
-                "hor",
-                "hoe",
-                "ero",
-                "hot",
-                "hti",
-                "hov",
-                "hhy",
-                "hoz",
-                "hpo",
-                "hra",
-                "hre",
-                "hru",
-                "huo",
-                "hug",
-                "qub",
-                "qvh",
-                "hub",
-                "var",
-                "hus",
-                "hud",
-                "mau",
-                "nhq",
-                "qwh",
-                "qvw",
-                "hbb",
-                "tee",
-                "hch",
-                "huh",
-                "mxs",
-                "czh",
-                "huw",
-                "hul",
-                "huy",
-                "hui",
-                "huk",
-                "hmb",
-                "huf",
-                "hut",
-                "hke",
-                "hnu",
-                "hum",
-                "hsh",
-                "hun",
-                "hng",
-                "hkk",
-                "xhc",
-                "hrx",
-                "huz",
-                "hup",
-                "jup",
-                "hap",
-                "xhu",
-                "geh",
-                "hwo",
-                "hya",
-                "jab",
-                "scp",
-                "hrt",
-                "juh",
-                "iwk",
-                "iai",
-                "yml",
-                "ian",
-                "tmu",
-                "tek",
-                "ibl",
-                "iba",
-                "ibg",
-                "iby",
-                "ivb",
-                "xib",
-                "ibb",
-                "ibn",
-                "ibu",
-                "ibr",
-                "icl",
-                "ice",
-                "bec",
-                "dbj",
-                "ida",
-                "idt",
-                "ide",
-                "ids",
-                "idi",
-                "ido",
-                "idu",
-                "idc",
-                "clk",
-                "viv",
-                "iff",
-                "ife",
-                "igl",
-                "igg",
-                "ibo",
-                "ige",
-                "ign",
-                "ahl",
-                "nar",
-                "igw",
-                "ihb",
-                "ihp",
-                "ihi",
-                "ijo",
-                "ikx",
-                "ikk",
-                "ikr",
-                "ikz",
-                "iki",
-                "meb",
-                "ntk",
-                "txi",
-                "ikp",
-                "kpo",
-                "ikv",
-                "ikl",
-                "ikw",
-                "iqw",
-                "ilb",
-                "ila",
-                "ili",
-                "ilu",
-                "mbi",
-                "xil",
-                "ilo",
-                "ilk",
-                "ilv",
-                "mlk",
-                "qvi",
-                "imo",
-                "imn",
-                "imr",
-                "abx",
-                "mzu",
-                "smn",
-                "ins",
-                "inc",
-                "ine",
-                "iir",
-                "idb",
-                "bdl",
-                "inl",
-                "ind",
-                "idr",
-                "mvy",
-                "xiv",
-                "oin",
-                "inz",
-                "inb",
-                "izh",
-                "inh",
-                "iti",
-                "moe",
-                "ino",
-                "loc",
-                "ior",
-                "nkf",
-                "igs",
-                "ina",
-                "ile",
-                "ils",
-                "int",
-                "ikt",
-                "iks",
-                "iku",
-                "ipk",
-                "iow",
-                "azm",
-                "ipo",
-                "ipi",
-                "ass",
-                "iqu",
-                "irr",
-                "pes",
-                "ira",
-                "ilm",
-                "ilp",
-                "irk",
-                "irh",
-                "iry",
-                "ire",
-                "isg",
-                "gle",
-                "iro",
-                "iru",
-                "irn",
-                "isa",
-                "isn",
-                "agk",
-                "isc",
-                "igo",
-                "its",
-                "isk",
-                "inn",
-                "srl",
-                "crb",
-                "icr",
-                "isd",
-                "iso",
-                "isr",
-                "mir",
-                "zai",
-                "nhk",
-                "nhx",
-                "nhp",
-                "ist",
-                "ruo",
-                "szv",
-                "isu",
-                "ise",
-                "ita",
-                "itc",
-                "itv",
-                "itl",
-                "ite",
-                "itr",
-                "itx",
-                "itw",
-                "ito",
-                "itm",
-                "mce",
-                "itz",
-                "ium",
-                "ivv",
-                "atg",
-                "ibd",
-                "kbm",
-                "iwm",
-                "iwo",
-                "ixc",
-                "mzi",
-                "ixl",
-                "vmj",
-                "otz",
-                "iya",
-                "uiv",
-                "nca",
-                "crq",
-                "crt",
-                "izr",
-                "izz",
-                "ijc",
-                "cbo",
-                "inp",
-                "jbt",
-                "jda",
-                "jdg",
-                "jah",
-                "jad",
-                "awv",
-                "xjt",
-                "jat",
-                "jrt",
-                "jak",
-                "maj",
-                "bxl",
-                "jcs",
-                "jam",
-                "jls",
-                "jaa",
-                "jax",
-                "mxt",
-                "djm",
-                "jan",
-                "jnd",
-                "djo",
-                "jna",
-                "jni",
-                "jpx",
-                "jsl",
-                "jpn",
-                "jru",
-                "jqr",
-                "jaf",
-                "jra",
-                "anq",
-                "ddj",
-                "qxw",
-                "jns",
-                "jav",
-                "jvd",
-                "jaz",
-                "djn",
-                "jyy",
-                "jeb",
-                "jeh",
-                "jhi",
-                "jje",
-                "tow",
-                "bze",
-                "xuj",
-                "jer",
-                "jek",
-                "jee",
-                "tmr",
-                "jpa",
-                "jhs",
-                "jio",
-                "jya",
-                "juo",
-                "jib",
-                "apj",
-                "jii",
-                "jie",
-                "jil",
-                "jim",
-                "jmi",
-                "jia",
-                "jig",
-                "cjy",
-                "pnu",
-                "jul",
-                "jrr",
-                "jit",
-                "kaj",
-                "job",
-                "jbr",
-                "jog",
-                "dyo",
-                "csk",
-                "jeu",
-                "jos",
-                "jor",
-                "jow",
-                "juu",
-                "jun",
-                "jrb",
-                "jbe",
-                "jge",
-                "yhd",
-                "itk",
-                "aju",
-                "jpr",
-                "jdt",
-                "yud",
-                "ajt",
-                "jye",
-                "jbu",
-                "jum",
-                "jus",
-                "jml",
-                "inj",
-                "mxq",
-                "bex",
-                "juy",
-                "juc",
-                "jur",
-                "jut",
-                "mwb",
-                "vmc",
-                "ktz",
-                "jwi",
-                "nrf",
-                "jua",
-                "quc",
-                "xku",
-                "ldl",
-                "ckn",
-                "gna",
-                "ksp",
-                "kvf",
-                "kbd",
-                "xkp",
-                "kbp",
-                "klz",
-                "onk",
-                "lkb",
-                "uka",
-                "kbu",
-                "kea",
-                "cwa",
-                "kcw",
-                "kab",
-                "kcx",
-                "xac",
-                "kfr",
-                "gjk",
-                "kac",
-                "koe",
-                "xkk",
-                "kzd",
-                "kej",
-                "kdu",
-                "dtp",
-                "kbc",
-                "zkd",
-                "dkg",
-                "ktp",
-                "kkq",
-                "jka",
-                "kbr",
-                "kpu",
-                "kll",
-                "syw",
-                "cgc",
-                "kdm",
-                "xkg",
-                "kki",
-                "hka",
-                "agw",
-                "kct",
-                "kzb",
-                "kzp",
-                "kbw",
-                "kep",
-                "kjv",
-                "kzq",
-                "zka",
-                "xai",
-                "kgp",
-                "ckr",
-                "kxa",
-                "krd",
-                "kzm",
-                "kce",
-                "kgk",
-                "tcq",
-                "ckq",
-                "xkj",
-                "kag",
-                "kqf",
-                "kke",
-                "kka",
-                "tbd",
-                "kkj",
-                "keo",
-                "mwp",
-                "kal",
-                "lkm",
-                "kve",
-                "ijn",
-                "kzz",
-                "kqe",
-                "kkf",
-                "kmh",
-                "knz",
-                "wkl",
-                "kck",
-                "kak",
-                "kly",
-                "kyl",
-                "kba",
-                "kls",
-                "kln",
-                "fla",
-                "xka",
-                "ktg",
-                "xal",
-                "rmf",
-                "ywa",
-                "bco",
-                "kli",
-                "kdx",
-                "vkm",
-                "woi",
-                "kbq",
-                "kci",
-                "keq",
-                "jmr",
-                "kzx",
-                "kgx",
-                "xas",
-                "klp",
-                "kms",
-                "kyk",
-                "kay",
-                "kam",
-                "ktb",
-                "kyy",
-                "xbr",
-                "irx",
-                "xbw",
-                "kmi",
-                "kcu",
-                "kcq",
-                "kgq",
-                "xmu",
-                "xla",
-                "xvi",
-                "hig",
-                "xnb",
-                "knm",
-                "zkn",
-                "xns",
-                "soq",
-                "bjj",
-                "kqw",
-                "gam",
-                "kbs",
-                "kbl",
-                "kyp",
-                "kcp",
-                "kkv",
-                "igm",
-                "kxs",
-                "kty",
-                "kzy",
-                "xnr",
-                "ktk",
-                "kev",
-                "kdp",
-                "kzo",
-                "knr",
-                "wat",
-                "kmu",
-                "kft",
-                "kbe",
-                "kne",
-                "kfi",
-                "kan",
-                "kxn",
-                "kxo",
-                "ksk",
-                "xkt",
-                "khx",
-                "kni",
-                "kau",
-                "kny",
-                "kax",
-                "kqn",
-                "ykm",
-                "tbx",
-                "xpn",
-                "kpg",
-                "khp",
-                "dju",
-                "kbi",
-                "klo",
-                "cak",
-                "kah",
-                "zra",
-                "leu",
-                "reg",
-                "kaa",
-                "krc",
-                "kim",
-                "kdr",
-                "gbd",
-                "kpj",
-                "xqa",
-                "xar",
-                "kdj",
-                "kzr",
-                "kth",
-                "zkk",
-                "kyj",
-                "kgv",
-                "kpt",
-                "xrw",
-                "mjw",
-                "kbn",
-                "kmf",
-                "kai",
-                "krl",
-                "kar",
-                "eaa",
-                "kyd",
-                "kbj",
-                "kgn",
-                "kuq",
-                "kmv",
-                "kgm",
-                "kzw",
-                "ktn",
-                "kil",
-                "vka",
-                "yuj",
-                "krb",
-                "kko",
-                "bbv",
-                "arr",
-                "kxh",
-                "kyh",
-                "kgw",
-                "krx",
-                "xkx",
-                "rxw",
-                "ccj",
-                "xsm",
-                "kju",
-                "kas",
-                "csb",
-                "ksn",
-                "kkz",
-                "zsk",
-                "khs",
-                "ktq",
-                "xat",
-                "tmb",
-                "xtc",
-                "tkt",
-                "ykt",
-                "bsh",
-                "kfu",
-                "kcr",
-                "ktw",
-                "kaf",
-                "kta",
-                "kav",
-                "pss",
-                "vkk",
-                "bpp",
-                "zku",
-                "xau",
-                "ckv",
-                "krv",
-                "kcb",
-                "xaw",
-                "kgb",
-                "kaw",
-                "ktx",
-                "kbb",
-                "kyz",
-                "kyt",
-                "xay",
-                "xkn",
-                "pdu",
-                "txu",
-                "gyd",
-                "kvl",
-                "kzl",
-                "kxy",
-                "kyv",
-                "gbb",
-                "kzu",
-                "kaz",
-                "kzk",
-                "xxk",
-                "keh",
-                "khz",
-                "meo",
-                "ksx",
-                "kdy",
-                "wkr",
-                "khh",
-                "kei",
-                "kec",
-                "bmh",
-                "eyo",
-                "kek",
-                "kel",
-                "kcl",
-                "kzi",
-                "khy",
-                "sbc",
-                "ify",
-                "kbo",
-                "xel",
-                "kyo",
-                "kem",
-                "xem",
-                "bzp",
-                "xkw",
-                "dmo",
-                "sjk",
-                "kfj",
-                "kmt",
-                "xbn",
-                "gat",
-                "knx",
-                "klf",
-                "kvm",
-                "kyq",
-                "kxi",
-                "knl",
-                "kns",
-                "ndb",
-                "xki",
-                "ken",
-                "lke",
-                "xnz",
-                "xeu",
-                "kpn",
-                "kuk",
-                "ker",
-                "hhr",
-                "xke",
-                "krk",
-                "ked",
-                "kxz",
-                "kvr",
-                "xes",
-                "ket",
-                "kae",
-                "kcv",
-                "xte",
-                "ktt",
-                "kyg",
-                "xkv",
-                "hkh",
-                "kjh",
-                "klj",
-                "klr",
-                "kbg",
-                "khg",
-                "kht",
-                "ksu",
-                "ogo",
-                "khn",
-                "kca",
-                "xao",
-                "kfw",
-                "ksy",
-                "khr",
-                "kha",
-                "lko",
-                "zkz",
-                "kqg",
-                "tlx",
-                "xkf",
-                "xhe",
-                "nkh",
-                "kix",
-                "kjj",
-                "kwx",
-                "kqm",
-                "ykl",
-                "khm",
-                "kjg",
-                "xkc",
-                "naq",
-                "nkb",
-                "khi",
-                "ktc",
-                "kmz",
-                "zkh",
-                "kho",
-                "khw",
-                "xhv",
-                "khf",
-                "cnk",
-                "kfm",
-                "khv",
-                "kjm",
-                "kkh",
-                "blv",
-                "kie",
-                "prm",
-                "kic",
-                "gia",
-                "kzg",
-                "kik",
-                "sjd",
-                "kij",
-                "klb",
-                "kih",
-                "mji",
-                "kia",
-                "kig",
-                "kqr",
-                "kiv",
-                "kmb",
-                "sbt",
-                "kqp",
-                "cbw",
-                "kco",
-                "mkx",
-                "krj",
-                "zga",
-                "kfk",
-                "knq",
-                "kkd",
-                "kin",
-                "ues",
-                "kkm",
-                "xko",
-                "apk",
-                "kio",
-                "sgc",
-                "kyi",
-                "kkr",
-                "geb",
-                "kir",
-                "okr",
-                "kiy",
-                "kiu",
-                "fkk",
-                "kis",
-                "lks",
-                "xis",
-                "kqh",
-                "kje",
-                "kiz",
-                "gru",
-                "mwk",
-                "zkt",
-                "kii",
-                "mkw",
-                "ktu",
-                "wei",
-                "lda",
-                "kla",
-                "klu",
-                "kqt",
-                "tlh",
-                "czk",
-                "fuj",
-                "kib",
-                "cku",
-                "kpd",
-                "kcj",
-                "okc",
-                "kgu",
-                "kpw",
-                "kdq",
-                "thq",
-                "cdz",
-                "ksz",
-                "kfa",
-                "vko",
-                "kod",
-                "kwp",
-                "kcs",
-                "kso",
-                "kpi",
-                "kwl",
-                "zkg",
-                "kkx",
-                "plk",
-                "kpm",
-                "bcs",
-                "kkt",
-                "zkb",
-                "nkd",
-                "kqi",
-                "kxt",
-                "trp",
-                "gko",
-                "ktd",
-                "kou",
-                "nxk",
-                "okg",
-                "xod",
-                "kzn",
-                "kkk",
-                "ekl",
-                "biw",
-                "kol",
-                "kvv",
-                "klc",
-                "skn",
-                "klx",
-                "bkm",
-                "kmm",
-                "kmy",
-                "kpf",
-                "tyn",
-                "xbi",
-                "kge",
-                "kom",
-                "koi",
-                "kpv",
-                "xoi",
-                "kmw",
-                "xom",
-                "kvh",
-                "kvp",
-                "kzv",
-                "kkn",
-                "kxw",
-                "knd",
-                "kfc",
-                "kdw",
-                "kon",
-                "knn",
-                "kok",
-                "xon",
-                "kma",
-                "knu",
-                "klk",
-                "kno",
-                "koa",
-                "kcz",
-                "kxc",
-                "nbe",
-                "mku",
-                "koo",
-                "kng",
-                "ozm",
-                "kqy",
-                "xop",
-                "opk",
-                "kpr",
-                "koz",
-                "kqz",
-                "kcy",
-                "kdo",
-                "kvk",
-                "kor",
-                "coe",
-                "okh",
-                "kfq",
-                "vkp",
-                "kfo",
-                "jkr",
-                "kxr",
-                "krf",
-                "vkn",
-                "bqv",
-                "vkz",
-                "kfz",
-                "kqj",
-                "bpr",
-                "xkq",
-                "krp",
-                "xxr",
-                "ktl",
-                "khe",
-                "kfd",
-                "xor",
-                "kpq",
-                "kfp",
-                "kpy",
-                "kiq",
-                "kkl",
-                "kze",
-                "kid",
-                "kos",
-                "koq",
-                "kfe",
-                "mqg",
-                "grm",
-                "kqk",
-                "avk",
-                "eko",
-                "zko",
-                "snz",
-                "kyf",
-                "kqb",
-                "kvc",
-                "xow",
-                "kwh",
-                "kqd",
-                "kff",
-                "kga",
-                "koh",
-                "khq",
-                "ses",
-                "koy",
-                "kuw",
-                "kpl",
-                "kpk",
-                "pbn",
-                "koc",
-                "kym",
-                "cpo",
-                "kpe",
-                "kef",
-                "kph",
-                "kye",
-                "xra",
-                "rka",
-                "kqq",
-                "zkv",
-                "xre",
-                "ngt",
-                "xri",
-                "kri",
-                "rop",
-                "ksi",
-                "kxb",
-                "kgo",
-                "kro",
-                "krr",
-                "jct",
-                "kry",
-                "tyu",
-                "ykn",
-                "yku",
-                "uan",
-                "xnh",
-                "ksd",
-                "kua",
-                "kgf",
-                "kof",
-                "jko",
-                "kvb",
-                "lkc",
-                "kfg",
-                "kyw",
-                "kov",
-                "sqx",
-                "kow",
-                "kes",
-                "xmh",
-                "uki",
-                "kvd",
-                "dkr",
-                "kui",
-                "vkj",
-                "kfn",
-                "kux",
-                "ght",
-                "kez",
-                "kex",
-                "ukv",
-                "xmq",
-                "xmp",
-                "ugb",
-                "uwa",
-                "gvn",
-                "tpg",
-                "kul",
-                "kxj",
-                "xpk",
-                "vkl",
-                "kfx",
-                "uun",
-                "kle",
-                "bbu",
-                "ksl",
-                "kdi",
-                "kue",
-                "qwm",
-                "kfy",
-                "kmj",
-                "ksm",
-                "kgs",
-                "wkb",
-                "xks",
-                "kra",
-                "dih",
-                "kuo",
-                "kum",
-                "zum",
-                "kun",
-                "wlg",
-                "kdn",
-                "shd",
-                "wku",
-                "kfl",
-                "knw",
-                "ggk",
-                "gdt",
-                "kgl",
-                "lku",
-                "kse",
-                "kvg",
-                "xug",
-                "kup",
-                "pep",
-                "kjn",
-                "njx",
-                "kuz",
-                "xuo",
-                "kto",
-                "kug",
-                "mkn",
-                "key",
-                "kpz",
-                "kuv",
-                "nqk",
-                "krh",
-                "knk",
-                "kur",
-                "nbn",
-                "kuj",
-                "kfh",
-                "kfv",
-                "unn",
-                "vku",
-                "ktm",
-                "xkz",
-                "kjr",
-                "kru",
-                "kyr",
-                "kus",
-                "ksg",
-                "kuh",
-                "ksv",
-                "kgg",
-                "kut",
-                "kub",
-                "xut",
-                "skm",
-                "kpa",
-                "kdc",
-                "khj",
-                "thd",
-                "uky",
-                "kuy",
-                "olu",
-                "kxv",
-                "blh",
-                "cwt",
-                "woa",
-                "kdt",
-                "fkv",
-                "wka",
-                "kwb",
-                "bko",
-                "ksq",
-                "kwz",
-                "kwd",
-                "kdz",
-                "kwk",
-                "kwu",
-                "qwt",
-                "kmq",
-                "kwm",
-                "tnk",
-                "ktf",
-                "okk",
-                "xdo",
-                "kvi",
-                "kwj",
-                "kwn",
-                "knp",
-                "kwf",
-                "nmg",
-                "kya",
-                "xwa",
-                "xwg",
-                "kwr",
-                "xwr",
-                "kwe",
-                "cwe",
-                "kkb",
-                "kws",
-                "kwt",
-                "gww",
-                "kuc",
-                "kww",
-                "kmo",
-                "kwo",
-                "xuu",
-                "bka",
-                "kyc",
-                "nqq",
-                "tye",
-                "kql",
-                "kgy",
-                "kmg",
-                "keb",
-                "ksh",
-                "bzx",
-                "lbi",
-                "gdm",
-                "ldi",
-                "lau",
-                "lbb",
-                "jku",
-                "ypb",
-                "mwi",
-                "lbu",
-                "dtb",
-                "lac",
-                "lbt",
-                "zpa",
-                "zpl",
-                "lbj",
-                "lld",
-                "lad",
-                "llj",
-                "lkl",
-                "laf",
-                "lgb",
-                "lgh",
-                "kot",
-                "lhh",
-                "lha",
-                "lhn",
-                "lah",
-                "kvt",
-                "lhi",
-                "lhu",
-                "lhl",
-                "lmx",
-                "clj",
-                "lji",
-                "lbe",
-                "lap",
-                "lak",
-                "lka",
-                "lmw",
-                "lkh",
-                "lki",
-                "lbc",
-                "lkn",
-                "lkd",
-                "dic",
-                "lkt",
-                "lxm",
-                "nrz",
-                "leb",
-                "lla",
-                "cnl",
-                "lal",
-                "las",
-                "lay",
-                "slp",
-                "lby",
-                "lmr",
-                "hia",
-                "lmq",
-                "lam",
-                "lmn",
-                "quf",
-                "lmh",
-                "lmy",
-                "lai",
-                "bma",
-                "lmu",
-                "ldh",
-                "lmk",
-                "lev",
-                "lns",
-                "lmg",
-                "ljp",
-                "abl",
-                "llh",
-                "ruu",
-                "day",
-                "ldm",
-                "yne",
-                "lnm",
-                "lna",
-                "lag",
-                "yln",
-                "lno",
-                "laj",
-                "lng",
-                "sfb",
-                "lnw",
-                "lnh",
-                "nlq",
-                "lao",
-                "lwm",
-                "lbg",
-                "lso",
-                "ztl",
-                "lrg",
-                "lrt",
-                "lbz",
-                "lrv",
-                "hmd",
-                "lrl",
-                "alo",
-                "lro",
-                "lar",
-                "lan",
-                "llm",
-                "lsa",
-                "lsi",
-                "lss",
-                "ltc",
-                "ltg",
-                "lat",
-                "ltu",
-                "ltn",
-                "lsl",
-                "lav",
-                "llu",
-                "luf",
-                "llx",
-                "law",
-                "lur",
-                "lre",
-                "clt",
-                "lbv",
-                "brb",
-                "lbo",
-                "lvi",
-                "lvk",
-                "lbx",
-                "lwu",
-                "tgi",
-                "lya",
-                "lzz",
-                "cle",
-                "lec",
-                "lew",
-                "ldk",
-                "lfa",
-                "lgm",
-                "lea",
-                "agb",
-                "lcc",
-                "tql",
-                "urr",
-                "cae",
-                "lzn",
-                "lek",
-                "llk",
-                "lln",
-                "lel",
-                "llc",
-                "lle",
-                "lef",
-                "lpa",
-                "leq",
-                "lrz",
-                "lei",
-                "xle",
-                "ley",
-                "ldj",
-                "tnl",
-                "len",
-                "led",
-                "lgi",
-                "lgr",
-                "lej",
-                "lnj",
-                "leh",
-                "ler",
-                "ldg",
-                "lep",
-                "lpe",
-                "xlp",
-                "gnh",
-                "les",
-                "let",
-                "nms",
-                "leo",
-                "lti",
-                "lvu",
-                "lwe",
-                "lww",
-                "lwt",
-                "ayi",
-                "lez",
-                "lhp",
-                "lhm",
-                "ljl",
-                "lix",
-                "ste",
-                "njn",
-                "zln",
-                "xpe",
-                "lir",
-                "liq",
-                "liz",
-                "lbl",
-                "xli",
-                "ayl",
-                "lbs",
-                "add",
-                "lig",
-                "lgz",
-                "xlg",
-                "lij",
-                "lih",
-                "mgi",
-                "lik",
-                "lio",
-                "lie",
-                "kxx",
-                "lib",
-                "kwc",
-                "lll",
-                "lil",
-                "bme",
-                "lif",
-                "lmp",
-                "lim",
-                "ylm",
-                "lmc",
-                "kmk",
-                "lab",
-                "lin",
-                "onb",
-                "lgk",
-                "lfn",
-                "pml",
-                "apl",
-                "lpo",
-                "lcs",
-                "lcl",
-                "lsh",
-                "lsd",
-                "aij",
-                "trg",
-                "lis",
-                "lzh",
-                "lls",
-                "lit",
-                "lzl",
-                "zlj",
-                "zlq",
-                "liv",
-                "olo",
-                "lht",
-                "lrk",
-                "loq",
-                "lob",
-                "lbm",
-                "lgq",
-                "log",
-                "lof",
-                "rag",
-                "liu",
-                "src",
-                "lbr",
-                "qvj",
-                "jbo",
-                "yaz",
-                "loy",
-                "lok",
-                "lky",
-                "lcd",
-                "llq",
-                "llg",
-                "llb",
-                "loa",
-                "ycl",
-                "loi",
-                "lom",
-                "lmv",
-                "rmi",
-                "lmo",
-                "lmi",
-                "loo",
-                "ngl",
-                "lce",
-                "lpn",
-                "ttw",
-                "lgu",
-                "wok",
-                "lnu",
-                "los",
-                "crc",
-                "lnz",
-                "ldo",
-                "lop",
-                "lov",
-                "lpx",
-                "lrn",
-                "lnn",
-                "spq",
-                "uvl",
-                "njh",
-                "dtr",
-                "loj",
-                "lou",
-                "lox",
-                "xlo",
-                "xlb",
-                "nds",
-                "xbb",
-                "cea",
-                "dni",
-                "nsb",
-                "sli",
-                "dsb",
-                "axl",
-                "tto",
-                "taa",
-                "clo",
-                "tac",
-                "ztp",
-                "loz",
-                "lex",
-                "lub",
-                "lua",
-                "kcc",
-                "lcf",
-                "knb",
-                "lch",
-                "luq",
-                "lud",
-                "ldq",
-                "lgg",
-                "ruf",
-                "lcq",
-                "lum",
-                "lui",
-                "dop",
-                "smj",
-                "ule",
-                "luu",
-                "lup",
-                "lmd",
-                "luj",
-                "luk",
-                "lun",
-                "lnd",
-                "vmg",
-                "lga",
-                "luw",
-                "luo",
-                "hml",
-                "ldd",
-                "lse",
-                "lus",
-                "lut",
-                "khl",
-                "xls",
-                "ndy",
-                "lue",
-                "luv",
-                "lwo",
-                "ltz",
-                "lyn",
-                "luy",
-                "lwa",
-                "xlc",
-                "xld",
-                "lyg",
-                "lee",
-                "ldn",
-                "bwj",
-                "khb",
-                "msj",
-                "mjn",
-                "skc",
-                "mhy",
-                "mhi",
-                "slz",
-                "cma",
-                "mew",
-                "ffm",
-                "ymm",
-                "mde",
-                "mqa",
-                "mmz",
-                "mfz",
-                "kkg",
-                "muj",
-                "mca",
-                "mcl",
-                "mbn",
-                "mzs",
-                "rup",
-                "mac",
-                "jmc",
-                "mcb",
-                "mpd",
-                "mvw",
-                "wpc",
-                "myy",
-                "mbc",
-                "mxu",
-                "mda",
-                "mzc",
-                "mmx",
-                "xmx",
-                "dmd",
-                "grg",
-                "mad",
-                "mme",
-                "hmk",
-                "itt",
-                "maf",
-                "mkv",
-                "blx",
-                "sgb",
-                "mag",
-                "ayt",
-                "xtm",
-                "gmx",
-                "zgr",
-                "mdh",
-                "gkd",
-                "gmg",
-                "mjx",
-                "bfz",
-                "mjy",
-                "mhb",
-                "mxx",
-                "ayz",
-                "sks",
-                "mzz",
-                "tnh",
-                "mmm",
-                "mgu",
-                "cwb",
-                "vmf",
-                "xkl",
-                "zrs",
-                "mbq",
-                "mai",
-                "wmm",
-                "mti",
-                "mum",
-                "mpe",
-                "xmj",
-                "mjz",
-                "mmj",
-                "kmd",
-                "mkg",
-                "pbl",
-                "mcp",
-                "myh",
-                "mjb",
-                "mkz",
-                "mak",
-                "mfp",
-                "aup",
-                "vmw",
-                "xmc",
-                "mgh",
-                "mhm",
-                "xsq",
-                "vmk",
-                "mgf",
-                "zmh",
-                "kde",
-                "lva",
-                "jmn",
-                "mpu",
-                "ymk",
-                "umn",
-                "mkb",
-                "mlf",
-                "ruy",
-                "ped",
-                "ima",
-                "ccm",
-                "mcm",
-                "mlg",
-                "mpb",
-                "mmt",
-                "mln",
-                "mjo",
-                "mjp",
-                "mjq",
-                "mkr",
-                "ymr",
-                "mjr",
-                "lon",
-                "swk",
-                "lws",
-                "zlm",
-                "may",
-                "mal",
-                "xdy",
-                "mlz",
-                "mbp",
-                "poz",
-                "xml",
-                "bfo",
-                "mdy",
-                "mdc",
-                "pqm",
-                "pkt",
-                "mgl",
-                "mlx",
-                "vml",
-                "mxf",
-                "gcc",
-                "mgq",
-                "mzd",
-                "mli",
-                "tcf",
-                "mla",
-                "mbk",
-                "mdl",
-                "mlt",
-                "mll",
-                "mup",
-                "yga",
-                "gut",
-                "mam",
-                "mma",
-                "mhf",
-                "wmd",
-                "mmn",
-                "myk",
-                "mqj",
-                "mgm",
-                "mcs",
-                "mvd",
-                "mgr",
-                "maw",
-                "mqx",
-                "emm",
-                "kdf",
-                "mdi",
-                "mml",
-                "xmm",
-                "mva",
-                "mle",
-                "nmm",
-                "znk",
-                "mnc",
-                "zma",
-                "mha",
-                "mgs",
-                "mht",
-                "mid",
-                "mhq",
-                "zmk",
-                "mdr",
-                "tbf",
-                "mqu",
-                "cmn",
-                "mry",
-                "dmn",
-                "mjl",
-                "mqr",
-                "man",
-                "mnk",
-                "mfv",
-                "aax",
-                "bwp",
-                "jet",
-                "zng",
-                "kby",
-                "mem",
-                "mrv",
-                "mpc",
-                "zns",
-                "myj",
-                "mdj",
-                "mdk",
-                "zme",
-                "mmo",
-                "mqy",
-                "mge",
-                "mqc",
-                "mbh",
-                "mom",
-                "xmn",
-                "abd",
-                "mnx",
-                "mqp",
-                "mni",
-                "knf",
-                "nlm",
-                "mju",
-                "mjv",
-                "mev",
-                "mno",
-                "woo",
-                "msk",
-                "mns",
-                "msw",
-                "myg",
-                "nty",
-                "kxf",
-                "glv",
-                "mzj",
-                "mny",
-                "mxc",
-                "mzv",
-                "nbi",
-                "mmd",
-                "swb",
-                "mao",
-                "mlh",
-                "mnm",
-                "mpy",
-                "mpw",
-                "bzh",
-                "mcg",
-                "arn",
-                "sjm",
-                "mch",
-                "mrh",
-                "lri",
-                "vmh",
-                "mrs",
-                "nma",
-                "lrm",
-                "mrw",
-                "zmr",
-                "mgb",
-                "mar",
-                "mvr",
-                "mpg",
-                "mrx",
-                "vmr",
-                "mvu",
-                "zmc",
-                "mrt",
-                "mfm",
-                "qvm",
-                "mhg",
-                "mbx",
-                "hob",
-                "chm",
-                "mrr",
-                "mds",
-                "mrc",
-                "zmd",
-                "zmj",
-                "dad",
-                "zmm",
-                "mrz",
-                "nng",
-                "mbw",
-                "zmt",
-                "mrb",
-                "mqi",
-                "nsr",
-                "msp",
-                "zmy",
-                "rkm",
-                "enb",
-                "rmz",
-                "mvo",
-                "mec",
-                "xru",
-                "mfr",
-                "umc",
-                "mah",
-                "ims",
-                "mre",
-                "zmg",
-                "mpj",
-                "vma",
-                "mhx",
-                "rwr",
-                "mve",
-                "mwr",
-                "mzr",
-                "myx",
-                "tis",
-                "mas",
-                "mls",
-                "mcn",
-                "msb",
-                "cuj",
-                "jms",
-                "mho",
-                "msh",
-                "ism",
-                "bnf",
-                "klv",
-                "msv",
-                "mes",
-                "mdg",
-                "mvs",
-                "mtn",
-                "mfh",
-                "xmt",
-                "mgv",
-                "mqe",
-                "mbt",
-                "mzo",
-                "zml",
-                "axg",
-                "met",
-                "mtm",
-                "mcf",
-                "mvb",
-                "hlt",
-                "mjk",
-                "mgw",
-                "stj",
-                "mpq",
-                "mph",
-                "lsy",
-                "mhl",
-                "mcw",
-                "wma",
-                "mjj",
-                "mcz",
-                "mzx",
-                "mke",
-                "mgk",
-                "mbl",
-                "mxl",
-                "sym",
-                "xmy",
-                "myn",
-                "yan",
-                "yxa",
-                "myc",
-                "xyk",
-                "xyt",
-                "xyj",
-                "mfy",
-                "mdm",
-                "ifu",
-                "dkx",
-                "zpy",
-                "mzn",
-                "vmz",
-                "mzl",
-                "mfc",
-                "mdp",
-                "lnb",
-                "zmz",
-                "mxg",
-                "mgn",
-                "zmn",
-                "mvl",
-                "mpk",
-                "zmv",
-                "mdn",
-                "gwa",
-                "myb",
-                "mfo",
-                "mtk",
-                "mql",
-                "mdt",
-                "zms",
-                "emz",
-                "mbo",
-                "zmw",
-                "moi",
-                "mdu",
-                "mdq",
-                "xmb",
-                "bgu",
-                "mdw",
-                "mxo",
-                "mka",
-                "xmd",
-                "mhd",
-                "mgz",
-                "mqb",
-                "mhw",
-                "mna",
-                "mbu",
-                "mlb",
-                "mbv",
-                "mdd",
-                "mck",
-                "mgy",
-                "bbt",
-                "mfu",
-                "gun",
-                "mym",
-                "mjm",
-                "dmf",
-                "mue",
-                "xme",
-                "mud",
-                "byv",
-                "mfj",
-                "mef",
-                "ruq",
-                "nux",
-                "mmh",
-                "gdq",
-                "mek",
-                "mvk",
-                "msf",
-                "hkn",
-                "mxe",
-                "mfx",
-                "med",
-                "mby",
-                "xkd",
-                "mfd",
-                "sim",
-                "men",
-                "xmg",
-                "mee",
-                "mct",
-                "mea",
-                "mez",
-                "mwv",
-                "mcr",
-                "mvx",
-                "mnu",
-                "mxm",
-                "lmb",
-                "meq",
-                "ulk",
-                "mrm",
-                "xmr",
-                "mer",
-                "wry",
-                "iyo",
-                "apm",
-                "mci",
-                "sac",
-                "zim",
-                "mys",
-                "acm",
-                "mvz",
-                "cms",
-                "mgo",
-                "mxv",
-                "mtr",
-                "wtm",
-                "mfs",
-                "mej",
-                "pbe",
-                "ote",
-                "zmf",
-                "nfu",
-                "gmz",
-                "mic",
-                "zam",
-                "mia",
-                "mpt",
-                "pla",
-                "crg",
-                "cmm",
-                "mmc",
-                "ncl",
-                "dnt",
-                "bjo",
-                "axm",
-                "xbm",
-                "cnx",
-                "dum",
-                "enm",
-                "frm",
-                "gmh",
-                "htx",
-                "mga",
-                "okm",
-                "gml",
-                "xng",
-                "nwx",
-                "mpl",
-                "wlm",
-                "mei",
-                "mmy",
-                "mpp",
-                "klm",
-                "mxj",
-                "mik",
-                "ymh",
-                "mlj",
-                "iml",
-                "imy",
-                "mnp",
-                "cdo",
-                "nan",
-                "czo",
-                "hna",
-                "inm",
-                "xrg",
-                "min",
-                "mcv",
-                "mvn",
-                "drc",
-                "mpn",
-                "mko",
-                "xmf",
-                "hto",
-                "wii",
-                "xjb",
-                "xxm",
-                "omn",
-                "mqq",
-                "mnq",
-                "mzt",
-                "zgm",
-                "yiq",
-                "mwl",
-                "rbl",
-                "zrg",
-                "mmv",
-                "rsm",
-                "mep",
-                "gmr",
-                "mjs",
-                "mpx",
-                "mrg",
-                "zaw",
-                "vmm",
-                "mwu",
-                "zmq",
-                "mpo",
-                "vmi",
-                "gac",
-                "mix",
-                "zpm",
-                "mkf",
-                "mvi",
-                "ehs",
-                "soy",
-                "mra",
-                "lhs",
-                "kja",
-                "mlo",
-                "mmu",
-                "bfm",
-                "gbn",
-                "obm",
-                "mfq",
-                "mod",
-                "ahm",
-                "jkm",
-                "old",
-                "omc",
-                "mhc",
-                "moc",
-                "mxd",
-                "gre",
-                "mqo",
-                "mvq",
-                "mif",
-                "mhj",
-                "mfg",
-                "mou",
-                "mov",
-                "moh",
-                "xpq",
-                "mow",
-                "mxn",
-                "mkp",
-                "mwz",
-                "ymi",
-                "mqt",
-                "mwt",
-                "mft",
-                "mkj",
-                "mkm",
-                "mkl",
-                "bri",
-                "vms",
-                "mdf",
-                "mbe",
-                "pwm",
-                "vsi",
-                "bxc",
-                "mox",
-                "aun",
-                "zmo",
-                "msl",
-                "mlw",
-                "ver",
-                "myl",
-                "msz",
-                "dmb",
-                "mso",
-                "mmb",
-                "mqf",
-                "mnw",
-                "mkh",
-                "mzg",
-                "npn",
-                "mnd",
-                "lol",
-                "mgt",
-                "bxm",
-                "msr",
-                "xgn",
-                "mon",
-                "mog",
-                "mnz",
-                "mru",
-                "mnh",
-                "mte",
-                "mnr",
-                "moo",
-                "nmh",
-                "cnr",
-                "mtl",
-                "mxk",
-                "moj",
-                "gwg",
-                "crm",
-                "mop",
-                "moq",
-                "mhz",
-                "msg",
-                "mze",
-                "nhm",
-                "xmo",
-                "msx",
-                "mzq",
-                "xmz",
-                "mdb",
-                "mfe",
-                "mor",
-                "ary",
-                "xms",
-                "mgc",
-                "bdo",
-                "mqn",
-                "mok",
-                "mrp",
-                "umg",
-                "mrl",
-                "mgd",
-                "mqv",
-                "mtj",
-                "mos",
-                "mtt",
-                "mlv",
-                "meu",
-                "mwh",
-                "cty",
-                "kpx",
-                "jmw",
-                "mzp",
-                "ity",
-                "nmo",
-                "mzy",
-                "mxi",
-                "mpi",
-                "xpj",
-                "mpz",
-                "mcx",
-                "pnd",
-                "mpa",
-                "mvt",
-                "mgg",
-                "zmp",
-                "akc",
-                "cmr",
-                "mro",
-                "kqx",
-                "atl",
-                "agz",
-                "ukk",
-                "mtd",
-                "tsx",
-                "mub",
-                "ymd",
-                "dmw",
-                "gau",
-                "vmd",
-                "udg",
-                "aoj",
-                "muk",
-                "bmr",
-                "mmk",
-                "moz",
-                "mfw",
-                "mlm",
-                "giu",
-                "mvh",
-                "kpb",
-                "mul",
-                "vmu",
-                "kqa",
-                "mzm",
-                "mnb",
-                "mun",
-                "unx",
-                "boe",
-                "mua",
-                "mnf",
-                "unr",
-                "mmf",
-                "myu",
-                "mhk",
-                "mth",
-                "mpv",
-                "myr",
-                "mtc",
-                "mnj",
-                "umu",
-                "mtq",
-                "tkv",
-                "asx",
-                "mxr",
-                "mtf",
-                "rmh",
-                "mur",
-                "mwf",
-                "muz",
-                "huu",
-                "mqw",
-                "zmu",
-                "mmq",
-                "mmi",
-                "smm",
-                "mse",
-                "mug",
-                "xma",
-                "mui",
-                "mje",
-                "ttt",
-                "msu",
-                "emi",
-                "muv",
-                "tuc",
-                "muy",
-                "myw",
-                "ymz",
-                "mcj",
-                "mxh",
-                "sur",
-                "wlc",
-                "moa",
-                "wmw",
-                "mwa",
-                "mwe",
-                "mjh",
-                "mws",
-                "ysm",
-                "gmy",
-                "mye",
-                "yms",
-                "nme",
-                "gmd",
-                "xak",
-                "tnr",
-                "miq",
-                "mhn",
-                "mwq",
-                "muh",
-                "pmh",
-                "nqo",
-                "nbt",
-                "xnd",
-                "nck",
-                "nao",
-                "bzv",
-                "nas",
-                "mne",
-                "naf",
-                "mty",
-                "ncd",
-                "ndf",
-                "mbj",
-                "nfr",
-                "srf",
-                "nxx",
-                "jbn",
-                "nag",
-                "nbg",
-                "nxe",
-                "ngv",
-                "nlx",
-                "nhh",
-                "nah",
-                "bio",
-                "ars",
-                "nae",
-                "nkj",
-                "nib",
-                "nak",
-                "nbk",
-                "mff",
-                "nax",
-                "nlc",
-                "nss",
-                "nal",
-                "naj",
-                "ylo",
-                "nlz",
-                "nmx",
-                "nmk",
-                "nkm",
-                "ncm",
-                "nmq",
-                "nnm",
-                "nvm",
-                "nbs",
-                "naa",
-                "mxw",
-                "nmt",
-                "bwb",
-                "nmy",
-                "gld",
-                "nnc",
-                "nnb",
-                "niq",
-                "sen",
-                "nzz",
-                "nnk",
-                "cox",
-                "nnt",
-                "afk",
-                "qvo",
-                "npy",
-                "npa",
-                "nrb",
-                "nac",
-                "nrg",
-                "rnr",
-                "loh",
-                "nhr",
-                "nrm",
-                "xnt",
-                "nru",
-                "nnr",
-                "nsy",
-                "nvh",
-                "nsk",
-                "ntz",
-                "ncz",
-                "ntm",
-                "nte",
-                "nti",
-                "ntu",
-                "nxa",
-                "ynk",
-                "ncn",
-                "nwo",
-                "nau",
-                "nav",
-                "nsw",
-                "nwr",
-                "nwa",
-                "nmz",
-                "naw",
-                "nxq",
-                "noz",
-                "nyq",
-                "ncr",
-                "nlu",
-                "nnz",
-                "gke",
-                "ndk",
-                "ndh",
-                "ndm",
-                "ndj",
-                "nxo",
-                "nda",
-                "ndc",
-                "ned",
-                "ndd",
-                "nml",
-                "dne",
-                "ndg",
-                "eli",
-                "ndp",
-                "ndw",
-                "nbb",
-                "ndz",
-                "ndl",
-                "nqm",
-                "ndq",
-                "njd",
-                "ndo",
-                "ndr",
-                "dgt",
-                "dno",
-                "ndx",
-                "nmd",
-                "nuh",
-                "ndt",
-                "ndv",
-                "njt",
-                "wni",
-                "nap",
-                "nec",
-                "nef",
-                "dcr",
-                "zmi",
-                "neg",
-                "nsn",
-                "nif",
-                "nkg",
-                "nej",
-                "nek",
-                "gsn",
-                "nex",
-                "nem",
-                "nqn",
-                "anh",
-                "yrk",
-                "nen",
-                "neu",
-                "nei",
-                "nsp",
-                "npi",
-                "nep",
-                "net",
-                "jas",
-                "nzs",
-                "new",
-                "ney",
-                "nez",
-                "ntj",
-                "nxg",
-                "nju",
-                "jui",
-                "nnf",
-                "nij",
-                "nud",
-                "nig",
-                "szb",
-                "nmc",
-                "nbv",
-                "sba",
-                "nmv",
-                "nbh",
-                "nam",
-                "xnk",
-                "nio",
-                "nid",
-                "ngd",
-                "nxd",
-                "nne",
-                "gng",
-                "ntg",
-                "nyx",
-                "rxd",
-                "xni",
-                "ung",
-                "nbj",
-                "nrk",
-                "nrl",
-                "nay",
-                "anc",
-                "nsg",
-                "ngm",
-                "cnw",
-                "nxn",
-                "nwg",
-                "zdj",
-                "nbm",
-                "ngg",
-                "nga",
-                "jgb",
-                "nbd",
-                "nuu",
-                "agh",
-                "nge",
-                "gnj",
-                "nql",
-                "nnn",
-                "nbq",
-                "ngx",
-                "ngj",
-                "nnh",
-                "jle",
-                "nnq",
-                "niy",
-                "ngi",
-                "kcd",
-                "nra",
-                "jgo",
-                "nla",
-                "nmj",
-                "ngc",
-                "noq",
-                "xnq",
-                "xnj",
-                "nsh",
-                "nlo",
-                "ngp",
-                "nuw",
-                "xnm",
-                "nui",
-                "xul",
-                "ndn",
-                "nue",
-                "ngz",
-                "ngq",
-                "nrx",
-                "nuo",
-                "ngw",
-                "nwe",
-                "ngn",
-                "gym",
-                "nha",
-                "yrl",
-                "hrp",
-                "nhf",
-                "nia",
-                "bzk",
-                "ncs",
-                "nie",
-                "nic",
-                "mzk",
-                "fuv",
-                "pcm",
-                "nsi",
-                "nll",
-                "nii",
-                "gbe",
-                "nil",
-                "nim",
-                "ssa",
-                "noe",
-                "nmp",
-                "nmr",
-                "nir",
-                "nis",
-                "niw",
-                "nmw",
-                "shb",
-                "nxi",
-                "nby",
-                "nxr",
-                "niz",
-                "nlk",
-                "nin",
-                "nps",
-                "njs",
-                "nsz",
-                "ncg",
-                "yso",
-                "num",
-                "nkp",
-                "niu",
-                "cag",
-                "hrc",
-                "njl",
-                "nzb",
-                "njj",
-                "njr",
-                "njy",
-                "nkq",
-                "nkn",
-                "nkz",
-                "isi",
-                "khu",
-                "nkc",
-                "nko",
-                "nkx",
-                "nka",
-                "nbo",
-                "nkw",
-                "nbp",
-                "zxx",
-                "fia",
-                "gaw",
-                "nom",
-                "njb",
-                "nog",
-                "npx",
-                "noi",
-                "nkk",
-                "lem",
-                "nof",
-                "not",
-                "nol",
-                "noh",
-                "zhn",
-                "noj",
-                "nok",
-                "snf",
-                "nhu",
-                "cya",
-                "nrc",
-                "nrn",
-                "nrr",
-                "esi",
-                "mmg",
-                "nai",
-                "nks",
-                "yir",
-                "azj",
-                "bcd",
-                "qul",
-                "ccn",
-                "neq",
-                "llp",
-                "fll",
-                "gmq",
-                "gis",
-                "qvn",
-                "apc",
-                "mrq",
-                "ayp",
-                "xph",
-                "mfk",
-                "max",
-                "kti",
-                "nde",
-                "nni",
-                "nrp",
-                "scs",
-                "tbg",
-                "tnn",
-                "whg",
-                "una",
-                "kiw",
-                "nmu",
-                "aee",
-                "dip",
-                "pef",
-                "xpb",
-                "tts",
-                "aqn",
-                "atv",
-                "ryn",
-                "bmm",
-                "kyn",
-                "bbo",
-                "rbk",
-                "cts",
-                "qxn",
-                "dgi",
-                "doc",
-                "crl",
-                "emp",
-                "frr",
-                "ghh",
-                "gno",
-                "gbo",
-                "huj",
-                "hdn",
-                "hno",
-                "hmi",
-                "nrt",
-                "xnn",
-                "ncq",
-                "kxm",
-                "kqs",
-                "kmr",
-                "lrc",
-                "hmp",
-                "ymx",
-                "xkb",
-                "ngb",
-                "yiv",
-                "nuv",
-                "nhy",
-                "cst",
-                "onr",
-                "pao",
-                "pmq",
-                "pbu",
-                "qvz",
-                "cnp",
-                "pej",
-                "ncj",
-                "pmi",
-                "hea",
-                "cng",
-                "nnl",
-                "rog",
-                "sme",
-                "nsq",
-                "bks",
-                "stb",
-                "thh",
-                "xpv",
-                "ntp",
-                "nod",
-                "ntd",
-                "twf",
-                "xtn",
-                "tsp",
-                "tji",
-                "ttm",
-                "uzn",
-                "ykg",
-                "esk",
-                "gya",
-                "mjd",
-                "mxa",
-                "glh",
-                "diw",
-                "faz",
-                "kfb",
-                "nsf",
-                "ojb",
-                "tmk",
-                "xpw",
-                "nob",
-                "nno",
-                "nsl",
-                "nor",
-                "bly",
-                "ncf",
-                "ntw",
-                "nwy",
-                "nov",
-                "noy",
-                "nse",
-                "nsc",
-                "nsx",
-                "bud",
-                "nqt",
-                "nto",
-                "baf",
-                "kcn",
-                "nub",
-                "kte",
-                "nus",
-                "nnv",
-                "yas",
-                "noc",
-                "mbr",
-                "klt",
-                "nuc",
-                "nuq",
-                "xnu",
-                "nkr",
-                "nur",
-                "nbr",
-                "nop",
-                "sij",
-                "tgs",
-                "nxm",
-                "kdk",
-                "nut",
-                "nug",
-                "nuy",
-                "rin",
-                "npb",
-                "nup",
-                "nul",
-                "nuf",
-                "nuk",
-                "nwb",
-                "nev",
-                "cbn",
-                "nyy",
-                "nlj",
-                "nmi",
-                "nly",
-                "now",
-                "nwm",
-                "mwn",
-                "nym",
-                "nyk",
-                "nyp",
-                "nyj",
-                "nyc",
-                "nnj",
-                "nyb",
-                "nny",
-                "nna",
-                "nya",
-                "nyn",
-                "yes",
-                "sev",
-                "rim",
-                "nyw",
-                "nyt",
-                "nba",
-                "nye",
-                "neh",
-                "nyl",
-                "nyr",
-                "nih",
-                "nkv",
-                "nkt",
-                "nyh",
-                "lid",
-                "nyg",
-                "njz",
-                "xny",
-                "nvo",
-                "nuj",
-                "muo",
-                "nyd",
-                "nyo",
-                "nyv",
-                "nys",
-                "nyu",
-                "yly",
-                "nzd",
-                "nzy",
-                "nzk",
-                "nja",
-                "nzi",
-                "neo",
-                "nee",
-                "hux",
-                "ngh",
-                "xoc",
-                "tyh",
-                "bzy",
-                "obi",
-                "obl",
-                "obo",
-                "afz",
-                "ann",
-                "obu",
-                "oca",
-                "oci",
-                "mie",
-                "zac",
-                "odk",
-                "ory",
-                "bhf",
-                "kkc",
-                "odu",
-                "oda",
-                "opy",
-                "arc",
-                "ofo",
-                "ogc",
-                "ogb",
-                "ogg",
-                "ogu",
-                "eri",
-                "oia",
-                "oji",
-                "chj",
-                "oka",
-                "okn",
-                "oki",
-                "oks",
-                "okj",
-                "okb",
-                "okd",
-                "kqv",
-                "opa",
-                "okx",
-                "oke",
-                "opm",
-                "oku",
-                "oar",
-                "oav",
-                "obt",
-                "obr",
-                "ocm",
-                "och",
-                "oco",
-                "odt",
-                "ang",
-                "fro",
-                "ofs",
-                "oge",
-                "goh",
-                "oht",
-                "ohu",
-                "sga",
-                "ojp",
-                "okl",
-                "okz",
-                "oko",
-                "olt",
-                "omy",
-                "omp",
-                "omr",
-                "omx",
-                "non",
-                "onw",
-                "oos",
-                "peo",
-                "pro",
-                "orv",
-                "osx",
-                "osp",
-                "osn",
-                "oty",
-                "otb",
-                "otk",
-                "oui",
-                "owl",
-                "ole",
-                "olk",
-                "ong",
-                "olm",
-                "olr",
-                "lul",
-                "iko",
-                "plo",
-                "omg",
-                "oma",
-                "acx",
-                "mbm",
-                "oml",
-                "nht",
-                "omi",
-                "omk",
-                "omv",
-                "omt",
-                "omu",
-                "ona",
-                "one",
-                "oog",
-                "onx",
-                "oni",
-                "onj",
-                "ons",
-                "onn",
-                "ono",
-                "ont",
-                "ojv",
-                "oor",
-                "opo",
-                "opt",
-                "orn",
-                "ors",
-                "sdr",
-                "ore",
-                "org",
-                "ori",
-                "nlv",
-                "orc",
-                "orz",
-                "oru",
-                "orw",
-                "orx",
-                "oac",
-                "ora",
-                "oaa",
-                "okv",
-                "bdu",
-                "oro",
-                "orm",
-                "orh",
-                "bpk",
-                "orr",
-                "ury",
-                "osa",
-                "ost",
-                "osc",
-                "osi",
-                "oso",
-                "oss",
-                "otd",
-                "uta",
-                "oti",
-                "omq",
-                "oto",
-                "otr",
-                "otw",
-                "ota",
-                "lot",
-                "otu",
-                "oum",
-                "oue",
-                "stn",
-                "wsr",
-                "owi",
-                "oyb",
-                "oyy",
-                "oyd",
-                "xpd",
-                "zao",
-                "chz",
-                "pdi",
-                "pqa",
-                "blk",
-                "pha",
-                "drl",
-                "pma",
-                "sig",
-                "pcp",
-                "qvp",
-                "ems",
-                "pac",
-                "pdo",
-                "pkc",
-                "pgn",
-                "pgi",
-                "pae",
-                "pgu",
-                "apf",
-                "phr",
-                "lgt",
-                "phv",
-                "pal",
-                "pta",
-                "pri",
-                "ppi",
-                "pck",
-                "pwn",
-                "pkg",
-                "pkn",
-                "pav",
-                "pks",
-                "jkp",
-                "pku",
-                "abw",
-                "plq",
-                "plr",
-                "cpa",
-                "pau",
-                "pnl",
-                "pln",
-                "pli",
-                "plu",
-                "pcf",
-                "pmd",
-                "fap",
-                "ple",
-                "plz",
-                "bpx",
-                "pmn",
-                "pmb",
-                "pmk",
-                "pmf",
-                "hih",
-                "pam",
-                "att",
-                "pnq",
-                "pnz",
-                "lsp",
-                "par",
-                "qxh",
-                "kre",
-                "psn",
-                "pwb",
-                "pnp",
-                "tdb",
-                "bkj",
-                "pag",
-                "pgs",
-                "png",
-                "slm",
-                "pbr",
-                "pgg",
-                "pnr",
-                "pcg",
-                "pan",
-                "pax",
-                "paz",
-                "pkh",
-                "pnc",
-                "mqz",
-                "knt",
-                "pno",
-                "bfc",
-                "top",
-                "ppn",
-                "dpp",
-                "pas",
-                "pbo",
-                "ppe",
-                "pap",
-                "ppu",
-                "pgz",
-                "pmy",
-                "paa",
-                "ppm",
-                "pzn",
-                "prc",
-                "gug",
-                "pys",
-                "pak",
-                "prf",
-                "paf",
-                "pbg",
-                "prk",
-                "prw",
-                "pch",
-                "pcl",
-                "ppt",
-                "pab",
-                "pcj",
-                "kvx",
-                "pbi",
-                "prp",
-                "prd",
-                "xpr",
-                "paq",
-                "aap",
-                "gvp",
-                "psq",
-                "yac",
-                "pbc",
-                "ptn",
-                "pth",
-                "ptp",
-                "pty",
-                "gfk",
-                "mfa",
-                "lae",
-                "ptq",
-                "pwi",
-                "plh",
-                "pad",
-                "pnk",
-                "bfb",
-                "psm",
-                "pwa",
-                "paw",
-                "pmr",
-                "pai",
-                "pcb",
-                "pay",
-                "xpc",
-                "nso",
-                "ppq",
-                "pel",
-                "bxd",
-                "ata",
-                "ppp",
-                "aoc",
-                "psg",
-                "pek",
-                "ums",
-                "peg",
-                "pdc",
-                "pnh",
-                "ptw",
-                "wet",
-                "pea",
-                "pfe",
-                "mvf",
-                "pip",
-                "psc",
-                "per",
-                "prl",
-                "zpe",
-                "pex",
-                "pey",
-                "mil",
-                "pfl",
-                "prt",
-                "phk",
-                "ypa",
-                "phl",
-                "phq",
-                "phw",
-                "pem",
-                "psp",
-                "phi",
-                "phm",
-                "phn",
-                "ypg",
-                "yip",
-                "nph",
-                "pnx",
-                "kjt",
-                "xpg",
-                "pht",
-                "phu",
-                "phd",
-                "pug",
-                "phh",
-                "ypm",
-                "pho",
-                "phg",
-                "ypp",
-                "yph",
-                "ypz",
-                "ptr",
-                "pin",
-                "pio",
-                "pid",
-                "pcd",
-                "cpu",
-                "xpi",
-                "dep",
-                "pms",
-                "pij",
-                "piz",
-                "pis",
-                "plg",
-                "piv",
-                "pia",
-                "piw",
-                "pnn",
-                "pti",
-                "pif",
-                "pii",
-                "pnv",
-                "pnj",
-                "pic",
-                "mio",
-                "piu",
-                "pny",
-                "ppl",
-                "myp",
-                "pir",
-                "bxi",
-                "pie",
-                "xpa",
-                "pig",
-                "tpp",
-                "psy",
-                "xps",
-                "pih",
-                "sje",
-                "pcn",
-                "pjt",
-                "pit",
-                "pix",
-                "piy",
-                "crk",
-                "psd",
-                "pmw",
-                "ktj",
-                "plt",
-                "pdt",
-                "gob",
-                "pbv",
-                "npo",
-                "xpo",
-                "pdn",
-                "poy",
-                "pon",
-                "pok",
-                "pof",
-                "pkb",
-                "pox",
-                "pld",
-                "plj",
-                "pso",
-                "pol",
-                "plb",
-                "pmo",
-                "pmm",
-                "ncc",
-                "pns",
-                "pnt",
-                "npg",
-                "jac",
-                "poc",
-                "poh",
-                "prh",
-                "psw",
-                "xpl",
-                "ptv",
-                "psr",
-                "por",
-                "pot",
-                "pog",
-                "gdb",
-                "pmx",
-                "bye",
-                "pwr",
-                "pim",
-                "pyn",
-                "pra",
-                "prn",
-                "pgl",
-                "pre",
-                "prz",
-                "prg",
-                "kvj",
-                "cpx",
-                "pux",
-                "atp",
-                "pbm",
-                "pue",
-                "psl",
-                "npu",
-                "pui",
-                "pkp",
-                "fuc",
-                "pup",
-                "fuf",
-                "puw",
-                "pum",
-                "xpm",
-                "yae",
-                "pud",
-                "pna",
-                "pnm",
-                "puf",
-                "puc",
-                "puj",
-                "xpu",
-                "qxp",
-                "xpt",
-                "puu",
-                "puo",
-                "puq",
-                "pru",
-                "iar",
-                "tsz",
-                "prr",
-                "prx",
-                "puy",
-                "suv",
-                "pur",
-                "pub",
-                "pus",
-                "mfl",
-                "put",
-                "afe",
-                "xpy",
-                "xpp",
-                "pyu",
-                "pme",
-                "pop",
-                "kjp",
-                "pww",
-                "pwo",
-                "pcw",
-                "pye",
-                "pyy",
-                "pyx",
-                "pby",
-                "pbb",
-                "pfa",
-                "lkr",
-                "pev",
-                "lme",
-                "pko",
-                "kjb",
-                "laq",
-                "byx",
-                "qxq",
-                "xqt",
-                "gqu",
-                "alc",
-                "ymq",
-                "ahg",
-                "zqe",
-                "qua",
-                "fcs",
-                "yum",
-                "que",
-                "qwe",
-                "qya",
-                "otq",
-                "pxm",
-                "qvy",
-                "zpj",
-                "qui",
-                "qun",
-                "quq",
-                "ztq",
-                "chq",
-                "qyp",
-                "rah",
-                "rad",
-                "xrr",
-                "raz",
-                "mqk",
-                "raj",
-                "rjs",
-                "rji",
-                "rjg",
-                "gra",
-                "rkh",
-                "rki",
-                "ral",
-                "rma",
-                "rai",
-                "kjx",
-                "lje",
-                "thr",
-                "rax",
-                "rgk",
-                "rnl",
-                "rkt",
-                "rao",
-                "ray",
-                "rap",
-                "kyx",
-                "rpt",
-                "lra",
-                "rar",
-                "rac",
-                "btn",
-                "rth",
-                "rtw",
-                "bgd",
-                "rau",
-                "yea",
-                "rwo",
-                "raw",
-                "jnl",
-                "weu",
-                "rwa",
-                "zor",
-                "rat",
-                "gir",
-                "atu",
-                "ree",
-                "rej",
-                "rei",
-                "bow",
-                "rmb",
-                "reb",
-                "rem",
-                "agv",
-                "rmp",
-                "lkj",
-                "rel",
-                "ren",
-                "mnv",
-                "rpn",
-                "rer",
-                "rea",
-                "pgk",
-                "qaa-qtz",
-                "qaa",
-                "qab",
-                "qac",
-                "qad",
-                "res",
-                "rgr",
-                "ret",
-                "rey",
-                "ria",
-                "yin",
-                "ril",
-                "ran",
-                "rir",
-                "iri",
-                "rkb",
-                "bto",
-                "zar",
-                "rgu",
-                "rri",
-                "rit",
-                "riu",
-                "snj",
-                "lbn",
-                "rod",
-                "rhg",
-                "rmm",
-                "rgn",
-                "rmx",
-                "roa",
-                "rms",
-                "rum",
-                "rge",
-                "rsb",
-                "rmv",
-                "roh",
-                "rom",
-                "rol",
-                "rof",
-                "rmk",
-                "cla",
-                "rng",
-                "ror",
-                "nbu",
-                "rnp",
-                "roe",
-                "rnn",
-                "rga",
-                "roo",
-                "rtm",
-                "rug",
-                "pce",
-                "rdb",
-                "rui",
-                "ruh",
-                "dru",
-                "ruz",
-                "rbb",
-                "klq",
-                "run",
-                "rou",
-                "rtc",
-                "drg",
-                "rnw",
-                "bxr",
-                "rsl",
-                "rus",
-                "rue",
-                "rut",
-                "ruc",
-                "rnd",
-                "rwl",
-                "rwk",
-                "rcf",
-                "rzh",
-                "ksw",
-                "sax",
-                "apb",
-                "snv",
-                "scq",
-                "sav",
-                "raq",
-                "lsm",
-                "sxr",
-                "saa",
-                "xsa",
-                "bsy",
-                "msi",
-                "sae",
-                "spy",
-                "sbv",
-                "hvn",
-                "sbo",
-                "quv",
-                "sck",
-                "skb",
-                "spd",
-                "saf",
-                "apz",
-                "sbk",
-                "sbm",
-                "tga",
-                "ssy",
-                "saj",
-                "aec",
-                "acf",
-                "xsy",
-                "sjl",
-                "sjb",
-                "sch",
-                "skg",
-                "sku",
-                "skt",
-                "sak",
-                "skf",
-                "szy",
-                "shq",
-                "slx",
-                "slr",
-                "sgu",
-                "qxl",
-                "slq",
-                "sau",
-                "sbe",
-                "sln",
-                "sal",
-                "sdz",
-                "sll",
-                "loe",
-                "slj",
-                "esn",
-                "snx",
-                "smd",
-                "sam",
-                "smp",
-                "tmj",
-                "ysd",
-                "syx",
-                "ccg",
-                "ndi",
-                "smx",
-                "xsb",
-                "spv",
-                "xab",
-                "ssx",
-                "saq",
-                "smh",
-                "smi",
-                "smq",
-                "smo",
-                "sgs",
-                "swm",
-                "syd",
-                "rav",
-                "sxm",
-                "stu",
-                "smv",
-                "ztm",
-                "zpx",
-                "cuk",
-                "hve",
-                "pow",
-                "hue",
-                "mat",
-                "maa",
-                "poe",
-                "mjc",
-                "xtj",
-                "pps",
-                "pls",
-                "trq",
-                "qvs",
-                "huv",
-                "scf",
-                "mig",
-                "xtp",
-                "azg",
-                "zpf",
-                "kwy",
-                "zpt",
-                "ayn",
-                "spn",
-                "sad",
-                "sng",
-                "xsn",
-                "scg",
-                "snl",
-                "sxn",
-                "sgr",
-                "sgk",
-                "sgy",
-                "sag",
-                "nsa",
-                "snq",
-                "sbp",
-                "ysn",
-                "ysy",
-                "sny",
-                "msc",
-                "ssi",
-                "san",
-                "qxt",
-                "ztn",
-                "pca",
-                "zpn",
-                "mdv",
-                "hvv",
-                "nhz",
-                "zpi",
-                "mza",
-                "cok",
-                "sat",
-                "zpr",
-                "qus",
-                "zas",
-                "xsu",
-                "spr",
-                "krn",
-                "spi",
-                "sps",
-                "spu",
-                "spc",
-                "mwm",
-                "kwg",
-                "kwv",
-                "sbz",
-                "sre",
-                "skr",
-                "srm",
-                "bps",
-                "mbs",
-                "zsa",
-                "sar",
-                "srd",
-                "asj",
-                "srh",
-                "sdf",
-                "srs",
-                "onp",
-                "swy",
-                "sdu",
-                "sra",
-                "sas",
-                "sxs",
-                "sdc",
-                "stw",
-                "stq",
-                "mav",
-                "sdl",
-                "psu",
-                "saz",
-                "srt",
-                "mjt",
-                "sao",
-                "ssj",
-                "sdg",
-                "svs",
-                "szw",
-                "swr",
-                "saw",
-                "swt",
-                "swn",
-                "sxw",
-                "say",
-                "pos",
-                "sco",
-                "gla",
-                "xsc",
-                "gul",
-                "kdg",
-                "sgw",
-                "sbx",
-                "sib",
-                "snb",
-                "sec",
-                "sey",
-                "sed",
-                "tvw",
-                "sos",
-                "sge",
-                "seg",
-                "sbg",
-                "sfw",
-                "ssg",
-                "hik",
-                "sek",
-                "skp",
-                "skz",
-                "skj",
-                "ske",
-                "vaj",
-                "syi",
-                "skx",
-                "sko",
-                "lip",
-                "kgi",
-                "slu",
-                "sly",
-                "snw",
-                "spl",
-                "sxl",
-                "sel",
-                "slg",
-                "sws",
-                "sea",
-                "sdq",
-                "szc",
-                "sbr",
-                "sza",
-                "etz",
-                "sem",
-                "ssm",
-                "smy",
-                "xse",
-                "seh",
-                "seq",
-                "syn",
-                "sej",
-                "see",
-                "sds",
-                "szg",
-                "snu",
-                "spk",
-                "ssz",
-                "sjs",
-                "sni",
-                "set",
-                "sez",
-                "std",
-                "spb",
-                "spe",
-                "iws",
-                "sry",
-                "srp",
-                "hbs",
-                "swf",
-                "srr",
-                "sei",
-                "sve",
-                "kqu",
-                "ser",
-                "szd",
-                "srw",
-                "srk",
-                "seu",
-                "crs",
-                "stf",
-                "stm",
-                "sbi",
-                "sta",
-                "ojs",
-                "sew",
-                "sze",
-                "scw",
-                "sdb",
-                "srz",
-                "shm",
-                "sha",
-                "sqa",
-                "xsh",
-                "ksb",
-                "shn",
-                "swo",
-                "sho",
-                "mcd",
-                "ssv",
-                "swq",
-                "sht",
-                "shj",
-                "sqh",
-                "sjw",
-                "shx",
-                "shv",
-                "swv",
-                "moy",
-                "she",
-                "sth",
-                "seb",
-                "shl",
-                "scv",
-                "bun",
-                "sdp",
-                "xsr",
-                "kip",
-                "shr",
-                "ssh",
-                "gua",
-                "shk",
-                "scl",
-                "shp",
-                "sle",
-                "sii",
-                "sna",
-                "bcv",
-                "cjs",
-                "shh",
-                "shg",
-                "sdt",
-                "jiv",
-                "suj",
-                "sgh",
-                "sxg",
-                "sts",
-                "scu",
-                "shs",
-                "ksa",
-                "shw",
-                "pll",
-                "slw",
-                "sif",
-                "spg",
-                "snp",
-                "sya",
-                "sjr",
-                "mmp",
-                "nco",
-                "sty",
-                "sdx",
-                "sxc",
-                "scx",
-                "iii",
-                "scn",
-                "sqr",
-                "sid",
-                "xsd",
-                "erg",
-                "sgx",
-                "nsu",
-                "zaa",
-                "sxe",
-                "sgn",
-                "snr",
-                "qws",
-                "ski",
-                "sky",
-                "tty",
-                "sik",
-                "sip",
-                "bla",
-                "skh",
-                "slt",
-                "mks",
-                "sbq",
-                "szl",
-                "wul",
-                "mkc",
-                "xsp",
-                "stv",
-                "sie",
-                "sbw",
-                "smg",
-                "smb",
-                "sbb",
-                "smz",
-                "smr",
-                "smt",
-                "siu",
-                "sst",
-                "snc",
-                "sjn",
-                "sbn",
-                "snd",
-                "xts",
-                "sgm",
-                "sls",
-                "sgp",
-                "sin",
-                "xti",
-                "skq",
-                "sit",
-                "rmo",
-                "sys",
-                "xsi",
-                "snn",
-                "sio",
-                "qum",
-                "swj",
-                "fos",
-                "ysr",
-                "sir",
-                "sri",
-                "srq",
-                "srx",
-                "ssd",
-                "sld",
-                "sso",
-                "sis",
-                "siy",
-                "lsv",
-                "siw",
-                "siz",
-                "akp",
-                "csy",
-                "ska",
-                "svx",
-                "skw",
-                "sms",
-                "skv",
-                "den",
-                "sla",
-                "svm",
-                "slo",
-                "svk",
-                "slv",
-                "sfm",
-                "kxq",
-                "sno",
-                "soc",
-                "ssq",
-                "sob",
-                "cso",
-                "xog",
-                "sog",
-                "soj",
-                "sok",
-                "xso",
-                "sby",
-                "szs",
-                "aaw",
-                "sol",
-                "smc",
-                "som",
-                "bmu",
-                "sor",
-                "smu",
-                "kgt",
-                "ysg",
-                "shc",
-                "sop",
-                "son",
-                "csj",
-                "soo",
-                "soe",
-                "sod",
-                "soi",
-                "siq",
-                "snk",
-                "sov",
-                "teu",
-                "urw",
-                "sqt",
-                "srb",
-                "wen",
-                "sbh",
-                "sqo",
-                "sxo",
-                "ays",
-                "sdk",
-                "krz",
-                "tlt",
-                "wha",
-                "sqq",
-                "sfs",
-                "sai",
-                "aws",
-                "azb",
-                "quh",
-                "ccs",
-                "lnl",
-                "dib",
-                "erk",
-                "fal",
-                "giz",
-                "lmf",
-                "ajp",
-                "mqm",
-                "kts",
-                "nbl",
-                "nxl",
-                "spx",
-                "xsl",
-                "zls",
-                "omw",
-                "cpy",
-                "mcy",
-                "sns",
-                "tvk",
-                "vbb",
-                "ijs",
-                "psi",
-                "xpf",
-                "dks",
-                "zpd",
-                "nit",
-                "mxy",
-                "pom",
-                "npl",
-                "tcu",
-                "stp",
-                "agy",
-                "alt",
-                "ams",
-                "ayc",
-                "bfs",
-                "bcc",
-                "bzc",
-                "mtw",
-                "biv",
-                "bwq",
-                "obk",
-                "caf",
-                "bln",
-                "qxo",
-                "dga",
-                "kmc",
-                "crj",
-                "ghe",
-                "grj",
-                "hmy",
-                "hax",
-                "hnd",
-                "sxk",
-                "ksc",
-                "sct",
-                "kss",
-                "kjd",
-                "sdh",
-                "ysp",
-                "luz",
-                "snm",
-                "hma",
-                "mnn",
-                "ymc",
-                "nqg",
-                "nab",
-                "nbw",
-                "nik",
-                "nsd",
-                "nnw",
-                "css",
-                "osu",
-                "pmz",
-                "pbt",
-                "qup",
-                "csp",
-                "peq",
-                "mit",
-                "slh",
-                "pmj",
-                "hms",
-                "qxs",
-                "nre",
-                "zsr",
-                "rgs",
-                "ssb",
-                "sma",
-                "sbd",
-                "skd",
-                "srv",
-                "sot",
-                "laa",
-                "sou",
-                "itd",
-                "tix",
-                "wib",
-                "tjs",
-                "tce",
-                "uzs",
-                "lrr",
-                "yux",
-                "gso",
-                "plv",
-                "psh",
-                "nwi",
-                "vbk",
-                "dik",
-                "fay",
-                "hmg",
-                "hmh",
-                "nsv",
-                "twr",
-                "xpx",
-                "tla",
-                "meh",
-                "sww",
-                "sow",
-                "vmp",
-                "vmq",
-                "ssp",
-                "spa",
-                "spt",
-                "spo",
-                "squ",
-                "srn",
-                "sci",
-                "sqs",
-                "arb",
-                "ekk",
-                "lvs",
-                "zsm",
-                "zgh",
-                "stl",
-                "sbu",
-                "sto",
-                "str",
-                "szp",
-                "seo",
-                "swp",
-                "sxb",
-                "ssc",
-                "xsj",
-                "sbs",
-                "sut",
-                "apd",
-                "pga",
-                "tgo",
-                "xsv",
-                "sue",
-                "sgi",
-                "sug",
-                "kzs",
-                "swi",
-                "sui",
-                "sub",
-                "suk",
-                "syk",
-                "zsu",
-                "szn",
-                "sua",
-                "srg",
-                "sqm",
-                "siv",
-                "six",
-                "smw",
-                "suw",
-                "sux",
-                "nsm",
-                "csv",
-                "ssk",
-                "sun",
-                "suz",
-                "syo",
-                "spp",
-                "tdl",
-                "sbj",
-                "sgj",
-                "sgd",
-                "sjp",
-                "sgz",
-                "swx",
-                "sde",
-                "mdz",
-                "sru",
-                "sqn",
-                "sus",
-                "ssu",
-                "sdj",
-                "swu",
-                "suy",
-                "sva",
-                "swg",
-                "swh",
-                "swa",
-                "csw",
-                "ssw",
-                "swl",
-                "swe",
-                "gsw",
-                "ssr",
-                "sgg",
-                "slf",
-                "sox",
-                "shz",
-                "syl",
-                "syr",
-                "slc",
-                "zkp",
-                "cri",
-                "sep",
-                "sss",
-                "lgn",
-                "tct",
-                "acq",
-                "tap",
-                "zat",
-                "tby",
-                "chf",
-                "nhc",
-                "zoq",
-                "tab",
-                "tnm",
-                "knv",
-                "tzx",
-                "xtt",
-                "tna",
-                "shy",
-                "shi",
-                "lts",
-                "dsq",
-                "klw",
-                "tdy",
-                "rob",
-                "tcd",
-                "bgs",
-                "klg",
-                "mvv",
-                "tgz",
-                "tgl",
-                "oua",
-                "tbw",
-                "tbm",
-                "tda",
-                "tgj",
-                "tgx",
-                "tag",
-                "tgw",
-                "thv",
-                "tah",
-                "tht",
-                "tyr",
-                "blt",
-                "tyj",
-                "twh",
-                "tiz",
-                "tjl",
-                "tlq",
-                "thi",
-                "tdd",
-                "tpo",
-                "tmm",
-                "cuu",
-                "tai",
-                "taw",
-                "gpn",
-                "aos",
-                "ago",
-                "tnq",
-                "bxa",
-                "uar",
-                "dav",
-                "tvx",
-                "tss",
-                "pee",
-                "tgk",
-                "abh",
-                "tdj",
-                "tja",
-                "tkm",
-                "tks",
-                "tbc",
-                "tkz",
-                "nho",
-                "tke",
-                "tal",
-                "tak",
-                "tld",
-                "tlv",
-                "tdf",
-                "tlj",
-                "tlr",
-                "tlo",
-                "tlk",
-                "tln",
-                "tzl",
-                "yta",
-                "tly",
-                "tma",
-                "ten",
-                "tcg",
-                "tmn",
-                "tcl",
-                "tmz",
-                "tmh",
-                "taq",
-                "vmx",
-                "tdk",
-                "xxt",
-                "tls",
-                "tmy",
-                "tam",
-                "tax",
-                "tml",
-                "low",
-                "tpu",
-                "tpm",
-                "tcb",
-                "tcm",
-                "tfn",
-                "tpv",
-                "tgn",
-                "tni",
-                "tdx",
-                "tnx",
-                "tan",
-                "tnv",
-                "tgu",
-                "nmf",
-                "ntx",
-                "tkx",
-                "ytl",
-                "tgp",
-                "tbs",
-                "txg",
-                "tbe",
-                "tnc",
-                "uji",
-                "txy",
-                "kml",
-                "tza",
-                "afp",
-                "tpj",
-                "taf",
-                "tro",
-                "tgr",
-                "tae",
-                "rif",
-                "txj",
-                "yer",
-                "trv",
-                "tpf",
-                "txr",
-                "tdm",
-                "twq",
-                "nst",
-                "tmt",
-                "cta",
-                "txx",
-                "tat",
-                "tav",
-                "ttd",
-                "tuh",
-                "tco",
-                "tpa",
-                "tad",
-                "trr",
-                "tsg",
-                "tya",
-                "tvs",
-                "tvn",
-                "rmu",
-                "tbo",
-                "ttq",
-                "xtw",
-                "twm",
-                "twl",
-                "tbp",
-                "twy",
-                "tcp",
-                "tas",
-                "tnu",
-                "thz",
-                "cks",
-                "grr",
-                "tbl",
-                "tck",
-                "bqa",
-                "tve",
-                "tkw",
-                "tsy",
-                "dtu",
-                "tcw",
-                "tuq",
-                "ctd",
-                "tkq",
-                "tfo",
-                "ras",
-                "kps",
-                "teh",
-                "ztt",
-                "ebo",
-                "ifm",
-                "kkw",
-                "lli",
-                "nzu",
-                "teg",
-                "tyi",
-                "tyx",
-                "ttc",
-                "tvm",
-                "tlf",
-                "tel",
-                "kdh",
-                "tjo",
-                "nhv",
-                "tbt",
-                "tmv",
-                "tqb",
-                "tdo",
-                "teq",
-                "soz",
-                "tea",
-                "ott",
-                "tmo",
-                "tmw",
-                "tnz",
-                "quw",
-                "otn",
-                "dtk",
-                "vkt",
-                "tes",
-                "pah",
-                "tqn",
-                "tns",
-                "tex",
-                "tio",
-                "tev",
-                "tep",
-                "cnt",
-                "cux",
-                "cte",
-                "ted",
-                "sjt",
-                "ttr",
-                "trb",
-                "buo",
-                "ter",
-                "tef",
-                "twg",
-                "tfr",
-                "tec",
-                "twu",
-                "tft",
-                "tmg",
-                "tkg",
-                "keg",
-                "twc",
-                "teo",
-                "tll",
-                "nhg",
-                "teb",
-                "tez",
-                "tet",
-                "tdt",
-                "cut",
-                "twe",
-                "tew",
-                "twx",
-                "otx",
-                "poq",
-                "zpz",
-                "mxb",
-                "thy",
-                "thn",
-                "tcz",
-                "tsq",
-                "soa",
-                "tha",
-                "cth",
-                "ths",
-                "nki",
-                "thf",
-                "ssf",
-                "thk",
-                "xtv",
-                "typ",
-                "iin",
-                "tou",
-                "thp",
-                "ytp",
-                "txh",
-                "tyl",
-                "tdh",
-                "lth",
-                "thu",
-                "ahi",
-                "mnl",
-                "tbj",
-                "ngy",
-                "lsn",
-                "tib",
-                "tbq",
-                "tcn",
-                "tca",
-                "mtx",
-                "tia",
-                "tvo",
-                "boo",
-                "tii",
-                "tif",
-                "tgc",
-                "nza",
-                "tig",
-                "tir",
-                "txq",
-                "xtl",
-                "tik",
-                "tkp",
-                "otl",
-                "til",
-                "zts",
-                "tij",
-                "tms",
-                "tim",
-                "tem",
-                "tvy",
-                "tjm",
-                "tih",
-                "lbf",
-                "tin",
-                "tgv",
-                "tit",
-                "tpz",
-                "tpe",
-                "tic",
-                "tra",
-                "tde",
-                "cir",
-                "suq",
-                "tiy",
-                "tdq",
-                "ttv",
-                "tiv",
-                "lax",
-                "tiw",
-                "tyy",
-                "tiq",
-                "boz",
-                "tjj",
-                "tjp",
-                "tju",
-                "tpt",
-                "tpl",
-                "ctl",
-                "zpk",
-                "mxp",
-                "nuz",
-                "mqh",
-                "tli",
-                "toz",
-                "mlu",
-                "tqo",
-                "tob",
-                "tmf",
-                "tgh",
-                "tng",
-                "tti",
-                "tlb",
-                "tox",
-                "tgb",
-                "tbv",
-                "asu",
-                "taz",
-                "tcx",
-                "tdr",
-                "tlg",
-                "tfi",
-                "tor",
-                "tgy",
-                "ood",
-                "toj",
-                "tpi",
-                "zuh",
-                "tkl",
-                "xto",
-                "txb",
-                "tkn",
-                "jic",
-                "lbw",
-                "tlm",
-                "tol",
-                "tod",
-                "tdi",
-                "ttp",
-                "txa",
-                "tom",
-                "txm",
-                "dto",
-                "dtm",
-                "tqp",
-                "tdn",
-                "tst",
-                "tog",
-                "ton",
-                "toi",
-                "tny",
-                "tjn",
-                "tqw",
-                "tnw",
-                "txs",
-                "tnt",
-                "ttj",
-                "toy",
-                "toq",
-                "sda",
-                "trj",
-                "ttu",
-                "fit",
-                "dts",
-                "dtt",
-                "tdv",
-                "tno",
-                "tqr",
-                "tcs",
-                "tei",
-                "trw",
-                "trz",
-                "als",
-                "ttl",
-                "txo",
-                "txe",
-                "zph",
-                "mto",
-                "ttk",
-                "tqu",
-                "neb",
-                "don",
-                "ttn",
-                "ngf",
-                "xtg",
-                "rmd",
-                "rmg",
-                "trl",
-                "trm",
-                "tme",
-                "stg",
-                "tip",
-                "tgq",
-                "trx",
-                "lst",
-                "trf",
-                "trn",
-                "tri",
-                "tka",
-                "tpy",
-                "tsl",
-                "tsa",
-                "tkr",
-                "tsd",
-                "kvz",
-                "tsb",
-                "huq",
-                "tsk",
-                "txc",
-                "tsj",
-                "kdl",
-                "cas",
-                "xmw",
-                "tsi",
-                "tsw",
-                "ldp",
-                "hio",
-                "tsv",
-                "tso",
-                "lto",
-                "tsu",
-                "cbq",
-                "ttz",
-                "tvd",
-                "tsh",
-                "tsc",
-                "tsn",
-                "two",
-                "mjg",
-                "pmt",
-                "tbu",
-                "tuo",
-                "tuy",
-                "tzn",
-                "tuj",
-                "khc",
-                "bhq",
-                "bag",
-                "tpq",
-                "tkd",
-                "tkf",
-                "tul",
-                "tlu",
-                "tey",
-                "tcy",
-                "rak",
-                "iou",
-                "tmc",
-                "krt",
-                "tum",
-                "kku",
-                "tmq",
-                "xtq",
-                "tbr",
-                "sil",
-                "mzb",
-                "enh",
-                "tvu",
-                "lcm",
-                "trt",
-                "tuw",
-                "tug",
-                "tun",
-                "aeb",
-                "tse",
-                "tjg",
-                "tqq",
-                "dza",
-                "ttf",
-                "tpr",
-                "tup",
-                "tpn",
-                "tpk",
-                "tui",
-                "tpw",
-                "trh",
-                "trd",
-                "twt",
-                "tuz",
-                "tuv",
-                "trk",
-                "tsm",
-                "tur",
-                "tuk",
-                "tch",
-                "tru",
-                "tqm",
-                "try",
-                "tus",
-                "tta",
-                "ttg",
-                "tvt",
-                "tmi",
-                "mtu",
-                "tuu",
-                "tvl",
-                "tyv",
-                "ifk",
-                "tww",
-                "bov",
-                "tux",
-                "tud",
-                "tue",
-                "twa",
-                "twn",
-                "twd",
-                "twi",
-                "kcg",
-                "tzj",
-                "tzh",
-                "tzo",
-                "tys",
-                "tyt",
-                "tyz",
-                "lor",
-                "tub",
-                "uuu",
-                "aoz",
-                "uam",
-                "ksj",
-                "byc",
-                "uba",
-                "ubi",
-                "ubr",
-                "uby",
-                "cpb",
-                "uda",
-                "udi",
-                "ude",
-                "udm",
-                "udu",
-                "ufi",
-                "ugn",
-                "uga",
-                "uge",
-                "ugo",
-                "uha",
-                "uig",
-                "uis",
-                "udj",
-                "kcf",
-                "ukh",
-                "umi",
-                "ukp",
-                "akd",
-                "ukl",
-                "ukr",
-                "uku",
-                "ukg",
-                "ukq",
-                "ukw",
-                "svb",
-                "ulc",
-                "uli",
-                "ull",
-                "ulb",
-                "ulm",
-                "ulw",
-                "ppk",
-                "xky",
-                "ulu",
-                "gdn",
-                "uma",
-                "umd",
-                "xum",
-                "ubu",
-                "umr",
-                "umb",
-                "sju",
-                "upi",
-                "xud",
-                "due",
-                "umm",
-                "umo",
-                "ump",
-                "mtg",
-                "unm",
-                "mis",
-                "unz",
-                "und",
-                "bbn",
-                "une",
-                "xun",
-                "xgu",
-                "uni",
-                "uln",
-                "onu",
-                "unu",
-                "cjh",
-                "dna",
-                "pov",
-                "dmg",
-                "kuu",
-                "tku",
-                "sxu",
-                "hsb",
-                "tth",
-                "tau",
-                "tov",
-                "xup",
-                "uro",
-                "uur",
-                "urf",
-                "urk",
-                "url",
-                "urj",
-                "urm",
-                "ura",
-                "xur",
-                "urt",
-                "urd",
-                "urh",
-                "uvh",
-                "urg",
-                "uri",
-                "urx",
-                "upv",
-                "urc",
-                "ure",
-                "urz",
-                "urp",
-                "urn",
-                "urv",
-                "uks",
-                "urb",
-                "ugy",
-                "uum",
-                "uru",
-                "usk",
-                "wnu",
-                "usa",
-                "ush",
-                "cuc",
-                "ulf",
-                "usp",
-                "usi",
-                "omo",
-                "ute",
-                "azc",
-                "utu",
-                "evh",
-                "usu",
-                "duk",
-                "uzb",
-                "auz",
-                "eze",
-                "vaa",
-                "vaf",
-                "vgr",
-                "tva",
-                "vag",
-                "vai",
-                "vap",
-                "vae",
-                "vsv",
-                "cvn",
-                "vmv",
-                "van",
-                "vlp",
-                "mkt",
-                "mlr",
-                "xvn",
-                "mpr",
-                "vam",
-                "vnk",
-                "vau",
-                "vao",
-                "vah",
-                "vrs",
-                "vav",
-                "vas",
-                "ved",
-                "val",
-                "vel",
-                "vem",
-                "ven",
-                "vec",
-                "xve",
-                "vsl",
-                "bav",
-                "veo",
-                "vep",
-                "vra",
-                "xvs",
-                "vid",
-                "vig",
-                "vie",
-                "vil",
-                "vif",
-                "dyg",
-                "svc",
-                "vnm",
-                "vin",
-                "vic",
-                "vis",
-                "vit",
-                "vto",
-                "wiv",
-                "vls",
-                "vgt",
-                "rmy",
-                "vol",
-                "xvo",
-                "kch",
-                "vor",
-                "vot",
-                "vum",
-                "vnp",
-                "vun",
-                "msn",
-                "vut",
-                "wbi",
-                "vro",
-                "wbm",
-                "wag",
-                "wwa",
-                "wmn",
-                "ssn",
-                "wab",
-                "wbb",
-                "kmx",
-                "wci",
-                "wdg",
-                "wbq",
-                "xwd",
-                "wdk",
-                "kxp",
-                "wdy",
-                "wdj",
-                "wdu",
-                "wrx",
-                "waj",
-                "wgb",
-                "wga",
-                "wbr",
-                "fad",
-                "waq",
-                "whu",
-                "whk",
-                "wgi",
-                "wbk",
-                "wgo",
-                "wlk",
-                "wlr",
-                "rro",
-                "wmh",
-                "bao",
-                "atr",
-                "wli",
-                "waw",
-                "wja",
-                "wbv",
-                "xwj",
-                "wav",
-                "wwb",
-                "wak",
-                "wkw",
-                "wkd",
-                "wbl",
-                "waf",
-                "lgl",
-                "wlw",
-                "nlw",
-                "wlx",
-                "wll",
-                "wly",
-                "wla",
-                "waa",
-                "wls",
-                "wln",
-                "wmt",
-                "wae",
-                "ola",
-                "wrb",
-                "wmc",
-                "wmb",
-                "wms",
-                "wme",
-                "wad",
-                "cou",
-                "wmi",
-                "wam",
-                "lbq",
-                "waz",
-                "wan",
-                "wnb",
-                "wnp",
-                "nnp",
-                "wbh",
-                "mfi",
-                "wnd",
-                "wdd",
-                "wne",
-                "lwg",
-                "wyb",
-                "wnm",
-                "wng",
-                "wgg",
-                "wky",
-                "xwk",
-                "jub",
-                "wno",
-                "wnc",
-                "wnk",
-                "wny",
-                "hwa",
-                "auc",
-                "juk",
-                "wap",
-                "wao",
-                "aml",
-                "wbf",
-                "wba",
-                "wrz",
-                "war",
-                "wrr",
-                "wxw",
-                "wrd",
-                "wsa",
-                "wai",
-                "wrs",
-                "wbe",
-                "wri",
-                "wji",
-                "bgv",
-                "wrl",
-                "wbp",
-                "wrn",
-                "wbt",
-                "wrp",
-                "wgy",
-                "wwr",
-                "wru",
-                "wrm",
-                "wrv",
-                "wrg",
-                "hrw",
-                "wss",
-                "wac",
-                "gsp",
-                "was",
-                "wsk",
-                "wsu",
-                "wtk",
-                "wax",
-                "wth",
-                "wtf",
-                "wah",
-                "kop",
-                "wau",
-                "wuy",
-                "www",
-                "wow",
-                "wxa",
-                "oym",
-                "way",
-                "ctt",
-                "wyr",
-                "vay",
-                "guc",
-                "wed",
-                "weh",
-                "wew",
-                "wlh",
-                "klh",
-                "rmw",
-                "wel",
-                "weo",
-                "xww",
-                "wem",
-                "weg",
-                "wer",
-                "kvw",
-                "fbl",
-                "nnd",
-                "wbs",
-                "zbw",
-                "bbp",
-                "gaz",
-                "bdr",
-                "drn",
-                "gmw",
-                "ddi",
-                "kew",
-                "lmj",
-                "mqs",
-                "mss",
-                "zlw",
-                "txn",
-                "uve",
-                "ybe",
-                "lia",
-                "abe",
-                "apw",
-                "hyw",
-                "are",
-                "bgn",
-                "gnw",
-                "brv",
-                "mbb",
-                "cja",
-                "dnw",
-                "azn",
-                "wyy",
-                "fry",
-                "ctp",
-                "pua",
-                "nhw",
-                "jmx",
-                "knj",
-                "kza",
-                "kuf",
-                "kyu",
-                "kjq",
-                "krw",
-                "ywl",
-                "lcp",
-                "mrd",
-                "pqw",
-                "mlq",
-                "mrj",
-                "hmw",
-                "raf",
-                "wmg",
-                "mut",
-                "amw",
-                "fuh",
-                "ojw",
-                "pnb",
-                "kjl",
-                "pne",
-                "ssl",
-                "suc",
-                "tdg",
-                "twb",
-                "zab",
-                "tqt",
-                "tnb",
-                "mmr",
-                "xwl",
-                "yih",
-                "wep",
-                "wwo",
-                "wea",
-                "woy",
-                "giw",
-                "lwh",
-                "tnp",
-                "tua",
-                "wic",
-                "mzh",
-                "mtp",
-                "wlv",
-                "wig",
-                "wie",
-                "wij",
-                "wif",
-                "wih",
-                "wim",
-                "wik",
-                "wua",
-                "wil",
-                "wnw",
-                "kst",
-                "gdr",
-                "wrh",
-                "wir",
-                "wgu",
-                "wiu",
-                "wiy",
-                "xwc",
-                "wog",
-                "woc",
-                "wbw",
-                "wyi",
-                "jod",
-                "wle",
-                "wod",
-                "wal",
-                "woe",
-                "wlo",
-                "wol",
-                "wom",
-                "wmo",
-                "wmx",
-                "won",
-                "cwd",
-                "wor",
-                "kda",
-                "jud",
-                "wro",
-                "wsv",
-                "xwt",
-                "wtw",
-                "noa",
-                "xwo",
-                "wuu",
-                "ywq",
-                "wud",
-                "wlu",
-                "wux",
-                "bqm",
-                "wum",
-                "ywu",
-                "bwn",
-                "wub",
-                "wnn",
-                "wur",
-                "yig",
-                "bse",
-                "wsi",
-                "wut",
-                "wuh",
-                "wuv",
-                "udl",
-                "wya",
-                "wym",
-                "tci",
-                "juw",
-                "wob",
-                "gxx",
-                "wec",
-                "kao",
-                "zax",
-                "xkr",
-                "xan",
-                "ztg",
-                "xav",
-                "xer",
-                "xet",
-                "xho",
-                "hsn",
-                "sjo",
-                "too",
-                "xin",
-                "asn",
-                "xiy",
-                "xii",
-                "xir",
-                "ywt",
-                "xok",
-                "xoo",
-                "xwe",
-                "ane",
-                "axx",
-                "muu",
-                "yar",
-                "ybn",
-                "jae",
-                "ybm",
-                "ybo",
-                "yxy",
-                "ekr",
-                "rys",
-                "wfg",
-                "yxg",
-                "ygr",
-                "yai",
-                "ygm",
-                "yad",
-                "ygw",
-                "ner",
-                "rhp",
-                "ynu",
-                "axk",
-                "iyx",
-                "yaf",
-                "ykk",
-                "yak",
-                "yka",
-                "ybh",
-                "yky",
-                "sah",
-                "yba",
-                "jal",
-                "xyl",
-                "ylr",
-                "nce",
-                "ylb",
-                "yal",
-                "zpu",
-                "ymp",
-                "yam",
-                "ymb",
-                "yat",
-                "jmd",
-                "yme",
-                "tao",
-                "yaa",
-                "ymn",
-                "ymg",
-                "ybi",
-                "jay",
-                "yhs",
-                "ynn",
-                "qur",
-                "dym",
-                "yda",
-                "xyb",
-                "ynd",
-                "ame",
-                "zyg",
-                "yav",
-                "bsx",
-                "jng",
-                "yng",
-                "ynl",
-                "yde",
-                "ygl",
-                "ymo",
-                "kdd",
-                "guu",
-                "wca",
-                "yns",
-                "jao",
-                "yao",
-                "asy",
-                "yre",
-                "yap",
-                "yev",
-                "jaq",
-                "yaq",
-                "yrw",
-                "yxl",
-                "yrb",
-                "zae",
-                "yry",
-                "yro",
-                "yrs",
-                "yko",
-                "ysc",
-                "yty",
-                "zty",
-                "zav",
-                "yuw",
-                "yyu",
-                "yla",
-                "yax",
-                "jau",
-                "zpb",
-                "qux",
-                "yvt",
-                "yva",
-                "yaw",
-                "ywn",
-                "yww",
-                "yby",
-                "jbw",
-                "ybx",
-                "ywr",
-                "xya",
-                "yah",
-                "tlc",
-                "jei",
-                "ets",
-                "ykr",
-                "yel",
-                "yle",
-                "jel",
-                "ylg",
-                "ybb",
-                "jnj",
-                "ynq",
-                "yei",
-                "yec",
-                "yra",
-                "gop",
-                "yrn",
-                "yeu",
-                "yss",
-                "yet",
-                "yej",
-                "yey",
-                "yid",
-                "ydg",
-                "yii",
-                "yll",
-                "yee",
-                "yim",
-                "kvu",
-                "yij",
-                "yil",
-                "pib",
-                "yia",
-                "ywg",
-                "ygi",
-                "kvy",
-                "yxm",
-                "yyr",
-                "ljw",
-                "yrm",
-                "yis",
-                "xth",
-                "yob",
-                "gud",
-                "yog",
-                "ydk",
-                "yki",
-                "yok",
-                "yol",
-                "xty",
-                "ygs",
-                "pil",
-                "yom",
-                "yoi",
-                "yno",
-                "zyb",
-                "yon",
-                "zyn",
-                "yut",
-                "mts",
-                "yox",
-                "xyy",
-                "yor",
-                "mpm",
-                "yot",
-                "zyj",
-                "jiu",
-                "buh",
-                "ytw",
-                "yoy",
-                "nua",
-                "msd",
-                "yua",
-                "yuc",
-                "mvg",
-                "ycn",
-                "yue",
-                "yug",
-                "yub",
-                "ysl",
-                "ygu",
-                "yab",
-                "yuk",
-                "yup",
-                "ybl",
-                "yul",
-                "ypk",
-                "yuq",
-                "yuz",
-                "rts",
-                "yur",
-                "ljx",
-                "yui",
-                "mab",
-                "yau",
-                "yxu",
-                "gek",
-                "yag",
-                "ztx",
-                "kji",
-                "ctz",
-                "nhi",
-                "zag",
-                "atb",
-                "zkr",
-                "zsl",
-                "zna",
-                "zak",
-                "zne",
-                "znd",
-                "zau",
-                "zah",
-                "zpw",
-                "zap",
-                "zaj",
-                "zaz",
-                "dje",
-                "zrp",
-                "zal",
-                "zwa",
-                "kxk",
-                "zay",
-                "zza",
-                "jaj",
-                "zua",
-                "zea",
-                "dhm",
-                "nzm",
-                "xzm",
-                "zeg",
-                "zen",
-                "czn",
-                "zrn",
-                "zhb",
-                "xzh",
-                "zhi",
-                "zhw",
-                "zha",
-                "zia",
-                "zil",
-                "ziw",
-                "zik",
-                "zmb",
-                "zib",
-                "zin",
-                "sih",
-                "ziz",
-                "pto",
-                "yzk",
-                "zpq",
-                "gbz",
-                "czt",
-                "zom",
-                "zla",
-                "gnd",
-                "zul",
-                "zuy",
-                "jmb",
-                "zun",
-                "zzj",
-                "zyp",
-                "zro",
-                "jih",
-                "uss",
-                "uth",
-                "gel",
-                "ahn",
-                "acb",
-                "aom",
-                "oon",
-                "gwj",
-                "xam",
-                "hnh",
-                "gnk",
-                "xeg",
-                "huc",
-                "gku",
-                "nmn"
-        };
+        return getData().langCodes.clone();
+    }
 
-        return langCodes;
+    public String[] getMimeTypes() {
+        return getData().mimeTypes.clone();
+    }
+
+    private static Data getData() {
+        startLoading();
+
+        boolean interrupted = false;
+
+        try {
+            while (true) {
+                try {
+                    return loader.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Can't read " + DATA_RESOURCE, e.getCause());
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static Data readData() throws IOException {
+        InputStream resource = MkvStrings.class.getResourceAsStream(DATA_RESOURCE);
+
+        if (resource == null) {
+            throw new IOException("Resource not found: " + DATA_RESOURCE);
+        }
+
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(resource)));
+
+        try {
+            if (in.readInt() != DATA_MAGIC || in.readInt() != DATA_VERSION) {
+                throw new IOException("Unsupported data format: " + DATA_RESOURCE);
+            }
+
+            Data data = new Data();
+            int nLangs = in.readInt();
+
+            data.langCodes = new String[nLangs];
+            data.langNames = new String[nLangs];
+
+            for (int i = 0; i < nLangs; i++) {
+                data.langCodes[i] = in.readUTF();
+                data.langNames[i] = in.readUTF();
+            }
+
+            int nMimeTypes = in.readInt();
+
+            data.mimeTypes = new String[nMimeTypes];
+
+            for (int i = 0; i < nMimeTypes; i++) {
+                data.mimeTypes[i] = in.readUTF();
+            }
+
+            return data;
+        } finally {
+            in.close();
+        }
     }
 
     /*
-     * MIME Types
-     * Taken from freedesktop.org.xml.in, part of shared-mime-info
-     * from freedesktop.org
+     * ISO 639-1 codes followed by the ISO 639-2 code used above for the same
+     * language, e.g. "de" and "ger"
      *
      */
-    public String[] getMimeTypes() {
-        String[] mimeTypes = {
-                "",
-                "application/andrew-inset",
-                "application/annodex",
-                "application/atom+xml",
-                "application/dicom",
-                "application/ecmascript",
-                "application/epub+zip",
-                "application/geo+json",
-                "application/gml+xml",
-                "application/gnunet-directory",
-                "application/gpx+xml",
-                "application/gzip",
-                "application/illustrator",
-                "application/javascript",
-                "application/jrd+json",
-                "application/json",
-                "application/json-patch+json",
-                "application/ld+json",
-                "application/mac-binhex40",
-                "application/mathematica",
-                "application/mathml+xml",
-                "application/mbox",
-                "application/metalink+xml",
-                "application/metalink4+xml",
-                "application/msword",
-                "application/msword-template",
-                "application/mxf",
-                "application/octet-stream",
-                "application/oda",
-                "application/ogg",
-                "application/owl+xml",
-                "application/oxps",
-                "application/pdf",
-                "application/pgp-encrypted",
-                "application/pgp-keys",
-                "application/pgp-signature",
-                "application/pkcs10",
-                "application/pkcs12",
-                "application/pkcs7-mime",
-                "application/pkcs7-signature",
-                "application/pkcs8",
-                "application/pkcs8-encrypted",
-                "application/pkix-cert",
-                "application/pkix-crl",
-                "application/pkix-pkipath",
-                "application/postscript",
-                "application/prs.plucker",
-                "application/ram",
-                "application/raml+yaml",
-                "application/rdf+xml",
-                "application/relax-ng-compact-syntax",
-                "application/rss+xml",
-                "application/rtf",
-                "application/sdp",
-                "application/sieve",
-                "application/smil+xml",
-                "application/sql",
-                "application/trig",
-                "application/vnd.adobe.flash.movie",
-                "application/vnd.amazon.mobi8-ebook",
-                "application/vnd.android.package-archive",
-                "application/vnd.appimage",
-                "application/vnd.apple.keynote",
-                "application/vnd.apple.mpegurl",
-                "application/vnd.chess-pgn",
-                "application/vnd.coffeescript",
-                "application/vnd.comicbook-rar",
-                "application/vnd.comicbook+zip",
-                "application/vnd.corel-draw",
-                "application/vnd.debian.binary-package",
-                "application/vnd.emusic-emusic_package",
-                "application/vnd.flatpak",
-                "application/vnd.flatpak.ref",
-                "application/vnd.flatpak.repo",
-                "application/vnd.framemaker",
-                "application/vnd.google-earth.kml+xml",
-                "application/vnd.google-earth.kmz",
-                "application/vnd.hp-hpgl",
-                "application/vnd.hp-pcl",
-                "application/vnd.iccprofile",
-                "application/vnd.lotus-1-2-3",
-                "application/vnd.lotus-wordpro",
-                "application/vnd.mozilla.xul+xml",
-                "application/vnd.ms-access",
-                "application/vnd.ms-asf",
-                "application/vnd.ms-cab-compressed",
-                "application/vnd.ms-excel",
-                "application/vnd.ms-excel.addin.macroEnabled.12",
-                "application/vnd.ms-excel.sheet.binary.macroEnabled.12",
-                "application/vnd.ms-excel.sheet.macroEnabled.12",
-                "application/vnd.ms-excel.template.macroEnabled.12",
-                "application/vnd.ms-htmlhelp",
-                "application/vnd.ms-powerpoint",
-                "application/vnd.ms-powerpoint.addin.macroEnabled.12",
-                "application/vnd.ms-powerpoint.presentation.macroEnabled.12",
-                "application/vnd.ms-powerpoint.slide.macroEnabled.12",
-                "application/vnd.ms-powerpoint.slideshow.macroEnabled.12",
-                "application/vnd.ms-powerpoint.template.macroEnabled.12",
-                "application/vnd.ms-publisher",
-                "application/vnd.ms-tnef",
-                "application/vnd.ms-visio.drawing.macroEnabled.main+xml",
-                "application/vnd.ms-visio.drawing.main+xml",
-                "application/vnd.ms-visio.stencil.macroEnabled.main+xml",
-                "application/vnd.ms-visio.stencil.main+xml",
-                "application/vnd.ms-visio.template.macroEnabled.main+xml",
-                "application/vnd.ms-visio.template.main+xml",
-                "application/vnd.ms-word.document.macroEnabled.12",
-                "application/vnd.ms-word.template.macroEnabled.12",
-                "application/vnd.ms-works",
-                "application/vnd.ms-wpl",
-                "application/vnd.ms-xpsdocument",
-                "application/vnd.nintendo.snes.rom",
-                "application/vnd.oasis.opendocument.chart",
-                "application/vnd.oasis.opendocument.chart-template",
-                "application/vnd.oasis.opendocument.database",
-                "application/vnd.oasis.opendocument.formula",
-                "application/vnd.oasis.opendocument.formula-template",
-                "application/vnd.oasis.opendocument.graphics",
-                "application/vnd.oasis.opendocument.graphics-flat-xml",
-                "application/vnd.oasis.opendocument.graphics-template",
-                "application/vnd.oasis.opendocument.image",
-                "application/vnd.oasis.opendocument.presentation",
-                "application/vnd.oasis.opendocument.presentation-flat-xml",
-                "application/vnd.oasis.opendocument.presentation-template",
-                "application/vnd.oasis.opendocument.spreadsheet",
-                "application/vnd.oasis.opendocument.spreadsheet-flat-xml",
-                "application/vnd.oasis.opendocument.spreadsheet-template",
-                "application/vnd.oasis.opendocument.text",
-                "application/vnd.oasis.opendocument.text-flat-xml",
-                "application/vnd.oasis.opendocument.text-master",
-                "application/vnd.oasis.opendocument.text-template",
-                "application/vnd.oasis.opendocument.text-web",
-                "application/vnd.openofficeorg.extension",
-                "application/vnd.openxmlformats-officedocument.presentationml.presentation",
-                "application/vnd.openxmlformats-officedocument.presentationml.slide",
-                "application/vnd.openxmlformats-officedocument.presentationml.slideshow",
-                "application/vnd.openxmlformats-officedocument.presentationml.template",
-                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
-                "application/vnd.openxmlformats-officedocument.spreadsheetml.template",
-                "application/vnd.openxmlformats-officedocument.wordprocessingml.document",
-                "application/vnd.openxmlformats-officedocument.wordprocessingml.template",
-                "application/vnd.palm",
-                "application/vnd.rar",
-                "application/vnd.rn-realmedia",
-                "application/vnd.smaf",
-                "application/vnd.snap",
-                "application/vnd.sqlite3",
-                "application/vnd.squashfs",
-                "application/vnd.stardivision.calc",
-                "application/vnd.stardivision.chart",
-                "application/vnd.stardivision.draw",
-                "application/vnd.stardivision.impress",
-                "application/vnd.stardivision.mail",
-                "application/vnd.stardivision.math",
-                "application/vnd.stardivision.writer",
-                "application/vnd.sun.xml.calc",
-                "application/vnd.sun.xml.calc.template",
-                "application/vnd.sun.xml.draw",
-                "application/vnd.sun.xml.draw.template",
-                "application/vnd.sun.xml.impress",
-                "application/vnd.sun.xml.impress.template",
-                "application/vnd.sun.xml.math",
-                "application/vnd.sun.xml.writer",
-                "application/vnd.sun.xml.writer.global",
-                "application/vnd.sun.xml.writer.template",
-                "application/vnd.symbian.install",
-                "application/vnd.tcpdump.pcap",
-                "application/vnd.visio",
-                "application/vnd.wordperfect",
-                "application/vnd.youtube.yt",
-                "application/winhlp",
-                "application/x-7z-compressed",
-                "application/x-abiword",
-                "application/x-ace",
-                "application/x-alz",
-                "application/x-amiga-disk-format",
-                "application/x-amipro",
-                "application/x-aportisdoc",
-                "application/x-apple-diskimage",
-                "application/x-apple-systemprofiler+xml",
-                "application/x-appleworks-document",
-                "application/x-applix-spreadsheet",
-                "application/x-applix-word",
-                "application/x-arc",
-                "application/x-archive",
-                "application/x-arj",
-                "application/x-asp",
-                "application/x-atari-2600-rom",
-                "application/x-atari-7800-rom",
-                "application/x-atari-lynx-rom",
-                "application/x-awk",
-                "application/x-bcpio",
-                "application/x-bittorrent",
-                "application/x-blender",
-                "application/x-bps-patch",
-                "application/x-bsdiff",
-                "application/x-bzdvi",
-                "application/x-bzip",
-                "application/x-bzip-compressed-tar",
-                "application/x-bzpdf",
-                "application/x-bzpostscript",
-                "application/x-cb7",
-                "application/x-cbt",
-                "application/x-ccmx",
-                "application/x-cd-image",
-                "application/x-cdrdao-toc",
-                "application/x-cisco-vpn-settings",
-                "application/x-class-file",
-                "application/x-compress",
-                "application/x-compressed-iso",
-                "application/x-compressed-tar",
-                "application/x-core",
-                "application/x-cpio",
-                "application/x-cpio-compressed",
-                "application/x-csh",
-                "application/x-cue",
-                "application/x-dar",
-                "application/x-dbf",
-                "application/x-designer",
-                "application/x-desktop",
-                "application/x-dia-diagram",
-                "application/x-dia-shape",
-                "application/x-discjuggler-cd-image",
-                "application/x-docbook+xml",
-                "application/x-doom-wad",
-                "application/x-dreamcast-rom",
-                "application/x-dvi",
-                "application/x-e-theme",
-                "application/x-egon",
-                "application/x-executable",
-                "application/x-fds-disk",
-                "application/x-fictionbook+xml",
-                "application/x-fluid",
-                "application/x-font-afm",
-                "application/x-font-bdf",
-                "application/x-font-dos",
-                "application/x-font-framemaker",
-                "application/x-font-libgrx",
-                "application/x-font-linux-psf",
-                "application/x-font-pcf",
-                "application/x-font-speedo",
-                "application/x-font-sunos-news",
-                "application/x-font-tex",
-                "application/x-font-tex-tfm",
-                "application/x-font-ttx",
-                "application/x-font-type1",
-                "application/x-font-vfont",
-                "application/x-gameboy-color-rom",
-                "application/x-gameboy-rom",
-                "application/x-gamecube-rom",
-                "application/x-gamegear-rom",
-                "application/x-gba-rom",
-                "application/x-gd-rom-cue",
-                "application/x-gdbm",
-                "application/x-gedcom",
-                "application/x-genesis-32x-rom",
-                "application/x-genesis-rom",
-                "application/x-gettext-translation",
-                "application/x-glade",
-                "application/x-gnucash",
-                "application/x-gnumeric",
-                "application/x-gnuplot",
-                "application/x-go-sgf",
-                "application/x-graphite",
-                "application/x-gtk-builder",
-                "application/x-gtktalog",
-                "application/x-gz-font-linux-psf",
-                "application/x-gzdvi",
-                "application/x-gzpdf",
-                "application/x-gzpostscript",
-                "application/x-hdf",
-                "application/x-hfe-floppy-image",
-                "application/x-hwp",
-                "application/x-hwt",
-                "application/x-ica",
-                "application/x-iff",
-                "application/x-ipod-firmware",
-                "application/x-ips-patch",
-                "application/x-ipynb+json",
-                "application/x-iso9660-appimage",
-                "application/x-it87",
-                "application/x-java",
-                "application/x-java-archive",
-                "application/x-java-jce-keystore",
-                "application/x-java-jnlp-file",
-                "application/x-java-keystore",
-                "application/x-java-pack200",
-                "application/x-jbuilder-project",
-                "application/x-karbon",
-                "application/x-kchart",
-                "application/x-kexi-connectiondata",
-                "application/x-kexiproject-shortcut",
-                "application/x-kexiproject-sqlite2",
-                "application/x-kexiproject-sqlite3",
-                "application/x-kformula",
-                "application/x-killustrator",
-                "application/x-kivio",
-                "application/x-kontour",
-                "application/x-kpovmodeler",
-                "application/x-kpresenter",
-                "application/x-krita",
-                "application/x-kspread",
-                "application/x-kspread-crypt",
-                "application/x-ksysv-package",
-                "application/x-kugar",
-                "application/x-kword",
-                "application/x-kword-crypt",
-                "application/x-lha",
-                "application/x-lhz",
-                "application/x-lrzip",
-                "application/x-lrzip-compressed-tar",
-                "application/x-lyx",
-                "application/x-lz4",
-                "application/x-lz4-compressed-tar",
-                "application/x-lzip",
-                "application/x-lzip-compressed-tar",
-                "application/x-lzma",
-                "application/x-lzma-compressed-tar",
-                "application/x-lzop",
-                "application/x-lzpdf",
-                "application/x-m4",
-                "application/x-macbinary",
-                "application/x-magicpoint",
-                "application/x-mame-chd",
-                "application/x-markaby",
-                "application/x-matroska",
-                "application/x-mif",
-                "application/x-mimearchive",
-                "application/x-mobipocket-ebook",
-                "application/x-mozilla-bookmarks",
-                "application/x-ms-dos-executable",
-                "application/x-ms-wim",
-                "application/x-msi",
-                "application/x-mswinurl",
-                "application/x-mswrite",
-                "application/x-msx-rom",
-                "application/x-n64-rom",
-                "application/x-nautilus-link",
-                "application/x-navi-animation",
-                "application/x-neo-geo-pocket-color-rom",
-                "application/x-neo-geo-pocket-rom",
-                "application/x-nes-rom",
-                "application/x-netcdf",
-                "application/x-netshow-channel",
-                "application/x-nintendo-3ds-executable",
-                "application/x-nintendo-3ds-rom",
-                "application/x-nintendo-ds-rom",
-                "application/x-nzb",
-                "application/x-object",
-                "application/x-ole-storage",
-                "application/x-oleo",
-                "application/x-pagemaker",
-                "application/x-pak",
-                "application/x-par2",
-                "application/x-partial-download",
-                "application/x-pc-engine-rom",
-                "application/x-pef-executable",
-                "application/x-perl",
-                "application/x-php",
-                "application/x-pkcs7-certificates",
-                "application/x-planperfect",
-                "application/x-pocket-word",
-                "application/x-profile",
-                "application/x-pw",
-                "application/x-pyspread-bz-spreadsheet",
-                "application/x-pyspread-spreadsheet",
-                "application/x-python-bytecode",
-                "application/x-qemu-disk",
-                "application/x-qpress",
-                "application/x-qtiplot",
-                "application/x-quattropro",
-                "application/x-quicktime-media-link",
-                "application/x-qw",
-                "application/x-raw-disk-image",
-                "application/x-raw-disk-image-xz-compressed",
-                "application/x-raw-floppy-disk-image",
-                "application/x-riff",
-                "application/x-rpm",
-                "application/x-ruby",
-                "application/x-sami",
-                "application/x-saturn-rom",
-                "application/x-sc",
-                "application/x-sega-cd-rom",
-                "application/x-sega-pico-rom",
-                "application/x-sg1000-rom",
-                "application/x-shar",
-                "application/x-shared-library-la",
-                "application/x-sharedlib",
-                "application/x-shellscript",
-                "application/x-shorten",
-                "application/x-siag",
-                "application/x-slp",
-                "application/x-sms-rom",
-                "application/x-source-rpm",
-                "application/x-spss-por",
-                "application/x-spss-sav",
-                "application/x-sqlite2",
-                "application/x-stuffit",
-                "application/x-subrip",
-                "application/x-sv4cpio",
-                "application/x-sv4crc",
-                "application/x-t602",
-                "application/x-tar",
-                "application/x-tarz",
-                "application/x-tex-gf",
-                "application/x-tex-pk",
-                "application/x-tgif",
-                "application/x-theme",
-                "application/x-thomson-cartridge-memo7",
-                "application/x-thomson-cassette",
-                "application/x-thomson-sap-image",
-                "application/x-toutdoux",
-                "application/x-trash",
-                "application/x-troff-man",
-                "application/x-troff-man-compressed",
-                "application/x-tzo",
-                "application/x-ufraw",
-                "application/x-ustar",
-                "application/x-virtual-boy-rom",
-                "application/x-wais-source",
-                "application/x-wii-rom",
-                "application/x-wii-wad",
-                "application/x-windows-themepack",
-                "application/x-wonderswan-color-rom",
-                "application/x-wonderswan-rom",
-                "application/x-wpg",
-                "application/x-wwf",
-                "application/x-x509-ca-cert",
-                "application/x-xar",
-                "application/x-xbel",
-                "application/x-xpinstall",
-                "application/x-xz",
-                "application/x-xz-compressed-tar",
-                "application/x-xzpdf",
-                "application/x-yaml",
-                "application/x-zerosize",
-                "application/x-zip-compressed-fb2",
-                "application/x-zoo",
-                "application/x-zstd-compressed-tar",
-                "application/xhtml+xml",
-                "application/xliff+xml",
-                "application/xml",
-                "application/xml-dtd",
-                "application/xml-external-parsed-entity",
-                "application/xslt+xml",
-                "application/xspf+xml",
-                "application/zip",
-                "application/zlib",
-                "application/zstd",
-                "audio/aac",
-                "audio/ac3",
-                "audio/AMR",
-                "audio/AMR-WB",
-                "audio/annodex",
-                "audio/basic",
-                "audio/flac",
-                "audio/midi",
-                "audio/mp2",
-                "audio/mp4",
-                "audio/mpeg",
-                "audio/ogg",
-                "audio/prs.sid",
-                "audio/usac",
-                "audio/vnd.audible.aax",
-                "audio/vnd.dts",
-                "audio/vnd.dts.hd",
-                "audio/vnd.rn-realaudio",
-                "audio/webm",
-                "audio/x-adpcm",
-                "audio/x-aifc",
-                "audio/x-aiff",
-                "audio/x-amzxml",
-                "audio/x-ape",
-                "audio/x-flac+ogg",
-                "audio/x-gsm",
-                "audio/x-iriver-pla",
-                "audio/x-it",
-                "audio/x-m4b",
-                "audio/x-m4r",
-                "audio/x-matroska",
-                "audio/x-minipsf",
-                "audio/x-mo3",
-                "audio/x-mod",
-                "audio/x-mpegurl",
-                "audio/x-ms-asx",
-                "audio/x-ms-wma",
-                "audio/x-musepack",
-                "audio/x-opus+ogg",
-                "audio/x-pn-audibleaudio",
-                "audio/x-psf",
-                "audio/x-psflib",
-                "audio/x-riff",
-                "audio/x-s3m",
-                "audio/x-scpls",
-                "audio/x-speex",
-                "audio/x-speex+ogg",
-                "audio/x-stm",
-                "audio/x-tta",
-                "audio/x-voc",
-                "audio/x-vorbis+ogg",
-                "audio/x-wav",
-                "audio/x-wavpack",
-                "audio/x-wavpack-correction",
-                "audio/x-xi",
-                "audio/x-xm",
-                "audio/x-xmf",
-                "font/collection",
-                "font/otf",
-                "font/ttf",
-                "font/woff",
-                "font/woff2",
-                "image/astc",
-                "image/avif",
-                "image/bmp",
-                "image/cgm",
-                "image/dpx",
-                "image/emf",
-                "image/fits",
-                "image/g3fax",
-                "image/gif",
-                "image/heif",
-                "image/ief",
-                "image/jp2",
-                "image/jpeg",
-                "image/jpm",
-                "image/jpx",
-                "image/ktx",
-                "image/ktx2",
-                "image/openraster",
-                "image/png",
-                "image/rle",
-                "image/svg+xml",
-                "image/svg+xml-compressed",
-                "image/tiff",
-                "image/vnd.adobe.photoshop",
-                "image/vnd.djvu",
-                "image/vnd.djvu+multipage",
-                "image/vnd.dwg",
-                "image/vnd.dxf",
-                "image/vnd.microsoft.icon",
-                "image/vnd.ms-modi",
-                "image/vnd.rn-realpix",
-                "image/vnd.wap.wbmp",
-                "image/vnd.zbrush.pcx",
-                "image/webp",
-                "image/wmf",
-                "image/x-3ds",
-                "image/x-adobe-dng",
-                "image/x-applix-graphics",
-                "image/x-bzeps",
-                "image/x-canon-cr2",
-                "image/x-canon-crw",
-                "image/x-cmu-raster",
-                "image/x-compressed-xcf",
-                "image/x-dcraw",
-                "image/x-dds",
-                "image/x-dib",
-                "image/x-eps",
-                "image/x-exr",
-                "image/x-fpx",
-                "image/x-fuji-raf",
-                "image/x-gimp-gbr",
-                "image/x-gimp-gih",
-                "image/x-gimp-pat",
-                "image/x-gzeps",
-                "image/x-icns",
-                "image/x-ilbm",
-                "image/x-jng",
-                "image/x-jp2-codestream",
-                "image/x-kodak-dcr",
-                "image/x-kodak-k25",
-                "image/x-kodak-kdc",
-                "image/x-lwo",
-                "image/x-lws",
-                "image/x-macpaint",
-                "image/x-minolta-mrw",
-                "image/x-msod",
-                "image/x-niff",
-                "image/x-nikon-nef",
-                "image/x-olympus-orf",
-                "image/x-panasonic-rw",
-                "image/x-panasonic-rw2",
-                "image/x-pentax-pef",
-                "image/x-photo-cd",
-                "image/x-pict",
-                "image/x-portable-anymap",
-                "image/x-portable-bitmap",
-                "image/x-portable-graymap",
-                "image/x-portable-pixmap",
-                "image/x-quicktime",
-                "image/x-rgb",
-                "image/x-sgi",
-                "image/x-sigma-x3f",
-                "image/x-skencil",
-                "image/x-sony-arw",
-                "image/x-sony-sr2",
-                "image/x-sony-srf",
-                "image/x-sun-raster",
-                "image/x-tga",
-                "image/x-tiff-multipage",
-                "image/x-win-bitmap",
-                "image/x-xbitmap",
-                "image/x-xcf",
-                "image/x-xcursor",
-                "image/x-xfig",
-                "image/x-xpixmap",
-                "image/x-xwindowdump",
-                "inode/blockdevice",
-                "inode/chardevice",
-                "inode/directory",
-                "inode/fifo",
-                "inode/mount-point",
-                "inode/socket",
-                "inode/symlink",
-                "message/delivery-status",
-                "message/disposition-notification",
-                "message/external-body",
-                "message/news",
-                "message/partial",
-                "message/rfc822",
-                "message/x-gnu-rmail",
-                "model/iges",
-                "model/stl",
-                "model/vrml",
-                "multipart/alternative",
-                "multipart/appledouble",
-                "multipart/digest",
-                "multipart/encrypted",
-                "multipart/mixed",
-                "multipart/related",
-                "multipart/report",
-                "multipart/signed",
-                "multipart/x-mixed-replace",
-                "text/cache-manifest",
-                "text/calendar",
-                "text/css",
-                "text/csv",
-                "text/csv-schema",
-                "text/enriched",
-                "text/html",
-                "text/htmlh",
-                "text/markdown",
-                "text/plain",
-                "text/rfc822-headers",
-                "text/richtext",
-                "text/rust",
-                "text/sgml",
-                "text/spreadsheet",
-                "text/tab-separated-values",
-                "text/tcl",
-                "text/troff",
-                "text/turtle",
-                "text/vbscript",
-                "text/vcard",
-                "text/vnd.graphviz",
-                "text/vnd.rn-realtext",
-                "text/vnd.senx.warpscript",
-                "text/vnd.sun.j2me.app-descriptor",
-                "text/vnd.trolltech.linguist",
-                "text/vnd.wap.wml",
-                "text/vnd.wap.wmlscript",
-                "text/vtt",
-                "text/x-adasrc",
-                "text/x-authors",
-                "text/x-bibtex",
-                "text/x-c++hdr",
-                "text/x-c++src",
-                "text/x-changelog",
-                "text/x-chdr",
-                "text/x-cmake",
-                "text/x-cobol",
-                "text/x-common-lisp",
-                "text/x-copying",
-                "text/x-credits",
-                "text/x-csharp",
-                "text/x-csrc",
-                "text/x-dbus-service",
-                "text/x-dcl",
-                "text/x-dsl",
-                "text/x-dsrc",
-                "text/x-eiffel",
-                "text/x-emacs-lisp",
-                "text/x-erlang",
-                "text/x-fortran",
-                "text/x-genie",
-                "text/x-gettext-translation",
-                "text/x-gettext-translation-template",
-                "text/x-gherkin",
-                "text/x-go",
-                "text/x-google-video-pointer",
-                "text/x-gradle",
-                "text/x-groovy",
-                "text/x-haskell",
-                "text/x-idl",
-                "text/x-iMelody",
-                "text/x-install",
-                "text/x-iptables",
-                "text/x-java",
-                "text/x-kaitai-struct",
-                "text/x-kotlin",
-                "text/x-ldif",
-                "text/x-lilypond",
-                "text/x-literate-haskell",
-                "text/x-log",
-                "text/x-lua",
-                "text/x-makefile",
-                "text/x-matlab",
-                "text/x-maven+xml",
-                "text/x-meson",
-                "text/x-microdvd",
-                "text/x-moc",
-                "text/x-modelica",
-                "text/x-mof",
-                "text/x-mpsub",
-                "text/x-mrml",
-                "text/x-ms-regedit",
-                "text/x-mup",
-                "text/x-nfo",
-                "text/x-objcsrc",
-                "text/x-ocaml",
-                "text/x-ocl",
-                "text/x-ooc",
-                "text/x-opencl-src",
-                "text/x-opml+xml",
-                "text/x-pascal",
-                "text/x-patch",
-                "text/x-python",
-                "text/x-python3",
-                "text/x-qml",
-                "text/x-readme",
-                "text/x-reject",
-                "text/x-rpm-spec",
-                "text/x-rst",
-                "text/x-sagemath",
-                "text/x-sass",
-                "text/x-scala",
-                "text/x-scheme",
-                "text/x-scons",
-                "text/x-scss",
-                "text/x-setext",
-                "text/x-ssa",
-                "text/x-subviewer",
-                "text/x-svhdr",
-                "text/x-svsrc",
-                "text/x-systemd-unit",
-                "text/x-tex",
-                "text/x-texinfo",
-                "text/x-troff-me",
-                "text/x-troff-mm",
-                "text/x-troff-ms",
-                "text/x-twig",
-                "text/x-txt2tags",
-                "text/x-uil",
-                "text/x-uri",
-                "text/x-uuencode",
-                "text/x-vala",
-                "text/x-verilog",
-                "text/x-vhdl",
-                "text/x-xmi",
-                "text/x-xslfo",
-                "text/x.gcode",
-                "text/xmcd",
-                "video/3gpp",
-                "video/3gpp2",
-                "video/annodex",
-                "video/dv",
-                "video/isivideo",
-                "video/mj2",
-                "video/mp2t",
-                "video/mp4",
-                "video/mpeg",
-                "video/ogg",
-                "video/quicktime",
-                "video/vnd.mpegurl",
-                "video/vnd.rn-realvideo",
-                "video/vnd.vivo",
-                "video/wavelet",
-                "video/webm",
-                "video/x-anim",
-                "video/x-flic",
-                "video/x-flv",
-                "video/x-javafx",
-                "video/x-matroska",
-                "video/x-matroska-3d",
-                "video/x-mjpeg",
-                "video/x-mng",
-                "video/x-ms-wmv",
-                "video/x-msvideo",
-                "video/x-nsv",
-                "video/x-ogm+ogg",
-                "video/x-sgi-movie",
-                "video/x-theora+ogg",
-                "x-content/audio-cdda",
-                "x-content/audio-dvd",
-                "x-content/audio-player",
-                "x-content/blank-bd",
-                "x-content/blank-cd",
-                "x-content/blank-dvd",
-                "x-content/blank-hddvd",
-                "x-content/ebook-reader",
-                "x-content/image-dcf",
-                "x-content/image-picturecd",
-                "x-content/ostree-repository",
-                "x-content/software",
-                "x-content/unix-software",
-                "x-content/video-bluray",
-                "x-content/video-dvd",
-                "x-content/video-hddvd",
-                "x-content/video-svcd",
-                "x-content/video-vcd",
-                "x-content/win32-software",
-                "x-epoc/x-sisx-app"
-        };
+    private static final String[] LANG_ALIASES_639_1 = {
+                "aa", "aar", "ab", "abk", "ae", "ave", "af", "afr", "ak", "aka", "am", "amh", "an", "arg", "ar", "ara",
+                "as", "asm", "av", "ava", "ay", "aym", "az", "aze", "ba", "bak", "be", "bel", "bg", "bul", "bi", "bis",
+                "bm", "bam", "bn", "ben", "bo", "tib", "br", "bre", "bs", "bos", "ca", "cat", "ce", "che", "ch", "cha",
+                "co", "cos", "cr", "cre", "cs", "cze", "cu", "chu", "cv", "chv", "cy", "wel", "da", "dan", "de", "ger",
+                "dv", "div", "dz", "dzo", "ee", "ewe", "el", "gre", "en", "eng", "eo", "epo", "es", "spa", "et", "est",
+                "eu", "baq", "fa", "per", "ff", "ful", "fi", "fin", "fj", "fij", "fo", "fao", "fr", "fre", "fy", "fry",
+                "ga", "gle", "gd", "gla", "gl", "glg", "gn", "grn", "gu", "guj", "gv", "glv", "ha", "hau", "he", "heb",
+                "hi", "hin", "ho", "hmo", "hr", "hrv", "ht", "hat", "hu", "hun", "hy", "arm", "hz", "her", "ia", "ina",
+                "id", "ind", "ie", "ile", "ig", "ibo", "ii", "iii", "ik", "ipk", "io", "ido", "is", "ice", "it", "ita",
+                "iu", "iku", "ja", "jpn", "jv", "jav", "ka", "geo", "kg", "kon", "ki", "kik", "kj", "kua", "kk", "kaz",
+                "kl", "kal", "km", "khm", "kn", "kan", "ko", "kor", "kr", "kau", "ks", "kas", "ku", "kur", "kv", "kom",
+                "kw", "cor", "ky", "kir", "la", "lat", "lb", "ltz", "lg", "lug", "li", "lim", "ln", "lin", "lo", "lao",
+                "lt", "lit", "lu", "lub", "lv", "lav", "mg", "mlg", "mh", "mah", "mi", "mao", "mk", "mac", "ml", "mal",
+                "mn", "mon", "mr", "mar", "ms", "may", "mt", "mlt", "my", "bur", "na", "nau", "nb", "nob", "nd", "nde",
+                "ne", "nep", "ng", "ndo", "nl", "dut", "nn", "nno", "no", "nor", "nr", "nbl", "nv", "nav", "ny", "nya",
+                "oc", "oci", "oj", "oji", "om", "orm", "or", "ori", "os", "oss", "pa", "pan", "pi", "pli", "pl", "pol",
+                "ps", "pus", "pt", "por", "qu", "que", "rm", "roh", "rn", "run", "ro", "rum", "ru", "rus", "rw", "kin",
+                "sa", "san", "sc", "srd", "sd", "snd", "se", "sme", "sg", "sag", "si", "sin", "sk", "slo", "sl", "slv",
+                "sm", "smo", "sn", "sna", "so", "som", "sq", "alb", "sr", "srp", "ss", "ssw", "st", "sot", "su", "sun",
+                "sv", "swe", "sw", "swa", "ta", "tam", "te", "tel", "tg", "tgk", "th", "tha", "ti", "tir", "tk", "tuk",
+                "tl", "tgl", "tn", "tsn", "to", "ton", "tr", "tur", "ts", "tso", "tt", "tat", "tw", "twi", "ty", "tah",
+                "ug", "uig", "uk", "ukr", "ur", "urd", "uz", "uzb", "ve", "ven", "vi", "vie", "vo", "vol", "wa", "wln",
+                "wo", "wol", "xh", "xho", "yi", "yid", "yo", "yor", "za", "zha", "zh", "chi", "zu", "zul"
+    };
 
-        return mimeTypes;
-    }
+    /*
+     * ISO 639-2/T codes followed by the ISO 639-2/B code used above for the
+     * same language, e.g. "deu" and "ger"
+     *
+     */
+    private static final String[] LANG_ALIASES_639_2T = {
+                "sqi", "alb", "hye", "arm", "eus", "baq", "mya", "bur", "zho", "chi", "ces", "cze", "nld", "dut", "fra", "fre",
+                "kat", "geo", "deu", "ger", "ell", "gre", "isl", "ice", "mkd", "mac", "mri", "mao", "msa", "may", "fas", "per",
+                "ron", "rum", "slk", "slo", "bod", "tib", "cym", "wel"
+    };
+
+    private List<String> langNameList = null;
+    private List<String> langCodeList = null;
+    private List<String> mimeTypeList = null;
 
-    private List<String> langNameList = new ArrayList<String>(Arrays.asList(getLangNames()));
-    private List<String> langCodeList = new ArrayList<String>(Arrays.asList(getLangCodes()));
-    private List<String> mimeTypeList = new ArrayList<String>(Arrays.asList(getMimeTypes()));
+    private Map<String, Integer> langCodeIndex = null;
+    private Map<String, Integer> langNameIndex = null;
+    private Map<String, String> langAliases = null;
+    private String[] langPrefixKeys = null;
+    private int[] langPrefixOrder = null;
+    private Map<String, Integer> mimeTypeIndex = null;
+
+    /**
+     * Returns the language names as a read-only list. It is built on first use
+     * and shared by all callers.
+     */
+    public synchronized List<String> getLangNameList() {
+        buildIndex();
 
-    public List<String> getLangNameList() {
         return langNameList;
     }
 
-    public List<String> getLangCodeList() {
+    /**
+     * Returns the language codes as a read-only list, in the same order as
+     * the names.
+     */
+    public synchronized List<String> getLangCodeList() {
+        buildIndex();
+
         return langCodeList;
     }
 
-    public List<String> getMimeTypeList() {
+    /**
+     * Returns the MIME types as a read-only list.
+     */
+    public synchronized List<String> getMimeTypeList() {
+        buildIndex();
+
         return mimeTypeList;
     }
+
+    public synchronized String getLangName(int index) {
+        buildIndex();
+
+        return langNameList.get(index);
+    }
+
+    public synchronized String getLangCode(int index) {
+        buildIndex();
+
+        return langCodeList.get(index);
+    }
+
+    /**
+     * Returns the position of a language in the lists. ISO 639-1 codes, ISO
+     * 639-2/T codes and BCP 47 tags are resolved to the code used in the
+     * lists.
+     *
+     * @return the index, or -1 if the language is unknown.
+     */
+    public synchronized int getLangIndex(String code) {
+        String resolved = resolveLangCode(code);
+
+        return resolved == null ? -1 : langCodeIndex.get(resolved);
+    }
+
+    /**
+     * Returns the position of a language name in the lists, or -1 if the name
+     * is unknown.
+     */
+    public synchronized int getLangIndexForName(String name) {
+        buildIndex();
+
+        Integer index = langNameIndex.get(name);
+
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the name of a language, or null if the code is unknown.
+     */
+    public synchronized String getLangNameForCode(String code) {
+        int index = getLangIndex(code);
+
+        return index < 0 ? null : langNameList.get(index);
+    }
+
+    /**
+     * Returns the code of a language name, or null if the name is unknown.
+     */
+    public synchronized String getLangCodeForName(String name) {
+        int index = getLangIndexForName(name);
+
+        return index < 0 ? null : langCodeList.get(index);
+    }
+
+    /**
+     * Resolves a language code or tag to the code used in the lists, e.g.
+     * "de", "deu" and "de-AT" all resolve to "ger".
+     *
+     * @return the code, or null if the language is unknown.
+     */
+    public synchronized String resolveLangCode(String code) {
+        buildIndex();
+
+        if (code == null) {
+            return null;
+        }
+
+        // Only the primary language subtag of BCP 47 tags is used
+        String lang = code.trim().toLowerCase(Locale.ROOT);
+        int sep = lang.indexOf('-');
+
+        if (sep < 0) {
+            sep = lang.indexOf('_');
+        }
+
+        if (sep >= 0) {
+            lang = lang.substring(0, sep);
+        }
+
+        if (langCodeIndex.containsKey(lang)) {
+            return lang;
+        }
+
+        return langAliases.get(lang);
+    }
+
+    /**
+     * Finds the first language name, in case insensitive alphabetical order,
+     * starting with the given text.
+     *
+     * @return the position of the language in the lists, or -1 if no name
+     *         matches.
+     */
+    public synchronized int findLangByPrefix(String prefix) {
+        buildIndex();
+
+        String key = prefix.toLowerCase(Locale.ROOT);
+        int pos = Arrays.binarySearch(langPrefixKeys, key);
+
+        if (pos < 0) {
+            pos = -pos - 1;
+        }
+
+        if (pos < langPrefixKeys.length && langPrefixKeys[pos].startsWith(key)) {
+            return langPrefixOrder[pos];
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the position of a MIME type in the list, or -1 if it is unknown.
+     */
+    public synchronized int getMimeTypeIndex(String mimeType) {
+        buildIndex();
+
+        Integer index = mimeTypeIndex.get(mimeType);
+
+        return index == null ? -1 : index;
+    }
+
+    private void buildIndex() {
+        if (langCodeIndex != null) {
+            return;
+        }
+
+        Data data = getData();
+        String[] langNames = data.langNames;
+        String[] langCodes = data.langCodes;
+        String[] mimeTypes = data.mimeTypes;
+
+        langNameList = Collections.unmodifiableList(Arrays.asList(langNames));
+        langCodeList = Collections.unmodifiableList(Arrays.asList(langCodes));
+        mimeTypeList = Collections.unmodifiableList(Arrays.asList(mimeTypes));
+
+        langCodeIndex = new HashMap<String, Integer>(langCodes.length * 2);
+        langNameIndex = new HashMap<String, Integer>(langNames.length * 2);
+
+        for (int i = 0; i < langCodes.length; i++) {
+            langCodeIndex.put(langCodes[i], i);
+            langNameIndex.put(langNames[i], i);
+        }
+
+        langAliases = new HashMap<String, String>();
+        addLangAliases(LANG_ALIASES_639_1);
+        addLangAliases(LANG_ALIASES_639_2T);
+
+        // Sorted keys for prefix searches
+        final String[] keys = new String[langNames.length];
+        Integer[] order = new Integer[langNames.length];
+
+        for (int i = 0; i < langNames.length; i++) {
+            keys[i] = langNames[i].toLowerCase(Locale.ROOT);
+            order[i] = i;
+        }
+
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return keys[a].compareTo(keys[b]);
+            }
+        });
+
+        langPrefixKeys = new String[keys.length];
+        langPrefixOrder = new int[keys.length];
+
+        for (int i = 0; i < order.length; i++) {
+            langPrefixKeys[i] = keys[order[i]];
+            langPrefixOrder[i] = order[i];
+        }
+
+        mimeTypeIndex = new HashMap<String, Integer>(mimeTypes.length * 2);
+
+        for (int i = 0; i < mimeTypes.length; i++) {
+            mimeTypeIndex.put(mimeTypes[i], i);
+        }
+    }
+
+    private void addLangAliases(String[] aliases) {
+        for (int i = 0; i < aliases.length; i += 2) {
+            // Skip codes that are not in the list
+            if (langCodeIndex.containsKey(aliases[i + 1])) {
+                langAliases.put(aliases[i], aliases[i + 1]);
+            }
+        }
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package io.github.brunorex;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/*
+ * Pool of mkvpropedit option files.
+ *
+ * Every file gets a unique name in the temporary folder, so concurrent jobs
+ * and other running instances never share one. Released files are kept and
+ * overwritten by the next job instead of being deleted and created again.
+ *
+ */
+
+public class OptionFilePool {
+    private static final String PREFIX = "jmkvpropedit-";
+    private static final String SUFFIX = ".json";
+
+    private final File dir;
+    private final Queue<File> free = new ConcurrentLinkedQueue<File>();
+    private final Set<File> created = ConcurrentHashMap.<File> newKeySet();
+
+    public OptionFilePool(File dir) {
+        this.dir = dir;
+    }
+
+    public static File getDefaultDir() {
+        return new File(System.getProperty("java.io.tmpdir"));
+    }
+
+    public File getDir() {
+        return dir;
+    }
+
+    public File acquire() throws IOException {
+        File file = free.poll();
+
+        if (file == null || !file.exists()) {
+            if (!dir.isDirectory() && !dir.mkdirs()) {
+                throw new IOException("Cannot create temporary folder: " + dir);
+            }
+
+            file = File.createTempFile(PREFIX, SUFFIX, dir);
+            file.deleteOnExit();
+            created.add(file);
+        }
+
+        return file;
+    }
+
+    public void release(File file) {
+        if (file != null) {
+            free.offer(file);
+        }
+    }
+
+    /**
+     * Deletes every option file created by this pool.
+     */
+    public void close() {
+        free.clear();
+
+        for (File file : created) {
+            file.delete();
+        }
+
+        created.clear();
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package io.github.brunorex;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import javax.swing.JTextArea;
+import javax.swing.Timer;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.Element;
+
+/*
+ * Output sink for a JTextArea.
+ *
+ * Text can be appended from any thread. It is buffered and written to the
+ * text area in one chunk per timer tick. Only the last MAX_CHARS characters
+ * are kept in the text area, older lines are trimmed. The full output is
+ * also written to a log file, which is replaced when the output is
+ * cleared and deleted when the console is closed.
+ *
+ */
+
+public class OutputConsole {
+    private static final int FLUSH_INTERVAL = 100; // ms
+    private static final int MAX_CHARS = 1024 * 1024;
+
+    private final JTextArea text;
+    private final StringBuilder pending = new StringBuilder();
+    private final Timer timer;
+
+    private File logDir = new File(System.getProperty("java.io.tmpdir"));
+    private File logFile = null;
+    private Writer logWriter = null;
+    private boolean logFailed = false;
+
+    public OutputConsole(JTextArea text) {
+        this.text = text;
+
+        timer = new Timer(FLUSH_INTERVAL, new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                flush();
+            }
+        });
+        timer.start();
+    }
+
+    public synchronized void setLogDir(File logDir) {
+        this.logDir = logDir;
+    }
+
+    /**
+     * Returns the file with the full output since the last call to clear(),
+     * or null if nothing was written yet.
+     */
+    public synchronized File getLogFile() {
+        return logFile;
+    }
+
+    public synchronized void append(String str) {
+        pending.append(str);
+
+        // The text area only keeps MAX_CHARS, there is no point in buffering more
+        if (pending.length() > 2 * MAX_CHARS) {
+            pending.delete(0, pending.length() - MAX_CHARS);
+        }
+
+        writeLog(str);
+    }
+
+    /**
+     * Clears the text area, deletes the log file and starts a new one. Must
+     * be called on the event dispatch thread.
+     */
+    public void clear() {
+        synchronized (this) {
+            pending.setLength(0);
+            closeLog();
+
+            if (logFile != null) {
+                logFile.delete();
+            }
+
+            logFile = null;
+            logFailed = false;
+        }
+
+        text.setText("");
+    }
+
+    /**
+     * Writes the pending text to the text area. Must be called on the event
+     * dispatch thread.
+     */
+    public void flush() {
+        String chunk;
+        String notice;
+
+        synchronized (this) {
+            if (pending.length() == 0) {
+                return;
+            }
+
+            chunk = pending.toString();
+            pending.setLength(0);
+            notice = "[Earlier output trimmed" + (logFile != null ? ", full log: " + logFile : "") + "]\n";
+
+            try {
+                if (logWriter != null) {
+                    logWriter.flush();
+                }
+            } catch (IOException e) {
+            }
+        }
+
+        text.append(chunk);
+
+        Document doc = text.getDocument();
+        int excess = doc.getLength() - MAX_CHARS;
+
+        if (excess > 0) {
+            trimLines(doc, excess, notice);
+        }
+
+        text.setCaretPosition(doc.getLength()); // Autoscroll
+    }
+
+    public synchronized void close() {
+        timer.stop();
+        closeLog();
+
+        if (logFile != null) {
+            logFile.delete();
+            logFile = null;
+        }
+
+        // Jobs still finishing must not start a new log
+        logFailed = true;
+    }
+
+    private void trimLines(Document doc, int excess, String notice) {
+        Element root = doc.getDefaultRootElement();
+        Element line = root.getElement(root.getElementIndex(excess + notice.length()));
+
+        try {
+            doc.remove(0, Math.min(line.getEndOffset(), doc.getLength()));
+            doc.insertString(0, notice, null);
+        } catch (BadLocationException e) {
+        }
+    }
+
+    private void writeLog(String str) {
+        if (logFailed) {
+            return;
+        }
+
+        try {
+            if (logWriter == null) {
+                logFile = File.createTempFile("jmkvpropedit-", ".log", logDir);
+                logWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(logFile), "UTF-8"));
+            }
+
+            logWriter.write(str);
+        } catch (IOException e) {
+            closeLog();
+            logFailed = true;
+        }
+    }
+
+    private void closeLog() {
+        if (logWriter != null) {
+            try {
+                logWriter.close();
+            } catch (IOException e) {
+            }
+        }
+
+        logWriter = null;
+    }
+}
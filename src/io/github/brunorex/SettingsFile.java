@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+
+package io.github.brunorex;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.ini4j.Config;
+import org.ini4j.Ini;
+import org.ini4j.Profile.Section;
+
+/*
+ * Reads the edit settings for the command-line mode from an INI file.
+ *
+ * [General] holds the title, chapters, tags and extra parameters. Tracks
+ * are edited in sections named after the track, e.g. [Video 1] or
+ * [Subtitle 3]. Attachments are changed in [Delete Attachment N],
+ * [Add Attachment N] and [Replace Attachment N] sections, in the order
+ * they appear. Backslashes are not escape characters, so Windows paths
+ * can be written as-is. Job profiles saved by the GUI are read as well.
+ *
+ */
+
+public class SettingsFile {
+
+    /* Keys for JobSettings.SELECT_NAME, SELECT_ID and SELECT_MIME_TYPE */
+    private static final String[] SELECT_KEYS = { "match-name", "match-id", "match-mime-type" };
+
+    private static final MkvStrings mkvStrings = MkvStrings.getInstance();
+
+    private SettingsFile() {
+    }
+
+    public static JobSettings read(File file) throws IOException {
+        if (JobProfile.isProfile(file)) {
+            return JobProfile.read(file);
+        }
+
+        Config config = new Config();
+        config.setEscape(false);
+
+        Ini ini = new Ini();
+        ini.setConfig(config);
+        ini.load(file);
+
+        JobSettings settings = new JobSettings();
+
+        for (Section section : ini.values()) {
+            String[] name = section.getName().trim().split("\\s+");
+
+            if (name.length == 1 && name[0].equalsIgnoreCase("General")) {
+                readGeneral(section, settings);
+            } else if (name.length == 2 && name[0].equalsIgnoreCase("Video")) {
+                readTrack(section, getTrack(section, name[1], settings.getVideoTracks()));
+            } else if (name.length == 2 && name[0].equalsIgnoreCase("Audio")) {
+                readTrack(section, getTrack(section, name[1], settings.getAudioTracks()));
+            } else if (name.length == 2 && name[0].equalsIgnoreCase("Subtitle")) {
+                readTrack(section, getTrack(section, name[1], settings.getSubtitleTracks()));
+            } else if (name.length == 3 && name[1].equalsIgnoreCase("Attachment")) {
+                if (name[0].equalsIgnoreCase("Add")) {
+                    readAttachmentAdd(section, settings);
+                } else if (name[0].equalsIgnoreCase("Replace")) {
+                    readAttachmentReplace(section, settings);
+                } else if (name[0].equalsIgnoreCase("Delete")) {
+                    readAttachmentDelete(section, settings);
+                } else {
+                    throw error(section, "Unknown section");
+                }
+            } else {
+                throw error(section, "Unknown section");
+            }
+        }
+
+        return settings;
+    }
+
+    private static void readGeneral(Section section, JobSettings settings) throws IOException {
+        checkKeys(section, "title", "numbering-start", "numbering-padding", "chapters", "chapters-file",
+                "chapters-ext", "tags", "tags-file", "tags-ext", "extra");
+
+        if (section.containsKey("title")) {
+            settings.setSetTitle(true);
+            settings.setTitle(section.get("title"));
+        }
+
+        if (section.containsKey("numbering-start") || section.containsKey("numbering-padding")) {
+            settings.setNumbering(true);
+            settings.setNumbStart(getNumber(section, "numbering-start"));
+            settings.setNumbPad(getNumber(section, "numbering-padding"));
+        }
+
+        if (section.containsKey("chapters")) {
+            settings.setSetChapters(true);
+            settings.setChaptersSource(getSource(section, "chapters"));
+            settings.setChapters(get(section, "chapters-file", ""));
+            settings.setChaptersExt(get(section, "chapters-ext", ".xml"));
+        }
+
+        if (section.containsKey("tags")) {
+            settings.setSetTags(true);
+            settings.setTagsSource(getSource(section, "tags"));
+            settings.setTags(get(section, "tags-file", ""));
+            settings.setTagsExt(get(section, "tags-ext", ".xml"));
+        }
+
+        if (section.containsKey("extra")) {
+            settings.setSetExtra(true);
+            settings.setExtra(section.get("extra"));
+        }
+    }
+
+    private static TrackSettings getTrack(Section section, String number, List<TrackSettings> tracks)
+            throws IOException {
+        int index;
+
+        try {
+            index = Integer.parseInt(number) - 1;
+        } catch (NumberFormatException e) {
+            throw error(section, "Invalid track number");
+        }
+
+        if (index < 0) {
+            throw error(section, "Invalid track number");
+        }
+
+        // Tracks before this one are left unchanged
+        while (tracks.size() <= index) {
+            tracks.add(new TrackSettings());
+        }
+
+        return tracks.get(index);
+    }
+
+    private static void readTrack(Section section, TrackSettings track) throws IOException {
+        checkKeys(section, "enabled", "default", "forced", "name", "numbering-start", "numbering-padding",
+                "language", "extra");
+
+        track.setEdit(true);
+
+        if (section.containsKey("enabled")) {
+            track.setSetEnabled(true);
+            track.setEnabled(getBoolean(section, "enabled"));
+        }
+
+        if (section.containsKey("default")) {
+            track.setSetDefault(true);
+            track.setDefaultTrack(getBoolean(section, "default"));
+        }
+
+        if (section.containsKey("forced")) {
+            track.setSetForced(true);
+            track.setForced(getBoolean(section, "forced"));
+        }
+
+        if (section.containsKey("name")) {
+            track.setSetName(true);
+            track.setName(section.get("name"));
+        }
+
+        if (section.containsKey("numbering-start") || section.containsKey("numbering-padding")) {
+            track.setNumbering(true);
+            track.setNumbStart(getNumber(section, "numbering-start"));
+            track.setNumbPad(getNumber(section, "numbering-padding"));
+        }
+
+        if (section.containsKey("language")) {
+            track.setSetLanguage(true);
+            track.setLanguage(getLanguage(section, "language"));
+        }
+
+        if (section.containsKey("extra")) {
+            track.setSetExtra(true);
+            track.setExtra(section.get("extra"));
+        }
+    }
+
+    private static void readAttachmentAdd(Section section, JobSettings settings) throws IOException {
+        checkKeys(section, "file", "name", "description", "mime-type");
+
+        if (get(section, "file", "").isEmpty()) {
+            throw error(section, "Missing file");
+        }
+
+        settings.getAttachmentsAdd().add(new JobSettings.AttachmentAdd(section.get("file"),
+                get(section, "name", ""), get(section, "description", ""), get(section, "mime-type", "")));
+    }
+
+    private static void readAttachmentReplace(Section section, JobSettings settings) throws IOException {
+        checkKeys(section, "match-name", "match-id", "match-mime-type", "file", "name", "description",
+                "mime-type");
+
+        if (get(section, "file", "").isEmpty()) {
+            throw error(section, "Missing file");
+        }
+
+        int select = getSelect(section);
+
+        settings.getAttachmentsReplace().add(new JobSettings.AttachmentReplace(select,
+                section.get(SELECT_KEYS[select]), section.get("file"), get(section, "name", ""),
+                get(section, "description", ""), get(section, "mime-type", "")));
+    }
+
+    private static void readAttachmentDelete(Section section, JobSettings settings) throws IOException {
+        checkKeys(section, "match-name", "match-id", "match-mime-type");
+
+        int select = getSelect(section);
+
+        settings.getAttachmentsDelete().add(new JobSettings.AttachmentDelete(select,
+                section.get(SELECT_KEYS[select])));
+    }
+
+    private static int getSelect(Section section) throws IOException {
+        int select = -1;
+
+        for (int i = 0; i < SELECT_KEYS.length; i++) {
+            if (section.containsKey(SELECT_KEYS[i])) {
+                if (select != -1) {
+                    throw error(section, "Only one of match-name, match-id or match-mime-type is allowed");
+                }
+
+                select = i;
+            }
+        }
+
+        if (select == -1) {
+            throw error(section, "Missing match-name, match-id or match-mime-type");
+        }
+
+        return select;
+    }
+
+    private static int getSource(Section section, String key) throws IOException {
+        String value = section.get(key).trim();
+
+        if (value.equalsIgnoreCase("remove")) {
+            return JobSettings.SOURCE_REMOVE;
+        } else if (value.equalsIgnoreCase("file")) {
+            return JobSettings.SOURCE_FILE;
+        } else if (value.equalsIgnoreCase("match")) {
+            return JobSettings.SOURCE_MATCH;
+        }
+
+        throw error(section, "Invalid value for " + key + ", expected remove, file or match");
+    }
+
+    private static boolean getBoolean(Section section, String key) throws IOException {
+        String value = section.get(key).trim();
+
+        if (value.equalsIgnoreCase("yes") || value.equalsIgnoreCase("true") || value.equals("1")) {
+            return true;
+        } else if (value.equalsIgnoreCase("no") || value.equalsIgnoreCase("false") || value.equals("0")) {
+            return false;
+        }
+
+        throw error(section, "Invalid value for " + key + ", expected yes or no");
+    }
+
+    private static int getNumber(Section section, String key) throws IOException {
+        if (!section.containsKey(key)) {
+            return 1;
+        }
+
+        try {
+            int number = Integer.parseInt(section.get(key).trim());
+
+            if (number >= 0) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+        }
+
+        throw error(section, "Invalid value for " + key);
+    }
+
+    private static String getLanguage(Section section, String key) throws IOException {
+        String code = mkvStrings.resolveLangCode(section.get(key));
+
+        if (code == null) {
+            throw error(section, "Unknown language code for " + key);
+        }
+
+        return code;
+    }
+
+    private static String get(Section section, String key, String defaultValue) {
+        String value = section.get(key);
+
+        return value != null ? value : defaultValue;
+    }
+
+    private static void checkKeys(Section section, String... keys) throws IOException {
+        for (String key : section.keySet()) {
+            boolean known = false;
+
+            for (String k : keys) {
+                if (k.equals(key)) {
+                    known = true;
+                    break;
+                }
+            }
+
+            if (!known) {
+                throw error(section, "Unknown key " + key);
+            }
+        }
+    }
+
+    private static IOException error(Section section, String message) {
+        return new IOException(message + " in section [" + section.getName() + "]");
+    }
+}
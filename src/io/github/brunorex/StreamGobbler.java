@@ -30,8 +30,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 
-import javax.swing.JTextArea;
-
 /*
  * Original code by Michael C. Daconta
  * Source: http://www.javaworld.com/javaworld/jw-12-2000/jw-1229-traps.html?page=4
@@ -40,11 +38,19 @@ import javax.swing.JTextArea;
 
 public class StreamGobbler extends Thread {
     private final InputStream is;
-    private final JTextArea text;
+    private final OutputConsole console;
+    private final StringBuffer buffer;
 
-    public StreamGobbler(InputStream is, JTextArea text) {
+    public StreamGobbler(InputStream is, OutputConsole console) {
         this.is = is;
-        this.text = text;
+        this.console = console;
+        this.buffer = null;
+    }
+
+    public StreamGobbler(InputStream is, StringBuffer buffer) {
+        this.is = is;
+        this.console = null;
+        this.buffer = buffer;
     }
 
     public void run() {
@@ -54,11 +60,18 @@ public class StreamGobbler extends Thread {
             String line = null;
 
             while ((line = br.readLine()) != null) {
-                text.append(line + "\n"); // JTextArea.append is thread safe
-                text.setCaretPosition(text.getText().length()); // Autoscroll
+                if (buffer != null) {
+                    buffer.append(line).append("\n");
+                } else {
+                    console.append(line + "\n"); // OutputConsole.append is thread safe
+                }
             }
         } catch (IOException e) {
-            text.append(e.toString());
+            if (buffer != null) {
+                buffer.append(e.toString());
+            } else {
+                console.append(e.toString());
+            }
             e.printStackTrace();
         }
     }
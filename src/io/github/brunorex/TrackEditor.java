@@ -0,0 +1,483 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+
+package io.github.brunorex;
+
+import java.awt.Component;
+import java.awt.FlowLayout;
+import java.awt.GridBagConstraints;
+import java.awt.GridBagLayout;
+import java.awt.Insets;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.FocusAdapter;
+import java.awt.event.FocusEvent;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.swing.Box;
+import javax.swing.ButtonGroup;
+import javax.swing.JCheckBox;
+import javax.swing.JComboBox;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JRadioButton;
+import javax.swing.JTextField;
+
+/*
+ * Editor for the tracks of one type.
+ *
+ * The settings of every track are kept in a TrackSettings object. A single
+ * set of controls is shared by all of them: switching tracks stores the
+ * controls into the current track and loads the next one. The controls
+ * are only created the first time the editor is shown.
+ *
+ */
+
+public class TrackEditor extends JPanel {
+    private static final long serialVersionUID = 1L;
+
+    private final String type;
+    private final MkvStrings mkvStrings;
+    private final List<TrackSettings> tracks = new ArrayList<TrackSettings>();
+    private int current = -1;
+    private boolean built = false;
+
+    private JCheckBox chbEdit;
+    private JCheckBox chbEnable;
+    private JRadioButton rbYesEnable;
+    private JRadioButton rbNoEnable;
+    private JCheckBox chbDefault;
+    private JRadioButton rbYesDef;
+    private JRadioButton rbNoDef;
+    private JCheckBox chbForced;
+    private JRadioButton rbYesForced;
+    private JRadioButton rbNoForced;
+    private JCheckBox chbName;
+    private JTextField txtName;
+    private JCheckBox chbNumb;
+    private JLabel lblNumbStart;
+    private JTextField txtNumbStart;
+    private JLabel lblNumbPad;
+    private JTextField txtNumbPad;
+    private JLabel lblNumbExplain;
+    private JCheckBox chbLang;
+    private JComboBox<String> cbLang;
+    private JCheckBox chbExtraCmd;
+    private JTextField txtExtraCmd;
+
+    /**
+     * @param type the track type shown in the help text, e.g. "Video".
+     */
+    public TrackEditor(String type, MkvStrings mkvStrings) {
+        this.type = type;
+        this.mkvStrings = mkvStrings;
+
+        addHierarchyListener(new HierarchyListener() {
+            @Override
+            public void hierarchyChanged(HierarchyEvent e) {
+                if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0 && isShowing() && !built) {
+                    build();
+                    load();
+                }
+            }
+        });
+    }
+
+    public int getTrackCount() {
+        return tracks.size();
+    }
+
+    public void addTrack() {
+        tracks.add(new TrackSettings());
+    }
+
+    /**
+     * Replaces every track, e.g. with the tracks of a loaded profile. The
+     * caller selects the track to show afterwards.
+     */
+    public void setTracks(List<TrackSettings> newTracks) {
+        tracks.clear();
+        tracks.addAll(newTracks);
+        current = -1;
+    }
+
+    public void removeLastTrack() {
+        if (current == tracks.size() - 1) {
+            showTrack(current - 1);
+        }
+
+        tracks.remove(tracks.size() - 1);
+    }
+
+    /**
+     * Stores the controls into the current track and shows the given one.
+     */
+    public void showTrack(int index) {
+        if (index == current || index >= tracks.size()) {
+            return;
+        }
+
+        commit();
+        current = index;
+        load();
+    }
+
+    /**
+     * Returns the settings of every track, including any pending changes in
+     * the controls.
+     */
+    public List<TrackSettings> getTracks() {
+        commit();
+
+        return Collections.unmodifiableList(tracks);
+    }
+
+    private void commit() {
+        if (!built || current < 0 || current >= tracks.size()) {
+            return;
+        }
+
+        TrackSettings track = tracks.get(current);
+
+        track.setEdit(chbEdit.isSelected());
+        track.setSetEnabled(chbEnable.isSelected());
+        track.setEnabled(rbYesEnable.isSelected());
+        track.setSetDefault(chbDefault.isSelected());
+        track.setDefaultTrack(rbYesDef.isSelected());
+        track.setSetForced(chbForced.isSelected());
+        track.setForced(rbYesForced.isSelected());
+        track.setSetName(chbName.isSelected());
+        track.setName(txtName.getText());
+        track.setNumbering(chbNumb.isSelected());
+        track.setNumbStart(parseNumber(txtNumbStart));
+        track.setNumbPad(parseNumber(txtNumbPad));
+        track.setSetLanguage(chbLang.isSelected());
+        track.setLanguage(mkvStrings.getLangCode(cbLang.getSelectedIndex()));
+        track.setSetExtra(chbExtraCmd.isSelected());
+        track.setExtra(txtExtraCmd.getText());
+    }
+
+    private void load() {
+        if (!built || current < 0 || current >= tracks.size()) {
+            return;
+        }
+
+        TrackSettings track = tracks.get(current);
+
+        chbEdit.setSelected(track.isEdit());
+        chbEnable.setSelected(track.isSetEnabled());
+        rbYesEnable.setSelected(track.isEnabled());
+        rbNoEnable.setSelected(!track.isEnabled());
+        chbDefault.setSelected(track.isSetDefault());
+        rbYesDef.setSelected(track.isDefaultTrack());
+        rbNoDef.setSelected(!track.isDefaultTrack());
+        chbForced.setSelected(track.isSetForced());
+        rbYesForced.setSelected(track.isForced());
+        rbNoForced.setSelected(!track.isForced());
+        chbName.setSelected(track.isSetName());
+        txtName.setText(track.getName());
+        chbNumb.setSelected(track.isNumbering());
+        txtNumbStart.setText(Integer.toString(track.getNumbStart()));
+        txtNumbPad.setText(Integer.toString(track.getNumbPad()));
+        chbLang.setSelected(track.isSetLanguage());
+        int langIndex = mkvStrings.getLangIndex(track.getLanguage());
+        cbLang.setSelectedIndex(langIndex >= 0 ? langIndex : mkvStrings.getLangIndex("und"));
+        chbExtraCmd.setSelected(track.isSetExtra());
+        txtExtraCmd.setText(track.getExtra());
+
+        updateEnabledState();
+    }
+
+    private void updateEnabledState() {
+        boolean edit = chbEdit.isSelected();
+        boolean name = edit && chbName.isSelected();
+        boolean numb = name && chbNumb.isSelected();
+
+        chbEnable.setEnabled(edit);
+        rbYesEnable.setEnabled(edit && chbEnable.isSelected());
+        rbNoEnable.setEnabled(edit && chbEnable.isSelected());
+        chbDefault.setEnabled(edit);
+        rbYesDef.setEnabled(edit && chbDefault.isSelected());
+        rbNoDef.setEnabled(edit && chbDefault.isSelected());
+        chbForced.setEnabled(edit);
+        rbYesForced.setEnabled(edit && chbForced.isSelected());
+        rbNoForced.setEnabled(edit && chbForced.isSelected());
+        chbName.setEnabled(edit);
+        txtName.setEnabled(name);
+        chbNumb.setEnabled(name);
+        lblNumbStart.setEnabled(numb);
+        txtNumbStart.setEnabled(numb);
+        lblNumbPad.setEnabled(numb);
+        txtNumbPad.setEnabled(numb);
+        lblNumbExplain.setEnabled(numb);
+        chbLang.setEnabled(edit);
+        cbLang.setEnabled(edit && chbLang.isSelected());
+        chbExtraCmd.setEnabled(edit);
+        txtExtraCmd.setEnabled(edit && chbExtraCmd.isSelected());
+    }
+
+    private static int parseNumber(JTextField txt) {
+        try {
+            int number = Integer.parseInt(txt.getText());
+
+            if (number >= 0) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+        }
+
+        return 1;
+    }
+
+    private void build() {
+        built = true;
+
+        GridBagLayout gbl_editor = new GridBagLayout();
+        gbl_editor.columnWidths = new int[] { 0, 0, 0 };
+        gbl_editor.rowHeights = new int[] { 0, 0, 0, 0, 0, 0, 0, 0, 0 };
+        gbl_editor.columnWeights = new double[] { 0.0, 1.0, Double.MIN_VALUE };
+        gbl_editor.rowWeights = new double[] { 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, Double.MIN_VALUE };
+        setLayout(gbl_editor);
+
+        chbEdit = new JCheckBox("Edit this track:");
+        GridBagConstraints gbc_chbEdit = new GridBagConstraints();
+        gbc_chbEdit.insets = new Insets(0, 0, 10, 5);
+        gbc_chbEdit.anchor = GridBagConstraints.WEST;
+        gbc_chbEdit.gridx = 0;
+        gbc_chbEdit.gridy = 0;
+        add(chbEdit, gbc_chbEdit);
+
+        chbEnable = new JCheckBox("Enable track:");
+        GridBagConstraints gbc_chbEnable = new GridBagConstraints();
+        gbc_chbEnable.insets = new Insets(0, 0, 5, 5);
+        gbc_chbEnable.anchor = GridBagConstraints.WEST;
+        gbc_chbEnable.gridx = 0;
+        gbc_chbEnable.gridy = 1;
+        add(chbEnable, gbc_chbEnable);
+
+        JPanel pnlEnableControls = createRadioPanel(1);
+
+        rbYesEnable = new JRadioButton("Yes");
+        pnlEnableControls.add(rbYesEnable);
+
+        rbNoEnable = new JRadioButton("No");
+        pnlEnableControls.add(rbNoEnable);
+
+        ButtonGroup bgRbEnable = new ButtonGroup();
+        bgRbEnable.add(rbYesEnable);
+        bgRbEnable.add(rbNoEnable);
+
+        chbDefault = new JCheckBox("Default track:");
+        GridBagConstraints gbc_chbDefault = new GridBagConstraints();
+        gbc_chbDefault.insets = new Insets(0, 0, 5, 5);
+        gbc_chbDefault.anchor = GridBagConstraints.WEST;
+        gbc_chbDefault.gridx = 0;
+        gbc_chbDefault.gridy = 2;
+        add(chbDefault, gbc_chbDefault);
+
+        JPanel pnlDefControls = createRadioPanel(2);
+
+        rbYesDef = new JRadioButton("Yes");
+        pnlDefControls.add(rbYesDef);
+
+        rbNoDef = new JRadioButton("No");
+        pnlDefControls.add(rbNoDef);
+
+        ButtonGroup bgRbDef = new ButtonGroup();
+        bgRbDef.add(rbYesDef);
+        bgRbDef.add(rbNoDef);
+
+        chbForced = new JCheckBox("Forced track:");
+        GridBagConstraints gbc_chbForced = new GridBagConstraints();
+        gbc_chbForced.insets = new Insets(0, 0, 5, 5);
+        gbc_chbForced.anchor = GridBagConstraints.WEST;
+        gbc_chbForced.gridx = 0;
+        gbc_chbForced.gridy = 3;
+        add(chbForced, gbc_chbForced);
+
+        JPanel pnlForControls = createRadioPanel(3);
+
+        rbYesForced = new JRadioButton("Yes");
+        pnlForControls.add(rbYesForced);
+
+        rbNoForced = new JRadioButton("No");
+        pnlForControls.add(rbNoForced);
+
+        ButtonGroup bgRbForced = new ButtonGroup();
+        bgRbForced.add(rbYesForced);
+        bgRbForced.add(rbNoForced);
+
+        chbName = new JCheckBox("Track name:");
+        GridBagConstraints gbc_chbName = new GridBagConstraints();
+        gbc_chbName.insets = new Insets(0, 0, 5, 5);
+        gbc_chbName.anchor = GridBagConstraints.WEST;
+        gbc_chbName.gridx = 0;
+        gbc_chbName.gridy = 4;
+        add(chbName, gbc_chbName);
+
+        txtName = new JTextField();
+        GridBagConstraints gbc_txtName = new GridBagConstraints();
+        gbc_txtName.insets = new Insets(0, 0, 5, 0);
+        gbc_txtName.fill = GridBagConstraints.HORIZONTAL;
+        gbc_txtName.gridx = 1;
+        gbc_txtName.gridy = 4;
+        add(txtName, gbc_txtName);
+        txtName.setColumns(10);
+
+        JPanel pnlNumbControls = new JPanel();
+        FlowLayout fl_pnlNumbControls = (FlowLayout) pnlNumbControls.getLayout();
+        fl_pnlNumbControls.setAlignment(FlowLayout.LEFT);
+        fl_pnlNumbControls.setVgap(0);
+        GridBagConstraints gbc_pnlNumbControls = new GridBagConstraints();
+        gbc_pnlNumbControls.insets = new Insets(0, 0, 5, 0);
+        gbc_pnlNumbControls.fill = GridBagConstraints.BOTH;
+        gbc_pnlNumbControls.gridx = 1;
+        gbc_pnlNumbControls.gridy = 5;
+        add(pnlNumbControls, gbc_pnlNumbControls);
+
+        chbNumb = new JCheckBox("Numbering:");
+        pnlNumbControls.add(chbNumb);
+
+        Component horizontalStrut1 = Box.createHorizontalStrut(10);
+        pnlNumbControls.add(horizontalStrut1);
+
+        lblNumbStart = new JLabel("Start");
+        pnlNumbControls.add(lblNumbStart);
+
+        txtNumbStart = new JTextField();
+        txtNumbStart.setColumns(10);
+        pnlNumbControls.add(txtNumbStart);
+
+        Component horizontalStrut2 = Box.createHorizontalStrut(5);
+        pnlNumbControls.add(horizontalStrut2);
+
+        lblNumbPad = new JLabel("Padding");
+        pnlNumbControls.add(lblNumbPad);
+
+        txtNumbPad = new JTextField();
+        txtNumbPad.setColumns(10);
+        pnlNumbControls.add(txtNumbPad);
+
+        lblNumbExplain = new JLabel("      To use it, add {num} to the name (e.g. \"My " + type
+                + " {num}\"). Use {file_name} to use the file name as the name.");
+        GridBagConstraints gbc_lblNumbExplain = new GridBagConstraints();
+        gbc_lblNumbExplain.insets = new Insets(0, 0, 10, 0);
+        gbc_lblNumbExplain.anchor = GridBagConstraints.WEST;
+        gbc_lblNumbExplain.gridx = 1;
+        gbc_lblNumbExplain.gridy = 6;
+        add(lblNumbExplain, gbc_lblNumbExplain);
+
+        chbLang = new JCheckBox("Language:");
+        GridBagConstraints gbc_chbLang = new GridBagConstraints();
+        gbc_chbLang.anchor = GridBagConstraints.WEST;
+        gbc_chbLang.insets = new Insets(0, 0, 10, 5);
+        gbc_chbLang.gridx = 0;
+        gbc_chbLang.gridy = 7;
+        add(chbLang, gbc_chbLang);
+
+        cbLang = new JComboBox<String>();
+        cbLang.setModel(new LanguageComboBoxModel(mkvStrings.getLangNameList()));
+        cbLang.setKeySelectionManager(new LanguageComboBoxModel.TypeAhead(mkvStrings));
+        GridBagConstraints gbc_cbLang = new GridBagConstraints();
+        gbc_cbLang.insets = new Insets(0, 0, 10, 0);
+        gbc_cbLang.anchor = GridBagConstraints.WEST;
+        gbc_cbLang.gridx = 1;
+        gbc_cbLang.gridy = 7;
+        add(cbLang, gbc_cbLang);
+
+        chbExtraCmd = new JCheckBox("Extra parameters:");
+        GridBagConstraints gbc_chbExtraCmd = new GridBagConstraints();
+        gbc_chbExtraCmd.anchor = GridBagConstraints.WEST;
+        gbc_chbExtraCmd.gridx = 0;
+        gbc_chbExtraCmd.gridy = 8;
+        add(chbExtraCmd, gbc_chbExtraCmd);
+
+        txtExtraCmd = new JTextField();
+        GridBagConstraints gbc_txtExtraCmd = new GridBagConstraints();
+        gbc_txtExtraCmd.fill = GridBagConstraints.HORIZONTAL;
+        gbc_txtExtraCmd.gridx = 1;
+        gbc_txtExtraCmd.gridy = 8;
+        add(txtExtraCmd, gbc_txtExtraCmd);
+        txtExtraCmd.setColumns(10);
+
+        /* Start of mouse events for right-click menu */
+
+        SwingUtils.addRCMenuMouseListener(txtName);
+        SwingUtils.addRCMenuMouseListener(txtNumbStart);
+        SwingUtils.addRCMenuMouseListener(txtNumbPad);
+        SwingUtils.addRCMenuMouseListener(txtExtraCmd);
+
+        /* End of mouse events for right-click menu */
+
+        ActionListener stateListener = new ActionListener() {
+            public void actionPerformed(ActionEvent e) {
+                updateEnabledState();
+            }
+        };
+
+        chbEdit.addActionListener(stateListener);
+        chbEnable.addActionListener(stateListener);
+        chbDefault.addActionListener(stateListener);
+        chbForced.addActionListener(stateListener);
+        chbName.addActionListener(stateListener);
+        chbNumb.addActionListener(stateListener);
+        chbLang.addActionListener(stateListener);
+        chbExtraCmd.addActionListener(stateListener);
+
+        FocusAdapter numberListener = new FocusAdapter() {
+            @Override
+            public void focusLost(FocusEvent e) {
+                JTextField txt = (JTextField) e.getComponent();
+
+                txt.setText(Integer.toString(parseNumber(txt)));
+            }
+        };
+
+        txtNumbStart.addFocusListener(numberListener);
+        txtNumbPad.addFocusListener(numberListener);
+
+        revalidate();
+    }
+
+    private JPanel createRadioPanel(int row) {
+        JPanel pnlControls = new JPanel();
+        FlowLayout fl_pnlControls = (FlowLayout) pnlControls.getLayout();
+        fl_pnlControls.setAlignment(FlowLayout.LEFT);
+        fl_pnlControls.setVgap(0);
+        GridBagConstraints gbc_pnlControls = new GridBagConstraints();
+        gbc_pnlControls.insets = new Insets(0, 0, 5, 0);
+        gbc_pnlControls.fill = GridBagConstraints.HORIZONTAL;
+        gbc_pnlControls.gridx = 1;
+        gbc_pnlControls.gridy = row;
+        add(pnlControls, gbc_pnlControls);
+
+        return pnlControls;
+    }
+}
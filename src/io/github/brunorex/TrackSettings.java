@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+
+package io.github.brunorex;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Settings of one track panel.
+ *
+ * Plain data without any Swing components. The track tabs keep one of
+ * these per track and share a single editor to show them.
+ *
+ */
+
+public class TrackSettings {
+    private boolean edit = false;
+    private boolean setEnabled = false;
+    private boolean enabled = true;
+    private boolean setDefault = false;
+    private boolean defaultTrack = true;
+    private boolean setForced = false;
+    private boolean forced = true;
+    private boolean setName = false;
+    private String name = "";
+    private boolean numbering = false;
+    private int numbStart = 1;
+    private int numbPad = 1;
+    private boolean setLanguage = false;
+    private String language = "und";
+    private boolean setExtra = false;
+    private String extra = "";
+
+    public boolean isEdit() {
+        return edit;
+    }
+
+    public void setEdit(boolean edit) {
+        this.edit = edit;
+    }
+
+    public boolean isSetEnabled() {
+        return setEnabled;
+    }
+
+    public void setSetEnabled(boolean setEnabled) {
+        this.setEnabled = setEnabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isSetDefault() {
+        return setDefault;
+    }
+
+    public void setSetDefault(boolean setDefault) {
+        this.setDefault = setDefault;
+    }
+
+    public boolean isDefaultTrack() {
+        return defaultTrack;
+    }
+
+    public void setDefaultTrack(boolean defaultTrack) {
+        this.defaultTrack = defaultTrack;
+    }
+
+    public boolean isSetForced() {
+        return setForced;
+    }
+
+    public void setSetForced(boolean setForced) {
+        this.setForced = setForced;
+    }
+
+    public boolean isForced() {
+        return forced;
+    }
+
+    public void setForced(boolean forced) {
+        this.forced = forced;
+    }
+
+    public boolean isSetName() {
+        return setName;
+    }
+
+    public void setSetName(boolean setName) {
+        this.setName = setName;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public boolean isNumbering() {
+        return numbering;
+    }
+
+    public void setNumbering(boolean numbering) {
+        this.numbering = numbering;
+    }
+
+    public int getNumbStart() {
+        return numbStart;
+    }
+
+    public void setNumbStart(int numbStart) {
+        this.numbStart = numbStart;
+    }
+
+    public int getNumbPad() {
+        return numbPad;
+    }
+
+    public void setNumbPad(int numbPad) {
+        this.numbPad = numbPad;
+    }
+
+    public boolean isSetLanguage() {
+        return setLanguage;
+    }
+
+    public void setSetLanguage(boolean setLanguage) {
+        this.setLanguage = setLanguage;
+    }
+
+    /**
+     * Returns the ISO 639-2 code of the new language.
+     */
+    public String getLanguage() {
+        return language;
+    }
+
+    public void setLanguage(String language) {
+        this.language = language;
+    }
+
+    public boolean isSetExtra() {
+        return setExtra;
+    }
+
+    public void setSetExtra(boolean setExtra) {
+        this.setExtra = setExtra;
+    }
+
+    public String getExtra() {
+        return extra;
+    }
+
+    public void setExtra(String extra) {
+        this.extra = extra;
+    }
+
+    /**
+     * Builds the mkvpropedit arguments for this track.
+     *
+     * @param selector the track selector, e.g. <code>track:v1</code>.
+     * @param file the position of the file in the batch, used for numbering.
+     * @param fileName the file name without extension.
+     * @return an empty list if there is nothing to change.
+     */
+    public List<MkvCommand.Arg> getArgs(String selector, int file, String fileName) {
+        List<MkvCommand.Arg> args = new ArrayList<MkvCommand.Arg>();
+
+        if (!edit) {
+            return args;
+        }
+
+        String num = "{num}";
+
+        if (numbering) {
+            num = Utils.padNumber(numbPad, numbStart + file);
+        }
+
+        if (setEnabled) {
+            args.add(MkvCommand.Arg.option("--set"));
+            args.add(MkvCommand.Arg.flag("flag-enabled", enabled));
+        }
+
+        if (setDefault) {
+            args.add(MkvCommand.Arg.option("--set"));
+            args.add(MkvCommand.Arg.flag("flag-default", defaultTrack));
+        }
+
+        if (setForced) {
+            args.add(MkvCommand.Arg.option("--set"));
+            args.add(MkvCommand.Arg.flag("flag-forced", forced));
+        }
+
+        if (setName) {
+            String newName = name.replace("{num}", num).replace("{file_name}", fileName);
+
+            args.add(MkvCommand.Arg.option("--set"));
+            args.add(MkvCommand.Arg.property("name", newName));
+        }
+
+        if (setLanguage) {
+            args.add(MkvCommand.Arg.option("--set"));
+            args.add(MkvCommand.Arg.property("language", language));
+        }
+
+        if (setExtra && !extra.trim().isEmpty()) {
+            args.add(MkvCommand.Arg.extra(extra.replace("{num}", num).replace("{file_name}", fileName)));
+        }
+
+        if (!args.isEmpty()) {
+            args.add(0, MkvCommand.Arg.option("--edit"));
+            args.add(1, MkvCommand.Arg.value(selector));
+        }
+
+        return args;
+    }
+}
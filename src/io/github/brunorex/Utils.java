@@ -25,22 +25,10 @@
 
 package io.github.brunorex;
 
-import java.awt.Component;
-import java.awt.event.MouseAdapter;
-import java.awt.event.MouseEvent;
 import java.io.File;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 
-import javax.swing.JMenuItem;
-import javax.swing.JPopupMenu;
-import javax.swing.JTable;
-import javax.swing.table.TableCellRenderer;
-import javax.swing.table.TableColumn;
-import javax.swing.table.TableColumnModel;
-import javax.swing.text.DefaultEditorKit;
-import javax.swing.text.JTextComponent;
-
 public class Utils {
 
     /* Start of OS detection functions */
@@ -76,101 +64,14 @@ public class Utils {
 
     /* Start of escaping functions */
 
-    public static String escapeName(String name) {
-        if (!name.isEmpty()) {
-            name = name.replace("\"", "####escaped__quotes#####"); // lol
-            name = name.replace("\\", "\\\\");
-        }
-
-        return name;
-    }
-
     public static String escapeQuotes(String text) {
         text = text.replace("\"", "\\\"");
 
         return text;
     }
 
-    public static String escapeBackslashes(String text) {
-        text = text.replace("\\", "\\\\");
-
-        return text;
-    }
-
-    public static String fixEscapedQuotes(String text) {
-        if (!text.isEmpty()) {
-            text = text.replace("####escaped__quotes#####", "\\\"");
-        }
-
-        return text;
-    }
-
     /* End of escaping functions */
 
-    /* Start of right-click menu code */
-
-    private static void showRCMenu(JTextComponent text, MouseEvent e) {
-        int selStart = text.getSelectionStart();
-        int selEnd = text.getSelectionEnd();
-
-        JPopupMenu rightClickMenu = new JPopupMenu();
-
-        JMenuItem copyMenuItem = new JMenuItem(text.getActionMap().get(DefaultEditorKit.copyAction));
-
-        JMenuItem cutMenuItem = new JMenuItem(text.getActionMap().get(DefaultEditorKit.cutAction));
-
-        JMenuItem pasteMenuItem = new JMenuItem(text.getActionMap().get(DefaultEditorKit.pasteAction));
-
-        JMenuItem selectAllMenuItem = new JMenuItem(text.getActionMap().get(DefaultEditorKit.selectAllAction));
-
-        copyMenuItem.setText("Copy");
-        cutMenuItem.setText("Cut");
-        pasteMenuItem.setText("Paste");
-        selectAllMenuItem.setText("Select All");
-
-        rightClickMenu.add(copyMenuItem);
-        rightClickMenu.add(cutMenuItem);
-        rightClickMenu.add(pasteMenuItem);
-        rightClickMenu.addSeparator();
-        rightClickMenu.add(selectAllMenuItem);
-
-        if (text.getText().isEmpty()) {
-            copyMenuItem.setEnabled(false);
-            selectAllMenuItem.setEnabled(false);
-            cutMenuItem.setEnabled(false);
-        }
-
-        if (selStart == selEnd) {
-            copyMenuItem.setEnabled(false);
-            cutMenuItem.setEnabled(false);
-        }
-
-        if ((selStart + selEnd) == text.getText().length()) {
-            selectAllMenuItem.setEnabled(false);
-        }
-
-        if (!text.isEditable()) {
-            cutMenuItem.setEnabled(false);
-            pasteMenuItem.setEnabled(false);
-        }
-
-        rightClickMenu.show(text, e.getX(), e.getY());
-    }
-
-    public static void addRCMenuMouseListener(final JTextComponent text) {
-        text.addMouseListener(new MouseAdapter() {
-            @Override
-            public void mousePressed(MouseEvent e) {
-                if (e.isMetaDown() && text.isEnabled()) {
-                    text.requestFocus();
-                    showRCMenu(text, e);
-                }
-            }
-        });
-    }
-
-    /* End of right-click menu code */
-
     public static String padNumber(int pad, int number) {
         NumberFormat formatter = new DecimalFormat("0");
 
@@ -210,29 +111,4 @@ public class Utils {
     public static String getPathWithoutExt(String file) {
         return file.substring(0, getDotIndex(file));
     }
-
-    /**
-     * http://niravjavadeveloper.blogspot.com/2011/05/resize-jtable-columns.html
-     */
-    public static void adjustColumnPreferredWidths(JTable table) {
-        // strategy - get max width for cells in column and
-        // make that the preferred width
-        TableColumnModel columnModel = table.getColumnModel();
-        for (int col = 0; col < table.getColumnCount(); col++) {
-            int maxwidth = 0;
-
-            for (int row = 0; row < table.getRowCount(); row++) {
-                TableCellRenderer rend = table.getCellRenderer(row, col);
-
-                Object value = table.getValueAt(row, col) + "   ";
-
-                Component comp = rend.getTableCellRendererComponent(table, value, false, false, row, col);
-
-                maxwidth = Math.max(comp.getPreferredSize().width, maxwidth);
-            }
-
-            TableColumn column = columnModel.getColumn(col);
-            column.setPreferredWidth(maxwidth);
-        }
-    }
 }
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2012-2018 Bruno Barbieri
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY
+ * WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+
+
+package io.github.brunorex;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * Regression checks for the in-place edits of MatroskaEditor.
+ *
+ * Small Matroska files are built in a temporary folder and edited, then
+ * read back. Besides the new values, every byte outside the edited element
+ * and the free space after it must be unchanged, so nothing else in the
+ * file moved. Run with "ant test"; a failed check ends with an
+ * AssertionError.
+ *
+ */
+
+public class MatroskaEditorTest {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static File dir;
+    private static int passed = 0;
+
+    public static void main(String[] args) throws IOException {
+        dir = Files.createTempDirectory("jmkvpropedit-test").toFile();
+
+        try {
+            growIntoVoid();
+            widenSizeForOneByteGap();
+            shrinkLeavesVoid();
+            noRoomFallsBack();
+            growTrackIntoVoid();
+        } finally {
+            for (File file : dir.listFiles()) {
+                file.delete();
+            }
+
+            dir.delete();
+        }
+
+        System.out.println("MatroskaEditorTest: " + passed + " checks passed.");
+    }
+
+    private static void growIntoVoid() throws IOException {
+        File file = write("grow.mkv", info("Old"), voidElement(20), tracks("Video"));
+        String title = "Old title";
+
+        checkEdit(file, setTitle(file, title), MatroskaReader.ID_INFO, 14);
+        check(title.equals(MatroskaReader.read(file).getTitle()), "grow: title");
+    }
+
+    private static void widenSizeForOneByteGap() throws IOException {
+        int voidLength = 10;
+        File file = write("gap.mkv", info("Old"), voidElement(voidLength), tracks("Video"));
+
+        // One byte less than the void, which is too little for a new void
+        String title = "Old" + repeat('x', voidLength - 1);
+        MatroskaInfo before = MatroskaReader.read(file);
+        MatroskaInfo.Element element = before.getElement(MatroskaReader.ID_INFO);
+
+        checkEdit(file, setTitle(file, title), MatroskaReader.ID_INFO, 0);
+
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        int sizePos = (int) element.getPosition() + 4;
+
+        check(MatroskaReader.vintLength(bytes[sizePos] & 0xFF) == 2, "gap: size field widened to 2 bytes");
+        check(title.equals(MatroskaReader.read(file).getTitle()), "gap: title");
+    }
+
+    private static void shrinkLeavesVoid() throws IOException {
+        File file = write("shrink.mkv", info("A much longer title"), tracks("Video"));
+
+        checkEdit(file, setTitle(file, "Short"), MatroskaReader.ID_INFO, 14);
+        check("Short".equals(MatroskaReader.read(file).getTitle()), "shrink: title");
+    }
+
+    private static void noRoomFallsBack() throws IOException {
+        File file = write("noroom.mkv", info("Old"), tracks("Video"));
+        byte[] original = Files.readAllBytes(file.toPath());
+
+        check(!MatroskaEditor.edit(file, setTitle(file, "Old title"), 0), "no room: edit declined");
+        check(Arrays.equals(original, Files.readAllBytes(file.toPath())), "no room: file unchanged");
+    }
+
+    private static void growTrackIntoVoid() throws IOException {
+        File file = write("track.mkv", info("Old"), tracks("Video"), voidElement(30));
+        MkvCommand command = new MkvCommand.Builder(file.getPath()).add(MkvCommand.Arg.option("--edit"))
+                .add(MkvCommand.Arg.value("track:v1")).add(MkvCommand.Arg.option("--set"))
+                .add(MkvCommand.Arg.property("name", "Main video")).add(MkvCommand.Arg.option("--set"))
+                .add(MkvCommand.Arg.property("language", "ger")).build();
+
+        checkEdit(file, command, MatroskaReader.ID_TRACKS, 25);
+
+        MatroskaInfo.Track track = MatroskaReader.read(file).getTracks().get(0);
+        check("Main video".equals(track.getName()), "track: name");
+        check("ger".equals(track.getLanguage()), "track: language");
+        check(track.getUid() == 1001, "track: other elements kept");
+    }
+
+    /**
+     * Edits the file and checks that only the element and the room after it
+     * changed, and that the rest of the room is one void.
+     *
+     * @param expectedVoid the length of the void expected after the element,
+     *        or 0 if the element must fill the room.
+     */
+    private static void checkEdit(File file, MkvCommand command, int id, long expectedVoid) throws IOException {
+        byte[] original = Files.readAllBytes(file.toPath());
+        MatroskaInfo before = MatroskaReader.read(file);
+        MatroskaInfo.Element element = before.getElement(id);
+        long start = element.getPosition();
+        long end = start + element.getLength() + before.getFreeSpaceAfter(element);
+
+        check(MatroskaEditor.edit(file, command, 0), "edit done in place");
+
+        byte[] edited = Files.readAllBytes(file.toPath());
+        check(edited.length == original.length, "file size unchanged");
+        check(Arrays.equals(Arrays.copyOfRange(original, 0, (int) start),
+                Arrays.copyOfRange(edited, 0, (int) start)), "bytes before the element unchanged");
+        check(Arrays.equals(Arrays.copyOfRange(original, (int) end, original.length),
+                Arrays.copyOfRange(edited, (int) end, edited.length)), "bytes after the free space unchanged");
+
+        MatroskaInfo after = MatroskaReader.read(file);
+        MatroskaInfo.Element newElement = after.getElement(id);
+        List<MatroskaInfo.Element> layout = after.getLayout();
+        int index = layout.indexOf(newElement);
+
+        check(newElement.getPosition() == start, "element in the same place");
+
+        if (expectedVoid == 0) {
+            check(newElement.getLength() == end - start, "element fills the room");
+        } else {
+            MatroskaInfo.Element next = layout.get(index + 1);
+
+            check(next.getId() == MatroskaReader.ID_VOID && next.getLength() == expectedVoid,
+                    "void of " + expectedVoid + " bytes after the element");
+            check(next.getPosition() + next.getLength() == end, "void ends where the room ended");
+        }
+    }
+
+    private static MkvCommand setTitle(File file, String title) {
+        return new MkvCommand.Builder(file.getPath()).add(MkvCommand.Arg.option("--edit"))
+                .add(MkvCommand.Arg.value("info")).add(MkvCommand.Arg.option("--set"))
+                .add(MkvCommand.Arg.property("title", title)).build();
+    }
+
+    private static void check(boolean condition, String what) {
+        if (!condition) {
+            throw new AssertionError(what);
+        }
+
+        passed++;
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+
+        return new String(chars);
+    }
+
+    /* Start of EBML methods */
+
+    /**
+     * Writes a file with the level 1 elements in a segment, followed by a
+     * small cluster.
+     */
+    private static File write(String name, byte[]... level1) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        for (byte[] element : level1) {
+            body.write(element);
+        }
+
+        body.write(element(MatroskaReader.ID_CLUSTER, concat(uint(0xE7, 0), element(0xA3, new byte[64]))));
+
+        File file = new File(dir, name);
+        Files.write(file.toPath(), concat(element(MatroskaReader.ID_EBML, string(MatroskaReader.ID_DOCTYPE,
+                "matroska")), element(MatroskaReader.ID_SEGMENT, body.toByteArray(), 8)));
+
+        return file;
+    }
+
+    private static byte[] info(String title) {
+        return element(MatroskaReader.ID_INFO, concat(uint(MatroskaReader.ID_TIMESTAMPSCALE, 1000000),
+                string(MatroskaReader.ID_TITLE, title)));
+    }
+
+    private static byte[] tracks(String name) {
+        return element(MatroskaReader.ID_TRACKS, element(MatroskaReader.ID_TRACKENTRY,
+                concat(uint(MatroskaReader.ID_TRACKNUMBER, 1), uint(MatroskaReader.ID_TRACKUID, 1001),
+                        uint(MatroskaReader.ID_TRACKTYPE, MatroskaInfo.TYPE_VIDEO),
+                        string(MatroskaReader.ID_CODECID, "V_TEST"), string(MatroskaReader.ID_NAME, name),
+                        string(MatroskaReader.ID_LANGUAGE, "eng"))));
+    }
+
+    private static byte[] voidElement(int length) {
+        return element(MatroskaReader.ID_VOID, new byte[length - 2]);
+    }
+
+    private static byte[] string(int id, String value) {
+        return element(id, value.getBytes(UTF_8));
+    }
+
+    private static byte[] uint(int id, long value) {
+        int length = 1;
+
+        while (length < 8 && value >>> (8 * length) != 0) {
+            length++;
+        }
+
+        byte[] data = new byte[length];
+
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (value >>> (8 * (length - 1 - i)));
+        }
+
+        return element(id, data);
+    }
+
+    private static byte[] element(int id, byte[] data) {
+        return element(id, data, 1);
+    }
+
+    private static byte[] element(int id, byte[] data, int minSizeLength) {
+        int sizeLength = minSizeLength;
+
+        while (data.length > (1L << (7 * sizeLength)) - 2) {
+            sizeLength++;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            if ((id >>> shift) != 0) {
+                out.write(id >>> shift);
+            }
+        }
+
+        long size = data.length | (1L << (7 * sizeLength));
+
+        for (int i = sizeLength - 1; i >= 0; i--) {
+            out.write((int) (size >>> (8 * i)));
+        }
+
+        out.write(data, 0, data.length);
+
+        return out.toByteArray();
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        for (byte[] part : parts) {
+            out.write(part, 0, part.length);
+        }
+
+        return out.toByteArray();
+    }
+
+    /* End of EBML methods */
+}